@@ -80,6 +80,14 @@ public class GeneratorPathProvider {
         return sourceDirectory + "/" + Utils.packageToDirectory(model.getMetadata().getFullWaitersInternalPackageName());
     }
 
+    public String getBatchManagerDirectory() {
+        return sourceDirectory + "/" + Utils.packageToDirectory(model.getMetadata().getFullBatchManagerPackageName());
+    }
+
+    public String getBatchManagerInternalDirectory() {
+        return sourceDirectory + "/" + Utils.packageToDirectory(model.getMetadata().getFullBatchManagerInternalPackageName());
+    }
+
     public String getEndpointRulesDirectory() {
         return sourceDirectory + "/" + Utils.packageToDirectory(model.getMetadata().getFullEndpointRulesPackageName());
     }
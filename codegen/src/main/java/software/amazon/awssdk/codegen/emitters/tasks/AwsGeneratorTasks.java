@@ -27,6 +27,7 @@ public class AwsGeneratorTasks extends CompositeGeneratorTask {
               new PaginatorsGeneratorTasks(params),
               new EventStreamGeneratorTasks(params),
               new WaitersGeneratorTasks(params),
+              new BatchManagerGeneratorTasks(params),
               new EndpointProviderTasks(params),
               new AuthSchemeGeneratorTasks(params));
     }
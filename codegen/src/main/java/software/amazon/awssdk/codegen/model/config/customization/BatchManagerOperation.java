@@ -0,0 +1,181 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.model.config.customization;
+
+/**
+ * Configuration of an operation whose requests are buffered by the batch manager of a service and sent together in batch
+ * requests. Members are referenced by their name in the service model.
+ */
+public class BatchManagerOperation {
+    /**
+     * The name of the operation sending the buffered requests together. When it is the buffered operation itself, the
+     * entries of the buffered requests are coalesced into one request.
+     */
+    private String batchOperation;
+
+    /**
+     * The member of the batch request holding the list of entries.
+     */
+    private String entriesMember;
+
+    /**
+     * The member of the buffered request holding the entry added to the batch request. When not set, an entry is created from
+     * the members of the buffered request that have the name of a member of the entry.
+     */
+    private String entryMember;
+
+    /**
+     * The member of an entry identifying it in the results of the batch response.
+     */
+    private String entryIdMember;
+
+    /**
+     * The member of the batch response listing the results of the successful entries, identified by their ID.
+     */
+    private String successfulEntriesMember;
+
+    /**
+     * The member of the batch response listing the errors of the failed entries, identified by their ID.
+     */
+    private String failedEntriesMember;
+
+    /**
+     * The member of the batch response listing one result per entry, in the order the entries were sent.
+     */
+    private String resultEntriesMember;
+
+    /**
+     * The member of a failed or result entry holding the error code of the entry.
+     */
+    private String errorCodeMember;
+
+    /**
+     * The member of a failed or result entry holding the error message of the entry.
+     */
+    private String errorMessageMember;
+
+    /**
+     * The member of the response counting the failed entries, set for each coalesced request to the failed entries of
+     * its results.
+     */
+    private String failedCountMember;
+
+    /**
+     * The maximum number of entries of a batch request.
+     */
+    private Integer maxBatchItems;
+
+    /**
+     * The maximum size in bytes of a batch request, or null when the size is not limited.
+     */
+    private Integer maxBatchBytesSize;
+
+    public String getBatchOperation() {
+        return batchOperation;
+    }
+
+    public void setBatchOperation(String batchOperation) {
+        this.batchOperation = batchOperation;
+    }
+
+    public String getEntriesMember() {
+        return entriesMember;
+    }
+
+    public void setEntriesMember(String entriesMember) {
+        this.entriesMember = entriesMember;
+    }
+
+    public String getEntryMember() {
+        return entryMember;
+    }
+
+    public void setEntryMember(String entryMember) {
+        this.entryMember = entryMember;
+    }
+
+    public String getEntryIdMember() {
+        return entryIdMember;
+    }
+
+    public void setEntryIdMember(String entryIdMember) {
+        this.entryIdMember = entryIdMember;
+    }
+
+    public String getSuccessfulEntriesMember() {
+        return successfulEntriesMember;
+    }
+
+    public void setSuccessfulEntriesMember(String successfulEntriesMember) {
+        this.successfulEntriesMember = successfulEntriesMember;
+    }
+
+    public String getFailedEntriesMember() {
+        return failedEntriesMember;
+    }
+
+    public void setFailedEntriesMember(String failedEntriesMember) {
+        this.failedEntriesMember = failedEntriesMember;
+    }
+
+    public String getResultEntriesMember() {
+        return resultEntriesMember;
+    }
+
+    public void setResultEntriesMember(String resultEntriesMember) {
+        this.resultEntriesMember = resultEntriesMember;
+    }
+
+    public String getErrorCodeMember() {
+        return errorCodeMember;
+    }
+
+    public void setErrorCodeMember(String errorCodeMember) {
+        this.errorCodeMember = errorCodeMember;
+    }
+
+    public String getErrorMessageMember() {
+        return errorMessageMember;
+    }
+
+    public void setErrorMessageMember(String errorMessageMember) {
+        this.errorMessageMember = errorMessageMember;
+    }
+
+    public String getFailedCountMember() {
+        return failedCountMember;
+    }
+
+    public void setFailedCountMember(String failedCountMember) {
+        this.failedCountMember = failedCountMember;
+    }
+
+    public Integer getMaxBatchItems() {
+        return maxBatchItems;
+    }
+
+    public void setMaxBatchItems(Integer maxBatchItems) {
+        this.maxBatchItems = maxBatchItems;
+    }
+
+    public Integer getMaxBatchBytesSize() {
+        return maxBatchBytesSize;
+    }
+
+    public void setMaxBatchBytesSize(Integer maxBatchBytesSize) {
+        this.maxBatchBytesSize = maxBatchBytesSize;
+    }
+}
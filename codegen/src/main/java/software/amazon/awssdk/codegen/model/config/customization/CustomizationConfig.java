@@ -315,9 +315,10 @@ public class CustomizationConfig {
     private boolean s3ExpressAuthSupport;
 
     /**
-     * Set to true to enable compiled endpoint rules. Currently defaults to false.
+     * Whether the endpoint rules are compiled into the generated endpoint provider, instead of being interpreted by the rules
+     * engine at runtime. Defaults to true, set to false to generate an endpoint provider interpreting the rules.
      */
-    private boolean enableGenerateCompiledEndpointRules = false;
+    private boolean enableGenerateCompiledEndpointRules = true;
 
     /**
      * Customization related to auth scheme derived from endpoints.
@@ -351,6 +352,12 @@ public class CustomizationConfig {
      */
     private boolean batchManagerSupported;
 
+    /**
+     * Operations for which the batch manager of the service buffers requests and sends them in batch requests, keyed by the
+     * name of the buffered operation. Generating these batch managers also requires {@link #batchManagerSupported}.
+     */
+    private Map<String, BatchManagerOperation> batchManagerOperations = new HashMap<>();
+
     /**
      * A boolean flag to indicate if the fast unmarshaller code path is enabled.
      */
@@ -943,6 +950,14 @@ public class CustomizationConfig {
         this.batchManagerSupported = batchManagerSupported;
     }
 
+    public Map<String, BatchManagerOperation> getBatchManagerOperations() {
+        return batchManagerOperations;
+    }
+
+    public void setBatchManagerOperations(Map<String, BatchManagerOperation> batchManagerOperations) {
+        this.batchManagerOperations = batchManagerOperations;
+    }
+
     public boolean getEnableFastUnmarshaller() {
         return enableFastUnmarshaller;
     }
@@ -815,4 +815,8 @@ public class Metadata {
         return joinPackageNames(rootPackageName, getBatchManagerPackageName());
     }
 
+    public String getFullBatchManagerInternalPackageName() {
+        return joinPackageNames(getFullInternalPackageName(), "batchmanager");
+    }
+
 }
@@ -209,4 +209,13 @@ public class PoetExtension {
         return ClassName.get(model.getMetadata().getFullBatchManagerPackageName(),
                              model.getMetadata().getServiceName() + "AsyncBatchManager");
     }
+
+    public ClassName getBatchManagerAsyncClass() {
+        return ClassName.get(model.getMetadata().getFullBatchManagerInternalPackageName(),
+                             "Default" + model.getMetadata().getServiceName() + "AsyncBatchManager");
+    }
+
+    public ClassName getBatchOverrideConfigurationClass() {
+        return ClassName.get(model.getMetadata().getFullBatchManagerPackageName(), "BatchOverrideConfiguration");
+    }
 }
@@ -0,0 +1,501 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.batchmanager;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PROTECTED;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchManager;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.MemberModel;
+import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetExtension;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Generates the implementation of the batch manager of a service. Each batched operation is buffered by a nested
+ * {@link RequestBatchManager}, which creates the batch requests of the operation and maps their responses back to the
+ * responses of the buffered requests.
+ */
+public final class AsyncBatchManagerClassSpec implements ClassSpec {
+
+    private final PoetExtension poetExtensions;
+    private final ClassName className;
+    private final ClassName interfaceName;
+    private final ClassName clientClassName;
+    private final ClassName exceptionClassName;
+    private final ClassName overrideConfigurationName;
+    private final List<BatchedOperation> operations;
+
+    public AsyncBatchManagerClassSpec(IntermediateModel model) {
+        this.poetExtensions = new PoetExtension(model);
+        this.className = poetExtensions.getBatchManagerAsyncClass();
+        this.interfaceName = poetExtensions.getBatchManagerAsyncInterface();
+        this.clientClassName = poetExtensions.getClientClass(model.getMetadata().getAsyncInterface());
+        this.exceptionClassName = poetExtensions.getModelClass(model.getSdkModeledExceptionBaseClassName());
+        this.overrideConfigurationName = poetExtensions.getBatchOverrideConfigurationClass();
+        this.operations = BatchedOperation.batchedOperations(model);
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        TypeSpec.Builder result = PoetUtils.createClassBuilder(className)
+                                           .addAnnotation(SdkInternalApi.class)
+                                           .addModifiers(PUBLIC, FINAL)
+                                           .addSuperinterface(interfaceName);
+
+        MethodSpec.Builder constructor =
+            MethodSpec.constructorBuilder()
+                      .addModifiers(PRIVATE)
+                      .addParameter(builderClassName(), "builder")
+                      .addStatement("$T client = $T.notNull(builder.client, $S)", clientClassName, Validate.class,
+                                    "client cannot be null")
+                      .addStatement("$T scheduledExecutor = $T.notNull(builder.scheduledExecutor, $S)",
+                                    ScheduledExecutorService.class, Validate.class, "scheduledExecutor cannot be null")
+                      .addStatement("$T overrideConfiguration = builder.overrideConfiguration != null ? "
+                                    + "builder.overrideConfiguration : $T.builder().build()", overrideConfigurationName,
+                                    overrideConfigurationName);
+        MethodSpec.Builder close = MethodSpec.methodBuilder("close")
+                                             .addAnnotation(Override.class)
+                                             .addModifiers(PUBLIC);
+
+        for (BatchedOperation operation : operations) {
+            ClassName managerName = managerClassName(operation);
+            String fieldName = managerFieldName(operation);
+            result.addField(FieldSpec.builder(managerName, fieldName, PRIVATE, FINAL).build());
+            constructor.addStatement("this.$N = new $T($T.create(overrideConfiguration.maxBatchSize(), "
+                                     + "overrideConfiguration.sendRequestFrequency(), $L, $L), scheduledExecutor, client)",
+                                     fieldName, managerName, RequestBatchConfiguration.class, operation.maxBatchItems(),
+                                     operation.maxBatchBytesSize());
+            close.addStatement("$N.close()", fieldName);
+        }
+
+        result.addMethod(constructor.build());
+        operations.forEach(operation -> result.addMethod(operationMethod(operation)));
+        result.addMethod(MethodSpec.methodBuilder("builder")
+                                   .addModifiers(PUBLIC, STATIC)
+                                   .returns(interfaceName.nestedClass("Builder"))
+                                   .addStatement("return new $T()", builderClassName())
+                                   .build());
+        result.addMethod(close.build());
+        operations.forEach(operation -> result.addType(operationBatchManager(operation)));
+        result.addType(builderClass());
+        return result.build();
+    }
+
+    @Override
+    public ClassName className() {
+        return className;
+    }
+
+    private MethodSpec operationMethod(BatchedOperation operation) {
+        return MethodSpec.methodBuilder(operation.operation().getMethodName())
+                         .addAnnotation(Override.class)
+                         .addModifiers(PUBLIC)
+                         .addParameter(requestType(operation.operation()), "request")
+                         .returns(ParameterizedTypeName.get(ClassName.get(CompletableFuture.class),
+                                                            responseType(operation.operation())))
+                         .addStatement("return $N.batchRequest(request)", managerFieldName(operation))
+                         .build();
+    }
+
+    private TypeSpec operationBatchManager(BatchedOperation operation) {
+        ClassName requestType = requestType(operation.operation());
+        ClassName responseType = responseType(operation.operation());
+        ClassName batchResponseType = responseType(operation.batchOperation());
+
+        TypeSpec.Builder manager =
+            TypeSpec.classBuilder(managerClassName(operation))
+                    .addModifiers(PRIVATE, STATIC, FINAL)
+                    .superclass(ParameterizedTypeName.get(ClassName.get(RequestBatchManager.class), requestType, responseType,
+                                                          batchResponseType))
+                    .addField(clientClassName, "client", PRIVATE, FINAL)
+                    .addMethod(MethodSpec.constructorBuilder()
+                                         .addModifiers(PRIVATE)
+                                         .addParameter(RequestBatchConfiguration.class, "batchConfiguration")
+                                         .addParameter(ScheduledExecutorService.class, "scheduledExecutor")
+                                         .addParameter(clientClassName, "client")
+                                         .addStatement("super(batchConfiguration, scheduledExecutor)")
+                                         .addStatement("this.client = client")
+                                         .build());
+
+        isBatchableMethod(operation).ifPresent(isBatchable -> {
+            manager.addMethod(isBatchable);
+            manager.addMethod(MethodSpec.methodBuilder("sendDirectly")
+                                        .addAnnotation(Override.class)
+                                        .addModifiers(PROTECTED)
+                                        .addParameter(requestType, "request")
+                                        .returns(ParameterizedTypeName.get(ClassName.get(CompletableFuture.class), responseType))
+                                        .addStatement("return client.$N(request)", operation.operation().getMethodName())
+                                        .build());
+        });
+        if (operation.isCoalescing()) {
+            manager.addMethod(MethodSpec.methodBuilder("entryCount")
+                                        .addAnnotation(Override.class)
+                                        .addModifiers(PROTECTED)
+                                        .addParameter(requestType, "request")
+                                        .returns(int.class)
+                                        .addStatement("return request.$N().size()",
+                                                      operation.entriesMember().getFluentGetterMethodName())
+                                        .build());
+        }
+
+        return manager.addMethod(getBatchKeyMethod(operation))
+                      .addMethod(batchAndSendMethod(operation))
+                      .addMethod(mapBatchResponseMethod(operation))
+                      .build();
+    }
+
+    private Optional<MethodSpec> isBatchableMethod(BatchedOperation operation) {
+        List<CodeBlock> conditions = new ArrayList<>();
+        if (operation.isCoalescing()) {
+            MemberModel entries = operation.entriesMember();
+            conditions.add(CodeBlock.of("request.$N()", entries.getExistenceCheckMethodName()));
+            conditions.add(CodeBlock.of("!request.$N().isEmpty()", entries.getFluentGetterMethodName()));
+            conditions.add(CodeBlock.of("request.$N().size() <= batchConfiguration.maxBatchItems()",
+                                        entries.getFluentGetterMethodName()));
+        }
+        for (MemberModel member : operation.unbatchableMembers()) {
+            if (member.isList() || member.isMap()) {
+                conditions.add(CodeBlock.of("!request.$N()", member.getExistenceCheckMethodName()));
+            } else {
+                conditions.add(CodeBlock.of("request.$N() == null", member.getFluentGetterMethodName()));
+            }
+        }
+        if (conditions.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(MethodSpec.methodBuilder("isBatchable")
+                                     .addAnnotation(Override.class)
+                                     .addModifiers(PROTECTED)
+                                     .addParameter(requestType(operation.operation()), "request")
+                                     .returns(boolean.class)
+                                     .addStatement("return $L", CodeBlock.join(conditions, "\n&& "))
+                                     .build());
+    }
+
+    private MethodSpec getBatchKeyMethod(BatchedOperation operation) {
+        CodeBlock.Builder arguments = CodeBlock.builder().add("request.overrideConfiguration()");
+        operation.batchKeyMembers()
+                 .forEach(member -> arguments.add(", request.$N()", member.getFluentGetterMethodName()));
+
+        return MethodSpec.methodBuilder("getBatchKey")
+                         .addAnnotation(Override.class)
+                         .addModifiers(PROTECTED)
+                         .addParameter(requestType(operation.operation()), "request")
+                         .returns(String.class)
+                         .addStatement("return batchKey($L)", arguments.build())
+                         .build();
+    }
+
+    private MethodSpec batchAndSendMethod(BatchedOperation operation) {
+        ClassName requestType = requestType(operation.operation());
+        ClassName batchRequestType = requestType(operation.batchOperation());
+        ClassName entryType = poetExtensions.getModelClass(operation.entryShape().getShapeName());
+        TypeName identifiedRequestType = identifiableMessage(requestType);
+
+        MethodSpec.Builder method =
+            MethodSpec.methodBuilder("batchAndSend")
+                      .addAnnotation(Override.class)
+                      .addModifiers(PROTECTED)
+                      .addParameter(ParameterizedTypeName.get(ClassName.get(List.class), identifiedRequestType),
+                                    "identifiedRequests")
+                      .addParameter(String.class, "batchKey")
+                      .returns(ParameterizedTypeName.get(ClassName.get(CompletableFuture.class),
+                                                         responseType(operation.batchOperation())))
+                      .addStatement("$T firstRequest = identifiedRequests.get(0).message()", requestType)
+                      .addStatement("$T<$T> entries = new $T<>()", List.class, entryType, ArrayList.class)
+                      .beginControlFlow("for ($T identifiedRequest : identifiedRequests)", identifiedRequestType);
+
+        if (operation.isCoalescing()) {
+            method.addStatement("entries.addAll(identifiedRequest.message().$N())",
+                                operation.entriesMember().getFluentGetterMethodName());
+        } else if (operation.entryMember() != null) {
+            method.addStatement("entries.add(identifiedRequest.message().$N())",
+                                operation.entryMember().getFluentGetterMethodName());
+        } else {
+            CodeBlock.Builder entry = CodeBlock.builder()
+                                               .add("$T.builder()", entryType)
+                                               .add("\n.$N(identifiedRequest.id())",
+                                                    operation.entryIdMember().getFluentSetterMethodName());
+            for (MemberModel member : operation.entryMembers()) {
+                MemberModel entryMember = operation.matchingMember(operation.entryShape(), member).get();
+                entry.add("\n.$N(request.$N())", entryMember.getFluentSetterMethodName(), member.getFluentGetterMethodName());
+            }
+            method.addStatement("$T request = identifiedRequest.message()", requestType)
+                  .addStatement("entries.add($L\n.build())", entry.build());
+        }
+        method.endControlFlow();
+
+        CodeBlock.Builder batchRequest = CodeBlock.builder().add("$T.builder()", batchRequestType);
+        for (MemberModel member : operation.batchKeyMembers()) {
+            MemberModel batchMember = operation.matchingMember(operation.batchOperation().getInputShape(), member).get();
+            batchRequest.add("\n.$N(firstRequest.$N())", batchMember.getFluentSetterMethodName(),
+                             member.getFluentGetterMethodName());
+        }
+        batchRequest.add("\n.$N(entries)", operation.entriesMember().getFluentSetterMethodName())
+                    .add("\n.overrideConfiguration(batchOverrideConfiguration(firstRequest.overrideConfiguration()))")
+                    .add("\n.build()");
+
+        return method.addStatement("$T batchRequest = $L", batchRequestType, batchRequest.build())
+                     .addStatement("return client.$N(batchRequest)", operation.batchOperation().getMethodName())
+                     .build();
+    }
+
+    private MethodSpec mapBatchResponseMethod(BatchedOperation operation) {
+        ClassName requestType = requestType(operation.operation());
+        ClassName responseType = responseType(operation.operation());
+        ClassName batchResponseType = responseType(operation.batchOperation());
+        TypeName eitherType = ParameterizedTypeName.get(ClassName.get(Either.class), identifiableMessage(responseType),
+                                                        identifiableMessage(ClassName.get(Throwable.class)));
+        TypeName responsesType = ParameterizedTypeName.get(ClassName.get(List.class), eitherType);
+
+        MethodSpec.Builder method =
+            MethodSpec.methodBuilder("mapBatchResponse")
+                      .addAnnotation(Override.class)
+                      .addModifiers(PROTECTED)
+                      .addParameter(ParameterizedTypeName.get(ClassName.get(List.class), identifiableMessage(requestType)),
+                                    "identifiedRequests")
+                      .addParameter(batchResponseType, "batchResponse")
+                      .returns(responsesType)
+                      .addStatement("$T responses = new $T<>(identifiedRequests.size())", responsesType, ArrayList.class);
+
+        if (operation.isCoalescing()) {
+            coalescedResponses(operation, method);
+        } else if (operation.hasEntryIds()) {
+            identifiedResponses(operation, method);
+        } else {
+            positionalResponses(operation, method);
+        }
+        return method.addStatement("return responses").build();
+    }
+
+    private void identifiedResponses(BatchedOperation operation, MethodSpec.Builder method) {
+        ShapeModel successfulEntryShape = operation.successfulEntryShape();
+        ShapeModel failedEntryShape = operation.failedEntryShape();
+        String idGetter = successfulEntryShape.getMemberByC2jName(operation.config().getEntryIdMember())
+                                              .getFluentGetterMethodName();
+
+        method.beginControlFlow("for ($T entry : batchResponse.$N())",
+                                poetExtensions.getModelClass(successfulEntryShape.getShapeName()),
+                                operation.successfulEntriesMember().getFluentGetterMethodName())
+              .addStatement("$T builder = $L", responseType(operation.operation()).nestedClass("Builder"),
+                            responseBuilder(operation, successfulEntryShape))
+              .addStatement("responses.add($T.left(new $T<>(entry.$N(), withBatchResponseMetadata(builder, batchResponse)"
+                            + ".build())))", Either.class, IdentifiableMessage.class, idGetter)
+              .endControlFlow();
+
+        method.beginControlFlow("for ($T entry : batchResponse.$N())",
+                                poetExtensions.getModelClass(failedEntryShape.getShapeName()),
+                                operation.failedEntriesMember().getFluentGetterMethodName())
+              .addStatement("responses.add($T.right(new $T<>(entry.$N(), $L)))", Either.class, IdentifiableMessage.class,
+                            failedEntryShape.getMemberByC2jName(operation.config().getEntryIdMember())
+                                            .getFluentGetterMethodName(),
+                            entryException(operation, failedEntryShape))
+              .endControlFlow();
+    }
+
+    private void positionalResponses(BatchedOperation operation, MethodSpec.Builder method) {
+        ShapeModel resultEntryShape = operation.resultEntryShape();
+        ClassName resultEntryType = poetExtensions.getModelClass(resultEntryShape.getShapeName());
+
+        method.addStatement("$T<$T> resultEntries = batchResponse.$N()", List.class, resultEntryType,
+                            operation.resultEntriesMember().get().getFluentGetterMethodName())
+              .beginControlFlow("if (resultEntries.size() != identifiedRequests.size())")
+              .addStatement("throw $T.create(\"The batch response contains \" + resultEntries.size() + \" results for the \" "
+                            + "+ identifiedRequests.size() + \" entries sent.\")", SdkClientException.class)
+              .endControlFlow()
+              .beginControlFlow("for (int i = 0; i < identifiedRequests.size(); i++)")
+              .addStatement("$T entry = resultEntries.get(i)", resultEntryType)
+              .addStatement("String id = identifiedRequests.get(i).id()")
+              .beginControlFlow("if (entry.$N() != null)",
+                                operation.errorCodeMember(resultEntryShape).getFluentGetterMethodName())
+              .addStatement("responses.add($T.right(new $T<>(id, $L)))", Either.class, IdentifiableMessage.class,
+                            entryException(operation, resultEntryShape))
+              .nextControlFlow("else")
+              .addStatement("$T builder = $L", responseType(operation.operation()).nestedClass("Builder"),
+                            responseBuilder(operation, resultEntryShape))
+              .addStatement("responses.add($T.left(new $T<>(id, withBatchResponseMetadata(builder, batchResponse).build())))",
+                            Either.class, IdentifiableMessage.class)
+              .endControlFlow()
+              .endControlFlow();
+    }
+
+    private void coalescedResponses(BatchedOperation operation, MethodSpec.Builder method) {
+        Optional<MemberModel> resultEntriesMember = operation.resultEntriesMember();
+        if (!resultEntriesMember.isPresent()) {
+            method.beginControlFlow("for ($T identifiedRequest : identifiedRequests)",
+                                    identifiableMessage(requestType(operation.operation())))
+                  .addStatement("responses.add($T.left(new $T<>(identifiedRequest.id(), batchResponse)))", Either.class,
+                                IdentifiableMessage.class)
+                  .endControlFlow();
+            return;
+        }
+
+        ShapeModel resultEntryShape = operation.resultEntryShape();
+        ClassName resultEntryType = poetExtensions.getModelClass(resultEntryShape.getShapeName());
+        String entriesGetter = operation.entriesMember().getFluentGetterMethodName();
+
+        method.addStatement("$T<$T> resultEntries = batchResponse.$N()", List.class, resultEntryType,
+                            resultEntriesMember.get().getFluentGetterMethodName())
+              .addStatement("int entryCount = 0")
+              .beginControlFlow("for ($T identifiedRequest : identifiedRequests)",
+                                identifiableMessage(requestType(operation.operation())))
+              .addStatement("entryCount += identifiedRequest.message().$N().size()", entriesGetter)
+              .endControlFlow()
+              .beginControlFlow("if (resultEntries.size() != entryCount)")
+              .addStatement("throw $T.create(\"The batch response contains \" + resultEntries.size() + \" results for the \" "
+                            + "+ entryCount + \" entries sent.\")", SdkClientException.class)
+              .endControlFlow()
+              .addStatement("int offset = 0")
+              .beginControlFlow("for ($T identifiedRequest : identifiedRequests)",
+                                identifiableMessage(requestType(operation.operation())))
+              .addStatement("int count = identifiedRequest.message().$N().size()", entriesGetter)
+              .addStatement("$T<$T> results = resultEntries.subList(offset, offset + count)", List.class, resultEntryType)
+              .addStatement("offset += count");
+
+        CodeBlock.Builder response = CodeBlock.builder()
+                                              .add("batchResponse.toBuilder()")
+                                              .add("\n.$N(results)", resultEntriesMember.get().getFluentSetterMethodName());
+        operation.failedCountMember().ifPresent(failedCountMember -> {
+            method.addStatement("int failedCount = 0")
+                  .beginControlFlow("for ($T result : results)", resultEntryType)
+                  .beginControlFlow("if (result.$N() != null)",
+                                    operation.errorCodeMember(resultEntryShape).getFluentGetterMethodName())
+                  .addStatement("failedCount++")
+                  .endControlFlow()
+                  .endControlFlow();
+            response.add("\n.$N(failedCount)", failedCountMember.getFluentSetterMethodName());
+        });
+
+        method.addStatement("responses.add($T.left(new $T<>(identifiedRequest.id(), $L\n.build())))", Either.class,
+                            IdentifiableMessage.class, response.build())
+              .endControlFlow();
+    }
+
+    /**
+     * Creates the builder of a response, copying the members of the result of its entry and the members of the batch
+     * response that have the name of a response member.
+     */
+    private CodeBlock responseBuilder(BatchedOperation operation, ShapeModel entryResultShape) {
+        CodeBlock.Builder builder = CodeBlock.builder().add("$T.builder()", responseType(operation.operation()));
+        for (MemberModel member : operation.outputMembers()) {
+            Optional<MemberModel> entryMember = operation.matchingMember(entryResultShape, member);
+            Optional<MemberModel> batchMember = operation.matchingMember(operation.batchOperation().getOutputShape(), member);
+            if (entryMember.isPresent()) {
+                builder.add("\n.$N(entry.$N())", member.getFluentSetterMethodName(),
+                            entryMember.get().getFluentGetterMethodName());
+            } else if (batchMember.isPresent()) {
+                builder.add("\n.$N(batchResponse.$N())", member.getFluentSetterMethodName(),
+                            batchMember.get().getFluentGetterMethodName());
+            }
+        }
+        return builder.build();
+    }
+
+    private CodeBlock entryException(BatchedOperation operation, ShapeModel entryResultShape) {
+        return CodeBlock.builder()
+                        .add("$T.builder()", exceptionClassName)
+                        .add("\n.awsErrorDetails($T.builder()", AwsErrorDetails.class)
+                        .add("\n.errorCode(entry.$N())", operation.errorCodeMember(entryResultShape).getFluentGetterMethodName())
+                        .add("\n.errorMessage(entry.$N())",
+                             operation.errorMessageMember(entryResultShape).getFluentGetterMethodName())
+                        .add("\n.build())")
+                        .add("\n.build()")
+                        .build();
+    }
+
+    private TypeSpec builderClass() {
+        ClassName builderInterface = interfaceName.nestedClass("Builder");
+        return TypeSpec.classBuilder(builderClassName())
+                       .addModifiers(PUBLIC, STATIC, FINAL)
+                       .addSuperinterface(builderInterface)
+                       .addField(clientClassName, "client", PRIVATE)
+                       .addField(overrideConfigurationName, "overrideConfiguration", PRIVATE)
+                       .addField(ScheduledExecutorService.class, "scheduledExecutor", PRIVATE)
+                       .addMethod(MethodSpec.constructorBuilder().addModifiers(PRIVATE).build())
+                       .addMethod(builderSetter(builderInterface, "overrideConfiguration", overrideConfigurationName))
+                       .addMethod(builderSetter(builderInterface, "client", clientClassName))
+                       .addMethod(builderSetter(builderInterface, "scheduledExecutor",
+                                                ClassName.get(ScheduledExecutorService.class)))
+                       .addMethod(MethodSpec.methodBuilder("build")
+                                            .addAnnotation(Override.class)
+                                            .addModifiers(PUBLIC)
+                                            .returns(interfaceName)
+                                            .addStatement("return new $T(this)", className)
+                                            .build())
+                       .build();
+    }
+
+    private static MethodSpec builderSetter(ClassName builderInterface, String name, ClassName type) {
+        return MethodSpec.methodBuilder(name)
+                         .addAnnotation(Override.class)
+                         .addModifiers(PUBLIC)
+                         .addParameter(type, name)
+                         .returns(builderInterface)
+                         .addStatement("this.$N = $N", name, name)
+                         .addStatement("return this")
+                         .build();
+    }
+
+    private ClassName builderClassName() {
+        return className.nestedClass("DefaultBuilder");
+    }
+
+    private ClassName managerClassName(BatchedOperation operation) {
+        return className.nestedClass(operation.operation().getOperationName() + "BatchManager");
+    }
+
+    private static String managerFieldName(BatchedOperation operation) {
+        return operation.operation().getMethodName() + "BatchManager";
+    }
+
+    private ClassName requestType(OperationModel operation) {
+        return poetExtensions.getModelClass(operation.getInputShape().getShapeName());
+    }
+
+    private ClassName responseType(OperationModel operation) {
+        return poetExtensions.getModelClass(operation.getReturnType().getReturnType());
+    }
+
+    private static TypeName identifiableMessage(TypeName messageType) {
+        return ParameterizedTypeName.get(ClassName.get(IdentifiableMessage.class), messageType);
+    }
+}
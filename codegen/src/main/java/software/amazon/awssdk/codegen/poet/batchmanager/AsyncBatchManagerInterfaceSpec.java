@@ -0,0 +1,205 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.batchmanager;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import javax.lang.model.element.Modifier;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetExtension;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Generates the public interface of the batch manager of a service, created by the {@code batchManager()} method of its
+ * async client.
+ */
+public final class AsyncBatchManagerInterfaceSpec implements ClassSpec {
+
+    private final PoetExtension poetExtensions;
+    private final ClassName className;
+    private final ClassName clientClassName;
+    private final ClassName overrideConfigurationName;
+    private final List<BatchedOperation> operations;
+
+    public AsyncBatchManagerInterfaceSpec(IntermediateModel model) {
+        this.poetExtensions = new PoetExtension(model);
+        this.className = poetExtensions.getBatchManagerAsyncInterface();
+        this.clientClassName = poetExtensions.getClientClass(model.getMetadata().getAsyncInterface());
+        this.overrideConfigurationName = poetExtensions.getBatchOverrideConfigurationClass();
+        this.operations = BatchedOperation.batchedOperations(model);
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        TypeSpec.Builder result = PoetUtils.createInterfaceBuilder(className)
+                                           .addAnnotation(SdkPublicApi.class)
+                                           .addAnnotation(ThreadSafe.class)
+                                           .addSuperinterface(SdkAutoCloseable.class)
+                                           .addJavadoc("Batch manager for implementing automatic batching with a {@link $T}. "
+                                                       + "Create an instance using {@link #builder()} or "
+                                                       + "{@link $T#batchManager()}."
+                                                       + "\n<p>\nThis manager buffers requests and sends them together in batch "
+                                                       + "requests, reducing the number of requests sent to the service. "
+                                                       + "Requests are buffered until a batch reaches the limits of the batch "
+                                                       + "operation or until the send request frequency elapses.",
+                                                       clientClassName, clientClassName);
+
+        result.addMethod(MethodSpec.methodBuilder("builder")
+                                   .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                                   .returns(className.nestedClass("Builder"))
+                                   .addJavadoc("Creates a builder for configuring and creating a {@link $T}.\n\n"
+                                               + "@return A new builder.", className)
+                                   .addStatement("return $T.builder()", poetExtensions.getBatchManagerAsyncClass())
+                                   .build());
+
+        for (BatchedOperation operation : operations) {
+            result.addMethod(operationMethod(operation));
+            result.addMethod(consumerOperationMethod(operation));
+        }
+
+        result.addType(builderInterface());
+        return result.build();
+    }
+
+    private MethodSpec operationMethod(BatchedOperation batchedOperation) {
+        OperationModel operation = batchedOperation.operation();
+        ClassName requestType = poetExtensions.getModelClass(operation.getInputShape().getShapeName());
+        ClassName batchRequestType = poetExtensions.getModelClass(batchedOperation.batchOperation()
+                                                                                  .getInputShape()
+                                                                                  .getShapeName());
+        ClassName responseType = poetExtensions.getModelClass(operation.getReturnType().getReturnType());
+
+        MethodSpec.Builder builder = MethodSpec.methodBuilder(operation.getMethodName())
+                                               .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                                               .addParameter(requestType, "request")
+                                               .returns(ParameterizedTypeName.get(ClassName.get(CompletableFuture.class),
+                                                                                  responseType));
+        if (batchedOperation.isCoalescing()) {
+            builder.addJavadoc("Buffers {@link $T}s and coalesces their entries, sending them together in one {@link $T}. "
+                               + "Requests are grouped by their override configuration and the members of the request other "
+                               + "than the entries, and sent when the batch is full or the send request frequency elapses.",
+                               requestType, batchRequestType);
+        } else {
+            builder.addJavadoc("Buffers and batches {@link $T}s, sending them as a {@link $T}. Requests are grouped by their "
+                               + "override configuration and the members of the batch request, and sent when the batch is full "
+                               + "or the send request frequency elapses.", requestType, batchRequestType);
+        }
+        if (!batchedOperation.unbatchableMembers().isEmpty() || batchedOperation.isCoalescing()) {
+            builder.addJavadoc("\n<p>\nRequests that cannot be batched are sent directly instead.");
+        }
+        return builder.addJavadoc("\n\n@param request The $T to be buffered.\n"
+                                  + "@return CompletableFuture of the corresponding {@link $T}.", requestType, responseType)
+                      .addStatement("throw new $T()", UnsupportedOperationException.class)
+                      .build();
+    }
+
+    private MethodSpec consumerOperationMethod(BatchedOperation batchedOperation) {
+        OperationModel operation = batchedOperation.operation();
+        ClassName requestType = poetExtensions.getModelClass(operation.getInputShape().getShapeName());
+        ClassName responseType = poetExtensions.getModelClass(operation.getReturnType().getReturnType());
+        ParameterizedTypeName consumerType = ParameterizedTypeName.get(ClassName.get(Consumer.class),
+                                                                       requestType.nestedClass("Builder"));
+
+        return MethodSpec.methodBuilder(operation.getMethodName())
+                         .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                         .addParameter(consumerType, "request")
+                         .returns(ParameterizedTypeName.get(ClassName.get(CompletableFuture.class), responseType))
+                         .addJavadoc("Buffers and batches {@link $T}s using a {@link $T} to configure the request.\n\n"
+                                     + "@param request A {@link $T} to configure the $T to be buffered.\n"
+                                     + "@return CompletableFuture of the corresponding {@link $T}.",
+                                     requestType, Consumer.class, Consumer.class, requestType, responseType)
+                         .addStatement("return $N($T.builder().applyMutation(request).build())", operation.getMethodName(),
+                                       requestType)
+                         .build();
+    }
+
+    private TypeSpec builderInterface() {
+        ClassName builderName = className.nestedClass("Builder");
+        ParameterizedTypeName overrideConsumerType =
+            ParameterizedTypeName.get(ClassName.get(Consumer.class),
+                                      overrideConfigurationName.nestedClass("Builder"));
+
+        return TypeSpec.interfaceBuilder(builderName)
+                       .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                       .addMethod(MethodSpec.methodBuilder("overrideConfiguration")
+                                            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                                            .addParameter(overrideConfigurationName, "overrideConfiguration")
+                                            .returns(builderName)
+                                            .addJavadoc("Sets custom overrides for the BatchManager configuration.\n\n"
+                                                        + "@param overrideConfiguration The configuration overrides.\n"
+                                                        + "@return This builder for method chaining.")
+                                            .build())
+                       .addMethod(MethodSpec.methodBuilder("overrideConfiguration")
+                                            .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
+                                            .addParameter(overrideConsumerType, "overrideConfiguration")
+                                            .returns(builderName)
+                                            .addJavadoc("Sets custom overrides for the BatchManager configuration using a "
+                                                        + "{@link $T} to configure the overrides.\n\n"
+                                                        + "@param overrideConfiguration A {@link $T} to configure the "
+                                                        + "{@link $T}.\n"
+                                                        + "@return This builder for method chaining.",
+                                                        Consumer.class, Consumer.class, overrideConfigurationName)
+                                            .addStatement("return overrideConfiguration($T.builder()"
+                                                          + ".applyMutation(overrideConfiguration).build())",
+                                                          overrideConfigurationName)
+                                            .build())
+                       .addMethod(MethodSpec.methodBuilder("client")
+                                            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                                            .addParameter(clientClassName, "client")
+                                            .returns(builderName)
+                                            .addJavadoc("Sets the {@link $T} used to send the batched requests. This client must "
+                                                        + "be closed by the caller.\n\n"
+                                                        + "@param client The $L to use.\n"
+                                                        + "@return This builder for method chaining.\n"
+                                                        + "@throws NullPointerException If client is null.",
+                                                        clientClassName, clientClassName.simpleName())
+                                            .build())
+                       .addMethod(MethodSpec.methodBuilder("scheduledExecutor")
+                                            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                                            .addParameter(ScheduledExecutorService.class, "scheduledExecutor")
+                                            .returns(builderName)
+                                            .addJavadoc("Sets a custom {@link $T} for periodic buffer flushes. This executor "
+                                                        + "must be closed by the caller.\n\n"
+                                                        + "@param scheduledExecutor The executor to use.\n"
+                                                        + "@return This builder for method chaining.",
+                                                        ScheduledExecutorService.class)
+                                            .build())
+                       .addMethod(MethodSpec.methodBuilder("build")
+                                            .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                                            .returns(className)
+                                            .addJavadoc("Builds an instance of {@link $T} based on the supplied "
+                                                        + "configurations.\n\n"
+                                                        + "@return An initialized $L.", className, className.simpleName())
+                                            .build())
+                       .build();
+    }
+
+    @Override
+    public ClassName className() {
+        return className;
+    }
+}
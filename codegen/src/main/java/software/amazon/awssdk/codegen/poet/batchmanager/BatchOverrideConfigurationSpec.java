@@ -0,0 +1,201 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.batchmanager;
+
+import static javax.lang.model.element.Modifier.FINAL;
+import static javax.lang.model.element.Modifier.PRIVATE;
+import static javax.lang.model.element.Modifier.PUBLIC;
+import static javax.lang.model.element.Modifier.STATIC;
+
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeSpec;
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.PoetExtension;
+import software.amazon.awssdk.codegen.poet.PoetUtils;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Generates the public override configuration of the batch manager of a service, in the batch manager package of the
+ * service like the override configurations of the hand-written batch managers.
+ */
+public final class BatchOverrideConfigurationSpec implements ClassSpec {
+
+    private final ClassName className;
+    private final ClassName builderName;
+
+    public BatchOverrideConfigurationSpec(IntermediateModel model) {
+        this.className = new PoetExtension(model).getBatchOverrideConfigurationClass();
+        this.builderName = className.nestedClass("Builder");
+    }
+
+    @Override
+    public TypeSpec poetSpec() {
+        return PoetUtils.createClassBuilder(className)
+                        .addAnnotation(SdkPublicApi.class)
+                        .addModifiers(PUBLIC, FINAL)
+                        .addSuperinterface(ParameterizedTypeName.get(ClassName.get(ToCopyableBuilder.class), builderName,
+                                                                     className))
+                        .addJavadoc("Configuration values for the batch manager, used for controlling batch operations. All "
+                                    + "values are optional, and default values will be used if they are not specified.")
+                        .addField(Integer.class, "maxBatchSize", PRIVATE, FINAL)
+                        .addField(Duration.class, "sendRequestFrequency", PRIVATE, FINAL)
+                        .addMethod(constructor())
+                        .addMethod(MethodSpec.methodBuilder("builder")
+                                             .addModifiers(PUBLIC, STATIC)
+                                             .returns(builderName)
+                                             .addStatement("return new $T()", builderName)
+                                             .build())
+                        .addMethod(MethodSpec.methodBuilder("maxBatchSize")
+                                             .addModifiers(PUBLIC)
+                                             .returns(Integer.class)
+                                             .addJavadoc("@return the maximum number of entries that can be batched together in "
+                                                         + "a single outbound batch request. A value greater than the number of "
+                                                         + "entries the batch operation accepts is lowered to that number, which "
+                                                         + "is also the default value.")
+                                             .addStatement("return maxBatchSize")
+                                             .build())
+                        .addMethod(MethodSpec.methodBuilder("sendRequestFrequency")
+                                             .addModifiers(PUBLIC)
+                                             .returns(Duration.class)
+                                             .addJavadoc("@return the maximum duration an outgoing call waits for additional "
+                                                         + "requests of the same batch before being sent. If the "
+                                                         + "{@link #maxBatchSize()} is reached before this duration, the batch "
+                                                         + "will be sent immediately. The default value is 200 milliseconds.")
+                                             .addStatement("return sendRequestFrequency")
+                                             .build())
+                        .addMethod(MethodSpec.methodBuilder("toBuilder")
+                                             .addAnnotation(Override.class)
+                                             .addModifiers(PUBLIC)
+                                             .returns(builderName)
+                                             .addStatement("return new $T().maxBatchSize(maxBatchSize)"
+                                                           + ".sendRequestFrequency(sendRequestFrequency)", builderName)
+                                             .build())
+                        .addMethod(PoetUtils.toStringBuilder()
+                                            .addStatement("return $T.builder($S).add($S, maxBatchSize)"
+                                                          + ".add($S, sendRequestFrequency).build()",
+                                                          ToString.class, className.simpleName(), "maxBatchSize",
+                                                          "sendRequestFrequency")
+                                            .build())
+                        .addMethod(equalsMethod())
+                        .addMethod(hashCodeMethod())
+                        .addType(builderClass())
+                        .build();
+    }
+
+    @Override
+    public ClassName className() {
+        return className;
+    }
+
+    private MethodSpec constructor() {
+        return MethodSpec.constructorBuilder()
+                         .addModifiers(PRIVATE)
+                         .addParameter(builderName, "builder")
+                         .addStatement("this.maxBatchSize = $T.isPositiveOrNull(builder.maxBatchSize, $S)", Validate.class,
+                                       "maxBatchSize")
+                         .addStatement("this.sendRequestFrequency = $T.isPositiveOrNull(builder.sendRequestFrequency, $S)",
+                                       Validate.class, "sendRequestFrequency")
+                         .build();
+    }
+
+    private MethodSpec equalsMethod() {
+        return MethodSpec.methodBuilder("equals")
+                         .addAnnotation(Override.class)
+                         .addModifiers(PUBLIC)
+                         .addParameter(Object.class, "o")
+                         .returns(boolean.class)
+                         .beginControlFlow("if (this == o)")
+                         .addStatement("return true")
+                         .endControlFlow()
+                         .beginControlFlow("if (o == null || getClass() != o.getClass())")
+                         .addStatement("return false")
+                         .endControlFlow()
+                         .addStatement("$T that = ($T) o", className, className)
+                         .addStatement("return $T.equals(maxBatchSize, that.maxBatchSize) "
+                                       + "&& $T.equals(sendRequestFrequency, that.sendRequestFrequency)",
+                                       Objects.class, Objects.class)
+                         .build();
+    }
+
+    private MethodSpec hashCodeMethod() {
+        return MethodSpec.methodBuilder("hashCode")
+                         .addAnnotation(Override.class)
+                         .addModifiers(PUBLIC)
+                         .returns(int.class)
+                         .addStatement("int result = $T.hashCode(maxBatchSize)", Objects.class)
+                         .addStatement("result = 31 * result + $T.hashCode(sendRequestFrequency)", Objects.class)
+                         .addStatement("return result")
+                         .build();
+    }
+
+    private TypeSpec builderClass() {
+        return TypeSpec.classBuilder(builderName)
+                       .addModifiers(PUBLIC, STATIC, FINAL)
+                       .addSuperinterface(ParameterizedTypeName.get(ClassName.get(CopyableBuilder.class), builderName,
+                                                                    className))
+                       .addField(Integer.class, "maxBatchSize", PRIVATE)
+                       .addField(Duration.class, "sendRequestFrequency", PRIVATE)
+                       .addMethod(MethodSpec.constructorBuilder().addModifiers(PRIVATE).build())
+                       .addMethod(MethodSpec.methodBuilder("maxBatchSize")
+                                            .addModifiers(PUBLIC)
+                                            .addParameter(Integer.class, "maxBatchSize")
+                                            .returns(builderName)
+                                            .addJavadoc("Specifies the maximum number of entries that the batch manager will "
+                                                        + "include in a single batch request. The default value, and the upper "
+                                                        + "bound of this value, is the number of entries the batch operation "
+                                                        + "accepts. Independently of this value, a batch is also sent when it "
+                                                        + "reaches the maximum request size of the batch operation.\n\n"
+                                                        + "@param maxBatchSize The maximum number of entries to be batched "
+                                                        + "together in a single request.\n"
+                                                        + "@return This Builder object for method chaining.")
+                                            .addStatement("this.maxBatchSize = maxBatchSize")
+                                            .addStatement("return this")
+                                            .build())
+                       .addMethod(MethodSpec.methodBuilder("sendRequestFrequency")
+                                            .addModifiers(PUBLIC)
+                                            .addParameter(Duration.class, "sendRequestFrequency")
+                                            .returns(builderName)
+                                            .addJavadoc("Specifies the frequency at which buffered requests are sent. This "
+                                                        + "defines the maximum duration that a request is held for additional "
+                                                        + "requests before being sent. Increasing the "
+                                                        + "{@code sendRequestFrequency} gives more time for additional requests "
+                                                        + "to be added to the batch, which can reduce the number of requests and "
+                                                        + "increase throughput, at the cost of a higher latency. The default "
+                                                        + "value is 200 milliseconds.\n\n"
+                                                        + "@param sendRequestFrequency The new value for the frequency at which "
+                                                        + "outbound requests are sent.\n"
+                                                        + "@return This Builder object for method chaining.")
+                                            .addStatement("this.sendRequestFrequency = sendRequestFrequency")
+                                            .addStatement("return this")
+                                            .build())
+                       .addMethod(MethodSpec.methodBuilder("build")
+                                            .addAnnotation(Override.class)
+                                            .addModifiers(PUBLIC)
+                                            .returns(className)
+                                            .addStatement("return new $T(this)", className)
+                                            .build())
+                       .build();
+    }
+}
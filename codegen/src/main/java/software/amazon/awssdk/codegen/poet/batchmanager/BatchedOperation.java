@@ -0,0 +1,275 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.batchmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.codegen.internal.Utils;
+import software.amazon.awssdk.codegen.model.config.customization.BatchManagerOperation;
+import software.amazon.awssdk.codegen.model.intermediate.IntermediateModel;
+import software.amazon.awssdk.codegen.model.intermediate.MemberModel;
+import software.amazon.awssdk.codegen.model.intermediate.OperationModel;
+import software.amazon.awssdk.codegen.model.intermediate.ShapeModel;
+
+/**
+ * An operation whose requests are buffered by the batch manager, resolved against the intermediate model. Members of the
+ * buffered request, the batch request and their responses are matched by their name in the service model. An operation is
+ * batched in one of three ways:
+ * <ul>
+ *     <li>entries identified by an ID, the results of the batch response referencing the IDs of the entries;</li>
+ *     <li>positional entries, the batch response listing one result per entry in the order they were sent;</li>
+ *     <li>coalesced requests, the entries of the buffered requests being sent in one request of the same operation.</li>
+ * </ul>
+ */
+final class BatchedOperation {
+    private final IntermediateModel model;
+    private final BatchManagerOperation config;
+    private final OperationModel operation;
+    private final OperationModel batchOperation;
+    private final MemberModel entriesMember;
+    private final ShapeModel entryShape;
+
+    BatchedOperation(IntermediateModel model, String operationName, BatchManagerOperation config) {
+        this.model = model;
+        this.config = config;
+        this.operation = operation(model, operationName);
+        this.batchOperation = operation(model, config.getBatchOperation());
+        this.entriesMember = listMember(batchOperation.getInputShape(), config.getEntriesMember());
+        this.entryShape = listMemberShape(entriesMember);
+
+        if (isCoalescing()) {
+            return;
+        }
+        if (hasEntryIds()) {
+            member(entryShape, config.getEntryIdMember());
+            successfulEntryShape();
+            member(failedEntryShape(), config.getErrorCodeMember());
+            member(failedEntryShape(), config.getErrorMessageMember());
+        } else {
+            member(resultEntryShape(), config.getErrorCodeMember());
+            member(resultEntryShape(), config.getErrorMessageMember());
+        }
+        if (config.getEntryMember() != null && !Objects.equals(entryMember().getC2jShape(), entryShape.getC2jName())) {
+            throw new IllegalStateException(String.format("The member %s of %s is not an entry of %s.", config.getEntryMember(),
+                                                          operation.getOperationName(), config.getBatchOperation()));
+        }
+    }
+
+    /**
+     * @return The operations configured in the batch manager operations customization, sorted by name.
+     */
+    static List<BatchedOperation> batchedOperations(IntermediateModel model) {
+        return model.getCustomizationConfig()
+                    .getBatchManagerOperations()
+                    .entrySet()
+                    .stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(e -> new BatchedOperation(model, e.getKey(), e.getValue()))
+                    .collect(Collectors.toList());
+    }
+
+    OperationModel operation() {
+        return operation;
+    }
+
+    OperationModel batchOperation() {
+        return batchOperation;
+    }
+
+    BatchManagerOperation config() {
+        return config;
+    }
+
+    /**
+     * @return Whether the entries of the buffered requests are sent in a request of the buffered operation.
+     */
+    boolean isCoalescing() {
+        return operation.getOperationName().equals(batchOperation.getOperationName());
+    }
+
+    boolean hasEntryIds() {
+        return config.getEntryIdMember() != null;
+    }
+
+    MemberModel entriesMember() {
+        return entriesMember;
+    }
+
+    ShapeModel entryShape() {
+        return entryShape;
+    }
+
+    MemberModel entryIdMember() {
+        return member(entryShape, config.getEntryIdMember());
+    }
+
+    MemberModel entryMember() {
+        return config.getEntryMember() == null ? null : member(operation.getInputShape(), config.getEntryMember());
+    }
+
+    MemberModel successfulEntriesMember() {
+        return listMember(batchOperation.getOutputShape(), config.getSuccessfulEntriesMember());
+    }
+
+    ShapeModel successfulEntryShape() {
+        return listMemberShape(successfulEntriesMember());
+    }
+
+    MemberModel failedEntriesMember() {
+        return listMember(batchOperation.getOutputShape(), config.getFailedEntriesMember());
+    }
+
+    ShapeModel failedEntryShape() {
+        return listMemberShape(failedEntriesMember());
+    }
+
+    Optional<MemberModel> resultEntriesMember() {
+        return Optional.ofNullable(config.getResultEntriesMember())
+                       .map(name -> listMember(batchOperation.getOutputShape(), name));
+    }
+
+    ShapeModel resultEntryShape() {
+        return resultEntriesMember().map(this::listMemberShape)
+                                    .orElseThrow(() -> new IllegalStateException(
+                                        "A result entries member must be configured for " + operation.getOperationName()));
+    }
+
+    MemberModel errorCodeMember(ShapeModel entryResultShape) {
+        return member(entryResultShape, config.getErrorCodeMember());
+    }
+
+    MemberModel errorMessageMember(ShapeModel entryResultShape) {
+        return member(entryResultShape, config.getErrorMessageMember());
+    }
+
+    Optional<MemberModel> failedCountMember() {
+        return Optional.ofNullable(config.getFailedCountMember())
+                       .map(name -> member(batchOperation.getOutputShape(), name));
+    }
+
+    int maxBatchItems() {
+        return config.getMaxBatchItems() != null ? config.getMaxBatchItems() : 10;
+    }
+
+    int maxBatchBytesSize() {
+        return config.getMaxBatchBytesSize() != null ? config.getMaxBatchBytesSize() : -1;
+    }
+
+    /**
+     * @return The members of the buffered request that must have the same value for all the requests of a batch, copied to
+     * the batch request.
+     */
+    List<MemberModel> batchKeyMembers() {
+        if (isCoalescing()) {
+            return inputMembers().stream()
+                                 .filter(m -> m != entriesMember && m.isSimple())
+                                 .collect(Collectors.toList());
+        }
+        return inputMembers().stream()
+                             .filter(m -> matchingMember(batchOperation.getInputShape(), m)
+                                 .filter(batchMember -> batchMember != entriesMember)
+                                 .isPresent())
+                             .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The members of the buffered request copied to the entry of the batch request, when no entry member is
+     * configured.
+     */
+    List<MemberModel> entryMembers() {
+        if (isCoalescing() || entryMember() != null) {
+            return Collections.emptyList();
+        }
+        List<MemberModel> batchKeyMembers = batchKeyMembers();
+        return inputMembers().stream()
+                             .filter(m -> !batchKeyMembers.contains(m))
+                             .filter(m -> matchingMember(entryShape, m)
+                                 .filter(entryMember -> !entryMember.getC2jName().equals(config.getEntryIdMember()))
+                                 .isPresent())
+                             .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The members of the buffered request that cannot be sent in a batch request. A request where one of them is set
+     * is sent with the buffered operation instead.
+     */
+    List<MemberModel> unbatchableMembers() {
+        List<MemberModel> batchedMembers = new ArrayList<>(batchKeyMembers());
+        batchedMembers.addAll(entryMembers());
+        if (isCoalescing()) {
+            batchedMembers.add(entriesMember);
+        }
+        MemberModel entryMember = entryMember();
+        return inputMembers().stream()
+                             .filter(m -> !batchedMembers.contains(m) && m != entryMember)
+                             .collect(Collectors.toList());
+    }
+
+    /**
+     * @return The member of the shape that has the name and the type of the given member.
+     */
+    Optional<MemberModel> matchingMember(ShapeModel shape, MemberModel member) {
+        return Optional.ofNullable(shape.getMemberByC2jName(member.getC2jName()))
+                       .filter(m -> m.getVariable().getVariableType().equals(member.getVariable().getVariableType()));
+    }
+
+    List<MemberModel> outputMembers() {
+        return members(operation.getOutputShape());
+    }
+
+    private List<MemberModel> inputMembers() {
+        return members(operation.getInputShape());
+    }
+
+    private static List<MemberModel> members(ShapeModel shape) {
+        return shape == null || shape.getMembers() == null ? Collections.emptyList() : shape.getMembers();
+    }
+
+    private ShapeModel listMemberShape(MemberModel listMember) {
+        String shapeName = listMember.getListModel().getListMemberModel().getC2jShape();
+        return Utils.findShapeModelByC2jName(model, shapeName);
+    }
+
+    private static OperationModel operation(IntermediateModel model, String operationName) {
+        OperationModel operation = operationName == null ? null : model.getOperation(operationName);
+        if (operation == null) {
+            throw new IllegalStateException("The batch manager operation " + operationName + " does not exist.");
+        }
+        return operation;
+    }
+
+    private static MemberModel listMember(ShapeModel shape, String memberName) {
+        MemberModel member = member(shape, memberName);
+        if (!member.isList()) {
+            throw new IllegalStateException(String.format("The member %s of %s is not a list.", memberName, shape.getC2jName()));
+        }
+        return member;
+    }
+
+    private static MemberModel member(ShapeModel shape, String memberName) {
+        MemberModel member = memberName == null ? null : shape.getMemberByC2jName(memberName);
+        if (member == null) {
+            throw new IllegalStateException(String.format("The member %s does not exist in %s.", memberName,
+                                                          shape.getC2jName()));
+        }
+        return member;
+    }
+}
@@ -91,6 +91,7 @@ import software.amazon.awssdk.identity.spi.IdentityProvider;
 import software.amazon.awssdk.identity.spi.IdentityProviders;
 import software.amazon.awssdk.identity.spi.TokenIdentity;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.SdkClientJsonProtocolAdvancedOption;
+import software.amazon.awssdk.protocols.query.internal.unmarshall.SdkClientXmlProtocolAdvancedOption;
 import software.amazon.awssdk.regions.ServiceMetadataAdvancedOption;
 import software.amazon.awssdk.utils.AttributeMap;
 import software.amazon.awssdk.utils.CollectionUtils;
@@ -571,6 +572,11 @@ public class BaseClientBuilderClass implements ClassSpec {
                                  SdkClientJsonProtocolAdvancedOption.class);
         }
 
+        if (model.getMetadata().isXmlProtocol()) {
+            builder.addStatement("builder.option($1T.ENABLE_FAST_UNMARSHALLER, true)",
+                                 SdkClientXmlProtocolAdvancedOption.class);
+        }
+
         if (hasRequestAlgorithmMember(model) || hasResponseAlgorithms(model)) {
             builder.addStatement("$T clientConfig = config", SdkClientConfiguration.class);
 
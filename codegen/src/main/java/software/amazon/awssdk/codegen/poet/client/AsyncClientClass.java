@@ -87,6 +87,7 @@ import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.client.handler.AsyncClientHandler;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRefreshCache;
 import software.amazon.awssdk.core.endpointdiscovery.EndpointDiscoveryRequest;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -335,8 +336,9 @@ public final class AsyncClientClass extends AsyncClientInterface {
                              List.class,
                              MetricPublisher.class,
                              opModel.getInput().getVariableName())
-               .addStatement("$1T apiCallMetricCollector = metricPublishers.isEmpty() ? $2T.create() : $1T.create($3S)",
-                             MetricCollector.class, NoOpMetricCollector.class, "ApiCall");
+               .addStatement("$1T apiCallMetricCollector = metricPublishers.isEmpty() ? $2T.create() : "
+                             + "$3T.createApiCallMetricCollector(clientConfiguration)",
+                             MetricCollector.class, NoOpMetricCollector.class, MetricUtils.class);
         builder.beginControlFlow("try");
 
         builder.addStatement("apiCallMetricCollector.reportMetric($T.$L, $S)",
@@ -58,6 +58,7 @@ import software.amazon.awssdk.utils.internal.CodegenNamingUtils;
 
 public class EndpointRulesSpecUtils {
     private static final String RULES_ENGINE_RESOURCE_FILES_PREFIX = "software/amazon/awssdk/codegen/rules/";
+    private static final String RULES_ENGINE_RESOURCE_FILES_PREFIX_2 = "software/amazon/awssdk/codegen/rules2/";
     private final IntermediateModel intermediateModel;
 
     public EndpointRulesSpecUtils(IntermediateModel intermediateModel) {
@@ -218,24 +219,36 @@ public class EndpointRulesSpecUtils {
     }
 
     public List<String> rulesEngineResourceFiles() {
+        return resourceFiles(RULES_ENGINE_RESOURCE_FILES_PREFIX);
+    }
+
+    public List<String> rulesEngineFilesFromDirectory(URL location) {
+        return resourceFilesFromDirectory(location, RULES_ENGINE_RESOURCE_FILES_PREFIX);
+    }
+
+    public List<String> rulesEngineResourceFiles2() {
+        return resourceFiles(RULES_ENGINE_RESOURCE_FILES_PREFIX_2);
+    }
+
+    private static List<String> resourceFiles(String prefix) {
         URL currentJarUrl = EndpointRulesSpecUtils.class.getProtectionDomain().getCodeSource().getLocation();
 
         // This would happen if the classes aren't loaded from a JAR, e.g. when unit testing
         if (!currentJarUrl.toString().endsWith(".jar")) {
-            return rulesEngineFilesFromDirectory(currentJarUrl);
+            return resourceFilesFromDirectory(currentJarUrl, prefix);
         }
 
         try (JarFile jarFile = new JarFile(currentJarUrl.getFile())) {
             return jarFile.stream()
                           .map(ZipEntry::getName)
-                          .filter(e -> e.startsWith(RULES_ENGINE_RESOURCE_FILES_PREFIX))
+                          .filter(e -> e.startsWith(prefix))
                           .collect(Collectors.toList());
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    public List<String> rulesEngineFilesFromDirectory(URL location) {
+    private static List<String> resourceFilesFromDirectory(URL location, String prefix) {
         URI locationUri;
         try {
             locationUri = location.toURI();
@@ -251,25 +264,13 @@ public class EndpointRulesSpecUtils {
             return Files.walk(directory)
                         // Remove the root directory if the classes, paths are expected to be relative to this directory
                         .map(f -> directory.relativize(f).toString())
-                        .filter(f -> f.startsWith(RULES_ENGINE_RESOURCE_FILES_PREFIX))
+                        .filter(f -> f.startsWith(prefix))
                         .collect(Collectors.toList());
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
-    public List<String> rulesEngineResourceFiles2() {
-        URL currentJarUrl = EndpointRulesSpecUtils.class.getProtectionDomain().getCodeSource().getLocation();
-        try (JarFile jarFile = new JarFile(currentJarUrl.getFile())) {
-            return jarFile.stream()
-                          .map(ZipEntry::getName)
-                          .filter(e -> e.startsWith("software/amazon/awssdk/codegen/rules2/"))
-                          .collect(Collectors.toList());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
     public Map<String, ParameterModel> parameters() {
         return intermediateModel.getEndpointRuleSetModel().getParameters();
     }
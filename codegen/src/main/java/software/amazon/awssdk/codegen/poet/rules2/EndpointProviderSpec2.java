@@ -17,14 +17,20 @@ package software.amazon.awssdk.codegen.poet.rules2;
 
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import javax.lang.model.element.Modifier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -40,16 +46,33 @@ import software.amazon.awssdk.codegen.poet.ClassSpec;
 import software.amazon.awssdk.codegen.poet.PoetUtils;
 import software.amazon.awssdk.codegen.poet.rules.EndpointRulesSpecUtils;
 import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.tinylfu.TinyLfuCache;
 
+/**
+ * Generates the default endpoint provider of a service, evaluating the endpoint rules with generated code instead of
+ * interpreting them.
+ * <p>
+ * Resolved endpoints are memoized, per provider, in a bounded cache keyed on the values of the parameters referenced by the
+ * rules. Parameters that the rules do not reference, such as the key of an S3 object, are not part of the key, so that
+ * requests that only differ by these parameters share the same entry.
+ */
 public class EndpointProviderSpec2 implements ClassSpec {
+    /**
+     * The maximum number of endpoints memoized by each provider.
+     */
+    private static final int ENDPOINT_CACHE_SIZE = 256;
+    private static final String CACHE_KEY_CLASS_NAME = "EndpointCacheKey";
+
     private final IntermediateModel intermediateModel;
     private final EndpointRulesSpecUtils endpointRulesSpecUtils;
     private final Map<String, KeyTypePair> knownEndpointAttributes;
     private final CodegenExpressionBuidler utils;
     private final RuleRuntimeTypeMirror typeMirror;
+    private final Map<String, TypeName> cacheKeyParams;
 
     public EndpointProviderSpec2(IntermediateModel intermediateModel) {
         this.intermediateModel = intermediateModel;
@@ -59,6 +82,7 @@ public class EndpointProviderSpec2 implements ClassSpec {
         EndpointRuleSetModel model = intermediateModel.getEndpointRuleSetModel();
         this.utils = createCodegenRulesUtil(model.getRules(), model.getParameters(), typeMirror);
         this.knownEndpointAttributes = knownEndpointAttributes(intermediateModel);
+        this.cacheKeyParams = cacheKeyParams();
     }
 
     private static RuleType fromParameterModel(ParameterModel model) {
@@ -123,7 +147,10 @@ public class EndpointProviderSpec2 implements ClassSpec {
                                             .addSuperinterface(endpointRulesSpecUtils.providerInterfaceName())
                                             .addAnnotation(SdkInternalApi.class);
 
+        builder.addField(endpointCacheSizeField());
+        builder.addField(endpointCacheField());
         builder.addMethod(resolveEndpointMethod());
+        builder.addMethod(resolveMethod());
         List<MethodSpec.Builder> methods = new ArrayList<>();
         createRuleMethod(utils.root(), methods);
         for (MethodSpec.Builder methodBuilder : methods) {
@@ -131,6 +158,7 @@ public class EndpointProviderSpec2 implements ClassSpec {
         }
         builder.addMethod(equalsMethod());
         builder.addMethod(hashCodeMethod());
+        builder.addType(cacheKeyClass());
         return builder.build();
     }
 
@@ -141,6 +169,21 @@ public class EndpointProviderSpec2 implements ClassSpec {
                              "Default" + endpointRulesSpecUtils.providerInterfaceName().simpleName());
     }
 
+    private FieldSpec endpointCacheSizeField() {
+        return FieldSpec.builder(int.class, "ENDPOINT_CACHE_SIZE", Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                        .initializer("$L", ENDPOINT_CACHE_SIZE)
+                        .build();
+    }
+
+    private FieldSpec endpointCacheField() {
+        TypeName cacheType = ParameterizedTypeName.get(ClassName.get(TinyLfuCache.class), cacheKeyClassName(),
+                                                       ClassName.get(Endpoint.class));
+        return FieldSpec.builder(cacheType, "endpointCache", Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("$T.builder($T::resolve).maxSize(ENDPOINT_CACHE_SIZE).build()",
+                                     TinyLfuCache.class, className())
+                        .build();
+    }
+
     private MethodSpec resolveEndpointMethod() {
         MethodSpec.Builder builder = MethodSpec.methodBuilder("resolveEndpoint")
                                                .addModifiers(Modifier.PUBLIC)
@@ -150,6 +193,22 @@ public class EndpointProviderSpec2 implements ClassSpec {
 
         builder.addCode(validateRequiredParams());
         builder.beginControlFlow("try");
+        builder.addStatement("return $T.completedFuture(endpointCache.get(new $T(params)))",
+                             CompletableFuture.class, cacheKeyClassName());
+        builder.nextControlFlow("catch ($T error)", Exception.class);
+        builder.addStatement("return $T.failedFuture(error)", CompletableFutureUtils.class);
+        builder.endControlFlow();
+
+        return builder.build();
+    }
+
+    private MethodSpec resolveMethod() {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("resolve")
+                                               .addModifiers(Modifier.PRIVATE, Modifier.STATIC)
+                                               .returns(Endpoint.class)
+                                               .addParameter(cacheKeyClassName(), "key");
+
+        builder.addStatement("$T params = key.toParams()", endpointRulesSpecUtils.parametersClassName());
         String regionParamName = utils.regionParamName();
         if (regionParamName != null) {
             builder.addStatement("$T region = params.$L()", Region.class, regionParamName);
@@ -172,11 +231,7 @@ public class EndpointProviderSpec2 implements ClassSpec {
                .addStatement("throw $T.create(errorMsg)", SdkClientException.class)
                .endControlFlow();
 
-        builder.addStatement("return $T.completedFuture(result.endpoint())", CompletableFuture.class);
-        builder.nextControlFlow("catch ($T error)", Exception.class);
-        builder.addStatement("return $T.failedFuture(error)", CompletableFutureUtils.class);
-        builder.endControlFlow();
-
+        builder.addStatement("return result.endpoint()");
         return builder.build();
     }
 
@@ -261,4 +316,104 @@ public class EndpointProviderSpec2 implements ClassSpec {
                          .addStatement("return getClass().hashCode()")
                          .build();
     }
+
+    private ClassName cacheKeyClassName() {
+        return className().nestedClass(CACHE_KEY_CLASS_NAME);
+    }
+
+    /**
+     * The parameters referenced by the rules, in declaration order, by the name of their accessor.
+     */
+    private Map<String, TypeName> cacheKeyParams() {
+        ParamReferencesVisitor visitor = new ParamReferencesVisitor(utils.regionParamName());
+        utils.root().accept(visitor);
+        Map<String, TypeName> result = new LinkedHashMap<>();
+        endpointRulesSpecUtils.parameters().forEach((name, model) -> {
+            String accessorName = endpointRulesSpecUtils.paramMethodName(name);
+            if (visitor.referencedNames.contains(accessorName)) {
+                result.put(accessorName, endpointRulesSpecUtils.parameterType(model));
+            }
+        });
+        return result;
+    }
+
+    private TypeSpec cacheKeyClass() {
+        ClassName paramsClass = endpointRulesSpecUtils.parametersClassName();
+        TypeSpec.Builder builder = TypeSpec.classBuilder(CACHE_KEY_CLASS_NAME)
+                                           .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL);
+
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder().addParameter(paramsClass, "params");
+        CodeBlock.Builder hashCode = CodeBlock.builder().addStatement("int hash = 1");
+        CodeBlock.Builder toParams = CodeBlock.builder().add("return $T.builder()", paramsClass);
+        List<CodeBlock> equals = new ArrayList<>();
+        cacheKeyParams.forEach((name, type) -> {
+            builder.addField(type, name, Modifier.PRIVATE, Modifier.FINAL);
+            constructor.addStatement("this.$1N = params.$1N()", name);
+            hashCode.addStatement("hash = 31 * hash + $T.hashCode($N)", Objects.class, name);
+            toParams.add(".$1N($1N)", name);
+            equals.add(CodeBlock.of("$1T.equals($2N, other.$2N)", Objects.class, name));
+        });
+        builder.addField(int.class, "hashCode", Modifier.PRIVATE, Modifier.FINAL);
+        constructor.addCode(hashCode.build());
+        constructor.addStatement("this.hashCode = hash");
+        CodeBlock equalsExpression = equals.isEmpty() ? CodeBlock.of("true") : CodeBlock.join(equals, " && ");
+
+        builder.addMethod(constructor.build());
+        builder.addMethod(MethodSpec.methodBuilder("toParams")
+                                    .returns(paramsClass)
+                                    .addStatement(toParams.add(".build()").build())
+                                    .build());
+        builder.addMethod(MethodSpec.methodBuilder("equals")
+                                    .addAnnotation(Override.class)
+                                    .addModifiers(Modifier.PUBLIC)
+                                    .returns(boolean.class)
+                                    .addParameter(Object.class, "o")
+                                    .beginControlFlow("if (this == o)")
+                                    .addStatement("return true")
+                                    .endControlFlow()
+                                    .beginControlFlow("if (!(o instanceof $T))", cacheKeyClassName())
+                                    .addStatement("return false")
+                                    .endControlFlow()
+                                    .addStatement("$1T other = ($1T) o", cacheKeyClassName())
+                                    .addStatement("return $L", equalsExpression)
+                                    .build());
+        builder.addMethod(MethodSpec.methodBuilder("hashCode")
+                                    .addAnnotation(Override.class)
+                                    .addModifiers(Modifier.PUBLIC)
+                                    .returns(int.class)
+                                    .addStatement("return hashCode")
+                                    .build());
+        return builder.build();
+    }
+
+    /**
+     * Collects the parameters referenced by the rules. Once renamed for codegen, parameters are accessed as members of the
+     * {@code params} variable, except for the region, which is passed down the rules as a local.
+     */
+    private static final class ParamReferencesVisitor extends WalkRuleExpressionVisitor {
+        private final String regionParamName;
+        private final Set<String> referencedNames = new HashSet<>();
+
+        private ParamReferencesVisitor(String regionParamName) {
+            this.regionParamName = regionParamName;
+        }
+
+        @Override
+        public Void visitVariableReferenceExpression(VariableReferenceExpression e) {
+            if (e.variableName().equals(regionParamName)) {
+                referencedNames.add(regionParamName);
+            }
+            return null;
+        }
+
+        @Override
+        public Void visitMemberAccessExpression(MemberAccessExpression e) {
+            RuleExpression source = e.source();
+            if (source instanceof VariableReferenceExpression
+                && "params".equals(((VariableReferenceExpression) source).variableName())) {
+                referencedNames.add(e.name());
+            }
+            return super.visitMemberAccessExpression(e);
+        }
+    }
 }
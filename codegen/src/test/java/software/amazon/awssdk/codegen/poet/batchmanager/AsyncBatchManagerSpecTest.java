@@ -0,0 +1,44 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.codegen.poet.batchmanager;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static software.amazon.awssdk.codegen.poet.PoetMatchers.generatesTo;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.codegen.poet.ClassSpec;
+import software.amazon.awssdk.codegen.poet.ClientTestModels;
+
+public class AsyncBatchManagerSpecTest {
+
+    @Test
+    public void asyncBatchManagerInterface() {
+        ClassSpec spec = new AsyncBatchManagerInterfaceSpec(ClientTestModels.batchManagerOperationsModels());
+        assertThat(spec, generatesTo("async-batch-manager-interface.java"));
+    }
+
+    @Test
+    public void asyncBatchManagerClass() {
+        ClassSpec spec = new AsyncBatchManagerClassSpec(ClientTestModels.batchManagerOperationsModels());
+        assertThat(spec, generatesTo("async-batch-manager-class.java"));
+    }
+
+    @Test
+    public void batchOverrideConfiguration() {
+        ClassSpec spec = new BatchOverrideConfigurationSpec(ClientTestModels.batchManagerOperationsModels());
+        assertThat(spec, generatesTo("batch-override-configuration.java"));
+    }
+}
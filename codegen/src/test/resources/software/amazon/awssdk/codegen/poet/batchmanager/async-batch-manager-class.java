@@ -0,0 +1,390 @@
+package software.amazon.awssdk.services.batchmanageroperationstest.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchManager;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.batchmanageroperationstest.BatchManagerOperationsTestAsyncClient;
+import software.amazon.awssdk.services.batchmanageroperationstest.batchmanager.BatchManagerOperationsTestAsyncBatchManager;
+import software.amazon.awssdk.services.batchmanageroperationstest.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.BatchManagerOperationsTestException;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.MetricDatum;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PublishBatchRequest;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PublishBatchResponse;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PublishBatchResultEntry;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PublishRequest;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PublishResponse;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutEventsRequest;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutEventsRequestEntry;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutEventsResponse;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutEventsResultEntry;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutMetricDataRequest;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutMetricDataResponse;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutRecordBatchRequest;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutRecordBatchResponse;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutRecordBatchResponseEntry;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutRecordRequest;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutRecordResponse;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.Record;
+import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.Validate;
+
+@Generated("software.amazon.awssdk:codegen")
+@SdkInternalApi
+public final class DefaultBatchManagerOperationsTestAsyncBatchManager implements BatchManagerOperationsTestAsyncBatchManager {
+    private final PublishBatchManager publishBatchManager;
+
+    private final PutEventsBatchManager putEventsBatchManager;
+
+    private final PutMetricDataBatchManager putMetricDataBatchManager;
+
+    private final PutRecordBatchManager putRecordBatchManager;
+
+    private DefaultBatchManagerOperationsTestAsyncBatchManager(DefaultBuilder builder) {
+        BatchManagerOperationsTestAsyncClient client = Validate.notNull(builder.client, "client cannot be null");
+        ScheduledExecutorService scheduledExecutor = Validate.notNull(builder.scheduledExecutor,
+                "scheduledExecutor cannot be null");
+        BatchOverrideConfiguration overrideConfiguration = builder.overrideConfiguration != null ? builder.overrideConfiguration
+                : BatchOverrideConfiguration.builder().build();
+        this.publishBatchManager = new PublishBatchManager(RequestBatchConfiguration.create(overrideConfiguration.maxBatchSize(),
+                overrideConfiguration.sendRequestFrequency(), 10, 262144), scheduledExecutor, client);
+        this.putEventsBatchManager = new PutEventsBatchManager(RequestBatchConfiguration.create(
+                overrideConfiguration.maxBatchSize(), overrideConfiguration.sendRequestFrequency(), 10, 262144),
+                scheduledExecutor, client);
+        this.putMetricDataBatchManager = new PutMetricDataBatchManager(RequestBatchConfiguration.create(
+                overrideConfiguration.maxBatchSize(), overrideConfiguration.sendRequestFrequency(), 1000, 1048576),
+                scheduledExecutor, client);
+        this.putRecordBatchManager = new PutRecordBatchManager(RequestBatchConfiguration.create(
+                overrideConfiguration.maxBatchSize(), overrideConfiguration.sendRequestFrequency(), 500, 4194304),
+                scheduledExecutor, client);
+    }
+
+    @Override
+    public CompletableFuture<PublishResponse> publish(PublishRequest request) {
+        return publishBatchManager.batchRequest(request);
+    }
+
+    @Override
+    public CompletableFuture<PutEventsResponse> putEvents(PutEventsRequest request) {
+        return putEventsBatchManager.batchRequest(request);
+    }
+
+    @Override
+    public CompletableFuture<PutMetricDataResponse> putMetricData(PutMetricDataRequest request) {
+        return putMetricDataBatchManager.batchRequest(request);
+    }
+
+    @Override
+    public CompletableFuture<PutRecordResponse> putRecord(PutRecordRequest request) {
+        return putRecordBatchManager.batchRequest(request);
+    }
+
+    public static BatchManagerOperationsTestAsyncBatchManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public void close() {
+        publishBatchManager.close();
+        putEventsBatchManager.close();
+        putMetricDataBatchManager.close();
+        putRecordBatchManager.close();
+    }
+
+    private static final class PublishBatchManager extends
+            RequestBatchManager<PublishRequest, PublishResponse, PublishBatchResponse> {
+        private final BatchManagerOperationsTestAsyncClient client;
+
+        private PublishBatchManager(RequestBatchConfiguration batchConfiguration, ScheduledExecutorService scheduledExecutor,
+                BatchManagerOperationsTestAsyncClient client) {
+            super(batchConfiguration, scheduledExecutor);
+            this.client = client;
+        }
+
+        @Override
+        protected boolean isBatchable(PublishRequest request) {
+            return request.targetArn() == null;
+        }
+
+        @Override
+        protected CompletableFuture<PublishResponse> sendDirectly(PublishRequest request) {
+            return client.publish(request);
+        }
+
+        @Override
+        protected String getBatchKey(PublishRequest request) {
+            return batchKey(request.overrideConfiguration(), request.topicArn());
+        }
+
+        @Override
+        protected CompletableFuture<PublishBatchResponse> batchAndSend(
+                List<IdentifiableMessage<PublishRequest>> identifiedRequests, String batchKey) {
+            PublishRequest firstRequest = identifiedRequests.get(0).message();
+            List<PublishBatchRequestEntry> entries = new ArrayList<>();
+            for (IdentifiableMessage<PublishRequest> identifiedRequest : identifiedRequests) {
+                PublishRequest request = identifiedRequest.message();
+                entries.add(PublishBatchRequestEntry.builder().id(identifiedRequest.id()).message(request.message())
+                        .subject(request.subject()).messageAttributes(request.messageAttributes()).build());
+            }
+            PublishBatchRequest batchRequest = PublishBatchRequest.builder().topicArn(firstRequest.topicArn())
+                    .publishBatchRequestEntries(entries)
+                    .overrideConfiguration(batchOverrideConfiguration(firstRequest.overrideConfiguration())).build();
+            return client.publishBatch(batchRequest);
+        }
+
+        @Override
+        protected List<Either<IdentifiableMessage<PublishResponse>, IdentifiableMessage<Throwable>>> mapBatchResponse(
+                List<IdentifiableMessage<PublishRequest>> identifiedRequests, PublishBatchResponse batchResponse) {
+            List<Either<IdentifiableMessage<PublishResponse>, IdentifiableMessage<Throwable>>> responses = new ArrayList<>(
+                    identifiedRequests.size());
+            for (PublishBatchResultEntry entry : batchResponse.successful()) {
+                PublishResponse.Builder builder = PublishResponse.builder().messageId(entry.messageId())
+                        .sequenceNumber(entry.sequenceNumber());
+                responses.add(Either.left(new IdentifiableMessage<>(entry.id(), withBatchResponseMetadata(builder, batchResponse)
+                        .build())));
+            }
+            for (BatchResultErrorEntry entry : batchResponse.failed()) {
+                responses.add(Either.right(new IdentifiableMessage<>(entry.id(), BatchManagerOperationsTestException.builder()
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode(entry.code()).errorMessage(entry.message()).build())
+                        .build())));
+            }
+            return responses;
+        }
+    }
+
+    private static final class PutEventsBatchManager extends
+            RequestBatchManager<PutEventsRequest, PutEventsResponse, PutEventsResponse> {
+        private final BatchManagerOperationsTestAsyncClient client;
+
+        private PutEventsBatchManager(RequestBatchConfiguration batchConfiguration, ScheduledExecutorService scheduledExecutor,
+                BatchManagerOperationsTestAsyncClient client) {
+            super(batchConfiguration, scheduledExecutor);
+            this.client = client;
+        }
+
+        @Override
+        protected boolean isBatchable(PutEventsRequest request) {
+            return request.hasEntries() && !request.entries().isEmpty()
+                    && request.entries().size() <= batchConfiguration.maxBatchItems();
+        }
+
+        @Override
+        protected CompletableFuture<PutEventsResponse> sendDirectly(PutEventsRequest request) {
+            return client.putEvents(request);
+        }
+
+        @Override
+        protected int entryCount(PutEventsRequest request) {
+            return request.entries().size();
+        }
+
+        @Override
+        protected String getBatchKey(PutEventsRequest request) {
+            return batchKey(request.overrideConfiguration(), request.endpointId());
+        }
+
+        @Override
+        protected CompletableFuture<PutEventsResponse> batchAndSend(
+                List<IdentifiableMessage<PutEventsRequest>> identifiedRequests, String batchKey) {
+            PutEventsRequest firstRequest = identifiedRequests.get(0).message();
+            List<PutEventsRequestEntry> entries = new ArrayList<>();
+            for (IdentifiableMessage<PutEventsRequest> identifiedRequest : identifiedRequests) {
+                entries.addAll(identifiedRequest.message().entries());
+            }
+            PutEventsRequest batchRequest = PutEventsRequest.builder().endpointId(firstRequest.endpointId()).entries(entries)
+                    .overrideConfiguration(batchOverrideConfiguration(firstRequest.overrideConfiguration())).build();
+            return client.putEvents(batchRequest);
+        }
+
+        @Override
+        protected List<Either<IdentifiableMessage<PutEventsResponse>, IdentifiableMessage<Throwable>>> mapBatchResponse(
+                List<IdentifiableMessage<PutEventsRequest>> identifiedRequests, PutEventsResponse batchResponse) {
+            List<Either<IdentifiableMessage<PutEventsResponse>, IdentifiableMessage<Throwable>>> responses = new ArrayList<>(
+                    identifiedRequests.size());
+            List<PutEventsResultEntry> resultEntries = batchResponse.entries();
+            int entryCount = 0;
+            for (IdentifiableMessage<PutEventsRequest> identifiedRequest : identifiedRequests) {
+                entryCount += identifiedRequest.message().entries().size();
+            }
+            if (resultEntries.size() != entryCount) {
+                throw SdkClientException.create("The batch response contains " + resultEntries.size() + " results for the "
+                        + entryCount + " entries sent.");
+            }
+            int offset = 0;
+            for (IdentifiableMessage<PutEventsRequest> identifiedRequest : identifiedRequests) {
+                int count = identifiedRequest.message().entries().size();
+                List<PutEventsResultEntry> results = resultEntries.subList(offset, offset + count);
+                offset += count;
+                int failedCount = 0;
+                for (PutEventsResultEntry result : results) {
+                    if (result.errorCode() != null) {
+                        failedCount++;
+                    }
+                }
+                responses.add(Either.left(new IdentifiableMessage<>(identifiedRequest.id(), batchResponse.toBuilder()
+                        .entries(results).failedEntryCount(failedCount).build())));
+            }
+            return responses;
+        }
+    }
+
+    private static final class PutMetricDataBatchManager extends
+            RequestBatchManager<PutMetricDataRequest, PutMetricDataResponse, PutMetricDataResponse> {
+        private final BatchManagerOperationsTestAsyncClient client;
+
+        private PutMetricDataBatchManager(RequestBatchConfiguration batchConfiguration,
+                ScheduledExecutorService scheduledExecutor, BatchManagerOperationsTestAsyncClient client) {
+            super(batchConfiguration, scheduledExecutor);
+            this.client = client;
+        }
+
+        @Override
+        protected boolean isBatchable(PutMetricDataRequest request) {
+            return request.hasMetricData() && !request.metricData().isEmpty()
+                    && request.metricData().size() <= batchConfiguration.maxBatchItems() && !request.hasEntityMetricData();
+        }
+
+        @Override
+        protected CompletableFuture<PutMetricDataResponse> sendDirectly(PutMetricDataRequest request) {
+            return client.putMetricData(request);
+        }
+
+        @Override
+        protected int entryCount(PutMetricDataRequest request) {
+            return request.metricData().size();
+        }
+
+        @Override
+        protected String getBatchKey(PutMetricDataRequest request) {
+            return batchKey(request.overrideConfiguration(), request.namespace(), request.strictEntityValidation());
+        }
+
+        @Override
+        protected CompletableFuture<PutMetricDataResponse> batchAndSend(
+                List<IdentifiableMessage<PutMetricDataRequest>> identifiedRequests, String batchKey) {
+            PutMetricDataRequest firstRequest = identifiedRequests.get(0).message();
+            List<MetricDatum> entries = new ArrayList<>();
+            for (IdentifiableMessage<PutMetricDataRequest> identifiedRequest : identifiedRequests) {
+                entries.addAll(identifiedRequest.message().metricData());
+            }
+            PutMetricDataRequest batchRequest = PutMetricDataRequest.builder().namespace(firstRequest.namespace())
+                    .strictEntityValidation(firstRequest.strictEntityValidation()).metricData(entries)
+                    .overrideConfiguration(batchOverrideConfiguration(firstRequest.overrideConfiguration())).build();
+            return client.putMetricData(batchRequest);
+        }
+
+        @Override
+        protected List<Either<IdentifiableMessage<PutMetricDataResponse>, IdentifiableMessage<Throwable>>> mapBatchResponse(
+                List<IdentifiableMessage<PutMetricDataRequest>> identifiedRequests, PutMetricDataResponse batchResponse) {
+            List<Either<IdentifiableMessage<PutMetricDataResponse>, IdentifiableMessage<Throwable>>> responses = new ArrayList<>(
+                    identifiedRequests.size());
+            for (IdentifiableMessage<PutMetricDataRequest> identifiedRequest : identifiedRequests) {
+                responses.add(Either.left(new IdentifiableMessage<>(identifiedRequest.id(), batchResponse)));
+            }
+            return responses;
+        }
+    }
+
+    private static final class PutRecordBatchManager extends
+            RequestBatchManager<PutRecordRequest, PutRecordResponse, PutRecordBatchResponse> {
+        private final BatchManagerOperationsTestAsyncClient client;
+
+        private PutRecordBatchManager(RequestBatchConfiguration batchConfiguration, ScheduledExecutorService scheduledExecutor,
+                BatchManagerOperationsTestAsyncClient client) {
+            super(batchConfiguration, scheduledExecutor);
+            this.client = client;
+        }
+
+        @Override
+        protected String getBatchKey(PutRecordRequest request) {
+            return batchKey(request.overrideConfiguration(), request.deliveryStreamName());
+        }
+
+        @Override
+        protected CompletableFuture<PutRecordBatchResponse> batchAndSend(
+                List<IdentifiableMessage<PutRecordRequest>> identifiedRequests, String batchKey) {
+            PutRecordRequest firstRequest = identifiedRequests.get(0).message();
+            List<Record> entries = new ArrayList<>();
+            for (IdentifiableMessage<PutRecordRequest> identifiedRequest : identifiedRequests) {
+                entries.add(identifiedRequest.message().record());
+            }
+            PutRecordBatchRequest batchRequest = PutRecordBatchRequest.builder()
+                    .deliveryStreamName(firstRequest.deliveryStreamName()).records(entries)
+                    .overrideConfiguration(batchOverrideConfiguration(firstRequest.overrideConfiguration())).build();
+            return client.putRecordBatch(batchRequest);
+        }
+
+        @Override
+        protected List<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> mapBatchResponse(
+                List<IdentifiableMessage<PutRecordRequest>> identifiedRequests, PutRecordBatchResponse batchResponse) {
+            List<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> responses = new ArrayList<>(
+                    identifiedRequests.size());
+            List<PutRecordBatchResponseEntry> resultEntries = batchResponse.requestResponses();
+            if (resultEntries.size() != identifiedRequests.size()) {
+                throw SdkClientException.create("The batch response contains " + resultEntries.size() + " results for the "
+                        + identifiedRequests.size() + " entries sent.");
+            }
+            for (int i = 0; i < identifiedRequests.size(); i++) {
+                PutRecordBatchResponseEntry entry = resultEntries.get(i);
+                String id = identifiedRequests.get(i).id();
+                if (entry.errorCode() != null) {
+                    responses.add(Either.right(new IdentifiableMessage<>(id, BatchManagerOperationsTestException
+                            .builder()
+                            .awsErrorDetails(
+                                    AwsErrorDetails.builder().errorCode(entry.errorCode()).errorMessage(entry.errorMessage())
+                                            .build()).build())));
+                } else {
+                    PutRecordResponse.Builder builder = PutRecordResponse.builder().recordId(entry.recordId())
+                            .encrypted(batchResponse.encrypted());
+                    responses.add(Either.left(new IdentifiableMessage<>(id, withBatchResponseMetadata(builder, batchResponse)
+                            .build())));
+                }
+            }
+            return responses;
+        }
+    }
+
+    public static final class DefaultBuilder implements BatchManagerOperationsTestAsyncBatchManager.Builder {
+        private BatchManagerOperationsTestAsyncClient client;
+
+        private BatchOverrideConfiguration overrideConfiguration;
+
+        private ScheduledExecutorService scheduledExecutor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public BatchManagerOperationsTestAsyncBatchManager.Builder overrideConfiguration(
+                BatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public BatchManagerOperationsTestAsyncBatchManager.Builder client(BatchManagerOperationsTestAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public BatchManagerOperationsTestAsyncBatchManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public BatchManagerOperationsTestAsyncBatchManager build() {
+            return new DefaultBatchManagerOperationsTestAsyncBatchManager(this);
+        }
+    }
+}
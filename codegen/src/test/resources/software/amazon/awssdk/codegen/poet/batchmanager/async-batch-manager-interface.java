@@ -0,0 +1,197 @@
+package software.amazon.awssdk.services.batchmanageroperationstest.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.batchmanageroperationstest.BatchManagerOperationsTestAsyncClient;
+import software.amazon.awssdk.services.batchmanageroperationstest.internal.batchmanager.DefaultBatchManagerOperationsTestAsyncBatchManager;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PublishRequest;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PublishResponse;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutEventsRequest;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutEventsResponse;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutMetricDataRequest;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutMetricDataResponse;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutRecordRequest;
+import software.amazon.awssdk.services.batchmanageroperationstest.model.PutRecordResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Batch manager for implementing automatic batching with a {@link BatchManagerOperationsTestAsyncClient}. Create an
+ * instance using {@link #builder()} or {@link BatchManagerOperationsTestAsyncClient#batchManager()}.
+ * <p>
+ * This manager buffers requests and sends them together in batch requests, reducing the number of requests sent to the
+ * service. Requests are buffered until a batch reaches the limits of the batch operation or until the send request
+ * frequency elapses.
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkPublicApi
+@ThreadSafe
+public interface BatchManagerOperationsTestAsyncBatchManager extends SdkAutoCloseable {
+    /**
+     * Creates a builder for configuring and creating a {@link BatchManagerOperationsTestAsyncBatchManager}.
+     *
+     * @return A new builder.
+     */
+    static Builder builder() {
+        return DefaultBatchManagerOperationsTestAsyncBatchManager.builder();
+    }
+
+    /**
+     * Buffers and batches {@link PublishRequest}s, sending them as a
+     * {@link software.amazon.awssdk.services.batchmanageroperationstest.model.PublishBatchRequest}. Requests are
+     * grouped by their override configuration and the members of the batch request, and sent when the batch is full or
+     * the send request frequency elapses.
+     * <p>
+     * Requests that cannot be batched are sent directly instead.
+     *
+     * @param request
+     *        The PublishRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PublishResponse}.
+     */
+    default CompletableFuture<PublishResponse> publish(PublishRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers and batches {@link PublishRequest}s using a {@link Consumer} to configure the request.
+     *
+     * @param request
+     *        A {@link Consumer} to configure the PublishRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PublishResponse}.
+     */
+    default CompletableFuture<PublishResponse> publish(Consumer<PublishRequest.Builder> request) {
+        return publish(PublishRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Buffers {@link PutEventsRequest}s and coalesces their entries, sending them together in one
+     * {@link PutEventsRequest}. Requests are grouped by their override configuration and the members of the request
+     * other than the entries, and sent when the batch is full or the send request frequency elapses.
+     * <p>
+     * Requests that cannot be batched are sent directly instead.
+     *
+     * @param request
+     *        The PutEventsRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutEventsResponse}.
+     */
+    default CompletableFuture<PutEventsResponse> putEvents(PutEventsRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers and batches {@link PutEventsRequest}s using a {@link Consumer} to configure the request.
+     *
+     * @param request
+     *        A {@link Consumer} to configure the PutEventsRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutEventsResponse}.
+     */
+    default CompletableFuture<PutEventsResponse> putEvents(Consumer<PutEventsRequest.Builder> request) {
+        return putEvents(PutEventsRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Buffers {@link PutMetricDataRequest}s and coalesces their entries, sending them together in one
+     * {@link PutMetricDataRequest}. Requests are grouped by their override configuration and the members of the request
+     * other than the entries, and sent when the batch is full or the send request frequency elapses.
+     * <p>
+     * Requests that cannot be batched are sent directly instead.
+     *
+     * @param request
+     *        The PutMetricDataRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutMetricDataResponse}.
+     */
+    default CompletableFuture<PutMetricDataResponse> putMetricData(PutMetricDataRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers and batches {@link PutMetricDataRequest}s using a {@link Consumer} to configure the request.
+     *
+     * @param request
+     *        A {@link Consumer} to configure the PutMetricDataRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutMetricDataResponse}.
+     */
+    default CompletableFuture<PutMetricDataResponse> putMetricData(Consumer<PutMetricDataRequest.Builder> request) {
+        return putMetricData(PutMetricDataRequest.builder().applyMutation(request).build());
+    }
+
+    /**
+     * Buffers and batches {@link PutRecordRequest}s, sending them as a
+     * {@link software.amazon.awssdk.services.batchmanageroperationstest.model.PutRecordBatchRequest}. Requests are
+     * grouped by their override configuration and the members of the batch request, and sent when the batch is full or
+     * the send request frequency elapses.
+     *
+     * @param request
+     *        The PutRecordRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutRecordResponse}.
+     */
+    default CompletableFuture<PutRecordResponse> putRecord(PutRecordRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers and batches {@link PutRecordRequest}s using a {@link Consumer} to configure the request.
+     *
+     * @param request
+     *        A {@link Consumer} to configure the PutRecordRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutRecordResponse}.
+     */
+    default CompletableFuture<PutRecordResponse> putRecord(Consumer<PutRecordRequest.Builder> request) {
+        return putRecord(PutRecordRequest.builder().applyMutation(request).build());
+    }
+
+    interface Builder {
+        /**
+         * Sets custom overrides for the BatchManager configuration.
+         *
+         * @param overrideConfiguration
+         *        The configuration overrides.
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Sets custom overrides for the BatchManager configuration using a {@link Consumer} to configure the overrides.
+         *
+         * @param overrideConfiguration
+         *        A {@link Consumer} to configure the {@link BatchOverrideConfiguration}.
+         * @return This builder for method chaining.
+         */
+        default Builder overrideConfiguration(Consumer<BatchOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(BatchOverrideConfiguration.builder().applyMutation(overrideConfiguration).build());
+        }
+
+        /**
+         * Sets the {@link BatchManagerOperationsTestAsyncClient} used to send the batched requests. This client must be
+         * closed by the caller.
+         *
+         * @param client
+         *        The BatchManagerOperationsTestAsyncClient to use.
+         * @return This builder for method chaining.
+         * @throws NullPointerException
+         *         If client is null.
+         */
+        Builder client(BatchManagerOperationsTestAsyncClient client);
+
+        /**
+         * Sets a custom {@link ScheduledExecutorService} for periodic buffer flushes. This executor must be closed by
+         * the caller.
+         *
+         * @param scheduledExecutor
+         *        The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Builds an instance of {@link BatchManagerOperationsTestAsyncBatchManager} based on the supplied
+         * configurations.
+         *
+         * @return An initialized BatchManagerOperationsTestAsyncBatchManager.
+         */
+        BatchManagerOperationsTestAsyncBatchManager build();
+    }
+}
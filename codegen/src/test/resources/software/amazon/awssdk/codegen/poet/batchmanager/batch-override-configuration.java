@@ -0,0 +1,124 @@
+package software.amazon.awssdk.services.batchmanageroperationstest.batchmanager;
+
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.Generated;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration values for the batch manager, used for controlling batch operations. All values are optional, and
+ * default values will be used if they are not specified.
+ */
+@Generated("software.amazon.awssdk:codegen")
+@SdkPublicApi
+public final class BatchOverrideConfiguration implements
+        ToCopyableBuilder<BatchOverrideConfiguration.Builder, BatchOverrideConfiguration> {
+    private final Integer maxBatchSize;
+
+    private final Duration sendRequestFrequency;
+
+    private BatchOverrideConfiguration(Builder builder) {
+        this.maxBatchSize = Validate.isPositiveOrNull(builder.maxBatchSize, "maxBatchSize");
+        this.sendRequestFrequency = Validate.isPositiveOrNull(builder.sendRequestFrequency, "sendRequestFrequency");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of entries that can be batched together in a single outbound batch request. A value
+     *         greater than the number of entries the batch operation accepts is lowered to that number, which is also
+     *         the default value.
+     */
+    public Integer maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the maximum duration an outgoing call waits for additional requests of the same batch before being sent.
+     *         If the {@link #maxBatchSize()} is reached before this duration, the batch will be sent immediately. The
+     *         default value is 200 milliseconds.
+     */
+    public Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder().maxBatchSize(maxBatchSize).sendRequestFrequency(sendRequestFrequency);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchOverrideConfiguration").add("maxBatchSize", maxBatchSize)
+                .add("sendRequestFrequency", sendRequestFrequency).build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BatchOverrideConfiguration that = (BatchOverrideConfiguration) o;
+        return Objects.equals(maxBatchSize, that.maxBatchSize) && Objects.equals(sendRequestFrequency, that.sendRequestFrequency);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(maxBatchSize);
+        result = 31 * result + Objects.hashCode(sendRequestFrequency);
+        return result;
+    }
+
+    public static final class Builder implements CopyableBuilder<Builder, BatchOverrideConfiguration> {
+        private Integer maxBatchSize;
+
+        private Duration sendRequestFrequency;
+
+        private Builder() {
+        }
+
+        /**
+         * Specifies the maximum number of entries that the batch manager will include in a single batch request. The
+         * default value, and the upper bound of this value, is the number of entries the batch operation accepts.
+         * Independently of this value, a batch is also sent when it reaches the maximum request size of the batch
+         * operation.
+         *
+         * @param maxBatchSize
+         *        The maximum number of entries to be batched together in a single request.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Specifies the frequency at which buffered requests are sent. This defines the maximum duration that a request
+         * is held for additional requests before being sent. Increasing the {@code sendRequestFrequency} gives more
+         * time for additional requests to be added to the batch, which can reduce the number of requests and increase
+         * throughput, at the cost of a higher latency. The default value is 200 milliseconds.
+         *
+         * @param sendRequestFrequency
+         *        The new value for the frequency at which outbound requests are sent.
+         * @return This Builder object for method chaining.
+         */
+        public Builder sendRequestFrequency(Duration sendRequestFrequency) {
+            this.sendRequestFrequency = sendRequestFrequency;
+            return this;
+        }
+
+        @Override
+        public BatchOverrideConfiguration build() {
+            return new BatchOverrideConfiguration(this);
+        }
+    }
+}
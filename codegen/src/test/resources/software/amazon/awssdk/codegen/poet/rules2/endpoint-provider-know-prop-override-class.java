@@ -2,6 +2,8 @@ package software.amazon.awssdk.services.query.endpoints.internal;
 
 import java.net.URI;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -15,33 +17,44 @@ import software.amazon.awssdk.services.query.endpoints.QueryEndpointParams;
 import software.amazon.awssdk.services.query.endpoints.QueryEndpointProvider;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.tinylfu.TinyLfuCache;
 
 @Generated("software.amazon.awssdk:codegen")
 @SdkInternalApi
 public final class DefaultQueryEndpointProvider implements QueryEndpointProvider {
+    private static final int ENDPOINT_CACHE_SIZE = 256;
+
+    private final TinyLfuCache<EndpointCacheKey, Endpoint> endpointCache = TinyLfuCache
+            .builder(DefaultQueryEndpointProvider::resolve).maxSize(ENDPOINT_CACHE_SIZE).build();
+
     @Override
     public CompletableFuture<Endpoint> resolveEndpoint(QueryEndpointParams params) {
         Validate.notNull(params.region(), "Parameter 'region' must not be null");
         try {
-            Region region = params.region();
-            String regionId = region == null ? null : region.id();
-            RuleResult result = endpointRule0(params, regionId);
-            if (result.canContinue()) {
-                throw SdkClientException.create("Rule engine did not reach an error or endpoint result");
-            }
-            if (result.isError()) {
-                String errorMsg = result.error();
-                if (errorMsg.contains("Invalid ARN") && errorMsg.contains(":s3:::")) {
-                    errorMsg += ". Use the bucket name instead of simple bucket ARNs in GetBucketLocationRequest.";
-                }
-                throw SdkClientException.create(errorMsg);
-            }
-            return CompletableFuture.completedFuture(result.endpoint());
+            return CompletableFuture.completedFuture(endpointCache.get(new EndpointCacheKey(params)));
         } catch (Exception error) {
             return CompletableFutureUtils.failedFuture(error);
         }
     }
 
+    private static Endpoint resolve(EndpointCacheKey key) {
+        QueryEndpointParams params = key.toParams();
+        Region region = params.region();
+        String regionId = region == null ? null : region.id();
+        RuleResult result = endpointRule0(params, regionId);
+        if (result.canContinue()) {
+            throw SdkClientException.create("Rule engine did not reach an error or endpoint result");
+        }
+        if (result.isError()) {
+            String errorMsg = result.error();
+            if (errorMsg.contains("Invalid ARN") && errorMsg.contains(":s3:::")) {
+                errorMsg += ". Use the bucket name instead of simple bucket ARNs in GetBucketLocationRequest.";
+            }
+            throw SdkClientException.create(errorMsg);
+        }
+        return result.endpoint();
+    }
+
     private static RuleResult endpointRule0(QueryEndpointParams params, String region) {
         return endpointRule1(params, region);
     }
@@ -150,4 +163,57 @@ public final class DefaultQueryEndpointProvider implements QueryEndpointProvider
     public int hashCode() {
         return getClass().hashCode();
     }
+
+    private static final class EndpointCacheKey {
+        private final Region region;
+
+        private final Boolean useDualStackEndpoint;
+
+        private final Boolean useFipsEndpoint;
+
+        private final String endpointId;
+
+        private final List<String> arnList;
+
+        private final int hashCode;
+
+        EndpointCacheKey(QueryEndpointParams params) {
+            this.region = params.region();
+            this.useDualStackEndpoint = params.useDualStackEndpoint();
+            this.useFipsEndpoint = params.useFipsEndpoint();
+            this.endpointId = params.endpointId();
+            this.arnList = params.arnList();
+            int hash = 1;
+            hash = 31 * hash + Objects.hashCode(region);
+            hash = 31 * hash + Objects.hashCode(useDualStackEndpoint);
+            hash = 31 * hash + Objects.hashCode(useFipsEndpoint);
+            hash = 31 * hash + Objects.hashCode(endpointId);
+            hash = 31 * hash + Objects.hashCode(arnList);
+            this.hashCode = hash;
+        }
+
+        QueryEndpointParams toParams() {
+            return QueryEndpointParams.builder().region(region).useDualStackEndpoint(useDualStackEndpoint)
+                    .useFipsEndpoint(useFipsEndpoint).endpointId(endpointId).arnList(arnList).build();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EndpointCacheKey)) {
+                return false;
+            }
+            EndpointCacheKey other = (EndpointCacheKey) o;
+            return Objects.equals(region, other.region) && Objects.equals(useDualStackEndpoint, other.useDualStackEndpoint)
+                    && Objects.equals(useFipsEndpoint, other.useFipsEndpoint) && Objects.equals(endpointId, other.endpointId)
+                    && Objects.equals(arnList, other.arnList);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
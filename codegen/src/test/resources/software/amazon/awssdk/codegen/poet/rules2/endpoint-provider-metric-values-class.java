@@ -2,6 +2,7 @@ package software.amazon.awssdk.services.query.endpoints.internal;
 
 import java.net.URI;
 import java.util.Arrays;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -15,33 +16,44 @@ import software.amazon.awssdk.services.query.endpoints.QueryEndpointParams;
 import software.amazon.awssdk.services.query.endpoints.QueryEndpointProvider;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.cache.tinylfu.TinyLfuCache;
 
 @Generated("software.amazon.awssdk:codegen")
 @SdkInternalApi
 public final class DefaultQueryEndpointProvider implements QueryEndpointProvider {
+    private static final int ENDPOINT_CACHE_SIZE = 256;
+
+    private final TinyLfuCache<EndpointCacheKey, Endpoint> endpointCache = TinyLfuCache
+            .builder(DefaultQueryEndpointProvider::resolve).maxSize(ENDPOINT_CACHE_SIZE).build();
+
     @Override
     public CompletableFuture<Endpoint> resolveEndpoint(QueryEndpointParams params) {
         Validate.notNull(params.region(), "Parameter 'region' must not be null");
         try {
-            Region region = params.region();
-            String regionId = region == null ? null : region.id();
-            RuleResult result = endpointRule0(params, regionId);
-            if (result.canContinue()) {
-                throw SdkClientException.create("Rule engine did not reach an error or endpoint result");
-            }
-            if (result.isError()) {
-                String errorMsg = result.error();
-                if (errorMsg.contains("Invalid ARN") && errorMsg.contains(":s3:::")) {
-                    errorMsg += ". Use the bucket name instead of simple bucket ARNs in GetBucketLocationRequest.";
-                }
-                throw SdkClientException.create(errorMsg);
-            }
-            return CompletableFuture.completedFuture(result.endpoint());
+            return CompletableFuture.completedFuture(endpointCache.get(new EndpointCacheKey(params)));
         } catch (Exception error) {
             return CompletableFutureUtils.failedFuture(error);
         }
     }
 
+    private static Endpoint resolve(EndpointCacheKey key) {
+        QueryEndpointParams params = key.toParams();
+        Region region = params.region();
+        String regionId = region == null ? null : region.id();
+        RuleResult result = endpointRule0(params, regionId);
+        if (result.canContinue()) {
+            throw SdkClientException.create("Rule engine did not reach an error or endpoint result");
+        }
+        if (result.isError()) {
+            String errorMsg = result.error();
+            if (errorMsg.contains("Invalid ARN") && errorMsg.contains(":s3:::")) {
+                errorMsg += ". Use the bucket name instead of simple bucket ARNs in GetBucketLocationRequest.";
+            }
+            throw SdkClientException.create(errorMsg);
+        }
+        return result.endpoint();
+    }
+
     private static RuleResult endpointRule0(QueryEndpointParams params, String region) {
         return endpointRule1(params, region);
     }
@@ -69,20 +81,20 @@ public final class DefaultQueryEndpointProvider implements QueryEndpointProvider
             }
             if (params.useFipsEndpoint() == null && params.useDualStackEndpoint() != null && params.useDualStackEndpoint()) {
                 return RuleResult.endpoint(Endpoint
-                                               .builder()
-                                               .url(URI.create("https://" + params.endpointId() + ".query." + partitionResult.dualStackDnsSuffix()))
-                                               .putAttribute(
-                                                   AwsEndpointAttribute.AUTH_SCHEMES,
-                                                   Arrays.asList(SigV4aAuthScheme.builder().signingName("query")
-                                                                                 .signingRegionSet(Arrays.asList("*")).build())).build());
+                        .builder()
+                        .url(URI.create("https://" + params.endpointId() + ".query." + partitionResult.dualStackDnsSuffix()))
+                        .putAttribute(
+                                AwsEndpointAttribute.AUTH_SCHEMES,
+                                Arrays.asList(SigV4aAuthScheme.builder().signingName("query")
+                                        .signingRegionSet(Arrays.asList("*")).build())).build());
             }
             return RuleResult.endpoint(Endpoint
-                                           .builder()
-                                           .url(URI.create("https://" + params.endpointId() + ".query." + partitionResult.dnsSuffix()))
-                                           .putAttribute(
-                                               AwsEndpointAttribute.AUTH_SCHEMES,
-                                               Arrays.asList(SigV4aAuthScheme.builder().signingName("query").signingRegionSet(Arrays.asList("*"))
-                                                                             .build())).putAttribute(AwsEndpointAttribute.METRIC_VALUES, Arrays.asList("1", "2")).build());
+                    .builder()
+                    .url(URI.create("https://" + params.endpointId() + ".query." + partitionResult.dnsSuffix()))
+                    .putAttribute(
+                            AwsEndpointAttribute.AUTH_SCHEMES,
+                            Arrays.asList(SigV4aAuthScheme.builder().signingName("query").signingRegionSet(Arrays.asList("*"))
+                                    .build())).putAttribute(AwsEndpointAttribute.METRIC_VALUES, Arrays.asList("1", "2")).build());
         }
         return RuleResult.carryOn();
     }
@@ -91,35 +103,35 @@ public final class DefaultQueryEndpointProvider implements QueryEndpointProvider
         if (RulesFunctions.isValidHostLabel(region, false)) {
             if (params.useFipsEndpoint() != null && params.useFipsEndpoint() && params.useDualStackEndpoint() == null) {
                 return RuleResult.endpoint(Endpoint
-                                               .builder()
-                                               .url(URI.create("https://query-fips." + region + "." + partitionResult.dnsSuffix()))
-                                               .putAttribute(
-                                                   AwsEndpointAttribute.AUTH_SCHEMES,
-                                                   Arrays.asList(SigV4aAuthScheme.builder().signingName("query")
-                                                                                 .signingRegionSet(Arrays.asList("*")).build())).build());
+                        .builder()
+                        .url(URI.create("https://query-fips." + region + "." + partitionResult.dnsSuffix()))
+                        .putAttribute(
+                                AwsEndpointAttribute.AUTH_SCHEMES,
+                                Arrays.asList(SigV4aAuthScheme.builder().signingName("query")
+                                        .signingRegionSet(Arrays.asList("*")).build())).build());
             }
             if (params.useDualStackEndpoint() != null && params.useDualStackEndpoint() && params.useFipsEndpoint() == null) {
                 return RuleResult.endpoint(Endpoint
-                                               .builder()
-                                               .url(URI.create("https://query." + region + "." + partitionResult.dualStackDnsSuffix()))
-                                               .putAttribute(
-                                                   AwsEndpointAttribute.AUTH_SCHEMES,
-                                                   Arrays.asList(SigV4aAuthScheme.builder().signingName("query")
-                                                                                 .signingRegionSet(Arrays.asList("*")).build(),
-                                                                 SigV4AuthScheme.builder().signingName("query").signingRegion(region).build())).build());
+                        .builder()
+                        .url(URI.create("https://query." + region + "." + partitionResult.dualStackDnsSuffix()))
+                        .putAttribute(
+                                AwsEndpointAttribute.AUTH_SCHEMES,
+                                Arrays.asList(SigV4aAuthScheme.builder().signingName("query")
+                                        .signingRegionSet(Arrays.asList("*")).build(),
+                                        SigV4AuthScheme.builder().signingName("query").signingRegion(region).build())).build());
             }
             if (params.useDualStackEndpoint() != null && params.useFipsEndpoint() != null && params.useDualStackEndpoint()
-                && params.useFipsEndpoint()) {
+                    && params.useFipsEndpoint()) {
                 return RuleResult.endpoint(Endpoint
-                                               .builder()
-                                               .url(URI.create("https://query-fips." + region + "." + partitionResult.dualStackDnsSuffix()))
-                                               .putAttribute(
-                                                   AwsEndpointAttribute.AUTH_SCHEMES,
-                                                   Arrays.asList(SigV4aAuthScheme.builder().signingName("query")
-                                                                                 .signingRegionSet(Arrays.asList("*")).build())).build());
+                        .builder()
+                        .url(URI.create("https://query-fips." + region + "." + partitionResult.dualStackDnsSuffix()))
+                        .putAttribute(
+                                AwsEndpointAttribute.AUTH_SCHEMES,
+                                Arrays.asList(SigV4aAuthScheme.builder().signingName("query")
+                                        .signingRegionSet(Arrays.asList("*")).build())).build());
             }
             return RuleResult.endpoint(Endpoint.builder()
-                                               .url(URI.create("https://query." + region + "." + partitionResult.dnsSuffix())).build());
+                    .url(URI.create("https://query." + region + "." + partitionResult.dnsSuffix())).build());
         }
         return RuleResult.carryOn();
     }
@@ -133,4 +145,52 @@ public final class DefaultQueryEndpointProvider implements QueryEndpointProvider
     public int hashCode() {
         return getClass().hashCode();
     }
+
+    private static final class EndpointCacheKey {
+        private final Region region;
+
+        private final Boolean useDualStackEndpoint;
+
+        private final Boolean useFipsEndpoint;
+
+        private final String endpointId;
+
+        private final int hashCode;
+
+        EndpointCacheKey(QueryEndpointParams params) {
+            this.region = params.region();
+            this.useDualStackEndpoint = params.useDualStackEndpoint();
+            this.useFipsEndpoint = params.useFipsEndpoint();
+            this.endpointId = params.endpointId();
+            int hash = 1;
+            hash = 31 * hash + Objects.hashCode(region);
+            hash = 31 * hash + Objects.hashCode(useDualStackEndpoint);
+            hash = 31 * hash + Objects.hashCode(useFipsEndpoint);
+            hash = 31 * hash + Objects.hashCode(endpointId);
+            this.hashCode = hash;
+        }
+
+        QueryEndpointParams toParams() {
+            return QueryEndpointParams.builder().region(region).useDualStackEndpoint(useDualStackEndpoint)
+                    .useFipsEndpoint(useFipsEndpoint).endpointId(endpointId).build();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EndpointCacheKey)) {
+                return false;
+            }
+            EndpointCacheKey other = (EndpointCacheKey) o;
+            return Objects.equals(region, other.region) && Objects.equals(useDualStackEndpoint, other.useDualStackEndpoint)
+                    && Objects.equals(useFipsEndpoint, other.useFipsEndpoint) && Objects.equals(endpointId, other.endpointId);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
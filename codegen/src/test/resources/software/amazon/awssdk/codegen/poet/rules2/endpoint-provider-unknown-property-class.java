@@ -1,6 +1,7 @@
 package software.amazon.awssdk.services.query.endpoints.internal;
 
 import java.net.URI;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.Generated;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -9,30 +10,41 @@ import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.services.query.endpoints.QueryEndpointParams;
 import software.amazon.awssdk.services.query.endpoints.QueryEndpointProvider;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.cache.tinylfu.TinyLfuCache;
 
 @Generated("software.amazon.awssdk:codegen")
 @SdkInternalApi
 public final class DefaultQueryEndpointProvider implements QueryEndpointProvider {
+    private static final int ENDPOINT_CACHE_SIZE = 256;
+
+    private final TinyLfuCache<EndpointCacheKey, Endpoint> endpointCache = TinyLfuCache
+            .builder(DefaultQueryEndpointProvider::resolve).maxSize(ENDPOINT_CACHE_SIZE).build();
+
     @Override
     public CompletableFuture<Endpoint> resolveEndpoint(QueryEndpointParams params) {
         try {
-            RuleResult result = endpointRule0(params);
-            if (result.canContinue()) {
-                throw SdkClientException.create("Rule engine did not reach an error or endpoint result");
-            }
-            if (result.isError()) {
-                String errorMsg = result.error();
-                if (errorMsg.contains("Invalid ARN") && errorMsg.contains(":s3:::")) {
-                    errorMsg += ". Use the bucket name instead of simple bucket ARNs in GetBucketLocationRequest.";
-                }
-                throw SdkClientException.create(errorMsg);
-            }
-            return CompletableFuture.completedFuture(result.endpoint());
+            return CompletableFuture.completedFuture(endpointCache.get(new EndpointCacheKey(params)));
         } catch (Exception error) {
             return CompletableFutureUtils.failedFuture(error);
         }
     }
 
+    private static Endpoint resolve(EndpointCacheKey key) {
+        QueryEndpointParams params = key.toParams();
+        RuleResult result = endpointRule0(params);
+        if (result.canContinue()) {
+            throw SdkClientException.create("Rule engine did not reach an error or endpoint result");
+        }
+        if (result.isError()) {
+            String errorMsg = result.error();
+            if (errorMsg.contains("Invalid ARN") && errorMsg.contains(":s3:::")) {
+                errorMsg += ". Use the bucket name instead of simple bucket ARNs in GetBucketLocationRequest.";
+            }
+            throw SdkClientException.create(errorMsg);
+        }
+        return result.endpoint();
+    }
+
     private static RuleResult endpointRule0(QueryEndpointParams params) {
         RuleResult result = endpointRule1(params);
         if (result.isResolved()) {
@@ -57,4 +69,38 @@ public final class DefaultQueryEndpointProvider implements QueryEndpointProvider
     public int hashCode() {
         return getClass().hashCode();
     }
+
+    private static final class EndpointCacheKey {
+        private final String endpoint;
+
+        private final int hashCode;
+
+        EndpointCacheKey(QueryEndpointParams params) {
+            this.endpoint = params.endpoint();
+            int hash = 1;
+            hash = 31 * hash + Objects.hashCode(endpoint);
+            this.hashCode = hash;
+        }
+
+        QueryEndpointParams toParams() {
+            return QueryEndpointParams.builder().endpoint(endpoint).build();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EndpointCacheKey)) {
+                return false;
+            }
+            EndpointCacheKey other = (EndpointCacheKey) o;
+            return Objects.equals(endpoint, other.endpoint);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
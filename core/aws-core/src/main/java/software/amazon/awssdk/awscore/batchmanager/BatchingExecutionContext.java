@@ -13,38 +13,48 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.services.sqs.internal.batchmanager;
+package software.amazon.awssdk.awscore.batchmanager;
 
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 
+/**
+ * A buffered request, the future of its response, and its weight in a batch.
+ */
 @SdkInternalApi
-public final class BatchingExecutionContext<RequestT, ResponseT> {
+final class BatchingExecutionContext<RequestT, ResponseT> {
 
     private final RequestT request;
     private final CompletableFuture<ResponseT> response;
+    private final int entryCount;
+    private final int payloadSize;
 
-    private final Optional<Integer> responsePayloadByteSize;
-
-    public BatchingExecutionContext(RequestT request, CompletableFuture<ResponseT> response) {
+    BatchingExecutionContext(RequestT request, CompletableFuture<ResponseT> response, int entryCount, int payloadSize) {
         this.request = request;
         this.response = response;
-        responsePayloadByteSize = RequestPayloadCalculator.calculateMessageSize(request);
+        this.entryCount = entryCount;
+        this.payloadSize = payloadSize;
     }
 
-    public RequestT request() {
+    RequestT request() {
         return request;
     }
 
-    public CompletableFuture<ResponseT> response() {
+    CompletableFuture<ResponseT> response() {
         return response;
     }
 
     /**
-     * Optional because responsePayloadByteSize is required only for SendMessageRequests and not for other requests.
+     * @return The number of entries the request adds to a batch.
+     */
+    int entryCount() {
+        return entryCount;
+    }
+
+    /**
+     * @return The estimated number of bytes the request adds to a batch.
      */
-    public Optional<Integer> responsePayloadByteSize() {
-        return responsePayloadByteSize;
+    int payloadSize() {
+        return payloadSize;
     }
 }
@@ -13,9 +13,9 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.services.sqs.internal.batchmanager;
+package software.amazon.awssdk.awscore.batchmanager;
 
-import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.utils.Validate;
 
 /**
@@ -23,7 +23,7 @@ import software.amazon.awssdk.utils.Validate;
  *
  * @param <MessageT> The message
  */
-@SdkInternalApi
+@SdkProtectedApi
 public final class IdentifiableMessage<MessageT> {
 
     private final String id;
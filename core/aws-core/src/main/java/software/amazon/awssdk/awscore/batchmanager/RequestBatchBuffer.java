@@ -0,0 +1,137 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.batchmanager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The requests buffered for one batch key. The buffer never holds more than one batch: a request that would make the
+ * buffered requests exceed the limits of a batch first causes them to be taken and sent, and the buffered requests are taken
+ * as soon as they reach the limits.
+ */
+@SdkInternalApi
+final class RequestBatchBuffer<RequestT, ResponseT> {
+    private final Object flushLock = new Object();
+    private final Object scheduleLock = new Object();
+
+    private final Map<String, BatchingExecutionContext<RequestT, ResponseT>> idToBatchContext = new LinkedHashMap<>();
+    private final int maxBatchItems;
+    private final int maxBatchBytesSize;
+
+    /**
+     * Batch entries in a batch request require an ID that is unique in the batch. For simplicity, the ID is an integer that
+     * is incremented every time a request is buffered.
+     */
+    private int nextId;
+    private int bufferedItems;
+    private int bufferedBytes;
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+
+    RequestBatchBuffer(int maxBatchItems, int maxBatchBytesSize) {
+        this.maxBatchItems = maxBatchItems;
+        this.maxBatchBytesSize = maxBatchBytesSize;
+    }
+
+    /**
+     * Buffers a request.
+     *
+     * @return The batches that must be sent, in the order they were filled.
+     */
+    List<Map<String, BatchingExecutionContext<RequestT, ResponseT>>> add(BatchingExecutionContext<RequestT, ResponseT> context) {
+        synchronized (flushLock) {
+            List<Map<String, BatchingExecutionContext<RequestT, ResponseT>>> batches = new ArrayList<>(2);
+            if (!idToBatchContext.isEmpty() && exceedsLimits(bufferedItems + context.entryCount(),
+                                                              bufferedBytes + context.payloadSize())) {
+                batches.add(extractEntries());
+            }
+
+            if (nextId == Integer.MAX_VALUE) {
+                nextId = 0;
+            }
+            idToBatchContext.put(Integer.toString(nextId++), context);
+            bufferedItems += context.entryCount();
+            bufferedBytes += context.payloadSize();
+
+            if (bufferedItems >= maxBatchItems || (maxBatchBytesSize > 0 && bufferedBytes >= maxBatchBytesSize)) {
+                batches.add(extractEntries());
+            }
+            return batches;
+        }
+    }
+
+    /**
+     * Takes all the buffered requests.
+     */
+    Map<String, BatchingExecutionContext<RequestT, ResponseT>> flush() {
+        synchronized (flushLock) {
+            if (idToBatchContext.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            return extractEntries();
+        }
+    }
+
+    private boolean exceedsLimits(int items, int bytes) {
+        return items > maxBatchItems || (maxBatchBytesSize > 0 && bytes > maxBatchBytesSize);
+    }
+
+    private Map<String, BatchingExecutionContext<RequestT, ResponseT>> extractEntries() {
+        Map<String, BatchingExecutionContext<RequestT, ResponseT>> entries = new LinkedHashMap<>(idToBatchContext);
+        idToBatchContext.clear();
+        bufferedItems = 0;
+        bufferedBytes = 0;
+        return entries;
+    }
+
+    void putScheduledFlush(ScheduledFuture<?> scheduledFlush) {
+        synchronized (scheduleLock) {
+            this.scheduledFlush = scheduledFlush;
+        }
+    }
+
+    /**
+     * Cancels the scheduled flush and replaces it with a new one, so that the next scheduled flush happens a full send
+     * request frequency after a batch was sent. Does nothing once the scheduled flush has been cancelled for good.
+     */
+    void resetScheduledFlush(Supplier<ScheduledFuture<?>> newScheduledFlush) {
+        synchronized (scheduleLock) {
+            if (closed) {
+                return;
+            }
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+            }
+            scheduledFlush = newScheduledFlush.get();
+        }
+    }
+
+    void cancelScheduledFlush() {
+        synchronized (scheduleLock) {
+            closed = true;
+            if (scheduledFlush != null) {
+                scheduledFlush.cancel(false);
+            }
+        }
+    }
+}
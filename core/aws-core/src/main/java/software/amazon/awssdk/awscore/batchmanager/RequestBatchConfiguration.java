@@ -13,80 +13,90 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.services.sqs.internal.batchmanager;
+package software.amazon.awssdk.awscore.batchmanager;
 
 import java.time.Duration;
-import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.utils.Validate;
 
-@SdkInternalApi
+/**
+ * The limits a {@link RequestBatchManager} applies to its batches. The number of items and the size in bytes of a batch
+ * default to the limits of the batch operation, and the number of items can only be lowered by the batch override
+ * configuration of the service.
+ */
+@SdkProtectedApi
 public final class RequestBatchConfiguration {
 
     public static final int DEFAULT_MAX_BATCH_ITEMS = 10;
     public static final int DEFAULT_MAX_BATCH_BYTES_SIZE = -1;
     public static final int DEFAULT_MAX_BATCH_KEYS = 10000;
-    public static final int DEFAULT_MAX_BUFFER_SIZE = 500;
     public static final Duration DEFAULT_MAX_BATCH_OPEN_IN_MS = Duration.ofMillis(200);
 
-    private final Integer maxBatchItems;
-    private final Integer maxBatchKeys;
-    private final Integer maxBufferSize;
+    private final int maxBatchItems;
+    private final int maxBatchBytesSize;
+    private final int maxBatchKeys;
     private final Duration sendRequestFrequency;
-    private final Integer maxBatchBytesSize;
 
     private RequestBatchConfiguration(Builder builder) {
-
         this.maxBatchItems = builder.maxBatchItems != null ? builder.maxBatchItems : DEFAULT_MAX_BATCH_ITEMS;
-        this.maxBatchKeys = builder.maxBatchKeys != null ? builder.maxBatchKeys : DEFAULT_MAX_BATCH_KEYS;
-        this.maxBufferSize = builder.maxBufferSize != null ? builder.maxBufferSize : DEFAULT_MAX_BUFFER_SIZE;
-        this.sendRequestFrequency = builder.sendRequestFrequency != null ?
-                                                  builder.sendRequestFrequency :
-                                         DEFAULT_MAX_BATCH_OPEN_IN_MS;
         this.maxBatchBytesSize = builder.maxBatchBytesSize != null ? builder.maxBatchBytesSize : DEFAULT_MAX_BATCH_BYTES_SIZE;
-
+        this.maxBatchKeys = builder.maxBatchKeys != null ? builder.maxBatchKeys : DEFAULT_MAX_BATCH_KEYS;
+        this.sendRequestFrequency = builder.sendRequestFrequency != null ? builder.sendRequestFrequency
+                                                                         : DEFAULT_MAX_BATCH_OPEN_IN_MS;
+        Validate.isPositive(maxBatchItems, "maxBatchItems");
+        Validate.isPositive(maxBatchKeys, "maxBatchKeys");
     }
 
     public static Builder builder() {
         return new Builder();
     }
 
-    public static Builder builder(BatchOverrideConfiguration configuration) {
-        if (configuration != null) {
-            return new Builder()
-                .maxBatchItems(configuration.maxBatchSize())
-                .sendRequestFrequency(configuration.sendRequestFrequency())
-                .maxBatchBytesSize(configuration.maxBatchSize());
-        }
-        return new Builder();
+    /**
+     * Creates the configuration of a batch operation accepting up to {@code operationMaxBatchItems} entries and
+     * {@code operationMaxBatchBytesSize} bytes, applying the values of the user's batch override configuration.
+     *
+     * @param maxBatchSize The maximum batch size configured by the user, or null to use the limit of the operation
+     * @param sendRequestFrequency The send request frequency configured by the user, or null to use the default
+     */
+    public static RequestBatchConfiguration create(Integer maxBatchSize,
+                                                   Duration sendRequestFrequency,
+                                                   int operationMaxBatchItems,
+                                                   int operationMaxBatchBytesSize) {
+        int maxBatchItems = maxBatchSize != null ? Math.min(maxBatchSize, operationMaxBatchItems) : operationMaxBatchItems;
+        return builder().maxBatchItems(maxBatchItems)
+                        .maxBatchBytesSize(operationMaxBatchBytesSize)
+                        .sendRequestFrequency(sendRequestFrequency)
+                        .build();
     }
 
     public Duration sendRequestFrequency() {
         return sendRequestFrequency;
     }
 
+    /**
+     * @return The maximum number of items of a batch, where a request weighs the number of entries it adds to the batch.
+     */
     public int maxBatchItems() {
         return maxBatchItems;
     }
 
-    public int maxBatchKeys() {
-        return maxBatchKeys;
-    }
-
-    public int maxBufferSize() {
-        return maxBufferSize;
-    }
-
+    /**
+     * @return The maximum size in bytes of the payload of a batch, or a negative value when the size is not limited.
+     */
     public int maxBatchBytesSize() {
         return maxBatchBytesSize;
     }
 
+    public int maxBatchKeys() {
+        return maxBatchKeys;
+    }
+
     public static final class Builder {
 
         private Integer maxBatchItems;
+        private Integer maxBatchBytesSize;
         private Integer maxBatchKeys;
-        private Integer maxBufferSize;
         private Duration sendRequestFrequency;
-        private Integer maxBatchBytesSize;
 
         private Builder() {
         }
@@ -96,13 +106,13 @@ public final class RequestBatchConfiguration {
             return this;
         }
 
-        public Builder maxBatchKeys(Integer maxBatchKeys) {
-            this.maxBatchKeys = maxBatchKeys;
+        public Builder maxBatchBytesSize(Integer maxBatchBytesSize) {
+            this.maxBatchBytesSize = maxBatchBytesSize;
             return this;
         }
 
-        public Builder maxBufferSize(Integer maxBufferSize) {
-            this.maxBufferSize = maxBufferSize;
+        public Builder maxBatchKeys(Integer maxBatchKeys) {
+            this.maxBatchKeys = maxBatchKeys;
             return this;
         }
 
@@ -111,14 +121,8 @@ public final class RequestBatchConfiguration {
             return this;
         }
 
-        public Builder maxBatchBytesSize(Integer maxBatchBytesSize) {
-            this.maxBatchBytesSize = maxBatchBytesSize;
-            return this;
-        }
-
         public RequestBatchConfiguration build() {
             return new RequestBatchConfiguration(this);
         }
     }
-
 }
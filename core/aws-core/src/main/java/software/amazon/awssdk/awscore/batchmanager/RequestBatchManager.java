@@ -0,0 +1,324 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.batchmanager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Buffers requests per batch key and sends them together in batch requests, when a batch reaches the limits of the batch
+ * operation or at the send request frequency. Sending a batch that reached the limits restarts the send request frequency
+ * of its batch key. Subclasses create the batch request of an operation and map its response back
+ * to the responses of the buffered requests.
+ *
+ * @param <RequestT> The type of a buffered request
+ * @param <ResponseT> The type of the response of a buffered request
+ * @param <BatchResponseT> The type of the response of a batch request
+ */
+@SdkProtectedApi
+public abstract class RequestBatchManager<RequestT, ResponseT, BatchResponseT> {
+
+    // abm stands for Automatic Batching Manager
+    public static final Consumer<AwsRequestOverrideConfiguration.Builder> USER_AGENT_APPLIER =
+        b -> b.addApiName(ApiName.builder().version("abm").name("hll").build());
+
+    private static final int SCALAR_PAYLOAD_SIZE = 8;
+
+    protected final RequestBatchConfiguration batchConfiguration;
+
+    private final ScheduledExecutorService scheduledExecutor;
+    private final Map<String, RequestBatchBuffer<RequestT, ResponseT>> buffers;
+    private final Set<CompletableFuture<BatchResponseT>> pendingBatchResponses;
+    private final Set<CompletableFuture<ResponseT>> pendingResponses;
+
+    protected RequestBatchManager(RequestBatchConfiguration batchConfiguration,
+                                  ScheduledExecutorService scheduledExecutor) {
+        this.batchConfiguration = Validate.notNull(batchConfiguration, "Null batchConfiguration");
+        this.scheduledExecutor = Validate.notNull(scheduledExecutor, "Null scheduledExecutor");
+        this.buffers = new ConcurrentHashMap<>();
+        this.pendingBatchResponses = ConcurrentHashMap.newKeySet();
+        this.pendingResponses = ConcurrentHashMap.newKeySet();
+    }
+
+    public CompletableFuture<ResponseT> batchRequest(RequestT request) {
+        CompletableFuture<ResponseT> response = new CompletableFuture<>();
+        pendingResponses.add(response);
+        response.whenComplete((r, t) -> pendingResponses.remove(response));
+
+        try {
+            if (!isBatchable(request)) {
+                CompletableFutureUtils.forwardResultTo(sendDirectly(request), response);
+                return response;
+            }
+
+            String batchKey = getBatchKey(request);
+            BatchingExecutionContext<RequestT, ResponseT> context =
+                new BatchingExecutionContext<>(request, response, entryCount(request), payloadSize(request));
+            RequestBatchBuffer<RequestT, ResponseT> buffer = buffers.computeIfAbsent(batchKey, this::createBuffer);
+            List<Map<String, BatchingExecutionContext<RequestT, ResponseT>>> batches = buffer.add(context);
+            if (!batches.isEmpty()) {
+                buffer.resetScheduledFlush(() -> scheduleFlush(batchKey, buffer));
+                batches.forEach(batch -> flushBuffer(batchKey, batch));
+            }
+        } catch (Exception e) {
+            response.completeExceptionally(e);
+        }
+
+        return response;
+    }
+
+    protected abstract CompletableFuture<BatchResponseT> batchAndSend(List<IdentifiableMessage<RequestT>> identifiedRequests,
+                                                                      String batchKey);
+
+    protected abstract String getBatchKey(RequestT request);
+
+    /**
+     * Maps the response of a batch request to the responses of the requests it was created from. A request without a
+     * response in the returned list is completed with an {@link SdkClientException}.
+     */
+    protected abstract List<Either<IdentifiableMessage<ResponseT>,
+        IdentifiableMessage<Throwable>>> mapBatchResponse(List<IdentifiableMessage<RequestT>> identifiedRequests,
+                                                          BatchResponseT batchResponse);
+
+    /**
+     * @return Whether the request can be added to a batch. A request that cannot is sent by {@link #sendDirectly(Object)}.
+     */
+    protected boolean isBatchable(RequestT request) {
+        return true;
+    }
+
+    protected CompletableFuture<ResponseT> sendDirectly(RequestT request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @return The number of entries the request adds to a batch request, counted against the maximum batch items.
+     */
+    protected int entryCount(RequestT request) {
+        return 1;
+    }
+
+    /**
+     * @return The estimated number of bytes the request adds to a batch request, counted against the maximum batch bytes
+     * size. By default, the sizes of the string, binary and scalar members of the request are added up.
+     */
+    protected int payloadSize(RequestT request) {
+        if (batchConfiguration.maxBatchBytesSize() <= 0 || !(request instanceof SdkPojo)) {
+            return 0;
+        }
+        return estimatePayloadSize(request);
+    }
+
+    private RequestBatchBuffer<RequestT, ResponseT> createBuffer(String batchKey) {
+        if (buffers.size() == batchConfiguration.maxBatchKeys()) {
+            throw new IllegalStateException("Reached MaxBatchKeys of: " + batchConfiguration.maxBatchKeys());
+        }
+        RequestBatchBuffer<RequestT, ResponseT> buffer = new RequestBatchBuffer<>(batchConfiguration.maxBatchItems(),
+                                                                                  batchConfiguration.maxBatchBytesSize());
+        buffer.putScheduledFlush(scheduleFlush(batchKey, buffer));
+        return buffer;
+    }
+
+    private ScheduledFuture<?> scheduleFlush(String batchKey, RequestBatchBuffer<RequestT, ResponseT> buffer) {
+        long sendRequestFrequency = batchConfiguration.sendRequestFrequency().toMillis();
+        return scheduledExecutor.scheduleAtFixedRate(() -> flushBuffer(batchKey, buffer.flush()),
+                                                     sendRequestFrequency, sendRequestFrequency, TimeUnit.MILLISECONDS);
+    }
+
+    private void flushBuffer(String batchKey, Map<String, BatchingExecutionContext<RequestT, ResponseT>> flushableRequests) {
+        if (flushableRequests.isEmpty()) {
+            return;
+        }
+        List<IdentifiableMessage<RequestT>> requestEntries = new ArrayList<>(flushableRequests.size());
+        flushableRequests.forEach((contextId, batchExecutionContext) ->
+                                      requestEntries.add(new IdentifiableMessage<>(contextId, batchExecutionContext.request())));
+
+        CompletableFuture<BatchResponseT> batchResponse;
+        try {
+            batchResponse = batchAndSend(requestEntries, batchKey);
+        } catch (Exception e) {
+            batchResponse = CompletableFutureUtils.failedFuture(e);
+        }
+
+        CompletableFuture<BatchResponseT> pendingBatchResponse = batchResponse;
+        pendingBatchResponses.add(pendingBatchResponse);
+        pendingBatchResponse.whenComplete((result, ex) -> {
+            handleAndCompleteResponses(requestEntries, result, ex, flushableRequests);
+            pendingBatchResponses.remove(pendingBatchResponse);
+        });
+    }
+
+    private void handleAndCompleteResponses(List<IdentifiableMessage<RequestT>> requestEntries,
+                                            BatchResponseT batchResult, Throwable exception,
+                                            Map<String, BatchingExecutionContext<RequestT, ResponseT>> requests) {
+        if (exception != null) {
+            requests.values().forEach(context -> context.response().completeExceptionally(exception));
+            return;
+        }
+
+        try {
+            mapBatchResponse(requestEntries, batchResult).forEach(
+                response -> response.apply(actualResponse -> complete(requests, actualResponse.id(),
+                                                                      r -> r.complete(actualResponse.message())),
+                                           throwable -> complete(requests, throwable.id(),
+                                                                 r -> r.completeExceptionally(throwable.message()))));
+        } catch (Exception e) {
+            requests.values().forEach(context -> context.response().completeExceptionally(e));
+            return;
+        }
+
+        requests.forEach((id, context) -> context.response().completeExceptionally(
+            SdkClientException.create("The batch response did not contain a result for the batch entry " + id + ".")));
+    }
+
+    private static <ResponseT> void complete(Map<String, ? extends BatchingExecutionContext<?, ResponseT>> requests,
+                                             String id,
+                                             Consumer<CompletableFuture<ResponseT>> completion) {
+        BatchingExecutionContext<?, ResponseT> context = requests.get(id);
+        if (context != null) {
+            completion.accept(context.response());
+        }
+    }
+
+    /**
+     * Sends the buffered requests of every batch key, without waiting for their batches to be full or for the send request
+     * frequency to elapse.
+     */
+    public void flush() {
+        buffers.forEach((batchKey, buffer) -> flushBuffer(batchKey, buffer.flush()));
+    }
+
+    public void close() {
+        buffers.forEach((batchKey, buffer) -> {
+            buffer.cancelScheduledFlush();
+            flushBuffer(batchKey, buffer.flush());
+        });
+        pendingBatchResponses.forEach(future -> future.cancel(true));
+        pendingResponses.forEach(future -> future.cancel(true));
+        buffers.clear();
+    }
+
+    /**
+     * Creates a batch key from the values of the request members that must be the same for all the requests of a batch, and
+     * from its override configuration.
+     */
+    protected static String batchKey(Optional<AwsRequestOverrideConfiguration> overrideConfiguration, Object... values) {
+        StringBuilder batchKey = new StringBuilder();
+        for (Object value : values) {
+            batchKey.append(value).append('\n');
+        }
+        overrideConfiguration.ifPresent(overrideConfig -> batchKey.append(overrideConfig.hashCode()));
+        return batchKey.toString();
+    }
+
+    /**
+     * @return The override configuration of a batch request created from requests with the given override configuration.
+     */
+    protected static AwsRequestOverrideConfiguration batchOverrideConfiguration(
+        Optional<AwsRequestOverrideConfiguration> overrideConfiguration) {
+        return overrideConfiguration.map(AwsRequestOverrideConfiguration::toBuilder)
+                                    .orElseGet(AwsRequestOverrideConfiguration::builder)
+                                    .applyMutation(USER_AGENT_APPLIER)
+                                    .build();
+    }
+
+    /**
+     * Copies the response metadata and the HTTP response of a batch response to the response of one of its requests.
+     */
+    protected static <BuilderT extends AwsResponse.Builder> BuilderT withBatchResponseMetadata(BuilderT builder,
+                                                                                            AwsResponse batchResponse) {
+        if (batchResponse.responseMetadata() != null) {
+            builder.responseMetadata(batchResponse.responseMetadata());
+        }
+        if (batchResponse.sdkHttpResponse() != null) {
+            builder.sdkHttpResponse(batchResponse.sdkHttpResponse());
+        }
+        return builder;
+    }
+
+    private static int estimatePayloadSize(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return utf8Length((String) value);
+        }
+        if (value instanceof SdkBytes) {
+            return ((SdkBytes) value).asByteBuffer().remaining();
+        }
+        if (value instanceof SdkPojo) {
+            int size = 0;
+            for (SdkField<?> field : ((SdkPojo) value).sdkFields()) {
+                size += estimatePayloadSize(field.getValueOrDefault(value));
+            }
+            return size;
+        }
+        if (value instanceof Collection) {
+            int size = 0;
+            for (Object element : (Collection<?>) value) {
+                size += estimatePayloadSize(element);
+            }
+            return size;
+        }
+        if (value instanceof Map) {
+            int size = 0;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                size += estimatePayloadSize(entry.getKey()) + estimatePayloadSize(entry.getValue());
+            }
+            return size;
+        }
+        return SCALAR_PAYLOAD_SIZE;
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
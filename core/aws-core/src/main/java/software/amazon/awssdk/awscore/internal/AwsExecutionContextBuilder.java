@@ -52,6 +52,7 @@ import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute;
 import software.amazon.awssdk.core.internal.util.HttpChecksumResolver;
+import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.signer.Signer;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.core.useragent.AdditionalMetadata;
@@ -81,7 +82,7 @@ public final class AwsExecutionContextBuilder {
         // Don't edit this without considering those
 
         SdkRequest originalRequest = executionParams.getInput();
-        MetricCollector metricCollector = resolveMetricCollector(executionParams);
+        MetricCollector metricCollector = resolveMetricCollector(executionParams, clientConfig);
 
         ExecutionAttributes executionAttributes = mergeExecutionAttributeOverrides(
             executionParams.executionAttributes(),
@@ -329,10 +330,11 @@ public final class AwsExecutionContextBuilder {
         return executionAttributes;
     }
 
-    private static MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params) {
+    private static MetricCollector resolveMetricCollector(ClientExecutionParams<?, ?> params,
+                                                          SdkClientConfiguration clientConfig) {
         MetricCollector metricCollector = params.getMetricCollector();
         if (metricCollector == null) {
-            metricCollector = MetricCollector.create("ApiCall");
+            metricCollector = MetricUtils.createApiCallMetricCollector(clientConfig);
         }
         return metricCollector;
     }
@@ -13,14 +13,11 @@
  * permissions and limitations under the License.
  */
 
-package software.amazon.awssdk.services.sqs.batchmanager;
-
-
+package software.amazon.awssdk.awscore.batchmanager;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.Assert;
 import org.junit.jupiter.api.Test;
-import software.amazon.awssdk.services.sqs.internal.batchmanager.IdentifiableMessage;
 
 public class IdentifiableMessageTest {
 
@@ -0,0 +1,234 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RequestBatchBufferTest {
+
+    private static final int MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES = 262_144;
+
+    private RequestBatchBuffer<String, String> batchBuffer;
+    private ScheduledFuture<?> scheduledFlush;
+
+    @BeforeEach
+    void setUp() {
+        scheduledFlush = mock(ScheduledFuture.class);
+    }
+
+    @Test
+    void whenAddRequestThenBufferContainsRequest() {
+        batchBuffer = new RequestBatchBuffer<>(10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        assertThat(batchBuffer.add(context("request1", response))).isEmpty();
+
+        Map<String, BatchingExecutionContext<String, String>> flushedRequests = batchBuffer.flush();
+        assertThat(flushedRequests).hasSize(1);
+        assertThat(flushedRequests.get("0").response()).isSameAs(response);
+    }
+
+    @Test
+    void whenAddReachesMaxBatchItemsThenReturnBatch() {
+        batchBuffer = new RequestBatchBuffer<>(1, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+
+        List<Map<String, BatchingExecutionContext<String, String>>> batches = batchBuffer.add(context("request1"));
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsOnlyKeys("0");
+        assertThat(batchBuffer.flush()).isEmpty();
+    }
+
+    @Test
+    void whenFlushThenReturnAllRequests() {
+        batchBuffer = new RequestBatchBuffer<>(10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        batchBuffer.add(context("request1"));
+        batchBuffer.add(context("request2"));
+
+        Map<String, BatchingExecutionContext<String, String>> flushedRequests = batchBuffer.flush();
+
+        assertThat(flushedRequests).containsOnlyKeys("0", "1");
+    }
+
+    @Test
+    void whenAddingPastMaxBatchItemsThenBufferNeverHoldsMoreThanOneBatch() {
+        batchBuffer = new RequestBatchBuffer<>(3, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        int sentRequests = 0;
+        for (int i = 0; i < 10; i++) {
+            for (Map<String, BatchingExecutionContext<String, String>> batch : batchBuffer.add(context("request" + i))) {
+                assertThat(batch).hasSize(3);
+                sentRequests += batch.size();
+            }
+        }
+
+        assertThat(sentRequests).isEqualTo(9);
+        assertThat(batchBuffer.flush()).hasSize(1);
+    }
+
+    @Test
+    void whenPutScheduledFlushThenCancelScheduledFlushCancelsIt() {
+        batchBuffer = new RequestBatchBuffer<>(10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        batchBuffer.putScheduledFlush(scheduledFlush);
+
+        batchBuffer.cancelScheduledFlush();
+
+        verify(scheduledFlush).cancel(false);
+    }
+
+    @Test
+    void whenCancelScheduledFlushWithoutScheduledFlushThenNothingHappens() {
+        batchBuffer = new RequestBatchBuffer<>(10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+
+        batchBuffer.cancelScheduledFlush();
+    }
+
+    @Test
+    void whenResetScheduledFlushThenPreviousFlushIsCancelledAndReplaced() {
+        batchBuffer = new RequestBatchBuffer<>(10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        ScheduledFuture<?> newScheduledFlush = mock(ScheduledFuture.class);
+        batchBuffer.putScheduledFlush(scheduledFlush);
+
+        batchBuffer.resetScheduledFlush(() -> newScheduledFlush);
+        verify(scheduledFlush).cancel(false);
+
+        batchBuffer.cancelScheduledFlush();
+        verify(newScheduledFlush).cancel(false);
+    }
+
+    @Test
+    void whenResetScheduledFlushAfterCancelThenNoFlushIsScheduled() {
+        batchBuffer = new RequestBatchBuffer<>(10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        batchBuffer.putScheduledFlush(scheduledFlush);
+        batchBuffer.cancelScheduledFlush();
+
+        batchBuffer.resetScheduledFlush(() -> {
+            throw new AssertionError("No flush should be scheduled once the scheduled flush is cancelled");
+        });
+
+        verify(scheduledFlush).cancel(false);
+    }
+
+    @Test
+    void whenFlushThenBufferIsEmpty() {
+        batchBuffer = new RequestBatchBuffer<>(10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        batchBuffer.add(context("request1"));
+
+        batchBuffer.flush();
+
+        assertThat(batchBuffer.flush()).isEmpty();
+    }
+
+    @Test
+    void whenBatchFullThenReturnAllEntriesInOrder() {
+        batchBuffer = new RequestBatchBuffer<>(5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        List<Map<String, BatchingExecutionContext<String, String>>> batches = null;
+        for (int i = 0; i < 5; i++) {
+            batches = batchBuffer.add(context("request" + i));
+        }
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsOnlyKeys("0", "1", "2", "3", "4");
+        assertThat(batches.get(0).values()).extracting(BatchingExecutionContext::request)
+                                           .containsExactly("request0", "request1", "request2", "request3", "request4");
+    }
+
+    @Test
+    void whenRequestsAreBufferedThenIdsKeepIncreasingAcrossBatches() {
+        batchBuffer = new RequestBatchBuffer<>(1, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+
+        assertThat(batchBuffer.add(context("request1")).get(0)).containsOnlyKeys("0");
+        assertThat(batchBuffer.add(context("request2")).get(0)).containsOnlyKeys("1");
+    }
+
+    @Test
+    void whenRequestWithFewBytesIsAddedThenBufferedRequestsAreNotFlushed() {
+        batchBuffer = new RequestBatchBuffer<>(10, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        for (int i = 0; i < 5; i++) {
+            assertThat(batchBuffer.add(context("request" + i, 0))).isEmpty();
+        }
+
+        assertThat(batchBuffer.add(context("Hi", 2))).isEmpty();
+        assertThat(batchBuffer.flush()).hasSize(6);
+    }
+
+    @Test
+    void whenPayloadWouldExceedMaxSizeThenBufferedRequestIsFlushedFirst() {
+        batchBuffer = new RequestBatchBuffer<>(5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        batchBuffer.add(context("large", 245_760));
+
+        List<Map<String, BatchingExecutionContext<String, String>>> batches = batchBuffer.add(context("NewMessage", 20_000));
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0).values()).extracting(BatchingExecutionContext::request).containsExactly("large");
+        assertThat(batchBuffer.flush().values()).extracting(BatchingExecutionContext::request).containsExactly("NewMessage");
+    }
+
+    @Test
+    void whenCumulativePayloadWouldExceedMaxSizeThenAllBufferedRequestsAreFlushed() {
+        batchBuffer = new RequestBatchBuffer<>(5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        batchBuffer.add(context("large1", 130_000));
+        batchBuffer.add(context("large2", 130_000));
+
+        List<Map<String, BatchingExecutionContext<String, String>>> batches = batchBuffer.add(context("NewMessage", 10_000));
+
+        // Flushes both the requests since their sum with the new request is greater than 256 KiB
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(2);
+    }
+
+    @Test
+    void whenPayloadReachesMaxSizeThenBatchIncludingRequestIsReturned() {
+        batchBuffer = new RequestBatchBuffer<>(5, MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES);
+        batchBuffer.add(context("small", 10));
+
+        List<Map<String, BatchingExecutionContext<String, String>>> batches =
+            batchBuffer.add(context("large", MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES - 10));
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).hasSize(2);
+        assertThat(batchBuffer.flush()).isEmpty();
+    }
+
+    @Test
+    void whenMaxBatchBytesSizeNotSetThenPayloadSizeIsIgnored() {
+        batchBuffer = new RequestBatchBuffer<>(5, -1);
+        batchBuffer.add(context("large1", 200_000));
+
+        assertThat(batchBuffer.add(context("large2", 200_000))).isEmpty();
+        assertThat(batchBuffer.flush()).hasSize(2);
+    }
+
+    private static BatchingExecutionContext<String, String> context(String request) {
+        return context(request, new CompletableFuture<>());
+    }
+
+    private static BatchingExecutionContext<String, String> context(String request, CompletableFuture<String> response) {
+        return new BatchingExecutionContext<>(request, response, 1, 0);
+    }
+
+    private static BatchingExecutionContext<String, String> context(String request, int payloadSize) {
+        return new BatchingExecutionContext<>(request, new CompletableFuture<>(), 1, payloadSize);
+    }
+}
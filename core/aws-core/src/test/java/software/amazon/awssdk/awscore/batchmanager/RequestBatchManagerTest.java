@@ -0,0 +1,319 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.awscore.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Either;
+
+class RequestBatchManagerTest {
+
+    private ScheduledExecutorService scheduledExecutor;
+
+    @BeforeEach
+    void setUp() {
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void batchRequest_batchFull_sendsBatchImmediately() {
+        TestBatchManager batchManager = new TestBatchManager(configuration(2, -1, Duration.ofHours(1)));
+
+        CompletableFuture<String> first = batchManager.batchRequest("a");
+        CompletableFuture<String> second = batchManager.batchRequest("b");
+
+        assertThat(first.join()).isEqualTo("A");
+        assertThat(second.join()).isEqualTo("B");
+        assertThat(batchManager.batches).containsExactly(listOf("a", "b"));
+    }
+
+    @Test
+    void batchRequest_batchFull_restartsScheduledFlush() {
+        ScheduledFuture<?> firstScheduledFlush = mock(ScheduledFuture.class);
+        ScheduledFuture<?> secondScheduledFlush = mock(ScheduledFuture.class);
+        scheduledExecutor.shutdownNow();
+        scheduledExecutor = mock(ScheduledExecutorService.class);
+        doReturn(firstScheduledFlush, secondScheduledFlush)
+            .when(scheduledExecutor).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        TestBatchManager batchManager = new TestBatchManager(configuration(2, -1, Duration.ofHours(1)));
+
+        batchManager.batchRequest("a");
+        verify(firstScheduledFlush, never()).cancel(anyBoolean());
+
+        batchManager.batchRequest("b");
+        verify(firstScheduledFlush).cancel(false);
+        verify(scheduledExecutor, times(2)).scheduleAtFixedRate(any(), eq(3_600_000L), eq(3_600_000L),
+                                                                eq(TimeUnit.MILLISECONDS));
+
+        batchManager.close();
+        verify(secondScheduledFlush).cancel(false);
+    }
+
+    @Test
+    void batchRequest_batchNotFull_sentAtSendRequestFrequency() {
+        TestBatchManager batchManager = new TestBatchManager(configuration(10, -1, Duration.ofMillis(10)));
+
+        CompletableFuture<String> response = batchManager.batchRequest("a");
+
+        assertThat(response.join()).isEqualTo("A");
+        assertThat(batchManager.batches).containsExactly(listOf("a"));
+    }
+
+    @Test
+    void batchRequest_entriesWouldExceedMaxBatchItems_sendsBufferedRequestsFirst() {
+        TestBatchManager batchManager = new TestBatchManager(configuration(5, -1, Duration.ofHours(1)));
+
+        // The number of entries of a request is the number of characters of its value.
+        batchManager.batchRequest("aa");
+        batchManager.batchRequest("bb");
+        batchManager.batchRequest("ccc");
+        batchManager.close();
+
+        assertThat(batchManager.batches).containsExactly(listOf("aa", "bb"), listOf("ccc"));
+    }
+
+    @Test
+    void batchRequest_payloadWouldExceedMaxBatchBytesSize_sendsBufferedRequestsFirst() {
+        TestBatchManager batchManager = new TestBatchManager(configuration(10, 15, Duration.ofHours(1)));
+        batchManager.payloadSize = 10;
+
+        batchManager.batchRequest("a");
+        batchManager.batchRequest("b");
+        batchManager.close();
+
+        assertThat(batchManager.batches).containsExactly(listOf("a"), listOf("b"));
+    }
+
+    @Test
+    void batchRequest_notBatchable_sendsRequestDirectly() {
+        TestBatchManager batchManager = new TestBatchManager(configuration(10, -1, Duration.ofHours(1)));
+
+        CompletableFuture<String> response = batchManager.batchRequest("direct");
+
+        assertThat(response.join()).isEqualTo("sent directly");
+        assertThat(batchManager.batches).isEmpty();
+    }
+
+    @Test
+    void batchRequest_batchRequestFails_completesAllResponsesExceptionally() {
+        TestBatchManager batchManager = new TestBatchManager(configuration(2, -1, Duration.ofHours(1)));
+        batchManager.batchFailure = new IllegalStateException("failed");
+
+        CompletableFuture<String> first = batchManager.batchRequest("a");
+        CompletableFuture<String> second = batchManager.batchRequest("b");
+
+        assertThatThrownBy(first::join).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void batchRequest_failedEntry_completesItsResponseExceptionally() {
+        TestBatchManager batchManager = new TestBatchManager(configuration(2, -1, Duration.ofHours(1)));
+
+        CompletableFuture<String> first = batchManager.batchRequest("a");
+        CompletableFuture<String> failed = batchManager.batchRequest("fail");
+
+        assertThat(first.join()).isEqualTo("A");
+        assertThatThrownBy(failed::join).isInstanceOf(CompletionException.class)
+                                        .hasMessageContaining("entry failed");
+    }
+
+    @Test
+    void batchRequest_entryMissingFromBatchResponse_completesItsResponseWithClientException() {
+        TestBatchManager batchManager = new TestBatchManager(configuration(2, -1, Duration.ofHours(1)));
+
+        CompletableFuture<String> first = batchManager.batchRequest("a");
+        CompletableFuture<String> missing = batchManager.batchRequest("missing");
+
+        assertThat(first.join()).isEqualTo("A");
+        assertThatThrownBy(missing::join).hasCauseInstanceOf(SdkClientException.class);
+    }
+
+    @Test
+    void batchRequest_maxBatchKeysReached_completesResponseExceptionally() {
+        RequestBatchConfiguration configuration = RequestBatchConfiguration.builder()
+                                                                           .maxBatchKeys(1)
+                                                                           .sendRequestFrequency(Duration.ofHours(1))
+                                                                           .build();
+        TestBatchManager batchManager = new TestBatchManager(configuration);
+
+        batchManager.batchRequest("a");
+        CompletableFuture<String> response = batchManager.batchRequest("key:b");
+
+        assertThatThrownBy(response::join).hasCauseInstanceOf(IllegalStateException.class)
+                                          .hasMessageContaining("MaxBatchKeys");
+    }
+
+    @Test
+    void flush_sendsBufferedRequestsOfEveryBatchKey() {
+        TestBatchManager batchManager = new TestBatchManager(configuration(10, -1, Duration.ofHours(1)));
+
+        CompletableFuture<String> first = batchManager.batchRequest("a");
+        CompletableFuture<String> second = batchManager.batchRequest("key:b");
+        batchManager.flush();
+
+        assertThat(batchManager.batches).containsExactlyInAnyOrder(listOf("a"), listOf("key:b"));
+        assertThat(first).isCompletedWithValue("A");
+        assertThat(second).isCompletedWithValue("KEY:B");
+    }
+
+    @Test
+    void close_sendsBufferedRequests() {
+        TestBatchManager batchManager = new TestBatchManager(configuration(10, -1, Duration.ofHours(1)));
+
+        CompletableFuture<String> response = batchManager.batchRequest("a");
+        batchManager.close();
+
+        assertThat(batchManager.batches).containsExactly(listOf("a"));
+        assertThat(response).isCompletedWithValue("A");
+    }
+
+    @Test
+    void create_maxBatchSizeGreaterThanOperationLimit_usesOperationLimit() {
+        RequestBatchConfiguration configuration = RequestBatchConfiguration.create(50, Duration.ofSeconds(1), 10, 1024);
+
+        assertThat(configuration.maxBatchItems()).isEqualTo(10);
+        assertThat(configuration.maxBatchBytesSize()).isEqualTo(1024);
+        assertThat(configuration.sendRequestFrequency()).isEqualTo(Duration.ofSeconds(1));
+        assertThat(RequestBatchConfiguration.create(5, Duration.ofSeconds(1), 10, 1024).maxBatchItems()).isEqualTo(5);
+    }
+
+    @Test
+    void create_noOverrides_usesOperationLimitsAndDefaultFrequency() {
+        RequestBatchConfiguration configuration = RequestBatchConfiguration.create(null, null, 10, 1024);
+
+        assertThat(configuration.maxBatchItems()).isEqualTo(10);
+        assertThat(configuration.maxBatchBytesSize()).isEqualTo(1024);
+        assertThat(configuration.sendRequestFrequency()).isEqualTo(RequestBatchConfiguration.DEFAULT_MAX_BATCH_OPEN_IN_MS);
+    }
+
+    @Test
+    void batchKey_differentOverrideConfigurations_differentBatchKeys() {
+        AwsRequestOverrideConfiguration overrideConfiguration =
+            AwsRequestOverrideConfiguration.builder().putHeader("header", "value").build();
+
+        assertThat(RequestBatchManager.batchKey(Optional.empty(), "topic"))
+            .isEqualTo(RequestBatchManager.batchKey(Optional.empty(), "topic"))
+            .isNotEqualTo(RequestBatchManager.batchKey(Optional.of(overrideConfiguration), "topic"))
+            .isNotEqualTo(RequestBatchManager.batchKey(Optional.empty(), "other"));
+    }
+
+    private static RequestBatchConfiguration configuration(int maxBatchItems, int maxBatchBytesSize, Duration frequency) {
+        return RequestBatchConfiguration.builder()
+                                        .maxBatchItems(maxBatchItems)
+                                        .maxBatchBytesSize(maxBatchBytesSize)
+                                        .sendRequestFrequency(frequency)
+                                        .build();
+    }
+
+    private static List<String> listOf(String... values) {
+        return Arrays.asList(values);
+    }
+
+    private final class TestBatchManager extends RequestBatchManager<String, String, List<String>> {
+        private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+        private RuntimeException batchFailure;
+        private int payloadSize;
+
+        private TestBatchManager(RequestBatchConfiguration configuration) {
+            super(configuration, scheduledExecutor);
+        }
+
+        @Override
+        protected CompletableFuture<List<String>> batchAndSend(List<IdentifiableMessage<String>> identifiedRequests,
+                                                               String batchKey) {
+            List<String> batch = identifiedRequests.stream().map(IdentifiableMessage::message).collect(Collectors.toList());
+            batches.add(batch);
+            if (batchFailure != null) {
+                return CompletableFutureUtils.failedFuture(batchFailure);
+            }
+            return CompletableFuture.completedFuture(batch);
+        }
+
+        @Override
+        protected String getBatchKey(String request) {
+            return request.startsWith("key:") ? request : "default";
+        }
+
+        @Override
+        protected List<Either<IdentifiableMessage<String>, IdentifiableMessage<Throwable>>> mapBatchResponse(
+            List<IdentifiableMessage<String>> identifiedRequests, List<String> batchResponse) {
+            return identifiedRequests.stream()
+                                     .filter(request -> !"missing".equals(request.message()))
+                                     .map(request -> "fail".equals(request.message())
+                                                     ? Either.<IdentifiableMessage<String>, IdentifiableMessage<Throwable>>right(
+                                                         new IdentifiableMessage<>(request.id(),
+                                                                                   new RuntimeException("entry failed")))
+                                                     : Either.<IdentifiableMessage<String>, IdentifiableMessage<Throwable>>left(
+                                                         new IdentifiableMessage<>(request.id(),
+                                                                                   request.message().toUpperCase())))
+                                     .collect(Collectors.toList());
+        }
+
+        @Override
+        protected boolean isBatchable(String request) {
+            return !"direct".equals(request);
+        }
+
+        @Override
+        protected CompletableFuture<String> sendDirectly(String request) {
+            return CompletableFuture.completedFuture("sent directly");
+        }
+
+        @Override
+        protected int entryCount(String request) {
+            return request.startsWith("key:") || request.length() > 3 ? 1 : request.length();
+        }
+
+        @Override
+        protected int payloadSize(String request) {
+            return payloadSize;
+        }
+    }
+}
@@ -45,6 +45,20 @@ public final class V4CanonicalRequest {
     private static final List<String> HEADERS_TO_IGNORE_IN_LOWER_CASE =
         Arrays.asList("connection", "x-amzn-trace-id", "user-agent", "expect", "transfer-encoding");
 
+    private static final Comparator<Pair<String, List<String>>> HEADER_NAME_ORDER = Comparator.comparing(Pair::left);
+
+    // 2048 chosen experimentally to avoid always needing to resize the string builder's internal byte array.
+    // The minimal DynamoDB get-item request at the time of testing used ~1100 bytes. 2048 was chosen as the
+    // next-highest power-of-two.
+    private static final int SCRATCH_BUFFER_SIZE = 2048;
+
+    // Scratch buffers larger than this are not kept for the next request, so that one large request does not keep its buffer
+    // alive for the lifetime of the thread.
+    private static final int MAX_RETAINED_SCRATCH_BUFFER_SIZE = 16 * 1024;
+
+    private static final ThreadLocal<StringBuilder> SCRATCH_BUFFER =
+        ThreadLocal.withInitial(() -> new StringBuilder(SCRATCH_BUFFER_SIZE));
+
     private final SdkHttpRequest request;
     private final String contentHash;
     private final Options options;
@@ -53,8 +67,6 @@ public final class V4CanonicalRequest {
     private String canonicalUri;
     private SortedMap<String, List<String>> canonicalParams;
     private List<Pair<String, List<String>>> canonicalHeaders;
-    private String canonicalQueryString;
-    private String canonicalHeadersString;
     private String signedHeadersString;
     private String canonicalRequestString;
 
@@ -87,13 +99,37 @@ public final class V4CanonicalRequest {
      */
     public String getCanonicalRequestString() {
         if (canonicalRequestString == null) {
-            canonicalRequestString = getCanonicalRequestString(request.method().toString(), canonicalUri(),
-                                                               canonicalQueryString(), canonicalHeadersString(),
-                                                               getSignedHeadersString(), contentHash);
+            canonicalRequestString = buildCanonicalRequestString();
         }
         return canonicalRequestString;
     }
 
+    /**
+     * Build the canonical request string in a scratch buffer of the current thread, so that the canonical query string and
+     * headers string are not built as separate strings first.
+     * <p>
+     * Each part of the canonical request is separated by a newline character.
+     */
+    private String buildCanonicalRequestString() {
+        StringBuilder result = SCRATCH_BUFFER.get();
+        result.setLength(0);
+        try {
+            result.append(request.method().toString()).append(SignerConstant.LINE_SEPARATOR);
+            result.append(canonicalUri()).append(SignerConstant.LINE_SEPARATOR);
+            SdkHttpUtils.flattenQueryParameters(result, canonicalQueryParams());
+            result.append(SignerConstant.LINE_SEPARATOR);
+            appendCanonicalHeaders(result, canonicalHeaders());
+            result.append(SignerConstant.LINE_SEPARATOR);
+            result.append(getSignedHeadersString()).append(SignerConstant.LINE_SEPARATOR);
+            result.append(contentHash);
+            return result.toString();
+        } finally {
+            if (result.capacity() > MAX_RETAINED_SCRATCH_BUFFER_SIZE) {
+                SCRATCH_BUFFER.remove();
+            }
+        }
+    }
+
     private SortedMap<String, List<String>> canonicalQueryParams() {
         if (canonicalParams == null) {
             canonicalParams = getCanonicalQueryParams(request);
@@ -115,20 +151,6 @@ public final class V4CanonicalRequest {
         return canonicalUri;
     }
 
-    private String canonicalQueryString() {
-        if (canonicalQueryString == null) {
-            canonicalQueryString = getCanonicalQueryString(canonicalQueryParams());
-        }
-        return canonicalQueryString;
-    }
-
-    private String canonicalHeadersString() {
-        if (canonicalHeadersString == null) {
-            canonicalHeadersString = getCanonicalHeadersString(canonicalHeaders());
-        }
-        return canonicalHeadersString;
-    }
-
     /**
      * Get the list of headers that are to be signed.
      * <p>
@@ -146,7 +168,7 @@ public final class V4CanonicalRequest {
             }
         });
 
-        result.sort(Comparator.comparing(Pair::left));
+        sortByName(result);
 
         return result;
     }
@@ -164,11 +186,24 @@ public final class V4CanonicalRequest {
             }
         });
 
-        result.sort(Comparator.comparing(Pair::left));
+        sortByName(result);
 
         return result;
     }
 
+    /**
+     * Sort the headers by their lower-case name. Headers sorted case-insensitively are almost always sorted by their lower-case
+     * name already, as the orders only differ for the characters between 'Z' and 'a', so they are only sorted when needed.
+     */
+    private static void sortByName(List<Pair<String, List<String>>> headers) {
+        for (int i = 1; i < headers.size(); i++) {
+            if (HEADER_NAME_ORDER.compare(headers.get(i - 1), headers.get(i)) > 0) {
+                headers.sort(HEADER_NAME_ORDER);
+                return;
+            }
+        }
+    }
+
     /**
      * Get the string representing the headers that will be signed and their values. The input list is expected to be sorted
      * case-insensitively.
@@ -181,58 +216,36 @@ public final class V4CanonicalRequest {
      * Each header-value pair is separated by a newline.
      */
     public static String getCanonicalHeadersString(List<Pair<String, List<String>>> canonicalHeaders) {
-        // 2048 chosen experimentally to avoid always needing to resize the string builder's internal byte array.
-        // The minimal DynamoDB get-item request at the time of testing used ~1100 bytes. 2048 was chosen as the
-        // next-highest power-of-two.
-        StringBuilder result = new StringBuilder(2048);
-        canonicalHeaders.forEach(header -> {
+        StringBuilder result = new StringBuilder(SCRATCH_BUFFER_SIZE);
+        appendCanonicalHeaders(result, canonicalHeaders);
+        return result.toString();
+    }
+
+    private static void appendCanonicalHeaders(StringBuilder result, List<Pair<String, List<String>>> canonicalHeaders) {
+        for (Pair<String, List<String>> header : canonicalHeaders) {
             result.append(header.left());
-            result.append(":");
+            result.append(':');
             for (String headerValue : header.right()) {
                 addAndTrim(result, headerValue);
-                result.append(",");
+                result.append(',');
             }
             result.setLength(result.length() - 1);
-            result.append("\n");
-        });
-        return result.toString();
+            result.append('\n');
+        }
     }
 
     /**
      * Get the string representing which headers are part of the signing process. Header names are separated by a semicolon.
      */
     public static String getSignedHeadersString(List<Pair<String, List<String>>> canonicalHeaders) {
-        String signedHeadersString;
         StringBuilder headersString = new StringBuilder(512);
         for (Pair<String, List<String>> header : canonicalHeaders) {
-            headersString.append(header.left()).append(";");
-        }
-        // get rid of trailing semicolon
-        signedHeadersString = headersString.toString();
-
-        boolean trimTrailingSemicolon = signedHeadersString.length() > 1 &&
-                                        signedHeadersString.endsWith(";");
-
-        if (trimTrailingSemicolon) {
-            signedHeadersString = signedHeadersString.substring(0, signedHeadersString.length() - 1);
+            if (headersString.length() > 0) {
+                headersString.append(';');
+            }
+            headersString.append(header.left());
         }
-        return signedHeadersString;
-    }
-
-    /**
-     * Get the canonical request string.
-     * <p>
-     * Each {@link String} parameter is separated by a newline character.
-     */
-    private static String getCanonicalRequestString(String httpMethod, String canonicalUri, String canonicalParamsString,
-                                                    String canonicalHeadersString, String signedHeadersString,
-                                                    String contentHash) {
-        return httpMethod + SignerConstant.LINE_SEPARATOR +
-               canonicalUri + SignerConstant.LINE_SEPARATOR +
-               canonicalParamsString + SignerConstant.LINE_SEPARATOR +
-               canonicalHeadersString + SignerConstant.LINE_SEPARATOR +
-               signedHeadersString + SignerConstant.LINE_SEPARATOR +
-               contentHash;
+        return headersString.toString();
     }
 
     /**
@@ -329,6 +342,10 @@ public final class V4CanonicalRequest {
      * Get the sorted map of query parameters that are to be signed.
      */
     private static SortedMap<String, List<String>> getCanonicalQueryParams(SdkHttpRequest request) {
+        if (request.numRawQueryParameters() == 0) {
+            return Collections.emptySortedMap();
+        }
+
         SortedMap<String, List<String>> sorted = new TreeMap<>();
 
         // Signing protocol expects the param values also to be sorted after url
@@ -358,25 +375,6 @@ public final class V4CanonicalRequest {
         return sorted;
     }
 
-    /**
-     * Get the string representing query string parameters. Parameters are URL-encoded and separated by an ampersand.
-     * <p>
-     * Reserved characters are percent-encoded, names and values are encoded separately and empty parameters have an equals-sign
-     * appended before encoding.
-     * <p>
-     * After encoding, parameters are sorted alphabetically by key name.
-     * <p>
-     * If no query string is given, an empty string ("") is returned.
-     */
-    private static String getCanonicalQueryString(SortedMap<String, List<String>> canonicalParams) {
-        if (canonicalParams.isEmpty()) {
-            return "";
-        }
-        StringBuilder stringBuilder = new StringBuilder(512);
-        SdkHttpUtils.flattenQueryParameters(stringBuilder, canonicalParams);
-        return stringBuilder.toString();
-    }
-
     private static boolean isWhiteSpace(char ch) {
         switch (ch) {
             case ' ':
@@ -36,6 +36,7 @@ import software.amazon.awssdk.http.SdkHttpRequest;
 import software.amazon.awssdk.http.auth.aws.internal.signer.CredentialScope;
 import software.amazon.awssdk.identity.spi.AwsCredentialsIdentity;
 import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.DateUtils;
 import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.http.SdkHttpUtils;
 
@@ -47,8 +48,8 @@ public final class SignerUtils {
 
     private static final Logger LOG = Logger.loggerFor(SignerUtils.class);
 
-    private static final FifoCache<SignerKey> SIGNER_CACHE =
-        new FifoCache<>(300);
+    private static final SigningKeyCache SIGNER_CACHE =
+        new SigningKeyCache(512);
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter
         .ofPattern("yyyyMMdd").withZone(ZoneId.of("UTC"));
@@ -94,11 +95,13 @@ public final class SignerUtils {
      * Get the signing key based on the given credentials and a credential-scope
      */
     public static byte[] deriveSigningKey(AwsCredentialsIdentity credentials, CredentialScope credentialScope) {
-        String cacheKey = createSigningCacheKeyName(credentials, credentialScope.getRegion(), credentialScope.getService());
-        SignerKey signerKey = SIGNER_CACHE.get(cacheKey);
+        String secretKey = credentials.secretAccessKey();
+        long daysSinceEpoch = DateUtils.numberOfDaysSinceEpoch(credentialScope.getInstant().toEpochMilli());
+        byte[] cachedSigningKey = SIGNER_CACHE.get(secretKey, daysSinceEpoch, credentialScope.getRegion(),
+                                                   credentialScope.getService());
 
-        if (signerKey != null && signerKey.isValidForDate(credentialScope.getInstant())) {
-            return signerKey.getSigningKey();
+        if (cachedSigningKey != null) {
+            return cachedSigningKey.clone();
         }
 
         LOG.trace(() -> "Generating a new signing key as the signing key not available in the cache for the date: " +
@@ -107,16 +110,11 @@ public final class SignerUtils {
                                           credentialScope.getDate(),
                                           credentialScope.getRegion(),
                                           credentialScope.getService());
-        SIGNER_CACHE.add(cacheKey, new SignerKey(credentialScope.getInstant(), signingKey));
+        SIGNER_CACHE.put(secretKey, daysSinceEpoch, credentialScope.getRegion(), credentialScope.getService(),
+                         signingKey.clone());
         return signingKey;
     }
 
-    private static String createSigningCacheKeyName(AwsCredentialsIdentity credentials,
-                                                    String regionName,
-                                                    String serviceName) {
-        return credentials.secretAccessKey() + "-" + regionName + "-" + serviceName;
-    }
-
     private static byte[] newSigningKey(AwsCredentialsIdentity credentials,
                                         String dateStamp, String regionName, String serviceName) {
         byte[] kSecret = ("AWS4" + credentials.secretAccessKey())
@@ -0,0 +1,104 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A lock-free cache of the signing keys derived from a secret key, a day, a region and a service.
+ * <p>
+ * The cache is direct-mapped: each combination of secret key, region and service can only be stored in one slot, chosen from
+ * the hash codes of the strings, which are cached by {@link String}. Looking up a key does not build a cache key or take a
+ * lock. Storing a key replaces the entry in its slot, so two combinations sharing a slot derive their signing keys again
+ * when they alternate, which is the only cost of a collision.
+ */
+@ThreadSafe
+@SdkInternalApi
+public final class SigningKeyCache {
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    /**
+     * @param minSize the minimum number of slots of the cache, rounded up to a power of two
+     */
+    public SigningKeyCache(int minSize) {
+        if (minSize < 1) {
+            throw new IllegalArgumentException("minSize " + minSize + " must be at least 1");
+        }
+        int size = Integer.highestOneBit(minSize);
+        if (size < minSize) {
+            size <<= 1;
+        }
+        this.entries = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Returns the signing key cached for the given secret key, day, region and service; or null if it is not cached. The
+     * returned array must not be modified.
+     */
+    public byte[] get(String secretKey, long daysSinceEpoch, String region, String service) {
+        Entry entry = entries.get(slot(secretKey, region, service));
+        if (entry != null && entry.matches(secretKey, daysSinceEpoch, region, service)) {
+            return entry.signingKey;
+        }
+        return null;
+    }
+
+    /**
+     * Caches the signing key of the given secret key, day, region and service, replacing the entry sharing its slot.
+     */
+    public void put(String secretKey, long daysSinceEpoch, String region, String service, byte[] signingKey) {
+        entries.set(slot(secretKey, region, service), new Entry(secretKey, daysSinceEpoch, region, service, signingKey));
+    }
+
+    /**
+     * Returns the number of slots of the cache.
+     */
+    public int size() {
+        return entries.length();
+    }
+
+    private int slot(String secretKey, String region, String service) {
+        int hash = (secretKey.hashCode() * 31 + region.hashCode()) * 31 + service.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static final class Entry {
+        private final String secretKey;
+        private final long daysSinceEpoch;
+        private final String region;
+        private final String service;
+        private final byte[] signingKey;
+
+        private Entry(String secretKey, long daysSinceEpoch, String region, String service, byte[] signingKey) {
+            this.secretKey = secretKey;
+            this.daysSinceEpoch = daysSinceEpoch;
+            this.region = region;
+            this.service = service;
+            this.signingKey = signingKey;
+        }
+
+        private boolean matches(String secretKey, long daysSinceEpoch, String region, String service) {
+            return this.daysSinceEpoch == daysSinceEpoch
+                   && this.secretKey.equals(secretKey)
+                   && this.region.equals(region)
+                   && this.service.equals(service);
+        }
+    }
+}
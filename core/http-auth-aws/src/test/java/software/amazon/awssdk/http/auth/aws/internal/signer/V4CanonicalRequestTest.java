@@ -184,6 +184,41 @@ public class V4CanonicalRequestTest {
         assertEquals("PUT\n/\n\n\n\nsha-256", cr.getCanonicalRequestString());
     }
 
+    @Test
+    public void canonicalRequest_WithHeadersSortedDifferentlyInLowerCase_shouldSortByLowerCaseName() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .method(SdkHttpMethod.PUT)
+                                               .putHeader("X-Amz-Date", "date")
+                                               .putHeader("x_custom", "custom")
+                                               .putHeader("x-amz-content-sha256", "sha-256")
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256",
+                                                       new V4CanonicalRequest.Options(true,
+                                                                                      true));
+
+        assertEquals("PUT\n/\n\nx-amz-content-sha256:sha-256\nx-amz-date:date\nx_custom:custom\n\n"
+                     + "x-amz-content-sha256;x-amz-date;x_custom\nsha-256", cr.getCanonicalRequestString());
+        assertEquals("x-amz-content-sha256;x-amz-date;x_custom", cr.getSignedHeadersString());
+    }
+
+    @Test
+    public void canonicalRequest_WithMultipleParams_shouldSortParamsAndValues() {
+        SdkHttpRequest request = SdkHttpRequest.builder()
+                                               .protocol("https")
+                                               .host("localhost")
+                                               .method(SdkHttpMethod.GET)
+                                               .putRawQueryParameter("foo", Arrays.asList("b", "a"))
+                                               .putRawQueryParameter("bar", "a b")
+                                               .build();
+        V4CanonicalRequest cr = new V4CanonicalRequest(request, "sha-256",
+                                                       new V4CanonicalRequest.Options(true,
+                                                                                      true));
+
+        assertEquals("GET\n/\nbar=a%20b&foo=a&foo=b\n\n\nsha-256", cr.getCanonicalRequestString());
+    }
+
     private static class TestCase {
         private final String name;
         private final String path;
@@ -0,0 +1,60 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.http.auth.aws.internal.signer.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class SigningKeyCacheTest {
+    private static final byte[] KEY_1 = {1};
+    private static final byte[] KEY_2 = {2};
+
+    @Test
+    public void get_returnsKeyOnlyForSameSecretKeyDayRegionAndService() {
+        SigningKeyCache cache = new SigningKeyCache(16);
+        cache.put("secret", 1, "us-west-2", "s3", KEY_1);
+
+        assertThat(cache.get("secret", 1, "us-west-2", "s3")).isSameAs(KEY_1);
+        assertThat(cache.get("secret", 2, "us-west-2", "s3")).isNull();
+        assertThat(cache.get("other", 1, "us-west-2", "s3")).isNull();
+        assertThat(cache.get("secret", 1, "us-east-1", "s3")).isNull();
+        assertThat(cache.get("secret", 1, "us-west-2", "sqs")).isNull();
+    }
+
+    @Test
+    public void put_replacesKeySharingSlot() {
+        SigningKeyCache cache = new SigningKeyCache(1);
+        cache.put("secret", 1, "us-west-2", "s3", KEY_1);
+        cache.put("secret", 1, "us-west-2", "sqs", KEY_2);
+
+        assertThat(cache.get("secret", 1, "us-west-2", "s3")).isNull();
+        assertThat(cache.get("secret", 1, "us-west-2", "sqs")).isSameAs(KEY_2);
+    }
+
+    @Test
+    public void size_roundedUpToPowerOfTwo() {
+        assertThat(new SigningKeyCache(1).size()).isEqualTo(1);
+        assertThat(new SigningKeyCache(300).size()).isEqualTo(512);
+        assertThat(new SigningKeyCache(512).size()).isEqualTo(512);
+    }
+
+    @Test
+    public void zeroSize_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new SigningKeyCache(0));
+    }
+}
@@ -17,6 +17,7 @@ package software.amazon.awssdk.metrics;
 
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.internal.ConcurrentMetricCollector;
 import software.amazon.awssdk.metrics.internal.DefaultMetricCollector;
 
 /**
@@ -54,4 +55,15 @@ public interface MetricCollector {
     static MetricCollector create(String name) {
         return DefaultMetricCollector.create(name);
     }
+
+    /**
+     * Create a collector that can be reported to from several threads concurrently without contention, for example from the
+     * event loop and the completion threads of an asynchronous client. Its children are created the same way.
+     *
+     * @param name The name of the collector.
+     * @return The collector.
+     */
+    static MetricCollector createConcurrent(String name) {
+        return ConcurrentMetricCollector.create(name);
+    }
 }
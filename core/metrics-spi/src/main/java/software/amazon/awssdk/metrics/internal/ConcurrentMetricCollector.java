@@ -0,0 +1,178 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A {@link MetricCollector} that can be reported to from several threads without contention.
+ * <p>
+ * The records of each metric are kept in their own slot, indexed by {@link DefaultSdkMetric#index()}, as a linked list that
+ * records are appended to with a compare-and-set. The records are their own list nodes, so reporting a metric allocates one
+ * object. Metrics created after this collector, and metrics not created by {@link SdkMetric#create}, are kept in a map.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrentMetricCollector implements MetricCollector {
+    private static final Logger log = Logger.loggerFor(ConcurrentMetricCollector.class);
+    private final String name;
+    private final AtomicReferenceArray<Record<?>> slots;
+    private final Map<SdkMetric<?>, AtomicReference<Record<?>>> otherMetrics = new ConcurrentHashMap<>();
+    private final Queue<MetricCollector> children = new ConcurrentLinkedQueue<>();
+
+    public ConcurrentMetricCollector(String name) {
+        this.name = name;
+        this.slots = new AtomicReferenceArray<>(DefaultSdkMetric.indexLimit());
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> void reportMetric(SdkMetric<T> metric, T data) {
+        int slot = slot(metric);
+        if (slot >= 0) {
+            Record<?> head;
+            Record<T> record;
+            do {
+                head = slots.get(slot);
+                record = new Record<>(metric, data, head);
+            } while (!slots.compareAndSet(slot, head, record));
+        } else {
+            AtomicReference<Record<?>> records = otherMetrics.computeIfAbsent(metric, m -> new AtomicReference<>());
+            records.updateAndGet(head -> new Record<>(metric, data, head));
+        }
+    }
+
+    @Override
+    public MetricCollector createChild(String name) {
+        MetricCollector child = new ConcurrentMetricCollector(name);
+        children.add(child);
+        return child;
+    }
+
+    @Override
+    public MetricCollection collect() {
+        List<MetricCollection> collectedChildren = new ArrayList<>(children.size());
+        for (MetricCollector child : children) {
+            collectedChildren.add(child.collect());
+        }
+
+        DefaultMetricCollection metricRecords = new DefaultMetricCollection(name, metrics(), collectedChildren);
+
+        log.debug(() -> "Collected metrics records: " + metricRecords);
+        return metricRecords;
+    }
+
+    public static MetricCollector create(String name) {
+        Validate.notEmpty(name, "name");
+        return new ConcurrentMetricCollector(name);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConcurrentMetricCollector")
+                       .add("metrics", metrics())
+                       .build();
+    }
+
+    private int slot(SdkMetric<?> metric) {
+        if (metric instanceof DefaultSdkMetric) {
+            int index = ((DefaultSdkMetric<?>) metric).index();
+            if (index < slots.length()) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Snapshot the records reported so far, in the order they were reported for each metric.
+     */
+    private Map<SdkMetric<?>, List<MetricRecord<?>>> metrics() {
+        Map<SdkMetric<?>, List<MetricRecord<?>>> metrics = new LinkedHashMap<>();
+        for (int i = 0; i < slots.length(); i++) {
+            Record<?> head = slots.get(i);
+            if (head != null) {
+                metrics.put(head.metric, records(head));
+            }
+        }
+        otherMetrics.forEach((metric, records) -> metrics.put(metric, records(records.get())));
+        return metrics;
+    }
+
+    private static List<MetricRecord<?>> records(Record<?> head) {
+        List<MetricRecord<?>> records = new ArrayList<>();
+        for (Record<?> record = head; record != null; record = record.next) {
+            records.add(record);
+        }
+        Collections.reverse(records);
+        return records;
+    }
+
+    /**
+     * A reported metric, linked to the record of the same metric reported before it.
+     */
+    private static final class Record<T> implements MetricRecord<T> {
+        private final SdkMetric<T> metric;
+        private final T value;
+        private final Record<?> next;
+
+        private Record(SdkMetric<T> metric, T value, Record<?> next) {
+            this.metric = metric;
+            this.value = value;
+            this.next = next;
+        }
+
+        @Override
+        public SdkMetric<T> metric() {
+            return metric;
+        }
+
+        @Override
+        public T value() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return ToString.builder("MetricRecord")
+                           .add("metric", metric.name())
+                           .add("value", value)
+                           .build();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+import org.junit.AfterClass;
+import org.junit.Test;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+public class ConcurrentMetricCollectorTest {
+    private static final SdkMetric<Integer> M1 = SdkMetric.create("concurrent-m1", Integer.class, MetricLevel.INFO,
+                                                                  MetricCategory.CORE);
+    private static final SdkMetric<String> M2 = SdkMetric.create("concurrent-m2", String.class, MetricLevel.INFO,
+                                                                 MetricCategory.CORE);
+
+    @AfterClass
+    public static void teardown() {
+        DefaultSdkMetric.clearDeclaredMetrics();
+    }
+
+    @Test
+    public void testName_returnsName() {
+        MetricCollector collector = MetricCollector.createConcurrent("collector");
+        assertThat(collector.name()).isEqualTo("collector");
+    }
+
+    @Test
+    public void testCreateChild_returnsConcurrentChildWithCorrectName() {
+        MetricCollector parent = MetricCollector.createConcurrent("parent");
+        MetricCollector child = parent.createChild("child");
+
+        assertThat(child.name()).isEqualTo("child");
+        assertThat(child).isInstanceOf(ConcurrentMetricCollector.class);
+    }
+
+    @Test
+    public void testCollect_allReportedMetricsInCollectionInReportedOrder() {
+        MetricCollector collector = MetricCollector.createConcurrent("collector");
+        Integer[] values = {1, 2, 3};
+        Stream.of(values).forEach(v -> collector.reportMetric(M1, v));
+        collector.reportMetric(M2, "value");
+
+        MetricCollection collect = collector.collect();
+
+        assertThat(collect.metricValues(M1)).containsExactly(values);
+        assertThat(collect.metricValues(M2)).containsExactly("value");
+        assertThat(collect).hasSize(4);
+    }
+
+    @Test
+    public void testCollect_metricCreatedAfterCollector_inCollection() {
+        MetricCollector collector = MetricCollector.createConcurrent("collector");
+        SdkMetric<Integer> metric = SdkMetric.create("concurrent-late", Integer.class, MetricLevel.INFO, MetricCategory.CORE);
+        collector.reportMetric(metric, 1);
+        collector.reportMetric(metric, 2);
+
+        assertThat(collector.collect().metricValues(metric)).containsExactly(1, 2);
+    }
+
+    @Test
+    public void testCollect_returnedCollectionContainsAllChildren() {
+        MetricCollector parent = MetricCollector.createConcurrent("parent");
+        String[] childNames = {"c1", "c2", "c3" };
+        Stream.of(childNames).forEach(parent::createChild);
+        MetricCollection collected = parent.collect();
+        assertThat(collected.children().stream().map(MetricCollection::name)).containsExactly(childNames);
+    }
+
+    @Test
+    public void testReportMetric_fromSeveralThreads_allMetricsInCollection() {
+        MetricCollector collector = MetricCollector.createConcurrent("collector");
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        collector.reportMetric(M1, i);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(collector.collect().metricValues(M1)).hasSize(4000);
+    }
+}
@@ -16,16 +16,24 @@
 package software.amazon.awssdk.protocols.json;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
 import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonParser;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonToken;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
 
 /**
- * Simple struct like class to hold both the raw json string content and it's parsed JsonNode
+ * Simple struct like class to hold both the raw json string content and it's parsed JsonNode. The {@link JsonNode} is only
+ * parsed when first requested, as the fields needed to handle an error response can usually be read with
+ * {@link #topLevelFieldText(String)} without building the tree of the whole content.
  */
 @SdkProtectedApi
 //TODO Do we need this? It isn't well encapsulated because of storing non-copied arrays.
@@ -34,16 +42,19 @@ public class JsonContent {
     private static final Logger LOG = Logger.loggerFor(JsonContent.class);
 
     private final byte[] rawContent;
-    private final JsonNode jsonNode;
+    private final JsonFactory jsonFactory;
+    private JsonNode jsonNode;
+    private Map<String, String> topLevelFields;
 
     JsonContent(byte[] rawJsonContent, JsonNode jsonNode) {
         this.rawContent = rawJsonContent;
+        this.jsonFactory = null;
         this.jsonNode = jsonNode;
     }
 
     private JsonContent(byte[] rawJsonContent, JsonFactory jsonFactory) {
         this.rawContent = rawJsonContent;
-        this.jsonNode = parseJsonContent(rawJsonContent, jsonFactory);
+        this.jsonFactory = jsonFactory;
     }
 
     /**
@@ -82,6 +93,62 @@ public class JsonContent {
     }
 
     public JsonNode getJsonNode() {
+        if (jsonNode == null) {
+            jsonNode = parseJsonContent(rawContent, jsonFactory);
+        }
         return jsonNode;
     }
+
+    /**
+     * Retrieves the text of a scalar field of the top-level JSON object, the same as
+     * {@code getJsonNode().field(fieldName).map(JsonNode::text)}. Unless the {@link JsonNode} was already parsed, the content
+     * is read with a single pass of the parser that skips over nested objects and arrays instead of building them.
+     *
+     * @param fieldName The name of the field in the top-level JSON object.
+     * @return The text of the field, or an empty {@link Optional} if the field is absent, null or not a scalar value.
+     */
+    public Optional<String> topLevelFieldText(String fieldName) {
+        if (jsonNode != null) {
+            return jsonNode.field(fieldName).map(JsonNode::text);
+        }
+        if (topLevelFields == null) {
+            topLevelFields = parseTopLevelFields(rawContent, jsonFactory);
+        }
+        return Optional.ofNullable(topLevelFields.get(fieldName));
+    }
+
+    private static Map<String, String> parseTopLevelFields(byte[] rawJsonContent, JsonFactory jsonFactory) {
+        if (rawJsonContent == null || rawJsonContent.length == 0) {
+            return Collections.emptyMap();
+        }
+        try (JsonParser parser = jsonFactory.createParser(rawJsonContent)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Collections.emptyMap();
+            }
+            Map<String, String> fields = new HashMap<>();
+            JsonToken token = parser.nextToken();
+            while (token != JsonToken.END_OBJECT) {
+                String fieldName = parser.getText();
+                JsonToken value = parser.nextToken();
+                if (token == null || value == null) {
+                    LOG.debug(() -> "Unable to parse HTTP response content, unexpected end of content");
+                    return Collections.emptyMap();
+                }
+                if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    fields.remove(fieldName);
+                } else if (value.isScalarValue() && value != JsonToken.VALUE_NULL
+                           && value != JsonToken.VALUE_EMBEDDED_OBJECT) {
+                    fields.put(fieldName, parser.getText());
+                } else {
+                    fields.remove(fieldName);
+                }
+                token = parser.nextToken();
+            }
+            return fields;
+        } catch (Exception e) {
+            LOG.debug(() -> "Unable to parse HTTP response content", e);
+            return Collections.emptyMap();
+        }
+    }
 }
@@ -17,6 +17,7 @@ package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.JsonContent;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 
 @SdkInternalApi
@@ -53,17 +54,31 @@ public final class AwsJsonErrorMessageParser implements ErrorMessageParser {
      */
     @Override
     public String parseErrorMessage(SdkHttpFullResponse httpResponse, JsonNode jsonNode) {
-        String headerMessage = httpResponse.firstMatchingHeader(X_AMZN_ERROR_MESSAGE).orElse(null);
+        String headerMessage = parseErrorMessageFromHeaders(httpResponse);
         if (headerMessage != null) {
             return headerMessage;
         }
 
-        String eventHeaderMessage = httpResponse.firstMatchingHeader(EVENT_ERROR_MESSAGE).orElse(null);
-        if (eventHeaderMessage != null) {
-            return eventHeaderMessage;
+        return errorMessageParser.parseErrorMessage(httpResponse, jsonNode);
+    }
+
+    @Override
+    public String parseErrorMessage(SdkHttpFullResponse httpResponse, JsonContent jsonContent) {
+        String headerMessage = parseErrorMessageFromHeaders(httpResponse);
+        if (headerMessage != null) {
+            return headerMessage;
         }
 
-        return errorMessageParser.parseErrorMessage(httpResponse, jsonNode);
+        return errorMessageParser.parseErrorMessage(httpResponse, jsonContent);
+    }
+
+    private String parseErrorMessageFromHeaders(SdkHttpFullResponse httpResponse) {
+        String headerMessage = httpResponse.firstMatchingHeader(X_AMZN_ERROR_MESSAGE).orElse(null);
+        if (headerMessage != null) {
+            return headerMessage;
+        }
+
+        return httpResponse.firstMatchingHeader(EVENT_ERROR_MESSAGE).orElse(null);
     }
 
 }
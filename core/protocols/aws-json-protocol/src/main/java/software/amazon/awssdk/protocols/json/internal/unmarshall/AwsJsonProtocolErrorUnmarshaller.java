@@ -77,13 +77,12 @@ public final class AwsJsonProtocolErrorUnmarshaller implements HttpResponseHandl
 
         Optional<ExceptionMetadata> modeledExceptionMetadata = exceptionMetadataMapper.apply(errorCode);
 
-        SdkPojo sdkPojo = modeledExceptionMetadata.map(ExceptionMetadata::exceptionBuilderSupplier)
-                                                  .orElse(defaultExceptionSupplier)
-                                                  .get();
+        Supplier<SdkPojo> sdkPojoSupplier = modeledExceptionMetadata.map(ExceptionMetadata::exceptionBuilderSupplier)
+                                                                    .orElse(defaultExceptionSupplier);
 
         AwsServiceException.Builder exception = ((AwsServiceException) jsonProtocolUnmarshaller
-            .unmarshall(sdkPojo, response, jsonContent.getJsonNode())).toBuilder();
-        String errorMessage = errorMessageParser.parseErrorMessage(response, jsonContent.getJsonNode());
+            .unmarshall(sdkPojoSupplier, response, jsonContent)).toBuilder();
+        String errorMessage = errorMessageParser.parseErrorMessage(response, jsonContent);
         exception.awsErrorDetails(extractAwsErrorDetails(response, executionAttributes, jsonContent,
                                                          getEffectiveErrorCode(response, errorCode), errorMessage));
         exception.clockSkew(getClockSkew(executionAttributes));
@@ -22,7 +22,6 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.json.ErrorCodeParser;
 import software.amazon.awssdk.protocols.json.JsonContent;
-import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 
 @SdkInternalApi
 public class JsonErrorCodeParser implements ErrorCodeParser {
@@ -60,7 +59,7 @@ public class JsonErrorCodeParser implements ErrorCodeParser {
         if (errorCodeFromHeader != null) {
             return errorCodeFromHeader;
         } else if (jsonContent != null) {
-            return parseErrorCodeFromContents(jsonContent.getJsonNode());
+            return parseErrorCodeFromContents(jsonContent);
         } else {
             return null;
         }
@@ -102,15 +101,11 @@ public class JsonErrorCodeParser implements ErrorCodeParser {
      * <b>"prefix#typeName"</b> Examples : "AccessDeniedException",
      * "software.amazon.awssdk.dynamodb.v20111205#ProvisionedThroughputExceededException"
      */
-    private String parseErrorCodeFromContents(JsonNode jsonContents) {
-        if (jsonContents == null) {
+    private String parseErrorCodeFromContents(JsonContent jsonContent) {
+        String code = jsonContent.topLevelFieldText(errorCodeFieldName).orElse(null);
+        if (code == null) {
             return null;
         }
-        JsonNode errorCodeField = jsonContents.field(errorCodeFieldName).orElse(null);
-        if (errorCodeField == null) {
-            return null;
-        }
-        String code = errorCodeField.text();
         int separator = code.lastIndexOf('#');
         return code.substring(separator + 1);
     }
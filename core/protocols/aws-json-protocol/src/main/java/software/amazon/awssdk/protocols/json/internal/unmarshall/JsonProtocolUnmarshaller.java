@@ -17,6 +17,7 @@ package software.amazon.awssdk.protocols.json.internal.unmarshall;
 
 import static software.amazon.awssdk.protocols.core.StringToValueConverter.TO_SDK_BYTES;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.Instant;
@@ -45,6 +46,7 @@ import software.amazon.awssdk.http.AbortableInputStream;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.core.StringToInstant;
 import software.amazon.awssdk.protocols.core.StringToValueConverter;
+import software.amazon.awssdk.protocols.json.JsonContent;
 import software.amazon.awssdk.protocols.json.internal.AwsStructuredPlainJsonFactory;
 import software.amazon.awssdk.protocols.json.internal.MarshallerUtil;
 import software.amazon.awssdk.protocols.json.internal.unmarshall.document.DocumentUnmarshaller;
@@ -52,6 +54,7 @@ import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
 import software.amazon.awssdk.protocols.jsoncore.JsonValueNodeFactory;
 import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.builder.Buildable;
 
 /**
@@ -61,6 +64,7 @@ import software.amazon.awssdk.utils.builder.Buildable;
 @SdkInternalApi
 @ThreadSafe
 public class JsonProtocolUnmarshaller {
+    private static final Logger LOG = Logger.loggerFor(JsonProtocolUnmarshaller.class);
     private static final Lazy<DefaultProtocolUnmarshallDependencies> DEFAULT_DEPENDENCIES =
         new Lazy<>(JsonProtocolUnmarshaller::newProtocolUnmarshallDependencies);
 
@@ -255,11 +259,43 @@ public class JsonProtocolUnmarshaller {
         if (hasExplicitJsonPayloadMember(sdkPojo)) {
             return unmarshallResponse(sdkPojo, response);
         }
+        return unmarshallJsonPayload(sdkPojo, response, response.content().get());
+    }
+
+    private <TypeT extends SdkPojo> TypeT unmarshallJsonPayload(SdkPojo sdkPojo,
+                                                                SdkHttpFullResponse response,
+                                                                InputStream content) throws IOException {
         if (hasMixedLocations(sdkPojo)) {
-            unmarshallFromJson(sdkPojo, response.content().get());
+            unmarshallFromJson(sdkPojo, content);
             return unmarshallResponse(sdkPojo, response);
         }
-        return unmarshallFromJson(sdkPojo, response.content().get());
+        return unmarshallFromJson(sdkPojo, content);
+    }
+
+    /**
+     * Unmarshalls a response whose content was already read into the given {@link JsonContent}, like error responses. When
+     * fast unmarshalling is enabled, the pojo is parsed from the raw content directly, so that neither the {@link JsonNode} of
+     * the content nor the {@link Document} members of the pojo are built from an intermediate tree. Content that can't be
+     * parsed this way is unmarshalled from {@link JsonContent#getJsonNode()} into a new pojo instead, which tolerates
+     * responses that aren't valid JSON.
+     */
+    public <TypeT extends SdkPojo> TypeT unmarshall(Supplier<SdkPojo> pojoSupplier,
+                                                    SdkHttpFullResponse response,
+                                                    JsonContent jsonContent) {
+        byte[] rawContent = jsonContent.getRawContent();
+        SdkPojo sdkPojo = pojoSupplier.get();
+        if (unmarshallingParser != null && rawContent != null && !hasExplicitPayloadMember(sdkPojo)) {
+            try {
+                TypeT result = unmarshallJsonPayload(sdkPojo, response, new ByteArrayInputStream(rawContent));
+                if (result != null) {
+                    return result;
+                }
+            } catch (IOException | RuntimeException e) {
+                LOG.debug(() -> "Unable to unmarshall the response content with the streaming parser", e);
+            }
+            sdkPojo = pojoSupplier.get();
+        }
+        return unmarshall(sdkPojo, response, jsonContent.getJsonNode());
     }
 
     @SuppressWarnings("unchecked")
@@ -321,6 +357,15 @@ public class JsonProtocolUnmarshaller {
         return false;
     }
 
+    private boolean hasExplicitPayloadMember(SdkPojo sdkPojo) {
+        for (SdkField<?> field : sdkPojo.sdkFields()) {
+            if (isExplicitPayloadMember(field)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean hasExplicitJsonPayloadMember(SdkPojo sdkPojo) {
         for (SdkField<?> field : sdkPojo.sdkFields()) {
             if (isExplicitSdkPojoPayloadMember(field)) {
@@ -20,6 +20,7 @@ import java.util.LinkedList;
 import java.util.List;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.JsonContent;
 import software.amazon.awssdk.protocols.jsoncore.JsonNode;
 
 @SdkInternalApi
@@ -60,4 +61,15 @@ public class SdkJsonErrorMessageParser implements ErrorMessageParser {
         return null;
     }
 
+    @Override
+    public String parseErrorMessage(SdkHttpFullResponse httpResponse, JsonContent jsonContent) {
+        for (String field : errorMessageJsonLocations) {
+            String value = jsonContent.topLevelFieldText(field).orElse(null);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
 }
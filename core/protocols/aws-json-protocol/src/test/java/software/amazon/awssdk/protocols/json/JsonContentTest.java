@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+
+public class JsonContentTest {
+
+    private static final List<String> FIELDS = Arrays.asList("__type", "message", "count", "flag", "nested", "list", "absent",
+                                                             "nullValue");
+
+    @Test
+    public void topLevelFieldText_readsScalarFieldsAndSkipsNestedValues() {
+        JsonContent content = jsonContent("{\"nested\":{\"message\":\"inner\",\"list\":[1,{\"a\":[]}]},"
+                                          + "\"__type\":\"prefix#ErrorCode\",\"list\":[\"a\"],\"count\":12.50,"
+                                          + "\"flag\":true,\"nullValue\":null,\"message\":\"outer\"}");
+
+        assertThat(content.topLevelFieldText("__type")).hasValue("prefix#ErrorCode");
+        assertThat(content.topLevelFieldText("message")).hasValue("outer");
+        assertThat(content.topLevelFieldText("count")).hasValue("12.50");
+        assertThat(content.topLevelFieldText("flag")).hasValue("true");
+        assertThat(content.topLevelFieldText("nested")).isEmpty();
+        assertThat(content.topLevelFieldText("list")).isEmpty();
+        assertThat(content.topLevelFieldText("nullValue")).isEmpty();
+        assertThat(content.topLevelFieldText("absent")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"__type\":\"ErrorCode\",\"message\":\"error\",\"count\":1,\"flag\":false}",
+                            "{\"message\":\"first\",\"message\":\"last\"}",
+                            "{\"message\":\"first\",\"message\":{\"nested\":1}}",
+                            "{\"nested\":{\"deep\":[[{}]]},\"list\":[],\"message\":\"\"}",
+                            "[{\"message\":\"error\"}]",
+                            "\"message\"",
+                            "null",
+                            "{\"message\":\"truncated\",",
+                            "<html><body>Service Unavailable</body></html>",
+                            ""})
+    public void topLevelFieldText_matchesParsedJsonNode(String json) {
+        JsonContent streamed = jsonContent(json);
+        JsonContent parsed = jsonContent(json);
+        JsonNode jsonNode = parsed.getJsonNode();
+
+        for (String field : FIELDS) {
+            assertThat(streamed.topLevelFieldText(field))
+                .as("field %s of %s", field, json)
+                .isEqualTo(jsonNode.isObject() ? jsonNode.field(field).map(JsonNode::text) : Optional.empty());
+            assertThat(parsed.topLevelFieldText(field)).isEqualTo(streamed.topLevelFieldText(field));
+        }
+    }
+
+    @Test
+    public void getJsonNode_invalidContent_returnsEmptyObject() {
+        JsonContent content = jsonContent("{\"message\":");
+
+        assertThat(content.getJsonNode().isObject()).isTrue();
+        assertThat(content.getJsonNode().asObject()).isEmpty();
+        assertThat(content.getRawContent()).isEqualTo(SdkBytes.fromUtf8String("{\"message\":").asByteArray());
+    }
+
+    private static JsonContent jsonContent(String json) {
+        SdkHttpFullResponse response =
+            SdkHttpFullResponse.builder()
+                               .content(AbortableInputStream.create(SdkBytes.fromUtf8String(json).asInputStream()))
+                               .build();
+        return JsonContent.createJsonContent(response, new JsonFactory());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.json.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.document.Document;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.json.JsonContent;
+import software.amazon.awssdk.thirdparty.jackson.core.JsonFactory;
+
+class JsonProtocolUnmarshallerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"{\"stringMember\":\"value\",\"integerMember\":42,\"listOfStringsMember\":[\"a\",\"b\"],"
+                            + "\"mapOfStringToStringMember\":{\"k\":\"v\"},\"documentMember\":{\"nested\":[1,true,null]},"
+                            + "\"unknownMember\":{\"a\":[1]}}",
+                            "{}",
+                            "",
+                            "null",
+                            "[1,2]",
+                            "{\"stringMember\":\"truncated\",",
+                            "<html><body>Service Unavailable</body></html>"})
+    public void unmarshallJsonContent_fastUnmarshalling_sameAsTreeUnmarshalling(String json) {
+        TestRequest streamed = unmarshaller(true).unmarshall(TestRequest::builder, response(), jsonContent(json));
+        TestRequest parsed = unmarshaller(false).unmarshall(TestRequest::builder, response(), jsonContent(json));
+
+        assertThat(streamed).isNotNull();
+        assertThat(streamed.equalsBySdkFields(parsed)).as(json).isTrue();
+        assertThat(streamed.documentField()).isEqualTo(parsed.documentField());
+    }
+
+    @Test
+    public void unmarshallJsonContent_fastUnmarshalling_parsesDocumentMembers() {
+        TestRequest request = unmarshaller(true).unmarshall(TestRequest::builder, response(),
+                                                            jsonContent("{\"documentMember\":{\"list\":[1,\"a\"]}}"));
+
+        assertThat(request.documentField())
+            .isEqualTo(Document.mapBuilder()
+                               .putList("list", b -> b.addNumber(1).addString("a"))
+                               .build());
+    }
+
+    private static JsonProtocolUnmarshaller unmarshaller(boolean enableFastUnmarshalling) {
+        return JsonProtocolUnmarshaller.builder()
+                                       .defaultTimestampFormats(Collections.emptyMap())
+                                       .protocolUnmarshallDependencies(
+                                           JsonProtocolUnmarshaller.defaultProtocolUnmarshallDependencies())
+                                       .enableFastUnmarshalling(enableFastUnmarshalling)
+                                       .build();
+    }
+
+    private static SdkHttpFullResponse response() {
+        return SdkHttpFullResponse.builder().statusCode(400).build();
+    }
+
+    private static JsonContent jsonContent(String json) {
+        SdkHttpFullResponse response =
+            SdkHttpFullResponse.builder()
+                               .content(AbortableInputStream.create(SdkBytes.fromUtf8String(json).asInputStream()))
+                               .build();
+        return JsonContent.createJsonContent(response, new JsonFactory());
+    }
+}
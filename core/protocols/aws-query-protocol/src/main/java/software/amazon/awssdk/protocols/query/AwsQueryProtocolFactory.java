@@ -39,6 +39,7 @@ import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
 import software.amazon.awssdk.protocols.query.internal.marshall.QueryProtocolMarshaller;
 import software.amazon.awssdk.protocols.query.internal.unmarshall.AwsQueryResponseHandler;
 import software.amazon.awssdk.protocols.query.internal.unmarshall.QueryProtocolUnmarshaller;
+import software.amazon.awssdk.protocols.query.internal.unmarshall.SdkClientXmlProtocolAdvancedOption;
 import software.amazon.awssdk.protocols.query.unmarshall.AwsXmlErrorProtocolUnmarshaller;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 
@@ -52,11 +53,14 @@ public class AwsQueryProtocolFactory {
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
     private final MetricCollectingHttpResponseHandler<AwsServiceException> errorUnmarshaller;
+    private final boolean enableFastUnmarshalling;
 
     AwsQueryProtocolFactory(Builder<?> builder) {
         this.clientConfiguration = builder.clientConfiguration;
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
+        this.enableFastUnmarshalling = clientConfiguration != null && Boolean.TRUE.equals(
+            clientConfiguration.option(SdkClientXmlProtocolAdvancedOption.ENABLE_FAST_UNMARSHALLER));
         this.errorUnmarshaller = timeUnmarshalling(AwsXmlErrorProtocolUnmarshaller
             .builder()
             .defaultExceptionSupplier(defaultServiceExceptionSupplier)
@@ -102,6 +106,8 @@ public class AwsQueryProtocolFactory {
     public final <T extends AwsResponse> HttpResponseHandler<T> createResponseHandler(Supplier<SdkPojo> pojoSupplier) {
         return timeUnmarshalling(new AwsQueryResponseHandler<>(QueryProtocolUnmarshaller.builder()
                                                                                         .hasResultWrapper(!isEc2())
+                                                                                        .enableFastUnmarshalling(
+                                                                                            enableFastUnmarshalling)
                                                                                         .build(), r -> pojoSupplier.get()));
     }
 
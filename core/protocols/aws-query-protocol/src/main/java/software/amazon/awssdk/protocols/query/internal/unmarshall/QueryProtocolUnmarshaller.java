@@ -19,6 +19,7 @@ import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
 import static software.amazon.awssdk.protocols.query.internal.marshall.SimpleTypeQueryMarshaller.defaultTimestampFormats;
 import static software.amazon.awssdk.utils.FunctionalUtils.invokeSafely;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -67,9 +68,13 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         .build();
 
     private final boolean hasResultWrapper;
+    private final QueryUnmarshallingParser unmarshallingParser;
 
     private QueryProtocolUnmarshaller(Builder builder) {
         this.hasResultWrapper = builder.hasResultWrapper;
+        this.unmarshallingParser = builder.enableFastUnmarshalling
+                                   ? new QueryUnmarshallingParser(builder.hasResultWrapper)
+                                   : null;
     }
 
     public <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> unmarshall(SdkPojo sdkPojo,
@@ -83,11 +88,29 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return Pair.of(unmarshall(sdkPojo, document, response), new HashMap<>());
         }
 
+        if (unmarshallingParser != null) {
+            return fastUnmarshall(sdkPojo, response);
+        }
+
         XmlElement document = response.content().map(XmlDomParser::parse).orElseGet(XmlElement::empty);
         XmlElement resultRoot = hasResultWrapper ? document.getFirstChild() : document;
         return Pair.of(unmarshall(sdkPojo, resultRoot, response), parseMetadata(document));
     }
 
+    @SuppressWarnings("unchecked")
+    private <TypeT extends SdkPojo> Pair<TypeT, Map<String, String>> fastUnmarshall(SdkPojo sdkPojo,
+                                                                                    SdkHttpFullResponse response) {
+        List<XmlElement> metadataElements = new ArrayList<>();
+        SdkPojo result = response.content()
+                                 .map(content -> unmarshallingParser.parse(unmarshallerContext(), sdkPojo, content,
+                                                                           metadataElements))
+                                 .orElseGet(() -> (SdkPojo) ((Buildable) sdkPojo).build());
+
+        XmlElement.Builder metadataDocument = XmlElement.builder();
+        metadataElements.forEach(metadataDocument::addChildElement);
+        return Pair.of((TypeT) result, parseMetadata(metadataDocument.build()));
+    }
+
     private boolean responsePayloadIsBlob(SdkPojo sdkPojo) {
         return sdkPojo.sdkFields().stream()
                       .anyMatch(field -> field.marshallingType() == MarshallingType.SDK_BYTES &&
@@ -102,11 +125,14 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     XmlElement resultRoot,
                                                     SdkHttpFullResponse response) {
-        QueryUnmarshallerContext unmarshallerContext = QueryUnmarshallerContext.builder()
-                                                                               .registry(UNMARSHALLER_REGISTRY)
-                                                                               .protocolUnmarshaller(this)
-                                                                               .build();
-        return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
+        return (TypeT) unmarshall(unmarshallerContext(), sdkPojo, resultRoot);
+    }
+
+    private QueryUnmarshallerContext unmarshallerContext() {
+        return QueryUnmarshallerContext.builder()
+                                       .registry(UNMARSHALLER_REGISTRY)
+                                       .protocolUnmarshaller(this)
+                                       .build();
     }
 
     private Map<String, String> parseMetadata(XmlElement document) {
@@ -126,7 +152,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
         return c.elementName().equals("RequestId") ? AWS_REQUEST_ID : c.elementName();
     }
 
-    private SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
+    SdkPojo unmarshall(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
         if (root != null) {
             for (SdkField<?> field : sdkPojo.sdkFields()) {
                 if (field.containsTrait(PayloadTrait.class, TraitType.PAYLOAD_TRAIT)
@@ -161,6 +187,7 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final class Builder {
 
         private boolean hasResultWrapper;
+        private boolean enableFastUnmarshalling = false;
 
         private Builder() {
         }
@@ -210,6 +237,18 @@ public final class QueryProtocolUnmarshaller implements XmlErrorUnmarshaller {
             return this;
         }
 
+        /**
+         * Enables the fast unmarshalling code path, which unmarshalls the response while reading it instead of parsing it
+         * into an {@link XmlElement} tree first.
+         *
+         * @param enableFastUnmarshalling Whether to enable the fast unmarshalling codepath. Default to {@code false}.
+         * @return This builder for method chaining.
+         */
+        public Builder enableFastUnmarshalling(boolean enableFastUnmarshalling) {
+            this.enableFastUnmarshalling = enableFastUnmarshalling;
+            return this;
+        }
+
         /**
          * @return New instance of {@link QueryProtocolUnmarshaller}.
          */
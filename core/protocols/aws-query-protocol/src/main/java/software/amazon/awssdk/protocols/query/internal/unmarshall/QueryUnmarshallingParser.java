@@ -0,0 +1,316 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static java.util.Collections.singletonList;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls an AWS/Query or EC2 response while reading it with a {@link XmlStreamParser}, instead of parsing the whole
+ * document into an {@link XmlElement} tree first.
+ * <p>
+ * The elements are unmarshalled the same way as {@link QueryProtocolUnmarshaller} unmarshalls the parsed document. The few
+ * elements this parser does not read itself, like the ones of types without a simple, list, map or structure unmarshaller,
+ * are parsed into an {@link XmlElement} and unmarshalled by the {@link QueryUnmarshaller} of their field.
+ */
+@SdkInternalApi
+@ThreadSafe
+@SuppressWarnings("unchecked")
+final class QueryUnmarshallingParser {
+    private static final String RESPONSE_METADATA_ELEMENT_NAME = "ResponseMetadata";
+    private static final String REQUEST_ID_ELEMENT_NAME = "requestId";
+
+    private static final Map<Class<?>, PojoFields> POJO_FIELDS = new ConcurrentHashMap<>();
+
+    private final boolean hasResultWrapper;
+
+    QueryUnmarshallingParser(boolean hasResultWrapper) {
+        this.hasResultWrapper = hasResultWrapper;
+    }
+
+    /**
+     * Parse the provided {@link InputStream} and return the deserialized {@link SdkPojo}.
+     *
+     * @param metadataElements The list to add the response metadata elements of the document to.
+     */
+    SdkPojo parse(QueryUnmarshallerContext context, SdkPojo sdkPojo, InputStream content, List<XmlElement> metadataElements) {
+        Optional<XmlStreamParser> document = XmlStreamParser.parse(content);
+        if (!document.isPresent()) {
+            return build(sdkPojo);
+        }
+
+        XmlStreamParser parser = document.get();
+        if (!hasResultWrapper) {
+            return parseSdkPojo(context, sdkPojo, parser, metadataElements);
+        }
+
+        // The result is the first child of the document, next to the response metadata.
+        SdkPojo result = null;
+        while (parser.nextChildElement()) {
+            if (result == null) {
+                result = isMetadataElement(parser.elementName())
+                         ? parseMetadataElementAsResult(context, sdkPojo, parser, metadataElements)
+                         : parseSdkPojo(context, sdkPojo, parser, null);
+            } else if (isMetadataElement(parser.elementName())) {
+                metadataElements.add(parser.readElement());
+            } else {
+                parser.skipElement();
+            }
+        }
+        return result != null ? result : build(sdkPojo);
+    }
+
+    private SdkPojo parseMetadataElementAsResult(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlStreamParser parser,
+                                                 List<XmlElement> metadataElements) {
+        XmlElement element = parser.readElement();
+        metadataElements.add(element);
+        return context.protocolUnmarshaller().unmarshall(context, sdkPojo, element);
+    }
+
+    /**
+     * Parses the current element into the given pojo and builds it.
+     *
+     * @param metadataElements The list to add the response metadata elements to, if the element is the root of the document.
+     */
+    private SdkPojo parseSdkPojo(QueryUnmarshallerContext context, SdkPojo sdkPojo, XmlStreamParser parser,
+                                 List<XmlElement> metadataElements) {
+        PojoFields pojoFields = POJO_FIELDS.computeIfAbsent(sdkPojo.getClass(), c -> new PojoFields(sdkPojo));
+        if (pojoFields.hasPayloadBlob) {
+            return context.protocolUnmarshaller().unmarshall(context, sdkPojo, parser.readElement());
+        }
+
+        boolean[] unmarshalled = new boolean[pojoFields.size];
+        Map<String, Object> flattenedValues = null;
+        Map<String, List<XmlElement>> parsedElements = null;
+
+        while (parser.nextChildElement()) {
+            String elementName = parser.elementName();
+            LocationFields locationFields = pojoFields.byLocationName.get(elementName);
+
+            if (metadataElements != null && isMetadataElement(elementName)) {
+                XmlElement element = parser.readElement();
+                metadataElements.add(element);
+                if (locationFields != null) {
+                    parsedElements = addParsedElement(parsedElements, elementName, element);
+                }
+                continue;
+            }
+
+            if (locationFields == null) {
+                parser.skipElement();
+                continue;
+            }
+
+            if (locationFields.fields.size() > 1) {
+                // Several fields are unmarshalled from the same elements.
+                parsedElements = addParsedElement(parsedElements, elementName, parser.readElement());
+                continue;
+            }
+
+            SdkField<?> field = locationFields.fields.get(0);
+            if (isFlattened(field)) {
+                if (flattenedValues == null) {
+                    flattenedValues = new LinkedHashMap<>();
+                }
+                Object values = flattenedValues.computeIfAbsent(elementName, n -> newCollection(field));
+                readFlattenedMember(context, field, values, parser);
+            } else if (unmarshalled[locationFields.index]) {
+                // Like when unmarshalling a parsed document, the first element with the name of the field is used.
+                parser.skipElement();
+            } else {
+                unmarshalled[locationFields.index] = true;
+                field.set(sdkPojo, readValue(context, field, parser));
+            }
+        }
+
+        if (flattenedValues != null) {
+            flattenedValues.forEach((name, values) -> pojoFields.byLocationName.get(name).fields.get(0).set(sdkPojo, values));
+        }
+        if (parsedElements != null) {
+            parsedElements.forEach((name, elements) -> setFromParsedElements(context, sdkPojo, pojoFields, name, elements));
+        }
+        return build(sdkPojo);
+    }
+
+    private static Map<String, List<XmlElement>> addParsedElement(Map<String, List<XmlElement>> parsedElements,
+                                                                  String elementName, XmlElement element) {
+        Map<String, List<XmlElement>> result = parsedElements != null ? parsedElements : new LinkedHashMap<>();
+        result.computeIfAbsent(elementName, n -> new ArrayList<>()).add(element);
+        return result;
+    }
+
+    private static void setFromParsedElements(QueryUnmarshallerContext context, SdkPojo sdkPojo, PojoFields pojoFields,
+                                              String elementName, List<XmlElement> elements) {
+        for (SdkField<?> field : pojoFields.byLocationName.get(elementName).fields) {
+            QueryUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            field.set(sdkPojo, unmarshaller.unmarshall(context, elements, (SdkField<Object>) field));
+        }
+    }
+
+    /**
+     * Reads the value of the current element, which is the first element of a field or a member of a list or map.
+     */
+    private Object readValue(QueryUnmarshallerContext context, SdkField<?> field, XmlStreamParser parser) {
+        Object unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+        if (unmarshaller instanceof SimpleTypeQueryUnmarshaller) {
+            return ((SimpleTypeQueryUnmarshaller<Object>) unmarshaller).convert(parser.readText(), (SdkField<Object>) field);
+        }
+        if (unmarshaller instanceof ListQueryUnmarshaller) {
+            return readList(context, field, parser);
+        }
+        if (unmarshaller instanceof MapQueryUnmarshaller) {
+            return readMap(context, field, parser);
+        }
+        if (field.marshallingType() == MarshallingType.SDK_POJO) {
+            return parseSdkPojo(context, field.constructor().get(), parser, null);
+        }
+        return ((QueryUnmarshaller<Object>) unmarshaller).unmarshall(context, singletonList(parser.readElement()),
+                                                                     (SdkField<Object>) field);
+    }
+
+    /**
+     * Reads a list that is not flattened. Like {@link ListQueryUnmarshaller}, all the child elements are members, whatever
+     * their name.
+     */
+    private List<Object> readList(QueryUnmarshallerContext context, SdkField<?> field, XmlStreamParser parser) {
+        SdkField<?> memberField = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).memberFieldInfo();
+        List<Object> list = new ArrayList<>();
+        while (parser.nextChildElement()) {
+            list.add(readValue(context, memberField, parser));
+        }
+        return list;
+    }
+
+    /**
+     * Reads a map that is not flattened, whose entries are the child elements named "entry".
+     */
+    private Map<String, Object> readMap(QueryUnmarshallerContext context, SdkField<?> field, XmlStreamParser parser) {
+        MapTrait mapTrait = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT);
+        Map<String, Object> map = new HashMap<>();
+        while (parser.nextChildElement()) {
+            if ("entry".equals(parser.elementName())) {
+                readMapEntry(context, mapTrait, map, parser);
+            } else {
+                parser.skipElement();
+            }
+        }
+        return map;
+    }
+
+    private void readFlattenedMember(QueryUnmarshallerContext context, SdkField<?> field, Object values,
+                                     XmlStreamParser parser) {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            SdkField<?> memberField = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).memberFieldInfo();
+            ((List<Object>) values).add(readValue(context, memberField, parser));
+        } else {
+            readMapEntry(context, field.getTrait(MapTrait.class, TraitType.MAP_TRAIT), (Map<String, Object>) values, parser);
+        }
+    }
+
+    private void readMapEntry(QueryUnmarshallerContext context, MapTrait mapTrait, Map<String, Object> map,
+                              XmlStreamParser parser) {
+        String key = null;
+        Object value = null;
+        while (parser.nextChildElement()) {
+            String elementName = parser.elementName();
+            if (elementName.equals(mapTrait.keyLocationName())) {
+                key = parser.readText();
+            } else if (elementName.equals(mapTrait.valueLocationName())) {
+                value = readValue(context, mapTrait.valueFieldInfo(), parser);
+            } else {
+                parser.skipElement();
+            }
+        }
+        if (key == null) {
+            throw SdkClientException.create("Could not find the key element " + mapTrait.keyLocationName()
+                                            + " of a map entry.");
+        }
+        map.put(key, value);
+    }
+
+    private static boolean isFlattened(SdkField<?> field) {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            return field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).isFlattened();
+        }
+        if (field.marshallingType() == MarshallingType.MAP) {
+            return field.getTrait(MapTrait.class, TraitType.MAP_TRAIT).isFlattened();
+        }
+        return false;
+    }
+
+    private static Object newCollection(SdkField<?> field) {
+        return field.marshallingType() == MarshallingType.LIST ? new ArrayList<>() : new HashMap<>();
+    }
+
+    private static boolean isMetadataElement(String elementName) {
+        return RESPONSE_METADATA_ELEMENT_NAME.equals(elementName) || REQUEST_ID_ELEMENT_NAME.equals(elementName);
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    /**
+     * The fields of a pojo class, by the name of the elements they are unmarshalled from.
+     */
+    private static final class PojoFields {
+        private final Map<String, LocationFields> byLocationName = new HashMap<>();
+        private final int size;
+        private final boolean hasPayloadBlob;
+
+        private PojoFields(SdkPojo sdkPojo) {
+            boolean payloadBlob = false;
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                byLocationName.computeIfAbsent(field.unmarshallLocationName(), n -> new LocationFields(byLocationName.size()))
+                              .fields.add(field);
+                payloadBlob |= field.marshallingType() == MarshallingType.SDK_BYTES
+                               && field.containsTrait(PayloadTrait.class, TraitType.PAYLOAD_TRAIT);
+            }
+            this.size = byLocationName.size();
+            this.hasPayloadBlob = payloadBlob;
+        }
+    }
+
+    private static final class LocationFields {
+        private final int index;
+        private final List<SdkField<?>> fields = new ArrayList<>(1);
+
+        private LocationFields(int index) {
+            this.index = index;
+        }
+    }
+}
@@ -42,4 +42,11 @@ public final class SimpleTypeQueryUnmarshaller<T> implements QueryUnmarshaller<T
         }
         return stringToValue.convert(content.get(0).textContent(), field);
     }
+
+    /**
+     * Converts the text content of an element read by {@link QueryUnmarshallingParser}.
+     */
+    T convert(String textContent, SdkField<T> field) {
+        return stringToValue.convert(textContent, field);
+    }
 }
@@ -48,7 +48,7 @@ public final class XmlDomParser {
                 return XmlElement.empty();
             }
 
-            XMLEventReader reader = FACTORY.get().createXMLEventReader(stream);
+            XMLEventReader reader = xmlInputFactory().createXMLEventReader(stream);
             XMLEvent nextEvent;
             // Skip ahead to the first start element
             do {
@@ -122,6 +122,13 @@ public final class XmlDomParser {
         }
     }
 
+    /**
+     * @return The {@link XMLInputFactory} of the current thread, also used by {@link XmlStreamParser}.
+     */
+    static XMLInputFactory xmlInputFactory() {
+        return FACTORY.get();
+    }
+
     /**
      * Disables certain dangerous features that attempt to automatically fetch DTDs
      *
@@ -0,0 +1,235 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.unmarshall;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.LookaheadInputStream;
+
+/**
+ * Reads an XML document one element at a time, without building the {@link XmlElement} tree of the whole document like
+ * {@link XmlDomParser} does.
+ * <p>
+ * The parser is positioned on a start element. Its attributes can be read until the parser moves, and its content is read
+ * with {@link #nextChildElement()}, {@link #readText()}, {@link #readElement()} or {@link #skipElement()}. The text content and
+ * the attributes of an element are read the same way as {@link XmlDomParser} reads them.
+ */
+@SdkProtectedApi
+@NotThreadSafe
+public final class XmlStreamParser {
+
+    private final XMLStreamReader reader;
+
+    private XmlStreamParser(XMLStreamReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Creates a parser positioned on the root element of the document.
+     *
+     * @param inputStream The XML document.
+     * @return The parser, or an empty {@link Optional} if the document is empty.
+     */
+    public static Optional<XmlStreamParser> parse(InputStream inputStream) {
+        LookaheadInputStream stream = new LookaheadInputStream(inputStream);
+        try {
+            if (stream.peek() == -1) {
+                return Optional.empty();
+            }
+
+            XMLStreamReader reader = XmlDomParser.xmlInputFactory().createXMLStreamReader(stream);
+            // Skip ahead to the first start element
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+                    return Optional.of(new XmlStreamParser(reader));
+                }
+            }
+            throw SdkClientException.create("Could not parse XML response.");
+        } catch (IOException | XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * @return The tag name of the current element.
+     */
+    public String elementName() {
+        return reader.getLocalName();
+    }
+
+    /**
+     * Retrieves an attribute of the current element, named like in {@link XmlElement#getOptionalAttributeByName(String)}.
+     * Attributes can only be read before moving to the content of the element.
+     *
+     * @param attribute The name of the attribute, with its prefix.
+     * @return The value of the attribute, or an empty {@link Optional} if the element does not have this attribute.
+     */
+    public Optional<String> getOptionalAttributeByName(String attribute) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (attribute.equals(attributeName(i))) {
+                return Optional.of(reader.getAttributeValue(i));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Moves to the next direct child element of the current element. The previous child element, if any, must have been
+     * read entirely before moving to the next one.
+     *
+     * @return True if the parser is positioned on the next child element, false if the end of the current element was reached.
+     */
+    public boolean nextChildElement() {
+        try {
+            while (true) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    return true;
+                }
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    return false;
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Reads the current element until its end, skipping its child elements.
+     *
+     * @return The text content of the element, the same as {@link XmlElement#textContent()}.
+     */
+    public String readText() {
+        try {
+            return readContent(null);
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Reads the current element until its end into an {@link XmlElement}, like {@link XmlDomParser} would have parsed it.
+     *
+     * @return The parsed element and its child elements.
+     */
+    public XmlElement readElement() {
+        try {
+            return parseElement();
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    /**
+     * Skips the current element until its end.
+     */
+    public void skipElement() {
+        try {
+            skipCurrentElement();
+        } catch (XMLStreamException e) {
+            throw SdkClientException.create("Could not parse XML response.", e);
+        }
+    }
+
+    private XmlElement parseElement() throws XMLStreamException {
+        XmlElement.Builder elementBuilder = XmlElement.builder().elementName(reader.getLocalName());
+        if (reader.getAttributeCount() > 0) {
+            Map<String, String> attributes = new HashMap<>();
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                attributes.put(attributeName(i), reader.getAttributeValue(i));
+            }
+            elementBuilder.attributes(attributes);
+        }
+        return elementBuilder.textContent(readContent(elementBuilder)).build();
+    }
+
+    /**
+     * Reads the content of the current element until its end. Like {@link XmlDomParser}, the text content of the element is
+     * the last run of character data, as other events like child elements or comments end a run of character data.
+     *
+     * @param elementBuilder The builder to add the child elements to, or null to skip the child elements.
+     * @return The text content of the element.
+     */
+    private String readContent(XmlElement.Builder elementBuilder) throws XMLStreamException {
+        String text = "";
+        StringBuilder textBuilder = null;
+        boolean inText = false;
+        while (true) {
+            int event = reader.next();
+            if (isText(event)) {
+                if (!inText) {
+                    text = reader.getText();
+                    inText = true;
+                } else {
+                    if (textBuilder == null) {
+                        textBuilder = new StringBuilder(text);
+                    }
+                    textBuilder.append(reader.getText());
+                }
+                continue;
+            }
+
+            if (textBuilder != null) {
+                text = textBuilder.toString();
+                textBuilder = null;
+            }
+            inText = false;
+
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                if (elementBuilder != null) {
+                    elementBuilder.addChildElement(parseElement());
+                } else {
+                    skipCurrentElement();
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                return text;
+            }
+        }
+    }
+
+    private void skipCurrentElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private String attributeName(int index) {
+        String prefix = reader.getAttributePrefix(index);
+        return (prefix == null ? "" : prefix) + ":" + reader.getAttributeLocalName(index);
+    }
+
+    private static boolean isText(int event) {
+        return event == XMLStreamConstants.CHARACTERS
+               || event == XMLStreamConstants.CDATA
+               || event == XMLStreamConstants.SPACE;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Optional;
+import javax.xml.stream.XMLStreamException;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
+import software.amazon.awssdk.utils.StringInputStream;
+
+public class XmlStreamParserTest {
+
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                                      + "<Struct xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"foo\">"
+                                      + " <stringMember>a &amp; b</stringMember>"
+                                      + " <cdataMember><![CDATA[<cdata>]]></cdataMember>"
+                                      + " <mixedMember>one<!-- comment -->two<child>three</child>four</mixedMember>"
+                                      + " <emptyMember/>"
+                                      + " <member attr=\"value\">valOne</member>"
+                                      + " <member><nested><member>valTwo</member></nested></member>"
+                                      + "</Struct>";
+
+    @Test
+    public void readElement_ParsedSameAsDomParser() {
+        XmlStreamParser parser = XmlStreamParser.parse(new StringInputStream(XML)).get();
+
+        assertSameElement(parser.readElement(), XmlDomParser.parse(new StringInputStream(XML)));
+    }
+
+    @Test
+    public void childElements_ReadOneAtATime() {
+        XmlStreamParser parser = XmlStreamParser.parse(new StringInputStream(XML)).get();
+        assertThat(parser.elementName()).isEqualTo("Struct");
+        assertThat(parser.getOptionalAttributeByName("xsi:type")).hasValue("foo");
+        assertThat(parser.getOptionalAttributeByName("xsi:nil")).isEmpty();
+
+        assertThat(parser.nextChildElement()).isTrue();
+        assertThat(parser.elementName()).isEqualTo("stringMember");
+        assertThat(parser.readText()).isEqualTo("a & b");
+
+        assertThat(parser.nextChildElement()).isTrue();
+        assertThat(parser.readText()).isEqualTo("<cdata>");
+
+        assertThat(parser.nextChildElement()).isTrue();
+        assertThat(parser.readText()).isEqualTo("four");
+
+        assertThat(parser.nextChildElement()).isTrue();
+        assertThat(parser.readText()).isEmpty();
+
+        assertThat(parser.nextChildElement()).isTrue();
+        assertThat(parser.getOptionalAttributeByName(":attr")).hasValue("value");
+        parser.skipElement();
+
+        assertThat(parser.nextChildElement()).isTrue();
+        assertThat(parser.nextChildElement()).isTrue();
+        assertThat(parser.elementName()).isEqualTo("nested");
+        parser.skipElement();
+        assertThat(parser.nextChildElement()).isFalse();
+
+        assertThat(parser.nextChildElement()).isFalse();
+    }
+
+    @Test
+    public void emptyDocument_ReturnsEmpty() {
+        assertThat(XmlStreamParser.parse(new StringInputStream(""))).isEmpty();
+    }
+
+    @Test
+    public void invalidXml_ThrowsException() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<Struct>"
+                     + " <member>valOne"
+                     + " <member>valTwo</member>"
+                     + "</Struct>";
+        Optional<XmlStreamParser> parser = XmlStreamParser.parse(new StringInputStream(xml));
+        assertThatThrownBy(() -> parser.get().readElement())
+            .isInstanceOf(SdkClientException.class)
+            .hasCauseInstanceOf(XMLStreamException.class);
+    }
+
+    private static void assertSameElement(XmlElement actual, XmlElement expected) {
+        assertThat(actual.elementName()).isEqualTo(expected.elementName());
+        assertThat(actual.textContent()).isEqualTo(expected.textContent());
+        assertThat(actual.attributes()).isEqualTo(expected.attributes());
+        assertThat(actual.children()).hasSameSizeAs(expected.children());
+        for (int i = 0; i < expected.children().size(); i++) {
+            assertSameElement(actual.children().get(i), expected.children().get(i));
+        }
+    }
+}
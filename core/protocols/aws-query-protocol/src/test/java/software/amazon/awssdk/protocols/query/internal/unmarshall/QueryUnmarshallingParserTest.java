@@ -0,0 +1,192 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.query.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.awscore.util.AwsHeader.AWS_REQUEST_ID;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.TestPojo.field;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.TestPojo.listField;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.TestPojo.mapField;
+import static software.amazon.awssdk.protocols.query.internal.unmarshall.TestPojo.structField;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.Pair;
+import software.amazon.awssdk.utils.StringInputStream;
+
+/**
+ * Verifies that {@link QueryUnmarshallingParser} unmarshalls the same responses as parsing them into an XML tree first.
+ */
+public class QueryUnmarshallingParserTest {
+
+    private static final String RESULT_CONTENT =
+        "    <StringMember>a &amp; b</StringMember>"
+        + "  <StringMember>ignored</StringMember>"
+        + "  <IntegerMember>42</IntegerMember>"
+        + "  <LongMember>9007199254740993</LongMember>"
+        + "  <ShortMember>7</ShortMember>"
+        + "  <FloatMember>1.5</FloatMember>"
+        + "  <DoubleMember>2.25</DoubleMember>"
+        + "  <BooleanMember>true</BooleanMember>"
+        + "  <TimestampMember>2024-01-02T03:04:05.678Z</TimestampMember>"
+        + "  <BlobMember>aGVsbG8=</BlobMember>"
+        + "  <Unknown><Name>skipped</Name></Unknown>"
+        + "  <Struct><Name><![CDATA[<cdata>]]></Name><Count>1</Count></Struct>"
+        + "  <Strings><member>x</member><item>y</item></Strings>"
+        + "  <Structs><member><Name>n1</Name></member><member><Name>n2</Name><Count>2</Count></member></Structs>"
+        + "  <Flattened>f1</Flattened>"
+        + "  <Nested><member><member>a</member><member>b</member></member><member/></Nested>"
+        + "  <Flattened>f2</Flattened>"
+        + "  <Map><entry><key>k1</key><value>v1</value></entry><entry><value>v2</value><key>k2</key></entry></Map>"
+        + "  <FlattenedMap><key>k</key><value><Name>n</Name></value></FlattenedMap>"
+        + "  <FlattenedMap><key>l</key><value><Count>3</Count></value></FlattenedMap>"
+        + "  <Shared>7</Shared>"
+        + "  <BlobStruct>text<Data>ignored</Data></BlobStruct>"
+        + "  <Mixed>a<!-- comment -->b<Child/>c&#x20;d</Mixed>"
+        + "  <Empty/>";
+
+    @Test
+    public void queryResponse_unmarshallsSameAsParsedDocument() {
+        String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                     + "<OperationResponse xmlns=\"https://example.com/doc/\">"
+                     + "  <OperationResult>" + RESULT_CONTENT + "</OperationResult>"
+                     + "  <ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata>"
+                     + "</OperationResponse>";
+
+        Pair<SdkPojo, Map<String, String>> result = assertSameAsParsedDocument(true, Result::new, xml);
+
+        Result pojo = (Result) result.left();
+        assertThat(pojo.get("StringMember")).isEqualTo("a & b");
+        assertThat(pojo.get("LongMember")).isEqualTo(9007199254740993L);
+        assertThat(pojo.get("TimestampMember")).isEqualTo(Instant.parse("2024-01-02T03:04:05.678Z"));
+        assertThat(pojo.get("BlobMember")).isEqualTo(SdkBytes.fromUtf8String("hello"));
+        assertThat(pojo.get("Strings")).isEqualTo(Arrays.asList("x", "y"));
+        assertThat(pojo.get("Flattened")).isEqualTo(Arrays.asList("f1", "f2"));
+        assertThat(pojo.get("Mixed")).isEqualTo("c d");
+        assertThat(((Inner) pojo.get("Struct")).get("Name")).isEqualTo("<cdata>");
+        assertThat(pojo.get("SharedString")).isEqualTo("7");
+        assertThat(pojo.get("SharedInteger")).isEqualTo(7);
+        assertThat(result.right()).containsEntry(AWS_REQUEST_ID, "request-id");
+    }
+
+    @Test
+    public void ec2Response_unmarshallsSameAsParsedDocument() {
+        String xml = "<DescribeResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">"
+                     + "  <requestId>request-id</requestId>"
+                     + RESULT_CONTENT
+                     + "</DescribeResponse>";
+
+        Pair<SdkPojo, Map<String, String>> result = assertSameAsParsedDocument(false, Result::new, xml);
+
+        assertThat(((Result) result.left()).get("requestId")).isEqualTo("request-id");
+        assertThat(result.right()).containsEntry(AWS_REQUEST_ID, "request-id");
+    }
+
+    @Test
+    public void responseWithoutResult_unmarshallsSameAsParsedDocument() {
+        String xml = "<OperationResponse>"
+                     + "  <ResponseMetadata><RequestId>request-id</RequestId></ResponseMetadata>"
+                     + "</OperationResponse>";
+
+        Pair<SdkPojo, Map<String, String>> result = assertSameAsParsedDocument(true, Result::new, xml);
+
+        assertThat(result.right()).containsEntry(AWS_REQUEST_ID, "request-id");
+    }
+
+    @Test
+    public void emptyResponse_unmarshallsSameAsParsedDocument() {
+        assertSameAsParsedDocument(true, Result::new, "");
+        assertSameAsParsedDocument(false, Result::new, "");
+        assertSameAsParsedDocument(true, Result::new, "<OperationResponse/>");
+    }
+
+    private static Pair<SdkPojo, Map<String, String>> assertSameAsParsedDocument(boolean hasResultWrapper,
+                                                                                Supplier<SdkPojo> pojo,
+                                                                                String xml) {
+        Pair<SdkPojo, Map<String, String>> parsed = unmarshall(false, hasResultWrapper, pojo, xml);
+        Pair<SdkPojo, Map<String, String>> streamed = unmarshall(true, hasResultWrapper, pojo, xml);
+
+        assertThat(streamed.left()).isEqualTo(parsed.left());
+        assertThat(streamed.right()).isEqualTo(parsed.right());
+        return streamed;
+    }
+
+    private static Pair<SdkPojo, Map<String, String>> unmarshall(boolean enableFastUnmarshalling,
+                                                                boolean hasResultWrapper,
+                                                                Supplier<SdkPojo> pojo,
+                                                                String xml) {
+        QueryProtocolUnmarshaller unmarshaller = QueryProtocolUnmarshaller.builder()
+                                                                          .hasResultWrapper(hasResultWrapper)
+                                                                          .enableFastUnmarshalling(enableFastUnmarshalling)
+                                                                          .build();
+        SdkHttpFullResponse response = SdkHttpFullResponse.builder()
+                                                          .statusCode(200)
+                                                          .content(AbortableInputStream.create(new StringInputStream(xml)))
+                                                          .build();
+        return unmarshaller.unmarshall(pojo.get(), response);
+    }
+
+    private static final class Result extends TestPojo {
+        private Result() {
+            super(field(MarshallingType.STRING, "StringMember"),
+                  field(MarshallingType.INTEGER, "IntegerMember"),
+                  field(MarshallingType.LONG, "LongMember"),
+                  field(MarshallingType.SHORT, "ShortMember"),
+                  field(MarshallingType.FLOAT, "FloatMember"),
+                  field(MarshallingType.DOUBLE, "DoubleMember"),
+                  field(MarshallingType.BOOLEAN, "BooleanMember"),
+                  field(MarshallingType.INSTANT, "TimestampMember"),
+                  field(MarshallingType.SDK_BYTES, "BlobMember"),
+                  field(MarshallingType.STRING, "requestId"),
+                  field(MarshallingType.STRING, "Mixed"),
+                  field(MarshallingType.STRING, "Empty"),
+                  field(MarshallingType.STRING, "Missing"),
+                  field("SharedString", MarshallingType.STRING, "Shared"),
+                  field("SharedInteger", MarshallingType.INTEGER, "Shared"),
+                  structField("Struct", Inner::new),
+                  structField("BlobStruct", BlobPayloadStruct::new),
+                  listField("Strings", "member", false, field(MarshallingType.STRING, "member")),
+                  listField("Structs", "member", false, structField("member", Inner::new)),
+                  listField("Flattened", null, true, field(MarshallingType.STRING, "Flattened")),
+                  listField("Nested", "member", false,
+                            listField("member", "member", false, field(MarshallingType.STRING, "member"))),
+                  mapField("Map", false, field(MarshallingType.STRING, "value")),
+                  mapField("FlattenedMap", true, structField("value", Inner::new)));
+        }
+    }
+
+    private static final class Inner extends TestPojo {
+        private Inner() {
+            super(field(MarshallingType.STRING, "Name"),
+                  field(MarshallingType.INTEGER, "Count"));
+        }
+    }
+
+    private static final class BlobPayloadStruct extends TestPojo {
+        private BlobPayloadStruct() {
+            super(field(MarshallingType.SDK_BYTES, "Data", PayloadTrait.create()));
+        }
+    }
+}
@@ -91,6 +91,7 @@ public final class AwsS3ProtocolFactory extends AwsXmlProtocolFactory {
                                                      createResponseTransformer(pojoSupplier),
                                                      createErrorTransformer(),
                                                      DecorateErrorFromResponseBodyUnmarshaller.of(this::getErrorRoot),
-                                                     staxOperationMetadata.isHasStreamingSuccessResponse());
+                                                     staxOperationMetadata.isHasStreamingSuccessResponse(),
+                                                     enableFastUnmarshalling);
     }
 }
@@ -41,6 +41,7 @@ import software.amazon.awssdk.protocols.core.ExceptionMetadata;
 import software.amazon.awssdk.protocols.core.OperationInfo;
 import software.amazon.awssdk.protocols.core.OperationMetadataAttribute;
 import software.amazon.awssdk.protocols.core.ProtocolMarshaller;
+import software.amazon.awssdk.protocols.query.internal.unmarshall.SdkClientXmlProtocolAdvancedOption;
 import software.amazon.awssdk.protocols.query.unmarshall.AwsXmlErrorProtocolUnmarshaller;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.xml.internal.marshall.XmlGenerator;
@@ -75,6 +76,9 @@ public class AwsXmlProtocolFactory {
         new OperationMetadataAttribute<>(String.class);
 
     private static final XmlProtocolUnmarshaller XML_PROTOCOL_UNMARSHALLER = XmlProtocolUnmarshaller.create();
+    private static final XmlProtocolUnmarshaller FAST_XML_PROTOCOL_UNMARSHALLER = XmlProtocolUnmarshaller.create(true);
+
+    final boolean enableFastUnmarshalling;
 
     private final List<ExceptionMetadata> modeledExceptions;
     private final Supplier<SdkPojo> defaultServiceExceptionSupplier;
@@ -85,6 +89,8 @@ public class AwsXmlProtocolFactory {
         this.modeledExceptions = unmodifiableList(builder.modeledExceptions);
         this.defaultServiceExceptionSupplier = builder.defaultServiceExceptionSupplier;
         this.clientConfiguration = builder.clientConfiguration;
+        this.enableFastUnmarshalling = clientConfiguration != null && Boolean.TRUE.equals(
+            clientConfiguration.option(SdkClientXmlProtocolAdvancedOption.ENABLE_FAST_UNMARSHALLER));
 
         this.errorUnmarshaller = timeUnmarshalling(
             AwsXmlErrorProtocolUnmarshaller.builder()
@@ -128,7 +134,7 @@ public class AwsXmlProtocolFactory {
         return timeUnmarshalling(
             new AwsXmlResponseHandler<>(
                 new XmlResponseHandler<>(
-                    XML_PROTOCOL_UNMARSHALLER, pojoSupplier,
+                    responseUnmarshaller(), pojoSupplier,
                     staxOperationMetadata.isHasStreamingSuccessResponse())));
     }
 
@@ -136,7 +142,11 @@ public class AwsXmlProtocolFactory {
         Supplier<SdkPojo> pojoSupplier) {
 
         return new AwsXmlResponseTransformer<>(
-            XML_PROTOCOL_UNMARSHALLER, r -> pojoSupplier.get());
+            responseUnmarshaller(), r -> pojoSupplier.get());
+    }
+
+    private XmlProtocolUnmarshaller responseUnmarshaller() {
+        return enableFastUnmarshalling ? FAST_XML_PROTOCOL_UNMARSHALLER : XML_PROTOCOL_UNMARSHALLER;
     }
 
     protected Function<AwsXmlUnmarshallingContext, AwsServiceException> createErrorTransformer() {
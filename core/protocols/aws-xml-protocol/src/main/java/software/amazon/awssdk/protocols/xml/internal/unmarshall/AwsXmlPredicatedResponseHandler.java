@@ -29,6 +29,7 @@ import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 import software.amazon.awssdk.utils.IoUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -48,6 +49,7 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
     private final Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer;
     private final Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError;
     private final boolean needsConnectionLeftOpen;
+    private final boolean enableFastUnmarshalling;
 
     /**
      * Standard constructor
@@ -64,11 +66,35 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
         Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
         boolean needsConnectionLeftOpen) {
 
+        this(pojoSupplier, successResponseTransformer, errorResponseTransformer, decorateContextWithError,
+             needsConnectionLeftOpen, false);
+    }
+
+    /**
+     * Constructor that can unmarshall successful responses while they are parsed.
+     * @param pojoSupplier A method that supplies an empty builder of the correct type
+     * @param successResponseTransformer A function that can unmarshall a response object from parsed XML, or from the
+     *                                   {@link AwsXmlUnmarshallingContext#xmlStreamParser()} of the context
+     * @param errorResponseTransformer A function that can unmarshall an exception object from parsed XML
+     * @param decorateContextWithError A function that determines if the response was an error or not
+     * @param needsConnectionLeftOpen true if the underlying connection should not be closed once parsed
+     * @param enableFastUnmarshalling true to pass the XML of successful responses to the success response transformer
+     *                                without parsing it first, unless its root element is an error
+     */
+    public AwsXmlPredicatedResponseHandler(
+        Function<SdkHttpFullResponse, SdkPojo> pojoSupplier,
+        Function<AwsXmlUnmarshallingContext, OutputT> successResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, ? extends SdkException> errorResponseTransformer,
+        Function<AwsXmlUnmarshallingContext, AwsXmlUnmarshallingContext> decorateContextWithError,
+        boolean needsConnectionLeftOpen,
+        boolean enableFastUnmarshalling) {
+
         this.pojoSupplier = pojoSupplier;
         this.successResponseTransformer = successResponseTransformer;
         this.errorResponseTransformer = errorResponseTransformer;
         this.decorateContextWithError = decorateContextWithError;
         this.needsConnectionLeftOpen = needsConnectionLeftOpen;
+        this.enableFastUnmarshalling = enableFastUnmarshalling;
     }
 
     /**
@@ -112,13 +138,23 @@ public class AwsXmlPredicatedResponseHandler<OutputT> implements HttpResponseHan
 
     private AwsXmlUnmarshallingContext parseResponse(SdkHttpFullResponse httpFullResponse,
                                                      ExecutionAttributes executionAttributes) {
-        XmlElement document = XmlResponseParserUtils.parse(pojoSupplier.apply(httpFullResponse), httpFullResponse);
+        AwsXmlUnmarshallingContext.Builder context = AwsXmlUnmarshallingContext.builder()
+                                                                               .executionAttributes(executionAttributes)
+                                                                               .sdkHttpFullResponse(httpFullResponse);
+        SdkPojo sdkPojo = pojoSupplier.apply(httpFullResponse);
+        if (!enableFastUnmarshalling || !XmlResponseParserUtils.canUnmarshallWhileParsing(sdkPojo, httpFullResponse)) {
+            return context.parsedXml(XmlResponseParserUtils.parse(sdkPojo, httpFullResponse)).build();
+        }
 
-        return AwsXmlUnmarshallingContext.builder()
-                                         .parsedXml(document)
-                                         .executionAttributes(executionAttributes)
-                                         .sdkHttpFullResponse(httpFullResponse)
-                                         .build();
+        Optional<XmlStreamParser> parser = XmlStreamParser.parse(httpFullResponse.content().get());
+        if (!parser.isPresent()) {
+            return context.parsedXml(XmlElement.empty()).build();
+        }
+        // An error in the body of a successful response is parsed, so that it can be found and unmarshalled like any error.
+        if (DecorateErrorFromResponseBodyUnmarshaller.ERROR_IN_SUCCESS_BODY_ELEMENT_NAME.equals(parser.get().elementName())) {
+            return context.parsedXml(parser.get().readElement()).build();
+        }
+        return context.xmlStreamParser(parser.get()).build();
     }
 
     /**
@@ -29,6 +29,7 @@ import software.amazon.awssdk.core.SdkStandardLogger;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.http.SdkHttpResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 
 /**
  * A transformer function that takes a parsed XML response and converts it into an {@link AwsResponse}. Used
@@ -51,14 +52,28 @@ public final class AwsXmlResponseTransformer<T extends AwsResponse>
 
     @Override
     public T apply(AwsXmlUnmarshallingContext context) {
+        if (context.xmlStreamParser() != null) {
+            return unmarshallResponse(context.sdkHttpFullResponse(), context.xmlStreamParser());
+        }
         return unmarshallResponse(context.sdkHttpFullResponse(), context.parsedRootXml());
     }
 
-    @SuppressWarnings("unchecked")
     private T unmarshallResponse(SdkHttpFullResponse response, XmlElement parsedXml) {
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Unmarshalling parsed service response XML.");
         T result = unmarshaller.unmarshall(pojoSupplier.apply(response), parsedXml, response);
         SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done unmarshalling parsed service response.");
+        return addResponseMetadata(result, response);
+    }
+
+    private T unmarshallResponse(SdkHttpFullResponse response, XmlStreamParser parser) {
+        SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Parsing and unmarshalling service response XML.");
+        T result = unmarshaller.unmarshall(pojoSupplier.apply(response), parser, response);
+        SdkStandardLogger.REQUEST_LOGGER.trace(() -> "Done parsing and unmarshalling service response.");
+        return addResponseMetadata(result, response);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T addResponseMetadata(T result, SdkHttpFullResponse response) {
         AwsResponseMetadata responseMetadata = generateResponseMetadata(response);
         return (T) result.toBuilder().responseMetadata(responseMetadata).build();
     }
@@ -19,6 +19,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 
 /**
  * A data class to hold all the context of an unmarshalling stage for the AWS XML protocol as orchestrated by
@@ -28,6 +29,7 @@ import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 public class AwsXmlUnmarshallingContext {
     private final SdkHttpFullResponse sdkHttpFullResponse;
     private final XmlElement parsedXml;
+    private final XmlStreamParser xmlStreamParser;
     private final ExecutionAttributes executionAttributes;
     private final Boolean isResponseSuccess;
     private final XmlElement parsedErrorXml;
@@ -35,6 +37,7 @@ public class AwsXmlUnmarshallingContext {
     private AwsXmlUnmarshallingContext(Builder builder) {
         this.sdkHttpFullResponse = builder.sdkHttpFullResponse;
         this.parsedXml = builder.parsedXml;
+        this.xmlStreamParser = builder.xmlStreamParser;
         this.executionAttributes = builder.executionAttributes;
         this.isResponseSuccess = builder.isResponseSuccess;
         this.parsedErrorXml = builder.parsedErrorXml;
@@ -58,6 +61,14 @@ public class AwsXmlUnmarshallingContext {
         return parsedXml;
     }
 
+    /**
+     * The parser positioned on the root element of the body, if the body is unmarshalled while it is parsed instead of being
+     * parsed into {@link #parsedRootXml()} first. null otherwise.
+     */
+    public XmlStreamParser xmlStreamParser() {
+        return xmlStreamParser;
+    }
+
     /**
      * The {@link ExecutionAttributes} associated with this request.
      */
@@ -82,6 +93,7 @@ public class AwsXmlUnmarshallingContext {
     public Builder toBuilder() {
         return builder().sdkHttpFullResponse(this.sdkHttpFullResponse)
                         .parsedXml(this.parsedXml)
+                        .xmlStreamParser(this.xmlStreamParser)
                         .executionAttributes(this.executionAttributes)
                         .isResponseSuccess(this.isResponseSuccess)
                         .parsedErrorXml(this.parsedErrorXml);
@@ -105,6 +117,9 @@ public class AwsXmlUnmarshallingContext {
         if (parsedXml != null ? ! parsedXml.equals(that.parsedXml) : that.parsedXml != null) {
             return false;
         }
+        if (xmlStreamParser != null ? ! xmlStreamParser.equals(that.xmlStreamParser) : that.xmlStreamParser != null) {
+            return false;
+        }
         if (executionAttributes != null ? ! executionAttributes.equals(that.executionAttributes) :
             that.executionAttributes != null) {
             return false;
@@ -120,6 +135,7 @@ public class AwsXmlUnmarshallingContext {
     public int hashCode() {
         int result = sdkHttpFullResponse != null ? sdkHttpFullResponse.hashCode() : 0;
         result = 31 * result + (parsedXml != null ? parsedXml.hashCode() : 0);
+        result = 31 * result + (xmlStreamParser != null ? xmlStreamParser.hashCode() : 0);
         result = 31 * result + (executionAttributes != null ? executionAttributes.hashCode() : 0);
         result = 31 * result + (isResponseSuccess != null ? isResponseSuccess.hashCode() : 0);
         result = 31 * result + (parsedErrorXml != null ? parsedErrorXml.hashCode() : 0);
@@ -129,6 +145,7 @@ public class AwsXmlUnmarshallingContext {
     public static final class Builder {
         private SdkHttpFullResponse sdkHttpFullResponse;
         private XmlElement parsedXml;
+        private XmlStreamParser xmlStreamParser;
         private ExecutionAttributes executionAttributes;
         private Boolean isResponseSuccess;
         private XmlElement parsedErrorXml;
@@ -146,6 +163,11 @@ public class AwsXmlUnmarshallingContext {
             return this;
         }
 
+        public Builder xmlStreamParser(XmlStreamParser xmlStreamParser) {
+            this.xmlStreamParser = xmlStreamParser;
+            return this;
+        }
+
         public Builder executionAttributes(ExecutionAttributes executionAttributes) {
             this.executionAttributes = executionAttributes;
             return this;
@@ -105,7 +105,7 @@ public final class XmlPayloadUnmarshaller {
      * Base payload unmarshaller for simple types of xml protocol
      * @param <T> Type to unmarshall
      */
-    private static class SimpleTypePayloadUnmarshaller<T> implements XmlUnmarshaller<T> {
+    static final class SimpleTypePayloadUnmarshaller<T> implements XmlUnmarshaller<T> {
         private final StringToValueConverter.StringToValue<T> converter;
 
         private SimpleTypePayloadUnmarshaller(StringToValueConverter.StringToValue<T> converter) {
@@ -119,5 +119,12 @@ public final class XmlPayloadUnmarshaller {
             }
             return converter.convert(content.get(0).textContent(), field);
         }
+
+        /**
+         * Converts the text content of an element read by {@link XmlUnmarshallingParser}.
+         */
+        T convert(String textContent, SdkField<T> field) {
+            return converter.convert(textContent, field);
+        }
     }
 }
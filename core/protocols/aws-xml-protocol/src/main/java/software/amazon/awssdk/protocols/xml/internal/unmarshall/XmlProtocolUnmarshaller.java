@@ -24,6 +24,7 @@ import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.SdkField;
@@ -40,6 +41,7 @@ import software.amazon.awssdk.protocols.core.StringToValueConverter;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlDomParser;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
 import software.amazon.awssdk.protocols.query.unmarshall.XmlErrorUnmarshaller;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
 import software.amazon.awssdk.utils.CollectionUtils;
 import software.amazon.awssdk.utils.builder.Buildable;
 
@@ -49,19 +51,48 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public static final StringToValueConverter.StringToValue<Instant> INSTANT_STRING_TO_VALUE
         = StringToInstant.create(getDefaultTimestampFormats());
     private static final XmlUnmarshallerRegistry REGISTRY = createUnmarshallerRegistry();
+    private static final XmlUnmarshallingParser UNMARSHALLING_PARSER = new XmlUnmarshallingParser();
 
-    private XmlProtocolUnmarshaller() {
+    private final boolean enableFastUnmarshalling;
+
+    private XmlProtocolUnmarshaller(boolean enableFastUnmarshalling) {
+        this.enableFastUnmarshalling = enableFastUnmarshalling;
     }
 
     public static XmlProtocolUnmarshaller create() {
-        return new XmlProtocolUnmarshaller();
+        return new XmlProtocolUnmarshaller(false);
+    }
+
+    /**
+     * @param enableFastUnmarshalling True to unmarshall the successful responses while their XML is parsed, instead of
+     * parsing it into an {@link XmlElement} tree first.
+     */
+    public static XmlProtocolUnmarshaller create(boolean enableFastUnmarshalling) {
+        return new XmlProtocolUnmarshaller(enableFastUnmarshalling);
     }
 
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        if (enableFastUnmarshalling && XmlResponseParserUtils.canUnmarshallWhileParsing(sdkPojo, response)) {
+            Optional<XmlStreamParser> parser = XmlStreamParser.parse(response.content().get());
+            return parser.isPresent() ? unmarshall(sdkPojo, parser.get(), response)
+                                      : unmarshall(sdkPojo, XmlElement.empty(), response);
+        }
         XmlElement document = hasXmlPayload(sdkPojo, response) ? XmlResponseParserUtils.parse(sdkPojo, response) : null;
         return unmarshall(sdkPojo, document, response);
     }
 
+    /**
+     * Unmarshalls the document while it is parsed, the same way as {@link #unmarshall(SdkPojo, XmlElement,
+     * SdkHttpFullResponse)} unmarshalls the parsed document.
+     *
+     * @param parser The parser positioned on the root element of the document.
+     */
+    public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
+                                                    XmlStreamParser parser,
+                                                    SdkHttpFullResponse response) {
+        return (TypeT) UNMARSHALLING_PARSER.parse(unmarshallerContext(response), sdkPojo, parser);
+    }
+
     /**
      * This method is also used to unmarshall exceptions. We use this since we've already parsed the XML
      * and the result root is in a different location depending on the protocol/service.
@@ -70,12 +101,15 @@ public final class XmlProtocolUnmarshaller implements XmlErrorUnmarshaller {
     public <TypeT extends SdkPojo> TypeT unmarshall(SdkPojo sdkPojo,
                                                     XmlElement resultRoot,
                                                     SdkHttpFullResponse response) {
-        XmlUnmarshallerContext unmarshallerContext = XmlUnmarshallerContext.builder()
-                                                                           .response(response)
-                                                                           .registry(REGISTRY)
-                                                                           .protocolUnmarshaller(this)
-                                                                           .build();
-        return (TypeT) unmarshall(unmarshallerContext, sdkPojo, resultRoot);
+        return (TypeT) unmarshall(unmarshallerContext(response), sdkPojo, resultRoot);
+    }
+
+    private XmlUnmarshallerContext unmarshallerContext(SdkHttpFullResponse response) {
+        return XmlUnmarshallerContext.builder()
+                                     .response(response)
+                                     .registry(REGISTRY)
+                                     .protocolUnmarshaller(this)
+                                     .build();
     }
 
     SdkPojo unmarshall(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlElement root) {
@@ -73,6 +73,24 @@ public final class XmlResponseParserUtils {
         }
     }
 
+    /**
+     * Checks if the XML payload of a response can be unmarshalled while it is parsed, instead of being parsed by
+     * {@link #parse(SdkPojo, SdkHttpFullResponse)} first. This is the case for the successful responses with content whose
+     * payload members are read from the XML document, rather than from the raw content of an explicit blob or string payload.
+     * @param sdkPojo the SDK builder object associated with the final response
+     * @param response the HTTP response
+     * @return True if the payload can be unmarshalled while it is parsed.
+     */
+    public static boolean canUnmarshallWhileParsing(SdkPojo sdkPojo, SdkHttpFullResponse response) {
+        return response.isSuccessful()
+               && response.content().isPresent()
+               && hasPayloadMembers(sdkPojo)
+               && sdkPojo.sdkFields().stream()
+                         .noneMatch(f -> isExplicitPayloadMember(f)
+                                         && (f.marshallingType() == MarshallingType.SDK_BYTES
+                                             || f.marshallingType() == MarshallingType.STRING));
+    }
+
     /**
      * Gets the Member which is a Payload and which is of Blob Type.
      * @param sdkPojo
@@ -0,0 +1,305 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static java.util.Collections.singletonList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.TraitType;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlElement;
+import software.amazon.awssdk.protocols.query.unmarshall.XmlStreamParser;
+import software.amazon.awssdk.protocols.xml.internal.unmarshall.XmlPayloadUnmarshaller.SimpleTypePayloadUnmarshaller;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * Unmarshalls a REST-XML response while reading it with a {@link XmlStreamParser}, instead of parsing the whole document
+ * into an {@link XmlElement} tree first.
+ * <p>
+ * The elements are unmarshalled the same way as {@link XmlProtocolUnmarshaller} unmarshalls the parsed document. The few
+ * structures this parser does not read itself, like the ones with an explicit blob or string payload, are parsed into an
+ * {@link XmlElement} and unmarshalled by the {@link XmlProtocolUnmarshaller}.
+ */
+@SdkInternalApi
+@ThreadSafe
+@SuppressWarnings("unchecked")
+final class XmlUnmarshallingParser {
+    private static final Map<Class<?>, PojoFields> POJO_FIELDS = new ConcurrentHashMap<>();
+
+    /**
+     * Parses the element the parser is positioned on into the given pojo and builds it.
+     */
+    SdkPojo parse(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlStreamParser parser) {
+        return parseSdkPojo(context, sdkPojo, parser);
+    }
+
+    private SdkPojo parseSdkPojo(XmlUnmarshallerContext context, SdkPojo sdkPojo, XmlStreamParser parser) {
+        PojoFields pojoFields = POJO_FIELDS.computeIfAbsent(sdkPojo.getClass(), c -> new PojoFields(sdkPojo));
+        if (pojoFields.parseElement) {
+            return context.protocolUnmarshaller().unmarshall(context, sdkPojo, parser.readElement());
+        }
+
+        for (SdkField<?> field : pojoFields.nonPayloadFields) {
+            XmlUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            field.set(sdkPojo, unmarshaller.unmarshall(context, null, (SdkField<Object>) field));
+        }
+        // The attributes of the element can only be read before its content.
+        for (SdkField<?> field : pojoFields.attributeFields) {
+            parser.getOptionalAttributeByName(field.unmarshallLocationName())
+                  .ifPresent(e -> field.set(sdkPojo, e));
+        }
+
+        if (pojoFields.payloadPojoField != null) {
+            SdkField<?> field = pojoFields.payloadPojoField;
+            field.set(sdkPojo, parseSdkPojo(context, field.constructor().get(), parser));
+            return build(sdkPojo);
+        }
+
+        boolean[] unmarshalled = new boolean[pojoFields.size];
+        Map<String, Object> flattenedValues = null;
+        Map<String, List<XmlElement>> parsedElements = null;
+
+        while (parser.nextChildElement()) {
+            String elementName = parser.elementName();
+            LocationFields locationFields = pojoFields.byLocationName.get(elementName);
+
+            if (locationFields == null) {
+                parser.skipElement();
+                continue;
+            }
+
+            if (locationFields.fields.size() > 1) {
+                // Several fields are unmarshalled from the same elements.
+                parsedElements = addParsedElement(parsedElements, elementName, parser.readElement());
+                continue;
+            }
+
+            SdkField<?> field = locationFields.fields.get(0);
+            if (isFlattened(field)) {
+                if (flattenedValues == null) {
+                    flattenedValues = new LinkedHashMap<>();
+                }
+                Object values = flattenedValues.computeIfAbsent(elementName, n -> newCollection(field));
+                readFlattenedMember(context, field, values, parser);
+            } else if (unmarshalled[locationFields.index]) {
+                // Like when unmarshalling a parsed document, the first element with the name of the field is used.
+                parser.skipElement();
+            } else {
+                unmarshalled[locationFields.index] = true;
+                field.set(sdkPojo, readValue(context, field, parser));
+            }
+        }
+
+        if (flattenedValues != null) {
+            flattenedValues.forEach((name, values) -> pojoFields.byLocationName.get(name).fields.get(0).set(sdkPojo, values));
+        }
+        if (parsedElements != null) {
+            parsedElements.forEach((name, elements) -> setFromParsedElements(context, sdkPojo, pojoFields, name, elements));
+        }
+        return build(sdkPojo);
+    }
+
+    private static Map<String, List<XmlElement>> addParsedElement(Map<String, List<XmlElement>> parsedElements,
+                                                                  String elementName, XmlElement element) {
+        Map<String, List<XmlElement>> result = parsedElements != null ? parsedElements : new LinkedHashMap<>();
+        result.computeIfAbsent(elementName, n -> new ArrayList<>()).add(element);
+        return result;
+    }
+
+    private static void setFromParsedElements(XmlUnmarshallerContext context, SdkPojo sdkPojo, PojoFields pojoFields,
+                                              String elementName, List<XmlElement> elements) {
+        for (SdkField<?> field : pojoFields.byLocationName.get(elementName).fields) {
+            XmlUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+            field.set(sdkPojo, unmarshaller.unmarshall(context, elements, (SdkField<Object>) field));
+        }
+    }
+
+    /**
+     * Reads the value of the current element, which is the first element of a field or a member of a list or map.
+     */
+    private Object readValue(XmlUnmarshallerContext context, SdkField<?> field, XmlStreamParser parser) {
+        XmlUnmarshaller<Object> unmarshaller = context.getUnmarshaller(field.location(), field.marshallingType());
+        if (unmarshaller instanceof SimpleTypePayloadUnmarshaller) {
+            return ((SimpleTypePayloadUnmarshaller<Object>) unmarshaller).convert(parser.readText(), (SdkField<Object>) field);
+        }
+        if (field.location() == MarshallLocation.PAYLOAD) {
+            if (field.marshallingType() == MarshallingType.LIST) {
+                return readList(context, field, parser);
+            }
+            if (field.marshallingType() == MarshallingType.MAP) {
+                return readMap(context, field, parser);
+            }
+            if (field.marshallingType() == MarshallingType.SDK_POJO) {
+                return parseSdkPojo(context, field.constructor().get(), parser);
+            }
+        }
+        return unmarshaller.unmarshall(context, singletonList(parser.readElement()), (SdkField<Object>) field);
+    }
+
+    /**
+     * Reads a list that is not flattened. Like {@link XmlPayloadUnmarshaller#unmarshallList}, the members are the child
+     * elements with the location name of the list members.
+     */
+    private List<Object> readList(XmlUnmarshallerContext context, SdkField<?> field, XmlStreamParser parser) {
+        ListTrait listTrait = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT);
+        SdkField<?> memberField = listTrait.memberFieldInfo();
+        String memberLocation = listTrait.memberLocationName() != null ? listTrait.memberLocationName()
+                                                                       : memberField.locationName();
+        List<Object> list = new ArrayList<>();
+        while (parser.nextChildElement()) {
+            if (parser.elementName().equals(memberLocation)) {
+                list.add(readValue(context, memberField, parser));
+            } else {
+                parser.skipElement();
+            }
+        }
+        return list;
+    }
+
+    /**
+     * Reads a map that is not flattened, whose entries are the child elements named "entry".
+     */
+    private Map<String, Object> readMap(XmlUnmarshallerContext context, SdkField<?> field, XmlStreamParser parser) {
+        MapTrait mapTrait = field.getTrait(MapTrait.class, TraitType.MAP_TRAIT);
+        Map<String, Object> map = new HashMap<>();
+        while (parser.nextChildElement()) {
+            if ("entry".equals(parser.elementName())) {
+                readMapEntry(context, mapTrait, map, parser);
+            } else {
+                parser.skipElement();
+            }
+        }
+        return map;
+    }
+
+    private void readFlattenedMember(XmlUnmarshallerContext context, SdkField<?> field, Object values,
+                                     XmlStreamParser parser) {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            SdkField<?> memberField = field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).memberFieldInfo();
+            ((List<Object>) values).add(readValue(context, memberField, parser));
+        } else {
+            readMapEntry(context, field.getTrait(MapTrait.class, TraitType.MAP_TRAIT), (Map<String, Object>) values, parser);
+        }
+    }
+
+    private void readMapEntry(XmlUnmarshallerContext context, MapTrait mapTrait, Map<String, Object> map,
+                              XmlStreamParser parser) {
+        String key = null;
+        Object value = null;
+        while (parser.nextChildElement()) {
+            String elementName = parser.elementName();
+            if (elementName.equals(mapTrait.keyLocationName())) {
+                key = parser.readText();
+            } else if (elementName.equals(mapTrait.valueLocationName())) {
+                value = readValue(context, mapTrait.valueFieldInfo(), parser);
+            } else {
+                parser.skipElement();
+            }
+        }
+        if (key == null) {
+            throw SdkClientException.create("Could not find the key element " + mapTrait.keyLocationName()
+                                            + " of a map entry.");
+        }
+        map.put(key, value);
+    }
+
+    private static boolean isFlattened(SdkField<?> field) {
+        if (field.marshallingType() == MarshallingType.LIST) {
+            return field.getTrait(ListTrait.class, TraitType.LIST_TRAIT).isFlattened();
+        }
+        if (field.marshallingType() == MarshallingType.MAP) {
+            return field.getTrait(MapTrait.class, TraitType.MAP_TRAIT).isFlattened();
+        }
+        return false;
+    }
+
+    private static Object newCollection(SdkField<?> field) {
+        return field.marshallingType() == MarshallingType.LIST ? new ArrayList<>() : new HashMap<>();
+    }
+
+    private static SdkPojo build(SdkPojo sdkPojo) {
+        if (!(sdkPojo instanceof Buildable)) {
+            throw new RuntimeException("The sdkPojo passed to the unmarshaller is not buildable (must implement "
+                                       + "Buildable)");
+        }
+        return (SdkPojo) ((Buildable) sdkPojo).build();
+    }
+
+    /**
+     * The fields of a pojo class, by where they are unmarshalled from.
+     */
+    private static final class PojoFields {
+        private final Map<String, LocationFields> byLocationName = new HashMap<>();
+        private final List<SdkField<?>> nonPayloadFields = new ArrayList<>();
+        private final List<SdkField<?>> attributeFields = new ArrayList<>();
+        private final SdkField<?> payloadPojoField;
+        private final int size;
+
+        /**
+         * True if the pojo has explicit payload members that are not structures, which are left to the
+         * {@link XmlProtocolUnmarshaller}.
+         */
+        private final boolean parseElement;
+
+        private PojoFields(SdkPojo sdkPojo) {
+            SdkField<?> explicitPayloadField = null;
+            boolean unsupportedPayload = false;
+            for (SdkField<?> field : sdkPojo.sdkFields()) {
+                if (field.location() != MarshallLocation.PAYLOAD) {
+                    nonPayloadFields.add(field);
+                } else if (field.containsTrait(XmlAttributeTrait.class, TraitType.XML_ATTRIBUTE_TRAIT)) {
+                    attributeFields.add(field);
+                } else if (field.containsTrait(PayloadTrait.class, TraitType.PAYLOAD_TRAIT)) {
+                    unsupportedPayload |= explicitPayloadField != null
+                                          || field.marshallingType() != MarshallingType.SDK_POJO;
+                    explicitPayloadField = field;
+                } else {
+                    byLocationName.computeIfAbsent(field.unmarshallLocationName(),
+                                                   n -> new LocationFields(byLocationName.size()))
+                                  .fields.add(field);
+                }
+            }
+            // The explicit payload structure is unmarshalled from the element itself, not from its children.
+            this.parseElement = unsupportedPayload || explicitPayloadField != null && !byLocationName.isEmpty();
+            this.payloadPojoField = explicitPayloadField;
+            this.size = byLocationName.size();
+        }
+    }
+
+    private static final class LocationFields {
+        private final int index;
+        private final List<SdkField<?>> fields = new ArrayList<>(1);
+
+        private LocationFields(int index) {
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import software.amazon.awssdk.core.SdkField;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.protocol.MarshallLocation;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.ListTrait;
+import software.amazon.awssdk.core.traits.LocationTrait;
+import software.amazon.awssdk.core.traits.MapTrait;
+import software.amazon.awssdk.core.traits.Trait;
+import software.amazon.awssdk.utils.builder.Buildable;
+
+/**
+ * A pojo keeping the values of its fields by member name, to test the unmarshallers without generated model classes. Each
+ * subclass has its own fields, like a generated model class.
+ */
+abstract class TestPojo implements SdkPojo, Buildable {
+    private final Map<String, Object> values = new HashMap<>();
+    private final List<SdkField<?>> fields;
+
+    TestPojo(SdkField<?>... fields) {
+        this.fields = Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    static SdkField<Object> field(MarshallingType<?> marshallingType, String locationName, Trait... traits) {
+        return field(locationName, marshallingType, locationName, traits);
+    }
+
+    @SuppressWarnings("unchecked")
+    static SdkField<Object> field(String memberName, MarshallingType<?> marshallingType, String locationName,
+                                 Trait... traits) {
+        List<Trait> allTraits = new ArrayList<>(Arrays.asList(traits));
+        allTraits.add(LocationTrait.builder()
+                                   .location(MarshallLocation.PAYLOAD)
+                                   .locationName(locationName)
+                                   .unmarshallLocationName(locationName)
+                                   .build());
+        return SdkField.builder((MarshallingType<Object>) marshallingType)
+                       .memberName(memberName)
+                       .getter(pojo -> ((TestPojo) pojo).values.get(memberName))
+                       .setter((pojo, value) -> ((TestPojo) pojo).values.put(memberName, value))
+                       .traits(allTraits.toArray(new Trait[0]))
+                       .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    static SdkField<Object> headerField(MarshallingType<?> marshallingType, String headerName) {
+        return SdkField.builder((MarshallingType<Object>) marshallingType)
+                       .memberName(headerName)
+                       .getter(pojo -> ((TestPojo) pojo).values.get(headerName))
+                       .setter((pojo, value) -> ((TestPojo) pojo).values.put(headerName, value))
+                       .traits(LocationTrait.builder()
+                                            .location(MarshallLocation.HEADER)
+                                            .locationName(headerName)
+                                            .unmarshallLocationName(headerName)
+                                            .build())
+                       .build();
+    }
+
+    static SdkField<SdkPojo> structField(String locationName, Supplier<SdkPojo> constructor, Trait... traits) {
+        List<Trait> allTraits = new ArrayList<>(Arrays.asList(traits));
+        allTraits.add(LocationTrait.builder()
+                                   .location(MarshallLocation.PAYLOAD)
+                                   .locationName(locationName)
+                                   .unmarshallLocationName(locationName)
+                                   .build());
+        return SdkField.builder(MarshallingType.SDK_POJO)
+                       .memberName(locationName)
+                       .getter(pojo -> (SdkPojo) ((TestPojo) pojo).values.get(locationName))
+                       .setter((pojo, value) -> ((TestPojo) pojo).values.put(locationName, value))
+                       .constructor(constructor)
+                       .traits(allTraits.toArray(new Trait[0]))
+                       .build();
+    }
+
+    static SdkField<Object> listField(String locationName, String memberLocationName, boolean flattened,
+                                      SdkField<?> memberField) {
+        return field(MarshallingType.LIST, locationName, ListTrait.builder()
+                                                                  .memberLocationName(memberLocationName)
+                                                                  .memberFieldInfo(memberField)
+                                                                  .isFlattened(flattened)
+                                                                  .build());
+    }
+
+    static SdkField<Object> mapField(String locationName, boolean flattened, SdkField<?> valueField) {
+        return field(MarshallingType.MAP, locationName, MapTrait.builder()
+                                                                .keyLocationName("key")
+                                                                .valueLocationName("value")
+                                                                .valueFieldInfo(valueField)
+                                                                .isFlattened(flattened)
+                                                                .build());
+    }
+
+    Object get(String memberName) {
+        return values.get(memberName);
+    }
+
+    @Override
+    public List<SdkField<?>> sdkFields() {
+        return fields;
+    }
+
+    @Override
+    public Object build() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Objects.equals(values, ((TestPojo) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return values.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + values;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.protocols.xml.internal.unmarshall;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestPojo.field;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestPojo.headerField;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestPojo.listField;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestPojo.mapField;
+import static software.amazon.awssdk.protocols.xml.internal.unmarshall.TestPojo.structField;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.SdkPojo;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.protocol.MarshallingType;
+import software.amazon.awssdk.core.traits.PayloadTrait;
+import software.amazon.awssdk.core.traits.XmlAttributeTrait;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.utils.StringInputStream;
+
+/**
+ * Verifies that {@link XmlUnmarshallingParser} unmarshalls the same responses as parsing them into an XML tree first.
+ */
+public class XmlUnmarshallingParserTest {
+
+    private static final String XML =
+        "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+        + "<ListResult xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">"
+        + "  <Name>bucket &amp; co</Name>"
+        + "  <Name>ignored</Name>"
+        + "  <KeyCount>2</KeyCount>"
+        + "  <IsTruncated>false</IsTruncated>"
+        + "  <Unknown><Name>skipped</Name></Unknown>"
+        + "  <Contents><Key><![CDATA[<key>]]></Key><Size>10</Size>"
+        + "    <LastModified>2024-01-02T03:04:05.678Z</LastModified>"
+        + "    <Owner xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"CanonicalUser\">"
+        + "      <ID>owner</ID></Owner></Contents>"
+        + "  <Tags><Tag>a</Tag><Other>skipped</Other><Tag>b</Tag></Tags>"
+        + "  <Contents><Key>second</Key></Contents>"
+        + "  <Nested><Group><Tag>c</Tag></Group><Group/></Nested>"
+        + "  <Metadata><entry><key>k1</key><value>v1</value></entry><entry><value>v2</value><key>k2</key></entry></Metadata>"
+        + "  <Shared>7</Shared>"
+        + "  <Mixed>a<!-- comment -->b<Child/>c&#x20;d</Mixed>"
+        + "  <Empty/>"
+        + "</ListResult>";
+
+    @Test
+    public void response_unmarshallsSameAsParsedDocument() {
+        ListResult result = (ListResult) assertSameAsParsedDocument(ListResult::new, XML);
+
+        assertThat(result.get("Name")).isEqualTo("bucket & co");
+        assertThat(result.get("KeyCount")).isEqualTo(2);
+        assertThat(result.get("x-amz-request-charged")).isEqualTo("requester");
+        assertThat(result.get("Tags")).isEqualTo(Arrays.asList("a", "b"));
+        assertThat(result.get("Mixed")).isEqualTo("c d");
+        assertThat(result.get("SharedString")).isEqualTo("7");
+        assertThat(result.get("SharedInteger")).isEqualTo(7);
+
+        Content first = (Content) ((List<?>) result.get("Contents")).get(0);
+        assertThat(first.get("Key")).isEqualTo("<key>");
+        assertThat(first.get("LastModified")).isEqualTo(Instant.parse("2024-01-02T03:04:05.678Z"));
+        assertThat(((Owner) first.get("Owner")).get("xsi:type")).isEqualTo("CanonicalUser");
+    }
+
+    @Test
+    public void explicitStructurePayload_unmarshallsSameAsParsedDocument() {
+        PayloadResult result = (PayloadResult) assertSameAsParsedDocument(PayloadResult::new, XML);
+
+        assertThat(((ListResult) result.get("ListResult")).get("Name")).isEqualTo("bucket & co");
+        assertThat(result.get("x-amz-request-charged")).isEqualTo("requester");
+    }
+
+    @Test
+    public void emptyResponse_unmarshallsSameAsParsedDocument() {
+        assertSameAsParsedDocument(ListResult::new, "");
+        assertSameAsParsedDocument(PayloadResult::new, "");
+        assertSameAsParsedDocument(ListResult::new, "<ListResult/>");
+    }
+
+    @Test
+    public void predicatedResponseHandler_unmarshallsSameAsParsedDocument() {
+        Response<SdkPojo> parsed = predicatedResponseHandler(false).handle(response(XML), new ExecutionAttributes());
+        Response<SdkPojo> streamed = predicatedResponseHandler(true).handle(response(XML), new ExecutionAttributes());
+
+        assertThat(streamed.isSuccess()).isTrue();
+        assertThat(streamed.response()).isEqualTo(parsed.response());
+    }
+
+    @Test
+    public void predicatedResponseHandler_errorInSuccessfulResponse_isUnmarshalledAsError() {
+        String xml = "<Error><Code>InternalError</Code><Message>Please retry.</Message></Error>";
+
+        Response<SdkPojo> response = predicatedResponseHandler(true).handle(response(xml), new ExecutionAttributes());
+
+        assertThat(response.isSuccess()).isFalse();
+        assertThat(response.exception()).hasMessage("InternalError");
+    }
+
+    private static SdkPojo assertSameAsParsedDocument(Supplier<SdkPojo> pojo, String xml) {
+        SdkPojo parsed = XmlProtocolUnmarshaller.create().unmarshall(pojo.get(), response(xml));
+        SdkPojo streamed = XmlProtocolUnmarshaller.create(true).unmarshall(pojo.get(), response(xml));
+
+        assertThat(streamed).isEqualTo(parsed);
+        return streamed;
+    }
+
+    private static AwsXmlPredicatedResponseHandler<SdkPojo> predicatedResponseHandler(boolean enableFastUnmarshalling) {
+        XmlProtocolUnmarshaller unmarshaller = XmlProtocolUnmarshaller.create(enableFastUnmarshalling);
+        return new AwsXmlPredicatedResponseHandler<>(
+            r -> new ListResult(),
+            context -> context.xmlStreamParser() != null
+                       ? unmarshaller.unmarshall(new ListResult(), context.xmlStreamParser(), context.sdkHttpFullResponse())
+                       : unmarshaller.unmarshall(new ListResult(), context.parsedRootXml(), context.sdkHttpFullResponse()),
+            context -> SdkClientException.create(context.parsedErrorXml().getElementByName("Code").textContent()),
+            DecorateErrorFromResponseBodyUnmarshaller.of(Optional::of),
+            false,
+            enableFastUnmarshalling);
+    }
+
+    private static SdkHttpFullResponse response(String xml) {
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .putHeader("x-amz-request-charged", "requester")
+                                  .content(AbortableInputStream.create(new StringInputStream(xml)))
+                                  .build();
+    }
+
+    private static final class ListResult extends TestPojo {
+        private ListResult() {
+            super(headerField(MarshallingType.STRING, "x-amz-request-charged"),
+                  field(MarshallingType.STRING, "Name"),
+                  field(MarshallingType.INTEGER, "KeyCount"),
+                  field(MarshallingType.BOOLEAN, "IsTruncated"),
+                  field(MarshallingType.STRING, "Mixed"),
+                  field(MarshallingType.STRING, "Empty"),
+                  field(MarshallingType.STRING, "Missing"),
+                  field("SharedString", MarshallingType.STRING, "Shared"),
+                  field("SharedInteger", MarshallingType.INTEGER, "Shared"),
+                  listField("Contents", null, true, structField("Contents", Content::new)),
+                  listField("Tags", "Tag", false, field(MarshallingType.STRING, "Tag")),
+                  listField("Nested", "Group", false,
+                            listField("Group", "Tag", false, field(MarshallingType.STRING, "Tag"))),
+                  mapField("Metadata", false, field(MarshallingType.STRING, "value")));
+        }
+    }
+
+    private static final class Content extends TestPojo {
+        private Content() {
+            super(field(MarshallingType.STRING, "Key"),
+                  field(MarshallingType.LONG, "Size"),
+                  field(MarshallingType.INSTANT, "LastModified"),
+                  structField("Owner", Owner::new));
+        }
+    }
+
+    private static final class Owner extends TestPojo {
+        private Owner() {
+            super(field(MarshallingType.STRING, "ID"),
+                  field(MarshallingType.STRING, "xsi:type", XmlAttributeTrait.create()));
+        }
+    }
+
+    private static final class PayloadResult extends TestPojo {
+        private PayloadResult() {
+            super(headerField(MarshallingType.STRING, "x-amz-request-charged"),
+                  structField("ListResult", ListResult::new, PayloadTrait.create()));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.retries;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * The algorithms a {@link ConcurrencyLimitingRetryStrategy} can use to adjust its limit of requests in flight.
+ */
+@SdkPublicApi
+public enum ConcurrencyLimitAlgorithm {
+    /**
+     * Additive increase, multiplicative decrease. The limit is increased by one after each successful request while at least
+     * half of it is in use, and reduced by 10% when a request is throttled. This algorithm only reacts to throttling.
+     */
+    AIMD,
+
+    /**
+     * The limit follows the ratio between the long term and the recent latency of the requests. It is reduced as soon as the
+     * latency increases, before the service starts throttling, and by 10% when a request is throttled.
+     */
+    GRADIENT
+}
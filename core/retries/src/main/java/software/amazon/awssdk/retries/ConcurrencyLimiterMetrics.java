@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.retries;
+
+import software.amazon.awssdk.annotations.Immutable;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A snapshot of the state of the concurrency limiter of a {@link ConcurrencyLimitingRetryStrategy} for a scope.
+ *
+ * @see ConcurrencyLimitingRetryStrategy#limiterMetrics(String)
+ */
+@SdkPublicApi
+@Immutable
+public final class ConcurrencyLimiterMetrics {
+    private final int limit;
+    private final int inFlight;
+    private final long rejectedRequests;
+
+    private ConcurrencyLimiterMetrics(int limit, int inFlight, long rejectedRequests) {
+        this.limit = limit;
+        this.inFlight = inFlight;
+        this.rejectedRequests = rejectedRequests;
+    }
+
+    @SdkInternalApi
+    public static ConcurrencyLimiterMetrics create(int limit, int inFlight, long rejectedRequests) {
+        return new ConcurrencyLimiterMetrics(limit, inFlight, rejectedRequests);
+    }
+
+    /**
+     * The current limit of requests in flight.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * The number of requests in flight, from their first attempt until they succeed or fail without being retried.
+     */
+    public int inFlight() {
+        return inFlight;
+    }
+
+    /**
+     * The total number of requests rejected because the limit was reached.
+     */
+    public long rejectedRequests() {
+        return rejectedRequests;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConcurrencyLimiterMetrics")
+                       .add("limit", limit)
+                       .add("inFlight", inFlight)
+                       .add("rejectedRequests", rejectedRequests)
+                       .build();
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.retries;
+
+import java.util.function.Predicate;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.retries.internal.DefaultConcurrencyLimitingRetryStrategy;
+import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
+
+/**
+ * The concurrency limiting retry strategy is a {@link StandardRetryStrategy} that also limits the number of requests in flight
+ * within each scope (either the whole strategy or the {@link AcquireInitialTokenRequest#scope}), so that a slow or overloaded
+ * downstream resource does not accumulate requests that would all time out together.
+ * <p>
+ * A request is in flight from its first attempt until it succeeds or fails without being retried; its retries do not count as
+ * additional requests. When the limit is reached, {@link #acquireInitialToken} fails immediately with a
+ * {@link TokenAcquisitionFailedException}, which the SDK reports as a client exception without sending the request. Requests
+ * are never queued.
+ * <p>
+ * The limit is adjusted from the latency of the requests succeeding on their first attempt and from the failures the
+ * {@link Builder#treatAsThrottling} predicate identifies as throttling, using the configured
+ * {@link ConcurrencyLimitAlgorithm}. It starts at {@link Builder#initialLimit} and stays between {@link Builder#minLimit} and
+ * {@link Builder#maxLimit}. The current state of the limiter of a scope is available with {@link #limiterMetrics(String)}.
+ * <p>
+ * The concurrency limiting retry strategy by default:
+ * <ol>
+ *     <li>Retries on the conditions configured in the {@link Builder}.
+ *     <li>Retries 2 times (3 total attempts). Adjust with {@link Builder#maxAttempts}
+ *     <li>Uses the {@link ConcurrencyLimitAlgorithm#AIMD} algorithm, starting at 20 requests in flight, between 1 and 1000.
+ *     <li>Circuit breaking (disabling retries) in the event of high downstream failures within an individual scope. The
+ *     circuit breaking will never prevent the first attempt
+ * </ol>
+ * <p>
+ * The limiters of a strategy are shared by the clients using it. Limiting the requests of a client to a single service
+ * requires a strategy per client.
+ *
+ * @see AdaptiveRetryStrategy
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ConcurrencyLimitingRetryStrategy extends RetryStrategy {
+
+    /**
+     * Create a new {@link ConcurrencyLimitingRetryStrategy.Builder}.
+     *
+     * <p>Example Usage
+     * <pre>
+     * ConcurrencyLimitingRetryStrategy retryStrategy =
+     *     ConcurrencyLimitingRetryStrategy.builder()
+     *                                     .retryOnExceptionInstanceOf(IllegalArgumentException.class)
+     *                                     .limitAlgorithm(ConcurrencyLimitAlgorithm.GRADIENT)
+     *                                     .maxLimit(200)
+     *                                     .build();
+     * </pre>
+     */
+    static ConcurrencyLimitingRetryStrategy.Builder builder() {
+        return DefaultConcurrencyLimitingRetryStrategy
+            .builder()
+            .maxAttempts(DefaultRetryStrategy.ConcurrencyLimiting.MAX_ATTEMPTS)
+            .tokenBucketStore(TokenBucketStore.builder()
+                                              .tokenBucketMaxCapacity(DefaultRetryStrategy.Standard.TOKEN_BUCKET_SIZE)
+                                              .build())
+            .tokenBucketExceptionCost(DefaultRetryStrategy.Standard.DEFAULT_EXCEPTION_TOKEN_COST)
+            .limitAlgorithm(DefaultRetryStrategy.ConcurrencyLimiting.LIMIT_ALGORITHM)
+            .initialLimit(DefaultRetryStrategy.ConcurrencyLimiting.INITIAL_LIMIT)
+            .minLimit(DefaultRetryStrategy.ConcurrencyLimiting.MIN_LIMIT)
+            .maxLimit(DefaultRetryStrategy.ConcurrencyLimiting.MAX_LIMIT)
+            .backoffStrategy(BackoffStrategy.exponentialDelay(DefaultRetryStrategy.Standard.BASE_DELAY,
+                                                              DefaultRetryStrategy.Standard.MAX_BACKOFF))
+            .throttlingBackoffStrategy(BackoffStrategy.exponentialDelay(
+                DefaultRetryStrategy.Standard.THROTTLED_BASE_DELAY,
+                DefaultRetryStrategy.Standard.MAX_BACKOFF));
+    }
+
+    /**
+     * Returns a snapshot of the state of the concurrency limiter of the given scope. The SDK clients use the {@code GLOBAL}
+     * scope.
+     */
+    ConcurrencyLimiterMetrics limiterMetrics(String scope);
+
+    @Override
+    Builder toBuilder();
+
+    interface Builder extends RetryStrategy.Builder<Builder, ConcurrencyLimitingRetryStrategy> {
+        /**
+         * Configure the predicate to allow the strategy categorize a Throwable as throttling exception. Throttling reduces the
+         * limit of requests in flight.
+         */
+        Builder treatAsThrottling(Predicate<Throwable> treatAsThrottling);
+
+        /**
+         * Configure the algorithm adjusting the limit of requests in flight. The default is
+         * {@link ConcurrencyLimitAlgorithm#AIMD}.
+         */
+        Builder limitAlgorithm(ConcurrencyLimitAlgorithm limitAlgorithm);
+
+        /**
+         * Configure the limit of requests in flight used until the algorithm adjusts it. The default is 20.
+         */
+        Builder initialLimit(int initialLimit);
+
+        /**
+         * Configure the lowest limit of requests in flight the algorithm can set. The default is 1.
+         */
+        Builder minLimit(int minLimit);
+
+        /**
+         * Configure the highest limit of requests in flight the algorithm can set. The default is 1000.
+         */
+        Builder maxLimit(int maxLimit);
+
+        @Override
+        ConcurrencyLimitingRetryStrategy build();
+    }
+}
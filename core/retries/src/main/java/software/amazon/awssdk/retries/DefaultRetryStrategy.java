@@ -85,6 +85,22 @@ public final class DefaultRetryStrategy {
         return AdaptiveRetryStrategy.builder();
     }
 
+    /**
+     * Create a new builder for a {@link ConcurrencyLimitingRetryStrategy}.
+     *
+     * <p>Example Usage
+     * {@snippet
+     * ConcurrencyLimitingRetryStrategy retryStrategy =
+     *     DefaultRetryStrategy.concurrencyLimitingStrategyBuilder()
+     *                    .retryOnExceptionInstanceOf(IllegalArgumentException.class)
+     *                    .limitAlgorithm(ConcurrencyLimitAlgorithm.GRADIENT)
+     *                    .build();
+     * }
+     */
+    public static ConcurrencyLimitingRetryStrategy.Builder concurrencyLimitingStrategyBuilder() {
+        return ConcurrencyLimitingRetryStrategy.builder();
+    }
+
     static final class Standard {
         static final int MAX_ATTEMPTS = 3;
         static final Duration BASE_DELAY = Duration.ofMillis(100);
@@ -104,6 +120,17 @@ public final class DefaultRetryStrategy {
         }
     }
 
+    static final class ConcurrencyLimiting {
+        static final int MAX_ATTEMPTS = 3;
+        static final ConcurrencyLimitAlgorithm LIMIT_ALGORITHM = ConcurrencyLimitAlgorithm.AIMD;
+        static final int INITIAL_LIMIT = 20;
+        static final int MIN_LIMIT = 1;
+        static final int MAX_LIMIT = 1000;
+
+        private ConcurrencyLimiting() {
+        }
+    }
+
     static final class Legacy {
         static final int MAX_ATTEMPTS = 4;
         static final Duration BASE_DELAY = Duration.ofMillis(100);
@@ -85,7 +85,7 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
     @Override
     public final AcquireInitialTokenResponse acquireInitialToken(AcquireInitialTokenRequest request) {
         logAcquireInitialToken(request);
-        DefaultRetryToken token = DefaultRetryToken.builder().scope(request.scope()).build();
+        DefaultRetryToken token = initialToken(request);
         return AcquireInitialTokenResponse.create(token, computeInitialBackoff(request));
     }
 
@@ -99,15 +99,25 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
         DefaultRetryToken token = asDefaultRetryToken(request.token());
 
         // Check if we meet the preconditions needed for retrying. These will throw if the expected condition is not meet.
-        // 1) is retryable?
-        throwOnNonRetryableException(request);
-
-        // 2) max attempts reached?
-        throwOnMaxAttemptsReached(request);
-
-        // 3) can we acquire a token?
-        AcquireResponse acquireResponse = requestAcquireCapacity(request, token);
-        throwOnAcquisitionFailure(request, acquireResponse);
+        AcquireResponse acquireResponse;
+        try {
+            // 1) is retryable?
+            throwOnNonRetryableException(request);
+
+            // 2) max attempts reached?
+            throwOnMaxAttemptsReached(request);
+
+            // 3) can we acquire a token?
+            acquireResponse = requestAcquireCapacity(request, token);
+            throwOnAcquisitionFailure(request, acquireResponse);
+        } catch (TokenAcquisitionFailedException e) {
+            // The request will not be retried, update the internal state before failing. An attempt refused while another
+            // attempt of the request is in flight does not end the request.
+            if (!ConcurrentAttemptException.isConcurrentAttempt(request.failure())) {
+                updateStateForFailure(request);
+            }
+            throw e;
+        }
 
         // All the conditions required to retry were meet, update the internal state before retrying.
         updateStateForRetry(request);
@@ -153,6 +163,14 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
         return useClientDefaults;
     }
 
+    /**
+     * Creates the token returned by {@link #acquireInitialToken}. Extending classes can override this method to attach state to
+     * the token, or to reject the request by throwing a {@link TokenAcquisitionFailedException}.
+     */
+    protected DefaultRetryToken initialToken(AcquireInitialTokenRequest request) {
+        return DefaultRetryToken.builder().scope(request.scope()).build();
+    }
+
     /**
      * Computes the backoff before the first attempt, by default {@link Duration#ZERO}. Extending classes can override this method
      * to compute different a different depending on their logic.
@@ -189,6 +207,14 @@ public abstract class BaseRetryStrategy implements DefaultAwareRetryStrategy {
     protected void updateStateForRetry(RefreshRetryTokenRequest request) {
     }
 
+    /**
+     * Called inside {@link #refreshRetryToken} to allow extending classes to update their internal state when a request fails
+     * and will not be retried. Not called when the refused attempt was sent while another attempt of the request is in flight,
+     * see {@link ConcurrentAttemptException}.
+     */
+    protected void updateStateForFailure(RefreshRetryTokenRequest request) {
+    }
+
     /**
      * Returns the amount of tokens to withdraw from the token bucket. Extending classes can override this method to tailor this
      * amount for the specific kind of failure.
@@ -0,0 +1,49 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.retries.internal;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Marks the failure reported to {@link BaseRetryStrategy#refreshRetryToken} to acquire capacity for an attempt sent while
+ * another attempt of the same request is still in flight, such as a hedged request. The failure must have this exception as its
+ * cause. When the retry strategy refuses such an attempt the request is not over, so the strategy keeps the state it holds for
+ * the request, such as its concurrency limiter permit.
+ */
+@SdkInternalApi
+public final class ConcurrentAttemptException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private ConcurrentAttemptException() {
+        super("Another attempt of the request is in flight.", null, false, false);
+    }
+
+    public static ConcurrentAttemptException create() {
+        return new ConcurrentAttemptException();
+    }
+
+    /**
+     * Returns true if the given failure was reported for an attempt sent while another attempt of the request is in flight.
+     */
+    public static boolean isConcurrentAttempt(Throwable failure) {
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof ConcurrentAttemptException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.retries.internal;
+
+import java.util.function.Predicate;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.retries.ConcurrencyLimitAlgorithm;
+import software.amazon.awssdk.retries.ConcurrencyLimiterMetrics;
+import software.amazon.awssdk.retries.ConcurrencyLimitingRetryStrategy;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.retries.internal.circuitbreaker.TokenBucketStore;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyLimiter;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyLimiterPermit;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyLimiterStore;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultConcurrencyLimitingRetryStrategy
+    extends BaseRetryStrategy implements ConcurrencyLimitingRetryStrategy {
+
+    private static final Logger LOG = Logger.loggerFor(DefaultConcurrencyLimitingRetryStrategy.class);
+    private final ConcurrencyLimiterStore concurrencyLimiterStore;
+
+    DefaultConcurrencyLimitingRetryStrategy(Builder builder) {
+        super(LOG, builder);
+        this.concurrencyLimiterStore = Validate.paramNotNull(builder.concurrencyLimiterStore(), "concurrencyLimiterStore");
+    }
+
+    @Override
+    protected DefaultRetryToken initialToken(AcquireInitialTokenRequest request) {
+        ConcurrencyLimiter limiter = concurrencyLimiterStore.limiterForScope(request.scope());
+        ConcurrencyLimiterPermit permit = limiter.tryAcquire().orElseThrow(() -> {
+            String message = String.format("Request rejected, the limit of requests in flight (%d) is reached.", limiter.limit());
+            log.debug(() -> message);
+            return new TokenAcquisitionFailedException(message);
+        });
+        return super.initialToken(request).toBuilder()
+                    .concurrencyLimiterPermit(permit)
+                    .build();
+    }
+
+    @Override
+    protected void updateStateForRetry(RefreshRetryTokenRequest request) {
+        if (treatAsThrottling.test(request.failure())) {
+            ConcurrencyLimiterPermit permit = asDefaultRetryToken(request.token()).concurrencyLimiterPermit();
+            if (permit != null) {
+                permit.limiter().onThrottled();
+            }
+        }
+    }
+
+    @Override
+    protected void updateStateForFailure(RefreshRetryTokenRequest request) {
+        ConcurrencyLimiterPermit permit = asDefaultRetryToken(request.token()).concurrencyLimiterPermit();
+        if (permit != null) {
+            permit.releaseAfterFailure(treatAsThrottling.test(request.failure()));
+        }
+    }
+
+    @Override
+    protected void updateStateForSuccess(DefaultRetryToken token) {
+        ConcurrencyLimiterPermit permit = token.concurrencyLimiterPermit();
+        if (permit != null) {
+            permit.releaseAfterSuccess(token.attempt() == 1);
+        }
+    }
+
+    @Override
+    public ConcurrencyLimiterMetrics limiterMetrics(String scope) {
+        ConcurrencyLimiter limiter = concurrencyLimiterStore.limiterForScope(scope);
+        return ConcurrencyLimiterMetrics.create(limiter.limit(), limiter.inFlight(), limiter.rejectedRequests());
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder extends BaseRetryStrategy.Builder implements ConcurrencyLimitingRetryStrategy.Builder {
+        private ConcurrencyLimiterStore.Builder concurrencyLimiterStoreBuilder;
+        private ConcurrencyLimiterStore concurrencyLimiterStore;
+
+        Builder() {
+            this.concurrencyLimiterStoreBuilder = ConcurrencyLimiterStore.builder();
+        }
+
+        Builder(DefaultConcurrencyLimitingRetryStrategy strategy) {
+            super(strategy);
+            // Keep the limiters of the strategy, so that the strategies created from it, for instance when the SDK adds its
+            // defaults, share the requests in flight.
+            this.concurrencyLimiterStore = strategy.concurrencyLimiterStore;
+            this.concurrencyLimiterStoreBuilder = strategy.concurrencyLimiterStore.toBuilder();
+        }
+
+        @Override
+        public Builder retryOnException(Predicate<Throwable> shouldRetry) {
+            setRetryOnException(shouldRetry);
+            return this;
+        }
+
+        @Override
+        public Builder maxAttempts(int maxAttempts) {
+            setMaxAttempts(maxAttempts);
+            return this;
+        }
+
+        @Override
+        public Builder treatAsThrottling(Predicate<Throwable> treatAsThrottling) {
+            setTreatAsThrottling(treatAsThrottling);
+            return this;
+        }
+
+        @Override
+        public Builder backoffStrategy(BackoffStrategy backoffStrategy) {
+            setBackoffStrategy(backoffStrategy);
+            return this;
+        }
+
+        @Override
+        public Builder throttlingBackoffStrategy(BackoffStrategy backoffStrategy) {
+            setThrottlingBackoffStrategy(backoffStrategy);
+            return this;
+        }
+
+        @Override
+        public Builder limitAlgorithm(ConcurrencyLimitAlgorithm limitAlgorithm) {
+            concurrencyLimiterStoreBuilder.algorithm(limitAlgorithm);
+            concurrencyLimiterStore = null;
+            return this;
+        }
+
+        @Override
+        public Builder initialLimit(int initialLimit) {
+            concurrencyLimiterStoreBuilder.initialLimit(initialLimit);
+            concurrencyLimiterStore = null;
+            return this;
+        }
+
+        @Override
+        public Builder minLimit(int minLimit) {
+            concurrencyLimiterStoreBuilder.minLimit(minLimit);
+            concurrencyLimiterStore = null;
+            return this;
+        }
+
+        @Override
+        public Builder maxLimit(int maxLimit) {
+            concurrencyLimiterStoreBuilder.maxLimit(maxLimit);
+            concurrencyLimiterStore = null;
+            return this;
+        }
+
+        public Builder circuitBreakerEnabled(Boolean circuitBreakerEnabled) {
+            setCircuitBreakerEnabled(circuitBreakerEnabled);
+            return this;
+        }
+
+        public Builder tokenBucketExceptionCost(int exceptionCost) {
+            setTokenBucketExceptionCost(exceptionCost);
+            return this;
+        }
+
+        public Builder tokenBucketStore(TokenBucketStore tokenBucketStore) {
+            setTokenBucketStore(tokenBucketStore);
+            return this;
+        }
+
+        @Override
+        public Builder useClientDefaults(boolean useClientDefaults) {
+            setUseClientDefaults(useClientDefaults);
+            return this;
+        }
+
+        private ConcurrencyLimiterStore concurrencyLimiterStore() {
+            if (concurrencyLimiterStore == null) {
+                return concurrencyLimiterStoreBuilder.build();
+            }
+            return concurrencyLimiterStore;
+        }
+
+        @Override
+        public ConcurrencyLimitingRetryStrategy build() {
+            return new DefaultConcurrencyLimitingRetryStrategy(this);
+        }
+    }
+}
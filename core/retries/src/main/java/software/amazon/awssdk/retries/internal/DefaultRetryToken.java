@@ -20,6 +20,7 @@ import java.util.Collections;
 import java.util.List;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyLimiterPermit;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
@@ -37,6 +38,7 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
     private final int capacityAcquired;
     private final int capacityRemaining;
     private final List<Throwable> failures;
+    private final ConcurrencyLimiterPermit concurrencyLimiterPermit;
 
     private DefaultRetryToken(Builder builder) {
         this.scope = Validate.paramNotNull(builder.scope, "scope");
@@ -45,6 +47,7 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
         this.capacityAcquired = Validate.isNotNegative(builder.capacityAcquired, "capacityAcquired");
         this.capacityRemaining = Validate.isNotNegative(builder.capacityRemaining, "capacityRemaining");
         this.failures = Collections.unmodifiableList(Validate.paramNotNull(builder.failures, "failures"));
+        this.concurrencyLimiterPermit = builder.concurrencyLimiterPermit;
     }
 
     /**
@@ -82,6 +85,13 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
         return state;
     }
 
+    /**
+     * Returns the concurrency limiter permit held by the request, or null if the retry strategy does not limit concurrency.
+     */
+    public ConcurrencyLimiterPermit concurrencyLimiterPermit() {
+        return concurrencyLimiterPermit;
+    }
+
     /**
      * Creates a new builder to mutate the current instance.
      */
@@ -144,6 +154,7 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
         private int capacityAcquired = 0;
         private int capacityRemaining = 0;
         private List<Throwable> failures;
+        private ConcurrencyLimiterPermit concurrencyLimiterPermit;
 
         Builder() {
             this.failures = new ArrayList<>();
@@ -155,6 +166,7 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
             this.capacityAcquired = token.capacityAcquired;
             this.capacityRemaining = token.capacityRemaining;
             this.failures = new ArrayList<>(token.failures);
+            this.concurrencyLimiterPermit = token.concurrencyLimiterPermit;
         }
 
         /**
@@ -205,6 +217,14 @@ public final class DefaultRetryToken implements RetryToken, ToCopyableBuilder<De
             return this;
         }
 
+        /**
+         * Sets the concurrency limiter permit held by the request.
+         */
+        public Builder concurrencyLimiterPermit(ConcurrencyLimiterPermit concurrencyLimiterPermit) {
+            this.concurrencyLimiterPermit = concurrencyLimiterPermit;
+            return this;
+        }
+
         /**
          * Creates a new {@link DefaultRetryToken} with the configured values.
          */
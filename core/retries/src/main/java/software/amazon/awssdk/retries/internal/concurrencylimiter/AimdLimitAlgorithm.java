@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Additive increase, multiplicative decrease. The limit is reduced by {@link #BACKOFF_RATIO} when a request is throttled, and
+ * increased by one after a successful request, as long as at least half of the limit is in use. The limit is not increased
+ * when the callers do not use it, so that it does not grow unbounded while the load is low.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class AimdLimitAlgorithm implements LimitAlgorithm {
+    static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private int limit;
+
+    AimdLimitAlgorithm(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public int update(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, (int) (limit * BACKOFF_RATIO));
+        } else if (rttNanos >= 0 && inFlight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        return limit;
+    }
+}
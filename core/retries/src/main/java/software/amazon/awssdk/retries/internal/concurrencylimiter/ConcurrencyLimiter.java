@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * Limits the number of requests in flight for a scope. A request acquires a permit before its first attempt, and releases it
+ * once it completes, with the signals used by the {@link LimitAlgorithm} to adjust the limit. Acquiring a permit is lock-free,
+ * the updates of the limit are serialized.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrencyLimiter {
+    private final LimitAlgorithm algorithm;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejectedRequests = new LongAdder();
+    private volatile int limit;
+
+    ConcurrencyLimiter(LimitAlgorithm algorithm, int initialLimit) {
+        this.algorithm = algorithm;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Try to acquire a permit for a request. If the limit is reached the returned optional is empty, and the request is
+     * counted as rejected.
+     */
+    public Optional<ConcurrencyLimiterPermit> tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                rejectedRequests.increment();
+                return Optional.empty();
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return Optional.of(new ConcurrencyLimiterPermit(this, System.nanoTime()));
+    }
+
+    /**
+     * Updates the limit after an attempt of a request in flight was throttled by the service.
+     */
+    public void onThrottled() {
+        update(-1, true);
+    }
+
+    /**
+     * Returns the current limit.
+     */
+    public int limit() {
+        return limit;
+    }
+
+    /**
+     * Returns the number of requests currently holding a permit.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the number of requests rejected because the limit was reached.
+     */
+    public long rejectedRequests() {
+        return rejectedRequests.sum();
+    }
+
+    void release(long rttNanos, boolean dropped) {
+        if (rttNanos >= 0 || dropped) {
+            update(rttNanos, dropped);
+        }
+        inFlight.decrementAndGet();
+    }
+
+    private synchronized void update(long rttNanos, boolean dropped) {
+        limit = algorithm.update(rttNanos, inFlight.get(), dropped);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConcurrencyLimiter")
+                       .add("limit", limit)
+                       .add("inFlight", inFlight.get())
+                       .add("rejectedRequests", rejectedRequests.sum())
+                       .build();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A permit acquired from a {@link ConcurrencyLimiter} for a request. The permit is shared by the retry tokens of the request,
+ * and is released at most once, so that a request completing through more than one path does not release the permit of
+ * another request.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ConcurrencyLimiterPermit {
+    private final ConcurrencyLimiter limiter;
+    private final long startTimeNanos;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    ConcurrencyLimiterPermit(ConcurrencyLimiter limiter, long startTimeNanos) {
+        this.limiter = limiter;
+        this.startTimeNanos = startTimeNanos;
+    }
+
+    /**
+     * Releases the permit after the request succeeded.
+     *
+     * @param sampleRtt Whether the time since the permit was acquired is the round trip time of a single attempt, and can be
+     *                  used to adjust the limit. It is not when the request was retried.
+     */
+    public void releaseAfterSuccess(boolean sampleRtt) {
+        if (released.compareAndSet(false, true)) {
+            limiter.release(sampleRtt ? System.nanoTime() - startTimeNanos : -1, false);
+        }
+    }
+
+    /**
+     * Releases the permit after the request failed and will not be retried.
+     *
+     * @param throttled Whether the last attempt was throttled by the service.
+     */
+    public void releaseAfterFailure(boolean throttled) {
+        if (released.compareAndSet(false, true)) {
+            limiter.release(-1, throttled);
+        }
+    }
+
+    /**
+     * Returns the limiter this permit was acquired from.
+     */
+    public ConcurrencyLimiter limiter() {
+        return limiter;
+    }
+}
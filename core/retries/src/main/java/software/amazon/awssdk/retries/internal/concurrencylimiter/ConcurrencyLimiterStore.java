@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ToBuilderIgnoreField;
+import software.amazon.awssdk.retries.ConcurrencyLimitAlgorithm;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+import software.amazon.awssdk.utils.cache.tinylfu.TinyLfuCache;
+
+/**
+ * A store to keep concurrency limiters per scope.
+ */
+@SdkInternalApi
+public final class ConcurrencyLimiterStore
+    implements ToCopyableBuilder<ConcurrencyLimiterStore.Builder, ConcurrencyLimiterStore> {
+    private static final int MAX_ENTRIES = 128;
+    private final ConcurrencyLimitAlgorithm algorithm;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final TinyLfuCache<String, ConcurrencyLimiter> scopeToLimiter;
+
+    private ConcurrencyLimiterStore(Builder builder) {
+        this.algorithm = Validate.paramNotNull(builder.algorithm, "algorithm");
+        this.minLimit = Validate.isPositive(builder.minLimit, "minLimit");
+        this.maxLimit = Validate.isPositive(builder.maxLimit, "maxLimit");
+        this.initialLimit = Validate.isPositive(builder.initialLimit, "initialLimit");
+        Validate.isTrue(minLimit <= initialLimit && initialLimit <= maxLimit,
+                        "The initial limit (%d) must be between the min limit (%d) and the max limit (%d).",
+                        initialLimit, minLimit, maxLimit);
+        this.scopeToLimiter = TinyLfuCache.<String, ConcurrencyLimiter>builder(x -> newLimiter())
+                                          .maxSize(MAX_ENTRIES)
+                                          .build();
+    }
+
+    public ConcurrencyLimiter limiterForScope(String scope) {
+        return scopeToLimiter.get(scope);
+    }
+
+    private ConcurrencyLimiter newLimiter() {
+        switch (algorithm) {
+            case AIMD:
+                return new ConcurrencyLimiter(new AimdLimitAlgorithm(initialLimit, minLimit, maxLimit), initialLimit);
+            case GRADIENT:
+                return new ConcurrencyLimiter(new GradientLimitAlgorithm(initialLimit, minLimit, maxLimit), initialLimit);
+            default:
+                throw new IllegalStateException("Unknown concurrency limit algorithm: " + algorithm);
+        }
+    }
+
+    @Override
+    @ToBuilderIgnoreField("scopeToLimiter")
+    public Builder toBuilder() {
+        return new Builder(this);
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("ConcurrencyLimiterStore")
+                       .add("algorithm", algorithm)
+                       .add("initialLimit", initialLimit)
+                       .add("minLimit", minLimit)
+                       .add("maxLimit", maxLimit)
+                       .build();
+    }
+
+    public static class Builder implements CopyableBuilder<Builder, ConcurrencyLimiterStore> {
+        private ConcurrencyLimitAlgorithm algorithm;
+        private int initialLimit;
+        private int minLimit;
+        private int maxLimit;
+
+        Builder() {
+        }
+
+        Builder(ConcurrencyLimiterStore store) {
+            this.algorithm = store.algorithm;
+            this.initialLimit = store.initialLimit;
+            this.minLimit = store.minLimit;
+            this.maxLimit = store.maxLimit;
+        }
+
+        public Builder algorithm(ConcurrencyLimitAlgorithm algorithm) {
+            this.algorithm = algorithm;
+            return this;
+        }
+
+        public Builder initialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+            return this;
+        }
+
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        @Override
+        public ConcurrencyLimiterStore build() {
+            return new ConcurrencyLimiterStore(this);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Adjusts the limit from the gradient between the long term and the current round trip time of the requests. While the
+ * current round trip time stays close to the long term one, the limit grows by its square root, the number of requests
+ * allowed to queue in the service. When the current round trip time increases, the service is queueing more requests than it
+ * can process, and the limit is reduced proportionally, by at most half.
+ * <p>
+ * The long term round trip time is an exponential moving average over {@link #LONG_WINDOW} samples. When the current round
+ * trip time falls well below it, for example after a brownout ended, the long term average is decayed so that it recovers
+ * faster. The new limit is smoothed with the previous one, and a throttled request reduces the limit by
+ * {@link #BACKOFF_RATIO}.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class GradientLimitAlgorithm implements LimitAlgorithm {
+    static final int LONG_WINDOW = 600;
+    static final double RTT_TOLERANCE = 1.5;
+    static final double SMOOTHING = 0.2;
+    static final double BACKOFF_RATIO = 0.9;
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private double longRtt;
+
+    GradientLimitAlgorithm(int initialLimit, int minLimit, int maxLimit) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+    }
+
+    @Override
+    public int update(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            limit = clamp(limit * BACKOFF_RATIO);
+            return (int) limit;
+        }
+        if (rttNanos <= 0) {
+            return (int) limit;
+        }
+
+        double rtt = rttNanos;
+        if (longRtt == 0) {
+            longRtt = rtt;
+        } else {
+            longRtt += (rtt - longRtt) / LONG_WINDOW;
+            if (longRtt / rtt > 2) {
+                longRtt *= LONG_RTT_DECAY;
+            }
+        }
+
+        // The callers do not use the limit, the round trip time does not tell whether a higher limit would be sustained.
+        if (inFlight < limit / 2) {
+            return (int) limit;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, RTT_TOLERANCE * longRtt / rtt));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        limit = clamp(limit * (1 - SMOOTHING) + newLimit * SMOOTHING);
+        return (int) limit;
+    }
+
+    private double clamp(double value) {
+        return Math.max(minLimit, Math.min(maxLimit, value));
+    }
+}
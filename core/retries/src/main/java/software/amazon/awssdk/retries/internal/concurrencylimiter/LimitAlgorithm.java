@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * An algorithm computing the concurrency limit of a {@link ConcurrencyLimiter} from the samples of the completed requests.
+ * Implementations keep their own estimate of the limit, and are always invoked while holding the lock of the limiter.
+ */
+@SdkInternalApi
+@NotThreadSafe
+interface LimitAlgorithm {
+
+    /**
+     * Updates the limit after a sample.
+     *
+     * @param rttNanos The round trip time of a successful request, or a negative value if the sample has no round trip time.
+     * @param inFlight The number of requests in flight when the sample was taken, including the sampled request.
+     * @param dropped Whether the request was throttled by the service.
+     * @return The new limit.
+     */
+    int update(long rttNanos, int inFlight, boolean dropped);
+}
@@ -20,7 +20,7 @@ import software.amazon.awssdk.annotations.ToBuilderIgnoreField;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
-import software.amazon.awssdk.utils.cache.lru.LruCache;
+import software.amazon.awssdk.utils.cache.tinylfu.TinyLfuCache;
 
 /**
  * A store to keep token buckets per scope.
@@ -30,14 +30,14 @@ public final class RateLimiterTokenBucketStore
     implements ToCopyableBuilder<RateLimiterTokenBucketStore.Builder, RateLimiterTokenBucketStore> {
     private static final int MAX_ENTRIES = 128;
     private static final RateLimiterClock DEFAULT_CLOCK = new SystemClock();
-    private final LruCache<String, RateLimiterTokenBucket> scopeToTokenBucket;
+    private final TinyLfuCache<String, RateLimiterTokenBucket> scopeToTokenBucket;
     private final RateLimiterClock clock;
 
     private RateLimiterTokenBucketStore(Builder builder) {
         this.clock = Validate.paramNotNull(builder.clock, "clock");
-        this.scopeToTokenBucket = LruCache.<String, RateLimiterTokenBucket>builder(x -> new RateLimiterTokenBucket(clock))
-                                          .maxSize(MAX_ENTRIES)
-                                          .build();
+        this.scopeToTokenBucket = TinyLfuCache.<String, RateLimiterTokenBucket>builder(x -> new RateLimiterTokenBucket(clock))
+                                              .maxSize(MAX_ENTRIES)
+                                              .build();
     }
 
     public RateLimiterTokenBucket tokenBucketForScope(String scope) {
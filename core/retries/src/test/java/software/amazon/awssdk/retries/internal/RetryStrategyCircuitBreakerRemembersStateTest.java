@@ -73,6 +73,7 @@ class RetryStrategyCircuitBreakerRemembersStateTest {
         return Arrays.asList(
             RetryStrategyCommonTest.TestCaseForLegacy::new,
             RetryStrategyCommonTest.TestCaseForStandard::new,
-            RetryStrategyCommonTest.TestCaseForAdaptive::new);
+            RetryStrategyCommonTest.TestCaseForAdaptive::new,
+            RetryStrategyCommonTest.TestCaseForConcurrencyLimiting::new);
     }
 }
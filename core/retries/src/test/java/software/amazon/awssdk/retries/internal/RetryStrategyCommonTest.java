@@ -72,7 +72,8 @@ class RetryStrategyCommonTest {
         return Stream.concat(
             Stream.concat(buildCases(TestCaseForLegacy::new),
                           buildCases(TestCaseForStandard::new)),
-            buildCases(TestCaseForAdaptive::new));
+            Stream.concat(buildCases(TestCaseForAdaptive::new),
+                          buildCases(TestCaseForConcurrencyLimiting::new)));
     }
 
     static Stream<TestCase> buildCases(Function<String, TestCase> defaultTestCaseSupplier) {
@@ -375,6 +376,37 @@ class RetryStrategyCommonTest {
         }
     }
 
+    static class TestCaseForConcurrencyLimiting extends TestCase {
+
+        TestCaseForConcurrencyLimiting(String name) {
+            super("TestCaseForConcurrencyLimiting:: " + name,
+                  DefaultRetryStrategy.concurrencyLimitingStrategyBuilder()
+                                      .treatAsThrottling(t -> false));
+        }
+
+        @Override
+        public TestCase configureTokenBucketMaxCapacity(int maxCapacity) {
+            ((DefaultConcurrencyLimitingRetryStrategy.Builder) builder).tokenBucketStore(
+                TokenBucketStore
+                    .builder()
+                    .tokenBucketMaxCapacity(maxCapacity)
+                    .build());
+            return this;
+        }
+
+        @Override
+        public TestCase configureTokenBucketExceptionCost(int exceptionCost) {
+            ((DefaultConcurrencyLimitingRetryStrategy.Builder) builder).tokenBucketExceptionCost(exceptionCost);
+            return this;
+        }
+
+        @Override
+        public TestCase configureCircuitBreakerEnabled(boolean enabled) {
+            ((DefaultConcurrencyLimitingRetryStrategy.Builder) builder).circuitBreakerEnabled(enabled);
+            return this;
+        }
+    }
+
     static class BusinessLogic implements Callable<Integer> {
         List<Exception> exceptions;
         int invocation = 0;
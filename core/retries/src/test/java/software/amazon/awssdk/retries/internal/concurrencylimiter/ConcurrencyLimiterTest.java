@@ -0,0 +1,206 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+
+package software.amazon.awssdk.retries.internal.concurrencylimiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.retries.ConcurrencyLimitAlgorithm;
+import software.amazon.awssdk.retries.ConcurrencyLimiterMetrics;
+import software.amazon.awssdk.retries.ConcurrencyLimitingRetryStrategy;
+import software.amazon.awssdk.retries.api.RecordSuccessRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.retries.api.internal.AcquireInitialTokenRequestImpl;
+
+class ConcurrencyLimiterTest {
+    private static final String SCOPE = "scope";
+    private static final long RTT = Duration.ofMillis(10).toNanos();
+
+    @Test
+    void tryAcquire_limitReached_rejectsUntilPermitReleased() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new AimdLimitAlgorithm(2, 1, 10), 2);
+
+        Optional<ConcurrencyLimiterPermit> first = limiter.tryAcquire();
+        Optional<ConcurrencyLimiterPermit> second = limiter.tryAcquire();
+        assertThat(first).isPresent();
+        assertThat(second).isPresent();
+        assertThat(limiter.tryAcquire()).isEmpty();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+        assertThat(limiter.rejectedRequests()).isEqualTo(1);
+
+        first.get().releaseAfterFailure(false);
+        assertThat(limiter.inFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isPresent();
+    }
+
+    @Test
+    void permit_releasedTwice_releasesOnce() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(new AimdLimitAlgorithm(2, 1, 10), 2);
+        ConcurrencyLimiterPermit permit = limiter.tryAcquire().get();
+        limiter.tryAcquire();
+
+        permit.releaseAfterFailure(false);
+        permit.releaseAfterSuccess(true);
+
+        assertThat(limiter.inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void aimd_successWhileLimitUsed_increasesLimitUpToMax() {
+        AimdLimitAlgorithm algorithm = new AimdLimitAlgorithm(10, 1, 12);
+
+        assertThat(algorithm.update(RTT, 5, false)).isEqualTo(11);
+        assertThat(algorithm.update(RTT, 11, false)).isEqualTo(12);
+        assertThat(algorithm.update(RTT, 12, false)).isEqualTo(12);
+    }
+
+    @Test
+    void aimd_successWhileLimitNotUsed_keepsLimit() {
+        AimdLimitAlgorithm algorithm = new AimdLimitAlgorithm(10, 1, 100);
+
+        assertThat(algorithm.update(RTT, 4, false)).isEqualTo(10);
+        assertThat(algorithm.update(-1, 10, false)).isEqualTo(10);
+    }
+
+    @Test
+    void aimd_throttled_decreasesLimitDownToMin() {
+        AimdLimitAlgorithm algorithm = new AimdLimitAlgorithm(100, 80, 100);
+
+        assertThat(algorithm.update(-1, 100, true)).isEqualTo(90);
+        assertThat(algorithm.update(-1, 90, true)).isEqualTo(81);
+        assertThat(algorithm.update(-1, 81, true)).isEqualTo(80);
+    }
+
+    @Test
+    void gradient_stableLatency_increasesLimit_increasedLatency_decreasesLimit() {
+        GradientLimitAlgorithm algorithm = new GradientLimitAlgorithm(20, 1, 1000);
+        int limit = 20;
+        for (int i = 0; i < 50; i++) {
+            limit = algorithm.update(RTT, limit, false);
+        }
+        assertThat(limit).isGreaterThan(40);
+
+        int limitBeforeBrownout = limit;
+        for (int i = 0; i < 20; i++) {
+            limit = algorithm.update(RTT * 4, limit, false);
+        }
+        assertThat(limit).isLessThan(limitBeforeBrownout / 2);
+    }
+
+    @Test
+    void gradient_limitNotUsed_keepsLimit() {
+        GradientLimitAlgorithm algorithm = new GradientLimitAlgorithm(20, 1, 1000);
+
+        assertThat(algorithm.update(RTT, 5, false)).isEqualTo(20);
+        assertThat(algorithm.update(RTT * 10, 5, false)).isEqualTo(20);
+    }
+
+    @Test
+    void gradient_throttled_decreasesLimitDownToMin() {
+        GradientLimitAlgorithm algorithm = new GradientLimitAlgorithm(20, 15, 1000);
+
+        assertThat(algorithm.update(-1, 20, true)).isEqualTo(18);
+        assertThat(algorithm.update(-1, 20, true)).isEqualTo(16);
+        assertThat(algorithm.update(-1, 20, true)).isEqualTo(15);
+    }
+
+    @Test
+    void store_invalidLimits_throws() {
+        ConcurrencyLimiterStore.Builder builder = ConcurrencyLimiterStore.builder()
+                                                                         .algorithm(ConcurrencyLimitAlgorithm.AIMD)
+                                                                         .minLimit(10)
+                                                                         .initialLimit(5)
+                                                                         .maxLimit(20);
+        assertThatThrownBy(builder::build).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void strategy_limitReached_rejectsInitialTokenUntilRequestCompletes() {
+        ConcurrencyLimitingRetryStrategy strategy = ConcurrencyLimitingRetryStrategy.builder()
+                                                                                    .retryOnException(IllegalStateException.class)
+                                                                                    .initialLimit(2)
+                                                                                    .build();
+
+        RetryToken first = acquire(strategy);
+        RetryToken second = acquire(strategy);
+        assertThatThrownBy(() -> acquire(strategy)).isInstanceOf(TokenAcquisitionFailedException.class);
+        assertMetrics(strategy.limiterMetrics(SCOPE), 2, 2, 1);
+        assertMetrics(strategy.limiterMetrics("other"), 2, 0, 0);
+
+        strategy.recordSuccess(RecordSuccessRequest.create(first));
+        assertMetrics(strategy.limiterMetrics(SCOPE), 3, 1, 1);
+
+        RefreshRetryTokenRequest nonRetryable = RefreshRetryTokenRequest.builder()
+                                                                        .token(second)
+                                                                        .failure(new IllegalArgumentException())
+                                                                        .build();
+        assertThatThrownBy(() -> strategy.refreshRetryToken(nonRetryable))
+            .isInstanceOf(TokenAcquisitionFailedException.class);
+        assertMetrics(strategy.limiterMetrics(SCOPE), 3, 0, 1);
+    }
+
+    @Test
+    void strategy_throttledRetries_keepPermitAndDecreaseLimit() {
+        ConcurrencyLimitingRetryStrategy strategy =
+            ConcurrencyLimitingRetryStrategy.builder()
+                                            .retryOnException(IllegalStateException.class)
+                                            .treatAsThrottling(t -> t instanceof IllegalStateException)
+                                            .maxAttempts(2)
+                                            .initialLimit(100)
+                                            .build();
+
+        RetryToken token = acquire(strategy);
+        token = strategy.refreshRetryToken(throttled(token)).token();
+        assertMetrics(strategy.limiterMetrics(SCOPE), 90, 1, 0);
+
+        RetryToken retried = token;
+        assertThatThrownBy(() -> strategy.refreshRetryToken(throttled(retried)))
+            .isInstanceOf(TokenAcquisitionFailedException.class);
+        assertMetrics(strategy.limiterMetrics(SCOPE), 81, 0, 0);
+    }
+
+    @Test
+    void strategy_rebuilt_sharesLimiters_unlessLimitsChanged() {
+        ConcurrencyLimitingRetryStrategy strategy = ConcurrencyLimitingRetryStrategy.builder().initialLimit(1).build();
+        acquire(strategy);
+
+        ConcurrencyLimitingRetryStrategy rebuilt = strategy.toBuilder().maxAttempts(5).build();
+        assertThatThrownBy(() -> acquire(rebuilt)).isInstanceOf(TokenAcquisitionFailedException.class);
+
+        ConcurrencyLimitingRetryStrategy reconfigured = strategy.toBuilder().initialLimit(2).build();
+        assertMetrics(reconfigured.limiterMetrics(SCOPE), 2, 0, 0);
+    }
+
+    private static RetryToken acquire(ConcurrencyLimitingRetryStrategy strategy) {
+        return strategy.acquireInitialToken(AcquireInitialTokenRequestImpl.create(SCOPE)).token();
+    }
+
+    private static RefreshRetryTokenRequest throttled(RetryToken token) {
+        return RefreshRetryTokenRequest.builder().token(token).failure(new IllegalStateException()).build();
+    }
+
+    private static void assertMetrics(ConcurrencyLimiterMetrics metrics, int limit, int inFlight, long rejectedRequests) {
+        assertThat(metrics.limit()).isEqualTo(limit);
+        assertThat(metrics.inFlight()).isEqualTo(inFlight);
+        assertThat(metrics.rejectedRequests()).isEqualTo(rejectedRequests);
+    }
+}
@@ -15,15 +15,21 @@
 
 package software.amazon.awssdk.core;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.core.compression.Compressor;
 import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
 /**
- * Configuration options for operations with the RequestCompression trait to disable request configuration and set the minimum
- * compression threshold in bytes.
+ * Configuration options for operations with the RequestCompression trait to disable request configuration, set the minimum
+ * compression threshold in bytes and register additional compressors.
  */
 @SdkPublicApi
 public final class CompressionConfiguration implements ToCopyableBuilder<CompressionConfiguration.Builder,
@@ -31,10 +37,12 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
 
     private final Boolean requestCompressionEnabled;
     private final Integer minimumCompressionThresholdInBytes;
+    private final List<Compressor> compressors;
 
     private CompressionConfiguration(DefaultBuilder builder) {
         this.requestCompressionEnabled = builder.requestCompressionEnabled;
         this.minimumCompressionThresholdInBytes = builder.minimumCompressionThresholdInBytes;
+        this.compressors = Collections.unmodifiableList(new ArrayList<>(builder.compressors));
     }
 
     /**
@@ -51,6 +59,14 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         return minimumCompressionThresholdInBytes;
     }
 
+    /**
+     * Returns the compressors registered with this configuration, which take precedence over the compressors of the SDK for
+     * the same encoding. The list is empty if no compressor is registered.
+     */
+    public List<Compressor> compressors() {
+        return compressors;
+    }
+
     /**
      * Create a {@link CompressionConfiguration.Builder}, used to create a {@link CompressionConfiguration}.
      */
@@ -68,6 +84,7 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         return ToString.builder("CompressionConfiguration")
                        .add("requestCompressionEnabled", requestCompressionEnabled)
                        .add("minimumCompressionThresholdInBytes", minimumCompressionThresholdInBytes)
+                       .add("compressors", compressors.isEmpty() ? null : compressors)
                        .build();
     }
 
@@ -85,13 +102,17 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         if (!Objects.equals(requestCompressionEnabled, that.requestCompressionEnabled)) {
             return false;
         }
-        return Objects.equals(minimumCompressionThresholdInBytes, that.minimumCompressionThresholdInBytes);
+        if (!Objects.equals(minimumCompressionThresholdInBytes, that.minimumCompressionThresholdInBytes)) {
+            return false;
+        }
+        return Objects.equals(compressors, that.compressors);
     }
 
     @Override
     public int hashCode() {
         int result = requestCompressionEnabled != null ? requestCompressionEnabled.hashCode() : 0;
         result = 31 * result + (minimumCompressionThresholdInBytes != null ? minimumCompressionThresholdInBytes.hashCode() : 0);
+        result = 31 * result + (compressors != null ? compressors.hashCode() : 0);
         return result;
     }
 
@@ -116,11 +137,33 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
          * @return This object for method chaining.
          */
         Builder minimumCompressionThresholdInBytes(Integer minimumCompressionThresholdInBytes);
+
+        /**
+         * Configures the compressors to use, replacing any previously registered compressor. A registered compressor takes
+         * precedence over the compressor of the SDK, or of a {@code META-INF/services} registration, with the same
+         * {@link Compressor#compressorType()}, for example to use {@link Compressor#gzip(int)} with a different compression
+         * level. A compressor is only used for the operations supporting its encoding.
+         *
+         * @param compressors
+         * @return This object for method chaining.
+         */
+        Builder compressors(Collection<? extends Compressor> compressors);
+
+        /**
+         * Registers a compressor, in addition to the compressors already registered. If several compressors have the same
+         * {@link Compressor#compressorType()}, the last one added is used.
+         *
+         * @param compressor
+         * @return This object for method chaining.
+         * @see #compressors(Collection)
+         */
+        Builder addCompressor(Compressor compressor);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Boolean requestCompressionEnabled;
         private Integer minimumCompressionThresholdInBytes;
+        private List<Compressor> compressors = new ArrayList<>();
 
         private DefaultBuilder() {
         }
@@ -128,6 +171,7 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
         private DefaultBuilder(CompressionConfiguration compressionConfiguration) {
             this.requestCompressionEnabled = compressionConfiguration.requestCompressionEnabled;
             this.minimumCompressionThresholdInBytes = compressionConfiguration.minimumCompressionThresholdInBytes;
+            this.compressors = new ArrayList<>(compressionConfiguration.compressors);
         }
 
         @Override
@@ -142,6 +186,19 @@ public final class CompressionConfiguration implements ToCopyableBuilder<Compres
             return this;
         }
 
+        @Override
+        public Builder compressors(Collection<? extends Compressor> compressors) {
+            this.compressors = new ArrayList<>(Validate.paramNotNull(compressors, "compressors"));
+            this.compressors.forEach(c -> Validate.paramNotNull(c, "compressor"));
+            return this;
+        }
+
+        @Override
+        public Builder addCompressor(Compressor compressor) {
+            this.compressors.add(Validate.paramNotNull(compressor, "compressor"));
+            return this;
+        }
+
         @Override
         public CompressionConfiguration build() {
             return new CompressionConfiguration(this);
@@ -230,6 +230,18 @@ public enum SdkSystemSetting implements SystemSetting {
      */
     AWS_REQUEST_MIN_COMPRESSION_SIZE_BYTES("aws.requestMinCompressionSizeBytes", null),
 
+    /**
+     * The maximum number of bytes of buffers kept for reuse when chunking asynchronous request bodies, for example to
+     * calculate checksums or compress requests. The default value is 8_388_608. Set it to 0 to disable buffer pooling.
+     */
+    AWS_ASYNC_BUFFER_POOL_MAX_BYTES("aws.asyncBufferPoolMaxBytes", null),
+
+    /**
+     * Whether the buffers used when chunking asynchronous request bodies are allocated outside the Java heap. The default
+     * value is false.
+     */
+    AWS_ASYNC_BUFFER_POOL_DIRECT("aws.asyncBufferPoolDirect", null),
+
     /**
      * Defines a file path from which partition metadata should be loaded. If this isn't specified, the partition
      * metadata deployed with the SDK client will be used instead.
@@ -35,9 +35,11 @@ public final class SplittingTransformerConfiguration implements ToCopyableBuilde
     SplittingTransformerConfiguration> {
 
     private final Long bufferSizeInBytes;
+    private final Boolean parallelSplit;
 
     private SplittingTransformerConfiguration(DefaultBuilder builder) {
         this.bufferSizeInBytes = Validate.paramNotNull(builder.bufferSize, "bufferSize");
+        this.parallelSplit = builder.parallelSplit;
     }
 
     /**
@@ -54,6 +56,13 @@ public final class SplittingTransformerConfiguration implements ToCopyableBuilde
         return bufferSizeInBytes;
     }
 
+    /**
+     * @return whether the individual transformers may be used concurrently, if the transformer supports it
+     */
+    public Boolean parallelSplit() {
+        return parallelSplit;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -65,18 +74,24 @@ public final class SplittingTransformerConfiguration implements ToCopyableBuilde
 
         SplittingTransformerConfiguration that = (SplittingTransformerConfiguration) o;
 
-        return Objects.equals(bufferSizeInBytes, that.bufferSizeInBytes);
+        if (!Objects.equals(bufferSizeInBytes, that.bufferSizeInBytes)) {
+            return false;
+        }
+        return Objects.equals(parallelSplit, that.parallelSplit);
     }
 
     @Override
     public int hashCode() {
-        return bufferSizeInBytes != null ? bufferSizeInBytes.hashCode() : 0;
+        int result = bufferSizeInBytes != null ? bufferSizeInBytes.hashCode() : 0;
+        result = 31 * result + (parallelSplit != null ? parallelSplit.hashCode() : 0);
+        return result;
     }
 
     @Override
     public String toString() {
         return ToString.builder("SplittingTransformerConfiguration")
             .add("bufferSizeInBytes", bufferSizeInBytes)
+            .add("parallelSplit", parallelSplit)
             .build();
     }
 
@@ -94,13 +109,26 @@ public final class SplittingTransformerConfiguration implements ToCopyableBuilde
          * @return This object for method chaining.
          */
         Builder bufferSizeInBytes(Long bufferSize);
+
+        /**
+         * Configures whether the individual transformers may be used concurrently, each receiving a different part of the
+         * content, if the transformer supports it. A transformer that honors it reports
+         * {@link AsyncResponseTransformer.SplitResult#parallelSplitSupported()}. By default, the individual transformers are
+         * used one after the other.
+         *
+         * @param parallelSplit whether the individual transformers may be used concurrently
+         * @return This object for method chaining.
+         */
+        Builder parallelSplit(Boolean parallelSplit);
     }
 
     private static final class DefaultBuilder implements Builder {
         private Long bufferSize;
+        private Boolean parallelSplit;
 
         private DefaultBuilder(SplittingTransformerConfiguration configuration) {
             this.bufferSize = configuration.bufferSizeInBytes;
+            this.parallelSplit = configuration.parallelSplit;
         }
 
         private DefaultBuilder() {
@@ -112,6 +140,12 @@ public final class SplittingTransformerConfiguration implements ToCopyableBuilde
             return this;
         }
 
+        @Override
+        public Builder parallelSplit(Boolean parallelSplit) {
+            this.parallelSplit = parallelSplit;
+            return this;
+        }
+
         @Override
         public SplittingTransformerConfiguration build() {
             return new SplittingTransformerConfiguration(this);
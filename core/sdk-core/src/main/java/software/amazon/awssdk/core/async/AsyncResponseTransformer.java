@@ -348,6 +348,18 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
          */
         CompletableFuture<ResultT> resultFuture();
 
+        /**
+         * Indicates if the individual {@link AsyncResponseTransformer} published by the {@link #publisher() publisher} can
+         * receive their content concurrently and in any order. When {@code false}, each individual transformer must be fully
+         * completed before the next one receives content, as the data is forwarded sequentially to the transformer that was
+         * split.
+         *
+         * @return true if the individual transformers can be used concurrently, false otherwise.
+         */
+        default boolean parallelSplitSupported() {
+            return false;
+        }
+
         static <ResponseT, ResultT> Builder<ResponseT, ResultT> builder() {
             return DefaultAsyncResponseTransformerSplitResult.builder();
         }
@@ -380,6 +392,23 @@ public interface AsyncResponseTransformer<ResponseT, ResultT> {
              * @return an instance of this Builder
              */
             Builder<ResponseT, ResultT> resultFuture(CompletableFuture<ResultT> future);
+
+            /**
+             * @return The value of the parallelSplitSupported flag configured on this Builder instance.
+             */
+            default boolean parallelSplitSupported() {
+                return false;
+            }
+
+            /**
+             * Sets whether the individual {@link AsyncResponseTransformer} published can receive their content concurrently
+             * and in any order. Defaults to {@code false}.
+             * @param parallelSplitSupported the flag
+             * @return an instance of this Builder
+             */
+            default Builder<ResponseT, ResultT> parallelSplitSupported(boolean parallelSplitSupported) {
+                throw new UnsupportedOperationException();
+            }
         }
     }
 
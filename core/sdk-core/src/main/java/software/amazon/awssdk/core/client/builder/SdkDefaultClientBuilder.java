@@ -65,9 +65,10 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
@@ -520,6 +521,10 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
     /**
      * Finalize the internal SDK scheduled executor service that is used for scheduling tasks such as async retry attempts and
      * timeout task.
+     * <p>
+     * The default executor removes the timeout tasks from its queue as soon as their call completes, instead of keeping them
+     * until they expire, because thousands of concurrent callers, for example on virtual threads, would otherwise keep as many
+     * cancelled timers queued for the whole duration of the timeout.
      */
     private ScheduledExecutorService resolveScheduledExecutorService(LazyValueSource c) {
         ScheduledExecutorService executor = c.get(CONFIGURED_SCHEDULED_EXECUTOR_SERVICE);
@@ -527,7 +532,10 @@ public abstract class SdkDefaultClientBuilder<B extends SdkClientBuilder<B, C>,
             return executor;
         }
 
-        return Executors.newScheduledThreadPool(5, new ThreadFactoryBuilder().threadNamePrefix("sdk-ScheduledExecutor").build());
+        ThreadFactory threadFactory = new ThreadFactoryBuilder().threadNamePrefix("sdk-ScheduledExecutor").build();
+        ScheduledThreadPoolExecutor scheduledExecutor = new ScheduledThreadPoolExecutor(5, threadFactory);
+        scheduledExecutor.setRemoveOnCancelPolicy(true);
+        return scheduledExecutor;
     }
 
     /**
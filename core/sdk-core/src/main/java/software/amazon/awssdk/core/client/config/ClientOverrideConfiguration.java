@@ -28,6 +28,7 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGUR
 import static software.amazon.awssdk.core.client.config.SdkClientOption.CONFIGURED_SCHEDULED_EXECUTOR_SERVICE;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_ATTRIBUTES;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.EXECUTION_INTERCEPTORS;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.HEDGING_POLICY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.METRIC_PUBLISHERS;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_FILE_SUPPLIER;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.PROFILE_NAME;
@@ -59,6 +60,7 @@ import software.amazon.awssdk.core.SdkPlugin;
 import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -116,6 +118,7 @@ public final class ClientOverrideConfiguration
         options.add(RETRY_STRATEGY);
         options.add(API_CALL_TIMEOUT);
         options.add(API_CALL_ATTEMPT_TIMEOUT);
+        options.add(HEDGING_POLICY);
         options.add(PROFILE_FILE_SUPPLIER);
         options.add(PROFILE_NAME);
         options.add(CONFIGURED_RETRY_STRATEGY);
@@ -321,6 +324,15 @@ public final class ClientOverrideConfiguration
         return Optional.ofNullable(config.option(API_CALL_ATTEMPT_TIMEOUT));
     }
 
+    /**
+     * The policy sending a second request when the response of an idempotent request is slow, for asynchronous clients.
+     *
+     * @see Builder#hedgingPolicy(HedgingPolicy)
+     */
+    public Optional<HedgingPolicy> hedgingPolicy() {
+        return Optional.ofNullable(config.option(HEDGING_POLICY));
+    }
+
     /**
      * The profile file supplier that should be used by default for all profile-based configuration in the SDK client.
      *
@@ -399,6 +411,7 @@ public final class ClientOverrideConfiguration
                        .add("retryStrategy", retryStrategy().orElse(null))
                        .add("apiCallTimeout", apiCallTimeout().orElse(null))
                        .add("apiCallAttemptTimeout", apiCallAttemptTimeout().orElse(null))
+                       .add("hedgingPolicy", hedgingPolicy().orElse(null))
                        .add("executionInterceptors", executionInterceptors())
                        .add("profileFileSupplier", defaultProfileFileSupplier().orElse(null))
                        .add("profileFile", defaultProfileFile().orElse(null))
@@ -662,6 +675,29 @@ public final class ClientOverrideConfiguration
 
         Duration apiCallAttemptTimeout();
 
+        /**
+         * Configure the policy sending a second request when the response headers of an idempotent request are not received
+         * after a delay, to reduce the latency of the slowest requests. The first successful response is used, and the other
+         * request is cancelled. The second request counts as a retry of the retry strategy of the client, so it is not sent
+         * when the retry strategy would not allow a retry. Hedging is disabled by default, and only applies to asynchronous
+         * clients.
+         *
+         * @see HedgingPolicy
+         * @see ClientOverrideConfiguration#hedgingPolicy()
+         */
+        Builder hedgingPolicy(HedgingPolicy hedgingPolicy);
+
+        /**
+         * Configure the policy sending a second request when the response of an idempotent request is slow.
+         *
+         * @see #hedgingPolicy(HedgingPolicy)
+         */
+        default Builder hedgingPolicy(Consumer<HedgingPolicy.Builder> hedgingPolicy) {
+            return hedgingPolicy(HedgingPolicy.builder().applyMutation(hedgingPolicy).build());
+        }
+
+        HedgingPolicy hedgingPolicy();
+
         /**
          * Configure a {@link ProfileFileSupplier} that should be used by default for all profile-based configuration in the SDK
          * client.
@@ -1009,6 +1045,21 @@ public final class ClientOverrideConfiguration
             return config.option(API_CALL_ATTEMPT_TIMEOUT);
         }
 
+        @Override
+        public Builder hedgingPolicy(HedgingPolicy hedgingPolicy) {
+            config.option(HEDGING_POLICY, hedgingPolicy);
+            return this;
+        }
+
+        public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+            hedgingPolicy(hedgingPolicy);
+        }
+
+        @Override
+        public HedgingPolicy hedgingPolicy() {
+            return config.option(HEDGING_POLICY);
+        }
+
         @Override
         public Builder defaultProfileFileSupplier(Supplier<ProfileFile> defaultProfileFileSupplier) {
             config.option(PROFILE_FILE_SUPPLIER, defaultProfileFileSupplier);
@@ -64,6 +64,16 @@ public class SdkAdvancedClientOption<T> extends ClientOption<T> {
     public static final SdkAdvancedClientOption<Boolean> DISABLE_HOST_PREFIX_INJECTION =
         new SdkAdvancedClientOption<>(Boolean.class);
 
+    /**
+     * When metric publishers are configured, the SDK collects the metrics of each API call with a collector synchronizing
+     * every reported metric.
+     *
+     * Customers can set this value to True to use a collector that threads can report to concurrently without contention
+     * instead, for example with asynchronous clients reporting metrics from their event loop and completion threads.
+     */
+    public static final SdkAdvancedClientOption<Boolean> CONCURRENT_METRIC_COLLECTOR =
+        new SdkAdvancedClientOption<>(Boolean.class);
+
     protected SdkAdvancedClientOption(Class<T> valueClass) {
         super(valueClass);
         OPTIONS.add(this);
@@ -33,6 +33,7 @@ import software.amazon.awssdk.core.checksums.ResponseChecksumValidation;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
 import software.amazon.awssdk.core.internal.useragent.SdkClientUserAgentProperties;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.useragent.BusinessMetricCollection;
@@ -211,6 +212,11 @@ public final class SdkClientOption<T> extends ClientOption<T> {
      */
     public static final SdkClientOption<Duration> API_CALL_ATTEMPT_TIMEOUT = new SdkClientOption<>(Duration.class);
 
+    /**
+     * @see ClientOverrideConfiguration#hedgingPolicy()
+     */
+    public static final SdkClientOption<HedgingPolicy> HEDGING_POLICY = new SdkClientOption<>(HedgingPolicy.class);
+
     /**
      * @see ClientOverrideConfiguration#apiCallTimeout()
      */
@@ -0,0 +1,160 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.compression;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.CompressionConfiguration;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.internal.compression.DeflateCompressor;
+import software.amazon.awssdk.core.internal.compression.GzipCompressor;
+import software.amazon.awssdk.core.internal.compression.ZstdCompressor;
+
+/**
+ * Compresses the payload of requests whose operations are marked with the "requestCompression" trait. A compressor is only
+ * used if its {@link #compressorType()} is one of the encodings that the operation supports.
+ * <p>
+ * The SDK provides a {@link #gzip()} compressor by default. Compressors can be registered for a client or a request with
+ * {@link CompressionConfiguration.Builder#addCompressor(Compressor)}, for example to change the compression level, or for all
+ * clients by listing them in a {@code META-INF/services/software.amazon.awssdk.core.compression.Compressor} file, which
+ * requires the implementation to have a public no-argument constructor.
+ * <p>
+ * Implementations must be thread-safe, as the same compressor is used for all the requests of a client.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface Compressor {
+
+    /**
+     * The compression algorithm type, used as the value of the Content-Encoding header of compressed requests.
+     *
+     * @return The {@link String} compression algorithm type.
+     */
+    String compressorType();
+
+    /**
+     * Compress a {@link SdkBytes} payload.
+     *
+     * @param content
+     * @return The compressed {@link SdkBytes}.
+     */
+    SdkBytes compress(SdkBytes content);
+
+    /**
+     * Compress a byte[] payload.
+     *
+     * @param content
+     * @return The compressed byte array.
+     */
+    default byte[] compress(byte[] content) {
+        return compress(SdkBytes.fromByteArray(content)).asByteArray();
+    }
+
+    /**
+     * Compress a range of a byte[] payload.
+     *
+     * @param content
+     * @param offset the offset of the first byte to compress
+     * @param length the number of bytes to compress
+     * @return The compressed byte array.
+     */
+    default byte[] compress(byte[] content, int offset, int length) {
+        return compress(Arrays.copyOfRange(content, offset, offset + length));
+    }
+
+    /**
+     * Compress an {@link InputStream} payload. Implementations should compress the payload as the returned stream is read,
+     * instead of buffering the whole payload. Closing the returned stream closes the original stream.
+     *
+     * @param content
+     * @return The compressed {@link InputStream}.
+     */
+    default InputStream compress(InputStream content) {
+        return compress(SdkBytes.fromInputStream(content)).asInputStream();
+    }
+
+    /**
+     * Compress an {@link ByteBuffer} payload.
+     *
+     * @param content
+     * @return The compressed {@link ByteBuffer}.
+     */
+    default ByteBuffer compress(ByteBuffer content) {
+        return compress(SdkBytes.fromByteBuffer(content)).asByteBuffer();
+    }
+
+    /**
+     * A compressor producing the gzip format, with the default compression level of zlib. This is the compressor used by the
+     * SDK for the "gzip" encoding, unless another one is configured.
+     */
+    static Compressor gzip() {
+        return GzipCompressor.create();
+    }
+
+    /**
+     * A compressor producing the gzip format with the given compression level, from 1 (fastest) to 9 (smallest output), or
+     * -1 for the default compression level of zlib.
+     */
+    static Compressor gzip(int level) {
+        return GzipCompressor.create(level);
+    }
+
+    /**
+     * A compressor producing the "deflate" encoding, that is the zlib format, with the default compression level of zlib.
+     */
+    static Compressor deflate() {
+        return DeflateCompressor.create();
+    }
+
+    /**
+     * A compressor producing the "deflate" encoding, that is the zlib format, with the given compression level, from 1
+     * (fastest) to 9 (smallest output), or -1 for the default compression level of zlib.
+     */
+    static Compressor deflate(int level) {
+        return DeflateCompressor.create(level);
+    }
+
+    /**
+     * Whether the "zstd" encoding can be used, which requires {@code com.github.luben:zstd-jni} to be on the classpath.
+     */
+    static boolean isZstdAvailable() {
+        return ZstdCompressor.isAvailable();
+    }
+
+    /**
+     * A compressor producing the "zstd" encoding with the default compression level of zstd.
+     *
+     * @throws IllegalStateException if {@code com.github.luben:zstd-jni} is not on the classpath.
+     * @see #isZstdAvailable()
+     */
+    static Compressor zstd() {
+        return ZstdCompressor.create();
+    }
+
+    /**
+     * A compressor producing the "zstd" encoding with the given compression level, from 1 (fastest) to 22 (smallest output).
+     * Negative levels trade even more of the compression ratio for speed.
+     *
+     * @throws IllegalStateException if {@code com.github.luben:zstd-jni} is not on the classpath.
+     * @see #isZstdAvailable()
+     */
+    static Compressor zstd(int level) {
+        return ZstdCompressor.create(level);
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -50,9 +51,11 @@ import software.amazon.awssdk.utils.Validate;
 @SdkPublicApi
 public final class ExecutionAttribute<T> {
     private static final ConcurrentMap<String, ExecutionAttribute<?>> NAME_HISTORY = new ConcurrentHashMap<>();
-    
+    private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
     private final String name;
     private final ValueStorage<T> storage;
+    private final int index;
 
     /**
      * Creates a new {@link ExecutionAttribute} bound to the provided type param.
@@ -69,6 +72,7 @@ public final class ExecutionAttribute<T> {
                        new DefaultValueStorage() :
                        storage;
         ensureUnique();
+        this.index = NEXT_INDEX.getAndIncrement();
     }
 
     /**
@@ -173,6 +177,14 @@ public final class ExecutionAttribute<T> {
         return storage;
     }
 
+    /**
+     * Visible for {@link ExecutionAttributes} to store the value of this attribute at this index. Attributes are numbered
+     * densely when they are created, and their names are unique, so each index belongs to a single attribute.
+     */
+    int index() {
+        return index;
+    }
+
     public static final class DerivedAttributeBuilder<T, U> {
         private final String name;
         private final Supplier<ExecutionAttribute<U>> realAttribute;
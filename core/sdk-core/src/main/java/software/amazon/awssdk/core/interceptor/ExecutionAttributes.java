@@ -16,11 +16,11 @@
 package software.amazon.awssdk.core.interceptor;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.IndexedKeyMap;
 import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
@@ -35,16 +35,25 @@ import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 @SdkPublicApi
 @NotThreadSafe
 public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttributes.Builder, ExecutionAttributes> {
-    private final Map<ExecutionAttribute<?>, Object> attributes;
+    /**
+     * The values stored by the index of their attribute. Copies of the attributes share the same storage until either of them
+     * is modified, since most of them are only read.
+     */
+    private final IndexedKeyMap<ExecutionAttribute<?>, Object> attributes;
 
     public ExecutionAttributes() {
-        this.attributes = new HashMap<>(32);
+        this.attributes = newAttributeMap();
     }
 
     protected ExecutionAttributes(Map<? extends ExecutionAttribute<?>, ?> attributes) {
-        this.attributes = new HashMap<>(attributes);
+        this.attributes = newAttributeMap();
+        this.attributes.putAll(attributes);
+    }
+
+    private ExecutionAttributes(IndexedKeyMap<ExecutionAttribute<?>, Object> attributes) {
+        this.attributes = attributes;
     }
-    
+
     /**
      * Retrieve the current value of the provided attribute in this collection of attributes. This will return null if the value
      * is not set.
@@ -88,8 +97,8 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * Merge attributes of a higher precedence into the current lower precedence collection.
      */
     public ExecutionAttributes merge(ExecutionAttributes lowerPrecedenceExecutionAttributes) {
-        Map<ExecutionAttribute<?>, Object> copiedAttributes = new HashMap<>(this.attributes);
-        lowerPrecedenceExecutionAttributes.getAttributes().forEach(copiedAttributes::putIfAbsent);
+        IndexedKeyMap<ExecutionAttribute<?>, Object> copiedAttributes = this.attributes.copy();
+        lowerPrecedenceExecutionAttributes.attributes.forEach(copiedAttributes::putIfAbsent);
         return new ExecutionAttributes(copiedAttributes);
     }
 
@@ -98,7 +107,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      */
     public void putAbsentAttributes(ExecutionAttributes lowerPrecedenceExecutionAttributes) {
         if (lowerPrecedenceExecutionAttributes != null) {
-            lowerPrecedenceExecutionAttributes.getAttributes().forEach(attributes::putIfAbsent);
+            lowerPrecedenceExecutionAttributes.attributes.forEach(attributes::putIfAbsent);
         }
     }
 
@@ -112,7 +121,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
     }
 
     public ExecutionAttributes copy() {
-        return toBuilder().build();
+        return new ExecutionAttributes(attributes.copy());
     }
 
     @Override
@@ -146,9 +155,13 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
         return new UnmodifiableExecutionAttributes(attributes);
     }
 
+    private static IndexedKeyMap<ExecutionAttribute<?>, Object> newAttributeMap() {
+        return new IndexedKeyMap<>(ExecutionAttribute.class, ExecutionAttribute::index);
+    }
+
     private static class UnmodifiableExecutionAttributes extends ExecutionAttributes {
         UnmodifiableExecutionAttributes(ExecutionAttributes executionAttributes) {
-            super(executionAttributes.attributes);
+            super(executionAttributes.attributes.copy());
         }
 
         @Override
@@ -167,13 +180,14 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
      * copy() if it's because of {@link #unmodifiableExecutionAttributes(ExecutionAttributes)}.
      */
     public static final class Builder implements CopyableBuilder<ExecutionAttributes.Builder, ExecutionAttributes> {
-        private final Map<ExecutionAttribute<?>, Object> executionAttributes = new HashMap<>(32);
+        private final IndexedKeyMap<ExecutionAttribute<?>, Object> executionAttributes;
 
         private Builder() {
+            this.executionAttributes = newAttributeMap();
         }
 
         private Builder(ExecutionAttributes source) {
-            this.executionAttributes.putAll(source.attributes);
+            this.executionAttributes = source.attributes.copy();
         }
 
         /**
@@ -204,7 +218,7 @@ public class ExecutionAttributes implements ToCopyableBuilder<ExecutionAttribute
 
         @Override
         public ExecutionAttributes build() {
-            return new ExecutionAttributes(executionAttributes);
+            return new ExecutionAttributes(executionAttributes.copy());
         }
     }
 }
\ No newline at end of file
@@ -16,11 +16,15 @@
 package software.amazon.awssdk.core.interceptor;
 
 import java.io.InputStream;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.Set;
 import org.reactivestreams.Publisher;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.core.SdkRequest;
@@ -40,28 +44,92 @@ import software.amazon.awssdk.utils.Validate;
  * Interceptors are invoked in forward order up to {@link #beforeTransmission} and in reverse order after (and including)
  * {@link #afterTransmission}. This ensures the last interceptors to modify the request are the first interceptors to see the
  * response.
+ *
+ * Each hook only invokes the interceptors that override it. The interceptors overriding each hook are found when the chain is
+ * created, so a hook that no interceptor overrides does not cost anything when it is invoked. The hooks overridden by each
+ * interceptor class are only looked up once, because a chain is created for every request.
  */
 @SdkProtectedApi
 public class ExecutionInterceptorChain {
     private static final Logger LOG = Logger.loggerFor(ExecutionInterceptorChain.class);
 
+    /**
+     * The methods of {@link ExecutionInterceptor}, by name. Its methods are not overloaded.
+     */
+    private static final Map<String, Method> HOOKS = new HashMap<>();
+
+    static {
+        for (Method method : ExecutionInterceptor.class.getMethods()) {
+            HOOKS.put(method.getName(), method);
+        }
+    }
+
+    /**
+     * The names of the {@link #HOOKS} overridden by each interceptor class.
+     */
+    private static final ClassValue<Set<String>> OVERRIDDEN_HOOKS = new ClassValue<Set<String>>() {
+        @Override
+        protected Set<String> computeValue(Class<?> interceptorClass) {
+            Set<String> overriddenHooks = new HashSet<>();
+            for (Method hook : HOOKS.values()) {
+                if (overrides(interceptorClass, hook)) {
+                    overriddenHooks.add(hook.getName());
+                }
+            }
+            return overriddenHooks;
+        }
+    };
+
     private final List<ExecutionInterceptor> interceptors;
 
+    private final ExecutionInterceptor[] beforeExecutionInterceptors;
+    private final ExecutionInterceptor[] modifyRequestInterceptors;
+    private final ExecutionInterceptor[] beforeMarshallingInterceptors;
+    private final ExecutionInterceptor[] afterMarshallingInterceptors;
+    private final ExecutionInterceptor[] modifyHttpRequestInterceptors;
+    private final ExecutionInterceptor[] beforeTransmissionInterceptors;
+    private final ExecutionInterceptor[] afterTransmissionInterceptors;
+    private final ExecutionInterceptor[] modifyHttpResponseInterceptors;
+    private final ExecutionInterceptor[] modifyAsyncHttpResponseInterceptors;
+    private final ExecutionInterceptor[] beforeUnmarshallingInterceptors;
+    private final ExecutionInterceptor[] afterUnmarshallingInterceptors;
+    private final ExecutionInterceptor[] modifyResponseInterceptors;
+    private final ExecutionInterceptor[] afterExecutionInterceptors;
+    private final ExecutionInterceptor[] modifyExceptionInterceptors;
+    private final ExecutionInterceptor[] onExecutionFailureInterceptors;
+
     /**
      * Create a chain that will execute the provided interceptors in the order they are provided.
      */
     public ExecutionInterceptorChain(List<ExecutionInterceptor> interceptors) {
         this.interceptors = new ArrayList<>(Validate.paramNotNull(interceptors, "interceptors"));
+        this.beforeExecutionInterceptors = overriding("beforeExecution");
+        this.modifyRequestInterceptors = overriding("modifyRequest");
+        this.beforeMarshallingInterceptors = overriding("beforeMarshalling");
+        this.afterMarshallingInterceptors = overriding("afterMarshalling");
+        this.modifyHttpRequestInterceptors = overriding("modifyHttpRequest", "modifyHttpContent", "modifyAsyncHttpContent");
+        this.beforeTransmissionInterceptors = overriding("beforeTransmission");
+        this.afterTransmissionInterceptors = overriding("afterTransmission");
+        this.modifyHttpResponseInterceptors = overriding("modifyHttpResponse", "modifyHttpResponseContent");
+        this.modifyAsyncHttpResponseInterceptors = overriding("modifyAsyncHttpResponseContent");
+        this.beforeUnmarshallingInterceptors = overriding("beforeUnmarshalling");
+        this.afterUnmarshallingInterceptors = overriding("afterUnmarshalling");
+        this.modifyResponseInterceptors = overriding("modifyResponse");
+        this.afterExecutionInterceptors = overriding("afterExecution");
+        this.modifyExceptionInterceptors = overriding("modifyException");
+        this.onExecutionFailureInterceptors = overriding("onExecutionFailure");
         LOG.debug(() -> "Creating an interceptor chain that will apply interceptors in the following order: " + interceptors);
     }
 
     public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeExecution(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : beforeExecutionInterceptors) {
+            interceptor.beforeExecution(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyRequest(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : modifyRequestInterceptors) {
             SdkRequest interceptorResult = interceptor.modifyRequest(result, executionAttributes);
 
             if (interceptorResult != result.request()) {
@@ -73,17 +141,21 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeMarshalling(Context.BeforeMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : beforeMarshallingInterceptors) {
+            interceptor.beforeMarshalling(context, executionAttributes);
+        }
     }
 
     public void afterMarshalling(Context.AfterMarshalling context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.afterMarshalling(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : afterMarshallingInterceptors) {
+            interceptor.afterMarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpRequestAndHttpContent(InterceptorContext context,
                                                               ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (ExecutionInterceptor interceptor : interceptors) {
+        for (ExecutionInterceptor interceptor : modifyHttpRequestInterceptors) {
             AsyncRequestBody asyncRequestBody = interceptor.modifyAsyncHttpContent(result, executionAttributes).orElse(null);
             RequestBody requestBody = interceptor.modifyHttpContent(result, executionAttributes).orElse(null);
             SdkHttpRequest interceptorResult = interceptor.modifyHttpRequest(result, executionAttributes);
@@ -102,24 +174,28 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.beforeTransmission(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : beforeTransmissionInterceptors) {
+            interceptor.beforeTransmission(context, executionAttributes);
+        }
     }
 
     public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterTransmission(context, executionAttributes));
+        for (int i = afterTransmissionInterceptors.length - 1; i >= 0; i--) {
+            afterTransmissionInterceptors[i].afterTransmission(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyHttpResponse(InterceptorContext context,
                                                  ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkHttpResponse interceptorResult =
-                interceptors.get(i).modifyHttpResponse(result, executionAttributes);
-            InputStream response = interceptors.get(i).modifyHttpResponseContent(result, executionAttributes).orElse(null);
+        for (int i = modifyHttpResponseInterceptors.length - 1; i >= 0; i--) {
+            ExecutionInterceptor interceptor = modifyHttpResponseInterceptors[i];
+            SdkHttpResponse interceptorResult = interceptor.modifyHttpResponse(result, executionAttributes);
+            InputStream response = interceptor.modifyHttpResponseContent(result, executionAttributes).orElse(null);
 
             if (interceptorResult != result.httpResponse() || response != result.responseBody().orElse(null)) {
-                validateInterceptorResult(result.httpResponse(), interceptorResult, interceptors.get(i), "modifyHttpResponse");
+                validateInterceptorResult(result.httpResponse(), interceptorResult, interceptor, "modifyHttpResponse");
                 result = result.copy(r -> r.httpResponse(interceptorResult)
                                            .responseBody(response));
             }
@@ -134,8 +210,8 @@ public class ExecutionInterceptorChain {
                                                       ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
 
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            ExecutionInterceptor interceptor = interceptors.get(i);
+        for (int i = modifyAsyncHttpResponseInterceptors.length - 1; i >= 0; i--) {
+            ExecutionInterceptor interceptor = modifyAsyncHttpResponseInterceptors[i];
 
             Publisher<ByteBuffer> newResponsePublisher =
                 interceptor.modifyAsyncHttpResponseContent(result, executionAttributes).orElse(null);
@@ -149,20 +225,25 @@ public class ExecutionInterceptorChain {
     }
 
     public void beforeUnmarshalling(Context.BeforeUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.beforeUnmarshalling(context, executionAttributes));
+        for (int i = beforeUnmarshallingInterceptors.length - 1; i >= 0; i--) {
+            beforeUnmarshallingInterceptors[i].beforeUnmarshalling(context, executionAttributes);
+        }
     }
 
     public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterUnmarshalling(context, executionAttributes));
+        for (int i = afterUnmarshallingInterceptors.length - 1; i >= 0; i--) {
+            afterUnmarshallingInterceptors[i].afterUnmarshalling(context, executionAttributes);
+        }
     }
 
     public InterceptorContext modifyResponse(InterceptorContext context, ExecutionAttributes executionAttributes) {
         InterceptorContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            SdkResponse interceptorResult = interceptors.get(i).modifyResponse(result, executionAttributes);
+        for (int i = modifyResponseInterceptors.length - 1; i >= 0; i--) {
+            ExecutionInterceptor interceptor = modifyResponseInterceptors[i];
+            SdkResponse interceptorResult = interceptor.modifyResponse(result, executionAttributes);
 
             if (interceptorResult != result.response()) {
-                validateInterceptorResult(result.response(), interceptorResult, interceptors.get(i), "modifyResponse");
+                validateInterceptorResult(result.response(), interceptorResult, interceptor, "modifyResponse");
                 result = result.copy(b -> b.response(interceptorResult));
             }
         }
@@ -171,18 +252,20 @@ public class ExecutionInterceptorChain {
     }
 
     public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
-        reverseForEach(i -> i.afterExecution(context, executionAttributes));
+        for (int i = afterExecutionInterceptors.length - 1; i >= 0; i--) {
+            afterExecutionInterceptors[i].afterExecution(context, executionAttributes);
+        }
     }
 
     public DefaultFailedExecutionContext modifyException(DefaultFailedExecutionContext context,
                                                          ExecutionAttributes executionAttributes) {
         DefaultFailedExecutionContext result = context;
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            Throwable interceptorResult = interceptors.get(i).modifyException(result, executionAttributes);
+        for (int i = modifyExceptionInterceptors.length - 1; i >= 0; i--) {
+            ExecutionInterceptor interceptor = modifyExceptionInterceptors[i];
+            Throwable interceptorResult = interceptor.modifyException(result, executionAttributes);
 
             if (interceptorResult != result.exception()) {
-                validateInterceptorResult(result.exception(), interceptorResult,
-                                          interceptors.get(i), "modifyException");
+                validateInterceptorResult(result.exception(), interceptorResult, interceptor, "modifyException");
                 result = result.copy(b -> b.exception(interceptorResult));
             }
         }
@@ -191,7 +274,9 @@ public class ExecutionInterceptorChain {
     }
 
     public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
-        interceptors.forEach(i -> i.onExecutionFailure(context, executionAttributes));
+        for (ExecutionInterceptor interceptor : onExecutionFailureInterceptors) {
+            interceptor.onExecutionFailure(context, executionAttributes);
+        }
     }
 
     /**
@@ -213,11 +298,34 @@ public class ExecutionInterceptorChain {
     }
 
     /**
-     * Execute the provided action against the interceptors in this chain in the reverse order they are configured.
+     * Find the interceptors in this chain overriding any of the provided {@link ExecutionInterceptor} methods, in the order
+     * they are configured.
+     */
+    private ExecutionInterceptor[] overriding(String... methodNames) {
+        List<ExecutionInterceptor> result = new ArrayList<>();
+        for (ExecutionInterceptor interceptor : interceptors) {
+            Set<String> overriddenHooks = OVERRIDDEN_HOOKS.get(interceptor.getClass());
+            for (String methodName : methodNames) {
+                if (overriddenHooks.contains(methodName)) {
+                    result.add(interceptor);
+                    break;
+                }
+            }
+        }
+        return result.toArray(new ExecutionInterceptor[0]);
+    }
+
+    /**
+     * Whether the provided interceptor class overrides the default implementation of an {@link ExecutionInterceptor} method. If
+     * this cannot be determined, the interceptor is assumed to override it.
      */
-    private void reverseForEach(Consumer<ExecutionInterceptor> action) {
-        for (int i = interceptors.size() - 1; i >= 0; i--) {
-            action.accept(interceptors.get(i));
+    private static boolean overrides(Class<?> interceptorClass, Method hook) {
+        try {
+            Method method = interceptorClass.getMethod(hook.getName(), hook.getParameterTypes());
+            return method.getDeclaringClass() != ExecutionInterceptor.class;
+        } catch (NoSuchMethodException | RuntimeException e) {
+            LOG.debug(() -> "Unable to determine whether " + interceptorClass + " overrides " + hook.getName() + ".", e);
+            return true;
         }
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Keeps released {@link ByteBuffer}s, grouped by capacity, so that they can be acquired again instead of allocating new ones.
+ * The total capacity of the buffers kept is capped, buffers released over the cap are left to the garbage collector.
+ * <p>
+ * A buffer must only be released once its owner no longer reads or writes it, which means buffers handed to a subscriber
+ * must not be released, as the subscriber may keep them after {@code onNext} returns.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class ByteBufferPool {
+    static final long DEFAULT_MAX_POOLED_BYTES = 8 * 1024 * 1024L;
+
+    private static final ByteBufferPool DEFAULT_POOL = create(
+        SdkSystemSetting.AWS_ASYNC_BUFFER_POOL_MAX_BYTES.getStringValue().map(Long::parseLong).orElse(DEFAULT_MAX_POOLED_BYTES),
+        SdkSystemSetting.AWS_ASYNC_BUFFER_POOL_DIRECT.getBooleanValue().orElse(false));
+
+    private final Map<Integer, Queue<ByteBuffer>> buffersByCapacity = new ConcurrentHashMap<>();
+    private final AtomicLong pooledBytes = new AtomicLong();
+    private final long maxPooledBytes;
+    private final boolean direct;
+
+    private ByteBufferPool(long maxPooledBytes, boolean direct) {
+        this.maxPooledBytes = Validate.isNotNegative(maxPooledBytes, "maxPooledBytes");
+        this.direct = direct;
+    }
+
+    /**
+     * Creates a pool keeping at most {@code maxPooledBytes} bytes of buffers.
+     *
+     * @param direct true to allocate buffers outside the Java heap with {@link ByteBuffer#allocateDirect(int)}.
+     */
+    public static ByteBufferPool create(long maxPooledBytes, boolean direct) {
+        return new ByteBufferPool(maxPooledBytes, direct);
+    }
+
+    /**
+     * The pool shared by the asynchronous request bodies of all clients, configured with
+     * {@link SdkSystemSetting#AWS_ASYNC_BUFFER_POOL_MAX_BYTES} and {@link SdkSystemSetting#AWS_ASYNC_BUFFER_POOL_DIRECT}.
+     */
+    public static ByteBufferPool defaultPool() {
+        return DEFAULT_POOL;
+    }
+
+    /**
+     * Returns an empty buffer with the given capacity, reusing a released one if there is one.
+     */
+    public ByteBuffer acquire(int capacity) {
+        Queue<ByteBuffer> buffers = buffersByCapacity.get(capacity);
+        ByteBuffer buffer = buffers == null ? null : buffers.poll();
+        if (buffer == null) {
+            return direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        }
+        pooledBytes.addAndGet(-capacity);
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Gives a buffer back to the pool. Buffers that were not allocated the way this pool allocates them, read-only buffers,
+     * and buffers that would take the pool over its maximum size are not kept.
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.isReadOnly() || buffer.isDirect() != direct || !reserve(buffer.capacity())) {
+            return;
+        }
+        buffersByCapacity.computeIfAbsent(buffer.capacity(), c -> new ConcurrentLinkedQueue<>()).add(buffer);
+    }
+
+    /**
+     * @return true if this pool allocates buffers outside the Java heap.
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    long pooledBytes() {
+        return pooledBytes.get();
+    }
+
+    private boolean reserve(int capacity) {
+        long current;
+        do {
+            current = pooledBytes.get();
+            if (current + capacity > maxPooledBytes) {
+                return false;
+            }
+        } while (!pooledBytes.compareAndSet(current, current + capacity));
+        return true;
+    }
+}
@@ -30,18 +30,22 @@ import software.amazon.awssdk.utils.builder.SdkBuilder;
  * Class that will buffer incoming BufferBytes to chunks of bufferSize.
  * If totalBytes is not provided, i.e. content-length is unknown, {@link #getBufferedData()} should be used in the Subscriber's
  * {@code onComplete()} to check for a final chunk that is smaller than the chunk size, and send if present.
+ * <p>
+ * Bytes that do not fill a whole chunk are copied to a buffer acquired from a {@link ByteBufferPool} the first time it is
+ * needed, and given back to the pool once all the bytes have been split, or when {@link #getBufferedData()} is called.
  */
 @SdkInternalApi
 public final class ChunkBuffer {
     private final AtomicLong transferredBytes;
-    private final ByteBuffer currentBuffer;
+    private final ByteBufferPool bufferPool;
     private final int chunkSize;
     private final Long totalBytes;
+    private ByteBuffer currentBuffer;
 
-    private ChunkBuffer(Long totalBytes, Integer bufferSize) {
+    private ChunkBuffer(Long totalBytes, Integer bufferSize, ByteBufferPool bufferPool) {
         int chunkSize = bufferSize != null ? bufferSize : DEFAULT_ASYNC_CHUNK_SIZE;
         this.chunkSize = chunkSize;
-        this.currentBuffer = ByteBuffer.allocate(chunkSize);
+        this.bufferPool = bufferPool != null ? bufferPool : ByteBufferPool.defaultPool();
         this.totalBytes = totalBytes;
         this.transferredBytes = new AtomicLong(0);
     }
@@ -60,42 +64,82 @@ public final class ChunkBuffer {
             return Collections.singletonList(inputByteBuffer);
         }
 
-        List<ByteBuffer> byteBuffers = new ArrayList<>();
+        List<ByteBuffer> byteBuffers = Collections.emptyList();
 
         // If current buffer is not empty, fill the buffer first.
-        if (currentBuffer.position() != 0) {
+        if (bufferedBytes() != 0) {
             fillCurrentBuffer(inputByteBuffer);
 
             if (isCurrentBufferFull()) {
-                addCurrentBufferToIterable(byteBuffers);
+                byteBuffers = addCurrentBufferToIterable(byteBuffers);
             }
         }
 
         // If the input buffer is not empty, split the input buffer
         if (inputByteBuffer.hasRemaining()) {
-            splitRemainingInputByteBuffer(inputByteBuffer, byteBuffers);
+            byteBuffers = splitRemainingInputByteBuffer(inputByteBuffer, byteBuffers);
         }
 
         // If this is the last chunk, add data buffered to the iterable
         if (isLastChunk()) {
-            addCurrentBufferToIterable(byteBuffers);
+            byteBuffers = addCurrentBufferToIterable(byteBuffers);
+        }
+
+        if (totalBytes != null && transferredBytes.get() >= totalBytes) {
+            releaseCurrentBuffer();
         }
         return byteBuffers;
     }
 
     private boolean isCurrentBufferFull() {
-        return currentBuffer.position() == chunkSize;
+        return bufferedBytes() == chunkSize;
+    }
+
+    private int bufferedBytes() {
+        return currentBuffer == null ? 0 : currentBuffer.position();
+    }
+
+    private ByteBuffer currentBuffer() {
+        if (currentBuffer == null) {
+            currentBuffer = bufferPool.acquire(chunkSize);
+        }
+        return currentBuffer;
+    }
+
+    private void releaseCurrentBuffer() {
+        if (currentBuffer != null) {
+            bufferPool.release(currentBuffer);
+            currentBuffer = null;
+        }
+    }
+
+    /**
+     * Adds a chunk to the chunks returned by a split. Most splits return no chunk or a single one, so a list is only
+     * allocated for the second chunk.
+     */
+    private static List<ByteBuffer> append(List<ByteBuffer> byteBuffers, ByteBuffer byteBuffer) {
+        if (byteBuffers.isEmpty()) {
+            return Collections.singletonList(byteBuffer);
+        }
+        if (byteBuffers.size() == 1) {
+            List<ByteBuffer> list = new ArrayList<>();
+            list.add(byteBuffers.get(0));
+            list.add(byteBuffer);
+            return list;
+        }
+        byteBuffers.add(byteBuffer);
+        return byteBuffers;
     }
 
     /**
      * Splits the input ByteBuffer to multiple chunks and add them to the iterable.
      */
-    private void splitRemainingInputByteBuffer(ByteBuffer inputByteBuffer, List<ByteBuffer> byteBuffers) {
+    private List<ByteBuffer> splitRemainingInputByteBuffer(ByteBuffer inputByteBuffer, List<ByteBuffer> byteBuffers) {
         long numTransferredBytes = transferredBytes.get();
         while (inputByteBuffer.hasRemaining()) {
             if (inputByteBuffer.remaining() < chunkSize || wouldExceedTotalByte(numTransferredBytes)) {
                 limitBufferToTotalBytes(inputByteBuffer, numTransferredBytes);
-                currentBuffer.put(inputByteBuffer);
+                currentBuffer().put(inputByteBuffer);
                 break;
             }
 
@@ -104,9 +148,10 @@ public final class ChunkBuffer {
             int newLimit = inputByteBufferCopy.position() + chunkSize;
             inputByteBufferCopy.limit(newLimit);
             inputByteBuffer.position(newLimit);
-            byteBuffers.add(inputByteBufferCopy);
+            byteBuffers = append(byteBuffers, inputByteBufferCopy);
             numTransferredBytes = transferredBytes.addAndGet(chunkSize);
         }
+        return byteBuffers;
     }
 
     private void limitBufferToTotalBytes(ByteBuffer buff, long transferred) {
@@ -126,10 +171,24 @@ public final class ChunkBuffer {
     }
 
     /**
-     * Retrieve the current buffered data.
+     * @return true if bytes that do not fill a whole chunk are buffered, waiting for more bytes or for
+     * {@link #getBufferedData()}.
+     */
+    public synchronized boolean hasBufferedData() {
+        return bufferedBytes() != 0;
+    }
+
+    /**
+     * Retrieve the current buffered data, and give the buffer it was held in back to the pool.
      */
-    public Optional<ByteBuffer> getBufferedData() {
-        int remainingBytesInBuffer = currentBuffer.position();
+    public synchronized Optional<ByteBuffer> getBufferedData() {
+        Optional<ByteBuffer> bufferedData = copyBufferedData();
+        releaseCurrentBuffer();
+        return bufferedData;
+    }
+
+    private Optional<ByteBuffer> copyBufferedData() {
+        int remainingBytesInBuffer = bufferedBytes();
 
         if (remainingBytesInBuffer == 0) {
             return Optional.empty();
@@ -148,11 +207,11 @@ public final class ChunkBuffer {
         }
 
         long remainingBytes = totalBytes - transferredBytes.get();
-        return remainingBytes != 0 && remainingBytes == currentBuffer.position();
+        return remainingBytes != 0 && remainingBytes == bufferedBytes();
     }
 
-    private void addCurrentBufferToIterable(List<ByteBuffer> byteBuffers) {
-        Optional<ByteBuffer> bufferedChunk = getBufferedData();
+    private List<ByteBuffer> addCurrentBufferToIterable(List<ByteBuffer> byteBuffers) {
+        Optional<ByteBuffer> bufferedChunk = copyBufferedData();
         if (bufferedChunk.isPresent()) {
             ByteBuffer chunk = bufferedChunk.get();
             if (totalBytes != null) {
@@ -160,28 +219,30 @@ public final class ChunkBuffer {
                 int newLimit = Math.toIntExact(Math.min(chunk.capacity(), remainingBytes));
                 chunk.limit(newLimit);
             }
-            byteBuffers.add(chunk);
+            byteBuffers = append(byteBuffers, chunk);
             transferredBytes.addAndGet(chunk.remaining());
             currentBuffer.clear();
         }
+        return byteBuffers;
     }
 
     private void fillCurrentBuffer(ByteBuffer inputByteBuffer) {
-        while (currentBuffer.position() < chunkSize) {
+        ByteBuffer buffer = currentBuffer();
+        while (buffer.position() < chunkSize) {
             if (!inputByteBuffer.hasRemaining()) {
                 break;
             }
 
-            int remainingCapacity = chunkSize - currentBuffer.position();
+            int remainingCapacity = chunkSize - buffer.position();
 
             if (inputByteBuffer.remaining() < remainingCapacity) {
-                currentBuffer.put(inputByteBuffer);
+                buffer.put(inputByteBuffer);
             } else {
                 ByteBuffer remainingChunk = inputByteBuffer.asReadOnlyBuffer();
                 int newLimit = inputByteBuffer.position() + remainingCapacity;
                 remainingChunk.limit(newLimit);
                 inputByteBuffer.position(newLimit);
-                currentBuffer.put(remainingChunk);
+                buffer.put(remainingChunk);
             }
         }
     }
@@ -191,16 +252,23 @@ public final class ChunkBuffer {
         Builder bufferSize(int bufferSize);
 
         Builder totalBytes(long totalBytes);
+
+        /**
+         * The pool of the buffer holding bytes that do not fill a whole chunk. Defaults to
+         * {@link ByteBufferPool#defaultPool()}.
+         */
+        Builder bufferPool(ByteBufferPool bufferPool);
     }
 
     private static final class DefaultBuilder implements Builder {
 
         private Integer bufferSize;
         private Long totalBytes;
+        private ByteBufferPool bufferPool;
 
         @Override
         public ChunkBuffer build() {
-            return new ChunkBuffer(totalBytes, bufferSize);
+            return new ChunkBuffer(totalBytes, bufferSize, bufferPool);
         }
 
         @Override
@@ -214,5 +282,11 @@ public final class ChunkBuffer {
             this.totalBytes = totalBytes;
             return this;
         }
+
+        @Override
+        public Builder bufferPool(ByteBufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
     }
 }
@@ -70,6 +70,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
     private final int chunkSizeInBytes;
     private final long position;
     private final long numBytesToRead;
+    private final ByteBufferPool bufferPool;
 
     private FileAsyncRequestBody(DefaultBuilder builder) {
         this.path = builder.path;
@@ -78,6 +79,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         this.position = builder.position == null ? 0 : Validate.isNotNegative(builder.position, "position");
         this.numBytesToRead = builder.numBytesToRead == null ? fileLength - this.position :
                               Validate.isNotNegative(builder.numBytesToRead, "numBytesToRead");
+        this.bufferPool = builder.bufferPool;
     }
 
     @Override
@@ -197,6 +199,18 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
          * @return The builder for method chaining.
          */
         Builder numBytesToRead(Long numBytesToRead);
+
+        /**
+         * Sets the pool of the buffers the file is read into when the pool allocates buffers outside the Java heap. The
+         * bytes read are copied to a new heap buffer for the subscriber, and the pooled buffer is given back to the pool.
+         *
+         * <p>By default, and with a pool allocating heap buffers, the file is read directly into the buffers handed to
+         * the subscriber.
+         *
+         * @param bufferPool the pool of the buffers the file is read into
+         * @return The builder for method chaining.
+         */
+        Builder bufferPool(ByteBufferPool bufferPool);
     }
 
     private static final class DefaultBuilder implements Builder {
@@ -205,6 +219,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
         private Path path;
         private Integer chunkSizeInBytes;
         private Long numBytesToRead;
+        private ByteBufferPool bufferPool;
 
         @Override
         public Builder path(Path path) {
@@ -234,6 +249,12 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
             return this;
         }
 
+        @Override
+        public Builder bufferPool(ByteBufferPool bufferPool) {
+            this.bufferPool = bufferPool;
+            return this;
+        }
+
         public void setChunkSizeInBytes(Integer chunkSizeInBytes) {
             chunkSizeInBytes(chunkSizeInBytes);
         }
@@ -322,7 +343,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
                 return;
             }
 
-            ByteBuffer buffer = ByteBuffer.allocate(Math.min(chunkSizeInBytes, NumericUtils.saturatedCast(remainingBytes.get())));
+            ByteBuffer buffer = readBuffer(Math.min(chunkSizeInBytes, NumericUtils.saturatedCast(remainingBytes.get())));
             inputChannel.read(buffer, currentPosition.get(), buffer, new CompletionHandler<Integer, ByteBuffer>() {
                 @Override
                 public void completed(Integer result, ByteBuffer attachment) {
@@ -334,7 +355,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
                             currentPosition.addAndGet(readBytes);
                             remainingBytes.addAndGet(-readBytes);
 
-                            signalOnNext(attachment);
+                            signalOnNext(readData(attachment));
 
                             if (remainingBytes.get() == 0) {
                                 closeFile();
@@ -350,6 +371,7 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
                                 }
                             }
                         } else {
+                            releaseReadBuffer(attachment);
                             // Reached the end of the file, notify the subscriber and cleanup
                             closeFile();
                             signalOnComplete();
@@ -362,12 +384,47 @@ public final class FileAsyncRequestBody implements AsyncRequestBody {
 
                 @Override
                 public void failed(Throwable exc, ByteBuffer attachment) {
+                    releaseReadBuffer(attachment);
                     signalOnError(exc);
                     closeFile();
                 }
             });
         }
 
+        /**
+         * Reading a file into a heap buffer goes through a temporary direct buffer of the JDK, so reading into a pooled
+         * direct buffer and copying the bytes to the heap costs no extra copy, and bounds the direct memory used for reads.
+         */
+        private boolean readsThroughPool() {
+            return bufferPool != null && bufferPool.isDirect();
+        }
+
+        private ByteBuffer readBuffer(int size) {
+            if (!readsThroughPool()) {
+                return ByteBuffer.allocate(size);
+            }
+            ByteBuffer buffer = bufferPool.acquire(chunkSizeInBytes);
+            buffer.limit(size);
+            return buffer;
+        }
+
+        private ByteBuffer readData(ByteBuffer readBuffer) {
+            if (!readsThroughPool()) {
+                return readBuffer;
+            }
+            ByteBuffer data = ByteBuffer.allocate(readBuffer.remaining());
+            data.put(readBuffer);
+            data.flip();
+            bufferPool.release(readBuffer);
+            return data;
+        }
+
+        private void releaseReadBuffer(ByteBuffer readBuffer) {
+            if (readsThroughPool()) {
+                bufferPool.release(readBuffer);
+            }
+        }
+
         private void closeFile() {
             try {
                 inputChannel.close();
@@ -35,7 +35,8 @@ import software.amazon.awssdk.utils.async.SimplePublisher;
 /**
  * A helper class to split a {@link FileAsyncRequestBody} to multiple smaller async request bodies. It ensures the buffer used to
  * be under the configured size via {@link AsyncRequestBodySplitConfiguration#bufferSizeInBytes()} by tracking the number of
- * concurrent ongoing {@link AsyncRequestBody}s.
+ * concurrent ongoing {@link AsyncRequestBody}s. When the {@link ByteBufferPool} allocates buffers outside the Java heap, the
+ * file is read through its buffers, see {@link FileAsyncRequestBody.Builder#bufferPool(ByteBufferPool)}.
  */
 @SdkInternalApi
 public final class FileAsyncRequestBodySplitHelper {
@@ -48,6 +49,7 @@ public final class FileAsyncRequestBodySplitHelper {
     private final int bufferPerAsyncRequestBody;
     private final long totalBufferSize;
     private final long chunkSize;
+    private final ByteBufferPool bufferPool;
 
     private volatile boolean isDone = false;
 
@@ -56,6 +58,13 @@ public final class FileAsyncRequestBodySplitHelper {
 
     public FileAsyncRequestBodySplitHelper(FileAsyncRequestBody asyncRequestBody,
                                            AsyncRequestBodySplitConfiguration splitConfiguration) {
+        this(asyncRequestBody, splitConfiguration, ByteBufferPool.defaultPool());
+    }
+
+    @SdkTestInternalApi
+    FileAsyncRequestBodySplitHelper(FileAsyncRequestBody asyncRequestBody,
+                                    AsyncRequestBodySplitConfiguration splitConfiguration,
+                                    ByteBufferPool bufferPool) {
         Validate.notNull(asyncRequestBody, "asyncRequestBody");
         Validate.notNull(splitConfiguration, "splitConfiguration");
         Validate.isTrue(asyncRequestBody.contentLength().isPresent(), "Content length must be present", asyncRequestBody);
@@ -70,6 +79,7 @@ public final class FileAsyncRequestBodySplitHelper {
                                splitConfiguration.bufferSizeInBytes();
         this.bufferPerAsyncRequestBody = Math.min(asyncRequestBody.chunkSizeInBytes(),
                                                   NumericUtils.saturatedCast(totalBufferSize));
+        this.bufferPool = bufferPool;
     }
 
     public SdkPublisher<AsyncRequestBody> split() {
@@ -134,6 +144,7 @@ public final class FileAsyncRequestBodySplitHelper {
                                                                         .position(position)
                                                                         .numBytesToRead(numBytesToReadForThisChunk)
                                                                         .chunkSizeInBytes(bufferPerAsyncRequestBody)
+                                                                        .bufferPool(bufferPool)
                                                                         .build();
         return new FileAsyncRequestBodyWrapper(fileAsyncRequestBody, simplePublisher);
     }
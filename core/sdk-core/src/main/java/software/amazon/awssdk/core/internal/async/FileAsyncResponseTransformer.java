@@ -41,6 +41,7 @@ import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.FileTransformerConfiguration;
 import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.SplittingTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.async.SdkPublisher;
 import software.amazon.awssdk.core.exception.SdkClientException;
@@ -174,6 +175,28 @@ public final class FileAsyncResponseTransformer<ResponseT> implements AsyncRespo
         return TransformerType.FILE.getName();
     }
 
+    /**
+     * When {@link SplittingTransformerConfiguration#parallelSplit()} is requested, splits this transformer into individual
+     * transformers performing positional writes to the file, which can be used concurrently. The {@code bufferSizeInBytes} of
+     * the configuration is then not used, as no content is buffered in memory. Otherwise, the transformer is split as any other
+     * transformer, and the individual transformers must be used one after the other.
+     *
+     * @see FileAsyncResponseTransformerPublisher
+     */
+    @Override
+    public SplitResult<ResponseT, ResponseT> split(SplittingTransformerConfiguration splitConfig) {
+        Validate.notNull(splitConfig, "splitConfig must not be null");
+        if (!Boolean.TRUE.equals(splitConfig.parallelSplit())) {
+            return AsyncResponseTransformer.super.split(splitConfig);
+        }
+        CompletableFuture<ResponseT> future = new CompletableFuture<>();
+        return SplitResult.<ResponseT, ResponseT>builder()
+                          .publisher(new FileAsyncResponseTransformerPublisher<>(path, configuration, position, future))
+                          .resultFuture(future)
+                          .parallelSplitSupported(true)
+                          .build();
+    }
+
     /**
      * {@link Subscriber} implementation that writes chunks to a file.
      */
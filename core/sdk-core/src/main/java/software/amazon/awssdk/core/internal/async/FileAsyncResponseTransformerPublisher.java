@@ -0,0 +1,344 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption.WRITE_TO_POSITION;
+import static software.amazon.awssdk.utils.FunctionalUtils.runAndLogError;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.core.exception.NonRetryableException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Publisher of individual {@link AsyncResponseTransformer} that all write to the same file, created when
+ * {@link FileAsyncResponseTransformer#split(software.amazon.awssdk.core.SplittingTransformerConfiguration) splitting} a
+ * {@link FileAsyncResponseTransformer}. Unlike {@link SplittingTransformer}, the individual transformers do not forward their
+ * content to a single upstream stream: each of them performs positional writes to the file at the offset indicated by the
+ * {@code Content-Range} header of its response, relative to the range of the first response received. This means the individual
+ * transformers can be used concurrently, and their content can arrive in any order, as long as the first response received is
+ * the one with the lowest range.
+ * <p>
+ * If a response does not contain a {@code Content-Range} header, its content is written right after the content received
+ * so far. This is only correct when the individual transformers are used one after the other.
+ * <p>
+ * Cancelling the subscription to this publisher signals that no more parts need to be written. Once all the individual
+ * transformers already published have completed, the result future is completed with the first response received and the
+ * downstream subscriber is completed.
+ */
+@SdkInternalApi
+public class FileAsyncResponseTransformerPublisher<ResponseT>
+    implements SdkPublisher<AsyncResponseTransformer<ResponseT, ResponseT>> {
+
+    private static final Logger log = Logger.loggerFor(FileAsyncResponseTransformerPublisher.class);
+    private static final Pattern CONTENT_RANGE_PATTERN = Pattern.compile("^bytes\\s+(\\d+)-\\d+/(\\d+|\\*)$");
+
+    private final Path path;
+    private final FileTransformerConfiguration configuration;
+    private final long position;
+    private final CompletableFuture<ResponseT> resultFuture;
+
+    /**
+     * The amount of transformers requested by the downstream subscriber that are still left to publish.
+     */
+    private final AtomicLong outstandingDemand = new AtomicLong(0);
+
+    /**
+     * This flag stops the current thread from publishing transformers while another thread is already publishing.
+     */
+    private final AtomicBoolean emitting = new AtomicBoolean(false);
+
+    /**
+     * Set to true once {@code .cancel()} is called in the subscription of the downstream subscriber.
+     */
+    private final AtomicBoolean isCancelled = new AtomicBoolean(false);
+
+    /**
+     * The number of individual transformers prepared whose future did not complete yet.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger(0);
+
+    /**
+     * The amount of bytes received by individual transformers whose response did not indicate their position. Used to
+     * position the content of sequential parts.
+     */
+    private final AtomicLong sequentialBytesReceived = new AtomicLong(0);
+
+    private final Object fileLock = new Object();
+    private boolean fileInitialized = false;
+    private ResponseT firstResponse;
+    private long firstRangeStart;
+
+    private volatile Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> downstreamSubscriber;
+
+    public FileAsyncResponseTransformerPublisher(Path path,
+                                                 FileTransformerConfiguration configuration,
+                                                 long position,
+                                                 CompletableFuture<ResponseT> resultFuture) {
+        this.path = Validate.paramNotNull(path, "path");
+        this.configuration = Validate.paramNotNull(configuration, "configuration");
+        this.position = position;
+        this.resultFuture = Validate.paramNotNull(resultFuture, "resultFuture");
+        this.resultFuture.whenComplete((r, e) -> {
+            if (e == null) {
+                return;
+            }
+            Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> subscriber = downstreamSubscriber;
+            downstreamSubscriber = null;
+            if (subscriber != null) {
+                subscriber.onError(e);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("subscriber must not be null");
+        }
+        this.downstreamSubscriber = subscriber;
+        subscriber.onSubscribe(new DownstreamSubscription());
+    }
+
+    private final class DownstreamSubscription implements Subscription {
+
+        @Override
+        public void request(long n) {
+            Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> subscriber = downstreamSubscriber;
+            if (subscriber == null) {
+                return;
+            }
+            if (n <= 0) {
+                subscriber.onError(new IllegalArgumentException("Amount requested must be positive"));
+                return;
+            }
+            outstandingDemand.updateAndGet(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            emit();
+        }
+
+        @Override
+        public void cancel() {
+            log.trace(() -> "received cancel signal");
+            if (isCancelled.compareAndSet(false, true)) {
+                completeIfDone();
+            }
+        }
+    }
+
+    private void emit() {
+        do {
+            if (!emitting.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                while (outstandingDemand.get() > 0) {
+                    Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> subscriber = downstreamSubscriber;
+                    if (isCancelled.get() || subscriber == null) {
+                        return;
+                    }
+                    outstandingDemand.decrementAndGet();
+                    subscriber.onNext(new IndividualFileTransformer());
+                }
+            } finally {
+                emitting.set(false);
+            }
+        } while (outstandingDemand.get() > 0);
+    }
+
+    private void completeIfDone() {
+        if (!isCancelled.get() || inFlight.get() > 0) {
+            return;
+        }
+        Subscriber<? super AsyncResponseTransformer<ResponseT, ResponseT>> subscriber = downstreamSubscriber;
+        downstreamSubscriber = null;
+        ResponseT response;
+        synchronized (fileLock) {
+            response = firstResponse;
+        }
+        if (resultFuture.complete(response) && subscriber != null) {
+            log.trace(() -> "All individual transformers completed, calling downstreamSubscriber.onComplete()");
+            subscriber.onComplete();
+        }
+    }
+
+    private void handleError(Throwable throwable) {
+        if (resultFuture.isDone()) {
+            return;
+        }
+        if (configuration.failureBehavior() == FailureBehavior.DELETE) {
+            runAndLogError(log.logger(),
+                           String.format("Failed to delete the file %s", path),
+                           () -> Files.deleteIfExists(path));
+        }
+        resultFuture.completeExceptionally(throwable);
+    }
+
+    /**
+     * Creates the file according to the configured {@link FileTransformerConfiguration.FileWriteOption}, once, before any
+     * individual transformer writes to it. The individual transformers then only open the file for writing.
+     */
+    private void initializeFile() throws IOException {
+        synchronized (fileLock) {
+            if (fileInitialized) {
+                return;
+            }
+            switch (configuration.fileWriteOption()) {
+                case CREATE_NEW:
+                    Files.createFile(path);
+                    break;
+                case CREATE_OR_REPLACE_EXISTING:
+                    FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                                     StandardOpenOption.TRUNCATE_EXISTING).close();
+                    break;
+                case CREATE_OR_APPEND_TO_EXISTING:
+                    FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.CREATE).close();
+                    break;
+                case WRITE_TO_POSITION:
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported file write option: " + configuration.fileWriteOption());
+            }
+            fileInitialized = true;
+        }
+    }
+
+    private static Optional<Long> contentRangeStart(Object response) {
+        if (!(response instanceof SdkResponse) || ((SdkResponse) response).sdkHttpResponse() == null) {
+            return Optional.empty();
+        }
+        return ((SdkResponse) response).sdkHttpResponse()
+                                       .firstMatchingHeader("Content-Range")
+                                       .map(CONTENT_RANGE_PATTERN::matcher)
+                                       .filter(Matcher::matches)
+                                       .map(matcher -> Long.parseLong(matcher.group(1)));
+    }
+
+    /**
+     * The AsyncResponseTransformer for each of the individual requests. It delegates to a {@link FileAsyncResponseTransformer}
+     * writing to the file at the position determined when the response is received.
+     */
+    private final class IndividualFileTransformer implements AsyncResponseTransformer<ResponseT, ResponseT> {
+        private final AtomicBoolean prepared = new AtomicBoolean(false);
+        private final AtomicBoolean done = new AtomicBoolean(false);
+        private CompletableFuture<ResponseT> individualFuture;
+        private volatile FileAsyncResponseTransformer<ResponseT> delegate;
+        private volatile boolean sequential;
+
+        @Override
+        public CompletableFuture<ResponseT> prepare() {
+            this.individualFuture = new CompletableFuture<>();
+            if (prepared.compareAndSet(false, true)) {
+                // prepare may be called again when the request is retried, only count this transformer once
+                inFlight.incrementAndGet();
+            }
+            resultFuture.whenComplete((r, e) -> {
+                if (e != null) {
+                    individualFuture.completeExceptionally(NonRetryableException.create(
+                        "Error occurred during multipart download. Request will not be retried.", e));
+                }
+            });
+            individualFuture.whenComplete((r, e) -> {
+                if (done.compareAndSet(false, true)) {
+                    inFlight.decrementAndGet();
+                    completeIfDone();
+                }
+            });
+            return individualFuture;
+        }
+
+        @Override
+        public void onResponse(ResponseT response) {
+            Optional<Long> rangeStart = contentRangeStart(response);
+            long offset;
+            synchronized (fileLock) {
+                if (firstResponse == null) {
+                    firstResponse = response;
+                    firstRangeStart = rangeStart.orElse(0L);
+                }
+                offset = rangeStart.map(start -> start - firstRangeStart).orElseGet(sequentialBytesReceived::get);
+            }
+            this.sequential = !rangeStart.isPresent();
+            long writePosition = position + offset;
+            log.trace(() -> "Writing individual part to position " + writePosition);
+            FileTransformerConfiguration partConfiguration =
+                configuration.toBuilder()
+                             .fileWriteOption(WRITE_TO_POSITION)
+                             .position(writePosition)
+                             .failureBehavior(FailureBehavior.LEAVE)
+                             .build();
+            FileAsyncResponseTransformer<ResponseT> transformer = new FileAsyncResponseTransformer<>(path, partConfiguration);
+            CompletableFutureUtils.forwardResultTo(transformer.prepare(), individualFuture);
+            transformer.onResponse(response);
+            this.delegate = transformer;
+        }
+
+        @Override
+        public void onStream(SdkPublisher<ByteBuffer> publisher) {
+            try {
+                initializeFile();
+            } catch (IOException | RuntimeException e) {
+                exceptionOccurred(SdkClientException.create("Unable to create file " + path, e));
+                return;
+            }
+            SdkPublisher<ByteBuffer> partPublisher = publisher;
+            if (sequential) {
+                partPublisher = publisher.map(byteBuffer -> {
+                    sequentialBytesReceived.addAndGet(byteBuffer.remaining());
+                    return byteBuffer;
+                });
+            }
+            delegate.onStream(partPublisher);
+        }
+
+        @Override
+        public void exceptionOccurred(Throwable error) {
+            handleError(error);
+            FileAsyncResponseTransformer<ResponseT> transformer = delegate;
+            if (transformer != null) {
+                transformer.exceptionOccurred(error);
+            } else if (individualFuture != null) {
+                individualFuture.completeExceptionally(error);
+            }
+        }
+
+        @Override
+        public String name() {
+            return TransformerType.FILE.getName();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.SdkTestInternalApi;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncRequestBodySplitConfiguration;
 import software.amazon.awssdk.core.async.SdkPublisher;
@@ -38,18 +39,32 @@ import software.amazon.awssdk.utils.async.SimplePublisher;
  *
  * <p>If content length is known, each {@link AsyncRequestBody} is sent to the subscriber right after it's initialized.
  * Otherwise, it is sent after the entire content for that chunk is buffered. This is required to get content length.
+ *
+ * <p>Upstream buffers smaller than {@link #STAGING_BUFFER_SIZE} are coalesced in a staging buffer acquired from a
+ * {@link ByteBufferPool}, and sent downstream as copies once the staging buffer is full or the chunk is complete. Larger
+ * upstream buffers are sent as-is.
  */
 @SdkInternalApi
 public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
+    static final int STAGING_BUFFER_SIZE = 16 * 1024;
     private static final Logger log = Logger.loggerFor(SplittingPublisher.class);
     private final AsyncRequestBody upstreamPublisher;
     private final SplittingSubscriber splittingSubscriber;
     private final SimplePublisher<AsyncRequestBody> downstreamPublisher = new SimplePublisher<>();
     private final long chunkSizeInBytes;
     private final long bufferSizeInBytes;
+    private final ByteBufferPool bufferPool;
 
     public SplittingPublisher(AsyncRequestBody asyncRequestBody,
                               AsyncRequestBodySplitConfiguration splitConfiguration) {
+        this(asyncRequestBody, splitConfiguration, ByteBufferPool.defaultPool());
+    }
+
+    @SdkTestInternalApi
+    SplittingPublisher(AsyncRequestBody asyncRequestBody,
+                       AsyncRequestBodySplitConfiguration splitConfiguration,
+                       ByteBufferPool bufferPool) {
+        this.bufferPool = bufferPool;
         this.upstreamPublisher = Validate.paramNotNull(asyncRequestBody, "asyncRequestBody");
         Validate.notNull(splitConfiguration, "splitConfiguration");
         this.chunkSizeInBytes = splitConfiguration.chunkSizeInBytes() == null ?
@@ -246,6 +261,10 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
             private final long maxLength;
             private final Long totalLength;
             private final SimplePublisher<ByteBuffer> delegate = new SimplePublisher<>();
+            private final ChunkBuffer stagingBuffer = ChunkBuffer.builder()
+                                                                 .bufferSize(STAGING_BUFFER_SIZE)
+                                                                 .bufferPool(bufferPool)
+                                                                 .build();
             private final int chunkNumber;
             private final AtomicBoolean subscribeCalled = new AtomicBoolean(false);
             private volatile long transferredLength = 0;
@@ -262,9 +281,19 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
             }
 
             public void send(ByteBuffer data) {
+                transferredLength += data.remaining();
+                if (!stagingBuffer.hasBufferedData() && data.remaining() >= STAGING_BUFFER_SIZE) {
+                    sendDownstream(data);
+                    return;
+                }
+                for (ByteBuffer chunk : stagingBuffer.split(data)) {
+                    sendDownstream(chunk);
+                }
+            }
+
+            private void sendDownstream(ByteBuffer data) {
                 log.trace(() -> String.format("Sending bytebuffer %s to chunk %d", data, chunkNumber));
                 int length = data.remaining();
-                transferredLength += length;
                 addDataBuffered(length);
                 delegate.send(data).whenComplete((r, t) -> {
                     addDataBuffered(-length);
@@ -276,6 +305,7 @@ public class SplittingPublisher implements SdkPublisher<AsyncRequestBody> {
 
             public void complete() {
                 log.debug(() -> "Received complete() for chunk number: " + chunkNumber + " length " + transferredLength);
+                stagingBuffer.getBufferedData().ifPresent(this::sendDownstream);
                 delegate.complete().whenComplete((r, t) -> {
                     if (t != null) {
                         error(t);
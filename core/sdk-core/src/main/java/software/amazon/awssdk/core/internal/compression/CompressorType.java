@@ -15,26 +15,37 @@
 
 package software.amazon.awssdk.core.internal.compression;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.core.internal.util.ClassLoaderHelper;
+import software.amazon.awssdk.utils.Logger;
 import software.amazon.awssdk.utils.Validate;
 
 /**
  * The supported compression algorithms for operations with the requestCompression trait. Each supported algorithm will have an
  * {@link Compressor} implementation.
+ * <p>
+ * The SDK supports "gzip" and "deflate", and "zstd" when zstd-jni is on the classpath. Implementations of {@link Compressor}
+ * registered with {@link ServiceLoader} are added to, or replace, the compressors of the SDK.
  */
 @SdkInternalApi
 public final class CompressorType {
 
     public static final CompressorType GZIP = CompressorType.of("gzip");
 
-    private static Map<String, Compressor> compressorMap = new HashMap<String, Compressor>() {{
-            put("gzip", new GzipCompressor());
-        }};
+    private static final Logger log = Logger.loggerFor(CompressorType.class);
+
+    private static Map<String, Compressor> compressorMap = loadCompressors();
 
     private final String id;
 
@@ -76,6 +87,36 @@ public final class CompressorType {
         return compressor;
     }
 
+    private static Map<String, Compressor> loadCompressors() {
+        Map<String, Compressor> compressors = new HashMap<>();
+        register(compressors, new GzipCompressor());
+        register(compressors, new DeflateCompressor());
+        if (ZstdCompressor.isAvailable()) {
+            register(compressors, ZstdCompressor.create());
+        }
+
+        ClassLoader classLoader = ClassLoaderHelper.classLoader(CompressorType.class);
+        Iterator<Compressor> services = ServiceLoader.load(Compressor.class, classLoader).iterator();
+        while (true) {
+            try {
+                if (!services.hasNext()) {
+                    break;
+                }
+                Compressor compressor = services.next();
+                log.debug(() -> "Registering compressor " + compressor.getClass().getName() + " for "
+                                + compressor.compressorType());
+                register(compressors, compressor);
+            } catch (ServiceConfigurationError e) {
+                log.warn(() -> "Unable to load a compressor registered in META-INF/services.", e);
+            }
+        }
+        return Collections.unmodifiableMap(compressors);
+    }
+
+    private static void register(Map<String, Compressor> compressors, Compressor compressor) {
+        compressors.put(compressor.compressorType().toLowerCase(Locale.ROOT), compressor);
+    }
+
     @Override
     public String toString() {
         return id;
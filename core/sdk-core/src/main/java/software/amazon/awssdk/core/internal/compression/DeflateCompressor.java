@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.util.zip.Deflater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Compresses payloads with the "deflate" HTTP content coding, that is the zlib format of RFC 1950.
+ *
+ * @see DeflaterCompressor
+ */
+@SdkInternalApi
+public final class DeflateCompressor extends DeflaterCompressor {
+
+    private static final String COMPRESSOR_TYPE = "deflate";
+
+    public DeflateCompressor() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    private DeflateCompressor(int level) {
+        super(level, false);
+    }
+
+    public static DeflateCompressor create() {
+        return new DeflateCompressor();
+    }
+
+    public static DeflateCompressor create(int level) {
+        return new DeflateCompressor(level);
+    }
+
+    @Override
+    public String compressorType() {
+        return COMPRESSOR_TYPE;
+    }
+}
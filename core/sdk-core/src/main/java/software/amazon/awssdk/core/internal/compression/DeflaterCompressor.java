@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Base class of the compressors using the JDK {@link Deflater}, which produce either the gzip or the zlib format.
+ * <p>
+ * Payloads are deflated directly from their source into a per-thread scratch buffer using a per-thread {@link Deflater}
+ * (see {@link DeflaterPool}), and only the compressed result is copied out. Input streams are compressed as they are read.
+ */
+@SdkInternalApi
+abstract class DeflaterCompressor implements Compressor {
+    /**
+     * The length of the zlib header and of its Adler-32 trailer.
+     */
+    private static final int ZLIB_WRAPPER_LENGTH = 6;
+
+    private final int level;
+    private final boolean gzip;
+
+    DeflaterCompressor(int level, boolean gzip) {
+        Validate.isTrue(level == Deflater.DEFAULT_COMPRESSION
+                        || level >= Deflater.BEST_SPEED && level <= Deflater.BEST_COMPRESSION,
+                        "The compression level must be between 1 and 9, or -1 for the default level, but was %s.", level);
+        this.level = level;
+        this.gzip = gzip;
+    }
+
+    /**
+     * The compression level of the deflater.
+     */
+    public final int level() {
+        return level;
+    }
+
+    @Override
+    public final SdkBytes compress(SdkBytes content) {
+        return SdkBytes.fromByteArrayUnsafe(compress(content.asByteArrayUnsafe()));
+    }
+
+    @Override
+    public final byte[] compress(byte[] content) {
+        return compress(content, 0, content.length);
+    }
+
+    @Override
+    public final byte[] compress(byte[] content, int offset, int length) {
+        Deflater deflater = DeflaterPool.acquire(level, gzip);
+        try {
+            CRC32 crc = null;
+            if (gzip) {
+                crc = new CRC32();
+                crc.update(content, offset, length);
+            }
+            deflater.setInput(content, offset, length);
+            deflater.finish();
+
+            int initialSize = Math.min(maxCompressedLength(length), DeflaterPool.MAX_RETAINED_BUFFER_SIZE);
+            byte[] output = DeflaterPool.scratchBuffer(initialSize);
+            int position = 0;
+            if (gzip) {
+                position = GzipCompressor.writeHeader(output);
+            }
+            while (!deflater.finished()) {
+                if (position == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                position += deflater.deflate(output, position, output.length - position);
+            }
+            if (!gzip) {
+                return Arrays.copyOf(output, position);
+            }
+            if (output.length - position < GzipCompressor.TRAILER_LENGTH) {
+                output = Arrays.copyOf(output, position + GzipCompressor.TRAILER_LENGTH);
+            }
+            GzipCompressor.writeTrailer(output, position, crc.getValue(), deflater.getBytesRead());
+            return Arrays.copyOf(output, position + GzipCompressor.TRAILER_LENGTH);
+        } finally {
+            DeflaterPool.release(deflater, gzip);
+        }
+    }
+
+    @Override
+    public final InputStream compress(InputStream content) {
+        return new DeflatingInputStream(content, level, gzip);
+    }
+
+    @Override
+    public final ByteBuffer compress(ByteBuffer content) {
+        if (content.hasArray()) {
+            return ByteBuffer.wrap(compress(content.array(), content.arrayOffset() + content.position(), content.remaining()));
+        }
+        return ByteBuffer.wrap(compress(BinaryUtils.copyBytesFrom(content)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return level == ((DeflaterCompressor) o).level;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * getClass().hashCode() + level;
+    }
+
+    /**
+     * An upper bound of the size of the output for an input of the given length, following the bound used by zlib for
+     * stored blocks, so that inputs compress in a single pass unless the scratch buffer is capped.
+     */
+    private int maxCompressedLength(int length) {
+        int wrapperLength = gzip ? GzipCompressor.HEADER_LENGTH + GzipCompressor.TRAILER_LENGTH : ZLIB_WRAPPER_LENGTH;
+        long bound = (long) length + (length >> 12) + (length >> 14) + (length >> 25) + 13 + wrapperLength;
+        return (int) Math.min(bound, Integer.MAX_VALUE - 8);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.util.zip.Deflater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Keeps one {@link Deflater} of each format, and one scratch output buffer, per thread, so that compressing a request does not
+ * allocate a new native zlib stream and a new output buffer every time.
+ * <p>
+ * A deflater is handed out with {@link #acquire(int, boolean)} and must be given back with {@link #release(Deflater, boolean)}
+ * once the caller is done with it. If the deflater of the current thread is already in use, for example because two
+ * compressed streams are read by the same thread, a new one is created, and ended when released.
+ */
+@SdkInternalApi
+final class DeflaterPool {
+    /**
+     * Scratch buffers larger than this are not kept, to avoid retaining large buffers in every thread compressing requests.
+     */
+    static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<Slot> SLOTS = ThreadLocal.withInitial(Slot::new);
+
+    private DeflaterPool() {
+    }
+
+    /**
+     * Returns a deflater with the given compression level.
+     *
+     * @param nowrap true for a deflater producing raw deflate data, without zlib header or trailer, as used in the gzip
+     * format, false for a deflater producing the zlib format.
+     */
+    static Deflater acquire(int level, boolean nowrap) {
+        Slot slot = SLOTS.get();
+        Deflater deflater = nowrap ? slot.rawDeflater : slot.zlibDeflater;
+        if (deflater == null) {
+            return new Deflater(level, nowrap);
+        }
+        if (nowrap) {
+            slot.rawDeflater = null;
+        } else {
+            slot.zlibDeflater = null;
+        }
+        deflater.setLevel(level);
+        return deflater;
+    }
+
+    /**
+     * Resets the deflater and keeps it for the next compression on the current thread, or ends it if the current thread
+     * already keeps one of the same format.
+     */
+    static void release(Deflater deflater, boolean nowrap) {
+        Slot slot = SLOTS.get();
+        if (nowrap && slot.rawDeflater == null) {
+            deflater.reset();
+            slot.rawDeflater = deflater;
+        } else if (!nowrap && slot.zlibDeflater == null) {
+            deflater.reset();
+            slot.zlibDeflater = deflater;
+        } else {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Returns the scratch buffer of the current thread, with at least the requested size. The buffer must not be used after
+     * the calling method returns.
+     */
+    static byte[] scratchBuffer(int minimumSize) {
+        Slot slot = SLOTS.get();
+        byte[] buffer = slot.buffer;
+        if (buffer != null && buffer.length >= minimumSize) {
+            return buffer;
+        }
+        buffer = new byte[minimumSize];
+        if (minimumSize <= MAX_RETAINED_BUFFER_SIZE) {
+            slot.buffer = buffer;
+        }
+        return buffer;
+    }
+
+    private static final class Slot {
+        private Deflater rawDeflater;
+        private Deflater zlibDeflater;
+        private byte[] buffer;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * An {@link InputStream} returning the gzip or zlib compression of another stream, compressing it as it is read. Unlike
+ * {@link java.util.zip.GZIPOutputStream}, neither the uncompressed nor the compressed payload is ever fully held in memory:
+ * only one read buffer of the source stream and the internal state of the {@link Deflater}.
+ * <p>
+ * The deflater is borrowed from the {@link DeflaterPool} and given back when the stream is closed or fully read.
+ */
+@SdkInternalApi
+final class DeflatingInputStream extends InputStream {
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+    private static final byte[] NO_BYTES = new byte[0];
+
+    private final InputStream source;
+    private final int level;
+    private final boolean gzip;
+    private final CRC32 crc;
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+    private final byte[] header;
+    private final byte[] trailer;
+
+    private Deflater deflater;
+    private int headerPosition;
+    private int trailerPosition = -1;
+    private boolean sourceExhausted;
+    private boolean closed;
+
+    /**
+     * @param gzip true to produce the gzip format, false to produce the zlib format.
+     */
+    DeflatingInputStream(InputStream source, int level, boolean gzip) {
+        this.source = Validate.paramNotNull(source, "source");
+        this.level = level;
+        this.gzip = gzip;
+        this.crc = gzip ? new CRC32() : null;
+        this.header = gzip ? GzipCompressor.header() : NO_BYTES;
+        this.trailer = gzip ? new byte[GzipCompressor.TRAILER_LENGTH] : NO_BYTES;
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        int read = read(single, 0, 1);
+        return read == -1 ? -1 : single[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        Validate.notNull(b, "buff");
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (len == 0) {
+            return 0;
+        }
+
+        if (headerPosition < header.length) {
+            int count = Math.min(len, header.length - headerPosition);
+            System.arraycopy(header, headerPosition, b, off, count);
+            headerPosition += count;
+            return count;
+        }
+
+        if (trailerPosition < 0) {
+            int count = deflate(b, off, len);
+            if (count > 0) {
+                return count;
+            }
+            finishDeflating();
+        }
+
+        if (trailerPosition < trailer.length) {
+            int count = Math.min(len, trailer.length - trailerPosition);
+            System.arraycopy(trailer, trailerPosition, b, off, count);
+            trailerPosition += count;
+            return count;
+        }
+        return -1;
+    }
+
+    /**
+     * Deflates the source into the output array, reading more of the source as needed.
+     *
+     * @return the number of compressed bytes written, 0 once all of the source has been deflated.
+     */
+    private int deflate(byte[] b, int off, int len) throws IOException {
+        if (deflater == null) {
+            deflater = DeflaterPool.acquire(level, gzip);
+        }
+        while (!deflater.finished()) {
+            if (deflater.needsInput() && !sourceExhausted) {
+                int read = source.read(readBuffer, 0, readBuffer.length);
+                if (read == -1) {
+                    sourceExhausted = true;
+                    deflater.finish();
+                } else if (read > 0) {
+                    if (crc != null) {
+                        crc.update(readBuffer, 0, read);
+                    }
+                    deflater.setInput(readBuffer, 0, read);
+                }
+                continue;
+            }
+            int count = deflater.deflate(b, off, len);
+            if (count > 0) {
+                return count;
+            }
+        }
+        return 0;
+    }
+
+    private void finishDeflating() {
+        if (gzip) {
+            GzipCompressor.writeTrailer(trailer, 0, crc.getValue(), deflater.getBytesRead());
+        }
+        trailerPosition = 0;
+        releaseDeflater();
+    }
+
+    private void releaseDeflater() {
+        if (deflater != null) {
+            DeflaterPool.release(deflater, gzip);
+            deflater = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        releaseDeflater();
+        source.close();
+    }
+}
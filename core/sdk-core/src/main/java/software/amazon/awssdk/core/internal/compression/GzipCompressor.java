@@ -15,40 +15,72 @@
 
 package software.amazon.awssdk.core.internal.compression;
 
-import static software.amazon.awssdk.utils.IoUtils.closeQuietlyV2;
-
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.UncheckedIOException;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Deflater;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.SdkBytes;
-import software.amazon.awssdk.utils.Logger;
 
+/**
+ * Compresses payloads in the gzip format.
+ *
+ * @see DeflaterCompressor
+ */
 @SdkInternalApi
-public final class GzipCompressor implements Compressor {
+public final class GzipCompressor extends DeflaterCompressor {
+
+    static final int HEADER_LENGTH = 10;
+    static final int TRAILER_LENGTH = 8;
 
     private static final String COMPRESSOR_TYPE = "gzip";
-    private static final Logger log = Logger.loggerFor(GzipCompressor.class);
+    private static final byte[] HEADER = {
+        (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0
+    };
+
+    public GzipCompressor() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    private GzipCompressor(int level) {
+        super(level, true);
+    }
+
+    public static GzipCompressor create() {
+        return new GzipCompressor();
+    }
+
+    public static GzipCompressor create(int level) {
+        return new GzipCompressor(level);
+    }
 
     @Override
     public String compressorType() {
         return COMPRESSOR_TYPE;
     }
 
-    @Override
-    public SdkBytes compress(SdkBytes content) {
-        GZIPOutputStream gzipOutputStream = null;
-        try {
-            ByteArrayOutputStream compressedOutputStream = new ByteArrayOutputStream();
-            gzipOutputStream = new GZIPOutputStream(compressedOutputStream);
-            gzipOutputStream.write(content.asByteArray());
-            gzipOutputStream.close();
-            return SdkBytes.fromByteArray(compressedOutputStream.toByteArray());
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        } finally {
-            closeQuietlyV2(gzipOutputStream, log);
-        }
-    }
-}
\ No newline at end of file
+    /**
+     * Writes the gzip trailer: the CRC-32 of the uncompressed data and its size modulo 2^32, both little-endian.
+     */
+    static void writeTrailer(byte[] output, int offset, long crc, long uncompressedLength) {
+        writeIntLittleEndian(output, offset, crc);
+        writeIntLittleEndian(output, offset + 4, uncompressedLength);
+    }
+
+    /**
+     * Writes the gzip header at the start of the output.
+     *
+     * @return the length of the header.
+     */
+    static int writeHeader(byte[] output) {
+        System.arraycopy(HEADER, 0, output, 0, HEADER_LENGTH);
+        return HEADER_LENGTH;
+    }
+
+    static byte[] header() {
+        return HEADER.clone();
+    }
+
+    private static void writeIntLittleEndian(byte[] output, int offset, long value) {
+        output[offset] = (byte) value;
+        output[offset + 1] = (byte) (value >> 8);
+        output[offset + 2] = (byte) (value >> 16);
+        output[offset + 3] = (byte) (value >> 24);
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.ClassLoaderHelper;
+import software.amazon.awssdk.utils.Lazy;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Compresses payloads with the "zstd" HTTP content coding of RFC 8878, using {@code com.github.luben:zstd-jni} when it is on
+ * the classpath. The SDK does not depend on zstd-jni, so it is called through method handles resolved on first use.
+ * <p>
+ * zstd-jni has no stream compressing as it is read, so streaming payloads are buffered and compressed at once.
+ */
+@SdkInternalApi
+public final class ZstdCompressor implements Compressor {
+    private static final Logger log = Logger.loggerFor(ZstdCompressor.class);
+
+    private static final String COMPRESSOR_TYPE = "zstd";
+    private static final String ZSTD_CLASS = "com.github.luben.zstd.Zstd";
+    private static final Lazy<Optional<Bindings>> BINDINGS = new Lazy<>(ZstdCompressor::loadBindings);
+
+    private final int level;
+
+    private ZstdCompressor(int level) {
+        this.level = level;
+    }
+
+    /**
+     * Whether zstd-jni is on the classpath and its native library could be loaded.
+     */
+    public static boolean isAvailable() {
+        return BINDINGS.getValue().isPresent();
+    }
+
+    public static ZstdCompressor create() {
+        return new ZstdCompressor(bindings().defaultLevel);
+    }
+
+    public static ZstdCompressor create(int level) {
+        bindings();
+        return new ZstdCompressor(level);
+    }
+
+    /**
+     * The compression level of zstd.
+     */
+    public int level() {
+        return level;
+    }
+
+    @Override
+    public String compressorType() {
+        return COMPRESSOR_TYPE;
+    }
+
+    @Override
+    public SdkBytes compress(SdkBytes content) {
+        return SdkBytes.fromByteArrayUnsafe(compress(content.asByteArrayUnsafe()));
+    }
+
+    @Override
+    public byte[] compress(byte[] content) {
+        return compress(content, 0, content.length);
+    }
+
+    @Override
+    public byte[] compress(byte[] content, int offset, int length) {
+        Bindings bindings = bindings();
+        try {
+            long bound = (long) bindings.compressBound.invokeExact((long) length);
+            byte[] output = DeflaterPool.scratchBuffer((int) Math.min(bound, Integer.MAX_VALUE - 8));
+            long result = (long) bindings.compressByteArray.invokeExact(output, 0, output.length,
+                                                                       content, offset, length, level);
+            if ((boolean) bindings.isError.invokeExact(result)) {
+                throw SdkClientException.create("Unable to compress the payload with zstd: "
+                                                + (String) bindings.getErrorName.invokeExact(result));
+            }
+            return Arrays.copyOf(output, (int) result);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw SdkClientException.create("Unable to compress the payload with zstd.", t);
+        }
+    }
+
+    @Override
+    public ByteBuffer compress(ByteBuffer content) {
+        if (content.hasArray()) {
+            return ByteBuffer.wrap(compress(content.array(), content.arrayOffset() + content.position(), content.remaining()));
+        }
+        return ByteBuffer.wrap(compress(BinaryUtils.copyBytesFrom(content)));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return level == ((ZstdCompressor) o).level;
+    }
+
+    @Override
+    public int hashCode() {
+        return level;
+    }
+
+    private static Bindings bindings() {
+        return BINDINGS.getValue().orElseThrow(
+            () -> new IllegalStateException("The zstd compressor requires com.github.luben:zstd-jni on the classpath."));
+    }
+
+    private static Optional<Bindings> loadBindings() {
+        try {
+            Class<?> zstd = ClassLoaderHelper.loadClass(ZSTD_CLASS, false);
+            return Optional.of(new Bindings(zstd));
+        } catch (ClassNotFoundException e) {
+            log.debug(() -> "zstd-jni is not on the classpath, the zstd compressor is not available.");
+            return Optional.empty();
+        } catch (Throwable t) {
+            log.debug(() -> "zstd-jni could not be loaded, the zstd compressor is not available.", t);
+            return Optional.empty();
+        }
+    }
+
+    private static final class Bindings {
+        private final MethodHandle compressBound;
+        private final MethodHandle compressByteArray;
+        private final MethodHandle isError;
+        private final MethodHandle getErrorName;
+        private final int defaultLevel;
+
+        private Bindings(Class<?> zstd) throws Throwable {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            this.compressBound = lookup.findStatic(zstd, "compressBound", MethodType.methodType(long.class, long.class));
+            this.compressByteArray = lookup.findStatic(zstd, "compressByteArray",
+                                                       MethodType.methodType(long.class, byte[].class, int.class, int.class,
+                                                                             byte[].class, int.class, int.class, int.class));
+            this.isError = lookup.findStatic(zstd, "isError", MethodType.methodType(boolean.class, long.class));
+            this.getErrorName = lookup.findStatic(zstd, "getErrorName", MethodType.methodType(String.class, long.class));
+            // Calling a native method loads the native library, so that a missing library is detected here.
+            this.defaultLevel = (int) lookup.findStatic(zstd, "defaultCompressionLevel", MethodType.methodType(int.class))
+                                            .invokeExact();
+        }
+    }
+}
@@ -20,9 +20,12 @@ import static software.amazon.awssdk.utils.Validate.paramNotNull;
 import java.util.function.Consumer;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.client.config.SdkClientOption;
+import software.amazon.awssdk.core.internal.http.hedging.HedgingLatencyTracker;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipelineBuilder;
 import software.amazon.awssdk.core.internal.retry.ClockSkewAdjuster;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.utils.SdkAutoCloseable;
 
 /**
@@ -37,11 +40,31 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
     private final SdkClientTime sdkClientTime;
     private final ClockSkewAdjuster clockSkewAdjuster;
     private final SdkClientConfiguration clientConfiguration;
+    /**
+     * Latencies of the requests of this client, from which the hedging delay is computed.
+     */
+    private final HedgingLatencyTracker hedgingLatencyTracker;
 
     private HttpClientDependencies(Builder builder) {
         this.sdkClientTime = builder.sdkClientTime != null ? builder.sdkClientTime : new SdkClientTime();
         this.clockSkewAdjuster = builder.clockSkewAdjuster != null ? builder.clockSkewAdjuster : new ClockSkewAdjuster();
         this.clientConfiguration = paramNotNull(builder.clientConfiguration, "ClientConfiguration");
+        this.hedgingLatencyTracker = resolveHedgingLatencyTracker(builder.hedgingLatencyTracker, clientConfiguration);
+    }
+
+    /**
+     * Keeps the tracker of the client when the configuration of a request uses the same hedging delay.
+     */
+    private static HedgingLatencyTracker resolveHedgingLatencyTracker(HedgingLatencyTracker tracker,
+                                                                      SdkClientConfiguration clientConfiguration) {
+        HedgingPolicy hedgingPolicy = clientConfiguration.option(SdkClientOption.HEDGING_POLICY);
+        if (hedgingPolicy == null) {
+            return null;
+        }
+        if (tracker != null && tracker.isConfiguredBy(hedgingPolicy)) {
+            return tracker;
+        }
+        return new HedgingLatencyTracker(hedgingPolicy);
     }
 
     public static Builder builder() {
@@ -59,6 +82,13 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         return clockSkewAdjuster;
     }
 
+    /**
+     * @return The tracker of the latencies of the requests of this client, or null if the client does not hedge requests.
+     */
+    public HedgingLatencyTracker hedgingLatencyTracker() {
+        return hedgingLatencyTracker;
+    }
+
     /**
      * @return Current time offset. This is mutable and should not be cached.
      */
@@ -89,6 +119,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
         private SdkClientTime sdkClientTime;
         private ClockSkewAdjuster clockSkewAdjuster;
         private SdkClientConfiguration clientConfiguration;
+        private HedgingLatencyTracker hedgingLatencyTracker;
 
         private Builder() {
         }
@@ -97,6 +128,7 @@ public final class HttpClientDependencies implements SdkAutoCloseable {
             this.sdkClientTime = from.sdkClientTime;
             this.clientConfiguration = from.clientConfiguration;
             this.clockSkewAdjuster = from.clockSkewAdjuster;
+            this.hedgingLatencyTracker = from.hedgingLatencyTracker;
         }
 
         public Builder clockSkewAdjuster(ClockSkewAdjuster clockSkewAdjuster) {
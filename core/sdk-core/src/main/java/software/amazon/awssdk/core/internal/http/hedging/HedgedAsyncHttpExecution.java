@@ -0,0 +1,387 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.hedging;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Sends a request with the HTTP client, and sends it a second time if its response headers are not received after the hedging
+ * delay. Only one of the two requests reaches the response handler:
+ * <ul>
+ *     <li>The first request receiving successful response headers, or</li>
+ *     <li>The first request receiving unsuccessful response headers, or failing, once the other request is not in flight. An
+ *     unsuccessful response is held while the other request is in flight, in case that request succeeds.</li>
+ * </ul>
+ * The other request is cancelled. The response headers are forwarded to the response handler while holding the lock of this
+ * execution, which orders them before the stream.
+ * <p>
+ * The permit acquired to send the second request is not applied by the thread sending it. It is returned by
+ * {@link #stopHedging()}, to the thread completing the response of the execution.
+ *
+ * @param <PermitT> The type of the permit acquired to send the second request
+ */
+@SdkInternalApi
+public final class HedgedAsyncHttpExecution<PermitT> {
+    private static final Logger log = Logger.loggerFor(HedgedAsyncHttpExecution.class);
+
+    private final SdkAsyncHttpClient httpClient;
+    private final AsyncExecuteRequest.Builder requestBuilder;
+    private final SdkAsyncHttpResponseHandler responseHandler;
+    private final HedgingLatencyTracker latencyTracker;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final Supplier<PermitT> hedgePermit;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private final Object lock = new Object();
+    private final Attempt primary = new Attempt();
+    private final Attempt hedge = new Attempt();
+    private Attempt winner;
+    private PermitT acquiredHedgePermit;
+    private boolean hedgingStopped;
+    private volatile ScheduledFuture<?> hedgeTask;
+
+    /**
+     * @param requestBuilder The request to send. Its response handler is replaced for each request.
+     * @param responseHandler The response handler receiving the response of one of the requests.
+     * @param hedgePermit Invoked before sending the second request, which is only sent if it returns a permit instead of null.
+     */
+    public HedgedAsyncHttpExecution(SdkAsyncHttpClient httpClient,
+                                    AsyncExecuteRequest.Builder requestBuilder,
+                                    SdkAsyncHttpResponseHandler responseHandler,
+                                    HedgingLatencyTracker latencyTracker,
+                                    ScheduledExecutorService scheduledExecutor,
+                                    Supplier<PermitT> hedgePermit) {
+        this.httpClient = httpClient;
+        this.requestBuilder = requestBuilder;
+        this.responseHandler = responseHandler;
+        this.latencyTracker = latencyTracker;
+        this.scheduledExecutor = scheduledExecutor;
+        this.hedgePermit = hedgePermit;
+    }
+
+    /**
+     * Sends the request.
+     *
+     * @return A future completed when the response of the request reaching the response handler is received, and completing it
+     *         exceptionally cancels both requests.
+     */
+    public CompletableFuture<Void> execute() {
+        result.whenComplete((r, t) -> {
+            if (t != null) {
+                cancelHedgeTask();
+                primary.cancel();
+                hedge.cancel();
+                Attempt decided = winner();
+                if (decided != null && decided.httpClientFuture != null) {
+                    decided.httpClientFuture.completeExceptionally(t);
+                }
+            }
+        });
+
+        primary.state = AttemptState.IN_FLIGHT;
+        send(primary);
+
+        Duration delay = latencyTracker.hedgingDelay();
+        try {
+            hedgeTask = scheduledExecutor.schedule(() -> sendHedge(delay), delay.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug(() -> "Could not schedule the hedged request.", e);
+        }
+        if (isDecided()) {
+            cancelHedgeTask();
+        }
+        return result;
+    }
+
+    /**
+     * Stops the second request from being sent if it was not sent yet. Called once the response of the execution completes,
+     * successfully or not.
+     *
+     * @return The permit acquired to send the second request, if it was sent.
+     */
+    public Optional<PermitT> stopHedging() {
+        cancelHedgeTask();
+        synchronized (lock) {
+            hedgingStopped = true;
+            return Optional.ofNullable(acquiredHedgePermit);
+        }
+    }
+
+    private void sendHedge(Duration delay) {
+        synchronized (lock) {
+            if (hedgingStopped || result.isDone() || winner != null || primary.state != AttemptState.IN_FLIGHT) {
+                return;
+            }
+            PermitT permit = hedgePermit.get();
+            if (permit == null) {
+                log.debug(() -> "Not sending a hedged request, because the retry strategy did not allow it.");
+                return;
+            }
+            acquiredHedgePermit = permit;
+            hedge.state = AttemptState.IN_FLIGHT;
+        }
+        log.debug(() -> "Sending a hedged request, because no response was received after " + delay.toMillis() + " ms.");
+        try {
+            send(hedge);
+        } catch (Throwable t) {
+            hedge.failed(t);
+        }
+    }
+
+    private void send(Attempt attempt) {
+        attempt.startTime = System.nanoTime();
+        CompletableFuture<Void> httpClientFuture = httpClient.execute(requestBuilder.responseHandler(attempt).build());
+        attempt.httpClientFuture = httpClientFuture;
+        if (attempt.cancelled) {
+            httpClientFuture.completeExceptionally(cancellation());
+        }
+        httpClientFuture.whenComplete((r, t) -> attempt.completed(t));
+    }
+
+    private boolean isDecided() {
+        synchronized (lock) {
+            return winner != null;
+        }
+    }
+
+    private void cancelHedgeTask() {
+        ScheduledFuture<?> task = hedgeTask;
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
+    private void forwardCompletion(Attempt attempt) {
+        CompletableFuture<Void> httpClientFuture = attempt.httpClientFuture;
+        if (httpClientFuture != null && httpClientFuture.isDone()) {
+            httpClientFuture.whenComplete((r, t) -> complete(t));
+        }
+    }
+
+    private void complete(Throwable t) {
+        if (t == null) {
+            result.complete(null);
+        } else {
+            result.completeExceptionally(t);
+        }
+    }
+
+    private static AbortedException cancellation() {
+        return AbortedException.create("The request was cancelled, because the response of its hedged request was used.");
+    }
+
+    private static void discard(Publisher<ByteBuffer> stream) {
+        if (stream != null) {
+            stream.subscribe(new CancellingSubscriber());
+        }
+    }
+
+    private enum AttemptState {
+        NOT_SENT,
+        IN_FLIGHT,
+        HELD,
+        FAILED,
+        CANCELLED
+    }
+
+    /**
+     * The state of one of the two requests, and the response handler it is sent with. The state, held headers and held stream
+     * are guarded by the lock of the execution.
+     */
+    private final class Attempt implements SdkAsyncHttpResponseHandler {
+        private AttemptState state = AttemptState.NOT_SENT;
+        private SdkHttpResponse heldHeaders;
+        private Publisher<ByteBuffer> heldStream;
+        private boolean errorForwarded;
+        private volatile long startTime;
+        private volatile CompletableFuture<Void> httpClientFuture;
+        private volatile boolean cancelled;
+
+        private Attempt other() {
+            return this == primary ? hedge : primary;
+        }
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            synchronized (lock) {
+                if (winner != null || state != AttemptState.IN_FLIGHT) {
+                    return;
+                }
+                if (!headers.isSuccessful() && other().state == AttemptState.IN_FLIGHT) {
+                    state = AttemptState.HELD;
+                    heldHeaders = headers;
+                    return;
+                }
+                winner = this;
+                if (headers.isSuccessful()) {
+                    latencyTracker.record(System.nanoTime() - startTime);
+                }
+                responseHandler.onHeaders(headers);
+            }
+            won();
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            synchronized (lock) {
+                if (state == AttemptState.HELD && winner != this) {
+                    heldStream = stream;
+                    return;
+                }
+            }
+            if (winner() == this) {
+                responseHandler.onStream(stream);
+            } else {
+                discard(stream);
+            }
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            failed(error);
+        }
+
+        /**
+         * Called when this request fails, or when the response handler receives an error.
+         */
+        private void failed(Throwable error) {
+            Attempt promoted = null;
+            Publisher<ByteBuffer> promotedStream = null;
+            Publisher<ByteBuffer> discardedStream = null;
+            synchronized (lock) {
+                if (winner == this) {
+                    if (errorForwarded) {
+                        return;
+                    }
+                    errorForwarded = true;
+                } else if (winner != null || state == AttemptState.FAILED || state == AttemptState.CANCELLED) {
+                    return;
+                } else {
+                    state = AttemptState.FAILED;
+                    discardedStream = heldStream;
+                    heldHeaders = null;
+                    heldStream = null;
+                    Attempt other = other();
+                    if (other.state == AttemptState.HELD) {
+                        winner = other;
+                        promoted = other;
+                        promotedStream = other.heldStream;
+                        responseHandler.onHeaders(other.heldHeaders);
+                    } else if (other.state != AttemptState.IN_FLIGHT) {
+                        winner = this;
+                        errorForwarded = true;
+                    }
+                }
+            }
+
+            discard(discardedStream);
+            if (promoted != null) {
+                if (promotedStream != null) {
+                    responseHandler.onStream(promotedStream);
+                }
+                forwardCompletion(promoted);
+                return;
+            }
+            if (winner() != this) {
+                return;
+            }
+            cancelHedgeTask();
+            responseHandler.onError(error);
+            result.completeExceptionally(error);
+        }
+
+        /**
+         * Called when the future returned by the HTTP client for this request completes.
+         */
+        private void completed(Throwable error) {
+            if (winner() == this) {
+                complete(error);
+            } else if (error != null) {
+                failed(error);
+            }
+        }
+
+        private void won() {
+            cancelHedgeTask();
+            other().cancel();
+            forwardCompletion(this);
+        }
+
+        private void cancel() {
+            Publisher<ByteBuffer> stream;
+            synchronized (lock) {
+                if (winner == this || (state != AttemptState.IN_FLIGHT && state != AttemptState.HELD)) {
+                    return;
+                }
+                state = AttemptState.CANCELLED;
+                stream = heldStream;
+                heldHeaders = null;
+                heldStream = null;
+            }
+            cancelled = true;
+            discard(stream);
+            CompletableFuture<Void> future = httpClientFuture;
+            if (future != null) {
+                future.completeExceptionally(cancellation());
+            }
+        }
+    }
+
+    private Attempt winner() {
+        synchronized (lock) {
+            return winner;
+        }
+    }
+
+    /**
+     * Cancels the response stream of a request whose response is not used, so that its connection is released.
+     */
+    private static final class CancellingSubscriber implements Subscriber<ByteBuffer> {
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            subscription.cancel();
+        }
+
+        @Override
+        public void onNext(ByteBuffer byteBuffer) {
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.hedging;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
+
+/**
+ * Keeps the latencies of the most recent requests, and computes the hedging delay from a percentile of these latencies.
+ * <p>
+ * The latencies are written to a ring of {@link #WINDOW_SIZE} slots. Computing a percentile requires sorting the window, so the
+ * percentile is only recomputed every {@link #RECOMPUTE_INTERVAL} latencies, by the thread recording the latency, and read
+ * from a volatile field by the requests. Until {@link #MIN_SAMPLES} latencies are recorded, the configured delay is used.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class HedgingLatencyTracker {
+    static final int WINDOW_SIZE = 1024;
+    static final int RECOMPUTE_INTERVAL = 64;
+    static final int MIN_SAMPLES = 128;
+
+    private final long delayNanos;
+    private final Double percentile;
+    private final AtomicLongArray latencies = new AtomicLongArray(WINDOW_SIZE);
+    private final AtomicLong recorded = new AtomicLong();
+    private volatile long percentileNanos = -1;
+
+    public HedgingLatencyTracker(Duration delay, Double percentile) {
+        this.delayNanos = delay.toNanos();
+        this.percentile = percentile;
+    }
+
+    public HedgingLatencyTracker(HedgingPolicy policy) {
+        this(policy.delay(), policy.latencyPercentile().orElse(null));
+    }
+
+    /**
+     * @return Whether this tracker computes the hedging delay configured by the given policy.
+     */
+    public boolean isConfiguredBy(HedgingPolicy policy) {
+        return delayNanos == policy.delay().toNanos() && Objects.equals(percentile, policy.latencyPercentile().orElse(null));
+    }
+
+    /**
+     * Records the latency of a request, the time until its response headers were received.
+     */
+    public void record(long latencyNanos) {
+        if (percentile == null) {
+            return;
+        }
+        long count = recorded.getAndIncrement();
+        latencies.set((int) (count % WINDOW_SIZE), latencyNanos);
+        long total = count + 1;
+        if (total >= MIN_SAMPLES && total % RECOMPUTE_INTERVAL == 0) {
+            percentileNanos = computePercentile((int) Math.min(total, WINDOW_SIZE));
+        }
+    }
+
+    /**
+     * @return The delay after which a request should be hedged.
+     */
+    public Duration hedgingDelay() {
+        long nanos = percentileNanos;
+        return Duration.ofNanos(nanos < 0 ? delayNanos : nanos);
+    }
+
+    private long computePercentile(int samples) {
+        long[] window = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            window[i] = latencies.get(i);
+        }
+        Arrays.sort(window);
+        int index = (int) Math.ceil(percentile / 100 * samples) - 1;
+        return window[Math.max(0, Math.min(index, samples - 1))];
+    }
+}
@@ -75,6 +75,12 @@ public final class AsyncRetryableStage<OutputT> implements RequestPipeline<SdkHt
 
         public CompletableFuture<Response<OutputT>> execute() {
             CompletableFuture<Response<OutputT>> future = new CompletableFuture<>();
+            // Whichever way the request fails, it is over once the returned future fails.
+            future.whenComplete((r, t) -> {
+                if (t != null) {
+                    retryableStageHelper.recordRequestFailed();
+                }
+            });
             try {
                 attemptFirstExecute(future);
             } catch (Throwable t) {
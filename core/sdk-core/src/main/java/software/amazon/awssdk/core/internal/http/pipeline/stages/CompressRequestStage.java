@@ -20,22 +20,23 @@ import static software.amazon.awssdk.core.client.config.SdkClientOption.COMPRESS
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.CompressionConfiguration;
 import software.amazon.awssdk.core.RequestOverrideConfiguration;
-import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.core.compression.Compressor;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.async.CompressionAsyncRequestBody;
-import software.amazon.awssdk.core.internal.compression.Compressor;
 import software.amazon.awssdk.core.internal.compression.CompressorType;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.pipeline.MutableRequestToRequestPipeline;
+import software.amazon.awssdk.core.internal.interceptor.trait.RequestCompression;
 import software.amazon.awssdk.core.internal.sync.CompressionContentStreamProvider;
 import software.amazon.awssdk.core.useragent.BusinessMetricFeatureId;
 import software.amazon.awssdk.http.ContentStreamProvider;
@@ -51,6 +52,7 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
     public static final int DEFAULT_MIN_COMPRESSION_SIZE = 10_240;
     private static final String COMPRESSION_HEADER = "Content-encoding";
     private static final int MIN_COMPRESSION_SIZE_LIMIT = 10_485_760;
+    private static final int SKIP_BUFFER_SIZE = 8 * 1024;
     private final CompressionConfiguration compressionConfig;
 
     public CompressRequestStage(HttpClientDependencies dependencies) {
@@ -61,16 +63,14 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
     public SdkHttpFullRequest.Builder execute(SdkHttpFullRequest.Builder input, RequestExecutionContext context)
             throws Exception {
 
-        if (!shouldCompress(input, context)) {
+        Compressor compressor = resolveCompressor(context);
+        if (compressor == null || !shouldCompress(input, context)) {
             return input;
         }
 
-        Compressor compressor = resolveCompressorType(context.executionAttributes());
-
         if (!isStreaming(context)) {
             compressEntirePayload(input, compressor);
             updateContentEncodingHeader(input, compressor, context.executionAttributes());
-            updateContentLengthHeader(input);
             return input;
         }
 
@@ -93,12 +93,6 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
     }
 
     private boolean shouldCompress(SdkHttpFullRequest.Builder input, RequestExecutionContext context) {
-        if (context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION) == null) {
-            return false;
-        }
-        if (resolveCompressorType(context.executionAttributes()) == null) {
-            return false;
-        }
         if (!resolveRequestCompressionEnabled(context)) {
             return false;
         }
@@ -115,17 +109,28 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         return context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION).isStreaming();
     }
 
+    /**
+     * Compresses the payload once, while it is read, and keeps only the compressed bytes, which are needed to set the
+     * Content-Length header of non-streaming requests.
+     */
     private void compressEntirePayload(SdkHttpFullRequest.Builder input, Compressor compressor) {
-        ContentStreamProvider wrappedProvider = input.contentStreamProvider();
-        ContentStreamProvider compressedStreamProvider = () -> compressor.compress(wrappedProvider.newStream());
-        input.contentStreamProvider(compressedStreamProvider);
+        byte[] compressedPayload;
+        try {
+            compressedPayload = IoUtils.toByteArray(compressor.compress(input.contentStreamProvider().newStream()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        input.contentStreamProvider(ContentStreamProvider.fromByteArrayUnsafe(compressedPayload));
+        input.putHeader("Content-Length", String.valueOf(compressedPayload.length));
     }
 
     private void updateContentEncodingHeader(SdkHttpFullRequest.Builder input,
                                              Compressor compressor,
                                              ExecutionAttributes executionAttributes) {
-        executionAttributes.getAttribute(SdkInternalExecutionAttribute.BUSINESS_METRICS)
-                           .addMetric(BusinessMetricFeatureId.GZIP_REQUEST_COMPRESSION.value());
+        if (CompressorType.GZIP.toString().equals(compressor.compressorType())) {
+            executionAttributes.getAttribute(SdkInternalExecutionAttribute.BUSINESS_METRICS)
+                               .addMetric(BusinessMetricFeatureId.GZIP_REQUEST_COMPRESSION.value());
+        }
         if (input.firstMatchingHeader(COMPRESSION_HEADER).isPresent()) {
             input.appendHeader(COMPRESSION_HEADER, compressor.compressorType());
         } else {
@@ -133,31 +138,52 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
         }
     }
 
-    private void updateContentLengthHeader(SdkHttpFullRequest.Builder input) {
-        InputStream inputStream = input.contentStreamProvider().newStream();
-        try {
-            byte[] bytes = IoUtils.toByteArray(inputStream);
-            String length = String.valueOf(bytes.length);
-            input.putHeader("Content-Length", length);
-        } catch (IOException e) {
-            throw new UncheckedIOException(e);
-        }
-    }
-
     private boolean isTransferEncodingChunked(SdkHttpFullRequest.Builder input) {
         return input.firstMatchingHeader("Transfer-Encoding")
                     .map(headerValue -> headerValue.equals("chunked"))
                     .orElse(false);
     }
 
-    private Compressor resolveCompressorType(ExecutionAttributes executionAttributes) {
-        List<String> encodings =
-            executionAttributes.getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION).getEncodings();
+    /**
+     * Returns the compressor of the first encoding supported by the operation that has a compressor, looking at the
+     * compressors configured on the request, then on the client, then at those of the SDK, or null if the operation does
+     * not support compression.
+     */
+    private Compressor resolveCompressor(RequestExecutionContext context) {
+        RequestCompression requestCompression =
+            context.executionAttributes().getAttribute(SdkInternalExecutionAttribute.REQUEST_COMPRESSION);
+        if (requestCompression == null) {
+            return null;
+        }
+
+        List<Compressor> requestCompressors =
+            context.originalRequest().overrideConfiguration()
+                   .flatMap(RequestOverrideConfiguration::compressionConfiguration)
+                   .map(CompressionConfiguration::compressors)
+                   .orElse(Collections.emptyList());
+        List<Compressor> clientCompressors = compressionConfig.compressors();
 
-        for (String encoding: encodings) {
+        for (String encoding : requestCompression.getEncodings()) {
             encoding = encoding.toLowerCase(Locale.ROOT);
-            if (CompressorType.isSupported(encoding)) {
-                return CompressorType.of(encoding).newCompressor();
+            Compressor compressor = findCompressor(requestCompressors, encoding);
+            if (compressor == null) {
+                compressor = findCompressor(clientCompressors, encoding);
+            }
+            if (compressor == null && CompressorType.isSupported(encoding)) {
+                compressor = CompressorType.of(encoding).newCompressor();
+            }
+            if (compressor != null) {
+                return compressor;
+            }
+        }
+        return null;
+    }
+
+    private static Compressor findCompressor(List<Compressor> compressors, String encoding) {
+        for (int i = compressors.size() - 1; i >= 0; i--) {
+            Compressor compressor = compressors.get(i);
+            if (compressor.compressorType().equalsIgnoreCase(encoding)) {
+                return compressor;
             }
         }
         return null;
@@ -184,8 +210,28 @@ public class CompressRequestStage implements MutableRequestToRequestPipeline {
     private boolean isRequestSizeWithinThreshold(SdkHttpFullRequest.Builder input, RequestExecutionContext context) {
         int minimumCompressionThreshold = resolveMinCompressionSize(context);
         validateMinCompressionSizeInput(minimumCompressionThreshold);
-        int requestSize = SdkBytes.fromInputStream(input.contentStreamProvider().newStream()).asByteArray().length;
-        return requestSize >= minimumCompressionThreshold;
+        return hasAtLeast(input.contentStreamProvider(), minimumCompressionThreshold);
+    }
+
+    /**
+     * Reads the payload only until the threshold is reached, without copying it.
+     */
+    private boolean hasAtLeast(ContentStreamProvider contentStreamProvider, int threshold) {
+        if (threshold == 0) {
+            return true;
+        }
+        byte[] skipBuffer = new byte[Math.min(threshold, SKIP_BUFFER_SIZE)];
+        long size = 0;
+        try {
+            InputStream inputStream = contentStreamProvider.newStream();
+            int read;
+            while (size < threshold && (read = inputStream.read(skipBuffer)) != -1) {
+                size += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return size >= threshold;
     }
 
     private int resolveMinCompressionSize(RequestExecutionContext context) {
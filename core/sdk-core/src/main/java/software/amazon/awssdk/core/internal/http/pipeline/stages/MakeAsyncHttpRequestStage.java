@@ -16,6 +16,7 @@
 package software.amazon.awssdk.core.internal.http.pipeline.stages;
 
 import static software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute.SDK_HTTP_EXECUTION_ATTRIBUTES;
+import static software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute.RETRY_TOKEN;
 import static software.amazon.awssdk.core.internal.http.timers.TimerUtils.resolveTimeoutInMillis;
 import static software.amazon.awssdk.http.Header.CONTENT_LENGTH;
 
@@ -35,20 +36,26 @@ import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.core.exception.ApiCallAttemptTimeoutException;
+import software.amazon.awssdk.core.exception.RetryableException;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.FilterTransformingAsyncHttpResponseHandler;
 import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublisher;
+import software.amazon.awssdk.core.internal.http.hedging.HedgedAsyncHttpExecution;
+import software.amazon.awssdk.core.internal.http.hedging.HedgingLatencyTracker;
 import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
 import software.amazon.awssdk.core.internal.http.timers.TimeoutTracker;
 import software.amazon.awssdk.core.internal.http.timers.TimerUtils;
 import software.amazon.awssdk.core.internal.metrics.BytesReadTrackingPublisher;
+import software.amazon.awssdk.core.internal.retry.RetryPolicyAdapter;
 import software.amazon.awssdk.core.internal.util.MetricUtils;
 import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpResponse;
@@ -56,6 +63,12 @@ import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenResponse;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.retries.internal.ConcurrentAttemptException;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.Logger;
 
@@ -68,11 +81,24 @@ public final class MakeAsyncHttpRequestStage<OutputT>
 
     private static final Logger log = Logger.loggerFor(MakeAsyncHttpRequestStage.class);
 
+    /**
+     * The failure reported to the retry strategy when sending a hedged request, which counts as a retry. Its cause tells the
+     * retry strategy that the first request is still in flight, so that refusing the hedged request does not end the request.
+     */
+    private static final RetryableException HEDGED_REQUEST = RetryableException.builder()
+                                                                                .message("Sending a hedged request.")
+                                                                                .cause(ConcurrentAttemptException.create())
+                                                                                .writableStackTrace(false)
+                                                                                .build();
+
     private final SdkAsyncHttpClient sdkAsyncHttpClient;
     private final TransformingAsyncResponseHandler<Response<OutputT>> responseHandler;
     private final Executor futureCompletionExecutor;
     private final ScheduledExecutorService timeoutExecutor;
     private final Duration apiCallAttemptTimeout;
+    private final HedgingPolicy hedgingPolicy;
+    private final HedgingLatencyTracker hedgingLatencyTracker;
+    private final RetryStrategy retryStrategy;
 
     public MakeAsyncHttpRequestStage(TransformingAsyncResponseHandler<Response<OutputT>> responseHandler,
                                      HttpClientDependencies dependencies) {
@@ -82,6 +108,11 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         this.sdkAsyncHttpClient = dependencies.clientConfiguration().option(SdkClientOption.ASYNC_HTTP_CLIENT);
         this.apiCallAttemptTimeout = dependencies.clientConfiguration().option(SdkClientOption.API_CALL_ATTEMPT_TIMEOUT);
         this.timeoutExecutor = dependencies.clientConfiguration().option(SdkClientOption.SCHEDULED_EXECUTOR_SERVICE);
+        this.hedgingPolicy = dependencies.clientConfiguration().option(SdkClientOption.HEDGING_POLICY);
+        this.hedgingLatencyTracker = dependencies.hedgingLatencyTracker();
+        this.retryStrategy = dependencies.clientConfiguration().option(SdkClientOption.RETRY_POLICY) == null
+                             ? dependencies.clientConfiguration().option(SdkClientOption.RETRY_STRATEGY)
+                             : null;
     }
 
     @Override
@@ -148,7 +179,20 @@ public final class MakeAsyncHttpRequestStage<OutputT>
                        .getAttribute(SDK_HTTP_EXECUTION_ATTRIBUTES));
         }
 
-        CompletableFuture<Void> httpClientFuture = doExecuteHttpRequest(context, executeRequestBuilder, responseHandler);
+        ReadMetricsTrackingResponseHandler<Response<OutputT>> wrappedResponseHandler =
+            new ReadMetricsTrackingResponseHandler<>(responseHandler, context);
+        HedgedAsyncHttpExecution<RetryToken> hedgedExecution =
+            shouldHedge(requestWithContentLength, context)
+            ? new HedgedAsyncHttpExecution<>(sdkAsyncHttpClient,
+                                             executeRequestBuilder,
+                                             wrappedResponseHandler,
+                                             hedgingLatencyTracker,
+                                             timeoutExecutor,
+                                             () -> acquireHedgeCapacity(context))
+            : null;
+
+        CompletableFuture<Void> httpClientFuture = doExecuteHttpRequest(context, executeRequestBuilder, wrappedResponseHandler,
+                                                                        hedgedExecution);
 
         TimeoutTracker timeoutTracker = setupAttemptTimer(responseFuture, context);
         context.apiCallAttemptTimeoutTracker(timeoutTracker);
@@ -187,21 +231,48 @@ public final class MakeAsyncHttpRequestStage<OutputT>
             }
         });
 
-        return responseFuture;
+        if (hedgedExecution == null) {
+            return responseFuture;
+        }
+        return updateRetryTokenOnCompletion(responseFuture, hedgedExecution, context);
     }
 
-    private CompletableFuture<Void> doExecuteHttpRequest(RequestExecutionContext context,
-                                                         AsyncExecuteRequest.Builder executeRequestBuilder,
-                                                         TransformingAsyncResponseHandler<Response<OutputT>> responseHandler) {
-        MetricCollector metricCollector = context.attemptMetricCollector();
-        ReadMetricsTrackingResponseHandler<Response<OutputT>> wrappedResponseHandler =
-            new ReadMetricsTrackingResponseHandler<>(responseHandler, context);
+    /**
+     * Stops hedging once the response completes, and replaces the retry token of the request by the token returned by the
+     * retry strategy for the hedged request, if it was sent. The token is replaced by the thread completing the response, before
+     * the retry stage observes it.
+     */
+    private CompletableFuture<Response<OutputT>> updateRetryTokenOnCompletion(
+        CompletableFuture<Response<OutputT>> responseFuture,
+        HedgedAsyncHttpExecution<RetryToken> execution,
+        RequestExecutionContext context) {
+
+        CompletableFuture<Response<OutputT>> result = new CompletableFuture<>();
+        responseFuture.whenComplete((r, t) -> {
+            execution.stopHedging().ifPresent(token -> context.executionAttributes().putAttribute(RETRY_TOKEN, token));
+            completeResponseFuture(result, r, t);
+        });
+        CompletableFutureUtils.forwardExceptionTo(result, responseFuture);
+        return result;
+    }
 
-        AsyncExecuteRequest executeRequest = executeRequestBuilder.responseHandler(wrappedResponseHandler)
-                                                                  .build();
+    private CompletableFuture<Void> doExecuteHttpRequest(
+        RequestExecutionContext context,
+        AsyncExecuteRequest.Builder executeRequestBuilder,
+        ReadMetricsTrackingResponseHandler<Response<OutputT>> wrappedResponseHandler,
+        HedgedAsyncHttpExecution<RetryToken> hedgedExecution) {
+
+        MetricCollector metricCollector = context.attemptMetricCollector();
 
         long startTime = MetricUtils.resetApiCallAttemptStartNanoTime(context);
-        CompletableFuture<Void> httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
+        CompletableFuture<Void> httpClientFuture;
+        if (hedgedExecution != null) {
+            httpClientFuture = hedgedExecution.execute();
+        } else {
+            AsyncExecuteRequest executeRequest = executeRequestBuilder.responseHandler(wrappedResponseHandler)
+                                                                      .build();
+            httpClientFuture = sdkAsyncHttpClient.execute(executeRequest);
+        }
 
         CompletableFuture<Void> result = httpClientFuture.whenComplete((r, t) -> {
             long d = System.nanoTime() - startTime;
@@ -214,6 +285,47 @@ public final class MakeAsyncHttpRequestStage<OutputT>
         return result;
     }
 
+    /**
+     * Whether a second request may be sent if the response of the request is slow: the client has a {@link HedgingPolicy}, the
+     * request has no streaming input, and it is a {@code GET} or {@code HEAD} request or its operation is configured as
+     * idempotent by the policy.
+     */
+    private boolean shouldHedge(SdkHttpFullRequest request, RequestExecutionContext context) {
+        if (hedgingPolicy == null || retryStrategy == null || retryStrategy instanceof RetryPolicyAdapter
+            || context.requestProvider() != null || isFullDuplex(context.executionAttributes())) {
+            return false;
+        }
+        if (request.method() == SdkHttpMethod.GET || request.method() == SdkHttpMethod.HEAD) {
+            return true;
+        }
+        String operationName = context.executionAttributes().getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        return operationName != null && hedgingPolicy.operations().contains(operationName);
+    }
+
+    /**
+     * Counts a hedged request as a retry of the retry strategy, so that it uses one of the attempts of the request and
+     * acquires capacity from the token bucket of the strategy. The returned token replaces the retry token of the request once
+     * its response completes.
+     *
+     * @return The token returned by the retry strategy, or null if it does not allow the hedged request.
+     */
+    private RetryToken acquireHedgeCapacity(RequestExecutionContext context) {
+        RetryToken retryToken = context.executionAttributes().getAttribute(RETRY_TOKEN);
+        if (retryToken == null) {
+            return null;
+        }
+        try {
+            RefreshRetryTokenResponse refreshResponse =
+                retryStrategy.refreshRetryToken(RefreshRetryTokenRequest.builder()
+                                                                        .token(retryToken)
+                                                                        .failure(HEDGED_REQUEST)
+                                                                        .build());
+            return refreshResponse.token();
+        } catch (TokenAcquisitionFailedException e) {
+            return null;
+        }
+    }
+
     private boolean isFullDuplex(ExecutionAttributes executionAttributes) {
         return executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX) != null &&
                executionAttributes.getAttribute(SdkInternalExecutionAttribute.IS_FULL_DUPLEX);
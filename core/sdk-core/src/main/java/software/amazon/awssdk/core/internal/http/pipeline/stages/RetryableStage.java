@@ -48,6 +48,16 @@ public final class RetryableStage<OutputT> implements RequestToResponsePipeline<
     @Override
     public Response<OutputT> execute(SdkHttpFullRequest request, RequestExecutionContext context) throws Exception {
         RetryableStageHelper retryableStageHelper = new RetryableStageHelper(request, context, dependencies);
+        try {
+            return executeWithRetries(retryableStageHelper, context);
+        } catch (Throwable t) {
+            retryableStageHelper.recordRequestFailed();
+            throw t;
+        }
+    }
+
+    private Response<OutputT> executeWithRetries(RetryableStageHelper retryableStageHelper,
+                                                 RequestExecutionContext context) throws Exception {
         Duration initialDelay = retryableStageHelper.acquireInitialToken();
         TimeUnit.MILLISECONDS.sleep(initialDelay.toMillis());
         while (true) {
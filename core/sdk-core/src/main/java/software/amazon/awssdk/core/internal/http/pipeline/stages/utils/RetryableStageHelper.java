@@ -48,6 +48,8 @@ import software.amazon.awssdk.retries.api.RefreshRetryTokenResponse;
 import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.retries.api.RetryToken;
 import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.retries.internal.DefaultRetryToken;
+import software.amazon.awssdk.retries.internal.concurrencylimiter.ConcurrencyLimiterPermit;
 
 /**
  * Contains the logic shared by {@link RetryableStage} and {@link AsyncRetryableStage} when querying and interacting with a
@@ -99,12 +101,18 @@ public final class RetryableStageHelper {
      * Invoke when starting the first attempt. This method will acquire the initial token and store it as an execution attribute.
      * This method returns a delay that the caller have to wait before attempting the first request. If this method returns
      * {@link Duration#ZERO} if the calling code does not have to wait. As of today the only strategy that might return a non-zero
-     * value is {@link AdaptiveRetryStrategy}.
+     * value is {@link AdaptiveRetryStrategy}. If the retry strategy rejects the request, for instance because its limit of
+     * requests in flight is reached, this method throws an {@link SdkClientException} and the request must not be sent.
      */
     public Duration acquireInitialToken() {
         String scope = "GLOBAL";
         AcquireInitialTokenRequest acquireRequest = AcquireInitialTokenRequest.create(scope);
-        AcquireInitialTokenResponse acquireResponse = retryStrategy().acquireInitialToken(acquireRequest);
+        AcquireInitialTokenResponse acquireResponse;
+        try {
+            acquireResponse = retryStrategy().acquireInitialToken(acquireRequest);
+        } catch (TokenAcquisitionFailedException e) {
+            throw SdkClientException.create("Unable to execute HTTP request: " + e.getMessage(), e);
+        }
         RetryToken retryToken = acquireResponse.token();
         Duration delay = acquireResponse.delay();
         context.executionAttributes().putAttribute(RETRY_TOKEN, retryToken);
@@ -122,6 +130,22 @@ public final class RetryableStageHelper {
         context.executionContext().metricCollector().reportMetric(RETRY_COUNT, retriesAttemptedSoFar());
     }
 
+    /**
+     * Invoke when the request fails and will not be retried, whichever way it fails: the retry strategy disallowed the retry, or
+     * an unexpected exception, an error or an interruption ended the request without asking the retry strategy. Releases the
+     * concurrency limiter permit held by the request, if the retry strategy limits concurrency and the permit was not released
+     * yet.
+     */
+    public void recordRequestFailed() {
+        RetryToken retryToken = context.executionAttributes().getAttribute(RETRY_TOKEN);
+        if (retryToken instanceof DefaultRetryToken) {
+            ConcurrencyLimiterPermit permit = ((DefaultRetryToken) retryToken).concurrencyLimiterPermit();
+            if (permit != null) {
+                permit.releaseAfterFailure(false);
+            }
+        }
+    }
+
     /**
      * Invoked after a failed attempt and before retrying. The returned optional will be non-empty if the client can retry or
      * empty if the retry-strategy disallows the retry. The calling code is expected to wait the delay represented in the duration
@@ -23,6 +23,7 @@ import software.amazon.awssdk.core.retry.RetryMode;
 import software.amazon.awssdk.core.retry.RetryPolicy;
 import software.amazon.awssdk.core.retry.RetryUtils;
 import software.amazon.awssdk.retries.AdaptiveRetryStrategy;
+import software.amazon.awssdk.retries.ConcurrencyLimitingRetryStrategy;
 import software.amazon.awssdk.retries.DefaultRetryStrategy;
 import software.amazon.awssdk.retries.LegacyRetryStrategy;
 import software.amazon.awssdk.retries.StandardRetryStrategy;
@@ -97,6 +98,9 @@ public final class SdkDefaultRetryStrategy {
         if (retryStrategy instanceof AdaptiveRetryStrategy) {
             return RetryMode.ADAPTIVE_V2;
         }
+        if (retryStrategy instanceof ConcurrencyLimitingRetryStrategy) {
+            return RetryMode.STANDARD;
+        }
         if (retryStrategy instanceof LegacyRetryStrategy) {
             return RetryMode.LEGACY;
         }
@@ -17,7 +17,7 @@ package software.amazon.awssdk.core.internal.sync;
 
 import java.io.InputStream;
 import software.amazon.awssdk.annotations.SdkInternalApi;
-import software.amazon.awssdk.core.internal.compression.Compressor;
+import software.amazon.awssdk.core.compression.Compressor;
 import software.amazon.awssdk.core.internal.io.AwsCompressionInputStream;
 import software.amazon.awssdk.http.ContentStreamProvider;
 import software.amazon.awssdk.utils.IoUtils;
@@ -27,6 +27,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.interceptor.SdkInternalExecutionAttribute;
 import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
@@ -134,6 +136,17 @@ public final class MetricUtils {
         }
     }
 
+    /**
+     * Create the collector of the metrics of an API call, as configured by
+     * {@link SdkAdvancedClientOption#CONCURRENT_METRIC_COLLECTOR}.
+     */
+    public static MetricCollector createApiCallMetricCollector(SdkClientConfiguration clientConfiguration) {
+        if (Boolean.TRUE.equals(clientConfiguration.option(SdkAdvancedClientOption.CONCURRENT_METRIC_COLLECTOR))) {
+            return MetricCollector.createConcurrent("ApiCall");
+        }
+        return MetricCollector.create("ApiCall");
+    }
+
     public static MetricCollector createAttemptMetricsCollector(RequestExecutionContext context) {
         MetricCollector parentCollector = context.executionContext().metricCollector();
         if (parentCollector != null) {
@@ -0,0 +1,235 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.retry;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configures hedged requests for an asynchronous client, with
+ * {@link ClientOverrideConfiguration.Builder#hedgingPolicy(HedgingPolicy)}.
+ * <p>
+ * When the response headers of an attempt are not received after the hedging delay, the same request is sent a second time,
+ * and the first successful response is used. The other request is cancelled. A second request is only sent for requests
+ * without a streaming input, and:
+ * <ul>
+ *     <li>For {@code GET} and {@code HEAD} requests, which do not modify anything, or</li>
+ *     <li>For the operations configured with {@link Builder#operations(Collection)}, which the caller knows to be idempotent,
+ *     such as {@code GetItem} or {@code Query} for DynamoDB.</li>
+ * </ul>
+ * <p>
+ * A second request counts as a retry of the {@link RetryStrategy} of the client: it uses one of its attempts and acquires
+ * capacity from its token bucket as a retryable failure would. When the token bucket is empty or the attempts are exhausted,
+ * no second request is sent, so hedging cannot amplify the load of a service that is already failing. A client configured with
+ * a legacy {@link RetryPolicy} does not hedge.
+ * <p>
+ * The hedging delay is {@link #delay()}, unless {@link #latencyPercentile()} is configured. It is then the given percentile
+ * of the latencies of the recent requests of the client, for example the 95th percentile, so that only the slowest 5% of the
+ * requests are hedged. The latency of a request is the time until its response headers are received. The fixed delay is used
+ * until enough latencies are known.
+ * <p>
+ * Each client keeps the latencies of its own requests, so clients sharing a policy do not share the hedging delay derived from
+ * their latencies.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class HedgingPolicy implements ToCopyableBuilder<HedgingPolicy.Builder, HedgingPolicy> {
+    private final Duration delay;
+    private final Double latencyPercentile;
+    private final Set<String> operations;
+
+    private HedgingPolicy(DefaultBuilder builder) {
+        this.delay = Validate.isPositive(Validate.paramNotNull(builder.delay, "delay"), "delay");
+        this.latencyPercentile = builder.latencyPercentile;
+        if (latencyPercentile != null) {
+            Validate.isTrue(latencyPercentile > 0 && latencyPercentile < 100,
+                            "The latency percentile must be greater than 0 and less than 100.");
+        }
+        this.operations = Collections.unmodifiableSet(new LinkedHashSet<>(builder.operations));
+    }
+
+    /**
+     * The delay after which a second request is sent, or the delay used until enough latencies are known when
+     * {@link #latencyPercentile()} is configured.
+     */
+    public Duration delay() {
+        return delay;
+    }
+
+    /**
+     * The percentile of the recent latencies used as the hedging delay, if configured.
+     */
+    public Optional<Double> latencyPercentile() {
+        return Optional.ofNullable(latencyPercentile);
+    }
+
+    /**
+     * The names of the operations hedged in addition to the {@code GET} and {@code HEAD} requests.
+     */
+    public Set<String> operations() {
+        return operations;
+    }
+
+    /**
+     * Create a {@link HedgingPolicy.Builder}, used to create a {@link HedgingPolicy}.
+     */
+    public static Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new DefaultBuilder(this);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("HedgingPolicy")
+                       .add("delay", delay)
+                       .add("latencyPercentile", latencyPercentile)
+                       .add("operations", operations.isEmpty() ? null : operations)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        HedgingPolicy that = (HedgingPolicy) o;
+
+        if (!delay.equals(that.delay)) {
+            return false;
+        }
+        if (!Objects.equals(latencyPercentile, that.latencyPercentile)) {
+            return false;
+        }
+        return operations.equals(that.operations);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = delay.hashCode();
+        result = 31 * result + (latencyPercentile != null ? latencyPercentile.hashCode() : 0);
+        result = 31 * result + operations.hashCode();
+        return result;
+    }
+
+    public interface Builder extends CopyableBuilder<Builder, HedgingPolicy> {
+
+        /**
+         * Configures the delay after which a second request is sent if the response headers of the first request are not
+         * received. When {@link #latencyPercentile(Double)} is configured, this delay is used until enough latencies are
+         * known. The delay must be positive, and is required.
+         *
+         * @param delay
+         * @return This object for method chaining.
+         */
+        Builder delay(Duration delay);
+
+        /**
+         * Configures the percentile of the recent latencies of the requests to use as the hedging delay, for example
+         * {@code 95.0}. The percentile must be greater than 0 and less than 100. By default, the hedging delay is
+         * {@link #delay(Duration)}.
+         *
+         * @param latencyPercentile
+         * @return This object for method chaining.
+         */
+        Builder latencyPercentile(Double latencyPercentile);
+
+        /**
+         * Configures the names of the operations to hedge in addition to the {@code GET} and {@code HEAD} requests, replacing
+         * any previously configured operation. The operations must be idempotent: sending their request twice must have the
+         * same effect as sending it once. The names are the names of the operations in the service model, such as
+         * {@code GetItem}.
+         *
+         * @param operations
+         * @return This object for method chaining.
+         */
+        Builder operations(Collection<String> operations);
+
+        /**
+         * Adds an operation to hedge, in addition to the operations already configured.
+         *
+         * @param operation
+         * @return This object for method chaining.
+         * @see #operations(Collection)
+         */
+        Builder addOperation(String operation);
+    }
+
+    private static final class DefaultBuilder implements Builder {
+        private Duration delay;
+        private Double latencyPercentile;
+        private Set<String> operations = new LinkedHashSet<>();
+
+        private DefaultBuilder() {
+        }
+
+        private DefaultBuilder(HedgingPolicy hedgingPolicy) {
+            this.delay = hedgingPolicy.delay;
+            this.latencyPercentile = hedgingPolicy.latencyPercentile;
+            this.operations = new LinkedHashSet<>(hedgingPolicy.operations);
+        }
+
+        @Override
+        public Builder delay(Duration delay) {
+            this.delay = delay;
+            return this;
+        }
+
+        @Override
+        public Builder latencyPercentile(Double latencyPercentile) {
+            this.latencyPercentile = latencyPercentile;
+            return this;
+        }
+
+        @Override
+        public Builder operations(Collection<String> operations) {
+            this.operations = new LinkedHashSet<>(Validate.paramNotNull(operations, "operations"));
+            this.operations.forEach(o -> Validate.paramNotNull(o, "operation"));
+            return this;
+        }
+
+        @Override
+        public Builder addOperation(String operation) {
+            this.operations.add(Validate.paramNotNull(operation, "operation"));
+            return this;
+        }
+
+        @Override
+        public HedgingPolicy build() {
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -15,10 +15,12 @@
 
 package software.amazon.awssdk.core;
 
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.compression.Compressor;
 
 public class CompressionConfigurationTest {
 
@@ -35,9 +37,29 @@ public class CompressionConfigurationTest {
             CompressionConfiguration.builder()
                                     .requestCompressionEnabled(true)
                                     .minimumCompressionThresholdInBytes(99999)
+                                    .addCompressor(Compressor.gzip(1))
                                     .build();
 
         CompressionConfiguration another = configuration.toBuilder().build();
         assertThat(configuration).isEqualTo(another);
     }
+
+    @Test
+    public void compressors_defaultsToEmpty() {
+        assertThat(CompressionConfiguration.builder().build().compressors()).isEmpty();
+    }
+
+    @Test
+    public void compressors_replacesPreviouslyAddedCompressors() {
+        CompressionConfiguration configuration =
+            CompressionConfiguration.builder()
+                                    .addCompressor(Compressor.gzip(1))
+                                    .compressors(Arrays.asList(Compressor.deflate(9), Compressor.gzip(9)))
+                                    .addCompressor(Compressor.deflate(1))
+                                    .build();
+
+        assertThat(configuration.compressors()).isEqualTo(Arrays.asList(Compressor.deflate(9),
+                                                                        Compressor.gzip(9),
+                                                                        Compressor.deflate(1)));
+    }
 }
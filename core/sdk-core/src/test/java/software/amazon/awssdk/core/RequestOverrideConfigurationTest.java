@@ -50,8 +50,12 @@ public class RequestOverrideConfigurationTest {
 
     @Test
     public void equalsHashcode() {
+        ExecutionAttributes one = new ExecutionAttributes();
+        ExecutionAttributes two = ExecutionAttributes.builder().put(attr("EqualsHashcode"), "value").build();
+
         EqualsVerifier.forClass(RequestOverrideConfiguration.class)
                       .usingGetClass()
+                      .withPrefabValues(ExecutionAttributes.class, one, two)
                       .verify();
     }
 
@@ -32,7 +32,7 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.tck.PublisherVerification;
 import org.reactivestreams.tck.TestEnvironment;
 import software.amazon.awssdk.core.internal.async.CompressionAsyncRequestBody;
-import software.amazon.awssdk.core.internal.compression.Compressor;
+import software.amazon.awssdk.core.compression.Compressor;
 import software.amazon.awssdk.core.internal.compression.GzipCompressor;
 
 public class CompressionAsyncRequestBodyTckTest extends PublisherVerification<ByteBuffer> {
@@ -30,6 +30,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.exception.SdkClientException;
 import software.amazon.awssdk.core.http.ExecutionContext;
 import software.amazon.awssdk.core.http.NoopTestRequest;
 import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
@@ -41,6 +42,7 @@ import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.retries.api.AcquireInitialTokenResponse;
 import software.amazon.awssdk.retries.api.RetryStrategy;
 import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
 import utils.ValidSdkObjects;
 
 /**
@@ -67,6 +69,17 @@ public class AsyncClientRetryStrategyExceptionTest {
         assertThatThrownBy(() -> responseFuture.get(1, TimeUnit.SECONDS)).hasRootCause(exception);
     }
 
+    @Test
+    public void initialTokenAcquisitionFailureReportedAsClientExceptionInFuture() {
+        TokenAcquisitionFailedException exception = new TokenAcquisitionFailedException(MESSAGE);
+        when(retryStrategy.acquireInitialToken(any())).thenThrow(exception);
+
+        CompletableFuture<SdkResponse> responseFuture = makeRequest();
+
+        assertThatThrownBy(() -> responseFuture.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(SdkClientException.class)
+                                                                         .hasRootCause(exception);
+    }
+
     @Test
     public void exceptionInRefreshTokenReportedInFuture() {
         when(retryStrategy.acquireInitialToken(any())).thenReturn(
@@ -56,6 +56,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.function.Supplier;
 import org.assertj.core.api.Assertions;
 import org.junit.Before;
@@ -419,6 +420,19 @@ public class DefaultClientBuilderTest {
         assertThat(secondGet).isSameAs(firstGet);
     }
 
+    @Test
+    public void defaultScheduledExecutor_removesCancelledTasks() {
+        SdkClientConfiguration config = testClientBuilder().build().clientConfiguration;
+
+        ScheduledExecutorService executor = config.option(SCHEDULED_EXECUTOR_SERVICE);
+        try {
+            assertThat(executor).isInstanceOfSatisfying(ScheduledThreadPoolExecutor.class,
+                                                        e -> assertThat(e.getRemoveOnCancelPolicy()).isTrue());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     private SdkDefaultClientBuilder<TestClientBuilder, TestClient> testClientBuilder() {
         ClientOverrideConfiguration overrideConfig =
                 ClientOverrideConfiguration.builder()
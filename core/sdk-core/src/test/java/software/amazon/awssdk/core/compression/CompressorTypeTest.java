@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.core.internal.compression.CompressorType;
 
 public class CompressorTypeTest {
@@ -43,4 +44,31 @@ public class CompressorTypeTest {
         CompressorType brotliFromStringDuplicate = CompressorType.of("brotli");
         assertThat(brotliFromString).isEqualTo(brotliFromStringDuplicate);
     }
+
+    @Test
+    public void compressorTypes_includeGzipAndDeflate() {
+        assertThat(CompressorType.compressorTypes()).contains("gzip", "deflate");
+        assertThat(CompressorType.of("deflate").newCompressor().compressorType()).isEqualTo("deflate");
+    }
+
+    @Test
+    public void compressorTypes_includeCompressorsRegisteredWithServiceLoader() {
+        assertThat(CompressorType.isSupported("identity-test")).isTrue();
+        assertThat(CompressorType.of("identity-test").newCompressor()).isInstanceOf(IdentityCompressor.class);
+    }
+
+    /**
+     * Registered in META-INF/services of the test resources.
+     */
+    public static final class IdentityCompressor implements Compressor {
+        @Override
+        public String compressorType() {
+            return "identity-test";
+        }
+
+        @Override
+        public SdkBytes compress(SdkBytes content) {
+            return content;
+        }
+    }
 }
@@ -80,4 +80,39 @@ public class ExecutionAttributesTest {
 
         assertThat(executionAttributes1.hashCode()).isEqualTo(executionAttributes2.hashCode());
     }
+
+    @Test
+    public void copy_changesNotVisibleInSource() {
+        ExecutionAttributes executionAttributes = ExecutionAttributes.builder()
+                .put(ATTR_1, "hello")
+                .build();
+
+        ExecutionAttributes copy = executionAttributes.copy();
+        copy.putAttribute(ATTR_1, "HELLO");
+        copy.putAttribute(ATTR_2, "world");
+        executionAttributes.putAttribute(ATTR_2, "WORLD");
+
+        assertThat(executionAttributes.getAttribute(ATTR_1)).isEqualTo("hello");
+        assertThat(executionAttributes.getAttribute(ATTR_2)).isEqualTo("WORLD");
+        assertThat(copy.getAttribute(ATTR_1)).isEqualTo("HELLO");
+        assertThat(copy.getAttribute(ATTR_2)).isEqualTo("world");
+    }
+
+    @Test
+    public void merge_attributesOfThisObjectTakePrecedence() {
+        ExecutionAttributes executionAttributes1 = ExecutionAttributes.builder()
+                .put(ATTR_1, "hello")
+                .build();
+
+        ExecutionAttributes executionAttributes2 = ExecutionAttributes.builder()
+                .put(ATTR_1, "HELLO")
+                .put(ATTR_2, "world")
+                .build();
+
+        ExecutionAttributes merged = executionAttributes1.merge(executionAttributes2);
+
+        assertThat(merged.getAttribute(ATTR_1)).isEqualTo("hello");
+        assertThat(merged.getAttribute(ATTR_2)).isEqualTo("world");
+        assertThat(executionAttributes1.getOptionalAttribute(ATTR_2)).isEmpty();
+    }
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import utils.ValidSdkObjects;
+
+public class ExecutionInterceptorChainTest {
+    private final List<String> invocations = new ArrayList<>();
+
+    @Test
+    public void hooks_invokeInterceptorsInDocumentedOrder() {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new RecordingInterceptor("first"),
+                                                                                      new RecordingInterceptor("second")));
+
+        chain.beforeExecution(context(), new ExecutionAttributes());
+        chain.afterExecution(context(), new ExecutionAttributes());
+
+        assertThat(invocations).containsExactly("first:beforeExecution", "second:beforeExecution",
+                                                "second:afterExecution", "first:afterExecution");
+    }
+
+    @Test
+    public void hooks_onlyInvokeInterceptorsOverridingThem() {
+        ExecutionInterceptor interceptor = new RecordingInterceptor("interceptor");
+        ExecutionInterceptor subclass = new RecordingInterceptor("subclass") {
+            @Override
+            public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+                invocations.add(name + ":beforeTransmission");
+            }
+        };
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(interceptor, subclass,
+                                                                                      new ExecutionInterceptor() {}));
+
+        chain.beforeExecution(context(), new ExecutionAttributes());
+        chain.beforeTransmission(context(), new ExecutionAttributes());
+        chain.onExecutionFailure(null, new ExecutionAttributes());
+
+        assertThat(invocations).containsExactly("interceptor:beforeExecution", "subclass:beforeExecution",
+                                                "subclass:beforeTransmission");
+    }
+
+    @Test
+    public void modifyHttpRequestAndHttpContent_appliesInterceptorsOverridingAnyOfItsMethods() {
+        SdkHttpRequest modifiedRequest = ValidSdkObjects.sdkHttpFullRequest().putHeader("modified", "true").build();
+        ExecutionInterceptor modifyingInterceptor = new ExecutionInterceptor() {
+            @Override
+            public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+                return modifiedRequest;
+            }
+        };
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new RecordingInterceptor("interceptor"),
+                                                                                      modifyingInterceptor));
+
+        InterceptorContext result = chain.modifyHttpRequestAndHttpContent(context(), new ExecutionAttributes());
+
+        assertThat(result.httpRequest()).isSameAs(modifiedRequest);
+    }
+
+    @Test
+    public void modifyRequest_unmodifiedContext_isReturned() {
+        InterceptorContext context = context();
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(new RecordingInterceptor("interceptor")));
+
+        assertThat(chain.modifyRequest(context, new ExecutionAttributes())).isSameAs(context);
+    }
+
+    @Test
+    public void mockInterceptor_invokedForAllHooks() {
+        ExecutionInterceptor interceptor = mock(ExecutionInterceptor.class);
+        InterceptorContext context = context();
+        when(interceptor.modifyRequest(any(), any())).thenReturn(context.request());
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(Arrays.asList(interceptor));
+
+        chain.beforeMarshalling(context, new ExecutionAttributes());
+        chain.modifyRequest(context, new ExecutionAttributes());
+
+        verify(interceptor).beforeMarshalling(any(), any());
+        verify(interceptor).modifyRequest(any(), any());
+    }
+
+    private static InterceptorContext context() {
+        return InterceptorContext.builder()
+                                 .request(NoopTestRequest.builder().build())
+                                 .httpRequest(ValidSdkObjects.sdkHttpFullRequest().build())
+                                 .build();
+    }
+
+    private class RecordingInterceptor implements ExecutionInterceptor {
+        protected final String name;
+
+        private RecordingInterceptor(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+            invocations.add(name + ":beforeExecution");
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            invocations.add(name + ":afterExecution");
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class ByteBufferPoolTest {
+
+    @Test
+    void acquire_afterRelease_reusesClearedBuffer() {
+        ByteBufferPool pool = ByteBufferPool.create(1024, false);
+        ByteBuffer buffer = pool.acquire(16);
+        buffer.put((byte) 1);
+
+        pool.release(buffer);
+        assertThat(pool.pooledBytes()).isEqualTo(16);
+
+        ByteBuffer reused = pool.acquire(16);
+        assertThat(reused).isSameAs(buffer);
+        assertThat(reused.position()).isZero();
+        assertThat(reused.limit()).isEqualTo(16);
+        assertThat(pool.pooledBytes()).isZero();
+    }
+
+    @Test
+    void acquire_differentCapacity_allocatesNewBuffer() {
+        ByteBufferPool pool = ByteBufferPool.create(1024, false);
+        ByteBuffer buffer = pool.acquire(16);
+        pool.release(buffer);
+
+        ByteBuffer other = pool.acquire(32);
+        assertThat(other).isNotSameAs(buffer);
+        assertThat(other.capacity()).isEqualTo(32);
+        assertThat(pool.pooledBytes()).isEqualTo(16);
+    }
+
+    @Test
+    void release_overMaxPooledBytes_doesNotKeepBuffer() {
+        ByteBufferPool pool = ByteBufferPool.create(24, false);
+        pool.release(ByteBuffer.allocate(16));
+        pool.release(ByteBuffer.allocate(16));
+
+        assertThat(pool.pooledBytes()).isEqualTo(16);
+    }
+
+    @Test
+    void release_zeroMaxPooledBytes_doesNotKeepBuffer() {
+        ByteBufferPool pool = ByteBufferPool.create(0, false);
+        ByteBuffer buffer = pool.acquire(16);
+        pool.release(buffer);
+
+        assertThat(pool.acquire(16)).isNotSameAs(buffer);
+        assertThat(pool.pooledBytes()).isZero();
+    }
+
+    @Test
+    void release_readOnlyOrOtherKindOfBuffer_doesNotKeepBuffer() {
+        ByteBufferPool pool = ByteBufferPool.create(1024, false);
+        pool.release(ByteBuffer.allocate(16).asReadOnlyBuffer());
+        pool.release(ByteBuffer.allocateDirect(16));
+
+        assertThat(pool.pooledBytes()).isZero();
+    }
+
+    @Test
+    void acquire_directPool_allocatesDirectBuffers() {
+        ByteBufferPool pool = ByteBufferPool.create(1024, true);
+        ByteBuffer buffer = pool.acquire(16);
+        assertThat(buffer.isDirect()).isTrue();
+
+        pool.release(buffer);
+        assertThat(pool.acquire(16)).isSameAs(buffer);
+    }
+
+    @Test
+    void create_negativeMaxPooledBytes_throws() {
+        assertThatThrownBy(() -> ByteBufferPool.create(-1, false)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void chunkBuffer_knownLength_releasesBufferWhenAllBytesAreSplit() {
+        ByteBufferPool pool = ByteBufferPool.create(1024, false);
+        ChunkBuffer chunkBuffer = ChunkBuffer.builder().bufferSize(8).totalBytes(12).bufferPool(pool).build();
+
+        List<ByteBuffer> first = (List<ByteBuffer>) chunkBuffer.split(bytes("abcde"));
+        assertThat(first).isEmpty();
+        assertThat(pool.pooledBytes()).isZero();
+
+        List<ByteBuffer> second = (List<ByteBuffer>) chunkBuffer.split(bytes("fghijkl"));
+        assertThat(second).extracting(ByteBufferPoolTest::string).containsExactly("abcdefgh", "ijkl");
+        assertThat(pool.pooledBytes()).isEqualTo(8);
+    }
+
+    @Test
+    void chunkBuffer_unknownLength_releasesBufferWhenBufferedDataIsRetrieved() {
+        ByteBufferPool pool = ByteBufferPool.create(1024, false);
+        ChunkBuffer chunkBuffer = ChunkBuffer.builder().bufferSize(8).bufferPool(pool).build();
+
+        assertThat((List<ByteBuffer>) chunkBuffer.split(bytes("abcdefghij"))).extracting(ByteBufferPoolTest::string)
+                                                                              .containsExactly("abcdefgh");
+        assertThat(pool.pooledBytes()).isZero();
+
+        Optional<ByteBuffer> bufferedData = chunkBuffer.getBufferedData();
+        assertThat(bufferedData).map(ByteBufferPoolTest::string).hasValue("ij");
+        assertThat(pool.pooledBytes()).isEqualTo(8);
+    }
+
+    @Test
+    void chunkBuffer_inputAlignedWithChunks_doesNotAcquireBuffer() {
+        ByteBufferPool pool = ByteBufferPool.create(1024, false);
+        pool.release(ByteBuffer.allocate(8));
+        ChunkBuffer chunkBuffer = ChunkBuffer.builder().bufferSize(8).totalBytes(16).bufferPool(pool).build();
+
+        assertThat((List<ByteBuffer>) chunkBuffer.split(bytes("abcdefgh"))).hasSize(1);
+        assertThat((List<ByteBuffer>) chunkBuffer.split(bytes("ijklmnop"))).hasSize(1);
+        assertThat(pool.pooledBytes()).isEqualTo(8);
+    }
+
+    @Test
+    void chunkBuffer_directPool_returnsHeapChunks() {
+        ByteBufferPool pool = ByteBufferPool.create(1024, true);
+        ChunkBuffer chunkBuffer = ChunkBuffer.builder().bufferSize(4).totalBytes(6).bufferPool(pool).build();
+
+        chunkBuffer.split(bytes("ab"));
+        List<ByteBuffer> chunks = (List<ByteBuffer>) chunkBuffer.split(bytes("cdef"));
+        assertThat(chunks).extracting(ByteBufferPoolTest::string).containsExactly("abcd", "ef");
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.isDirect()).isFalse());
+    }
+
+    private static ByteBuffer bytes(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
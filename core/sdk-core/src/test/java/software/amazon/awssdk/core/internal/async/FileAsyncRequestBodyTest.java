@@ -108,6 +108,48 @@ public class FileAsyncRequestBodyTest {
         completed.get(5, TimeUnit.SECONDS);
     }
 
+    @Test
+    public void directBufferPool_readsThroughPool_emitsHeapBuffersWithFileContent() throws Exception {
+        int chunkSize = 16384;
+        ByteBufferPool bufferPool = ByteBufferPool.create(chunkSize, true);
+        AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
+                                                                .path(testFile)
+                                                                .chunkSizeInBytes(chunkSize)
+                                                                .bufferPool(bufferPool)
+                                                                .build();
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        asyncRequestBody.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                if (byteBuffer.isDirect()) {
+                    completed.completeExceptionally(new AssertionError("Emitted a pooled direct buffer"));
+                }
+                invokeSafely(() -> content.write(BinaryUtils.copyBytesFrom(byteBuffer)));
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(null);
+            }
+        });
+
+        completed.get(5, TimeUnit.SECONDS);
+        assertThat(content.toByteArray()).isEqualTo(Files.readAllBytes(testFile));
+        assertThat(bufferPool.pooledBytes()).isEqualTo(chunkSize);
+    }
+
     @Test
     public void changingFile_fileGetsShorterThanAlreadyRead_failsBecauseTooShort() throws Exception {
         AsyncRequestBody asyncRequestBody = FileAsyncRequestBody.builder()
@@ -0,0 +1,220 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.core.FileTransformerConfiguration.FailureBehavior.LEAVE;
+import static software.amazon.awssdk.core.FileTransformerConfiguration.FileWriteOption.WRITE_TO_POSITION;
+
+import com.google.common.jimfs.Jimfs;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.FileTransformerConfiguration;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.SplittingTransformerConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.protocol.VoidSdkResponse;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+class FileAsyncResponseTransformerPublisherTest {
+    private static final SplittingTransformerConfiguration SPLIT_CONFIG =
+        SplittingTransformerConfiguration.builder().bufferSizeInBytes(1024L).parallelSplit(true).build();
+
+    private FileSystem testFs;
+
+    @BeforeEach
+    public void setup() {
+        testFs = Jimfs.newFileSystem();
+    }
+
+    @AfterEach
+    public void teardown() throws IOException {
+        testFs.close();
+    }
+
+    @Test
+    void split_parallelSplitRequested_shouldSupportParallelSplit() {
+        Path testPath = testFs.getPath("test_file.txt");
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            AsyncResponseTransformer.<SdkResponse>toFile(testPath).split(SPLIT_CONFIG);
+
+        assertThat(split.parallelSplitSupported()).isTrue();
+        assertThat(split.publisher()).isInstanceOf(FileAsyncResponseTransformerPublisher.class);
+    }
+
+    @Test
+    void split_parallelSplitNotRequested_shouldUseDefaultSerialSplit() {
+        Path testPath = testFs.getPath("test_file.txt");
+        SplittingTransformerConfiguration serialConfig = SplittingTransformerConfiguration.builder()
+                                                                                          .bufferSizeInBytes(1024L)
+                                                                                          .build();
+
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            AsyncResponseTransformer.<SdkResponse>toFile(testPath).split(serialConfig);
+
+        assertThat(split.parallelSplitSupported()).isFalse();
+        assertThat(split.publisher()).isInstanceOf(SplittingTransformer.class);
+    }
+
+    @Test
+    void partsReceivedOutOfOrder_shouldBeWrittenAtTheirPosition() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            AsyncResponseTransformer.<SdkResponse>toFile(testPath).split(SPLIT_CONFIG);
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        split.publisher().subscribe(subscriber);
+        subscriber.subscription.request(3);
+        assertThat(subscriber.transformers).hasSize(3);
+
+        SdkResponse firstResponse = response("bytes 0-3/12");
+        CompletableFuture<SdkResponse> first = writePart(subscriber.transformers.get(0), firstResponse, "aaaa");
+        first.get(5, TimeUnit.SECONDS);
+
+        CompletableFuture<SdkResponse> third = writePart(subscriber.transformers.get(2), response("bytes 8-11/12"), "cccc");
+        CompletableFuture<SdkResponse> second = writePart(subscriber.transformers.get(1), response("bytes 4-7/12"), "bbbb");
+        CompletableFuture.allOf(second, third).get(5, TimeUnit.SECONDS);
+
+        assertThat(split.resultFuture()).isNotDone();
+        subscriber.subscription.cancel();
+
+        assertThat(split.resultFuture().get(5, TimeUnit.SECONDS)).isSameAs(firstResponse);
+        assertThat(subscriber.completed).isTrue();
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo("aaaabbbbcccc");
+    }
+
+    @Test
+    void firstPartNotAtStartOfObject_shouldWriteRelativeToConfiguredPosition() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        Files.write(testPath, "xxxx".getBytes(StandardCharsets.UTF_8));
+        AsyncResponseTransformer<SdkResponse, SdkResponse> transformer =
+            AsyncResponseTransformer.toFile(testPath, FileTransformerConfiguration.builder()
+                                                                                  .fileWriteOption(WRITE_TO_POSITION)
+                                                                                  .position(4L)
+                                                                                  .failureBehavior(LEAVE)
+                                                                                  .build());
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split = transformer.split(SPLIT_CONFIG);
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        split.publisher().subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        writePart(subscriber.transformers.get(0), response("bytes 100-103/108"), "bbbb").get(5, TimeUnit.SECONDS);
+        writePart(subscriber.transformers.get(1), response("bytes 104-107/108"), "cccc").get(5, TimeUnit.SECONDS);
+        subscriber.subscription.cancel();
+
+        split.resultFuture().get(5, TimeUnit.SECONDS);
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo("xxxxbbbbcccc");
+    }
+
+    @Test
+    void responsesWithoutContentRange_shouldBeWrittenSequentially() throws Exception {
+        Path testPath = testFs.getPath("test_file.txt");
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            AsyncResponseTransformer.<SdkResponse>toFile(testPath).split(SPLIT_CONFIG);
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        split.publisher().subscribe(subscriber);
+
+        String[] parts = {"aaaa", "bb", "cccccc"};
+        for (int i = 0; i < parts.length; i++) {
+            subscriber.subscription.request(1);
+            writePart(subscriber.transformers.get(i), VoidSdkResponse.builder().build(), parts[i]).get(5, TimeUnit.SECONDS);
+        }
+        subscriber.subscription.cancel();
+
+        split.resultFuture().get(5, TimeUnit.SECONDS);
+        assertThat(new String(Files.readAllBytes(testPath), StandardCharsets.UTF_8)).isEqualTo("aaaabbcccccc");
+    }
+
+    @Test
+    void exceptionOccurred_shouldFailResultAndDeleteFile() {
+        Path testPath = testFs.getPath("test_file.txt");
+        AsyncResponseTransformer.SplitResult<SdkResponse, SdkResponse> split =
+            AsyncResponseTransformer.<SdkResponse>toFile(testPath).split(SPLIT_CONFIG);
+        CollectingSubscriber subscriber = new CollectingSubscriber();
+        split.publisher().subscribe(subscriber);
+        subscriber.subscription.request(2);
+
+        writePart(subscriber.transformers.get(0), response("bytes 0-3/8"), "aaaa").join();
+        AsyncResponseTransformer<SdkResponse, SdkResponse> second = subscriber.transformers.get(1);
+        CompletableFuture<SdkResponse> secondFuture = second.prepare();
+        RuntimeException exception = new RuntimeException("boom");
+        second.exceptionOccurred(exception);
+
+        assertThatThrownBy(secondFuture::join).hasRootCause(exception);
+        assertThatThrownBy(() -> split.resultFuture().join()).isInstanceOf(CompletionException.class).hasCause(exception);
+        assertThat(subscriber.error).isSameAs(exception);
+        assertThat(Files.exists(testPath)).isFalse();
+    }
+
+    private static CompletableFuture<SdkResponse> writePart(AsyncResponseTransformer<SdkResponse, SdkResponse> transformer,
+                                                           SdkResponse response, String content) {
+        CompletableFuture<SdkResponse> future = transformer.prepare();
+        transformer.onResponse(response);
+        transformer.onStream(AsyncRequestBody.fromString(content));
+        return future;
+    }
+
+    private static SdkResponse response(String contentRange) {
+        return VoidSdkResponse.builder()
+                              .sdkHttpResponse(SdkHttpResponse.builder()
+                                                              .statusCode(206)
+                                                              .putHeader("Content-Range", contentRange)
+                                                              .build())
+                              .build();
+    }
+
+    private static final class CollectingSubscriber
+        implements Subscriber<AsyncResponseTransformer<SdkResponse, SdkResponse>> {
+        private final List<AsyncResponseTransformer<SdkResponse, SdkResponse>> transformers = new ArrayList<>();
+        private Subscription subscription;
+        private volatile boolean completed;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.subscription = s;
+        }
+
+        @Override
+        public void onNext(AsyncResponseTransformer<SdkResponse, SdkResponse> transformer) {
+            transformers.add(transformer);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            this.error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+}
@@ -162,6 +162,72 @@ public class SplittingPublisherTest {
         assertThat(asyncRequestBody.cancelled).isTrue();
     }
 
+    @Test
+    void smallUpstreamBuffers_shouldBeCoalescedIntoHeapCopies() throws Exception {
+        int contentSize = SplittingPublisher.STAGING_BUFFER_SIZE * 2 + 100;
+        byte[] content = RandomStringUtils.randomAscii(contentSize).getBytes(Charset.defaultCharset());
+        AsyncRequestBody asyncRequestBody = AsyncRequestBody.fromPublisher(s -> s.onSubscribe(new Subscription() {
+            private int position;
+
+            @Override
+            public void request(long n) {
+                if (position == contentSize) {
+                    return;
+                }
+                int offset = position;
+                position += Math.min(1024, contentSize - offset);
+                s.onNext(ByteBuffer.wrap(content, offset, position - offset));
+                if (position == contentSize) {
+                    s.onComplete();
+                }
+            }
+
+            @Override
+            public void cancel() {
+            }
+        }));
+        ByteBufferPool bufferPool = ByteBufferPool.create(SplittingPublisher.STAGING_BUFFER_SIZE, true);
+        SplittingPublisher splittingPublisher = new SplittingPublisher(asyncRequestBody,
+                                                                       AsyncRequestBodySplitConfiguration.builder()
+                                                                                                         .chunkSizeInBytes(contentSize * 2L)
+                                                                                                         .bufferSizeInBytes(contentSize * 2L)
+                                                                                                         .build(),
+                                                                       bufferPool);
+
+        List<ByteBuffer> buffers = new ArrayList<>();
+        CompletableFuture<Void> bodyFuture = new CompletableFuture<>();
+        splittingPublisher.subscribe(requestBody -> requestBody.subscribe(new Subscriber<ByteBuffer>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer byteBuffer) {
+                buffers.add(byteBuffer);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                bodyFuture.completeExceptionally(t);
+            }
+
+            @Override
+            public void onComplete() {
+                bodyFuture.complete(null);
+            }
+        })).get(5, TimeUnit.SECONDS);
+        bodyFuture.get(5, TimeUnit.SECONDS);
+
+        assertThat(buffers.stream().mapToInt(ByteBuffer::remaining).toArray())
+            .containsExactly(SplittingPublisher.STAGING_BUFFER_SIZE, SplittingPublisher.STAGING_BUFFER_SIZE, 100);
+        assertThat(buffers.stream().noneMatch(ByteBuffer::isDirect)).isTrue();
+        ByteArrayOutputStream received = new ByteArrayOutputStream();
+        buffers.forEach(b -> invokeSafely(() -> received.write(BinaryUtils.copyBytesFrom(b))));
+        assertThat(received.toByteArray()).isEqualTo(content);
+        assertThat(bufferPool.pooledBytes()).isEqualTo(SplittingPublisher.STAGING_BUFFER_SIZE);
+    }
+
     private static void verifySplitContent(AsyncRequestBody asyncRequestBody, int chunkSize) throws Exception {
         SplittingPublisher splittingPublisher = new SplittingPublisher(asyncRequestBody,
                                                                        AsyncRequestBodySplitConfiguration.builder()
@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.utils.IoUtils;
+
+class DeflateCompressorTest {
+    private static final byte[] PAYLOAD = payload();
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 1, 6, 9})
+    void compressedData_decompressesCorrectly(int level) throws IOException {
+        byte[] compressed = Compressor.deflate(level).compress(PAYLOAD);
+
+        assertThat(compressed.length).isLessThan(PAYLOAD.length);
+        assertThat(inflate(compressed)).isEqualTo(PAYLOAD);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, 1, 6, 9})
+    void compressedStream_matchesCompressedData(int level) throws IOException {
+        Compressor compressor = Compressor.deflate(level);
+        byte[] compressed = IoUtils.toByteArray(compressor.compress(new ByteArrayInputStream(PAYLOAD)));
+
+        assertThat(compressed).isEqualTo(compressor.compress(PAYLOAD));
+        assertThat(inflate(compressed)).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    void emptyPayload_compressesToValidZlib() throws IOException {
+        Compressor compressor = Compressor.deflate();
+
+        assertThat(inflate(compressor.compress(new byte[0]))).isEmpty();
+        assertThat(inflate(IoUtils.toByteArray(compressor.compress(new ByteArrayInputStream(new byte[0]))))).isEmpty();
+    }
+
+    @Test
+    void higherLevel_compressesBetterThanLowerLevel() {
+        assertThat(Compressor.deflate(9).compress(PAYLOAD).length)
+            .isLessThanOrEqualTo(Compressor.deflate(1).compress(PAYLOAD).length);
+    }
+
+    @Test
+    void alternatingFormatsAndLevels_onSameThread_decompressCorrectly() throws IOException {
+        for (int i = 0; i < 4; i++) {
+            assertThat(inflate(Compressor.deflate(1 + i).compress(PAYLOAD))).isEqualTo(PAYLOAD);
+            assertThat(gunzip(Compressor.gzip(9 - i).compress(PAYLOAD))).isEqualTo(PAYLOAD);
+        }
+    }
+
+    @Test
+    void gzipWithLevel_decompressesCorrectly() throws IOException {
+        assertThat(gunzip(Compressor.gzip(1).compress(PAYLOAD))).isEqualTo(PAYLOAD);
+        assertThat(gunzip(IoUtils.toByteArray(Compressor.gzip(9).compress(new ByteArrayInputStream(PAYLOAD)))))
+            .isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    void invalidLevel_throwsException() {
+        assertThatThrownBy(() -> Compressor.deflate(10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Compressor.gzip(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void compressorType_isDeflate() {
+        assertThat(Compressor.deflate().compressorType()).isEqualTo("deflate");
+    }
+
+    private static byte[] inflate(byte[] compressed) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return IoUtils.toByteArray(in);
+        }
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return IoUtils.toByteArray(in);
+        }
+    }
+
+    private static byte[] payload() {
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            payload.append("{\"MetricName\":\"Latency\",\"Value\":").append(i % 97).append("},");
+        }
+        return payload.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -22,9 +22,16 @@ import static org.hamcrest.core.Is.is;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
 import java.util.zip.GZIPInputStream;
 import org.junit.Test;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.IoUtils;
 
 public class GzipCompressorTest {
     private static final Compressor gzipCompressor = new GzipCompressor();
@@ -53,4 +60,89 @@ public class GzipCompressorTest {
 
         assertThat(decompressedData, is(originalData));
     }
+
+    @Test
+    public void compressedStream_decompressesCorrectly() throws IOException {
+        byte[] originalData = randomCompressableData(3 * 1024 * 1024 + 17);
+
+        InputStream compressedStream = gzipCompressor.compress(new ByteArrayInputStream(originalData));
+        byte[] compressedData = IoUtils.toByteArray(compressedStream);
+
+        assertThat(compressedData.length, lessThan(originalData.length));
+        assertThat(decompress(compressedData), is(originalData));
+    }
+
+    @Test
+    public void compressedStream_readOneByteAtATime_decompressesCorrectly() throws IOException {
+        byte[] originalData = COMPRESSABLE_STRING.getBytes(StandardCharsets.UTF_8);
+
+        InputStream compressedStream = gzipCompressor.compress(new ByteArrayInputStream(originalData));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        int read;
+        while ((read = compressedStream.read()) != -1) {
+            baos.write(read);
+        }
+
+        assertThat(decompress(baos.toByteArray()), is(originalData));
+    }
+
+    @Test
+    public void emptyStream_compressesToValidGzip() throws IOException {
+        byte[] compressedData = IoUtils.toByteArray(gzipCompressor.compress(new ByteArrayInputStream(new byte[0])));
+
+        assertThat(decompress(compressedData), is(new byte[0]));
+    }
+
+    @Test
+    public void compressedRange_decompressesToRange() throws IOException {
+        byte[] originalData = randomCompressableData(4096);
+
+        byte[] compressedData = gzipCompressor.compress(originalData, 100, 2000);
+
+        assertThat(decompress(compressedData), is(Arrays.copyOfRange(originalData, 100, 2100)));
+    }
+
+    @Test
+    public void compressedDirectByteBuffer_decompressesCorrectly() throws IOException {
+        byte[] originalData = randomCompressableData(64 * 1024);
+        ByteBuffer direct = ByteBuffer.allocateDirect(originalData.length);
+        direct.put(originalData);
+        direct.flip();
+
+        ByteBuffer compressed = gzipCompressor.compress(direct);
+
+        assertThat(decompress(BinaryUtils.copyAllBytesFrom(compressed)), is(originalData));
+        assertThat(direct.remaining(), is(originalData.length));
+    }
+
+    @Test
+    public void repeatedCompressions_onSameThread_decompressCorrectly() throws IOException {
+        for (int size : new int[] {2 * 1024 * 1024, 10, 128 * 1024, 0, 5000}) {
+            byte[] originalData = randomCompressableData(size);
+            assertThat(decompress(gzipCompressor.compress(originalData)), is(originalData));
+        }
+    }
+
+    @Test
+    public void incompressibleData_largerThanScratchBuffer_decompressesCorrectly() throws IOException {
+        byte[] originalData = new byte[DeflaterPool.MAX_RETAINED_BUFFER_SIZE + 1024];
+        new Random(0).nextBytes(originalData);
+
+        assertThat(decompress(gzipCompressor.compress(originalData)), is(originalData));
+    }
+
+    private static byte[] randomCompressableData(int size) {
+        Random random = new Random(size);
+        byte[] data = new byte[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = (byte) ('a' + random.nextInt(4));
+        }
+        return data;
+    }
+
+    private static byte[] decompress(byte[] compressedData) throws IOException {
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(compressedData))) {
+            return IoUtils.toByteArray(gzipInputStream);
+        }
+    }
 }
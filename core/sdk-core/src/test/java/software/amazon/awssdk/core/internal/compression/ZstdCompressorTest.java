@@ -0,0 +1,81 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.compression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.github.luben.zstd.Zstd;
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.utils.BinaryUtils;
+import software.amazon.awssdk.utils.IoUtils;
+
+class ZstdCompressorTest {
+    private static final byte[] PAYLOAD = payload();
+
+    @Test
+    void zstdJniOnClasspath_isAvailableAndRegistered() {
+        assertThat(Compressor.isZstdAvailable()).isTrue();
+        assertThat(CompressorType.isSupported("zstd")).isTrue();
+        assertThat(CompressorType.of("zstd").newCompressor().compressorType()).isEqualTo("zstd");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-5, 1, 3, 19})
+    void compressedData_decompressesCorrectly(int level) {
+        byte[] compressed = Compressor.zstd(level).compress(PAYLOAD);
+
+        assertThat(compressed.length).isLessThan(PAYLOAD.length);
+        assertThat(Zstd.decompress(compressed, PAYLOAD.length)).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    void compressedRange_decompressesToRange() {
+        byte[] compressed = Compressor.zstd().compress(PAYLOAD, 100, 5000);
+
+        assertThat(Zstd.decompress(compressed, 5000)).isEqualTo(Arrays.copyOfRange(PAYLOAD, 100, 5100));
+    }
+
+    @Test
+    void compressedStreamAndBuffer_decompressCorrectly() throws Exception {
+        Compressor compressor = Compressor.zstd();
+
+        byte[] fromStream = IoUtils.toByteArray(compressor.compress(new ByteArrayInputStream(PAYLOAD)));
+        ByteBuffer fromBuffer = compressor.compress(ByteBuffer.wrap(PAYLOAD));
+
+        assertThat(Zstd.decompress(fromStream, PAYLOAD.length)).isEqualTo(PAYLOAD);
+        assertThat(Zstd.decompress(BinaryUtils.copyBytesFrom(fromBuffer), PAYLOAD.length)).isEqualTo(PAYLOAD);
+    }
+
+    @Test
+    void defaultLevel_isZstdDefaultLevel() {
+        assertThat(ZstdCompressor.create().level()).isEqualTo(Zstd.defaultCompressionLevel());
+    }
+
+    private static byte[] payload() {
+        StringBuilder payload = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            payload.append("{\"MetricName\":\"Latency\",\"Value\":").append(i % 97).append("},");
+        }
+        return payload.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
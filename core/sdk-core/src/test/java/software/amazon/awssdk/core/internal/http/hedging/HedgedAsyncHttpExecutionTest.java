@@ -0,0 +1,298 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SimpleSubscriber;
+
+class HedgedAsyncHttpExecutionTest {
+    private static final Duration DELAY = Duration.ofMillis(20);
+    private static final String PERMIT = "permit";
+
+    private final RecordingHttpClient httpClient = new RecordingHttpClient();
+    private final RecordingResponseHandler responseHandler = new RecordingResponseHandler();
+    private ScheduledExecutorService scheduledExecutor;
+    private ArgumentCaptor<Runnable> hedgeTask;
+
+    @BeforeEach
+    void setup() {
+        scheduledExecutor = mock(ScheduledExecutorService.class);
+        hedgeTask = ArgumentCaptor.forClass(Runnable.class);
+        when(scheduledExecutor.schedule(hedgeTask.capture(), anyLong(), any(TimeUnit.class)))
+            .thenReturn(mock(ScheduledFuture.class));
+    }
+
+    @Test
+    void execute_responseBeforeDelay_doesNotSendHedgedRequest() {
+        CompletableFuture<Void> result = execution(() -> PERMIT).execute();
+        verify(scheduledExecutor).schedule(any(Runnable.class), eq(DELAY.toNanos()), eq(TimeUnit.NANOSECONDS));
+
+        respond(0, 200);
+        hedgeTask.getValue().run();
+        httpClient.futures.get(0).complete(null);
+
+        assertThat(httpClient.requests).hasSize(1);
+        assertThat(responseHandler.headers.statusCode()).isEqualTo(200);
+        assertThat(result).isCompleted();
+    }
+
+    @Test
+    void execute_hedgedRequestRespondsFirst_usesHedgedResponseAndCancelsFirstRequest() {
+        CompletableFuture<Void> result = execution(() -> PERMIT).execute();
+        hedgeTask.getValue().run();
+        assertThat(httpClient.requests).hasSize(2);
+
+        TestPublisher hedgedStream = respond(1, 200);
+        httpClient.futures.get(1).complete(null);
+
+        assertThat(responseHandler.stream).isSameAs(hedgedStream);
+        assertThat(httpClient.futures.get(0)).isCompletedExceptionally();
+        assertThat(result).isCompleted();
+        assertThat(result.isCompletedExceptionally()).isFalse();
+
+        TestPublisher lateStream = respond(0, 200);
+        assertThat(lateStream.cancelled).isTrue();
+        assertThat(responseHandler.headersCount).isEqualTo(1);
+    }
+
+    @Test
+    void execute_errorResponseWhileHedgedRequestInFlight_waitsForHedgedResponse() {
+        execution(() -> PERMIT).execute();
+        hedgeTask.getValue().run();
+
+        TestPublisher errorStream = respond(0, 503);
+        assertThat(responseHandler.headers).isNull();
+
+        TestPublisher hedgedStream = respond(1, 200);
+        assertThat(responseHandler.headers.statusCode()).isEqualTo(200);
+        assertThat(responseHandler.stream).isSameAs(hedgedStream);
+        assertThat(errorStream.cancelled).isTrue();
+    }
+
+    @Test
+    void execute_errorResponseAndHedgedRequestFails_usesErrorResponse() {
+        execution(() -> PERMIT).execute();
+        hedgeTask.getValue().run();
+
+        TestPublisher errorStream = respond(0, 503);
+        httpClient.requests.get(1).responseHandler().onError(new IOException("Connection reset"));
+
+        assertThat(responseHandler.headers.statusCode()).isEqualTo(503);
+        assertThat(responseHandler.stream).isSameAs(errorStream);
+        assertThat(responseHandler.error).isNull();
+    }
+
+    @Test
+    void execute_bothRequestsFail_forwardsLastError() {
+        CompletableFuture<Void> result = execution(() -> PERMIT).execute();
+        hedgeTask.getValue().run();
+
+        IOException firstError = new IOException("first");
+        IOException secondError = new IOException("second");
+        httpClient.requests.get(0).responseHandler().onError(firstError);
+        assertThat(responseHandler.error).isNull();
+        httpClient.requests.get(1).responseHandler().onError(secondError);
+        httpClient.futures.get(1).completeExceptionally(secondError);
+
+        assertThat(responseHandler.error).isSameAs(secondError);
+        assertThat(responseHandler.errorCount).isEqualTo(1);
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    @Test
+    void execute_hedgeNotPermitted_doesNotSendHedgedRequest() {
+        execution(() -> null).execute();
+        hedgeTask.getValue().run();
+
+        assertThat(httpClient.requests).hasSize(1);
+    }
+
+    @Test
+    void stopHedging_hedgedRequestSent_returnsPermit() {
+        HedgedAsyncHttpExecution<String> execution = execution(() -> PERMIT);
+        execution.execute();
+        hedgeTask.getValue().run();
+        respond(1, 200);
+
+        assertThat(execution.stopHedging()).contains(PERMIT);
+    }
+
+    @Test
+    void stopHedging_beforeDelay_doesNotSendHedgedRequestOrAcquirePermit() {
+        AtomicInteger permitRequests = new AtomicInteger();
+        HedgedAsyncHttpExecution<String> execution = execution(() -> {
+            permitRequests.incrementAndGet();
+            return PERMIT;
+        });
+        execution.execute();
+
+        assertThat(execution.stopHedging()).isEmpty();
+        hedgeTask.getValue().run();
+
+        assertThat(permitRequests).hasValue(0);
+        assertThat(httpClient.requests).hasSize(1);
+    }
+
+    @Test
+    void execute_resultCompletedExceptionally_cancelsBothRequests() {
+        CompletableFuture<Void> result = execution(() -> PERMIT).execute();
+        hedgeTask.getValue().run();
+
+        result.completeExceptionally(new RuntimeException("timeout"));
+
+        assertThat(httpClient.futures.get(0)).isCompletedExceptionally();
+        assertThat(httpClient.futures.get(1)).isCompletedExceptionally();
+    }
+
+    @Test
+    void latencyTracker_percentile_usesDelayUntilEnoughLatencies() {
+        HedgingLatencyTracker tracker = new HedgingLatencyTracker(DELAY, 90.0);
+        for (int i = 1; i < HedgingLatencyTracker.MIN_SAMPLES; i++) {
+            tracker.record(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertThat(tracker.hedgingDelay()).isEqualTo(DELAY);
+
+        tracker.record(TimeUnit.MILLISECONDS.toNanos(HedgingLatencyTracker.MIN_SAMPLES));
+        assertThat(tracker.hedgingDelay()).isEqualTo(Duration.ofMillis(116));
+    }
+
+    @Test
+    void latencyTracker_noPercentile_usesDelay() {
+        HedgingLatencyTracker tracker = new HedgingLatencyTracker(DELAY, null);
+        for (int i = 0; i < HedgingLatencyTracker.WINDOW_SIZE; i++) {
+            tracker.record(TimeUnit.SECONDS.toNanos(1));
+        }
+        assertThat(tracker.hedgingDelay()).isEqualTo(DELAY);
+    }
+
+    private HedgedAsyncHttpExecution<String> execution(Supplier<String> hedgePermit) {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.GET)
+                                                       .protocol("https")
+                                                       .host("localhost")
+                                                       .build();
+        return new HedgedAsyncHttpExecution<>(httpClient,
+                                              AsyncExecuteRequest.builder().request(request),
+                                              responseHandler,
+                                              new HedgingLatencyTracker(DELAY, null),
+                                              scheduledExecutor,
+                                              hedgePermit);
+    }
+
+    private TestPublisher respond(int request, int statusCode) {
+        SdkAsyncHttpResponseHandler handler = httpClient.requests.get(request).responseHandler();
+        TestPublisher stream = new TestPublisher();
+        handler.onHeaders(SdkHttpResponse.builder().statusCode(statusCode).build());
+        handler.onStream(stream);
+        return stream;
+    }
+
+    private static final class RecordingHttpClient implements SdkAsyncHttpClient {
+        private final List<AsyncExecuteRequest> requests = new ArrayList<>();
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            requests.add(request);
+            futures.add(future);
+            return future;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    private static final class RecordingResponseHandler implements SdkAsyncHttpResponseHandler {
+        private SdkHttpResponse headers;
+        private Publisher<ByteBuffer> stream;
+        private Throwable error;
+        private int headersCount;
+        private int errorCount;
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            this.headers = headers;
+            headersCount++;
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            this.stream = stream;
+            stream.subscribe(new SimpleSubscriber(b -> { }));
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+            errorCount++;
+        }
+    }
+
+    private static final class TestPublisher implements Publisher<ByteBuffer> {
+        private volatile boolean cancelled;
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            AtomicBoolean done = new AtomicBoolean();
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    if (done.compareAndSet(false, true)) {
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_STRATEGY;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.retries.ConcurrencyLimitingRetryStrategy;
+import software.amazon.awssdk.retries.DefaultRetryStrategy;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import utils.ValidSdkObjects;
+
+class AsyncRetryableStageTest {
+    private static final String SCOPE = "GLOBAL";
+
+    private final ConcurrencyLimitingRetryStrategy retryStrategy =
+        DefaultRetryStrategy.concurrencyLimitingStrategyBuilder()
+                            .maxAttempts(3)
+                            .retryOnExceptionInstanceOf(SdkClientException.class)
+                            .backoffStrategy(BackoffStrategy.retryImmediately())
+                            .build();
+
+    private ScheduledExecutorService scheduledExecutor;
+
+    @BeforeEach
+    void setup() {
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void teardown() {
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void execute_pipelineThrowsRuntimeException_releasesConcurrencyLimiterPermit() throws Exception {
+        IllegalStateException exception = new IllegalStateException("interceptor failure");
+        AsyncRetryableStage<Object> stage = stage((request, context) -> {
+            throw exception;
+        });
+
+        CompletableFuture<Response<Object>> result = stage.execute(request(), requestContext());
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                 .hasCause(exception);
+        assertThat(retryStrategy.limiterMetrics(SCOPE).inFlight()).isZero();
+    }
+
+    @Test
+    void execute_responseFutureFailsWithError_releasesConcurrencyLimiterPermit() throws Exception {
+        Error error = new Error("fatal");
+        AsyncRetryableStage<Object> stage = stage((request, context) -> CompletableFutureUtils.failedFuture(error));
+
+        CompletableFuture<Response<Object>> result = stage.execute(request(), requestContext());
+
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+                                                                 .hasCause(error);
+        assertThat(retryStrategy.limiterMetrics(SCOPE).inFlight()).isZero();
+    }
+
+    @Test
+    void execute_resultCancelledWhileInFlight_releasesConcurrencyLimiterPermit() throws Exception {
+        CompletableFuture<Response<Object>> responseFuture = new CompletableFuture<>();
+        AsyncRetryableStage<Object> stage = stage((request, context) -> responseFuture);
+
+        CompletableFuture<Response<Object>> result = stage.execute(request(), requestContext());
+        assertThat(retryStrategy.limiterMetrics(SCOPE).inFlight()).isEqualTo(1);
+
+        result.completeExceptionally(new RuntimeException("API call timeout"));
+
+        assertThat(responseFuture).isCompletedExceptionally();
+        assertThat(retryStrategy.limiterMetrics(SCOPE).inFlight()).isZero();
+    }
+
+    private AsyncRetryableStage<Object> stage(
+        RequestPipeline<SdkHttpFullRequest, CompletableFuture<Response<Object>>> requestPipeline) {
+        HttpClientDependencies dependencies =
+            HttpClientDependencies.builder()
+                                  .clientConfiguration(c -> c.option(RETRY_STRATEGY, retryStrategy)
+                                                             .option(SCHEDULED_EXECUTOR_SERVICE, scheduledExecutor))
+                                  .build();
+        return new AsyncRetryableStage<>(AsyncResponseHandlerTestUtils.noOpResponseHandler(), dependencies, requestPipeline);
+    }
+
+    private static SdkHttpFullRequest request() {
+        return ValidSdkObjects.sdkHttpFullRequest().build();
+    }
+
+    private static RequestExecutionContext requestContext() {
+        return RequestExecutionContext.builder()
+                                      .executionContext(ClientExecutionAndRequestTimerTestUtils.executionContext(request()))
+                                      .originalRequest(NoopTestRequest.builder().build())
+                                      .build();
+    }
+}
@@ -29,7 +29,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.API_CALL_ATTEMPT_TIMEOUT;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.ASYNC_HTTP_CLIENT;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.HEDGING_POLICY;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_STRATEGY;
 import static software.amazon.awssdk.core.client.config.SdkClientOption.SCHEDULED_EXECUTOR_SERVICE;
+import static software.amazon.awssdk.core.internal.InternalCoreExecutionAttribute.RETRY_TOKEN;
 import static software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils.combinedAsyncResponseHandler;
 
 import java.time.Duration;
@@ -56,11 +59,20 @@ import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
 import software.amazon.awssdk.core.internal.http.TransformingAsyncResponseHandler;
 import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
 import software.amazon.awssdk.core.internal.util.AsyncResponseHandlerTestUtils;
+import software.amazon.awssdk.core.retry.HedgingPolicy;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.retries.ConcurrencyLimitingRetryStrategy;
+import software.amazon.awssdk.retries.DefaultRetryStrategy;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.RecordSuccessRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenResponse;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 import utils.ValidSdkObjects;
@@ -237,6 +249,106 @@ public class MakeAsyncHttpRequestStageTest {
         }
     }
 
+    @Test
+    public void hedgingPolicy_getRequestSlow_sendsHedgedRequestAndRefreshesRetryTokenOnCompletion() {
+        RetryStrategy retryStrategy = mock(RetryStrategy.class);
+        RetryToken initialToken = mock(RetryToken.class);
+        RetryToken refreshedToken = mock(RetryToken.class);
+        when(retryStrategy.refreshRetryToken(any(RefreshRetryTokenRequest.class)))
+            .thenReturn(RefreshRetryTokenResponse.create(refreshedToken, Duration.ZERO));
+        stage = new MakeAsyncHttpRequestStage<>(
+            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
+            hedgingClientDependencies(retryStrategy));
+        RequestExecutionContext context = requestContext();
+        context.executionAttributes().putAttribute(RETRY_TOKEN, initialToken);
+
+        CompletableFuture<?> executeFuture =
+            stage.execute(CompletableFuture.completedFuture(ValidSdkObjects.sdkHttpFullRequest().method(SdkHttpMethod.GET).build()),
+                          context);
+
+        ArgumentCaptor<Runnable> hedgeTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(timeoutExecutor).schedule(hedgeTask.capture(), eq(Duration.ofMillis(10).toNanos()), eq(TimeUnit.NANOSECONDS));
+        hedgeTask.getValue().run();
+
+        verify(sdkAsyncHttpClient, times(2)).execute(any());
+        verify(retryStrategy).refreshRetryToken(any(RefreshRetryTokenRequest.class));
+        assertThat(context.executionAttributes().getAttribute(RETRY_TOKEN)).isSameAs(initialToken);
+
+        executeFuture.completeExceptionally(new RuntimeException("timeout"));
+        assertThat(context.executionAttributes().getAttribute(RETRY_TOKEN)).isSameAs(refreshedToken);
+    }
+
+    @Test
+    public void hedgingPolicy_postRequestOfUnconfiguredOperation_doesNotHedge() {
+        stage = new MakeAsyncHttpRequestStage<>(
+            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
+            hedgingClientDependencies(mock(RetryStrategy.class)));
+
+        stage.execute(CompletableFuture.completedFuture(ValidSdkObjects.sdkHttpFullRequest().method(SdkHttpMethod.POST).build()),
+                      requestContext());
+
+        verify(timeoutExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        verify(sdkAsyncHttpClient, times(1)).execute(any());
+    }
+
+    @Test
+    public void hedgingPolicy_concurrencyLimiterRefusesHedgedRequest_keepsPermitUntilRequestCompletes() {
+        ConcurrencyLimitingRetryStrategy retryStrategy = DefaultRetryStrategy.concurrencyLimitingStrategyBuilder()
+                                                                             .maxAttempts(1)
+                                                                             .build();
+        stage = new MakeAsyncHttpRequestStage<>(
+            combinedAsyncResponseHandler(AsyncResponseHandlerTestUtils.noOpResponseHandler(),
+                                         AsyncResponseHandlerTestUtils.noOpResponseHandler()),
+            hedgingClientDependencies(retryStrategy));
+        RequestExecutionContext context = requestContext();
+        RetryToken initialToken = retryStrategy.acquireInitialToken(AcquireInitialTokenRequest.create("GLOBAL")).token();
+        context.executionAttributes().putAttribute(RETRY_TOKEN, initialToken);
+
+        stage.execute(CompletableFuture.completedFuture(ValidSdkObjects.sdkHttpFullRequest().method(SdkHttpMethod.GET).build()),
+                      context);
+
+        ArgumentCaptor<Runnable> hedgeTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(timeoutExecutor).schedule(hedgeTask.capture(), eq(Duration.ofMillis(10).toNanos()), eq(TimeUnit.NANOSECONDS));
+        hedgeTask.getValue().run();
+
+        verify(sdkAsyncHttpClient, times(1)).execute(any());
+        assertThat(retryStrategy.limiterMetrics("GLOBAL").inFlight()).isEqualTo(1);
+        assertThat(context.executionAttributes().getAttribute(RETRY_TOKEN)).isSameAs(initialToken);
+
+        retryStrategy.recordSuccess(RecordSuccessRequest.create(initialToken));
+        assertThat(retryStrategy.limiterMetrics("GLOBAL").inFlight()).isZero();
+    }
+
+    @Test
+    public void hedgingPolicy_dependenciesRebuiltForRequest_keepLatenciesOfClient() {
+        HttpClientDependencies clientDependencies = hedgingClientDependencies(mock(RetryStrategy.class));
+        HttpClientDependencies requestDependencies = clientDependencies.toBuilder().build();
+        HttpClientDependencies otherClientDependencies = hedgingClientDependencies(mock(RetryStrategy.class));
+
+        assertThat(clientDependencies.hedgingLatencyTracker()).isNotNull();
+        assertThat(requestDependencies.hedgingLatencyTracker()).isSameAs(clientDependencies.hedgingLatencyTracker());
+        assertThat(otherClientDependencies.hedgingLatencyTracker()).isNotSameAs(clientDependencies.hedgingLatencyTracker());
+    }
+
+    private HttpClientDependencies hedgingClientDependencies(RetryStrategy retryStrategy) {
+        SdkClientConfiguration configuration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run)
+                                  .option(ASYNC_HTTP_CLIENT, sdkAsyncHttpClient)
+                                  .option(SCHEDULED_EXECUTOR_SERVICE, timeoutExecutor)
+                                  .option(RETRY_STRATEGY, retryStrategy)
+                                  .option(HEDGING_POLICY, HedgingPolicy.builder()
+                                                                       .delay(Duration.ofMillis(10))
+                                                                       .addOperation("GetItem")
+                                                                       .build())
+                                  .build();
+        return HttpClientDependencies.builder()
+                                     .clientConfiguration(configuration)
+                                     .build();
+    }
+
     private HttpClientDependencies clientDependencies(Duration timeout) {
         SdkClientConfiguration configuration = SdkClientConfiguration.builder()
                                                                      .option(SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR, Runnable::run)
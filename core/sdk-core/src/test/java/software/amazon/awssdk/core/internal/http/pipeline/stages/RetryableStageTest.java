@@ -0,0 +1,117 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.core.internal.http.pipeline.stages;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static software.amazon.awssdk.core.client.config.SdkClientOption.RETRY_STRATEGY;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.Response;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.http.NoopTestRequest;
+import software.amazon.awssdk.core.internal.http.HttpClientDependencies;
+import software.amazon.awssdk.core.internal.http.RequestExecutionContext;
+import software.amazon.awssdk.core.internal.http.pipeline.RequestPipeline;
+import software.amazon.awssdk.core.internal.http.timers.ClientExecutionAndRequestTimerTestUtils;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.retries.ConcurrencyLimitingRetryStrategy;
+import software.amazon.awssdk.retries.DefaultRetryStrategy;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import utils.ValidSdkObjects;
+
+class RetryableStageTest {
+    private static final String SCOPE = "GLOBAL";
+
+    private final ConcurrencyLimitingRetryStrategy retryStrategy =
+        DefaultRetryStrategy.concurrencyLimitingStrategyBuilder()
+                            .maxAttempts(3)
+                            .retryOnExceptionInstanceOf(SdkClientException.class)
+                            .backoffStrategy(BackoffStrategy.fixedDelayWithoutJitter(Duration.ofMinutes(1)))
+                            .build();
+
+    @Test
+    void execute_pipelineThrowsRuntimeException_releasesConcurrencyLimiterPermit() {
+        IllegalStateException exception = new IllegalStateException("interceptor failure");
+        RetryableStage<Object> stage = stage((request, context) -> {
+            throw exception;
+        });
+
+        assertThatThrownBy(() -> stage.execute(request(), requestContext())).isSameAs(exception);
+        assertThat(retryStrategy.limiterMetrics(SCOPE).inFlight()).isZero();
+    }
+
+    @Test
+    void execute_pipelineThrowsError_releasesConcurrencyLimiterPermit() {
+        Error error = new Error("fatal");
+        RetryableStage<Object> stage = stage((request, context) -> {
+            throw error;
+        });
+
+        assertThatThrownBy(() -> stage.execute(request(), requestContext())).isSameAs(error);
+        assertThat(retryStrategy.limiterMetrics(SCOPE).inFlight()).isZero();
+    }
+
+    @Test
+    void execute_interruptedDuringBackoff_releasesConcurrencyLimiterPermit() throws Exception {
+        CountDownLatch firstAttemptFailed = new CountDownLatch(1);
+        RetryableStage<Object> stage = stage((request, context) -> {
+            firstAttemptFailed.countDown();
+            throw new IOException("Connection reset");
+        });
+
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                stage.execute(request(), requestContext());
+                failure.complete(null);
+            } catch (Throwable t) {
+                failure.complete(t);
+            }
+        });
+        thread.start();
+        assertThat(firstAttemptFailed.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(retryStrategy.limiterMetrics(SCOPE).inFlight()).isEqualTo(1);
+        thread.interrupt();
+
+        assertThat(failure.get(5, TimeUnit.SECONDS)).isInstanceOf(InterruptedException.class);
+        assertThat(retryStrategy.limiterMetrics(SCOPE).inFlight()).isZero();
+    }
+
+    private RetryableStage<Object> stage(RequestPipeline<SdkHttpFullRequest, Response<Object>> requestPipeline) {
+        HttpClientDependencies dependencies =
+            HttpClientDependencies.builder()
+                                  .clientConfiguration(c -> c.option(RETRY_STRATEGY, retryStrategy))
+                                  .build();
+        return new RetryableStage<>(dependencies, requestPipeline);
+    }
+
+    private static SdkHttpFullRequest request() {
+        return ValidSdkObjects.sdkHttpFullRequest().build();
+    }
+
+    private static RequestExecutionContext requestContext() {
+        return RequestExecutionContext.builder()
+                                      .executionContext(ClientExecutionAndRequestTimerTestUtils.executionContext(request()))
+                                      .originalRequest(NoopTestRequest.builder().build())
+                                      .build();
+    }
+}
@@ -29,7 +29,7 @@ import java.io.InputStream;
 import java.util.Random;
 import org.junit.BeforeClass;
 import org.junit.Test;
-import software.amazon.awssdk.core.internal.compression.Compressor;
+import software.amazon.awssdk.core.compression.Compressor;
 import software.amazon.awssdk.core.internal.compression.GzipCompressor;
 
 public class AwsCompressionInputStreamTest {
@@ -28,12 +28,16 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.http.HttpResponseHandler;
 import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.http.SdkHttpFullResponse;
 import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.metrics.internal.ConcurrentMetricCollector;
+import software.amazon.awssdk.metrics.internal.DefaultMetricCollector;
 import software.amazon.awssdk.utils.Pair;
 
 public class MetricUtilsTest {
@@ -193,4 +197,25 @@ public class MetricUtilsTest {
         verify(mockCollector).reportMetric(CoreMetric.AWS_REQUEST_ID, amznRequestId);
         verify(mockCollector).reportMetric(CoreMetric.AWS_EXTENDED_REQUEST_ID, requestId2);
     }
+
+    @Test
+    public void createApiCallMetricCollector_defaultConfiguration_createsDefaultCollector() {
+        MetricCollector collector = MetricUtils.createApiCallMetricCollector(SdkClientConfiguration.builder().build());
+
+        assertThat(collector).isInstanceOf(DefaultMetricCollector.class);
+        assertThat(collector.name()).isEqualTo("ApiCall");
+    }
+
+    @Test
+    public void createApiCallMetricCollector_concurrentCollectorEnabled_createsConcurrentCollector() {
+        SdkClientConfiguration configuration =
+            SdkClientConfiguration.builder()
+                                  .option(SdkAdvancedClientOption.CONCURRENT_METRIC_COLLECTOR, true)
+                                  .build();
+
+        MetricCollector collector = MetricUtils.createApiCallMetricCollector(configuration);
+
+        assertThat(collector).isInstanceOf(ConcurrentMetricCollector.class);
+        assertThat(collector.name()).isEqualTo("ApiCall");
+    }
 }
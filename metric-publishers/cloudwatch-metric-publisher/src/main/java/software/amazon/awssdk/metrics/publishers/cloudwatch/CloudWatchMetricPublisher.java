@@ -60,6 +60,7 @@ import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
 import software.amazon.awssdk.services.cloudwatch.model.StatisticSet;
 import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * An implementation of {@link MetricPublisher} that aggregates and uploads metrics to Amazon CloudWatch on a periodic basis.
@@ -232,7 +233,8 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
                                                                resolveDimensions(builder),
                                                                resolveMetricCategories(builder),
                                                                resolveMetricLevel(builder),
-                                                               resolveDetailedMetrics(builder));
+                                                               resolveDetailedMetrics(builder),
+                                                               resolveDetailedMetricsRelativeError(builder));
         this.metricUploader = new MetricUploader(resolveClient(builder));
         this.maximumCallsPerUpload = resolveMaximumCallsPerUpload(builder);
 
@@ -261,6 +263,15 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         return builder.detailedMetrics == null ? DEFAULT_DETAILED_METRICS : new HashSet<>(builder.detailedMetrics);
     }
 
+    private Double resolveDetailedMetricsRelativeError(Builder builder) {
+        Double relativeError = builder.detailedMetricsRelativeError;
+        if (relativeError != null) {
+            Validate.isTrue(relativeError >= 0.0001 && relativeError < 1,
+                            "detailedMetricsRelativeError must be at least 0.0001 and less than 1, but was %s.", relativeError);
+        }
+        return relativeError;
+    }
+
     private Set<SdkMetric<String>> resolveDimensions(Builder builder) {
         return builder.dimensions == null ? DEFAULT_DIMENSIONS : new HashSet<>(builder.dimensions);
     }
@@ -395,6 +406,7 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
         private Collection<MetricCategory> metricCategories;
         private MetricLevel metricLevel;
         private Collection<SdkMetric<?>> detailedMetrics;
+        private Double detailedMetricsRelativeError;
 
         private Builder() {
         }
@@ -559,9 +571,9 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
          * <p><b>Warning:</b> When {@code detailedMetrics} are enabled, all unique metric values are stored in memory until they
          * can be published to CloudWatch. A high {@code uploadFrequency} with multiple {@code detailedMetrics} enabled can
          * quickly consume heap memory while the values wait to be published to CloudWatch. In memory constrained environments, it
-         * is recommended to minimize the number of {@code detailedMetrics} configured on the publisher, or to upload metric data
-         * more frequently. As with all performance and resource concerns, profiling in a production-like environment is
-         * encouraged.
+         * is recommended to minimize the number of {@code detailedMetrics} configured on the publisher, to upload metric data
+         * more frequently, or to bound the memory used by each metric with {@link #detailedMetricsRelativeError(Double)}. As
+         * with all performance and resource concerns, profiling in a production-like environment is encouraged.
          *
          * <p>In addition to additional heap memory usage, detailed metrics can result in more requests being sent to CloudWatch,
          * which can also introduce additional usage cost. The {@link #maximumCallsPerUpload(Integer)} acts as a safeguard against
@@ -580,6 +592,28 @@ public final class CloudWatchMetricPublisher implements MetricPublisher {
             return detailedMetrics(Arrays.asList(detailedMetrics));
         }
 
+        /**
+         * Configure the publisher to aggregate the values of the {@link #detailedMetrics(Collection)} in histograms, with the
+         * provided relative error, instead of storing every distinct value.
+         *
+         * <p>By default, every distinct value of a detailed metric is stored in memory and uploaded with its count. When a
+         * relative error is configured, each value is instead counted in a bucket of a histogram whose buckets grow
+         * logarithmically with the values, and the representative value of each bucket is uploaded with its count. The
+         * uploaded values are within the relative error of the values they represent, e.g. with a relative error of 0.01, a
+         * value of 250 milliseconds is uploaded as a value between 247.5 and 252.5 milliseconds.
+         *
+         * <p>The memory used for each metric and dimension pair is then bounded, no matter how many values are published. This
+         * is recommended for metrics with many distinct values, like {@code ApiCallDuration}. Smaller relative errors result in
+         * more buckets, and therefore more values uploaded to CloudWatch.
+         *
+         * <p>The relative error must be at least {@code 0.0001} and less than {@code 1}. A value of {@code 0.01} is a good
+         * starting point.
+         */
+        public Builder detailedMetricsRelativeError(Double detailedMetricsRelativeError) {
+            this.detailedMetricsRelativeError = detailedMetricsRelativeError;
+            return this;
+        }
+
         /**
          * Build a {@link CloudWatchMetricPublisher} using the configuration currently configured on this publisher.
          */
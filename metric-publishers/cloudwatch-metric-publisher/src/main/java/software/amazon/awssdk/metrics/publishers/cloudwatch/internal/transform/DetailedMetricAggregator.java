@@ -15,6 +15,7 @@
 
 package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -29,19 +30,36 @@ import software.amazon.awssdk.services.cloudwatch.model.StandardUnit;
 /**
  * An implementation of {@link MetricAggregator} that stores all values and counts for a given metric/dimension pair
  * until they can be added to a {@link MetricDatum}.
+ *
+ * <p>When a relative error is configured, the values are counted in a {@link LogHistogram} instead of being stored
+ * individually, so the memory used by the aggregator is bounded no matter how many distinct values are added.
  */
 @SdkInternalApi
 class DetailedMetricAggregator implements MetricAggregator {
+    /**
+     * The maximum number of buckets of each sign in a {@link LogHistogram}. With a relative error of 1%, this covers values
+     * spanning more than 8 orders of magnitude before the buckets of the smallest values are merged.
+     */
+    private static final int MAX_HISTOGRAM_BUCKETS = 1024;
+
     private final SdkMetric<?> metric;
     private final List<Dimension> dimensions;
     private final StandardUnit unit;
 
-    private final Map<Double, DetailedMetrics> metricDetails = new HashMap<>();
+    private final Map<Double, DetailedMetrics> metricDetails;
+    private final LogHistogram histogram;
 
-    DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit) {
+    DetailedMetricAggregator(MetricAggregatorKey key, StandardUnit unit, Double relativeError) {
         this.metric = key.metric();
         this.dimensions = key.dimensions();
         this.unit = unit;
+        if (relativeError == null) {
+            this.metricDetails = new HashMap<>();
+            this.histogram = null;
+        } else {
+            this.metricDetails = null;
+            this.histogram = new LogHistogram(relativeError, MAX_HISTOGRAM_BUCKETS);
+        }
     }
 
     @Override
@@ -56,6 +74,10 @@ class DetailedMetricAggregator implements MetricAggregator {
 
     @Override
     public void addMetricValue(double value) {
+        if (histogram != null) {
+            histogram.add(value);
+            return;
+        }
         metricDetails.computeIfAbsent(value, v -> new DetailedMetrics(value)).metricCount++;
     }
 
@@ -65,6 +87,11 @@ class DetailedMetricAggregator implements MetricAggregator {
     }
 
     public Collection<DetailedMetrics> detailedMetrics() {
+        if (histogram != null) {
+            List<DetailedMetrics> buckets = new ArrayList<>();
+            histogram.forEachBucket((value, count) -> buckets.add(new DetailedMetrics(value, count)));
+            return Collections.unmodifiableList(buckets);
+        }
         return Collections.unmodifiableCollection(metricDetails.values());
     }
 
@@ -76,6 +103,11 @@ class DetailedMetricAggregator implements MetricAggregator {
             this.metricValue = metricValue;
         }
 
+        private DetailedMetrics(double metricValue, int metricCount) {
+            this.metricValue = metricValue;
+            this.metricCount = metricCount;
+        }
+
         public double metricValue() {
             return metricValue;
         }
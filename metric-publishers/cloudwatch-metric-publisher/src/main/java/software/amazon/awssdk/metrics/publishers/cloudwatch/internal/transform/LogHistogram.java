@@ -0,0 +1,180 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A histogram of metric values, with buckets whose width grows logarithmically with the value. Each value is counted in a
+ * bucket whose representative value is within the configured relative error of the value, so only the count of each bucket
+ * is stored, no matter how many distinct values are added.
+ *
+ * <p>A value {@code v > 0} is counted in the bucket {@code i = ceil(log(v) / log(gamma))}, with
+ * {@code gamma = (1 + relativeError) / (1 - relativeError)}. The bucket holds the values in {@code (gamma^(i-1), gamma^i]},
+ * which are all within {@code relativeError} of its representative value {@code 2 * gamma^i / (gamma + 1)}. Negative values
+ * are counted the same way in a separate set of buckets, and zeros in a dedicated counter.
+ *
+ * <p>The number of buckets of each sign is bounded by {@code maxBuckets}. When a value would need more, the buckets of the
+ * smallest magnitudes are merged, which only loses precision for the smallest values.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class LogHistogram {
+    /**
+     * The smallest supported relative error. Smaller errors could need bucket indexes that do not fit in an int.
+     */
+    static final double MIN_RELATIVE_ERROR = 0.0001;
+
+    private static final int INITIAL_BUCKETS = 32;
+
+    private final double logGamma;
+    private final double representativeFactor;
+    private final Buckets positive;
+    private final Buckets negative;
+    private int zeroCount;
+
+    LogHistogram(double relativeError, int maxBuckets) {
+        Validate.isTrue(relativeError >= MIN_RELATIVE_ERROR && relativeError < 1,
+                        "The relative error must be at least %s and less than 1, but was %s.",
+                        MIN_RELATIVE_ERROR, relativeError);
+        Validate.isPositive(maxBuckets, "maxBuckets");
+        double gamma = (1 + relativeError) / (1 - relativeError);
+        this.logGamma = Math.log(gamma);
+        this.representativeFactor = 2 / (gamma + 1);
+        this.positive = new Buckets(maxBuckets);
+        this.negative = new Buckets(maxBuckets);
+    }
+
+    /**
+     * Count a value in this histogram. The value must be finite.
+     */
+    void add(double value) {
+        if (value > 0) {
+            positive.add(bucketIndex(value));
+        } else if (value < 0) {
+            negative.add(bucketIndex(-value));
+        } else {
+            zeroCount++;
+        }
+    }
+
+    /**
+     * Invoke the consumer with the representative value and the count of each non-empty bucket, in ascending order of values.
+     */
+    void forEachBucket(BucketConsumer consumer) {
+        for (int i = negative.maxIndex; i >= negative.minIndex; i--) {
+            int count = negative.count(i);
+            if (count > 0) {
+                consumer.accept(-representativeValue(i), count);
+            }
+        }
+        if (zeroCount > 0) {
+            consumer.accept(0, zeroCount);
+        }
+        for (int i = positive.minIndex; i <= positive.maxIndex; i++) {
+            int count = positive.count(i);
+            if (count > 0) {
+                consumer.accept(representativeValue(i), count);
+            }
+        }
+    }
+
+    private int bucketIndex(double magnitude) {
+        return (int) Math.ceil(Math.log(magnitude) / logGamma);
+    }
+
+    private double representativeValue(int bucketIndex) {
+        return Math.exp(bucketIndex * logGamma) * representativeFactor;
+    }
+
+    @FunctionalInterface
+    interface BucketConsumer {
+        void accept(double value, int count);
+    }
+
+    /**
+     * The counts of a contiguous range of bucket indexes, stored in an array that grows up to {@code maxBuckets} entries.
+     */
+    private static final class Buckets {
+        private final int maxBuckets;
+        private int[] counts;
+
+        /**
+         * The bucket index of {@code counts[0]}.
+         */
+        private int offset;
+        private int minIndex = Integer.MAX_VALUE;
+        private int maxIndex = Integer.MIN_VALUE;
+
+        private Buckets(int maxBuckets) {
+            this.maxBuckets = maxBuckets;
+        }
+
+        private void add(int index) {
+            if (index < minIndex || index > maxIndex) {
+                index = extendRange(index);
+            }
+            counts[index - offset]++;
+        }
+
+        private int count(int index) {
+            return counts[index - offset];
+        }
+
+        /**
+         * Extend the range of buckets to include the provided index, merging the smallest buckets if the range would exceed
+         * {@link #maxBuckets}.
+         *
+         * @return The index of the bucket the value should be counted in.
+         */
+        private int extendRange(int index) {
+            int newMinIndex = Math.min(minIndex, index);
+            int newMaxIndex = Math.max(maxIndex, index);
+            if (newMaxIndex - newMinIndex >= maxBuckets) {
+                newMinIndex = newMaxIndex - maxBuckets + 1;
+            }
+
+            if (counts == null
+                || newMinIndex < offset
+                || newMaxIndex >= offset + counts.length
+                || newMinIndex > minIndex) {
+                relocate(newMinIndex, newMaxIndex);
+            }
+
+            minIndex = newMinIndex;
+            maxIndex = newMaxIndex;
+            return Math.max(index, newMinIndex);
+        }
+
+        private void relocate(int newMinIndex, int newMaxIndex) {
+            int range = newMaxIndex - newMinIndex + 1;
+            int length = Math.min(maxBuckets, Math.max(INITIAL_BUCKETS, range * 2));
+            int newOffset = newMinIndex - (length - range) / 2;
+            int[] newCounts = new int[length];
+
+            if (counts != null) {
+                for (int i = minIndex; i <= maxIndex; i++) {
+                    newCounts[Math.max(i, newMinIndex) - newOffset] += counts[i - offset];
+                }
+            }
+
+            counts = newCounts;
+            offset = newOffset;
+        }
+    }
+}
@@ -82,8 +82,22 @@ public class MetricCollectionAggregator {
                                       Set<MetricCategory> metricCategories,
                                       MetricLevel metricLevel,
                                       Set<SdkMetric<?>> detailedMetrics) {
+        this(namespace, dimensions, metricCategories, metricLevel, detailedMetrics, null);
+    }
+
+    /**
+     * @param detailedMetricsRelativeError The relative error of the histograms that the values of the detailed metrics are
+     * counted in, or null to keep every distinct value.
+     */
+    public MetricCollectionAggregator(String namespace,
+                                      Set<SdkMetric<String>> dimensions,
+                                      Set<MetricCategory> metricCategories,
+                                      MetricLevel metricLevel,
+                                      Set<SdkMetric<?>> detailedMetrics,
+                                      Double detailedMetricsRelativeError) {
         this.namespace = namespace;
-        this.timeBucketedMetrics = new TimeBucketedMetrics(dimensions, metricCategories, metricLevel, detailedMetrics);
+        this.timeBucketedMetrics = new TimeBucketedMetrics(dimensions, metricCategories, metricLevel, detailedMetrics,
+                                                           detailedMetricsRelativeError);
     }
 
     /**
@@ -126,7 +140,7 @@ public class MetricCollectionAggregator {
                             valuesInRequestCounter.reset();
                         }
 
-                        MetricDatum data = detailedMetricDatum(timeBucket, detailedAggregator,
+                        MetricDatum data = detailedMetricDatum(timeBucket, detailedAggregator, detailedMetrics,
                                                                startIndex, MAX_VALUES_PER_REQUEST - valuesInRequestCounter.get());
                         int valuesAdded = data.values().size();
                         startIndex += valuesAdded;
@@ -148,19 +162,19 @@ public class MetricCollectionAggregator {
 
     private MetricDatum detailedMetricDatum(Instant timeBucket,
                                             DetailedMetricAggregator metric,
+                                            Collection<DetailedMetrics> detailedMetrics,
                                             int metricStartIndex,
                                             int maxElements) {
         List<Double> values = new ArrayList<>();
         List<Double> counts = new ArrayList<>();
 
-        Stream<DetailedMetrics> boundedMetrics = metric.detailedMetrics()
-                                                       .stream()
-                                                       .skip(metricStartIndex)
-                                                       .limit(maxElements);
+        Stream<DetailedMetrics> boundedMetrics = detailedMetrics.stream()
+                                                .skip(metricStartIndex)
+                                                .limit(maxElements);
 
-        boundedMetrics.forEach(detailedMetrics -> {
-            values.add(MetricValueNormalizer.normalize(detailedMetrics.metricValue()));
-            counts.add((double) detailedMetrics.metricCount());
+        boundedMetrics.forEach(detailedMetric -> {
+            values.add(MetricValueNormalizer.normalize(detailedMetric.metricValue()));
+            counts.add((double) detailedMetric.metricCount());
         });
 
         return MetricDatum.builder()
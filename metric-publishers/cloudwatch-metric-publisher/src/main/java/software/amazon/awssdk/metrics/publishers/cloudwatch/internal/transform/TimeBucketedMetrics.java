@@ -80,14 +80,20 @@ class TimeBucketedMetrics {
      */
     private final boolean metricCategoriesContainsAll;
 
-
+    /**
+     * The relative error of the histograms used by the {@link DetailedMetricAggregator}s, or null if they should keep every
+     * distinct value.
+     */
+    private final Double detailedMetricsRelativeError;
 
     TimeBucketedMetrics(Set<SdkMetric<String>> dimensions,
                         Set<MetricCategory> metricCategories,
                         MetricLevel metricLevel,
-                        Set<SdkMetric<?>> detailedMetrics) {
+                        Set<SdkMetric<?>> detailedMetrics,
+                        Double detailedMetricsRelativeError) {
         this.dimensions = dimensions;
         this.detailedMetrics = detailedMetrics;
+        this.detailedMetricsRelativeError = detailedMetricsRelativeError;
         this.metricCategories = metricCategories;
         this.metricLevel = metricLevel;
         this.metricCategoriesContainsAll = metricCategories.contains(MetricCategory.ALL);
@@ -171,7 +177,7 @@ class TimeBucketedMetrics {
         SdkMetric<?> metric = aggregatorKey.metric();
         StandardUnit metricUnit = unitFor(metric);
         if (detailedMetrics.contains(metric)) {
-            return new DetailedMetricAggregator(aggregatorKey, metricUnit);
+            return new DetailedMetricAggregator(aggregatorKey, metricUnit, detailedMetricsRelativeError);
         } else {
             return new SummaryMetricAggregator(aggregatorKey, metricUnit);
         }
@@ -16,6 +16,7 @@
 package software.amazon.awssdk.metrics.publishers.cloudwatch;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 
@@ -268,6 +269,32 @@ public class CloudWatchMetricPublisherTest {
         assertThat(availableConcurrency.statisticValues()).isNull();
     }
 
+    @Test
+    public void detailedMetricsRelativeErrorSettingIsHonored() {
+        try (CloudWatchMetricPublisher publisher = publisherBuilder.detailedMetrics(HttpMetric.AVAILABLE_CONCURRENCY)
+                                                                   .detailedMetricsRelativeError(0.1)
+                                                                   .build()) {
+            for (int i = 100; i < 110; ++i) {
+                MetricCollector collector = newCollector();
+                collector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, i);
+                publisher.publish(new FixedTimeMetricCollection(collector.collect()));
+            }
+        }
+
+        MetricDatum availableConcurrency = getDatum(getPutMetricCall(), HttpMetric.AVAILABLE_CONCURRENCY);
+        assertThat(availableConcurrency.values()).hasSizeLessThan(10);
+        assertThat(availableConcurrency.counts().stream().mapToDouble(Double::doubleValue).sum()).isEqualTo(10.0);
+        assertThat(availableConcurrency.statisticValues()).isNull();
+    }
+
+    @Test
+    public void invalidDetailedMetricsRelativeErrorIsRejected() {
+        assertThatThrownBy(() -> publisherBuilder.detailedMetricsRelativeError(0.0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> publisherBuilder.detailedMetricsRelativeError(1.0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
     private MetricDatum getDatum(PutMetricDataRequest call, SdkMetric<?> metric) {
         return call.metricData().stream().filter(m -> m.metricName().equals(metric.name())).findAny().get();
     }
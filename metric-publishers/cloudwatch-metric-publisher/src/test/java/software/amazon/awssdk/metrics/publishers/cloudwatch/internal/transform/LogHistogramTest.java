@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class LogHistogramTest {
+    @Test
+    public void valuesAreWithinRelativeErrorOfTheirBucket() {
+        double relativeError = 0.01;
+        Random random = new Random(42);
+        for (int i = 0; i < 1_000; i++) {
+            double value = Math.exp(random.nextDouble() * 40 - 20);
+            LogHistogram histogram = new LogHistogram(relativeError, 1024);
+            histogram.add(value);
+
+            List<Double> values = values(histogram);
+            assertThat(values).hasSize(1);
+            assertThat(Math.abs(values.get(0) - value) / value).isLessThanOrEqualTo(relativeError + 1e-9);
+        }
+    }
+
+    @Test
+    public void equalValuesShareABucket() {
+        LogHistogram histogram = new LogHistogram(0.01, 1024);
+        for (int i = 0; i < 1_000; i++) {
+            histogram.add(250);
+        }
+
+        List<Integer> counts = new ArrayList<>();
+        histogram.forEachBucket((value, count) -> counts.add(count));
+        assertThat(counts).containsExactly(1_000);
+    }
+
+    @Test
+    public void negativeAndZeroValuesAreCountedInAscendingOrder() {
+        LogHistogram histogram = new LogHistogram(0.01, 1024);
+        histogram.add(100);
+        histogram.add(0);
+        histogram.add(-1);
+        histogram.add(-100);
+        histogram.add(0);
+
+        List<Double> values = new ArrayList<>();
+        List<Integer> counts = new ArrayList<>();
+        histogram.forEachBucket((value, count) -> {
+            values.add(value);
+            counts.add(count);
+        });
+        assertThat(values).hasSize(4).isSorted();
+        assertThat(values.get(0)).isBetween(-101.0, -99.0);
+        assertThat(values.get(1)).isBetween(-1.01, -0.99);
+        assertThat(values.get(2)).isZero();
+        assertThat(values.get(3)).isBetween(99.0, 101.0);
+        assertThat(counts).containsExactly(1, 1, 2, 1);
+    }
+
+    @Test
+    public void bucketsOfSmallestValuesAreMergedWhenMaxBucketsIsExceeded() {
+        LogHistogram histogram = new LogHistogram(0.01, 16);
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.add(i);
+        }
+
+        List<Double> values = new ArrayList<>();
+        int[] totalCount = {0};
+        histogram.forEachBucket((value, count) -> {
+            values.add(value);
+            totalCount[0] += count;
+        });
+        assertThat(values).hasSizeLessThanOrEqualTo(16).isSorted();
+        assertThat(totalCount[0]).isEqualTo(1_000);
+        assertThat(values.get(values.size() - 1)).isBetween(990.0, 1010.0);
+    }
+
+    @Test
+    public void bucketsAreMergedWhenSmallerValuesAreAddedLater() {
+        LogHistogram histogram = new LogHistogram(0.01, 16);
+        for (int i = 1_000; i >= 1; i--) {
+            histogram.add(i);
+        }
+
+        List<Double> values = new ArrayList<>();
+        int[] totalCount = {0};
+        histogram.forEachBucket((value, count) -> {
+            values.add(value);
+            totalCount[0] += count;
+        });
+        assertThat(values).hasSizeLessThanOrEqualTo(16).isSorted();
+        assertThat(totalCount[0]).isEqualTo(1_000);
+    }
+
+    @Test
+    public void invalidRelativeErrorIsRejected() {
+        assertThatThrownBy(() -> new LogHistogram(0, 1024)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LogHistogram(1, 1024)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Double> values(LogHistogram histogram) {
+        List<Double> values = new ArrayList<>();
+        histogram.forEachBucket((value, count) -> values.add(value));
+        return values;
+    }
+}
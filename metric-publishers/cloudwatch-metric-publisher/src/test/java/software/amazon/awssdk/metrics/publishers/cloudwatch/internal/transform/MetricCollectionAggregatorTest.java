@@ -17,6 +17,7 @@ package software.amazon.awssdk.metrics.publishers.cloudwatch.internal.transform;
 
 import static java.time.temporal.ChronoUnit.HOURS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.withinPercentage;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.time.Duration;
@@ -36,6 +37,7 @@ import software.amazon.awssdk.metrics.MetricCollector;
 import software.amazon.awssdk.metrics.MetricLevel;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.metrics.publishers.cloudwatch.FixedTimeMetricCollection;
+import software.amazon.awssdk.services.cloudwatch.model.MetricDatum;
 import software.amazon.awssdk.services.cloudwatch.model.PutMetricDataRequest;
 import software.amazon.awssdk.services.cloudwatch.model.StatisticSet;
 
@@ -336,6 +338,34 @@ public class MetricCollectionAggregatorTest {
         });
     }
 
+    @Test
+    public void detailedMetricsWithRelativeErrorAreCountedInBoundedBuckets() {
+        MetricCollectionAggregator aggregator = new MetricCollectionAggregator(DEFAULT_NAMESPACE,
+                                                                               DEFAULT_DIMENSIONS,
+                                                                               DEFAULT_CATEGORIES,
+                                                                               DEFAULT_METRIC_LEVEL,
+                                                                               Collections.singleton(HttpMetric.MAX_CONCURRENCY),
+                                                                               0.01);
+        MetricCollector collector = collector();
+        for (int i = 1; i <= 10_000; i++) {
+            collector.reportMetric(HttpMetric.MAX_CONCURRENCY, i);
+        }
+        aggregator.addCollection(collectToFixedTime(collector));
+
+        List<MetricDatum> metricData = aggregator.getRequests()
+                                                 .stream()
+                                                 .flatMap(r -> r.metricData().stream())
+                                                 .collect(Collectors.toList());
+        List<Double> values = metricData.stream().flatMap(d -> d.values().stream()).collect(Collectors.toList());
+        double totalCount = metricData.stream().flatMap(d -> d.counts().stream()).mapToDouble(Double::doubleValue).sum();
+
+        assertThat(totalCount).isEqualTo(10_000.0);
+        assertThat(values).hasSizeLessThan(500);
+        assertThat(values).isSorted();
+        assertThat(values.get(0)).isCloseTo(1.0, withinPercentage(1));
+        assertThat(values.get(values.size() - 1)).isCloseTo(10_000.0, withinPercentage(1));
+    }
+
     @Test
     public void metricsFromOtherCategoriesAreIgnored() {
         MetricCollectionAggregator aggregator = defaultAggregator();
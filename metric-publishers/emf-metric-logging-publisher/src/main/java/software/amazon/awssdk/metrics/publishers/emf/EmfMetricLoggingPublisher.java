@@ -16,10 +16,14 @@
 package software.amazon.awssdk.metrics.publishers.emf;
 
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import software.amazon.awssdk.annotations.Immutable;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
@@ -30,8 +34,11 @@ import software.amazon.awssdk.metrics.MetricLevel;
 import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.metrics.SdkMetric;
 import software.amazon.awssdk.metrics.publishers.emf.internal.EmfMetricConfiguration;
+import software.amazon.awssdk.metrics.publishers.emf.internal.MetricEmfAggregator;
 import software.amazon.awssdk.metrics.publishers.emf.internal.MetricEmfConverter;
 import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
 
 /**
  * A metric publisher implementation that converts metrics into CloudWatch Embedded Metric Format (EMF).
@@ -52,6 +59,13 @@ import software.amazon.awssdk.utils.Logger;
  * monitoring and alerting.
  * </p>
  *
+ * <p>
+ * By default, one log entry is written for each published metric collection. When an
+ * {@link Builder#aggregationInterval(Duration)} is configured, the metrics are instead aggregated by dimension values and
+ * written periodically, as arrays of values and counts, which reduces the number of log entries for clients making many
+ * calls.
+ * </p>
+ *
  * @snippet
  * // Create a EmfMetricLoggingPublisher using a custom namespace.
  * MetricPublisher emfMetricLoggingPublisher = EmfMetricLoggingPublisher.builder()
@@ -74,6 +88,15 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
     private static final Logger logger = Logger.loggerFor(EmfMetricLoggingPublisher.class);
     private final MetricEmfConverter metricConverter;
 
+    /**
+     * The aggregator of the published metrics, or null if they are written as they are published.
+     */
+    private final MetricEmfAggregator metricAggregator;
+
+    /**
+     * The executor that periodically writes the aggregated metrics, or null if they are written as they are published.
+     */
+    private final ScheduledExecutorService flushExecutor;
 
     private EmfMetricLoggingPublisher(Builder builder) {
         EmfMetricConfiguration config = new EmfMetricConfiguration.Builder()
@@ -85,6 +108,18 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
             .build();
 
         this.metricConverter = new MetricEmfConverter(config);
+
+        if (builder.aggregationInterval == null) {
+            this.metricAggregator = null;
+            this.flushExecutor = null;
+        } else {
+            long flushFrequencyInMillis = Validate.isPositive(builder.aggregationInterval, "aggregationInterval").toMillis();
+            this.metricAggregator = new MetricEmfAggregator(metricConverter);
+            this.flushExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().threadNamePrefix("emf-metric-logging-publisher").daemonThreads(true).build());
+            this.flushExecutor.scheduleAtFixedRate(this::flushAggregatedMetrics,
+                                                   flushFrequencyInMillis, flushFrequencyInMillis, TimeUnit.MILLISECONDS);
+        }
     }
 
 
@@ -100,21 +135,40 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
             return;
         }
         try {
-            List<String> emfStrings = metricConverter.convertMetricCollectionToEmf(metricCollection);
-            for (String emfString : emfStrings) {
-                logger.info(() -> emfString);
-            }
+            List<String> emfStrings = metricAggregator != null
+                                      ? metricAggregator.addMetricCollection(metricCollection)
+                                      : metricConverter.convertMetricCollectionToEmf(metricCollection);
+            logEmfStrings(emfStrings);
         } catch (Exception e) {
             logger.error(() -> "Failed to log metrics in EMF format", e);
         }
     }
 
     /**
-     * Closes this metric publisher. This implementation is empty as the EMF metric logging publisher
-     * does not maintain any resources that require explicit cleanup.
+     * Closes this metric publisher. When an {@link Builder#aggregationInterval(Duration)} is configured, this stops the
+     * periodic flush and writes the metrics aggregated since the last one. Otherwise, this implementation is empty as the
+     * EMF metric logging publisher does not maintain any resources that require explicit cleanup.
      */
     @Override
     public void close() {
+        if (flushExecutor != null) {
+            flushExecutor.shutdown();
+            flushAggregatedMetrics();
+        }
+    }
+
+    private void flushAggregatedMetrics() {
+        try {
+            logEmfStrings(metricAggregator.flush());
+        } catch (Exception e) {
+            logger.error(() -> "Failed to log aggregated metrics in EMF format", e);
+        }
+    }
+
+    private void logEmfStrings(List<String> emfStrings) {
+        for (String emfString : emfStrings) {
+            logger.info(() -> emfString);
+        }
     }
 
     public static final class Builder {
@@ -123,6 +177,7 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
         private Collection<SdkMetric<String>> dimensions;
         private Collection<MetricCategory> metricCategories;
         private MetricLevel metricLevel;
+        private Duration aggregationInterval;
 
         private Builder() {
         }
@@ -217,6 +272,23 @@ public final class EmfMetricLoggingPublisher implements MetricPublisher {
         }
 
 
+        /**
+         * Configure the publisher to aggregate metrics over the provided interval, instead of writing one log entry for each
+         * published {@link MetricCollection}.
+         *
+         * <p>If this is not specified, each published metric collection is written as it is published.
+         *
+         * <p>When this is specified, the metrics of the collections with the same dimension values are aggregated, and written
+         * at the end of each interval as one log entry, with the distinct values of each metric and their counts in the
+         * {@code Values} and {@code Counts} arrays. EMF allows up to 100 values in these arrays, so the metrics of a dimension
+         * set are written early when one of them has 100 distinct values. The metrics aggregated since the last interval are
+         * written when the publisher is closed.
+         */
+        public Builder aggregationInterval(Duration aggregationInterval) {
+            this.aggregationInterval = aggregationInterval;
+            return this;
+        }
+
         /**
          * Build a {@link EmfMetricLoggingPublisher} using the configuration currently configured on this publisher.
          */
@@ -0,0 +1,290 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricRecord;
+import software.amazon.awssdk.metrics.SdkMetric;
+import software.amazon.awssdk.protocols.jsoncore.JsonWriter;
+
+/**
+ * Aggregates {@link MetricCollection}s by the values of their dimensions, so that the metrics of many collections can be
+ * written in the same EMF string.
+ * <p>
+ * The values of each metric are stored as distinct values and their counts, and written as the {@code Values} and
+ * {@code Counts} arrays of an EMF metric, with the {@code Max}, {@code Min}, {@code Count} and {@code Sum} of all values.
+ * EMF allows up to 100 values in an array, so when a metric already has 100 distinct values, the metrics of its dimension
+ * set are written by {@link #addMetricCollection(MetricCollection)} before the new values are added. This bounds the memory
+ * used for each dimension set, no matter how many collections are added between two calls to {@link #flush()}.
+ * <p>
+ * Example Output
+ * @snippet
+ * {
+ *   "_aws": {
+ *     "Timestamp": 1672963200,
+ *     "LogGroupName": "my_log_group_name",
+ *     "CloudWatchMetrics": [{
+ *       "Namespace": "AwsSdk/JavaSdk2",
+ *       "Dimensions": [["OperationName", "ServiceId"]],
+ *       "Metrics": [{
+ *         "Name": "ApiCallDuration",
+ *         "Unit": "Milliseconds"
+ *       }]
+ *     }]
+ *   },
+ *   "OperationName": "GetItem",
+ *   "ServiceId": "DynamoDB",
+ *   "ApiCallDuration": {"Values": [12.0, 15.0], "Counts": [3, 1], "Max": 15.0, "Min": 12.0, "Count": 4, "Sum": 51.0}
+ * }
+ *
+ * @see MetricEmfConverter
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class MetricEmfAggregator {
+    /**
+     * EMF allows up to 100 elements in an array
+     */
+    private static final int MAX_VALUES_PER_METRIC = 100;
+
+    /**
+     * EMF allows up to 100 MetricDefinition objects in one emf string
+     */
+    private static final int MAX_METRIC_NUM = 100;
+
+    private final MetricEmfConverter converter;
+    private final Map<SortedMap<String, String>, DimensionSet> dimensionSets = new ConcurrentHashMap<>();
+
+    public MetricEmfAggregator(MetricEmfConverter converter) {
+        this.converter = converter;
+    }
+
+    /**
+     * Add the metrics of a collection to the aggregated metrics of its dimension set.
+     *
+     * @return The EMF strings of the metrics that had to be written to make room for the new values. This is usually empty.
+     */
+    public List<String> addMetricCollection(MetricCollection metricCollection) {
+        SortedMap<String, String> dimensions = new TreeMap<>();
+        List<SdkMetric<?>> metrics = new ArrayList<>();
+        List<Double> values = new ArrayList<>();
+        collectMetrics(metricCollection, dimensions, metrics, values);
+
+        while (true) {
+            DimensionSet dimensionSet = dimensionSets.computeIfAbsent(dimensions, DimensionSet::new);
+            synchronized (dimensionSet) {
+                if (dimensionSet.removed) {
+                    continue;
+                }
+
+                List<String> emfStrings = Collections.emptyList();
+                for (int i = 0; i < metrics.size(); i++) {
+                    if (!dimensionSet.add(metrics.get(i), values.get(i))) {
+                        if (emfStrings.isEmpty()) {
+                            emfStrings = new ArrayList<>();
+                        }
+                        emfStrings.addAll(createEmfStrings(dimensionSet));
+                        dimensionSet.metrics.clear();
+                        dimensionSet.add(metrics.get(i), values.get(i));
+                    }
+                }
+                return emfStrings;
+            }
+        }
+    }
+
+    /**
+     * Write the aggregated metrics of all dimension sets, and reset them. Dimension sets that did not have any metrics since
+     * the previous flush are removed.
+     *
+     * @return The EMF strings of the aggregated metrics.
+     */
+    public List<String> flush() {
+        List<String> emfStrings = new ArrayList<>();
+        for (DimensionSet dimensionSet : dimensionSets.values()) {
+            synchronized (dimensionSet) {
+                if (dimensionSet.metrics.isEmpty()) {
+                    dimensionSet.removed = true;
+                    dimensionSets.remove(dimensionSet.dimensions, dimensionSet);
+                } else {
+                    emfStrings.addAll(createEmfStrings(dimensionSet));
+                    dimensionSet.metrics.clear();
+                }
+            }
+        }
+        return emfStrings;
+    }
+
+    private void collectMetrics(MetricCollection metricCollection, Map<String, String> dimensions,
+                                List<SdkMetric<?>> metrics, List<Double> values) {
+        for (MetricRecord<?> metricRecord : metricCollection) {
+            SdkMetric<?> metric = metricRecord.metric();
+            if (converter.isDimension(metric)) {
+                if (metricRecord.value() instanceof String) {
+                    dimensions.put(metric.name(), (String) metricRecord.value());
+                }
+            } else if (converter.shouldReport(metricRecord) && converter.isNumericMetric(metric)) {
+                Double value = converter.numericValue(metricRecord);
+                if (value != null) {
+                    metrics.add(metric);
+                    values.add(value);
+                }
+            }
+        }
+        metricCollection.children().forEach(child -> collectMetrics(child, dimensions, metrics, values));
+    }
+
+    private List<String> createEmfStrings(DimensionSet dimensionSet) {
+        List<String> emfStrings = new ArrayList<>();
+        Map<SdkMetric<?>, MetricValues> currentMetricBatch = new LinkedHashMap<>();
+
+        for (Map.Entry<SdkMetric<?>, MetricValues> entry : dimensionSet.metrics.entrySet()) {
+            if (currentMetricBatch.size() == MAX_METRIC_NUM) {
+                emfStrings.add(createEmfString(dimensionSet.dimensions, currentMetricBatch));
+                currentMetricBatch = new LinkedHashMap<>();
+            }
+            currentMetricBatch.put(entry.getKey(), entry.getValue());
+        }
+
+        emfStrings.add(createEmfString(dimensionSet.dimensions, currentMetricBatch));
+        return emfStrings;
+    }
+
+    private String createEmfString(SortedMap<String, String> dimensions, Map<SdkMetric<?>, MetricValues> metrics) {
+        JsonWriter jsonWriter = JsonWriter.create();
+        jsonWriter.writeStartObject();
+
+        converter.writeAwsObject(jsonWriter, metrics.keySet(), dimensions.keySet());
+
+        dimensions.forEach((name, value) -> {
+            jsonWriter.writeFieldName(name);
+            jsonWriter.writeValue(value);
+        });
+
+        metrics.forEach((metric, metricValues) -> {
+            jsonWriter.writeFieldName(metric.name());
+            metricValues.write(jsonWriter);
+        });
+
+        jsonWriter.writeEndObject();
+        return new String(jsonWriter.getBytes(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The aggregated metrics of the collections with the same dimension values.
+     */
+    private static final class DimensionSet {
+        private final SortedMap<String, String> dimensions;
+        private final Map<SdkMetric<?>, MetricValues> metrics = new LinkedHashMap<>();
+
+        /**
+         * Whether this dimension set was removed from {@link #dimensionSets} by {@link #flush()}, in which case metrics must
+         * be added to a new dimension set instead.
+         */
+        private boolean removed;
+
+        private DimensionSet(SortedMap<String, String> dimensions) {
+            this.dimensions = dimensions;
+        }
+
+        /**
+         * @return False if the metric already has {@link #MAX_VALUES_PER_METRIC} distinct values, none equal to the value.
+         */
+        private boolean add(SdkMetric<?> metric, double value) {
+            return metrics.computeIfAbsent(metric, m -> new MetricValues()).add(value);
+        }
+    }
+
+    /**
+     * The distinct values of a metric and their counts, in primitive arrays bounded by {@link #MAX_VALUES_PER_METRIC}.
+     */
+    private static final class MetricValues {
+        private final double[] values = new double[MAX_VALUES_PER_METRIC];
+        private final int[] counts = new int[MAX_VALUES_PER_METRIC];
+        private int size;
+        private long count;
+        private double sum;
+        private double min = Double.POSITIVE_INFINITY;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        private boolean add(double value) {
+            int index = indexOf(value);
+            if (index < 0) {
+                if (size == MAX_VALUES_PER_METRIC) {
+                    return false;
+                }
+                index = size++;
+                values[index] = value;
+            }
+
+            counts[index]++;
+            count++;
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+            return true;
+        }
+
+        private int indexOf(double value) {
+            for (int i = 0; i < size; i++) {
+                if (values[i] == value) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void write(JsonWriter jsonWriter) {
+            jsonWriter.writeStartObject();
+
+            jsonWriter.writeFieldName("Values");
+            jsonWriter.writeStartArray();
+            for (int i = 0; i < size; i++) {
+                jsonWriter.writeValue(values[i]);
+            }
+            jsonWriter.writeEndArray();
+
+            jsonWriter.writeFieldName("Counts");
+            jsonWriter.writeStartArray();
+            for (int i = 0; i < size; i++) {
+                jsonWriter.writeValue(counts[i]);
+            }
+            jsonWriter.writeEndArray();
+
+            jsonWriter.writeFieldName("Max");
+            jsonWriter.writeValue(max);
+            jsonWriter.writeFieldName("Min");
+            jsonWriter.writeValue(min);
+            jsonWriter.writeFieldName("Count");
+            jsonWriter.writeValue(count);
+            jsonWriter.writeFieldName("Sum");
+            jsonWriter.writeValue(sum);
+
+            jsonWriter.writeEndObject();
+        }
+    }
+}
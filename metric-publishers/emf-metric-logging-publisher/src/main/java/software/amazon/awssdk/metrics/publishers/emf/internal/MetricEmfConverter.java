@@ -19,6 +19,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
@@ -222,7 +223,7 @@ public class MetricEmfConverter {
         JsonWriter jsonWriter = JsonWriter.create();
         jsonWriter.writeStartObject();
 
-        writeAwsObject(jsonWriter, metrics.keySet());
+        writeAwsObject(jsonWriter, metrics.keySet(), dimensions);
         writeMetricValues(jsonWriter, metrics);
 
         jsonWriter.writeEndObject();
@@ -231,7 +232,11 @@ public class MetricEmfConverter {
 
     }
 
-    private void writeAwsObject(JsonWriter jsonWriter, Set<SdkMetric<?>> metricNames) {
+    /**
+     * Write the {@code _aws} metadata object, declaring the provided metrics with a single dimension set made of the provided
+     * dimension names.
+     */
+    void writeAwsObject(JsonWriter jsonWriter, Set<SdkMetric<?>> metricNames, Collection<String> dimensionNames) {
         jsonWriter.writeFieldName("_aws");
         jsonWriter.writeStartObject();
 
@@ -241,34 +246,36 @@ public class MetricEmfConverter {
         jsonWriter.writeFieldName("LogGroupName");
         jsonWriter.writeValue(config.logGroupName());
 
-        writeCloudWatchMetricsArray(jsonWriter, metricNames);
+        writeCloudWatchMetricsArray(jsonWriter, metricNames, dimensionNames);
         jsonWriter.writeEndObject();
     }
 
-    private void writeCloudWatchMetricsArray(JsonWriter jsonWriter, Set<SdkMetric<?>> metricNames) {
+    private void writeCloudWatchMetricsArray(JsonWriter jsonWriter, Set<SdkMetric<?>> metricNames,
+                                             Collection<String> dimensionNames) {
         jsonWriter.writeFieldName("CloudWatchMetrics");
         jsonWriter.writeStartArray();
 
-        writeCloudWatchMetricsObjects(jsonWriter, metricNames);
+        writeCloudWatchMetricsObjects(jsonWriter, metricNames, dimensionNames);
         jsonWriter.writeEndArray();
     }
 
-    private void writeCloudWatchMetricsObjects(JsonWriter jsonWriter,  Set<SdkMetric<?>> metricNames) {
+    private void writeCloudWatchMetricsObjects(JsonWriter jsonWriter,  Set<SdkMetric<?>> metricNames,
+                                               Collection<String> dimensionNames) {
         jsonWriter.writeStartObject();
         jsonWriter.writeFieldName("Namespace");
         jsonWriter.writeValue(config.namespace());
 
-        writeDimensionSetArray(jsonWriter);
+        writeDimensionSetArray(jsonWriter, dimensionNames);
 
         writeMetricDefinitionArray(jsonWriter, metricNames);
         jsonWriter.writeEndObject();
     }
 
-    private void writeDimensionSetArray(JsonWriter jsonWriter) {
+    private void writeDimensionSetArray(JsonWriter jsonWriter, Collection<String> dimensionNames) {
         jsonWriter.writeFieldName("Dimensions");
         jsonWriter.writeStartArray();
         jsonWriter.writeStartArray();
-        for (String dimension : dimensions) {
+        for (String dimension : dimensionNames) {
             jsonWriter.writeValue(dimension);
         }
         jsonWriter.writeEndArray();
@@ -335,7 +342,40 @@ public class MetricEmfConverter {
         }
     }
 
-    private boolean isNumericMetric(SdkMetric<?> metric) {
+    /**
+     * Convert the value of a numeric metric record to the value written in EMF, following the same rules as
+     * {@link #processAndWriteValue(JsonWriter, MetricRecord)}.
+     *
+     * @return The value, or null if the record has no numeric value.
+     */
+    Double numericValue(MetricRecord<?> mRecord) {
+        Object value = mRecord.value();
+        Class<?> valueClass = mRecord.metric().valueClass();
+
+        if (value == null) {
+            return null;
+        }
+
+        if (Boolean.class.isAssignableFrom(valueClass)) {
+            return value.equals(true) ? 1.0 : 0.0;
+        }
+
+        if (Duration.class.isAssignableFrom(valueClass)) {
+            return (double) ((Duration) value).toMillis();
+        }
+
+        if (Double.class.isAssignableFrom(valueClass)) {
+            return MetricValueNormalizer.normalize((Double) value);
+        }
+
+        if (Integer.class.isAssignableFrom(valueClass) || Long.class.isAssignableFrom(valueClass)) {
+            return ((Number) value).doubleValue();
+        }
+
+        return null;
+    }
+
+    boolean isNumericMetric(SdkMetric<?> metric) {
         return Integer.class.isAssignableFrom(metric.valueClass())
                || Boolean.class.isAssignableFrom(metric.valueClass())
                || Long.class.isAssignableFrom(metric.valueClass())
@@ -353,7 +393,7 @@ public class MetricEmfConverter {
     }
 
 
-    private boolean isDimension(SdkMetric<?> metric) {
+    boolean isDimension(SdkMetric<?> metric) {
         return config.dimensions().contains(metric);
     }
 
@@ -365,7 +405,7 @@ public class MetricEmfConverter {
         return null;
     }
 
-    private boolean shouldReport(MetricRecord<?> metricRecord) {
+    boolean shouldReport(MetricRecord<?> metricRecord) {
         return isSupportedCategory(metricRecord) && isSupportedLevel(metricRecord);
     }
 
@@ -18,8 +18,12 @@ package software.amazon.awssdk.metrics.publishers.emf;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
 import software.amazon.awssdk.http.HttpMetric;
 import software.amazon.awssdk.metrics.MetricCategory;
 import software.amazon.awssdk.metrics.MetricCollector;
@@ -97,4 +101,38 @@ public class EmfMetricLoggingPublisherTest extends LogCaptor.LogCaptorTestBase{
         assertThat(loggedEvents()).hasSize(2);
     }
 
+    @Test
+    void Publish_aggregationInterval_metricsWrittenOnClose() {
+        EmfMetricLoggingPublisher publisher = publisherBuilder.logGroupName("/aws/lambda/emfMetricTest")
+                                                              .aggregationInterval(Duration.ofHours(1))
+                                                              .build();
+        for (int i = 0; i < 100; i++) {
+            MetricCollector metricCollector = MetricCollector.create("test");
+            metricCollector.reportMetric(CoreMetric.SERVICE_ID, "serviceId");
+            metricCollector.reportMetric(HttpMetric.AVAILABLE_CONCURRENCY, i % 5);
+            publisher.publish(metricCollector.collect());
+        }
+        assertThat(emfEvents()).isEmpty();
+
+        publisher.close();
+        assertThat(emfEvents()).hasOnlyOneElementSatisfying(event -> {
+            assertThat(event).contains("\"ServiceId\":\"serviceId\"");
+            assertThat(event).contains("\"Counts\":[20,20,20,20,20]");
+        });
+    }
+
+    @Test
+    void Build_nonPositiveAggregationInterval_throwException() {
+        assertThatThrownBy(() -> publisherBuilder.logGroupName("/aws/lambda/emfMetricTest")
+                                                 .aggregationInterval(Duration.ZERO)
+                                                 .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> emfEvents() {
+        return loggedEvents().stream()
+                             .map(Object::toString)
+                             .filter(event -> event.contains("\"_aws\""))
+                             .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.metrics.publishers.emf.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.networknt.schema.JsonSchema;
+import com.networknt.schema.JsonSchemaFactory;
+import com.networknt.schema.SpecVersion;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.core.metrics.CoreMetric;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.utils.IoUtils;
+
+public class MetricEmfAggregatorTest {
+
+    private final EmfMetricConfiguration testConfig = new EmfMetricConfiguration.Builder()
+                                                                                .logGroupName("my_log_group_name")
+                                                                                .build();
+    private final Clock fixedClock = Clock.fixed(Instant.ofEpochMilli(12345678), ZoneOffset.UTC);
+
+    private MetricEmfAggregator aggregator;
+
+    @BeforeEach
+    void setUp() {
+        aggregator = new MetricEmfAggregator(new MetricEmfConverter(testConfig, fixedClock));
+    }
+
+    @Test
+    void flush_aggregatesValuesAndCountsPerMetric() {
+        assertThat(aggregator.addMetricCollection(apiCall("DynamoDB", "GetItem", 12))).isEmpty();
+        assertThat(aggregator.addMetricCollection(apiCall("DynamoDB", "GetItem", 15))).isEmpty();
+        assertThat(aggregator.addMetricCollection(apiCall("DynamoDB", "GetItem", 12))).isEmpty();
+
+        assertThat(aggregator.flush()).containsExactly(
+            "{\"_aws\":{\"Timestamp\":12345678,\"LogGroupName\":\"my_log_group_name\","
+            + "\"CloudWatchMetrics\":[{\"Namespace\":\"AwsSdk/JavaSdk2\",\"Dimensions\":[[\"OperationName\",\"ServiceId\"]],"
+            + "\"Metrics\":[{\"Name\":\"ApiCallDuration\",\"Unit\":\"Milliseconds\"}]}]},"
+            + "\"OperationName\":\"GetItem\",\"ServiceId\":\"DynamoDB\","
+            + "\"ApiCallDuration\":{\"Values\":[12.0,15.0],\"Counts\":[2,1],\"Max\":15.0,\"Min\":12.0,\"Count\":3,\"Sum\":39.0}}");
+    }
+
+    @Test
+    void flush_separatesDimensionSets() {
+        aggregator.addMetricCollection(apiCall("DynamoDB", "GetItem", 12));
+        aggregator.addMetricCollection(apiCall("DynamoDB", "PutItem", 12));
+        aggregator.addMetricCollection(apiCall("S3", "GetObject", 12));
+
+        List<String> emfStrings = aggregator.flush();
+
+        assertThat(emfStrings).hasSize(3);
+        assertThat(emfStrings).anySatisfy(s -> assertThat(s).contains("\"OperationName\":\"PutItem\",\"ServiceId\":\"DynamoDB\""));
+        assertThat(emfStrings).anySatisfy(s -> assertThat(s).contains("\"OperationName\":\"GetObject\",\"ServiceId\":\"S3\""));
+    }
+
+    @Test
+    void flush_resetsAggregatedMetrics() {
+        aggregator.addMetricCollection(apiCall("DynamoDB", "GetItem", 12));
+
+        assertThat(aggregator.flush()).hasSize(1);
+        assertThat(aggregator.flush()).isEmpty();
+
+        aggregator.addMetricCollection(apiCall("DynamoDB", "GetItem", 15));
+        assertThat(aggregator.flush()).hasOnlyOneElementSatisfying(s -> assertThat(s).contains("\"Values\":[15.0]"));
+    }
+
+    @Test
+    void addMetricCollection_moreThanMaxDistinctValues_writesAggregatedMetrics() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(aggregator.addMetricCollection(apiCall("DynamoDB", "GetItem", i))).isEmpty();
+        }
+
+        List<String> emfStrings = aggregator.addMetricCollection(apiCall("DynamoDB", "GetItem", 100));
+        assertThat(emfStrings).hasOnlyOneElementSatisfying(s -> assertThat(s).contains("\"Count\":100,"));
+
+        assertThat(aggregator.flush()).hasOnlyOneElementSatisfying(s -> assertThat(s).contains("\"Values\":[100.0]"));
+    }
+
+    @Test
+    void flush_childMetricsAreAggregated() {
+        MetricCollector metricCollector = MetricCollector.create("test");
+        metricCollector.reportMetric(CoreMetric.SERVICE_ID, "DynamoDB");
+        metricCollector.createChild("attempt1").reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(100));
+        metricCollector.createChild("attempt2").reportMetric(HttpMetric.CONCURRENCY_ACQUIRE_DURATION, Duration.ofMillis(200));
+        aggregator.addMetricCollection(metricCollector.collect());
+
+        assertThat(aggregator.flush()).hasOnlyOneElementSatisfying(
+            s -> assertThat(s).contains("\"ConcurrencyAcquireDuration\":{\"Values\":[100.0,200.0],\"Counts\":[1,1]"));
+    }
+
+    @Test
+    void flush_shouldConformToSchema() throws Exception {
+        aggregator.addMetricCollection(apiCall("DynamoDB", "GetItem", 12));
+        aggregator.addMetricCollection(apiCall("DynamoDB", "GetItem", 15));
+
+        String jsonSchema = IoUtils.toUtf8String(Objects.requireNonNull(getClass().getResourceAsStream("/emfSchema.json")));
+        JsonSchema schema = JsonSchemaFactory.getInstance(SpecVersion.VersionFlag.V4).getSchema(jsonSchema);
+        JsonNode jsonNode = new ObjectMapper().readTree(aggregator.flush().get(0));
+
+        assertThat(schema.validate(jsonNode)).isEmpty();
+    }
+
+    private static MetricCollection apiCall(String serviceId, String operationName, long durationMillis) {
+        MetricCollector metricCollector = MetricCollector.create("ApiCall");
+        metricCollector.reportMetric(CoreMetric.SERVICE_ID, serviceId);
+        metricCollector.reportMetric(CoreMetric.OPERATION_NAME, operationName);
+        metricCollector.reportMetric(CoreMetric.API_CALL_DURATION, Duration.ofMillis(durationMillis));
+        return metricCollector.collect();
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A mapped property of an annotated class: its getter, the setter of the class or of its builder, and how it is mapped.
+ */
+@SdkInternalApi
+final class PropertyModel {
+    private final String name;
+    private final String attributeName;
+    private final ExecutableElement getter;
+    private final ExecutableElement setter;
+    private final boolean overloadedSetter;
+    private final TypeMirror type;
+    private final boolean flatten;
+    private final TypeMirror converter;
+    private final boolean preserveEmptyObject;
+    private final boolean ignoreNulls;
+    private final List<Tag> tags;
+
+    private PropertyModel(Builder builder) {
+        this.name = builder.name;
+        this.attributeName = builder.attributeName;
+        this.getter = builder.getter;
+        this.setter = builder.setter;
+        this.overloadedSetter = builder.overloadedSetter;
+        this.type = builder.type;
+        this.flatten = builder.flatten;
+        this.converter = builder.converter;
+        this.preserveEmptyObject = builder.preserveEmptyObject;
+        this.ignoreNulls = builder.ignoreNulls;
+        this.tags = Collections.unmodifiableList(new ArrayList<>(builder.tags));
+    }
+
+    static Builder builder() {
+        return new Builder();
+    }
+
+    String name() {
+        return name;
+    }
+
+    String attributeName() {
+        return attributeName;
+    }
+
+    ExecutableElement getter() {
+        return getter;
+    }
+
+    ExecutableElement setter() {
+        return setter;
+    }
+
+    /**
+     * Whether the setter shares its name with another single-argument method, in which case a method reference to it could
+     * resolve to the other method.
+     */
+    boolean overloadedSetter() {
+        return overloadedSetter;
+    }
+
+    /**
+     * The type returned by the getter, with the type arguments of the annotated class resolved.
+     */
+    TypeMirror type() {
+        return type;
+    }
+
+    boolean flatten() {
+        return flatten;
+    }
+
+    /**
+     * The {@code AttributeConverter} class from {@code @DynamoDbConvertedBy}, or null.
+     */
+    TypeMirror converter() {
+        return converter;
+    }
+
+    boolean preserveEmptyObject() {
+        return preserveEmptyObject;
+    }
+
+    boolean ignoreNulls() {
+        return ignoreNulls;
+    }
+
+    List<Tag> tags() {
+        return tags;
+    }
+
+    /**
+     * An annotation meta-annotated with {@code @BeanTableSchemaAttributeTag}, and the class whose static
+     * {@code attributeTagFor} method turns it into a {@code StaticAttributeTag}.
+     */
+    static final class Tag {
+        private final AnnotationMirror annotation;
+        private final TypeElement tagClass;
+
+        Tag(AnnotationMirror annotation, TypeElement tagClass) {
+            this.annotation = annotation;
+            this.tagClass = tagClass;
+        }
+
+        AnnotationMirror annotation() {
+            return annotation;
+        }
+
+        TypeElement tagClass() {
+            return tagClass;
+        }
+    }
+
+    static final class Builder {
+        private String name;
+        private String attributeName;
+        private ExecutableElement getter;
+        private ExecutableElement setter;
+        private boolean overloadedSetter;
+        private TypeMirror type;
+        private boolean flatten;
+        private TypeMirror converter;
+        private boolean preserveEmptyObject;
+        private boolean ignoreNulls;
+        private final List<Tag> tags = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        Builder attributeName(String attributeName) {
+            this.attributeName = attributeName;
+            return this;
+        }
+
+        Builder getter(ExecutableElement getter) {
+            this.getter = getter;
+            return this;
+        }
+
+        Builder setter(ExecutableElement setter) {
+            this.setter = setter;
+            return this;
+        }
+
+        Builder overloadedSetter(boolean overloadedSetter) {
+            this.overloadedSetter = overloadedSetter;
+            return this;
+        }
+
+        Builder type(TypeMirror type) {
+            this.type = type;
+            return this;
+        }
+
+        Builder flatten(boolean flatten) {
+            this.flatten = flatten;
+            return this;
+        }
+
+        Builder converter(TypeMirror converter) {
+            this.converter = converter;
+            return this;
+        }
+
+        Builder preserveEmptyObject(boolean preserveEmptyObject) {
+            this.preserveEmptyObject = preserveEmptyObject;
+            return this;
+        }
+
+        Builder ignoreNulls(boolean ignoreNulls) {
+            this.ignoreNulls = ignoreNulls;
+            return this;
+        }
+
+        Builder addTag(Tag tag) {
+            this.tags.add(tag);
+            return this;
+        }
+
+        PropertyModel build() {
+            return new PropertyModel(this);
+        }
+    }
+}
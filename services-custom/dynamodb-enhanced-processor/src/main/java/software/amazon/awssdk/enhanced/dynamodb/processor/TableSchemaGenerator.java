@@ -0,0 +1,464 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.ATTRIBUTE_CONVERTER;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.CLASS_NAME_SUFFIX;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.ENHANCED_TYPE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.GENERATED;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.GENERATED_TABLE_SCHEMA_FACTORY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.NESTED_TABLE_SCHEMAS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.STATIC_IMMUTABLE_TABLE_SCHEMA;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.STATIC_TABLE_SCHEMA;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.TABLE_SCHEMA;
+
+import com.squareup.javapoet.AnnotationSpec;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.SimpleAnnotationValueVisitor8;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Generates the {@code GeneratedTableSchemaFactory} of an annotated class. The factory builds a {@code StaticTableSchema} or a
+ * {@code StaticImmutableTableSchema} with method references to the getters and setters of the class, the same way one would
+ * write it by hand.
+ */
+@SdkInternalApi
+final class TableSchemaGenerator {
+    static final String GENERATOR_NAME = "software.amazon.awssdk:dynamodb-enhanced-processor";
+
+    private static final String NESTED_TABLE_SCHEMAS_PARAMETER = "nestedTableSchemas";
+
+    private final Elements elements;
+    private final Types types;
+    private final TableSchemaIntrospector introspector;
+
+    TableSchemaGenerator(Elements elements, Types types, TableSchemaIntrospector introspector) {
+        this.elements = elements;
+        this.types = types;
+        this.introspector = introspector;
+    }
+
+    /**
+     * The name of the factory of the annotated class, matching the name the enhanced client looks up at runtime.
+     */
+    ClassName factoryClassName(TypeElement annotatedClass) {
+        String packageName = introspector.packageOf(annotatedClass).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(annotatedClass).toString();
+        String simpleName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+        return ClassName.get(packageName, simpleName.replace('$', '_') + CLASS_NAME_SUFFIX);
+    }
+
+    JavaFile generate(TableSchemaModel model) {
+        TypeElement annotatedClass = model.annotatedClass();
+        ClassName annotatedClassName = ClassName.get(annotatedClass);
+        Context context = new Context(introspector.packageOf(annotatedClass));
+
+        TypeName schemaType = model.immutable()
+                              ? ParameterizedTypeName.get(STATIC_IMMUTABLE_TABLE_SCHEMA, annotatedClassName,
+                                                          ClassName.get(model.builderClass()))
+                              : ParameterizedTypeName.get(STATIC_TABLE_SCHEMA, annotatedClassName);
+
+        MethodSpec create = MethodSpec.methodBuilder("create")
+                                      .addAnnotation(Override.class)
+                                      .addModifiers(Modifier.PUBLIC)
+                                      .returns(schemaType)
+                                      .addParameter(NESTED_TABLE_SCHEMAS, NESTED_TABLE_SCHEMAS_PARAMETER)
+                                      .addStatement("$L", createSchema(model, context))
+                                      .build();
+
+        TypeSpec.Builder factory =
+            TypeSpec.classBuilder(factoryClassName(annotatedClass))
+                    .addOriginatingElement(annotatedClass)
+                    .addAnnotation(AnnotationSpec.builder(GENERATED).addMember("value", "$S", GENERATOR_NAME).build())
+                    .addAnnotation(AnnotationSpec.builder(SuppressWarnings.class)
+                                                 .addMember("value", "{$S, $S}", "unchecked", "rawtypes")
+                                                 .build())
+                    .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                    .addSuperinterface(ParameterizedTypeName.get(GENERATED_TABLE_SCHEMA_FACTORY, schemaType))
+                    .addJavadoc("The table schema of {@link $T}, generated from its annotations.\n", annotatedClassName);
+        context.annotationConstants.forEach(factory::addField);
+        factory.addMethod(create);
+
+        return JavaFile.builder(introspector.packageOf(annotatedClass).getQualifiedName().toString(), factory.build())
+                       .skipJavaLangImports(true)
+                       .indent("    ")
+                       .build();
+    }
+
+    private CodeBlock createSchema(TableSchemaModel model, Context context) {
+        TypeElement annotatedClass = model.annotatedClass();
+        ClassName annotatedClassName = ClassName.get(annotatedClass);
+        CodeBlock.Builder code = CodeBlock.builder();
+
+        if (model.immutable()) {
+            ClassName builderClassName = ClassName.get(model.builderClass());
+            code.add("return $T.builder($T.class, $T.class)$>$>", STATIC_IMMUTABLE_TABLE_SCHEMA, annotatedClassName,
+                     builderClassName)
+                .add("\n.newItemBuilder($L, $T::$N)", newBuilder(model), builderClassName,
+                     model.buildMethod().getSimpleName().toString());
+        } else {
+            code.add("return $T.builder($T.class)$>$>", STATIC_TABLE_SCHEMA, annotatedClassName)
+                .add("\n.newItemSupplier($T::new)", annotatedClassName);
+        }
+
+        CodeBlock.Builder providers = CodeBlock.builder();
+        for (int i = 0; i < model.converterProviders().size(); i++) {
+            providers.add(i == 0 ? "new $T()" : ", new $T()", TypeName.get(model.converterProviders().get(i)));
+        }
+        code.add("\n.attributeConverterProviders($L)", providers.build());
+
+        DeclaredType setterOwner = (DeclaredType) (model.immutable() ? model.builderClass() : annotatedClass).asType();
+        for (PropertyModel property : model.properties()) {
+            CodeBlock getter = CodeBlock.of("$T::$N", annotatedClassName, property.getter().getSimpleName().toString());
+            CodeBlock setter = setter(setterOwner, property);
+
+            if (property.flatten()) {
+                code.add("\n.flatten($T.fromClass($T.class), $L, $L)", TABLE_SCHEMA,
+                         TypeName.get(types.erasure(property.type())), getter, setter);
+                continue;
+            }
+
+            code.add("\n.addAttribute($L, a -> a.name($S)$>$>", enhancedType(property.type(), property, context),
+                     property.attributeName())
+                .add("\n.getter($L)", getter)
+                .add("\n.setter($L)", setter);
+
+            if (property.converter() != null) {
+                code.add("\n.attributeConverter(($T) new $T())", ATTRIBUTE_CONVERTER, TypeName.get(property.converter()));
+            }
+
+            for (PropertyModel.Tag tag : property.tags()) {
+                code.add("\n.addTag($T.$N($N))", ClassName.get(tag.tagClass()), ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME,
+                         annotationConstant(property, tag.annotation(), context));
+            }
+
+            code.add(")$<$<");
+        }
+
+        return code.add("\n.build()$<$<").build();
+    }
+
+    private CodeBlock newBuilder(TableSchemaModel model) {
+        ClassName annotatedClassName = ClassName.get(model.annotatedClass());
+        ClassName builderClassName = ClassName.get(model.builderClass());
+        ExecutableElement staticBuilderMethod = model.staticBuilderMethod();
+
+        if (staticBuilderMethod == null) {
+            return CodeBlock.of("$T::new", builderClassName);
+        }
+
+        String methodName = staticBuilderMethod.getSimpleName().toString();
+        if (types.isSameType(types.erasure(staticBuilderMethod.getReturnType()), types.erasure(model.builderClass().asType()))) {
+            return CodeBlock.of("$T::$N", annotatedClassName, methodName);
+        }
+        return CodeBlock.of("() -> ($T) $T.$N()", builderClassName, annotatedClassName, methodName);
+    }
+
+    /**
+     * A method reference to the setter, or a lambda casting the value to the type of the setter when another method of the
+     * same name could be picked instead.
+     */
+    private CodeBlock setter(DeclaredType owner, PropertyModel property) {
+        String setterName = property.setter().getSimpleName().toString();
+
+        if (!property.overloadedSetter()) {
+            return CodeBlock.of("$T::$N", TypeName.get(types.erasure(owner)), setterName);
+        }
+
+        TypeMirror parameterType = ((ExecutableType) types.asMemberOf(owner, property.setter())).getParameterTypes().get(0);
+        return CodeBlock.of("(item, value) -> item.$N(($T) value)", setterName, TypeName.get(parameterType));
+    }
+
+    /**
+     * The {@code EnhancedType} of the attribute, following {@code BeanTableSchema}: lists and maps are unwrapped so that
+     * annotated classes within them are mapped as nested documents.
+     */
+    private CodeBlock enhancedType(TypeMirror type, PropertyModel property, Context context) {
+        if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            TypeElement typeElement = (TypeElement) declaredType.asElement();
+            List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+
+            if (!typeArguments.isEmpty() && isClass(typeElement, List.class)) {
+                return CodeBlock.of("$T.listOf($L)", ENHANCED_TYPE, enhancedType(typeArguments.get(0), property, context));
+            }
+
+            if (!typeArguments.isEmpty() && isClass(typeElement, Map.class)) {
+                return CodeBlock.of("$T.mapOf($L, $L)", ENHANCED_TYPE,
+                                    plainEnhancedType(typeArguments.get(0), property, context),
+                                    enhancedType(typeArguments.get(1), property, context));
+            }
+
+            if (introspector.isAnnotatedClass(typeElement)) {
+                validateType(typeElement.asType(), property, context);
+                ClassName documentClass = ClassName.get(typeElement);
+                String nestedSchema = introspector.isImmutableClass(typeElement) ? "immutableTableSchema" : "beanTableSchema";
+                return CodeBlock.of("$T.documentOf($T.class, $N.$N($T.class), d -> d.preserveEmptyObject($L).ignoreNulls($L))",
+                                    ENHANCED_TYPE, documentClass, NESTED_TABLE_SCHEMAS_PARAMETER, nestedSchema,
+                                    documentClass, property.preserveEmptyObject(), property.ignoreNulls());
+            }
+        }
+
+        return plainEnhancedType(type, property, context);
+    }
+
+    private CodeBlock plainEnhancedType(TypeMirror type, PropertyModel property, Context context) {
+        if (type.getKind() == TypeKind.WILDCARD) {
+            throw new UnsupportedElementException(property.getter(), "The wildcard type " + type + " is not supported.");
+        }
+        validateType(type, property, context);
+
+        if (types.isSameType(type, types.erasure(type))) {
+            return CodeBlock.of("$T.of($T.class)", ENHANCED_TYPE, TypeName.get(type));
+        }
+        return CodeBlock.of("new $T<$T>() {}", ENHANCED_TYPE, TypeName.get(type));
+    }
+
+    /**
+     * Checks that the type can be written in the generated class.
+     */
+    private void validateType(TypeMirror type, PropertyModel property, Context context) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+            case BYTE:
+            case SHORT:
+            case INT:
+            case LONG:
+            case CHAR:
+            case FLOAT:
+            case DOUBLE:
+                return;
+            case ARRAY:
+                validateType(((ArrayType) type).getComponentType(), property, context);
+                return;
+            case WILDCARD:
+                WildcardType wildcardType = (WildcardType) type;
+                if (wildcardType.getExtendsBound() != null) {
+                    validateType(wildcardType.getExtendsBound(), property, context);
+                }
+                if (wildcardType.getSuperBound() != null) {
+                    validateType(wildcardType.getSuperBound(), property, context);
+                }
+                return;
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                if (!introspector.isAccessible((TypeElement) declaredType.asElement(), context.generatedPackage)) {
+                    throw new UnsupportedElementException(property.getter(), "The type " + type + " is not accessible.");
+                }
+                declaredType.getTypeArguments().forEach(t -> validateType(t, property, context));
+                return;
+            default:
+                throw new UnsupportedElementException(property.getter(), "The type " + type + " is not supported.");
+        }
+    }
+
+    /**
+     * A constant implementing the annotation with the values it was given, to pass to the static method creating its
+     * attribute tag.
+     */
+    private String annotationConstant(PropertyModel property, AnnotationMirror annotation, Context context) {
+        TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+        ClassName annotationClassName = ClassName.get(annotationType);
+
+        TypeSpec.Builder implementation = TypeSpec.anonymousClassBuilder("").addSuperinterface(annotationClassName);
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = elements.getElementValuesWithDefaults(annotation);
+        for (ExecutableElement member : ElementFilter.methodsIn(annotationType.getEnclosedElements())) {
+            CodeBlock value = values.get(member).accept(new AnnotationValueLiteral(property, context), member.getReturnType());
+            implementation.addMethod(MethodSpec.methodBuilder(member.getSimpleName().toString())
+                                               .addAnnotation(Override.class)
+                                               .addModifiers(Modifier.PUBLIC)
+                                               .returns(TypeName.get(member.getReturnType()))
+                                               .addStatement("return $L", value)
+                                               .build());
+        }
+        implementation.addMethod(MethodSpec.methodBuilder("annotationType")
+                                           .addAnnotation(Override.class)
+                                           .addModifiers(Modifier.PUBLIC)
+                                           .returns(ParameterizedTypeName.get(ClassName.get(Class.class),
+                                                                              WildcardTypeName.subtypeOf(Annotation.class)))
+                                           .addStatement("return $T.class", annotationClassName)
+                                           .build());
+
+        String baseName = constantName(property.name()) + "_" + constantName(annotationType.getSimpleName().toString());
+        String name = baseName;
+        for (int i = 2; !context.constantNames.add(name); i++) {
+            name = baseName + "_" + i;
+        }
+
+        context.annotationConstants.add(FieldSpec.builder(annotationClassName, name, Modifier.PRIVATE, Modifier.STATIC,
+                                                          Modifier.FINAL)
+                                                 .initializer("$L", implementation.build())
+                                                 .build());
+        return name;
+    }
+
+    private static String constantName(String name) {
+        StringBuilder constantName = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (i > 0 && Character.isUpperCase(c) && !Character.isUpperCase(name.charAt(i - 1))) {
+                constantName.append('_');
+            }
+            constantName.append(Character.toUpperCase(c));
+        }
+        return constantName.toString();
+    }
+
+    private static boolean isClass(TypeElement typeElement, Class<?> type) {
+        return typeElement.getQualifiedName().contentEquals(type.getName());
+    }
+
+    /**
+     * Turns an annotation value into the Java expression of that value.
+     */
+    private final class AnnotationValueLiteral extends SimpleAnnotationValueVisitor8<CodeBlock, TypeMirror> {
+        private final PropertyModel property;
+        private final Context context;
+
+        private AnnotationValueLiteral(PropertyModel property, Context context) {
+            this.property = property;
+            this.context = context;
+        }
+
+        @Override
+        public CodeBlock visitBoolean(boolean b, TypeMirror type) {
+            return CodeBlock.of("$L", b);
+        }
+
+        @Override
+        public CodeBlock visitByte(byte b, TypeMirror type) {
+            return CodeBlock.of("(byte) $L", b);
+        }
+
+        @Override
+        public CodeBlock visitChar(char c, TypeMirror type) {
+            return CodeBlock.of("(char) $L", (int) c);
+        }
+
+        @Override
+        public CodeBlock visitShort(short s, TypeMirror type) {
+            return CodeBlock.of("(short) $L", s);
+        }
+
+        @Override
+        public CodeBlock visitInt(int i, TypeMirror type) {
+            return CodeBlock.of("$L", i);
+        }
+
+        @Override
+        public CodeBlock visitLong(long i, TypeMirror type) {
+            return CodeBlock.of("$LL", i);
+        }
+
+        @Override
+        public CodeBlock visitFloat(float f, TypeMirror type) {
+            if (Float.isNaN(f)) {
+                return CodeBlock.of("$T.NaN", Float.class);
+            }
+            if (Float.isInfinite(f)) {
+                return CodeBlock.of(f > 0 ? "$T.POSITIVE_INFINITY" : "$T.NEGATIVE_INFINITY", Float.class);
+            }
+            return CodeBlock.of("$Lf", f);
+        }
+
+        @Override
+        public CodeBlock visitDouble(double d, TypeMirror type) {
+            if (Double.isNaN(d)) {
+                return CodeBlock.of("$T.NaN", Double.class);
+            }
+            if (Double.isInfinite(d)) {
+                return CodeBlock.of(d > 0 ? "$T.POSITIVE_INFINITY" : "$T.NEGATIVE_INFINITY", Double.class);
+            }
+            return CodeBlock.of("$Ld", d);
+        }
+
+        @Override
+        public CodeBlock visitString(String s, TypeMirror type) {
+            return CodeBlock.of("$S", s);
+        }
+
+        @Override
+        public CodeBlock visitType(TypeMirror t, TypeMirror type) {
+            validateType(types.erasure(t), property, context);
+            return CodeBlock.of("$T.class", TypeName.get(types.erasure(t)));
+        }
+
+        @Override
+        public CodeBlock visitEnumConstant(VariableElement c, TypeMirror type) {
+            validateType(c.asType(), property, context);
+            return CodeBlock.of("$T.$N", TypeName.get(c.asType()), c.getSimpleName().toString());
+        }
+
+        @Override
+        public CodeBlock visitArray(List<? extends AnnotationValue> values, TypeMirror type) {
+            TypeMirror componentType = ((ArrayType) type).getComponentType();
+            CodeBlock.Builder elements = CodeBlock.builder();
+            for (int i = 0; i < values.size(); i++) {
+                elements.add(i == 0 ? "$L" : ", $L", values.get(i).accept(this, componentType));
+            }
+            return CodeBlock.of("new $T[] {$L}", TypeName.get(types.erasure(componentType)), elements.build());
+        }
+
+        @Override
+        protected CodeBlock defaultAction(Object o, TypeMirror type) {
+            throw new UnsupportedElementException(property.getter(), "The annotation value " + o + " is not supported.");
+        }
+    }
+
+    /**
+     * The state of the generation of one factory.
+     */
+    private static final class Context {
+        private final PackageElement generatedPackage;
+        private final List<FieldSpec> annotationConstants = new ArrayList<>();
+        private final Set<String> constantNames = new HashSet<>();
+
+        private Context(PackageElement generatedPackage) {
+            this.generatedPackage = generatedPackage;
+        }
+    }
+}
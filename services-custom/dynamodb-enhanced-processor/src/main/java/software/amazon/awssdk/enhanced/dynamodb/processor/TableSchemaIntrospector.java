@@ -0,0 +1,520 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_ATTRIBUTE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_BEAN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_CONVERTED_BY;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_FLATTEN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_IGNORE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_IGNORE_NULLS;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_IMMUTABLE;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_PRESERVE_EMPTY_OBJECT;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.TRANSIENT;
+
+import java.beans.Introspector;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Finds the mapped properties of annotated classes at compile time, following the same rules {@code BeanTableSchema} and
+ * {@code ImmutableTableSchema} follow at runtime with {@link Introspector} and {@code ImmutableIntrospector}. Anything that
+ * would be resolved differently, or could not be expressed in generated code, throws {@link UnsupportedElementException}.
+ */
+@SdkInternalApi
+final class TableSchemaIntrospector {
+    private static final String BUILD_METHOD = "build";
+    private static final String BUILDER_METHOD = "builder";
+    private static final String TO_BUILDER_METHOD = "toBuilder";
+    private static final String GET_PREFIX = "get";
+    private static final String IS_PREFIX = "is";
+    private static final String SET_PREFIX = "set";
+
+    private final Elements elements;
+    private final Types types;
+    private final Set<String> immutableNamesToExclude;
+
+    TableSchemaIntrospector(Elements elements, Types types) {
+        this.elements = elements;
+        this.types = types;
+        this.immutableNamesToExclude = Collections.unmodifiableSet(
+            Stream.concat(publicInstanceMethods(elements.getTypeElement(Object.class.getName())).stream()
+                                                                                                .map(this::name),
+                          Stream.of(TO_BUILDER_METHOD))
+                  .collect(Collectors.toSet()));
+    }
+
+    TableSchemaModel introspectBean(TypeElement beanClass) {
+        validateAnnotatedClass(beanClass);
+        AnnotationMirror dynamoDbBean = annotation(beanClass, DYNAMO_DB_BEAN).orElseThrow(IllegalStateException::new);
+
+        if (beanClass.getModifiers().contains(Modifier.ABSTRACT) || !hasPublicNoArgConstructor(beanClass)) {
+            throw new UnsupportedElementException(beanClass, "The bean class is abstract or has no public constructor without "
+                                                             + "arguments.");
+        }
+
+        TableSchemaModel.Builder model = TableSchemaModel.builder(beanClass);
+        converterProviders(beanClass, dynamoDbBean).forEach(model::addConverterProvider);
+
+        DeclaredType beanType = (DeclaredType) beanClass.asType();
+        List<ExecutableElement> methods = publicInstanceMethods(beanClass);
+        Map<String, ExecutableElement> getters = new TreeMap<>();
+        Map<String, ExecutableElement> isGetters = new HashMap<>();
+        Map<String, List<ExecutableElement>> setters = new HashMap<>();
+
+        for (ExecutableElement method : methods) {
+            String name = name(method);
+            int parameters = method.getParameters().size();
+            TypeKind returnKind = method.getReturnType().getKind();
+
+            if (name.length() > 3 && name.startsWith(GET_PREFIX) && parameters == 0 && returnKind != TypeKind.VOID) {
+                getters.put(Introspector.decapitalize(name.substring(3)), method);
+            } else if (name.length() > 2 && name.startsWith(IS_PREFIX) && parameters == 0 && returnKind == TypeKind.BOOLEAN) {
+                String propertyName = Introspector.decapitalize(name.substring(2));
+                isGetters.put(propertyName, method);
+                getters.putIfAbsent(propertyName, method);
+            } else if (name.length() > 3 && name.startsWith(SET_PREFIX) && parameters == 1 && returnKind == TypeKind.VOID) {
+                setters.computeIfAbsent(Introspector.decapitalize(name.substring(3)), n -> new ArrayList<>()).add(method);
+            }
+        }
+
+        getters.forEach((propertyName, getMethod) -> {
+            ExecutableElement getter = isGetters.getOrDefault(propertyName, getMethod);
+            TypeMirror propertyType = ((ExecutableType) types.asMemberOf(beanType, getter)).getReturnType();
+            ExecutableElement setter = beanSetter(beanClass, methods, propertyName, propertyType,
+                                                  setters.getOrDefault(propertyName, Collections.emptyList()));
+
+            if (setter == null
+                || propertyAnnotation(getter, setter, DYNAMO_DB_IGNORE).isPresent()
+                || propertyAnnotation(getter, setter, TRANSIENT).isPresent()) {
+                return;
+            }
+
+            model.addProperty(property(propertyName, getter, setter, propertyType, methods));
+        });
+
+        return model.build();
+    }
+
+    TableSchemaModel introspectImmutable(TypeElement immutableClass) {
+        validateAnnotatedClass(immutableClass);
+        AnnotationMirror dynamoDbImmutable = annotation(immutableClass, DYNAMO_DB_IMMUTABLE)
+            .orElseThrow(IllegalStateException::new);
+
+        TypeMirror builderType = (TypeMirror) annotationValue(dynamoDbImmutable, "builder").getValue();
+        if (builderType.getKind() != TypeKind.DECLARED) {
+            throw new UnsupportedElementException(immutableClass, "The builder class " + builderType + " cannot be resolved.");
+        }
+        TypeElement builderClass = (TypeElement) types.asElement(builderType);
+        if (!builderClass.getTypeParameters().isEmpty() || !isAccessible(builderClass, packageOf(immutableClass))) {
+            throw new UnsupportedElementException(immutableClass, "The builder class " + builderClass + " is generic or is "
+                                                                  + "not accessible from the package of the immutable class.");
+        }
+
+        TableSchemaModel.Builder model = TableSchemaModel.builder(immutableClass).builderClass(builderClass);
+        converterProviders(immutableClass, dynamoDbImmutable).forEach(model::addConverterProvider);
+
+        DeclaredType immutableType = (DeclaredType) immutableClass.asType();
+        DeclaredType builderDeclaredType = (DeclaredType) builderClass.asType();
+        List<ExecutableElement> builderMethods = publicInstanceMethods(builderClass);
+        Map<String, ExecutableElement> indexedBuilderMethods = new HashMap<>();
+        for (ExecutableElement method : builderMethods) {
+            if (isMappableImmutableMethod(method)
+                && indexedBuilderMethods.put(normalizeSetterName(method), method) != null) {
+                throw new UnsupportedElementException(method, "More than one method of the builder class maps to the "
+                                                              + "property " + normalizeSetterName(method) + ".");
+            }
+        }
+
+        ExecutableElement buildMethod = indexedBuilderMethods.remove(BUILD_METHOD);
+        if (buildMethod == null
+            || !buildMethod.getParameters().isEmpty()
+            || !types.isSameType(types.erasure(buildMethod.getReturnType()), types.erasure(immutableType))) {
+            throw new UnsupportedElementException(builderClass, "An immutable builder class must have a public method named "
+                                                                + "'build()' that takes no arguments and returns an instance "
+                                                                + "of the immutable class it builds.");
+        }
+        model.buildMethod(buildMethod);
+
+        ExecutableElement staticBuilderMethod = staticBuilderMethod(immutableClass, builderClass);
+        if (staticBuilderMethod == null
+            && (builderClass.getModifiers().contains(Modifier.ABSTRACT) || !hasPublicNoArgConstructor(builderClass))) {
+            throw new UnsupportedElementException(immutableClass, "The immutable class has no static builder() method and its "
+                                                                  + "builder class has no public constructor without "
+                                                                  + "arguments.");
+        }
+        model.staticBuilderMethod(staticBuilderMethod);
+
+        Map<String, ExecutableElement> getters = new TreeMap<>();
+        for (ExecutableElement method : publicInstanceMethods(immutableClass)) {
+            if (!isMappableImmutableMethod(method)) {
+                continue;
+            }
+            if (method.getReturnType().getKind() == TypeKind.VOID || !method.getParameters().isEmpty()) {
+                throw new UnsupportedElementException(method, "A method was found on the immutable class that does not "
+                                                              + "appear to be a valid getter.");
+            }
+            getters.put(normalizeGetterName(method), method);
+        }
+
+        getters.forEach((propertyName, getter) -> {
+            TypeMirror propertyType = ((ExecutableType) types.asMemberOf(immutableType, getter)).getReturnType();
+            ExecutableElement setter = indexedBuilderMethods.remove(propertyName);
+
+            if (setter == null || !isValidBuilderSetter(builderDeclaredType, setter, propertyType)) {
+                throw new UnsupportedElementException(getter, "A method was found on the immutable class that does not "
+                                                              + "appear to have a matching setter on the builder class.");
+            }
+
+            model.addProperty(property(propertyName, getter, setter, propertyType, builderMethods));
+        });
+
+        if (!indexedBuilderMethods.isEmpty()) {
+            throw new UnsupportedElementException(indexedBuilderMethods.values().iterator().next(),
+                                                  "A method was found on the immutable class builder that does not "
+                                                  + "appear to have a matching getter on the immutable class.");
+        }
+
+        return model.build();
+    }
+
+    /**
+     * Whether the class is annotated with {@code @DynamoDbBean} or {@code @DynamoDbImmutable}, and can be referred to by its
+     * generated table schema.
+     */
+    boolean isAnnotatedClass(TypeElement type) {
+        return annotation(type, DYNAMO_DB_IMMUTABLE).isPresent() || annotation(type, DYNAMO_DB_BEAN).isPresent();
+    }
+
+    boolean isImmutableClass(TypeElement type) {
+        return annotation(type, DYNAMO_DB_IMMUTABLE).isPresent();
+    }
+
+    /**
+     * Whether the type can be referred to from a class in the given package.
+     */
+    boolean isAccessible(TypeElement type, PackageElement fromPackage) {
+        Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)
+            || !modifiers.contains(Modifier.PUBLIC) && !packageOf(type).equals(fromPackage)) {
+            return false;
+        }
+
+        Element enclosing = type.getEnclosingElement();
+        return !(enclosing instanceof TypeElement) || isAccessible((TypeElement) enclosing, fromPackage);
+    }
+
+    PackageElement packageOf(Element element) {
+        return elements.getPackageOf(element);
+    }
+
+    Optional<AnnotationMirror> annotation(Element element, String annotationName) {
+        return element.getAnnotationMirrors()
+                      .stream()
+                      .filter(a -> ((TypeElement) a.getAnnotationType().asElement()).getQualifiedName()
+                                                                                   .contentEquals(annotationName))
+                      .map(a -> (AnnotationMirror) a)
+                      .findFirst();
+    }
+
+    AnnotationValue annotationValue(AnnotationMirror annotation, String member) {
+        return elements.getElementValuesWithDefaults(annotation)
+                       .entrySet()
+                       .stream()
+                       .filter(e -> e.getKey().getSimpleName().contentEquals(member))
+                       .map(Map.Entry::getValue)
+                       .findFirst()
+                       .orElseThrow(() -> new IllegalStateException(annotation + " has no member " + member));
+    }
+
+    private void validateAnnotatedClass(TypeElement annotatedClass) {
+        if (annotatedClass.getKind() != ElementKind.CLASS) {
+            throw new UnsupportedElementException(annotatedClass, "Only classes are supported.");
+        }
+        if (!annotatedClass.getTypeParameters().isEmpty()) {
+            throw new UnsupportedElementException(annotatedClass, "Generic classes are not supported.");
+        }
+        if (annotatedClass.getNestingKind() == NestingKind.MEMBER && !annotatedClass.getModifiers().contains(Modifier.STATIC)
+            || annotatedClass.getNestingKind() == NestingKind.LOCAL
+            || annotatedClass.getNestingKind() == NestingKind.ANONYMOUS
+            || !isAccessible(annotatedClass, packageOf(annotatedClass))) {
+            throw new UnsupportedElementException(annotatedClass, "Only top level classes and static nested classes that are "
+                                                                  + "not private are supported.");
+        }
+    }
+
+    private PropertyModel property(String propertyName,
+                                   ExecutableElement getter,
+                                   ExecutableElement setter,
+                                   TypeMirror propertyType,
+                                   List<ExecutableElement> setterOwnerMethods) {
+        PropertyModel.Builder property =
+            PropertyModel.builder()
+                         .name(propertyName)
+                         .attributeName(propertyAnnotation(getter, setter, DYNAMO_DB_ATTRIBUTE)
+                                            .map(a -> (String) annotationValue(a, "value").getValue())
+                                            .orElse(propertyName))
+                         .getter(getter)
+                         .setter(setter)
+                         .overloadedSetter(setterOwnerMethods.stream()
+                                                             .anyMatch(m -> !m.equals(setter)
+                                                                            && m.getSimpleName().equals(setter.getSimpleName())
+                                                                            && m.getParameters().size() == 1))
+                         .type(propertyType)
+                         .flatten(propertyAnnotation(getter, setter, DYNAMO_DB_FLATTEN).isPresent())
+                         .preserveEmptyObject(propertyAnnotation(getter, setter, DYNAMO_DB_PRESERVE_EMPTY_OBJECT).isPresent())
+                         .ignoreNulls(propertyAnnotation(getter, setter, DYNAMO_DB_IGNORE_NULLS).isPresent());
+
+        propertyAnnotation(getter, setter, DYNAMO_DB_CONVERTED_BY).ifPresent(convertedBy -> {
+            TypeMirror converter = (TypeMirror) annotationValue(convertedBy, "value").getValue();
+            validateInstantiable(getter, converter);
+            property.converter(converter);
+        });
+
+        Stream.concat(getter.getAnnotationMirrors().stream(), setter.getAnnotationMirrors().stream())
+              .forEach(annotation -> tag(getter, annotation).ifPresent(property::addTag));
+
+        return property.build();
+    }
+
+    private Optional<PropertyModel.Tag> tag(ExecutableElement getter, AnnotationMirror annotation) {
+        TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+        Optional<AnnotationMirror> attributeTag = annotation(annotationType, BEAN_TABLE_SCHEMA_ATTRIBUTE_TAG);
+        if (!attributeTag.isPresent()) {
+            return Optional.empty();
+        }
+
+        TypeElement tagClass = (TypeElement) types.asElement((TypeMirror) annotationValue(attributeTag.get(), "value")
+                                                                              .getValue());
+        PackageElement generatedPackage = packageOf(getter);
+        boolean hasTagMethod =
+            ElementFilter.methodsIn(tagClass.getEnclosedElements())
+                         .stream()
+                         .anyMatch(m -> m.getSimpleName().contentEquals(ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME)
+                                        && m.getModifiers().containsAll(Arrays.asList(Modifier.PUBLIC, Modifier.STATIC))
+                                        && m.getParameters().size() == 1
+                                        && types.isSameType(m.getParameters().get(0).asType(), annotationType.asType()));
+
+        if (!hasTagMethod || !isAccessible(tagClass, generatedPackage) || !isAccessible(annotationType, generatedPackage)) {
+            throw new UnsupportedElementException(getter, "The attribute tag of @" + annotationType.getSimpleName() + " cannot "
+                                                          + "be created, " + tagClass + " must be accessible and have a "
+                                                          + "public static method named '"
+                                                          + ATTRIBUTE_TAG_STATIC_SUPPLIER_NAME + "' that takes the "
+                                                          + "annotation.");
+        }
+
+        return Optional.of(new PropertyModel.Tag(annotation, tagClass));
+    }
+
+    private List<TypeMirror> converterProviders(TypeElement annotatedClass, AnnotationMirror annotation) {
+        @SuppressWarnings("unchecked")
+        List<? extends AnnotationValue> values = (List<? extends AnnotationValue>) annotationValue(annotation,
+                                                                                                   "converterProviders")
+            .getValue();
+
+        List<TypeMirror> converterProviders = new ArrayList<>();
+        for (AnnotationValue value : values) {
+            TypeMirror converterProvider = (TypeMirror) value.getValue();
+            validateInstantiable(annotatedClass, converterProvider);
+            converterProviders.add(converterProvider);
+        }
+        return converterProviders;
+    }
+
+    /**
+     * The setter of a bean property: the setter {@link Introspector} finds, or else the fluent setter
+     * {@code BeanTableSchema} looks for.
+     */
+    private ExecutableElement beanSetter(TypeElement beanClass,
+                                         List<ExecutableElement> methods,
+                                         String propertyName,
+                                         TypeMirror propertyType,
+                                         List<ExecutableElement> setters) {
+        DeclaredType beanType = (DeclaredType) beanClass.asType();
+
+        for (ExecutableElement setter : setters) {
+            if (isSameErasure(parameterType(beanType, setter), propertyType)) {
+                return setter;
+            }
+        }
+
+        String fluentSetterName = SET_PREFIX + Character.toTitleCase(propertyName.charAt(0)) + propertyName.substring(1);
+        for (ExecutableElement method : methods) {
+            if (name(method).equals(fluentSetterName)
+                && method.getParameters().size() == 1
+                && types.isSameType(method.getReturnType(), types.erasure(beanType))) {
+                if (!isSameErasure(parameterType(beanType, method), propertyType)) {
+                    throw new UnsupportedElementException(method, "The fluent setter does not take the type returned by "
+                                                                  + "the getter of the property.");
+                }
+                return method;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean isValidBuilderSetter(DeclaredType builderType, ExecutableElement setter, TypeMirror propertyType) {
+        if (setter.getParameters().size() != 1 || !isSameErasure(parameterType(builderType, setter), propertyType)) {
+            return false;
+        }
+
+        TypeMirror returnType = setter.getReturnType();
+        return returnType.getKind() == TypeKind.VOID
+               || isType(returnType, Void.class.getName())
+               || types.isAssignable(types.erasure(builderType), types.erasure(returnType));
+    }
+
+    private ExecutableElement staticBuilderMethod(TypeElement immutableClass, TypeElement builderClass) {
+        return ElementFilter.methodsIn(elements.getAllMembers(immutableClass))
+                            .stream()
+                            .filter(m -> name(m).equals(BUILDER_METHOD)
+                                         && m.getParameters().isEmpty()
+                                         && m.getModifiers().containsAll(Arrays.asList(Modifier.PUBLIC, Modifier.STATIC))
+                                         && types.isAssignable(types.erasure(builderClass.asType()),
+                                                               types.erasure(m.getReturnType())))
+                            .findFirst()
+                            .orElse(null);
+    }
+
+    private boolean isMappableImmutableMethod(ExecutableElement method) {
+        return !isType(method.getEnclosingElement().asType(), Object.class.getName())
+               && !annotation(method, DYNAMO_DB_IGNORE).isPresent()
+               && !annotation(method, TRANSIENT).isPresent()
+               && !immutableNamesToExclude.contains(name(method));
+    }
+
+    private String normalizeSetterName(ExecutableElement setter) {
+        String setterName = name(setter);
+
+        if (setterName.length() > 3
+            && Character.isUpperCase(setterName.charAt(3))
+            && setterName.startsWith(SET_PREFIX)) {
+            return Character.toLowerCase(setterName.charAt(3)) + setterName.substring(4);
+        }
+
+        if (setterName.length() > 2
+            && Character.isUpperCase(setterName.charAt(2))
+            && setterName.startsWith(IS_PREFIX)
+            && setter.getParameters().size() == 1
+            && isBoolean(setter.getParameters().get(0).asType())) {
+            return Character.toLowerCase(setterName.charAt(2)) + setterName.substring(3);
+        }
+
+        return setterName;
+    }
+
+    private String normalizeGetterName(ExecutableElement getter) {
+        String getterName = name(getter);
+
+        if (getterName.length() > 2
+            && Character.isUpperCase(getterName.charAt(2))
+            && getterName.startsWith(IS_PREFIX)
+            && isBoolean(getter.getReturnType())) {
+            return Character.toLowerCase(getterName.charAt(2)) + getterName.substring(3);
+        }
+
+        if (getterName.length() > 3
+            && Character.isUpperCase(getterName.charAt(3))
+            && getterName.startsWith(GET_PREFIX)) {
+            return Character.toLowerCase(getterName.charAt(3)) + getterName.substring(4);
+        }
+
+        return getterName;
+    }
+
+    private Optional<AnnotationMirror> propertyAnnotation(ExecutableElement getter, ExecutableElement setter,
+                                                         String annotationName) {
+        Optional<AnnotationMirror> getterAnnotation = annotation(getter, annotationName);
+        return getterAnnotation.isPresent() ? getterAnnotation : annotation(setter, annotationName);
+    }
+
+    private void validateInstantiable(Element element, TypeMirror type) {
+        TypeElement typeElement = type.getKind() == TypeKind.DECLARED ? (TypeElement) types.asElement(type) : null;
+
+        if (typeElement == null
+            || typeElement.getModifiers().contains(Modifier.ABSTRACT)
+            || typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC)
+            || !hasPublicNoArgConstructor(typeElement)
+            || !isAccessible(typeElement, packageOf(element))) {
+            throw new UnsupportedElementException(element, type + " must be an accessible class with a public constructor "
+                                                           + "without arguments.");
+        }
+    }
+
+    private boolean hasPublicNoArgConstructor(TypeElement type) {
+        return ElementFilter.constructorsIn(type.getEnclosedElements())
+                            .stream()
+                            .anyMatch(c -> c.getParameters().isEmpty() && c.getModifiers().contains(Modifier.PUBLIC));
+    }
+
+    private List<ExecutableElement> publicInstanceMethods(TypeElement type) {
+        return ElementFilter.methodsIn(elements.getAllMembers(type))
+                            .stream()
+                            .filter(m -> m.getModifiers().contains(Modifier.PUBLIC)
+                                         && !m.getModifiers().contains(Modifier.STATIC))
+                            .collect(Collectors.toList());
+    }
+
+    private TypeMirror parameterType(DeclaredType owner, ExecutableElement method) {
+        return ((ExecutableType) types.asMemberOf(owner, method)).getParameterTypes().get(0);
+    }
+
+    private boolean isSameErasure(TypeMirror first, TypeMirror second) {
+        return types.isSameType(types.erasure(first), types.erasure(second));
+    }
+
+    private boolean isBoolean(TypeMirror type) {
+        return type.getKind() == TypeKind.BOOLEAN || isType(type, Boolean.class.getName());
+    }
+
+    private boolean isType(TypeMirror type, String className) {
+        return type.getKind() == TypeKind.DECLARED
+               && ((TypeElement) types.asElement(type)).getQualifiedName().contentEquals(className);
+    }
+
+    private String name(ExecutableElement method) {
+        return method.getSimpleName().toString();
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Everything the generated table schema of an annotated class is made of, as found by {@link TableSchemaIntrospector}.
+ */
+@SdkInternalApi
+final class TableSchemaModel {
+    private final TypeElement annotatedClass;
+    private final TypeElement builderClass;
+    private final ExecutableElement staticBuilderMethod;
+    private final ExecutableElement buildMethod;
+    private final List<TypeMirror> converterProviders;
+    private final List<PropertyModel> properties;
+
+    private TableSchemaModel(Builder builder) {
+        this.annotatedClass = builder.annotatedClass;
+        this.builderClass = builder.builderClass;
+        this.staticBuilderMethod = builder.staticBuilderMethod;
+        this.buildMethod = builder.buildMethod;
+        this.converterProviders = Collections.unmodifiableList(new ArrayList<>(builder.converterProviders));
+        this.properties = Collections.unmodifiableList(new ArrayList<>(builder.properties));
+    }
+
+    static Builder builder(TypeElement annotatedClass) {
+        return new Builder(annotatedClass);
+    }
+
+    TypeElement annotatedClass() {
+        return annotatedClass;
+    }
+
+    /**
+     * Whether the annotated class is a {@code @DynamoDbImmutable} class, built with {@link #builderClass()}.
+     */
+    boolean immutable() {
+        return builderClass != null;
+    }
+
+    TypeElement builderClass() {
+        return builderClass;
+    }
+
+    /**
+     * The static {@code builder()} method of the immutable class, or null if the builder class is instantiated directly.
+     */
+    ExecutableElement staticBuilderMethod() {
+        return staticBuilderMethod;
+    }
+
+    ExecutableElement buildMethod() {
+        return buildMethod;
+    }
+
+    List<TypeMirror> converterProviders() {
+        return converterProviders;
+    }
+
+    List<PropertyModel> properties() {
+        return properties;
+    }
+
+    static final class Builder {
+        private final TypeElement annotatedClass;
+        private TypeElement builderClass;
+        private ExecutableElement staticBuilderMethod;
+        private ExecutableElement buildMethod;
+        private final List<TypeMirror> converterProviders = new ArrayList<>();
+        private final List<PropertyModel> properties = new ArrayList<>();
+
+        private Builder(TypeElement annotatedClass) {
+            this.annotatedClass = annotatedClass;
+        }
+
+        Builder builderClass(TypeElement builderClass) {
+            this.builderClass = builderClass;
+            return this;
+        }
+
+        Builder staticBuilderMethod(ExecutableElement staticBuilderMethod) {
+            this.staticBuilderMethod = staticBuilderMethod;
+            return this;
+        }
+
+        Builder buildMethod(ExecutableElement buildMethod) {
+            this.buildMethod = buildMethod;
+            return this;
+        }
+
+        Builder addConverterProvider(TypeMirror converterProvider) {
+            this.converterProviders.add(converterProvider);
+            return this;
+        }
+
+        Builder addProperty(PropertyModel property) {
+            this.properties.add(property);
+            return this;
+        }
+
+        TableSchemaModel build() {
+            return new TableSchemaModel(this);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_BEAN;
+import static software.amazon.awssdk.enhanced.dynamodb.processor.EnhancedClientNames.DYNAMO_DB_IMMUTABLE;
+
+import com.squareup.javapoet.JavaFile;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * An annotation processor generating the table schemas of the classes annotated with {@code @DynamoDbBean} or
+ * {@code @DynamoDbImmutable} at compile time.
+ * <p>
+ * {@code TableSchema.fromBean}, {@code TableSchema.fromImmutableClass} and {@code TableSchema.fromClass} use the generated
+ * table schema of a class when there is one, instead of introspecting the class and creating accessors for its properties at
+ * runtime. This makes creating a table schema much faster, which shortens the startup of applications such as AWS Lambda
+ * functions, and does not need reflection, which helps when building native images.
+ * <p>
+ * To use it, add {@code software.amazon.awssdk:dynamodb-enhanced-processor} to the annotation processor path of the
+ * compiler. With Maven:
+ * <pre>{@code
+ * <plugin>
+ *     <groupId>org.apache.maven.plugins</groupId>
+ *     <artifactId>maven-compiler-plugin</artifactId>
+ *     <configuration>
+ *         <annotationProcessorPaths>
+ *             <path>
+ *                 <groupId>software.amazon.awssdk</groupId>
+ *                 <artifactId>dynamodb-enhanced-processor</artifactId>
+ *                 <version>${awsjavasdk.version}</version>
+ *             </path>
+ *         </annotationProcessorPaths>
+ *     </configuration>
+ * </plugin>
+ * }</pre>
+ * With Gradle:
+ * <pre>{@code
+ * annotationProcessor("software.amazon.awssdk:dynamodb-enhanced-processor:$awsjavasdkVersion")
+ * }</pre>
+ * <p>
+ * The generated table schemas map the same attributes, with the same names, converters and tags, as the ones created at
+ * runtime. A class whose table schema cannot be generated, for example because it is generic, or because a property
+ * would be resolved differently at compile time, gets a compiler warning and keeps being introspected at runtime. The
+ * processor also writes a GraalVM native image configuration registering the generated classes for reflection, as they are
+ * looked up by name.
+ */
+@SdkPublicApi
+public final class TableSchemaProcessor extends AbstractProcessor {
+    private static final String NATIVE_IMAGE_CONFIGURATION_DIRECTORY = "META-INF/native-image/dynamodb-enhanced-processor/";
+
+    private final Set<String> processedClasses = new HashSet<>();
+    private final Set<String> generatedClasses = new TreeSet<>();
+    private TableSchemaIntrospector introspector;
+    private TableSchemaGenerator generator;
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.introspector = new TableSchemaIntrospector(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+        this.generator = new TableSchemaGenerator(processingEnv.getElementUtils(), processingEnv.getTypeUtils(), introspector);
+    }
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new HashSet<>(Arrays.asList(DYNAMO_DB_BEAN, DYNAMO_DB_IMMUTABLE));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement
+                    && processedClasses.add(((TypeElement) element).getQualifiedName().toString())) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+
+        if (roundEnv.processingOver() && !generatedClasses.isEmpty()) {
+            writeNativeImageConfiguration();
+        }
+
+        // The annotations are not claimed, other processors may handle them too.
+        return false;
+    }
+
+    private void generate(TypeElement annotatedClass) {
+        try {
+            TableSchemaModel model = introspector.isImmutableClass(annotatedClass)
+                                     ? introspector.introspectImmutable(annotatedClass)
+                                     : introspector.introspectBean(annotatedClass);
+            JavaFile javaFile = generator.generate(model);
+            javaFile.writeTo(processingEnv.getFiler());
+            generatedClasses.add(generator.factoryClassName(annotatedClass).reflectionName());
+        } catch (UnsupportedElementException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                                                     "The table schema of " + annotatedClass + " is not generated, it will "
+                                                     + "be created at runtime instead: " + e.getMessage(),
+                                                     e.element());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Could not write the table schema of " + annotatedClass + ": " + e,
+                                                     annotatedClass);
+        }
+    }
+
+    private void writeNativeImageConfiguration() {
+        String packageDirectory = generatedClasses.iterator().next();
+        packageDirectory = packageDirectory.substring(0, Math.max(0, packageDirectory.lastIndexOf('.')));
+        String resourceName = NATIVE_IMAGE_CONFIGURATION_DIRECTORY
+                              + (packageDirectory.isEmpty() ? "" : packageDirectory + "/")
+                              + "reflect-config.json";
+
+        StringBuilder configuration = new StringBuilder("[");
+        for (String generatedClass : generatedClasses) {
+            configuration.append(configuration.length() == 1 ? "\n" : ",\n")
+                         .append("  {\"name\": \"").append(generatedClass)
+                         .append("\", \"methods\": [{\"name\": \"<init>\", \"parameterTypes\": []}]}");
+        }
+        configuration.append("\n]\n");
+
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resourceName);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(configuration.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     "Could not write the native image configuration " + resourceName
+                                                     + ": " + e);
+        }
+    }
+}
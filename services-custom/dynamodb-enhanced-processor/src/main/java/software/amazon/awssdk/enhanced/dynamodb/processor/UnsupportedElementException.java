@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import javax.lang.model.element.Element;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * Thrown when the table schema of an annotated class cannot be generated. The class is then left to be introspected at
+ * runtime, which reports the same problems the way it always has.
+ */
+@SdkInternalApi
+final class UnsupportedElementException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final transient Element element;
+
+    UnsupportedElementException(Element element, String message) {
+        super(message);
+        this.element = element;
+    }
+
+    Element element() {
+        return element;
+    }
+}
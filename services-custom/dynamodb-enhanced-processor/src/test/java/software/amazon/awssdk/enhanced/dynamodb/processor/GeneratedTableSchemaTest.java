@@ -0,0 +1,267 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.enhanced.dynamodb.IndexMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.GeneratedTableSchemaFactory;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.Address;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.Author;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.Book;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.Catalog;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.Customer;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.GenericBean;
+import software.amazon.awssdk.enhanced.dynamodb.processor.model.Order;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+/**
+ * Tests the table schemas generated for the classes of the model package, which are compiled with the processor.
+ */
+class GeneratedTableSchemaTest {
+    private static final String MODEL_PACKAGE = Customer.class.getPackage().getName();
+
+    @ParameterizedTest
+    @ValueSource(classes = {Customer.class, Address.class, Order.class, Book.class, Author.class, Catalog.Entry.class})
+    void annotatedClass_hasGeneratedFactory(Class<?> annotatedClass) throws ClassNotFoundException {
+        Class<?> factoryClass = Class.forName(annotatedClass.getName().replace('$', '_') + "_TableSchema");
+
+        assertThat(GeneratedTableSchemaFactory.class).isAssignableFrom(factoryClass);
+    }
+
+    @Test
+    void genericClass_hasNoGeneratedFactory_isIntrospectedAtRuntime() {
+        assertThatThrownBy(() -> Class.forName(GenericBean.class.getName() + "_TableSchema"))
+            .isInstanceOf(ClassNotFoundException.class);
+
+        assertThat(TableSchema.fromBean(GenericBean.class).tableMetadata().primaryPartitionKey()).isEqualTo("id");
+    }
+
+    @Test
+    void fromBean_generatedSchema_mapsItem() {
+        TableSchema<Customer> tableSchema = TableSchema.fromBean(Customer.class);
+        Map<String, AttributeValue> item = tableSchema.itemToMap(customer(), true);
+
+        assertThat(item.get("id").s()).isEqualTo("id-1");
+        assertThat(item.get("customer_region").n()).isEqualTo("7");
+        assertThat(item.get("email").s()).isEqualTo("jane@example.com");
+        assertThat(item.get("active").bool()).isTrue();
+        assertThat(item.get("nickname").s()).isEqualTo("JD");
+        assertThat(item.get("street").s()).isEqualTo("1 Main Street");
+        assertThat(item.get("updatedBy").s()).isEqualTo("admin");
+        assertThat(item.get("lastOrder").m()).containsOnlyKeys("orderId", "total");
+        assertThat(item.get("orders").l()).hasSize(2);
+        assertThat(item.get("orders").l().get(1).m().get("replacedOrder").m().get("orderId").s()).isEqualTo("order-0");
+        assertThat(item.get("ordersByStatus").m().get("open").l()).hasSize(1);
+        assertThat(item.get("tags").ss()).containsExactlyInAnyOrder("a", "b");
+        assertThat(item).doesNotContainKeys("cachedDisplayName", "displayName", "class");
+
+        Customer customer = tableSchema.mapToItem(item);
+        assertThat(customer.getId()).isEqualTo("id-1");
+        assertThat(customer.getRegion()).isEqualTo(7);
+        assertThat(customer.getNickname()).isEqualTo("JD");
+        assertThat(customer.getAddress().getCity()).isEqualTo("Seattle");
+        assertThat(customer.getOrders().get(1).getReplacedOrder().getOrderId()).isEqualTo("order-0");
+        assertThat(customer.getCreatedAt()).isEqualTo(Instant.EPOCH);
+    }
+
+    @Test
+    void fromBean_generatedSchema_hasKeysIndicesAndTags() {
+        TableMetadata tableMetadata = TableSchema.fromBean(Customer.class).tableMetadata();
+
+        assertThat(tableMetadata.primaryPartitionKey()).isEqualTo("id");
+        assertThat(tableMetadata.primarySortKey()).hasValue("customer_region");
+        assertThat(tableMetadata.indexPartitionKey("customers_by_name")).isEqualTo("name");
+        assertThat(tableMetadata.indexSortKey("customers_by_name_and_email")).hasValue("email");
+        assertThat(tableMetadata.customMetadata()).containsEntry("VersionedRecordExtension:VersionAttribute", "version");
+    }
+
+    @Test
+    void fromImmutableClass_generatedSchema_mapsItem() {
+        TableSchema<Book> tableSchema = TableSchema.fromImmutableClass(Book.class);
+        Book book = Book.builder()
+                        .isbn("isbn-1")
+                        .title("Title")
+                        .available(true)
+                        .authors(Collections.singletonList(new Author.Builder().name("Author").build()))
+                        .build();
+
+        Map<String, AttributeValue> item = tableSchema.itemToMap(book, true);
+        assertThat(item).containsOnlyKeys("isbn", "title", "available", "authors");
+        assertThat(item.get("authors").l().get(0).m().get("name").s()).isEqualTo("Author");
+        assertThat(tableSchema.tableMetadata().primaryPartitionKey()).isEqualTo("isbn");
+
+        Book mapped = tableSchema.mapToItem(item);
+        assertThat(mapped.isbn()).isEqualTo("isbn-1");
+        assertThat(mapped.isAvailable()).isTrue();
+        assertThat(mapped.authors().get(0).name()).isEqualTo("Author");
+    }
+
+    @ParameterizedTest
+    @MethodSource("annotatedClasses")
+    void generatedSchema_matchesRuntimeIntrospection(Class<?> annotatedClass, Object item) throws ClassNotFoundException {
+        TableSchema<Object> generated = (TableSchema<Object>) TableSchema.fromClass(annotatedClass);
+        TableSchema<Object> introspected = (TableSchema<Object>) TableSchema.fromClass(
+            new WithoutGeneratedFactoriesClassLoader().loadClass(annotatedClass.getName()));
+
+        assertThat(generated.attributeNames()).containsExactlyInAnyOrderElementsOf(introspected.attributeNames());
+        assertTableMetadataEquals(generated.tableMetadata(), introspected.tableMetadata());
+
+        Map<String, AttributeValue> generatedItem = generated.itemToMap(item, false);
+        assertThat(introspected.itemToMap(introspected.mapToItem(generatedItem), false)).isEqualTo(generatedItem);
+    }
+
+    @Test
+    void nativeImageConfiguration_registersGeneratedFactories() throws IOException {
+        String resource = "META-INF/native-image/dynamodb-enhanced-processor/" + MODEL_PACKAGE + "/reflect-config.json";
+        try (InputStream configuration = getClass().getClassLoader().getResourceAsStream(resource)) {
+            assertThat(configuration).isNotNull();
+            String json = new String(readAll(configuration), StandardCharsets.UTF_8);
+            assertThat(json).contains("\"" + MODEL_PACKAGE + ".Customer_TableSchema\"",
+                                      "\"" + MODEL_PACKAGE + ".Catalog_Entry_TableSchema\"",
+                                      "\"<init>\"")
+                            .doesNotContain("GenericBean");
+        }
+    }
+
+    private static Stream<Arguments> annotatedClasses() {
+        Catalog.Entry entry = new Catalog.Entry();
+        entry.setSku("sku");
+        Book book = Book.builder().isbn("isbn").title("Title").authors(Collections.emptyList()).build();
+        return Stream.of(Arguments.of(Customer.class, customer()),
+                         Arguments.of(Book.class, book),
+                         Arguments.of(Catalog.Entry.class, entry));
+    }
+
+    private static void assertTableMetadataEquals(TableMetadata generated, TableMetadata introspected) {
+        Function<TableMetadata, Map<String, String>> indices =
+            metadata -> metadata.indices().stream().collect(Collectors.toMap(IndexMetadata::name, GeneratedTableSchemaTest::keys));
+
+        assertThat(generated.primaryKeys()).containsExactlyInAnyOrderElementsOf(introspected.primaryKeys());
+        assertThat(indices.apply(generated)).isEqualTo(indices.apply(introspected));
+        assertThat(generated.customMetadata()).isEqualTo(introspected.customMetadata());
+        assertThat(new HashSet<>(generated.allKeys())).isEqualTo(new HashSet<>(introspected.allKeys()));
+    }
+
+    private static String keys(IndexMetadata index) {
+        return index.partitionKey().map(k -> k.name() + ":" + k.attributeValueType()).orElse("") + "/"
+               + index.sortKey().map(k -> k.name() + ":" + k.attributeValueType()).orElse("");
+    }
+
+    private static Customer customer() {
+        Address address = new Address();
+        address.setStreet("1 Main Street");
+        address.setCity("Seattle");
+
+        Order previous = order("order-0", null);
+        Map<String, java.util.List<Order>> ordersByStatus = new HashMap<>();
+        ordersByStatus.put("open", Collections.singletonList(order("order-1", null)));
+
+        Customer customer = new Customer().setNickname("JD");
+        customer.setId("id-1");
+        customer.setRegion(7);
+        customer.setName("Jane");
+        customer.setEmail("Jane@Example.com");
+        customer.setActive(true);
+        customer.setCreatedAt(Instant.EPOCH);
+        customer.setVersion(3L);
+        customer.setAddress(address);
+        customer.setLastOrder(order("order-2", null));
+        customer.setOrders(Arrays.asList(previous, order("order-1", previous)));
+        customer.setOrdersByStatus(ordersByStatus);
+        customer.setTags(new HashSet<>(Arrays.asList("a", "b")));
+        customer.setScores(Collections.singletonMap("x", 1));
+        customer.setAvatar(new byte[] {1, 2, 3});
+        customer.setUpdatedBy("admin");
+        customer.setCachedDisplayName("ignored");
+        return customer;
+    }
+
+    private static Order order(String orderId, Order replacedOrder) {
+        Order order = new Order();
+        order.setOrderId(orderId);
+        order.setTotal(BigDecimal.TEN);
+        order.setReplacedOrder(replacedOrder);
+        return order;
+    }
+
+    private static byte[] readAll(InputStream inputStream) throws IOException {
+        java.io.ByteArrayOutputStream output = new java.io.ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Loads its own copy of the model classes, without their generated factories, so that their table schemas are created
+     * by introspecting them at runtime.
+     */
+    private static final class WithoutGeneratedFactoriesClassLoader extends ClassLoader {
+        private WithoutGeneratedFactoriesClassLoader() {
+            super(GeneratedTableSchemaTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(MODEL_PACKAGE + ".")) {
+                return super.loadClass(name, resolve);
+            }
+            if (name.endsWith("_TableSchema")) {
+                throw new ClassNotFoundException(name);
+            }
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream classFile = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    if (classFile == null) {
+                        throw new ClassNotFoundException(name);
+                    }
+                    byte[] bytes = readAll(classFile);
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.processor.model;
+
+import java.util.List;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+
+@DynamoDbImmutable(builder = Book.Builder.class)
+public final class Book {
+    private final String isbn;
+    private final String title;
+    private final boolean available;
+    private final List<Author> authors;
+
+    private Book(Builder builder) {
+        this.isbn = builder.isbn;
+        this.title = builder.title;
+        this.available = builder.available;
+        this.authors = builder.authors;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @DynamoDbPartitionKey
+    public String isbn() {
+        return isbn;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public List<Author> authors() {
+        return authors;
+    }
+
+    public Builder toBuilder() {
+        return builder().isbn(isbn).title(title).available(available).authors(authors);
+    }
+
+    public static final class Builder {
+        private String isbn;
+        private String title;
+        private boolean available;
+        private List<Author> authors;
+
+        public Builder isbn(String isbn) {
+            this.isbn = isbn;
+            return this;
+        }
+
+        public Builder title(String title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder available(boolean available) {
+            this.available = available;
+            return this;
+        }
+
+        public Builder authors(List<Author> authors) {
+            this.authors = authors;
+            return this;
+        }
+
+        public Book build() {
+            return new Book(this);
+        }
+    }
+}
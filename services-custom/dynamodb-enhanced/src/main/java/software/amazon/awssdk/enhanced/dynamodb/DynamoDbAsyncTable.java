@@ -27,6 +27,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -785,6 +786,62 @@ public interface DynamoDbAsyncTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table with several segments scanned concurrently, and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, each scanned page by page
+     * like {@link #scan(ScanEnhancedRequest)}, with up to {@link ParallelScanEnhancedRequest#maxConcurrency()} segments
+     * scanned at the same time. The pages of all segments are published in the order they are received, so the pages of a
+     * segment are in order but interleaved with the pages of the other segments. The demand of the subscriber is honored:
+     * pages are scanned ahead of it only up to the number of segments scanned concurrently.
+     * <p>
+     * When a scan call is throttled with a {@code ProvisionedThroughputExceededException}, fewer segments are scanned
+     * concurrently for a while, see {@link ParallelScanEnhancedRequest.Builder#maxConcurrency(Integer)}. The progress of
+     * each segment can be followed with a {@link ParallelScanEnhancedRequest.Builder#progressListener}.
+     * <p>
+     * Each subscription scans the table again.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(ParallelScanEnhancedRequest.builder()
+     *                                                                                       .totalSegments(16)
+     *                                                                                       .maxConcurrency(8)
+     *                                                                                       .build());
+     * publisher.items().subscribe(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see ScanEnhancedRequest.Builder#totalSegments(Integer)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan them.
+     * @return a publisher {@link PagePublisher} with paginated results (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table with several segments scanned concurrently, and retrieves all items.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PagePublisher<MyItem> publisher = mappedTable.parallelScan(r -> r.totalSegments(16).scanRequest(s -> s.limit(100)));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining the segments and
+     * how to scan them.
+     * @return a publisher {@link PagePublisher} with paginated results (see {@link Page}).
+     */
+    default PagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
@@ -23,6 +23,7 @@ import software.amazon.awssdk.annotations.NotThreadSafe;
 import software.amazon.awssdk.annotations.SdkPublicApi;
 import software.amazon.awssdk.annotations.ThreadSafe;
 import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.batchmanager.DynamoDbEnhancedAsyncBatchManager;
 import software.amazon.awssdk.enhanced.dynamodb.internal.client.DefaultDynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.BatchGetResultPage;
@@ -527,6 +528,29 @@ public interface DynamoDbEnhancedAsyncClient extends DynamoDbEnhancedResource {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Creates a batch manager using this client, which coalesces individual put, delete and get calls into BatchWriteItem and
+     * BatchGetItem requests, and retries the items DynamoDB returns as unprocessed. See
+     * {@link DynamoDbEnhancedAsyncBatchManager} for details.
+     * <p>
+     * The batch manager must be closed by the caller, before this client.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * try (DynamoDbEnhancedAsyncBatchManager batchManager = enhancedClient.batchManager()) {
+     *     CompletableFuture<Void> put = batchManager.putItem(mappedTable, item);
+     *     CompletableFuture<MyItem> get = batchManager.getItem(mappedTable, key);
+     * }
+     * }
+     * </pre>
+     *
+     * @return a new batch manager using this client.
+     */
+    default DynamoDbEnhancedAsyncBatchManager batchManager() {
+        throw new UnsupportedOperationException();
+    }
 
     /**
      * Creates a default builder for {@link DynamoDbEnhancedAsyncClient}.
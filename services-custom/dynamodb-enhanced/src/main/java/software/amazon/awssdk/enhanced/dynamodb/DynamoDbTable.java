@@ -27,6 +27,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -766,6 +767,62 @@ public interface DynamoDbTable<T> extends MappedTableResource<T> {
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Scans the table with several segments scanned concurrently, and retrieves all items.
+     * <p>
+     * The table is divided into {@link ParallelScanEnhancedRequest#totalSegments()} segments, each scanned page by page
+     * like {@link #scan(ScanEnhancedRequest)}, with up to {@link ParallelScanEnhancedRequest#maxConcurrency()} segments
+     * scanned at the same time. The pages of all segments are returned in the order they are received, so the pages of a
+     * segment are in order but interleaved with the pages of the other segments. Pages are scanned ahead of the iteration
+     * only up to the number of segments scanned concurrently.
+     * <p>
+     * When a scan call is throttled with a {@code ProvisionedThroughputExceededException}, fewer segments are scanned
+     * concurrently for a while, see {@link ParallelScanEnhancedRequest.Builder#maxConcurrency(Integer)}. The progress of
+     * each segment can be followed with a {@link ParallelScanEnhancedRequest.Builder#progressListener}.
+     * <p>
+     * Each iterator scans the table again, with its own threads making the scan calls.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PageIterable<MyItem> results = mappedTable.parallelScan(ParallelScanEnhancedRequest.builder()
+     *                                                                                 .totalSegments(16)
+     *                                                                                 .maxConcurrency(8)
+     *                                                                                 .build());
+     * results.items().forEach(item -> System.out.println(item));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(Consumer)
+     * @see ScanEnhancedRequest.Builder#totalSegments(Integer)
+     * @param request A {@link ParallelScanEnhancedRequest} defining the segments and how to scan them.
+     * @return an iterator of type {@link SdkIterable} with paginated results (see {@link Page}).
+     */
+    default PageIterable<T> parallelScan(ParallelScanEnhancedRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Scans the table with several segments scanned concurrently, and retrieves all items.
+     * <p>
+     * Example:
+     * <pre>
+     * {@code
+     *
+     * PageIterable<MyItem> results = mappedTable.parallelScan(r -> r.totalSegments(16).scanRequest(s -> s.limit(100)));
+     * }
+     * </pre>
+     *
+     * @see #parallelScan(ParallelScanEnhancedRequest)
+     * @param requestConsumer A {@link Consumer} of {@link ParallelScanEnhancedRequest.Builder} defining the segments and
+     * how to scan them.
+     * @return an iterator of type {@link SdkIterable} with paginated results (see {@link Page}).
+     */
+    default PageIterable<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Updates an item in the mapped table, or adds it if it doesn't exist.
      * <p>
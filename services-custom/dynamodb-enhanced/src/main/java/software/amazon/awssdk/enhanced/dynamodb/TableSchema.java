@@ -108,6 +108,9 @@ public interface TableSchema<T> {
      * <p>
      * It's recommended to only create a {@link BeanTableSchema} once for a single bean class, usually at application start up,
      * because it's a moderately expensive operation.
+     * <p>
+     * If the bean class was compiled with the {@code dynamodb-enhanced-processor} annotation processor, the table schema
+     * generated for it at compile time is used instead of scanning the class, which is much cheaper.
      *
      * @param beanClass The bean class this {@link TableSchema} will map records to.
      * @param <T> The type of the item this {@link TableSchema} will map records to.
@@ -155,6 +158,9 @@ public interface TableSchema<T> {
      * <p>
      * It's recommended to only create an {@link ImmutableTableSchema} once for a single immutable class, usually at application
      * start up, because it's a moderately expensive operation.
+     * <p>
+     * If the immutable class was compiled with the {@code dynamodb-enhanced-processor} annotation processor, the table schema
+     * generated for it at compile time is used instead of scanning the class, which is much cheaper.
      *
      * @param immutableClass The immutable class this {@link TableSchema} will map records to.
      * @param <T> The type of the item this {@link TableSchema} will map records to.
@@ -0,0 +1,233 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.batchmanager;
+
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration values for the {@link DynamoDbEnhancedAsyncBatchManager} used for controlling batch operations.
+ * All values are optional, and default values will be used if they are not specified.
+ */
+@SdkPublicApi
+public final class BatchOverrideConfiguration implements ToCopyableBuilder<BatchOverrideConfiguration.Builder,
+    BatchOverrideConfiguration> {
+
+    private final Duration sendRequestFrequency;
+    private final Integer maxWriteBatchSize;
+    private final Integer maxGetBatchSize;
+    private final Integer maxUnprocessedItemsRetries;
+    private final BackoffStrategy unprocessedItemsBackoffStrategy;
+
+    private BatchOverrideConfiguration(Builder builder) {
+        this.sendRequestFrequency = Validate.isPositiveOrNull(builder.sendRequestFrequency, "sendRequestFrequency");
+        this.maxWriteBatchSize = Validate.isPositiveOrNull(builder.maxWriteBatchSize, "maxWriteBatchSize");
+        Validate.isTrue(this.maxWriteBatchSize == null || this.maxWriteBatchSize <= 25,
+                        "The maxWriteBatchSize must be less than or equal to 25. A BatchWriteItem request can contain up to "
+                        + "25 put or delete requests.");
+        this.maxGetBatchSize = Validate.isPositiveOrNull(builder.maxGetBatchSize, "maxGetBatchSize");
+        Validate.isTrue(this.maxGetBatchSize == null || this.maxGetBatchSize <= 100,
+                        "The maxGetBatchSize must be less than or equal to 100. A BatchGetItem request can contain up to "
+                        + "100 keys.");
+        this.maxUnprocessedItemsRetries = builder.maxUnprocessedItemsRetries;
+        Validate.isTrue(this.maxUnprocessedItemsRetries == null || this.maxUnprocessedItemsRetries >= 0,
+                        "The maxUnprocessedItemsRetries must not be negative.");
+        this.unprocessedItemsBackoffStrategy = builder.unprocessedItemsBackoffStrategy;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum duration an individual call waits for additional calls against the same table before being sent.
+     *         If the maximum batch size is reached before this duration, the batch is sent immediately.
+     *         The default value is 10 milliseconds.
+     */
+    public Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    /**
+     * @return the maximum number of put and delete requests sent together in a single BatchWriteItem request. A batch can
+     *         contain up to 25 requests. The default value is 25.
+     */
+    public Integer maxWriteBatchSize() {
+        return maxWriteBatchSize;
+    }
+
+    /**
+     * @return the maximum number of keys sent together in a single BatchGetItem request. A batch can contain up to 100 keys.
+     *         The default value is 100.
+     */
+    public Integer maxGetBatchSize() {
+        return maxGetBatchSize;
+    }
+
+    /**
+     * @return the number of times an item that DynamoDB returned as unprocessed is sent again before its call fails.
+     *         The default value is 10.
+     */
+    public Integer maxUnprocessedItemsRetries() {
+        return maxUnprocessedItemsRetries;
+    }
+
+    /**
+     * @return the strategy computing how long to wait before sending unprocessed items again. The default is an exponential
+     *         delay with full jitter, starting at 50 milliseconds and capped at 10 seconds.
+     */
+    public BackoffStrategy unprocessedItemsBackoffStrategy() {
+        return unprocessedItemsBackoffStrategy;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder()
+            .sendRequestFrequency(sendRequestFrequency)
+            .maxWriteBatchSize(maxWriteBatchSize)
+            .maxGetBatchSize(maxGetBatchSize)
+            .maxUnprocessedItemsRetries(maxUnprocessedItemsRetries)
+            .unprocessedItemsBackoffStrategy(unprocessedItemsBackoffStrategy);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchOverrideConfiguration")
+                       .add("sendRequestFrequency", sendRequestFrequency)
+                       .add("maxWriteBatchSize", maxWriteBatchSize)
+                       .add("maxGetBatchSize", maxGetBatchSize)
+                       .add("maxUnprocessedItemsRetries", maxUnprocessedItemsRetries)
+                       .add("unprocessedItemsBackoffStrategy", unprocessedItemsBackoffStrategy)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BatchOverrideConfiguration that = (BatchOverrideConfiguration) o;
+        return Objects.equals(sendRequestFrequency, that.sendRequestFrequency)
+               && Objects.equals(maxWriteBatchSize, that.maxWriteBatchSize)
+               && Objects.equals(maxGetBatchSize, that.maxGetBatchSize)
+               && Objects.equals(maxUnprocessedItemsRetries, that.maxUnprocessedItemsRetries)
+               && Objects.equals(unprocessedItemsBackoffStrategy, that.unprocessedItemsBackoffStrategy);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Objects.hashCode(sendRequestFrequency);
+        result = 31 * result + Objects.hashCode(maxWriteBatchSize);
+        result = 31 * result + Objects.hashCode(maxGetBatchSize);
+        result = 31 * result + Objects.hashCode(maxUnprocessedItemsRetries);
+        result = 31 * result + Objects.hashCode(unprocessedItemsBackoffStrategy);
+        return result;
+    }
+
+    public static final class Builder implements CopyableBuilder<Builder, BatchOverrideConfiguration> {
+        private Duration sendRequestFrequency;
+        private Integer maxWriteBatchSize;
+        private Integer maxGetBatchSize;
+        private Integer maxUnprocessedItemsRetries;
+        private BackoffStrategy unprocessedItemsBackoffStrategy;
+
+        private Builder() {
+        }
+
+        /**
+         * Specifies the maximum duration an individual put, delete or get call is held for additional calls against the same
+         * table before being sent in a batch. If the maximum batch size is reached before this duration, the batch is sent
+         * immediately.
+         * Increasing the {@code sendRequestFrequency} gives more time for calls to be added to the batch, which reduces the
+         * number of requests, at the cost of the latency of each call. The default value is 10 milliseconds.
+         *
+         * @param sendRequestFrequency The maximum duration a call waits to be batched.
+         * @return This Builder object for method chaining.
+         */
+        public Builder sendRequestFrequency(Duration sendRequestFrequency) {
+            this.sendRequestFrequency = sendRequestFrequency;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of put and delete requests sent together in a single BatchWriteItem request.
+         * A batch can contain up to 25 requests. The default value is 25.
+         *
+         * @param maxWriteBatchSize The maximum number of requests in a BatchWriteItem request.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxWriteBatchSize(Integer maxWriteBatchSize) {
+            this.maxWriteBatchSize = maxWriteBatchSize;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of keys sent together in a single BatchGetItem request.
+         * A batch can contain up to 100 keys. The default value is 100.
+         *
+         * @param maxGetBatchSize The maximum number of keys in a BatchGetItem request.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxGetBatchSize(Integer maxGetBatchSize) {
+            this.maxGetBatchSize = maxGetBatchSize;
+            return this;
+        }
+
+        /**
+         * Specifies how many times an item that DynamoDB returned as unprocessed, usually because the table is throttled,
+         * is sent again before its call fails. The default value is 10.
+         *
+         * @param maxUnprocessedItemsRetries The maximum number of retries of an unprocessed item.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxUnprocessedItemsRetries(Integer maxUnprocessedItemsRetries) {
+            this.maxUnprocessedItemsRetries = maxUnprocessedItemsRetries;
+            return this;
+        }
+
+        /**
+         * Specifies the strategy computing how long to wait before sending unprocessed items again. The default is an
+         * exponential delay with full jitter, starting at 50 milliseconds and capped at 10 seconds.
+         *
+         * @param unprocessedItemsBackoffStrategy The backoff strategy of unprocessed items.
+         * @return This Builder object for method chaining.
+         */
+        public Builder unprocessedItemsBackoffStrategy(BackoffStrategy unprocessedItemsBackoffStrategy) {
+            this.unprocessedItemsBackoffStrategy = unprocessedItemsBackoffStrategy;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link BatchOverrideConfiguration} object based on the values set in this builder.
+         *
+         * @return A new {@link BatchOverrideConfiguration} object.
+         */
+        @Override
+        public BatchOverrideConfiguration build() {
+            return new BatchOverrideConfiguration(this);
+        }
+    }
+}
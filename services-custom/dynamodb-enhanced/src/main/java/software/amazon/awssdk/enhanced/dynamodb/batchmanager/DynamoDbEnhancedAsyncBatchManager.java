@@ -0,0 +1,168 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.internal.batchmanager.DefaultDynamoDbEnhancedAsyncBatchManager;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Batch manager coalescing individual put, delete and get calls into BatchWriteItem and BatchGetItem requests.
+ * <p>
+ * Calls against the same table and table schema are buffered, and sent together once the maximum batch size is reached or
+ * the {@link BatchOverrideConfiguration#sendRequestFrequency()} elapses. Items that DynamoDB returns as unprocessed are sent
+ * again after a backoff, and the future returned by each call completes once its own item has been processed.
+ * <p>
+ * Calls for a key that is already buffered are deduplicated: a put or delete replaces the buffered write of the same item,
+ * and both calls complete once the latest write has been processed, and gets of the same key share one result. Writes of the
+ * same key are sent one at a time, in the order of the calls. There is no ordering between reads and writes.
+ * <p>
+ * As with BatchWriteItem and BatchGetItem, puts and deletes cannot be conditional and gets are eventually consistent.
+ * <p>
+ * Closing the batch manager sends the buffered calls and waits for them to complete. The batch manager does not close the
+ * enhanced client.
+ * <p>
+ * By default, all command methods throw an {@link UnsupportedOperationException} to prevent interface extensions from breaking
+ * implementing classes.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface DynamoDbEnhancedAsyncBatchManager extends SdkAutoCloseable {
+
+    /**
+     * Creates a builder for configuring and creating a {@link DynamoDbEnhancedAsyncBatchManager}.
+     *
+     * @return A new builder.
+     */
+    static Builder builder() {
+        return DefaultDynamoDbEnhancedAsyncBatchManager.builder();
+    }
+
+    /**
+     * Buffers a put of the item into the table, sending it in a BatchWriteItem request.
+     *
+     * @param mappedTable The table to put the item into.
+     * @param item The item to put.
+     * @param <T> The modeled object type of the table.
+     * @return a future completing once the item has been put.
+     */
+    default <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, T item) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers a delete of the item with the given key from the table, sending it in a BatchWriteItem request.
+     *
+     * @param mappedTable The table to delete the item from.
+     * @param key The primary key of the item to delete.
+     * @param <T> The modeled object type of the table.
+     * @return a future completing once the item has been deleted.
+     */
+    default <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTable, Key key) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers a delete of the item with the same primary key as the given item from the table, sending it in a
+     * BatchWriteItem request.
+     *
+     * @param mappedTable The table to delete the item from.
+     * @param keyItem An item with the primary key of the item to delete.
+     * @param <T> The modeled object type of the table.
+     * @return a future completing once the item has been deleted.
+     */
+    default <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTable, T keyItem) {
+        return deleteItem(mappedTable, mappedTable.keyFrom(keyItem));
+    }
+
+    /**
+     * Buffers a get of the item with the given key from the table, sending it in a BatchGetItem request.
+     *
+     * @param mappedTable The table to get the item from.
+     * @param key The primary key of the item to get.
+     * @param <T> The modeled object type of the table.
+     * @return a future completing with the item, or with null if there is no item with this key.
+     */
+    default <T> CompletableFuture<T> getItem(MappedTableResource<T> mappedTable, Key key) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers a get of the item with the same primary key as the given item from the table, sending it in a BatchGetItem
+     * request.
+     *
+     * @param mappedTable The table to get the item from.
+     * @param keyItem An item with the primary key of the item to get.
+     * @param <T> The modeled object type of the table.
+     * @return a future completing with the item, or with null if there is no item with this key.
+     */
+    default <T> CompletableFuture<T> getItem(MappedTableResource<T> mappedTable, T keyItem) {
+        return getItem(mappedTable, mappedTable.keyFrom(keyItem));
+    }
+
+    interface Builder {
+
+        /**
+         * Sets custom overrides for the batch manager configuration.
+         *
+         * @param overrideConfiguration The configuration overrides.
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Sets custom overrides for the batch manager configuration using a {@link Consumer} to configure the overrides.
+         *
+         * @param overrideConfiguration A {@link Consumer} to configure the {@link BatchOverrideConfiguration}.
+         * @return This builder for method chaining.
+         */
+        default Builder overrideConfiguration(Consumer<BatchOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(BatchOverrideConfiguration.builder().applyMutation(overrideConfiguration).build());
+        }
+
+        /**
+         * Sets the enhanced client sending the batches. This client must be closed by the caller.
+         *
+         * @param client The DynamoDbEnhancedAsyncClient to use.
+         * @return This builder for method chaining.
+         */
+        Builder client(DynamoDbEnhancedAsyncClient client);
+
+        /**
+         * Sets a custom {@link ScheduledExecutorService} for the buffer flushes and the retries of unprocessed items. This
+         * executor must be closed by the caller. If not set, the batch manager creates a single thread executor, which is
+         * closed with the batch manager.
+         *
+         * @param scheduledExecutor The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Builds an instance of {@link DynamoDbEnhancedAsyncBatchManager} based on the supplied configurations.
+         *
+         * @return An initialized DynamoDbEnhancedAsyncBatchManager.
+         */
+        DynamoDbEnhancedAsyncBatchManager build();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.SdkServiceClientConfiguration;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.RecordSuccessRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenResponse;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+
+/**
+ * Delays the pages of a parallel scan that are scanned again after being throttled, with the jittered delays the retry
+ * strategy of the client computes for throttling errors, and the scheduled executor of the client.
+ * <p>
+ * Each segment uses its own retry token, so that the delay grows with the number of consecutive throttled pages of the
+ * segment, and the token is given back to the retry strategy when a page of the segment is received.
+ */
+@SdkInternalApi
+public final class ParallelScanBackoff {
+    private static final ParallelScanBackoff NONE = new ParallelScanBackoff(null, null);
+
+    private final RetryStrategy retryStrategy;
+    private final ScheduledExecutorService scheduler;
+
+    private ParallelScanBackoff(RetryStrategy retryStrategy, ScheduledExecutorService scheduler) {
+        this.retryStrategy = retryStrategy;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Uses the retry strategy and the scheduled executor of the provided client. Throttled pages are scanned again without
+     * delay when the client does not expose them, like clients that are not built by the SDK.
+     */
+    public static ParallelScanBackoff create(SdkClient client) {
+        SdkServiceClientConfiguration configuration;
+        try {
+            configuration = client.serviceClientConfiguration();
+        } catch (UnsupportedOperationException e) {
+            return NONE;
+        }
+        ClientOverrideConfiguration overrideConfiguration = configuration != null ? configuration.overrideConfiguration() : null;
+        if (overrideConfiguration == null) {
+            return NONE;
+        }
+        Optional<RetryStrategy> retryStrategy = overrideConfiguration.retryStrategy();
+        Optional<ScheduledExecutorService> scheduler = overrideConfiguration.scheduledExecutorService();
+        if (!retryStrategy.isPresent() || !scheduler.isPresent()) {
+            return NONE;
+        }
+        return create(retryStrategy.get(), scheduler.get());
+    }
+
+    static ParallelScanBackoff create(RetryStrategy retryStrategy, ScheduledExecutorService scheduler) {
+        return new ParallelScanBackoff(retryStrategy, scheduler);
+    }
+
+    /**
+     * Scans throttled pages again without delay.
+     */
+    public static ParallelScanBackoff none() {
+        return NONE;
+    }
+
+    /**
+     * Computes the delay before a throttled page of a segment is scanned again.
+     *
+     * @param segment the throttled segment.
+     * @param token the retry token of the segment, or null if its previous page was not throttled.
+     * @param throttling the throttling error.
+     * @return the retry token of the segment and the delay, or empty if the retry strategy refuses to retry, even with a new
+     * token.
+     */
+    Optional<ThrottledAttempt> throttled(int segment, RetryToken token, Throwable throttling) {
+        if (retryStrategy == null) {
+            return Optional.of(new ThrottledAttempt(null, Duration.ZERO));
+        }
+        if (token != null) {
+            try {
+                return Optional.of(refresh(token, throttling));
+            } catch (TokenAcquisitionFailedException e) {
+                // The attempts of the token are exhausted, start over with a new token, which fails if the retry strategy
+                // has no capacity left.
+            }
+        }
+        try {
+            RetryToken initialToken =
+                retryStrategy.acquireInitialToken(AcquireInitialTokenRequest.create("parallel-scan-segment-" + segment)).token();
+            return Optional.of(refresh(initialToken, throttling));
+        } catch (TokenAcquisitionFailedException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Gives the retry token of a segment back to the retry strategy, once a page of the segment is received.
+     */
+    void recordSuccess(RetryToken token) {
+        if (retryStrategy != null && token != null) {
+            retryStrategy.recordSuccess(RecordSuccessRequest.create(token));
+        }
+    }
+
+    /**
+     * Runs the task after the delay, or right away when there is no delay or the scheduled executor is shut down.
+     */
+    void schedule(Runnable task, Duration delay) {
+        if (scheduler == null || delay.isZero()) {
+            task.run();
+            return;
+        }
+        try {
+            scheduler.schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private ThrottledAttempt refresh(RetryToken token, Throwable throttling) {
+        RefreshRetryTokenResponse response =
+            retryStrategy.refreshRetryToken(RefreshRetryTokenRequest.builder().token(token).failure(throttling).build());
+        return new ThrottledAttempt(response.token(), response.delay());
+    }
+
+    static final class ThrottledAttempt {
+        private final RetryToken token;
+        private final Duration delay;
+
+        private ThrottledAttempt(RetryToken token, Duration delay) {
+            this.token = token;
+            this.delay = delay;
+        }
+
+        RetryToken token() {
+            return token;
+        }
+
+        Duration delay() {
+            return delay;
+        }
+    }
+}
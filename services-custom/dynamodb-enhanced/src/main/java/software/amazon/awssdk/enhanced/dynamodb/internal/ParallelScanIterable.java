@@ -0,0 +1,155 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.exception.AbortedException;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+
+/**
+ * Iterates over the pages of all the segments of a parallel scan, in the order they are received, by blocking on a
+ * {@link ParallelScanPublisher}.
+ * <p>
+ * Each iterator scans the table again, with its own threads making the synchronous scan calls. The threads are stopped
+ * when the iterator is exhausted, and otherwise time out when they are idle, so that an iterator that is not exhausted
+ * does not leak them.
+ */
+@SdkInternalApi
+public final class ParallelScanIterable<T> implements SdkIterable<Page<T>> {
+    private static final long THREAD_KEEP_ALIVE_SECONDS = 60;
+
+    private final ParallelScanEnhancedRequest request;
+    private final Function<ScanEnhancedRequest, Page<T>> scanCall;
+    private final ParallelScanBackoff backoff;
+
+    public ParallelScanIterable(ParallelScanEnhancedRequest request, Function<ScanEnhancedRequest, Page<T>> scanCall) {
+        this(request, scanCall, ParallelScanBackoff.none());
+    }
+
+    public ParallelScanIterable(ParallelScanEnhancedRequest request, Function<ScanEnhancedRequest, Page<T>> scanCall,
+                                ParallelScanBackoff backoff) {
+        this.request = request;
+        this.scanCall = scanCall;
+        this.backoff = backoff;
+    }
+
+    @Override
+    public Iterator<Page<T>> iterator() {
+        int maxConcurrency = ParallelScanPublisher.maxConcurrency(request);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency,
+                                                             THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                                                             new LinkedBlockingQueue<>(),
+                                                             new ThreadFactoryBuilder().threadNamePrefix("sdk-parallel-scan")
+                                                                                       .daemonThreads(true)
+                                                                                       .build());
+        executor.allowCoreThreadTimeOut(true);
+
+        ParallelScanPublisher<T> publisher =
+            new ParallelScanPublisher<>(request, r -> CompletableFuture.supplyAsync(() -> scanCall.apply(r), executor),
+                                        backoff);
+        PageIterator<T> iterator = new PageIterator<>(executor);
+        publisher.subscribe(iterator);
+        return iterator;
+    }
+
+    private static final class PageIterator<T> implements Iterator<Page<T>>, Subscriber<Page<T>> {
+        private static final Object COMPLETE = new Object();
+
+        private final BlockingQueue<Object> events = new LinkedBlockingQueue<>();
+        private final ThreadPoolExecutor executor;
+        private volatile Subscription subscription;
+        private Object next;
+
+        private PageIterator(ThreadPoolExecutor executor) {
+            this.executor = executor;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Page<T> page) {
+            events.add(page);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            events.add(t);
+        }
+
+        @Override
+        public void onComplete() {
+            events.add(COMPLETE);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                subscription.request(1);
+                try {
+                    next = events.take();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    subscription.cancel();
+                    executor.shutdownNow();
+                    throw AbortedException.create("Interrupted while waiting for the next page of the parallel scan.", e);
+                }
+                if (!(next instanceof Page)) {
+                    executor.shutdown();
+                }
+            }
+
+            if (next instanceof RuntimeException) {
+                throw (RuntimeException) next;
+            }
+            if (next instanceof Error) {
+                throw (Error) next;
+            }
+            if (next instanceof Throwable) {
+                throw SdkClientException.create("The parallel scan failed.", (Throwable) next);
+            }
+            return next != COMPLETE;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Page<T> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Page<T> page = (Page<T>) next;
+            next = null;
+            return page;
+        }
+    }
+}
@@ -0,0 +1,354 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.internal.ParallelScanBackoff.ThrottledAttempt;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanProgressListener;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Publishes the pages of all the segments of a parallel scan, in the order they are received.
+ * <p>
+ * Each segment is scanned one page at a time, by calling the scan call with the scan request of the segment and the last
+ * evaluated key of its previous page. Up to the current concurrency, pages of different segments are scanned at the same
+ * time, and the number of pages scanned or waiting for demand is bounded by the current concurrency, so that a slow
+ * subscriber stops the scan instead of buffering the table.
+ * <p>
+ * The concurrency is halved when a scan call fails with a {@link ProvisionedThroughputExceededException}, and the throttled
+ * page is scanned again after the delay computed by the {@link ParallelScanBackoff}. It is increased by one every
+ * {@code maxConcurrency} pages received, up to {@code maxConcurrency}.
+ */
+@SdkInternalApi
+public final class ParallelScanPublisher<T> implements SdkPublisher<Page<T>> {
+    private static final ParallelScanProgressListener NO_OP_LISTENER = new ParallelScanProgressListener() {
+    };
+
+    private final ParallelScanEnhancedRequest request;
+    private final Function<ScanEnhancedRequest, CompletableFuture<Page<T>>> scanCall;
+    private final ParallelScanBackoff backoff;
+
+    public ParallelScanPublisher(ParallelScanEnhancedRequest request,
+                                 Function<ScanEnhancedRequest, CompletableFuture<Page<T>>> scanCall) {
+        this(request, scanCall, ParallelScanBackoff.none());
+    }
+
+    public ParallelScanPublisher(ParallelScanEnhancedRequest request,
+                                 Function<ScanEnhancedRequest, CompletableFuture<Page<T>>> scanCall,
+                                 ParallelScanBackoff backoff) {
+        this.request = Validate.paramNotNull(request, "request");
+        this.scanCall = Validate.paramNotNull(scanCall, "scanCall");
+        this.backoff = Validate.paramNotNull(backoff, "backoff");
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super Page<T>> subscriber) {
+        ParallelScanSubscription subscription = new ParallelScanSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * The maximum number of segments scanned concurrently, which is never more than the number of segments.
+     */
+    static int maxConcurrency(ParallelScanEnhancedRequest request) {
+        Integer maxConcurrency = request.maxConcurrency();
+        return maxConcurrency == null ? request.totalSegments() : Math.min(maxConcurrency, request.totalSegments());
+    }
+
+    private final class ParallelScanSubscription implements Subscription {
+        private final Subscriber<? super Page<T>> subscriber;
+        private final ParallelScanProgressListener listener;
+        private final int maxConcurrency;
+
+        private final Deque<SegmentPosition> pendingSegments = new ArrayDeque<>();
+        private final Queue<Page<T>> receivedPages = new ArrayDeque<>();
+        private int remainingSegments;
+        private int inFlight;
+        private int concurrency;
+        private int concurrencyEpoch;
+        private int pagesSinceConcurrencyChange;
+        private long demand;
+        private Throwable failure;
+        private boolean draining;
+        private boolean terminated;
+
+        private ParallelScanSubscription(Subscriber<? super Page<T>> subscriber) {
+            this.subscriber = subscriber;
+            this.listener = request.progressListener() != null ? request.progressListener() : NO_OP_LISTENER;
+            this.maxConcurrency = maxConcurrency(request);
+            this.concurrency = maxConcurrency;
+            this.remainingSegments = request.totalSegments();
+            for (int segment = 0; segment < request.totalSegments(); segment++) {
+                pendingSegments.add(new SegmentPosition(segment, null, null));
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            synchronized (this) {
+                if (n <= 0) {
+                    failure = new IllegalArgumentException("Demand must be positive, see rule 3.9 of the reactive streams "
+                                                           + "specification, but was " + n);
+                } else {
+                    demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+                }
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                terminated = true;
+                pendingSegments.clear();
+                receivedPages.clear();
+            }
+        }
+
+        /**
+         * Delivers the received pages while there is demand, starts scanning pending segments while the concurrency allows
+         * it, and completes the subscriber when all segments are scanned. Only one thread drains at a time, the others only
+         * update the state, which the draining thread picks up before it stops draining.
+         */
+        private void drain() {
+            synchronized (this) {
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+
+            while (true) {
+                Page<T> page = null;
+                Throwable error = null;
+                boolean complete = false;
+                List<ScanCall> scanCalls = new ArrayList<>();
+
+                synchronized (this) {
+                    if (terminated) {
+                        draining = false;
+                        return;
+                    }
+                    if (failure != null) {
+                        error = failure;
+                        cancel();
+                    } else if (demand > 0 && !receivedPages.isEmpty()) {
+                        page = receivedPages.poll();
+                        demand--;
+                    } else if (remainingSegments == 0 && receivedPages.isEmpty()) {
+                        complete = true;
+                        cancel();
+                    } else {
+                        while (inFlight + receivedPages.size() < concurrency && !pendingSegments.isEmpty()) {
+                            scanCalls.add(new ScanCall(pendingSegments.poll(), concurrencyEpoch));
+                            inFlight++;
+                        }
+                        if (scanCalls.isEmpty()) {
+                            draining = false;
+                            return;
+                        }
+                    }
+                }
+
+                if (error != null) {
+                    subscriber.onError(error);
+                } else if (complete) {
+                    subscriber.onComplete();
+                } else if (page != null) {
+                    subscriber.onNext(page);
+                }
+                scanCalls.forEach(this::scan);
+            }
+        }
+
+        private void scan(ScanCall call) {
+            ScanEnhancedRequest segmentRequest = request.scanRequest()
+                                                        .toBuilder()
+                                                        .segment(call.position.segment)
+                                                        .totalSegments(request.totalSegments())
+                                                        .exclusiveStartKey(call.position.exclusiveStartKey)
+                                                        .build();
+            CompletableFuture<Page<T>> pageFuture;
+            try {
+                pageFuture = scanCall.apply(segmentRequest);
+            } catch (Throwable t) {
+                scanFailed(call, t);
+                return;
+            }
+            pageFuture.whenComplete((page, t) -> {
+                if (t != null) {
+                    scanFailed(call, t);
+                } else {
+                    pageReceived(call, page);
+                }
+            });
+        }
+
+        private void pageReceived(ScanCall call, Page<T> page) {
+            backoff.recordSuccess(call.position.retryToken);
+            int segment = call.position.segment;
+            Map<String, AttributeValue> lastEvaluatedKey = page.lastEvaluatedKey();
+            try {
+                listener.pageReceived(segment, page);
+                if (lastEvaluatedKey == null) {
+                    listener.segmentCompleted(segment);
+                }
+            } catch (Throwable t) {
+                scanFailed(call, t);
+                return;
+            }
+
+            int newConcurrency = 0;
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                inFlight--;
+                receivedPages.add(page);
+                if (lastEvaluatedKey != null) {
+                    pendingSegments.add(new SegmentPosition(segment, lastEvaluatedKey, null));
+                } else {
+                    remainingSegments--;
+                }
+                if (concurrency < maxConcurrency && ++pagesSinceConcurrencyChange >= maxConcurrency) {
+                    concurrency++;
+                    pagesSinceConcurrencyChange = 0;
+                    newConcurrency = concurrency;
+                }
+            }
+
+            notifyConcurrencyChanged(newConcurrency);
+            drain();
+        }
+
+        private void scanFailed(ScanCall call, Throwable t) {
+            Throwable cause = t instanceof CompletionException && t.getCause() != null ? t.getCause() : t;
+            boolean throttled = cause instanceof ProvisionedThroughputExceededException;
+            Optional<ThrottledAttempt> throttledAttempt =
+                throttled ? backoff.throttled(call.position.segment, call.position.retryToken, cause) : Optional.empty();
+
+            int newConcurrency = 0;
+            SegmentPosition retriedPosition = null;
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                inFlight--;
+                if (!throttled || !throttledAttempt.isPresent()) {
+                    // Not throttled, or throttled and refused another attempt by the retry strategy of the client.
+                    failure = cause;
+                } else if (call.concurrencyEpoch != concurrencyEpoch) {
+                    // Scanned before the last concurrency decrease, which this throttling does not need to be added to.
+                    retriedPosition = call.position.withRetryToken(throttledAttempt.get().token());
+                } else if (concurrency == 1) {
+                    failure = cause;
+                } else {
+                    concurrency = Math.max(1, concurrency / 2);
+                    concurrencyEpoch++;
+                    pagesSinceConcurrencyChange = 0;
+                    newConcurrency = concurrency;
+                    retriedPosition = call.position.withRetryToken(throttledAttempt.get().token());
+                }
+            }
+
+            notifyConcurrencyChanged(newConcurrency);
+            if (retriedPosition != null) {
+                SegmentPosition position = retriedPosition;
+                backoff.schedule(() -> retryThrottled(position), throttledAttempt.get().delay());
+            } else {
+                drain();
+            }
+        }
+
+        /**
+         * Scans a throttled page again before the pages of the other segments, once its backoff delay has elapsed.
+         */
+        private void retryThrottled(SegmentPosition position) {
+            synchronized (this) {
+                if (terminated) {
+                    return;
+                }
+                pendingSegments.addFirst(position);
+            }
+            drain();
+        }
+
+        private void notifyConcurrencyChanged(int newConcurrency) {
+            if (newConcurrency == 0) {
+                return;
+            }
+            try {
+                listener.concurrencyChanged(newConcurrency);
+            } catch (Throwable t) {
+                synchronized (this) {
+                    if (failure == null) {
+                        failure = t;
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class SegmentPosition {
+        private final int segment;
+        private final Map<String, AttributeValue> exclusiveStartKey;
+
+        /**
+         * The retry token of the segment while its pages are throttled, null otherwise.
+         */
+        private final RetryToken retryToken;
+
+        private SegmentPosition(int segment, Map<String, AttributeValue> exclusiveStartKey, RetryToken retryToken) {
+            this.segment = segment;
+            this.exclusiveStartKey = exclusiveStartKey;
+            this.retryToken = retryToken;
+        }
+
+        private SegmentPosition withRetryToken(RetryToken retryToken) {
+            return new SegmentPosition(segment, exclusiveStartKey, retryToken);
+        }
+    }
+
+    private static final class ScanCall {
+        private final SegmentPosition position;
+        private final int concurrencyEpoch;
+
+        private ScanCall(SegmentPosition position, int concurrencyEpoch) {
+            this.position = position;
+            this.concurrencyEpoch = concurrencyEpoch;
+        }
+    }
+}
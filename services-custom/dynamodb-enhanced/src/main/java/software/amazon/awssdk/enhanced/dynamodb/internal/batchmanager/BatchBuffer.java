@@ -0,0 +1,297 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+
+/**
+ * Buffers the calls against one table and sends them in batches, once {@code maxBatchSize} calls are buffered or
+ * {@code sendRequestFrequency} after the first buffered call, whichever comes first.
+ * <p>
+ * Calls are identified by the primary key of their item, and a call for a key that is already buffered is merged into the
+ * buffered one, as a batch cannot contain the same key twice. Entries that DynamoDB returns as unprocessed are sent again, in
+ * a batch of their own, after the backoff computed for their attempt, until {@code maxUnprocessedItemsRetries} is reached.
+ * <p>
+ * If {@code oneCallPerKeyInFlight} is set, a call for a key that is being sent waits for it to complete before being sent,
+ * so that the calls of the same key are processed in order.
+ *
+ * @param <R> The result of the calls.
+ * @param <E> The entries buffering the calls.
+ */
+@SdkInternalApi
+@ThreadSafe
+abstract class BatchBuffer<R, E extends BatchBuffer.Entry<R, E>> {
+    private final ScheduledExecutorService scheduledExecutor;
+    private final int maxBatchSize;
+    private final Duration sendRequestFrequency;
+    private final int maxUnprocessedItemsRetries;
+    private final BackoffStrategy unprocessedItemsBackoffStrategy;
+    private final boolean oneCallPerKeyInFlight;
+
+    private final Map<Map<String, AttributeValue>, E> pending = new LinkedHashMap<>();
+    private final Map<Map<String, AttributeValue>, E> waitingForInFlight = new HashMap<>();
+    private final Set<Map<String, AttributeValue>> inFlight = new HashSet<>();
+    private ScheduledFuture<?> scheduledFlush;
+    private boolean closed;
+
+    protected BatchBuffer(ScheduledExecutorService scheduledExecutor,
+                          BatchManagerConfiguration configuration,
+                          int maxBatchSize,
+                          boolean oneCallPerKeyInFlight) {
+        this.scheduledExecutor = scheduledExecutor;
+        this.maxBatchSize = maxBatchSize;
+        this.sendRequestFrequency = configuration.sendRequestFrequency();
+        this.maxUnprocessedItemsRetries = configuration.maxUnprocessedItemsRetries();
+        this.unprocessedItemsBackoffStrategy = configuration.unprocessedItemsBackoffStrategy();
+        this.oneCallPerKeyInFlight = oneCallPerKeyInFlight;
+    }
+
+    /**
+     * Sends the entries of a batch, returning the primary keys of the entries DynamoDB did not process. Implementations set
+     * the results of the processed entries before returning.
+     */
+    protected abstract CompletableFuture<Collection<Map<String, AttributeValue>>> sendBatch(List<E> batch);
+
+    /**
+     * Buffers a call, returning the future completing with its result.
+     */
+    CompletableFuture<R> add(E entry) {
+        CompletableFuture<R> result = entry.futures().get(0);
+        List<List<E>> batches;
+        synchronized (this) {
+            if (oneCallPerKeyInFlight && inFlight.contains(entry.key())) {
+                waitingForInFlight.merge(entry.key(), entry, BatchBuffer::merge);
+                return result;
+            }
+            pending.merge(entry.key(), entry, BatchBuffer::merge);
+            batches = takeBatches(false);
+        }
+        batches.forEach(batch -> send(batch, 1));
+        return result;
+    }
+
+    /**
+     * Sends all the buffered calls. The calls buffered afterwards are sent immediately.
+     */
+    void close() {
+        List<List<E>> batches;
+        synchronized (this) {
+            closed = true;
+            batches = takeBatches(true);
+        }
+        batches.forEach(batch -> send(batch, 1));
+    }
+
+    private void flush() {
+        List<List<E>> batches;
+        synchronized (this) {
+            scheduledFlush = null;
+            batches = takeBatches(true);
+        }
+        batches.forEach(batch -> send(batch, 1));
+    }
+
+    /**
+     * Takes the batches to send from the pending entries, and schedules the flush of the remaining ones. Must be called
+     * while holding the lock.
+     */
+    private List<List<E>> takeBatches(boolean flush) {
+        List<List<E>> batches = new ArrayList<>();
+        while (pending.size() >= maxBatchSize || (flush || closed) && !pending.isEmpty()) {
+            batches.add(takeBatch());
+        }
+
+        if (pending.isEmpty() && scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        } else if (!pending.isEmpty() && scheduledFlush == null) {
+            try {
+                scheduledFlush = scheduledExecutor.schedule(this::flush, sendRequestFrequency.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                // The executor was shut down, there will be no later flush.
+                while (!pending.isEmpty()) {
+                    batches.add(takeBatch());
+                }
+            }
+        }
+        return batches;
+    }
+
+    private List<E> takeBatch() {
+        List<E> batch = new ArrayList<>(Math.min(maxBatchSize, pending.size()));
+        Iterator<E> entries = pending.values().iterator();
+        while (entries.hasNext() && batch.size() < maxBatchSize) {
+            E entry = entries.next();
+            entries.remove();
+            batch.add(entry);
+            if (oneCallPerKeyInFlight) {
+                inFlight.add(entry.key());
+            }
+        }
+        return batch;
+    }
+
+    private void send(List<E> batch, int attempt) {
+        CompletableFuture<Collection<Map<String, AttributeValue>>> response;
+        try {
+            response = sendBatch(batch);
+        } catch (Throwable t) {
+            response = CompletableFutureUtils.failedFuture(t);
+        }
+
+        response.whenComplete((unprocessedKeys, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                batch.forEach(entry -> complete(entry, cause));
+                return;
+            }
+
+            Set<Map<String, AttributeValue>> unprocessed = new HashSet<>(unprocessedKeys);
+            List<E> retries = new ArrayList<>();
+            for (E entry : batch) {
+                if (unprocessed.contains(entry.key())) {
+                    retries.add(entry);
+                } else {
+                    complete(entry, null);
+                }
+            }
+
+            if (!retries.isEmpty()) {
+                retry(retries, attempt);
+            }
+        });
+    }
+
+    private void retry(List<E> unprocessed, int attempt) {
+        if (attempt > maxUnprocessedItemsRetries) {
+            SdkClientException error = SdkClientException.create("The item was still unprocessed after "
+                                                                  + maxUnprocessedItemsRetries + " retries.");
+            unprocessed.forEach(entry -> complete(entry, error));
+            return;
+        }
+
+        // The backoff strategy counts the first attempt, which is not delayed.
+        Duration delay = unprocessedItemsBackoffStrategy.computeDelay(attempt + 1);
+        try {
+            scheduledExecutor.schedule(() -> send(unprocessed, attempt + 1), delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            SdkClientException error = SdkClientException.create("The unprocessed item could not be retried, the executor of "
+                                                                  + "the batch manager was shut down.", e);
+            unprocessed.forEach(entry -> complete(entry, error));
+        }
+    }
+
+    private void complete(E entry, Throwable error) {
+        entry.complete(error);
+        if (!oneCallPerKeyInFlight) {
+            return;
+        }
+
+        List<List<E>> batches;
+        synchronized (this) {
+            inFlight.remove(entry.key());
+            E waiting = waitingForInFlight.remove(entry.key());
+            if (waiting == null) {
+                return;
+            }
+            pending.put(waiting.key(), waiting);
+            batches = takeBatches(false);
+        }
+        batches.forEach(batch -> send(batch, 1));
+    }
+
+    /**
+     * Returns the primary key attributes of an item, which identify its calls.
+     */
+    static Map<String, AttributeValue> primaryKey(TableSchema<?> tableSchema, Map<String, AttributeValue> item) {
+        Map<String, AttributeValue> key = new HashMap<>();
+        for (String keyName : tableSchema.tableMetadata().primaryKeys()) {
+            key.put(keyName, item.get(keyName));
+        }
+        return key;
+    }
+
+    private static <E extends Entry<?, E>> E merge(E buffered, E later) {
+        buffered.merge(later);
+        return buffered;
+    }
+
+    /**
+     * A buffered call, or several merged calls for the same primary key.
+     */
+    abstract static class Entry<R, E extends Entry<R, E>> {
+        private final Map<String, AttributeValue> key;
+        private final List<CompletableFuture<R>> futures = new ArrayList<>(1);
+
+        protected Entry(Map<String, AttributeValue> key) {
+            this.key = key;
+            this.futures.add(new CompletableFuture<>());
+        }
+
+        Map<String, AttributeValue> key() {
+            return key;
+        }
+
+        /**
+         * Merges a call for the same primary key, buffered after this one.
+         */
+        protected void merge(E later) {
+            futures.addAll(later.futures());
+        }
+
+        /**
+         * The result of the calls, once the entry has been processed.
+         */
+        protected abstract R result();
+
+        List<CompletableFuture<R>> futures() {
+            return futures;
+        }
+
+        void complete(Throwable error) {
+            R result = error == null ? result() : null;
+            for (CompletableFuture<R> future : futures) {
+                if (error == null) {
+                    future.complete(result);
+                } else {
+                    future.completeExceptionally(error);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchmanager;
+
+import java.time.Duration;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+
+/**
+ * The {@link BatchOverrideConfiguration} of a batch manager, with the default values of the settings that are not overridden.
+ */
+@SdkInternalApi
+final class BatchManagerConfiguration {
+    static final Duration DEFAULT_SEND_REQUEST_FREQUENCY = Duration.ofMillis(10);
+    static final int DEFAULT_MAX_WRITE_BATCH_SIZE = 25;
+    static final int DEFAULT_MAX_GET_BATCH_SIZE = 100;
+    static final int DEFAULT_MAX_UNPROCESSED_ITEMS_RETRIES = 10;
+    static final BackoffStrategy DEFAULT_UNPROCESSED_ITEMS_BACKOFF_STRATEGY =
+        BackoffStrategy.exponentialDelay(Duration.ofMillis(50), Duration.ofSeconds(10));
+
+    private final Duration sendRequestFrequency;
+    private final int maxWriteBatchSize;
+    private final int maxGetBatchSize;
+    private final int maxUnprocessedItemsRetries;
+    private final BackoffStrategy unprocessedItemsBackoffStrategy;
+
+    BatchManagerConfiguration(BatchOverrideConfiguration overrides) {
+        BatchOverrideConfiguration configuration = overrides != null ? overrides : BatchOverrideConfiguration.builder().build();
+        this.sendRequestFrequency = configuration.sendRequestFrequency() != null
+                                    ? configuration.sendRequestFrequency()
+                                    : DEFAULT_SEND_REQUEST_FREQUENCY;
+        this.maxWriteBatchSize = configuration.maxWriteBatchSize() != null
+                                 ? configuration.maxWriteBatchSize()
+                                 : DEFAULT_MAX_WRITE_BATCH_SIZE;
+        this.maxGetBatchSize = configuration.maxGetBatchSize() != null
+                               ? configuration.maxGetBatchSize()
+                               : DEFAULT_MAX_GET_BATCH_SIZE;
+        this.maxUnprocessedItemsRetries = configuration.maxUnprocessedItemsRetries() != null
+                                          ? configuration.maxUnprocessedItemsRetries()
+                                          : DEFAULT_MAX_UNPROCESSED_ITEMS_RETRIES;
+        this.unprocessedItemsBackoffStrategy = configuration.unprocessedItemsBackoffStrategy() != null
+                                               ? configuration.unprocessedItemsBackoffStrategy()
+                                               : DEFAULT_UNPROCESSED_ITEMS_BACKOFF_STRATEGY;
+    }
+
+    Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    int maxWriteBatchSize() {
+        return maxWriteBatchSize;
+    }
+
+    int maxGetBatchSize() {
+        return maxGetBatchSize;
+    }
+
+    int maxUnprocessedItemsRetries() {
+        return maxUnprocessedItemsRetries;
+    }
+
+    BackoffStrategy unprocessedItemsBackoffStrategy() {
+        return unprocessedItemsBackoffStrategy;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchmanager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.batchmanager.DynamoDbEnhancedAsyncBatchManager;
+import software.amazon.awssdk.enhanced.dynamodb.internal.client.DefaultDynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
+import software.amazon.awssdk.utils.Validate;
+
+@SdkInternalApi
+public final class DefaultDynamoDbEnhancedAsyncBatchManager implements DynamoDbEnhancedAsyncBatchManager {
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final BatchManagerConfiguration configuration;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final boolean closeScheduledExecutor;
+
+    private final ConcurrentMap<BufferKey, WriteBatchBuffer<?>> writeBuffers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<BufferKey, GetBatchBuffer<?>> getBuffers = new ConcurrentHashMap<>();
+    private final Set<CompletableFuture<?>> pendingCalls = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed;
+
+    private DefaultDynamoDbEnhancedAsyncBatchManager(DefaultBuilder builder) {
+        DynamoDbEnhancedAsyncClient client = Validate.paramNotNull(builder.client, "client");
+        this.dynamoDbClient = Validate.isInstanceOf(DefaultDynamoDbEnhancedAsyncClient.class, client,
+                                                    "The client must be created with DynamoDbEnhancedAsyncClient.builder().")
+                                      .dynamoDbAsyncClient();
+        this.configuration = new BatchManagerConfiguration(builder.overrideConfiguration);
+        if (builder.scheduledExecutor != null) {
+            this.scheduledExecutor = builder.scheduledExecutor;
+            this.closeScheduledExecutor = false;
+        } else {
+            this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().threadNamePrefix("sdk-dynamodb-batch-manager").daemonThreads(true).build());
+            this.closeScheduledExecutor = true;
+        }
+    }
+
+    public static DynamoDbEnhancedAsyncBatchManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> putItem(MappedTableResource<T> mappedTable, T item) {
+        return call(() -> writeBuffer(mappedTable).putItem(item));
+    }
+
+    @Override
+    public <T> CompletableFuture<Void> deleteItem(MappedTableResource<T> mappedTable, Key key) {
+        return call(() -> writeBuffer(mappedTable).deleteItem(key));
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getItem(MappedTableResource<T> mappedTable, Key key) {
+        return call(() -> getBuffer(mappedTable).getItem(key));
+    }
+
+    /**
+     * Sends the buffered calls and waits for all the calls to complete, including the retries of their unprocessed items.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        writeBuffers.values().forEach(BatchBuffer::close);
+        getBuffers.values().forEach(BatchBuffer::close);
+
+        List<CompletableFuture<?>> calls = new ArrayList<>(pendingCalls);
+        CompletableFutureUtils.joinInterruptiblyIgnoringFailures(
+            CompletableFuture.allOf(calls.toArray(new CompletableFuture[0])));
+
+        if (closeScheduledExecutor) {
+            scheduledExecutor.shutdownNow();
+        }
+    }
+
+    private <R> CompletableFuture<R> call(Supplier<CompletableFuture<R>> call) {
+        if (closed) {
+            return CompletableFutureUtils.failedFuture(new IllegalStateException("The batch manager has been closed."));
+        }
+
+        CompletableFuture<R> result;
+        try {
+            result = call.get();
+        } catch (RuntimeException e) {
+            return CompletableFutureUtils.failedFuture(e);
+        }
+
+        pendingCalls.add(result);
+        result.whenComplete((r, t) -> pendingCalls.remove(result));
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> WriteBatchBuffer<T> writeBuffer(MappedTableResource<T> mappedTable) {
+        return (WriteBatchBuffer<T>) writeBuffers.computeIfAbsent(
+            new BufferKey(mappedTable),
+            k -> new WriteBatchBuffer<>(mappedTable, dynamoDbClient, scheduledExecutor, configuration));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> GetBatchBuffer<T> getBuffer(MappedTableResource<T> mappedTable) {
+        return (GetBatchBuffer<T>) getBuffers.computeIfAbsent(
+            new BufferKey(mappedTable),
+            k -> new GetBatchBuffer<>(mappedTable, dynamoDbClient, scheduledExecutor, configuration));
+    }
+
+    /**
+     * Calls are buffered per table and table schema, as the items of a buffer are all mapped with the same table schema.
+     */
+    private static final class BufferKey {
+        private final String tableName;
+        private final TableSchema<?> tableSchema;
+
+        private BufferKey(MappedTableResource<?> mappedTable) {
+            this.tableName = mappedTable.tableName();
+            this.tableSchema = mappedTable.tableSchema();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            BufferKey that = (BufferKey) o;
+            return tableName.equals(that.tableName) && tableSchema == that.tableSchema;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * tableName.hashCode() + System.identityHashCode(tableSchema);
+        }
+    }
+
+    private static final class DefaultBuilder implements DynamoDbEnhancedAsyncBatchManager.Builder {
+        private DynamoDbEnhancedAsyncClient client;
+        private BatchOverrideConfiguration overrideConfiguration;
+        private ScheduledExecutorService scheduledExecutor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public DynamoDbEnhancedAsyncBatchManager.Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public DynamoDbEnhancedAsyncBatchManager.Builder client(DynamoDbEnhancedAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public DynamoDbEnhancedAsyncBatchManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public DynamoDbEnhancedAsyncBatchManager build() {
+            return new DefaultDynamoDbEnhancedAsyncBatchManager(this);
+        }
+    }
+}
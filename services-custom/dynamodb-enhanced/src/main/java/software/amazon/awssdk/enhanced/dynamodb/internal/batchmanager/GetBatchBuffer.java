@@ -0,0 +1,103 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchmanager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.EnhancedClientUtils;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+/**
+ * Buffers the gets against one table, sending them in BatchGetItem requests. The items read go through the extensions of the
+ * table, as they do for {@code ReadBatch}.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class GetBatchBuffer<T> extends BatchBuffer<T, GetBatchBuffer.GetEntry<T>> {
+    private final MappedTableResource<T> mappedTable;
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final OperationContext operationContext;
+
+    GetBatchBuffer(MappedTableResource<T> mappedTable,
+                   DynamoDbAsyncClient dynamoDbClient,
+                   ScheduledExecutorService scheduledExecutor,
+                   BatchManagerConfiguration configuration) {
+        super(scheduledExecutor, configuration, configuration.maxGetBatchSize(), false);
+        this.mappedTable = mappedTable;
+        this.dynamoDbClient = dynamoDbClient;
+        this.operationContext = DefaultOperationContext.create(mappedTable.tableName());
+    }
+
+    CompletableFuture<T> getItem(Key key) {
+        return add(new GetEntry<>(key.primaryKeyMap(mappedTable.tableSchema())));
+    }
+
+    @Override
+    protected CompletableFuture<Collection<Map<String, AttributeValue>>> sendBatch(List<GetEntry<T>> batch) {
+        Map<Map<String, AttributeValue>, GetEntry<T>> entries = new HashMap<>();
+        batch.forEach(entry -> entries.put(entry.key(), entry));
+        KeysAndAttributes keysAndAttributes = KeysAndAttributes.builder().keys(entries.keySet()).build();
+        BatchGetItemRequest request = BatchGetItemRequest.builder()
+                                                         .requestItems(Collections.singletonMap(mappedTable.tableName(),
+                                                                                                keysAndAttributes))
+                                                         .build();
+
+        return dynamoDbClient.batchGetItem(request).thenApply(response -> {
+            List<Map<String, AttributeValue>> items = response.responses().getOrDefault(mappedTable.tableName(),
+                                                                                        Collections.emptyList());
+            for (Map<String, AttributeValue> item : items) {
+                GetEntry<T> entry = entries.get(primaryKey(mappedTable.tableSchema(), item));
+                if (entry != null) {
+                    entry.item = EnhancedClientUtils.readAndTransformSingleItem(item, mappedTable.tableSchema(), operationContext,
+                                                                                mappedTable.mapperExtension());
+                }
+            }
+
+            KeysAndAttributes unprocessed = response.unprocessedKeys().get(mappedTable.tableName());
+            return unprocessed == null ? Collections.emptyList() : unprocessed.keys();
+        });
+    }
+
+    /**
+     * A buffered get. The gets of the same key share the item read.
+     */
+    static final class GetEntry<T> extends BatchBuffer.Entry<T, GetEntry<T>> {
+        private T item;
+
+        private GetEntry(Map<String, AttributeValue> key) {
+            super(key);
+        }
+
+        @Override
+        protected T result() {
+            return item;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchmanager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.MappedTableResource;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.PutItemOperation;
+import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+/**
+ * Buffers the puts and deletes against one table, sending them in BatchWriteItem requests. The write request of each call is
+ * generated, and goes through the extensions of the table, when the call is made, as {@code WriteBatch} does.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class WriteBatchBuffer<T> extends BatchBuffer<Void, WriteBatchBuffer.WriteEntry> {
+    private final MappedTableResource<T> mappedTable;
+    private final DynamoDbAsyncClient dynamoDbClient;
+    private final OperationContext operationContext;
+
+    WriteBatchBuffer(MappedTableResource<T> mappedTable,
+                     DynamoDbAsyncClient dynamoDbClient,
+                     ScheduledExecutorService scheduledExecutor,
+                     BatchManagerConfiguration configuration) {
+        super(scheduledExecutor, configuration, configuration.maxWriteBatchSize(), true);
+        this.mappedTable = mappedTable;
+        this.dynamoDbClient = dynamoDbClient;
+        this.operationContext = DefaultOperationContext.create(mappedTable.tableName());
+    }
+
+    CompletableFuture<Void> putItem(T item) {
+        PutItemEnhancedRequest<T> request = PutItemEnhancedRequest.builder(mappedTable.tableSchema().itemType().rawClass())
+                                                                  .item(item)
+                                                                  .build();
+        WriteRequest writeRequest = PutItemOperation.create(request)
+                                                    .generateWriteRequest(mappedTable.tableSchema(), operationContext,
+                                                                          mappedTable.mapperExtension());
+        return add(new WriteEntry(primaryKey(writeRequest), writeRequest));
+    }
+
+    CompletableFuture<Void> deleteItem(Key key) {
+        DeleteItemEnhancedRequest request = DeleteItemEnhancedRequest.builder().key(key).build();
+        WriteRequest writeRequest = DeleteItemOperation.<T>create(request)
+                                                       .generateWriteRequest(mappedTable.tableSchema(), operationContext,
+                                                                             mappedTable.mapperExtension());
+        return add(new WriteEntry(primaryKey(writeRequest), writeRequest));
+    }
+
+    @Override
+    protected CompletableFuture<Collection<Map<String, AttributeValue>>> sendBatch(List<WriteEntry> batch) {
+        List<WriteRequest> writeRequests = batch.stream().map(entry -> entry.writeRequest).collect(Collectors.toList());
+        BatchWriteItemRequest request = BatchWriteItemRequest.builder()
+                                                             .requestItems(Collections.singletonMap(mappedTable.tableName(),
+                                                                                                    writeRequests))
+                                                             .build();
+
+        return dynamoDbClient.batchWriteItem(request).thenApply(response -> {
+            List<WriteRequest> unprocessed = response.unprocessedItems().getOrDefault(mappedTable.tableName(),
+                                                                                     Collections.emptyList());
+            return unprocessed.stream().map(this::primaryKey).collect(Collectors.toList());
+        });
+    }
+
+    private Map<String, AttributeValue> primaryKey(WriteRequest writeRequest) {
+        if (writeRequest.deleteRequest() != null) {
+            return writeRequest.deleteRequest().key();
+        }
+        return primaryKey(mappedTable.tableSchema(), writeRequest.putRequest().item());
+    }
+
+    /**
+     * A buffered put or delete. A later call for the same item replaces the buffered write request.
+     */
+    static final class WriteEntry extends BatchBuffer.Entry<Void, WriteEntry> {
+        private WriteRequest writeRequest;
+
+        private WriteEntry(Map<String, AttributeValue> key, WriteRequest writeRequest) {
+            super(key);
+            this.writeRequest = writeRequest;
+        }
+
+        @Override
+        protected void merge(WriteEntry later) {
+            super.merge(later);
+            this.writeRequest = later.writeRequest;
+        }
+
+        @Override
+        protected Void result() {
+            return null;
+        }
+    }
+}
@@ -24,10 +24,14 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
 import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.ParallelScanBackoff;
+import software.amazon.awssdk.enhanced.dynamodb.internal.ParallelScanPublisher;
 import software.amazon.awssdk.enhanced.dynamodb.internal.TableIndices;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.CreateTableOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteTableOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DescribeTableOperation;
@@ -44,7 +48,9 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse
 import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PagePublisher;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -272,6 +278,26 @@ public final class DefaultDynamoDbAsyncTable<T> implements DynamoDbAsyncTable<T>
         return scan(ScanEnhancedRequest.builder().build());
     }
 
+    @Override
+    public PagePublisher<T> parallelScan(ParallelScanEnhancedRequest request) {
+        return PagePublisher.create(new ParallelScanPublisher<>(request, this::scanPage,
+                                                             ParallelScanBackoff.create(dynamoDbClient)));
+    }
+
+    @Override
+    public PagePublisher<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return parallelScan(builder.build());
+    }
+
+    private CompletableFuture<Page<T>> scanPage(ScanEnhancedRequest request) {
+        ScanOperation<T> operation = ScanOperation.create(request);
+        OperationContext context = DefaultOperationContext.create(tableName, TableMetadata.primaryIndexName());
+        return dynamoDbClient.scan(operation.generateRequest(tableSchema, context, extension))
+                             .thenApply(response -> operation.transformResponse(response, tableSchema, context, extension));
+    }
+
     @Override
     public CompletableFuture<T> updateItem(UpdateItemEnhancedRequest<T> request) {
         TableOperation<T, ?, ?, UpdateItemEnhancedResponse<T>> operation = UpdateItemOperation.create(request);
@@ -26,6 +26,7 @@ import software.amazon.awssdk.enhanced.dynamodb.Document;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.batchmanager.DynamoDbEnhancedAsyncBatchManager;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchGetItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.BatchWriteItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.TransactGetItemsOperation;
@@ -132,6 +133,11 @@ public final class DefaultDynamoDbEnhancedAsyncClient implements DynamoDbEnhance
         return transactWriteItemsWithResponse(builder.build());
     }
 
+    @Override
+    public DynamoDbEnhancedAsyncBatchManager batchManager() {
+        return DynamoDbEnhancedAsyncBatchManager.builder().client(this).build();
+    }
+
     public DynamoDbAsyncClient dynamoDbAsyncClient() {
         return dynamoDbClient;
     }
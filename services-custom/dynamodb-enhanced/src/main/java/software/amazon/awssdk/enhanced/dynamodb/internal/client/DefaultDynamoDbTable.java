@@ -23,10 +23,14 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClientExtension;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.OperationContext;
 import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.ParallelScanBackoff;
+import software.amazon.awssdk.enhanced.dynamodb.internal.ParallelScanIterable;
 import software.amazon.awssdk.enhanced.dynamodb.internal.TableIndices;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.CreateTableOperation;
+import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DefaultOperationContext;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteItemOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DeleteTableOperation;
 import software.amazon.awssdk.enhanced.dynamodb.internal.operations.DescribeTableOperation;
@@ -43,7 +47,9 @@ import software.amazon.awssdk.enhanced.dynamodb.model.DeleteItemEnhancedResponse
 import software.amazon.awssdk.enhanced.dynamodb.model.DescribeTableEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.GetItemEnhancedResponse;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
 import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.PutItemEnhancedResponse;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
@@ -54,6 +60,7 @@ import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedResponse
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
 
 @SdkInternalApi
 public class DefaultDynamoDbTable<T> implements DynamoDbTable<T> {
@@ -267,6 +274,26 @@ public class DefaultDynamoDbTable<T> implements DynamoDbTable<T> {
         return scan(ScanEnhancedRequest.builder().build());
     }
 
+    @Override
+    public PageIterable<T> parallelScan(ParallelScanEnhancedRequest request) {
+        return PageIterable.create(new ParallelScanIterable<>(request, this::scanPage,
+                                                           ParallelScanBackoff.create(dynamoDbClient)));
+    }
+
+    @Override
+    public PageIterable<T> parallelScan(Consumer<ParallelScanEnhancedRequest.Builder> requestConsumer) {
+        ParallelScanEnhancedRequest.Builder builder = ParallelScanEnhancedRequest.builder();
+        requestConsumer.accept(builder);
+        return parallelScan(builder.build());
+    }
+
+    private Page<T> scanPage(ScanEnhancedRequest request) {
+        ScanOperation<T> operation = ScanOperation.create(request);
+        OperationContext context = DefaultOperationContext.create(tableName, TableMetadata.primaryIndexName());
+        ScanResponse response = dynamoDbClient.scan(operation.generateRequest(tableSchema, context, extension));
+        return operation.transformResponse(response, tableSchema, context, extension);
+    }
+
     @Override
     public T updateItem(UpdateItemEnhancedRequest<T> request) {
         TableOperation<T, ?, ?, UpdateItemEnhancedResponse<T>> operation = UpdateItemOperation.create(request);
@@ -106,6 +106,10 @@ import software.amazon.awssdk.utils.StringUtils;
  * Creating an {@link BeanTableSchema} is a moderately expensive operation, and should be performed sparingly. This is
  * usually done once at application startup.
  *
+ * If the bean class was compiled with the {@code dynamodb-enhanced-processor} annotation processor, the table schema
+ * generated for it at compile time is used instead of scanning the class, which makes creating the schema much cheaper and
+ * does not require reflective access to the class. See {@link GeneratedTableSchemaFactory}.
+ *
  * If this table schema is not behaving as you expect, enable debug logging for 'software.amazon.awssdk.enhanced.dynamodb.beans'.
  *
  * @param <T> The type of object that this {@link TableSchema} maps to.
@@ -173,8 +177,10 @@ public final class BeanTableSchema<T> extends WrappedTableSchema<T, StaticTableS
         // Fetch or create a new reference to this yet-to-be-created TableSchema in the cache
         MetaTableSchema<T> metaTableSchema = metaTableSchemaCache.getOrCreate(beanClass);
 
-        BeanTableSchema<T> newTableSchema =
-            new BeanTableSchema<>(createStaticTableSchema(params.beanClass(), params.lookup(), metaTableSchemaCache));
+        StaticTableSchema<T> staticTableSchema =
+            GeneratedTableSchemas.beanTableSchema(beanClass, params.lookup(), metaTableSchemaCache)
+                                 .orElseGet(() -> createStaticTableSchema(beanClass, params.lookup(), metaTableSchemaCache));
+        BeanTableSchema<T> newTableSchema = new BeanTableSchema<>(staticTableSchema);
         metaTableSchema.initialize(newTableSchema);
         return newTableSchema;
     }
@@ -0,0 +1,62 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper;
+
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbImmutable;
+
+/**
+ * Creates the table schema of a class annotated with {@link DynamoDbBean} or {@link DynamoDbImmutable} from code generated
+ * at compile time by the {@code dynamodb-enhanced-processor} annotation processor, instead of scanning the class at runtime.
+ * <p>
+ * {@link BeanTableSchema} and {@link ImmutableTableSchema} use the factory in the package of the annotated class named after
+ * it with the {@value #CLASS_NAME_SUFFIX} suffix, if there is one. For example, the factory of {@code com.example.Customer}
+ * is {@code com.example.Customer_TableSchema}, and the factory of the nested class {@code com.example.Order.Line} is
+ * {@code com.example.Order_Line_TableSchema}. A factory must have a public no-argument constructor.
+ *
+ * @param <S> The type of the table schema created, a {@link StaticTableSchema} for a bean class, or a
+ * {@link StaticImmutableTableSchema} for an immutable class.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public interface GeneratedTableSchemaFactory<S extends TableSchema<?>> {
+    /**
+     * The suffix appended to the name of an annotated class to get the name of its factory.
+     */
+    String CLASS_NAME_SUFFIX = "_TableSchema";
+
+    /**
+     * Creates the table schema of the annotated class.
+     *
+     * @param nestedTableSchemas Provides the table schemas of the annotated classes of the attributes mapped as nested
+     * documents.
+     */
+    S create(NestedTableSchemas nestedTableSchemas);
+
+    /**
+     * Provides the table schemas of the annotated classes of the attributes mapped as nested documents. The table schema of
+     * a class that is still being created, because it refers to itself directly or indirectly, is initialized once it has
+     * been created.
+     */
+    interface NestedTableSchemas {
+        <T> TableSchema<T> beanTableSchema(Class<T> beanClass);
+
+        <T> TableSchema<T> immutableTableSchema(Class<T> immutableClass);
+    }
+}
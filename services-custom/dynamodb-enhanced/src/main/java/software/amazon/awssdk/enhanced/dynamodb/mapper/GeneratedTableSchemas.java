@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.mapper;
+
+import static software.amazon.awssdk.enhanced.dynamodb.internal.DynamoDbEnhancedLogger.BEAN_LOGGER;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.internal.mapper.MetaTableSchemaCache;
+
+/**
+ * Finds and uses the {@link GeneratedTableSchemaFactory} of an annotated class.
+ */
+@SdkInternalApi
+@SuppressWarnings("unchecked")
+final class GeneratedTableSchemas {
+    private GeneratedTableSchemas() {
+    }
+
+    static <T> Optional<StaticTableSchema<T>> beanTableSchema(Class<T> beanClass,
+                                                              MethodHandles.Lookup lookup,
+                                                              MetaTableSchemaCache metaTableSchemaCache) {
+        return create(beanClass, lookup, metaTableSchemaCache).filter(StaticTableSchema.class::isInstance)
+                                                              .map(schema -> (StaticTableSchema<T>) schema);
+    }
+
+    static <T> Optional<StaticImmutableTableSchema<T, ?>> immutableTableSchema(Class<T> immutableClass,
+                                                                               MethodHandles.Lookup lookup,
+                                                                               MetaTableSchemaCache metaTableSchemaCache) {
+        return create(immutableClass, lookup, metaTableSchemaCache).filter(StaticImmutableTableSchema.class::isInstance)
+                                                                   .map(schema -> (StaticImmutableTableSchema<T, ?>) schema);
+    }
+
+    static String factoryClassName(Class<?> annotatedClass) {
+        return annotatedClass.getName().replace('$', '_') + GeneratedTableSchemaFactory.CLASS_NAME_SUFFIX;
+    }
+
+    private static Optional<TableSchema<?>> create(Class<?> annotatedClass,
+                                                   MethodHandles.Lookup lookup,
+                                                   MetaTableSchemaCache metaTableSchemaCache) {
+        return factory(annotatedClass).map(factory -> {
+            BEAN_LOGGER.debug(() -> annotatedClass.getTypeName() + " - Using generated table schema "
+                                    + factory.getClass().getTypeName());
+            return factory.create(new RecursiveNestedTableSchemas(lookup, metaTableSchemaCache));
+        });
+    }
+
+    private static Optional<GeneratedTableSchemaFactory<?>> factory(Class<?> annotatedClass) {
+        String factoryClassName = factoryClassName(annotatedClass);
+        Class<?> factoryClass;
+        try {
+            ClassLoader classLoader = annotatedClass.getClassLoader();
+            factoryClass = Class.forName(factoryClassName, true,
+                                         classLoader != null ? classLoader : ClassLoader.getSystemClassLoader());
+        } catch (ClassNotFoundException | NoClassDefFoundError e) {
+            return Optional.empty();
+        }
+
+        if (!GeneratedTableSchemaFactory.class.isAssignableFrom(factoryClass)) {
+            BEAN_LOGGER.debug(() -> annotatedClass.getTypeName() + " - Ignoring " + factoryClassName + " because it does not "
+                                    + "implement " + GeneratedTableSchemaFactory.class.getSimpleName());
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of((GeneratedTableSchemaFactory<?>) factoryClass.getConstructor().newInstance());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Could not create the generated table schema factory " + factoryClassName
+                                               + " of " + annotatedClass.getTypeName(), e);
+        }
+    }
+
+    private static final class RecursiveNestedTableSchemas implements GeneratedTableSchemaFactory.NestedTableSchemas {
+        private final MethodHandles.Lookup lookup;
+        private final MetaTableSchemaCache metaTableSchemaCache;
+
+        private RecursiveNestedTableSchemas(MethodHandles.Lookup lookup, MetaTableSchemaCache metaTableSchemaCache) {
+            this.lookup = lookup;
+            this.metaTableSchemaCache = metaTableSchemaCache;
+        }
+
+        @Override
+        public <T> TableSchema<T> beanTableSchema(Class<T> beanClass) {
+            return BeanTableSchema.recursiveCreate(beanClass, lookup, metaTableSchemaCache);
+        }
+
+        @Override
+        public <T> TableSchema<T> immutableTableSchema(Class<T> immutableClass) {
+            return ImmutableTableSchema.recursiveCreate(immutableClass, lookup, metaTableSchemaCache);
+        }
+    }
+}
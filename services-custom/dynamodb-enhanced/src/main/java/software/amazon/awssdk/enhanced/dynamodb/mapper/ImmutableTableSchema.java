@@ -104,6 +104,9 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPrese
  * Creating an {@link ImmutableTableSchema} is a moderately expensive operation, and should be performed sparingly. This is
  * usually done once at application startup.
  *
+ * If the immutable class was compiled with the {@code dynamodb-enhanced-processor} annotation processor, the table schema
+ * generated for it at compile time is used instead of scanning the class. See {@link GeneratedTableSchemaFactory}.
+ *
  * If this table schema is not behaving as you expect, enable debug logging for 'software.amazon.awssdk.enhanced.dynamodb.beans'.
  *
  * @param <T> The type of object that this {@link TableSchema} maps to.
@@ -168,10 +171,12 @@ public final class ImmutableTableSchema<T> extends WrappedTableSchema<T, StaticI
         // Fetch or create a new reference to this yet-to-be-created TableSchema in the cache
         MetaTableSchema<T> metaTableSchema = metaTableSchemaCache.getOrCreate(params.immutableClass());
 
-        ImmutableTableSchema<T> newTableSchema =
-            new ImmutableTableSchema<>(createStaticImmutableTableSchema(params.immutableClass(),
-                                                                        params.lookup(),
-                                                                        metaTableSchemaCache));
+        StaticImmutableTableSchema<T, ?> staticImmutableTableSchema =
+            GeneratedTableSchemas.immutableTableSchema(params.immutableClass(), params.lookup(), metaTableSchemaCache)
+                                 .orElseGet(() -> createStaticImmutableTableSchema(params.immutableClass(),
+                                                                                   params.lookup(),
+                                                                                   metaTableSchemaCache));
+        ImmutableTableSchema<T> newTableSchema = new ImmutableTableSchema<>(staticImmutableTableSchema);
         metaTableSchema.initialize(newTableSchema);
         return newTableSchema;
     }
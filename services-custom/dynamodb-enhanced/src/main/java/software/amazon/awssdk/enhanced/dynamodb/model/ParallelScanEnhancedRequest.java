@@ -0,0 +1,218 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Defines parameters used to scan a DynamoDb table with several segments scanned concurrently, using
+ * {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)} or
+ * {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}.
+ * <p>
+ * {@link Builder#totalSegments(Integer)} is required, all other parameters are optional.
+ */
+@SdkPublicApi
+@ThreadSafe
+public final class ParallelScanEnhancedRequest {
+
+    private final ScanEnhancedRequest scanRequest;
+    private final Integer totalSegments;
+    private final Integer maxConcurrency;
+    private final ParallelScanProgressListener progressListener;
+
+    private ParallelScanEnhancedRequest(Builder builder) {
+        this.scanRequest = builder.scanRequest != null ? builder.scanRequest : ScanEnhancedRequest.builder().build();
+        this.totalSegments = Validate.isPositive(Validate.paramNotNull(builder.totalSegments, "totalSegments"),
+                                                 "totalSegments");
+        this.maxConcurrency = Validate.isPositiveOrNull(builder.maxConcurrency, "maxConcurrency");
+        this.progressListener = builder.progressListener;
+        Validate.isTrue(scanRequest.segment() == null && scanRequest.totalSegments() == null,
+                        "The segments of a parallel scan are set with totalSegments, not on the scan request.");
+        Validate.isTrue(scanRequest.exclusiveStartKey() == null,
+                        "A parallel scan cannot start from an exclusive start key.");
+    }
+
+    /**
+     * Creates a newly initialized builder for a request object.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Returns a builder initialized with all existing values on the request object.
+     */
+    public Builder toBuilder() {
+        return builder().scanRequest(scanRequest)
+                        .totalSegments(totalSegments)
+                        .maxConcurrency(maxConcurrency)
+                        .progressListener(progressListener);
+    }
+
+    /**
+     * Returns the scan request each segment is scanned with.
+     */
+    public ScanEnhancedRequest scanRequest() {
+        return scanRequest;
+    }
+
+    /**
+     * Returns the total number of segments the table is divided into.
+     */
+    public Integer totalSegments() {
+        return totalSegments;
+    }
+
+    /**
+     * Returns the value of maxConcurrency set on this request object, or null if it doesn't exist.
+     */
+    public Integer maxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the progress listener set on this request object, or null if it doesn't exist.
+     */
+    public ParallelScanProgressListener progressListener() {
+        return progressListener;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        ParallelScanEnhancedRequest that = (ParallelScanEnhancedRequest) o;
+
+        if (!scanRequest.equals(that.scanRequest)) {
+            return false;
+        }
+        if (!totalSegments.equals(that.totalSegments)) {
+            return false;
+        }
+        if (maxConcurrency != null ? !maxConcurrency.equals(that.maxConcurrency) : that.maxConcurrency != null) {
+            return false;
+        }
+        return progressListener != null ? progressListener.equals(that.progressListener) : that.progressListener == null;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = scanRequest.hashCode();
+        result = 31 * result + totalSegments.hashCode();
+        result = 31 * result + (maxConcurrency != null ? maxConcurrency.hashCode() : 0);
+        result = 31 * result + (progressListener != null ? progressListener.hashCode() : 0);
+        return result;
+    }
+
+    /**
+     * A builder that is used to create a request with the desired parameters.
+     */
+    @NotThreadSafe
+    public static final class Builder {
+        private ScanEnhancedRequest scanRequest;
+        private Integer totalSegments;
+        private Integer maxConcurrency;
+        private ParallelScanProgressListener progressListener;
+
+        private Builder() {
+        }
+
+        /**
+         * The scan request each segment is scanned with, defining for example the filter expression, the projection or the
+         * page size of the scan. The segment, total segments and exclusive start key of the request must not be set, they
+         * are managed by the parallel scan. By default, the whole table is scanned with default settings.
+         *
+         * @param scanRequest the scan request each segment is scanned with
+         * @return a builder of this type
+         */
+        public Builder scanRequest(ScanEnhancedRequest scanRequest) {
+            this.scanRequest = scanRequest;
+            return this;
+        }
+
+        /**
+         * The scan request each segment is scanned with.
+         *
+         * @param scanRequestConsumer a {@link Consumer} of {@link ScanEnhancedRequest.Builder} defining the scan request
+         * @return a builder of this type
+         * @see #scanRequest(ScanEnhancedRequest)
+         */
+        public Builder scanRequest(Consumer<ScanEnhancedRequest.Builder> scanRequestConsumer) {
+            ScanEnhancedRequest.Builder builder = ScanEnhancedRequest.builder();
+            scanRequestConsumer.accept(builder);
+            return scanRequest(builder.build());
+        }
+
+        /**
+         * The total number of segments the table is divided into. Each segment is scanned page by page, independently of
+         * the other segments. This value is required.
+         *
+         * @param totalSegments the total number of segments to divide the table into
+         * @return a builder of this type
+         * @see ScanEnhancedRequest.Builder#totalSegments(Integer)
+         */
+        public Builder totalSegments(Integer totalSegments) {
+            this.totalSegments = totalSegments;
+            return this;
+        }
+
+        /**
+         * The maximum number of segments scanned concurrently, which is also the maximum number of pages buffered while the
+         * subscriber, or the consumer of the iterable, is not requesting more pages. By default, all segments are scanned
+         * concurrently.
+         * <p>
+         * When a scan call fails with a {@code ProvisionedThroughputExceededException}, after the retries of the DynamoDb
+         * client, the number of segments scanned concurrently is halved and the throttled segment is resumed from its last
+         * evaluated key after a jittered delay computed by the retry strategy of the client, which grows with the number of
+         * consecutive throttled pages of the segment. It is increased again by one segment every {@code maxConcurrency} pages
+         * received without throttling, up to this maximum. The scan fails when a scan call is throttled while a single
+         * segment is scanned, or when the retry strategy of the client refuses to retry the throttled page.
+         *
+         * @param maxConcurrency the maximum number of segments scanned concurrently
+         * @return a builder of this type
+         */
+        public Builder maxConcurrency(Integer maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            return this;
+        }
+
+        /**
+         * A listener receiving the progress of the scan of each segment.
+         *
+         * @param progressListener the progress listener
+         * @return a builder of this type
+         */
+        public Builder progressListener(ParallelScanProgressListener progressListener) {
+            this.progressListener = progressListener;
+            return this;
+        }
+
+        public ParallelScanEnhancedRequest build() {
+            return new ParallelScanEnhancedRequest(this);
+        }
+    }
+}
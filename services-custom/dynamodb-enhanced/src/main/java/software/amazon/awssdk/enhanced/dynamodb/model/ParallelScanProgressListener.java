@@ -0,0 +1,59 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+
+/**
+ * Receives the progress of a parallel scan started with {@link DynamoDbTable#parallelScan(ParallelScanEnhancedRequest)} or
+ * {@link DynamoDbAsyncTable#parallelScan(ParallelScanEnhancedRequest)}.
+ * <p>
+ * The methods are called from the threads completing the scan calls, they should return quickly and must not block.
+ * All methods do nothing by default.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface ParallelScanProgressListener {
+
+    /**
+     * Called when a page of a segment is received, before it is published.
+     *
+     * @param segment the segment the page belongs to
+     * @param page the page, including its {@link Page#count()} and {@link Page#scannedCount()}
+     */
+    default void pageReceived(int segment, Page<?> page) {
+    }
+
+    /**
+     * Called when the last page of a segment is received.
+     *
+     * @param segment the completed segment
+     */
+    default void segmentCompleted(int segment) {
+    }
+
+    /**
+     * Called when the number of segments scanned concurrently changes, because a scan call was throttled with a
+     * {@code ProvisionedThroughputExceededException}, or because the scan recovered from throttling.
+     *
+     * @param concurrency the new number of segments scanned concurrently
+     */
+    default void concurrencyChanged(int concurrency) {
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.batchmanager.DynamoDbEnhancedAsyncBatchManager;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+public class AsyncBatchManagerTest extends LocalDynamoDbAsyncTestBase {
+    private static class Record {
+        private String id;
+        private Integer value;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private Integer getValue() {
+            return value;
+        }
+
+        private Record setValue(Integer value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) &&
+                   Objects.equals(value, record.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(Integer.class, a -> a.name("value")
+                                                            .getter(Record::getValue)
+                                                            .setter(Record::setValue))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 120)
+                 .mapToObj(i -> new Record().setId("id-" + i).setValue(i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient = DynamoDbEnhancedAsyncClient.builder()
+                                                                                         .dynamoDbClient(getDynamoDbAsyncClient())
+                                                                                         .build();
+
+    private DynamoDbAsyncTable<Record> mappedTable = enhancedAsyncClient.table(getConcreteTableName("table-name"),
+                                                                               TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())).join();
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("table-name"))
+                                                               .build()).join();
+    }
+
+    @Test
+    public void putItem_thenGetItem_returnsAllRecords() {
+        try (DynamoDbEnhancedAsyncBatchManager batchManager = enhancedAsyncClient.batchManager()) {
+            allOf(RECORDS.stream().map(record -> batchManager.putItem(mappedTable, record)).collect(Collectors.toList()));
+
+            List<Record> results = RECORDS.stream()
+                                          .map(record -> batchManager.getItem(mappedTable, record))
+                                          .collect(Collectors.toList())
+                                          .stream()
+                                          .map(CompletableFuture::join)
+                                          .collect(Collectors.toList());
+
+            assertThat(results, containsInAnyOrder(RECORDS.toArray()));
+        }
+    }
+
+    @Test
+    public void deleteItem_thenGetItem_returnsNull() {
+        RECORDS.forEach(record -> mappedTable.putItem(record).join());
+
+        try (DynamoDbEnhancedAsyncBatchManager batchManager = enhancedAsyncClient.batchManager()) {
+            allOf(RECORDS.stream()
+                         .map(record -> batchManager.deleteItem(mappedTable, Key.builder().partitionValue(record.getId()).build()))
+                         .collect(Collectors.toList()));
+
+            List<Record> results = RECORDS.stream()
+                                          .map(record -> batchManager.getItem(mappedTable, record))
+                                          .collect(Collectors.toList())
+                                          .stream()
+                                          .map(CompletableFuture::join)
+                                          .collect(Collectors.toList());
+
+            assertThat(results, everyItem(nullValue(Record.class)));
+        }
+    }
+
+    @Test
+    public void putItem_sameKeyManyTimes_lastWriteWins() {
+        DynamoDbEnhancedAsyncBatchManager batchManager = enhancedAsyncClient.batchManager();
+        for (int i = 0; i < 30; i++) {
+            batchManager.putItem(mappedTable, new Record().setId("id-0").setValue(i));
+        }
+        batchManager.close();
+
+        assertThat(mappedTable.getItem(r -> r.key(k -> k.partitionValue("id-0"))).join(),
+                   is(new Record().setId("id-0").setValue(29)));
+    }
+
+    private static void allOf(List<CompletableFuture<Void>> futures) {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+    }
+}
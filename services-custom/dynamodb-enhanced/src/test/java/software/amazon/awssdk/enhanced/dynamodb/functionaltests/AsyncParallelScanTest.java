@@ -0,0 +1,182 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.functionaltests;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanProgressListener;
+import software.amazon.awssdk.services.dynamodb.model.DeleteTableRequest;
+
+public class AsyncParallelScanTest extends LocalDynamoDbAsyncTestBase {
+    private static class Record {
+        private String id;
+        private Integer value;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private Integer getValue() {
+            return value;
+        }
+
+        private Record setValue(Integer value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) &&
+                   Objects.equals(value, record.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value);
+        }
+    }
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .tags(primaryPartitionKey()))
+                         .addAttribute(Integer.class, a -> a.name("value")
+                                                            .getter(Record::getValue)
+                                                            .setter(Record::setValue))
+                         .build();
+
+    private static final List<Record> RECORDS =
+        IntStream.range(0, 50)
+                 .mapToObj(i -> new Record().setId("id-" + i).setValue(i))
+                 .collect(Collectors.toList());
+
+    private DynamoDbEnhancedAsyncClient enhancedAsyncClient = DynamoDbEnhancedAsyncClient.builder()
+                                                                                         .dynamoDbClient(getDynamoDbAsyncClient())
+                                                                                         .build();
+
+    private DynamoDbAsyncTable<Record> mappedTable = enhancedAsyncClient.table(getConcreteTableName("table-name"),
+                                                                               TABLE_SCHEMA);
+
+    @Before
+    public void createTable() {
+        mappedTable.createTable(r -> r.provisionedThroughput(getDefaultProvisionedThroughput())).join();
+        RECORDS.forEach(record -> mappedTable.putItem(record).join());
+    }
+
+    @After
+    public void deleteTable() {
+        getDynamoDbAsyncClient().deleteTable(DeleteTableRequest.builder()
+                                                               .tableName(getConcreteTableName("table-name"))
+                                                               .build()).join();
+    }
+
+    @Test
+    public void parallelScan_returnsAllRecords() {
+        List<Record> results = drainPublisher(mappedTable.parallelScan(r -> r.totalSegments(4)).items(), RECORDS.size());
+
+        assertThat(results, containsInAnyOrder(RECORDS.toArray()));
+    }
+
+    @Test
+    public void parallelScan_withLimitAndMaxConcurrency_returnsAllRecordsAndReportsProgress() {
+        Set<Integer> completedSegments = ConcurrentHashMap.newKeySet();
+        List<Integer> scannedCounts = new ArrayList<>();
+        ParallelScanProgressListener listener = new ParallelScanProgressListener() {
+            @Override
+            public synchronized void pageReceived(int segment, Page<?> page) {
+                scannedCounts.add(page.scannedCount());
+            }
+
+            @Override
+            public void segmentCompleted(int segment) {
+                completedSegments.add(segment);
+            }
+        };
+
+        BufferingSubscriber<Page<Record>> subscriber = new BufferingSubscriber<>();
+        mappedTable.parallelScan(r -> r.totalSegments(5)
+                                       .maxConcurrency(2)
+                                       .scanRequest(s -> s.limit(3))
+                                       .progressListener(listener))
+                   .subscribe(subscriber);
+        subscriber.waitForCompletion(5000L);
+        assertThat(subscriber.isCompleted(), is(true));
+        List<Page<Record>> pages = subscriber.bufferedItems();
+
+        List<Record> results = pages.stream().flatMap(p -> p.items().stream()).collect(Collectors.toList());
+        assertThat(results, containsInAnyOrder(RECORDS.toArray()));
+        assertThat(pages.stream().allMatch(p -> p.items().size() <= 3), is(true));
+        assertThat(completedSegments, containsInAnyOrder(0, 1, 2, 3, 4));
+        assertThat(scannedCounts.stream().mapToInt(Integer::intValue).sum(), is(RECORDS.size()));
+    }
+
+    @Test
+    public void parallelScan_withFilter_returnsFilteredRecords() {
+        Expression expression = Expression.builder()
+                                          .expression("#value < :max_value")
+                                          .putExpressionName("#value", "value")
+                                          .putExpressionValue(":max_value", numberValue(10))
+                                          .build();
+
+        List<Record> results =
+            drainPublisher(mappedTable.parallelScan(r -> r.totalSegments(3).scanRequest(s -> s.filterExpression(expression)))
+                                      .items(),
+                           10);
+
+        assertThat(results, containsInAnyOrder(RECORDS.subList(0, 10).toArray()));
+    }
+
+    @Test
+    public void parallelScan_subscribedTwice_scansTwice() {
+        SdkPublisher<Record> publisher = mappedTable.parallelScan(r -> r.totalSegments(2)).items();
+
+        assertThat(drainPublisher(publisher, RECORDS.size()), containsInAnyOrder(RECORDS.toArray()));
+        assertThat(drainPublisher(publisher, RECORDS.size()), containsInAnyOrder(RECORDS.toArray()));
+    }
+}
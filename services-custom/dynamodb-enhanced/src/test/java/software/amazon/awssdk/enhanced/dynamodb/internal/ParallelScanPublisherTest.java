@@ -0,0 +1,454 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.ParallelScanProgressListener;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenRequest;
+import software.amazon.awssdk.retries.api.AcquireInitialTokenResponse;
+import software.amazon.awssdk.retries.api.RecordSuccessRequest;
+import software.amazon.awssdk.retries.api.RecordSuccessResponse;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenRequest;
+import software.amazon.awssdk.retries.api.RefreshRetryTokenResponse;
+import software.amazon.awssdk.retries.api.RetryStrategy;
+import software.amazon.awssdk.retries.api.RetryToken;
+import software.amazon.awssdk.retries.api.TokenAcquisitionFailedException;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+
+public class ParallelScanPublisherTest {
+    private static final int PAGES_PER_SEGMENT = 3;
+
+    private final List<ScanCall> scanCalls = new CopyOnWriteArrayList<>();
+    private final List<String> progress = new CopyOnWriteArrayList<>();
+    private final ParallelScanProgressListener listener = new ParallelScanProgressListener() {
+        @Override
+        public void pageReceived(int segment, Page<?> page) {
+            progress.add("page " + page.items().get(0));
+        }
+
+        @Override
+        public void segmentCompleted(int segment) {
+            progress.add("completed " + segment);
+        }
+
+        @Override
+        public void concurrencyChanged(int concurrency) {
+            progress.add("concurrency " + concurrency);
+        }
+    };
+
+    @Test
+    public void subscribe_publishesAllPagesOfAllSegments() {
+        ParallelScanPublisher<String> publisher =
+            new ParallelScanPublisher<>(request(4, null).toBuilder().progressListener(listener).build(),
+                                        r -> CompletableFuture.completedFuture(page(r)));
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(subscriber);
+
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.items()).containsExactlyInAnyOrderElementsOf(allItems(4));
+        assertThat(progress).contains("completed 0", "completed 1", "completed 2", "completed 3");
+        for (int segment = 0; segment < 4; segment++) {
+            assertThat(itemsOfSegment(subscriber.items(), segment)).containsExactly(segmentItems(segment));
+        }
+    }
+
+    @Test
+    public void subscribe_scansSegmentsWithScanRequest() {
+        ParallelScanEnhancedRequest request = request(2, null).toBuilder().scanRequest(r -> r.limit(7)).build();
+        ParallelScanPublisher<String> publisher = new ParallelScanPublisher<>(request, this::scan);
+
+        publisher.subscribe(new TestSubscriber(Long.MAX_VALUE));
+
+        assertThat(scanCalls).hasSize(2);
+        assertThat(scanCalls).allSatisfy(call -> {
+            assertThat(call.request.limit()).isEqualTo(7);
+            assertThat(call.request.totalSegments()).isEqualTo(2);
+            assertThat(call.request.exclusiveStartKey()).isNull();
+        });
+        assertThat(scanCalls.stream().map(call -> call.request.segment())).containsExactly(0, 1);
+
+        scanCalls.get(1).complete();
+        assertThat(scanCalls).hasSize(3);
+        assertThat(scanCalls.get(2).request.segment()).isEqualTo(1);
+        assertThat(scanCalls.get(2).request.exclusiveStartKey()).isEqualTo(lastEvaluatedKey(1));
+    }
+
+    @Test
+    public void subscribe_scansAtMostMaxConcurrencySegments() {
+        ParallelScanPublisher<String> publisher = new ParallelScanPublisher<>(request(5, 2), this::scan);
+
+        publisher.subscribe(new TestSubscriber(Long.MAX_VALUE));
+        assertThat(scanCalls).hasSize(2);
+
+        scanCalls.get(0).complete();
+        assertThat(scanCalls).hasSize(3);
+        assertThat(scanCalls.stream().filter(call -> !call.future.isDone())).hasSize(2);
+    }
+
+    @Test
+    public void subscribe_withoutDemand_stopsScanningWhenConcurrencyPagesAreBuffered() {
+        ParallelScanPublisher<String> publisher = new ParallelScanPublisher<>(request(4, 2), this::scan);
+        TestSubscriber subscriber = new TestSubscriber(0);
+
+        publisher.subscribe(subscriber);
+        scanCalls.get(0).complete();
+        scanCalls.get(1).complete();
+
+        assertThat(scanCalls).hasSize(2);
+        assertThat(subscriber.pages).isEmpty();
+
+        subscriber.subscription.request(1);
+        assertThat(subscriber.pages).hasSize(1);
+        assertThat(scanCalls).hasSize(3);
+    }
+
+    @Test
+    public void throttled_halvesConcurrencyAndScansThePageAgain() {
+        ParallelScanPublisher<String> publisher =
+            new ParallelScanPublisher<>(request(4, null).toBuilder().progressListener(listener).build(), this::scan);
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(subscriber);
+        assertThat(scanCalls).hasSize(4);
+
+        scanCalls.get(0).throttle();
+        scanCalls.get(1).throttle();
+        assertThat(progress).containsExactly("concurrency 2");
+        assertThat(scanCalls).hasSize(4);
+
+        scanCalls.get(2).complete();
+        scanCalls.get(3).complete();
+        assertThat(scanCalls).hasSize(6);
+        assertThat(scanCalls.get(4).request.segment()).isEqualTo(1);
+        assertThat(scanCalls.get(4).request.exclusiveStartKey()).isNull();
+
+        completeAll();
+
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.items()).containsExactlyInAnyOrderElementsOf(allItems(4));
+        assertThat(progress).contains("concurrency 3", "concurrency 4");
+    }
+
+    @Test
+    public void throttled_withConcurrencyOfOne_failsSubscriber() {
+        ParallelScanPublisher<String> publisher = new ParallelScanPublisher<>(request(2, 1), this::scan);
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(subscriber);
+        scanCalls.get(0).throttle();
+
+        assertThat(subscriber.error).isInstanceOf(ProvisionedThroughputExceededException.class);
+        assertThat(scanCalls).hasSize(1);
+    }
+
+    @Test
+    public void throttled_scansThePageAgainAfterTheDelayOfTheRetryStrategy() {
+        TestRetryStrategy retryStrategy = new TestRetryStrategy(3);
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ParallelScanPublisher<String> publisher =
+            new ParallelScanPublisher<>(request(2, null), this::scan, ParallelScanBackoff.create(retryStrategy, scheduler));
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(subscriber);
+        scanCalls.get(0).throttle();
+
+        ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(retry.capture(), eq(Duration.ofMillis(100).toNanos()),
+                                   eq(TimeUnit.NANOSECONDS));
+        assertThat(scanCalls).hasSize(2);
+
+        // The throttled page is scanned before the next page of segment 1 once the delay elapsed.
+        retry.getValue().run();
+        scanCalls.get(1).complete();
+        assertThat(scanCalls).hasSize(3);
+        assertThat(scanCalls.get(2).request.segment()).isZero();
+        assertThat(scanCalls.get(2).request.exclusiveStartKey()).isNull();
+
+        scanCalls.get(2).complete();
+        assertThat(retryStrategy.succeededAttempts).containsExactly(2);
+
+        completeAll();
+        assertThat(subscriber.completed).isTrue();
+        assertThat(subscriber.items()).containsExactlyInAnyOrderElementsOf(allItems(2));
+    }
+
+    @Test
+    public void throttled_consecutivelyInSegment_growsTheDelayOfTheRetryStrategy() {
+        TestRetryStrategy retryStrategy = new TestRetryStrategy(3);
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ParallelScanPublisher<String> publisher =
+            new ParallelScanPublisher<>(request(4, null), this::scan, ParallelScanBackoff.create(retryStrategy, scheduler));
+
+        publisher.subscribe(new TestSubscriber(Long.MAX_VALUE));
+        scanCalls.get(0).throttle();
+        ArgumentCaptor<Runnable> retry = ArgumentCaptor.forClass(Runnable.class);
+        verify(scheduler).schedule(retry.capture(), anyLong(), any(TimeUnit.class));
+        retry.getValue().run();
+        scanCalls.get(1).complete();
+        scanCalls.get(2).complete();
+        assertThat(scanCalls.get(4).request.segment()).isZero();
+        scanCalls.get(4).throttle();
+
+        ArgumentCaptor<Long> delays = ArgumentCaptor.forClass(Long.class);
+        verify(scheduler, times(2)).schedule(any(Runnable.class), delays.capture(), any(TimeUnit.class));
+        assertThat(delays.getAllValues()).containsExactly(Duration.ofMillis(100).toNanos(), Duration.ofMillis(200).toNanos());
+    }
+
+    @Test
+    public void throttled_refusedByTheRetryStrategy_failsSubscriber() {
+        ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+        ParallelScanPublisher<String> publisher =
+            new ParallelScanPublisher<>(request(2, null), this::scan,
+                                        ParallelScanBackoff.create(new TestRetryStrategy(1), scheduler));
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(subscriber);
+        scanCalls.get(0).throttle();
+        scanCalls.get(1).complete();
+
+        assertThat(subscriber.error).isInstanceOf(ProvisionedThroughputExceededException.class);
+        verify(scheduler, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    public void scanFailure_failsSubscriber() {
+        IllegalStateException failure = new IllegalStateException("failure");
+        ParallelScanPublisher<String> publisher = new ParallelScanPublisher<>(request(2, null), this::scan);
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(subscriber);
+        scanCalls.get(1).future.completeExceptionally(failure);
+        scanCalls.get(0).complete();
+
+        assertThat(subscriber.error).isSameAs(failure);
+        assertThat(subscriber.pages).isEmpty();
+        assertThat(scanCalls).hasSize(2);
+    }
+
+    @Test
+    public void cancel_stopsScanning() {
+        ParallelScanPublisher<String> publisher = new ParallelScanPublisher<>(request(2, null), this::scan);
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+
+        publisher.subscribe(subscriber);
+        subscriber.subscription.cancel();
+        scanCalls.get(0).complete();
+
+        assertThat(subscriber.pages).isEmpty();
+        assertThat(scanCalls).hasSize(2);
+    }
+
+    @Test
+    public void parallelScanIterable_iteratesOverAllPages() {
+        ParallelScanIterable<String> iterable = new ParallelScanIterable<>(request(3, 2), ParallelScanPublisherTest::page);
+
+        List<String> items = new ArrayList<>();
+        iterable.forEach(page -> items.addAll(page.items()));
+
+        assertThat(items).containsExactlyInAnyOrderElementsOf(allItems(3));
+    }
+
+    private CompletableFuture<Page<String>> scan(ScanEnhancedRequest request) {
+        ScanCall call = new ScanCall(request);
+        scanCalls.add(call);
+        return call.future;
+    }
+
+    private void completeAll() {
+        while (true) {
+            List<ScanCall> pending = scanCalls.stream().filter(call -> !call.future.isDone()).collect(Collectors.toList());
+            if (pending.isEmpty()) {
+                return;
+            }
+            pending.forEach(ScanCall::complete);
+        }
+    }
+
+    private static ParallelScanEnhancedRequest request(int totalSegments, Integer maxConcurrency) {
+        return ParallelScanEnhancedRequest.builder().totalSegments(totalSegments).maxConcurrency(maxConcurrency).build();
+    }
+
+    /**
+     * Every segment has {@link #PAGES_PER_SEGMENT} pages of one item named after the segment and the page.
+     */
+    private static Page<String> page(ScanEnhancedRequest request) {
+        int segment = request.segment();
+        int page = request.exclusiveStartKey() == null ? 0 : Integer.parseInt(request.exclusiveStartKey().get("page").n());
+        Map<String, AttributeValue> lastEvaluatedKey = page + 1 < PAGES_PER_SEGMENT
+                                                       ? Collections.singletonMap("page", numberValue(page + 1))
+                                                       : null;
+        return Page.create(Collections.singletonList(segment + "-" + page), lastEvaluatedKey);
+    }
+
+    private static Map<String, AttributeValue> lastEvaluatedKey(int page) {
+        return Collections.singletonMap("page", numberValue(page));
+    }
+
+    private static List<String> allItems(int totalSegments) {
+        List<String> items = new ArrayList<>();
+        for (int segment = 0; segment < totalSegments; segment++) {
+            Collections.addAll(items, segmentItems(segment));
+        }
+        return items;
+    }
+
+    private static String[] segmentItems(int segment) {
+        String[] items = new String[PAGES_PER_SEGMENT];
+        for (int page = 0; page < PAGES_PER_SEGMENT; page++) {
+            items[page] = segment + "-" + page;
+        }
+        return items;
+    }
+
+    private static List<String> itemsOfSegment(List<String> items, int segment) {
+        return items.stream().filter(item -> item.startsWith(segment + "-")).collect(Collectors.toList());
+    }
+
+    private static final class ScanCall {
+        private final ScanEnhancedRequest request;
+        private final CompletableFuture<Page<String>> future = new CompletableFuture<>();
+
+        private ScanCall(ScanEnhancedRequest request) {
+            this.request = request;
+        }
+
+        private void complete() {
+            future.complete(page(request));
+        }
+
+        private void throttle() {
+            future.completeExceptionally(ProvisionedThroughputExceededException.builder().message("throttled").build());
+        }
+    }
+
+    /**
+     * Delays the attempts by 100 milliseconds times the number of the attempt, up to a maximum number of attempts.
+     */
+    private static final class TestRetryStrategy implements RetryStrategy {
+        private final int maxAttempts;
+        private final List<Integer> succeededAttempts = new CopyOnWriteArrayList<>();
+
+        private TestRetryStrategy(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        @Override
+        public AcquireInitialTokenResponse acquireInitialToken(AcquireInitialTokenRequest request) {
+            return AcquireInitialTokenResponse.create(new TestRetryToken(1), Duration.ZERO);
+        }
+
+        @Override
+        public RefreshRetryTokenResponse refreshRetryToken(RefreshRetryTokenRequest request) {
+            int attempt = ((TestRetryToken) request.token()).attempt;
+            if (attempt >= maxAttempts) {
+                throw new TokenAcquisitionFailedException("Exhausted", request.token(), request.failure());
+            }
+            return RefreshRetryTokenResponse.create(new TestRetryToken(attempt + 1), Duration.ofMillis(100L * attempt));
+        }
+
+        @Override
+        public RecordSuccessResponse recordSuccess(RecordSuccessRequest request) {
+            succeededAttempts.add(((TestRetryToken) request.token()).attempt);
+            return RecordSuccessResponse.create(request.token());
+        }
+
+        @Override
+        public int maxAttempts() {
+            return maxAttempts;
+        }
+
+        @Override
+        public Builder<?, ?> toBuilder() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static final class TestRetryToken implements RetryToken {
+        private final int attempt;
+
+        private TestRetryToken(int attempt) {
+            this.attempt = attempt;
+        }
+    }
+
+    private static final class TestSubscriber implements Subscriber<Page<String>> {
+        private final long initialDemand;
+        private final List<Page<String>> pages = new CopyOnWriteArrayList<>();
+        private volatile Subscription subscription;
+        private volatile Throwable error;
+        private volatile boolean completed;
+
+        private TestSubscriber(long initialDemand) {
+            this.initialDemand = initialDemand;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            if (initialDemand > 0) {
+                subscription.request(initialDemand);
+            }
+        }
+
+        @Override
+        public void onNext(Page<String> page) {
+            pages.add(page);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        private List<String> items() {
+            return pages.stream().flatMap(page -> page.items().stream()).collect(Collectors.toList());
+        }
+    }
+}
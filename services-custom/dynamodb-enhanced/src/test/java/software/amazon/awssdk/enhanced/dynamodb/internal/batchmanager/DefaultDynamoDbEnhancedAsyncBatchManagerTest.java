@@ -0,0 +1,411 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.internal.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.numberValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+import static software.amazon.awssdk.enhanced.dynamodb.mapper.StaticAttributeTags.primaryPartitionKey;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbAsyncTable;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedAsyncClient;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.enhanced.dynamodb.batchmanager.DynamoDbEnhancedAsyncBatchManager;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.StaticTableSchema;
+import software.amazon.awssdk.retries.api.BackoffStrategy;
+import software.amazon.awssdk.services.dynamodb.DynamoDbAsyncClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+public class DefaultDynamoDbEnhancedAsyncBatchManagerTest {
+    private static final String TABLE_NAME = "table-name";
+
+    private static final TableSchema<Record> TABLE_SCHEMA =
+        StaticTableSchema.builder(Record.class)
+                         .newItemSupplier(Record::new)
+                         .addAttribute(String.class, a -> a.name("id")
+                                                           .getter(Record::getId)
+                                                           .setter(Record::setId)
+                                                           .addTag(primaryPartitionKey()))
+                         .addAttribute(Integer.class, a -> a.name("value")
+                                                            .getter(Record::getValue)
+                                                            .setter(Record::setValue))
+                         .build();
+
+    private final List<BatchWriteItemRequest> writeRequests = new CopyOnWriteArrayList<>();
+    private final List<BatchGetItemRequest> getRequests = new CopyOnWriteArrayList<>();
+    private final Map<String, Map<String, AttributeValue>> storedItems = new HashMap<>();
+
+    private DynamoDbAsyncClient dynamoDbClient;
+    private DynamoDbAsyncTable<Record> table;
+    private ScheduledExecutorService scheduledExecutor;
+    private DynamoDbEnhancedAsyncBatchManager batchManager;
+
+    @Before
+    public void setup() {
+        dynamoDbClient = mock(DynamoDbAsyncClient.class);
+        table = DynamoDbEnhancedAsyncClient.builder()
+                                           .dynamoDbClient(dynamoDbClient)
+                                           .extensions()
+                                           .build()
+                                           .table(TABLE_NAME, TABLE_SCHEMA);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        respondToWrites(request -> completed(BatchWriteItemResponse.builder().build()));
+        respondToGets(this::storedItems);
+    }
+
+    @After
+    public void cleanup() {
+        if (batchManager != null) {
+            batchManager.close();
+        }
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    public void putItem_fullBatches_areSentImmediately() {
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+
+        List<CompletableFuture<Void>> puts = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            puts.add(batchManager.putItem(table, new Record().setId("id-" + i).setValue(i)));
+        }
+
+        CompletableFuture.allOf(puts.toArray(new CompletableFuture[0])).join();
+        assertThat(writeRequests).hasSize(2);
+        assertThat(writeRequests).allSatisfy(r -> assertThat(r.requestItems().get(TABLE_NAME)).hasSize(25));
+    }
+
+    @Test
+    public void putItem_partialBatch_isSentAfterSendRequestFrequency() {
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofMillis(10)));
+
+        CompletableFuture<Void> first = batchManager.putItem(table, new Record().setId("id-1").setValue(1));
+        CompletableFuture<Void> second = batchManager.deleteItem(table, Key.builder().partitionValue("id-2").build());
+
+        CompletableFuture.allOf(first, second).join();
+        assertThat(writeRequests).hasSize(1);
+        assertThat(writeRequests.get(0).requestItems().get(TABLE_NAME))
+            .containsExactly(putRequest("id-1", 1), deleteRequest("id-2"));
+    }
+
+    @Test
+    public void putItem_sameKeyBuffered_isDeduplicated() {
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+
+        CompletableFuture<Void> first = batchManager.putItem(table, new Record().setId("id-1").setValue(1));
+        CompletableFuture<Void> second = batchManager.putItem(table, new Record().setId("id-2").setValue(2));
+        CompletableFuture<Void> third = batchManager.putItem(table, new Record().setId("id-1").setValue(3));
+        batchManager.close();
+
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+        assertThat(third).isCompleted();
+        assertThat(writeRequests).hasSize(1);
+        assertThat(writeRequests.get(0).requestItems().get(TABLE_NAME))
+            .containsExactly(putRequest("id-1", 3), putRequest("id-2", 2));
+    }
+
+    @Test
+    public void putItem_sameKeyInFlight_isSentAfterPreviousWriteCompletes() {
+        CompletableFuture<BatchWriteItemResponse> firstResponse = new CompletableFuture<>();
+        respondToWrites(request -> writeRequests.size() == 1 ? firstResponse : completed(BatchWriteItemResponse.builder()
+                                                                                                                  .build()));
+        batchManager = batchManager(c -> c.maxWriteBatchSize(1));
+
+        CompletableFuture<Void> first = batchManager.putItem(table, new Record().setId("id-1").setValue(1));
+        CompletableFuture<Void> second = batchManager.putItem(table, new Record().setId("id-1").setValue(2));
+        CompletableFuture<Void> other = batchManager.putItem(table, new Record().setId("id-2").setValue(3));
+
+        other.join();
+        assertThat(second).isNotDone();
+        assertThat(writeRequests).hasSize(2);
+
+        firstResponse.complete(BatchWriteItemResponse.builder().build());
+        CompletableFuture.allOf(first, second).join();
+        assertThat(writeRequests).hasSize(3);
+        assertThat(writeRequests.get(2).requestItems().get(TABLE_NAME)).containsExactly(putRequest("id-1", 2));
+    }
+
+    @Test
+    public void putItem_unprocessedItems_areRetried() {
+        respondToWrites(request -> {
+            if (writeRequests.size() > 1) {
+                return completed(BatchWriteItemResponse.builder().build());
+            }
+            return completed(BatchWriteItemResponse.builder()
+                                                   .unprocessedItems(Collections.singletonMap(
+                                                       TABLE_NAME, Collections.singletonList(putRequest("id-2", 2))))
+                                                   .build());
+        });
+        batchManager = batchManager(c -> c.unprocessedItemsBackoffStrategy(BackoffStrategy.retryImmediately()));
+
+        CompletableFuture<Void> first = batchManager.putItem(table, new Record().setId("id-1").setValue(1));
+        CompletableFuture<Void> second = batchManager.putItem(table, new Record().setId("id-2").setValue(2));
+
+        CompletableFuture.allOf(first, second).join();
+        assertThat(writeRequests).hasSize(2);
+        assertThat(writeRequests.get(1).requestItems().get(TABLE_NAME)).containsExactly(putRequest("id-2", 2));
+    }
+
+    @Test
+    public void putItem_stillUnprocessedAfterMaxRetries_fails() {
+        respondToWrites(request -> completed(BatchWriteItemResponse.builder()
+                                                                   .unprocessedItems(request.requestItems())
+                                                                   .build()));
+        batchManager = batchManager(c -> c.maxUnprocessedItemsRetries(2)
+                                          .unprocessedItemsBackoffStrategy(BackoffStrategy.retryImmediately()));
+
+        CompletableFuture<Void> put = batchManager.putItem(table, new Record().setId("id-1").setValue(1));
+
+        assertThatThrownBy(put::join).isInstanceOf(CompletionException.class)
+                                     .hasCauseInstanceOf(SdkClientException.class)
+                                     .hasMessageContaining("unprocessed after 2 retries");
+        assertThat(writeRequests).hasSize(3);
+    }
+
+    @Test
+    public void putItem_failedRequest_failsAllCallsOfTheBatch() {
+        ProvisionedThroughputExceededException exception = ProvisionedThroughputExceededException.builder().build();
+        respondToWrites(request -> CompletableFuture.supplyAsync(() -> {
+            throw exception;
+        }));
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+
+        CompletableFuture<Void> first = batchManager.putItem(table, new Record().setId("id-1").setValue(1));
+        CompletableFuture<Void> second = batchManager.deleteItem(table, new Record().setId("id-2"));
+        batchManager.close();
+
+        assertThatThrownBy(first::join).hasCause(exception);
+        assertThatThrownBy(second::join).hasCause(exception);
+    }
+
+    @Test
+    public void getItem_returnsItemsAndNullForMissingKeys() {
+        storeItem("id-1", 1);
+        storeItem("id-3", 3);
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+
+        CompletableFuture<Record> first = batchManager.getItem(table, Key.builder().partitionValue("id-1").build());
+        CompletableFuture<Record> second = batchManager.getItem(table, Key.builder().partitionValue("id-2").build());
+        CompletableFuture<Record> third = batchManager.getItem(table, new Record().setId("id-3"));
+        CompletableFuture<Record> duplicate = batchManager.getItem(table, Key.builder().partitionValue("id-1").build());
+        batchManager.close();
+
+        assertThat(first.join()).isEqualTo(new Record().setId("id-1").setValue(1));
+        assertThat(second.join()).isNull();
+        assertThat(third.join()).isEqualTo(new Record().setId("id-3").setValue(3));
+        assertThat(duplicate.join()).isEqualTo(first.join());
+        assertThat(getRequests).hasSize(1);
+        assertThat(getRequests.get(0).requestItems().get(TABLE_NAME).keys()).hasSize(3);
+    }
+
+    @Test
+    public void getItem_unprocessedKeys_areRetried() {
+        storeItem("id-1", 1);
+        storeItem("id-2", 2);
+        respondToGets(request -> {
+            BatchGetItemResponse response = storedItems(request);
+            if (getRequests.size() > 1) {
+                return response;
+            }
+            Map<String, AttributeValue> unprocessedKey = Collections.singletonMap("id", stringValue("id-2"));
+            return response.toBuilder()
+                           .responses(Collections.singletonMap(TABLE_NAME, Collections.singletonList(storedItems.get("id-1"))))
+                           .unprocessedKeys(Collections.singletonMap(TABLE_NAME, KeysAndAttributes.builder()
+                                                                                                  .keys(unprocessedKey)
+                                                                                                  .build()))
+                           .build();
+        });
+        batchManager = batchManager(c -> c.unprocessedItemsBackoffStrategy(BackoffStrategy.retryImmediately()));
+
+        CompletableFuture<Record> first = batchManager.getItem(table, Key.builder().partitionValue("id-1").build());
+        CompletableFuture<Record> second = batchManager.getItem(table, Key.builder().partitionValue("id-2").build());
+
+        assertThat(first.join()).isEqualTo(new Record().setId("id-1").setValue(1));
+        assertThat(second.join()).isEqualTo(new Record().setId("id-2").setValue(2));
+        assertThat(getRequests).hasSize(2);
+        assertThat(getRequests.get(1).requestItems().get(TABLE_NAME).keys())
+            .containsExactly(Collections.singletonMap("id", stringValue("id-2")));
+    }
+
+    @Test
+    public void close_rejectsNewCalls() {
+        batchManager = batchManager(c -> { });
+        batchManager.close();
+
+        assertThatThrownBy(() -> batchManager.putItem(table, new Record().setId("id-1")).join())
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    public void close_withOwnedExecutor_sendsBufferedCalls() {
+        batchManager = DynamoDbEnhancedAsyncBatchManager.builder()
+                                                        .client(DynamoDbEnhancedAsyncClient.builder()
+                                                                                           .dynamoDbClient(dynamoDbClient)
+                                                                                           .build())
+                                                        .overrideConfiguration(c -> c.sendRequestFrequency(Duration.ofHours(1)))
+                                                        .build();
+
+        CompletableFuture<Void> put = batchManager.putItem(table, new Record().setId("id-1").setValue(1));
+        batchManager.close();
+
+        assertThat(put).isCompleted();
+        assertThat(writeRequests).hasSize(1);
+    }
+
+    @Test
+    public void build_clientNotCreatedWithBuilder_throws() {
+        assertThatThrownBy(() -> DynamoDbEnhancedAsyncBatchManager.builder()
+                                                                  .client(mock(DynamoDbEnhancedAsyncClient.class))
+                                                                  .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void overrideConfiguration_batchSizesAboveLimits_areRejected() {
+        assertThatThrownBy(() -> BatchOverrideConfiguration.builder().maxWriteBatchSize(26).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchOverrideConfiguration.builder().maxGetBatchSize(101).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BatchOverrideConfiguration.builder().maxUnprocessedItemsRetries(-1).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private DynamoDbEnhancedAsyncBatchManager batchManager(Consumer<BatchOverrideConfiguration.Builder> configuration) {
+        return DynamoDbEnhancedAsyncBatchManager.builder()
+                                                .client(DynamoDbEnhancedAsyncClient.builder()
+                                                                                   .dynamoDbClient(dynamoDbClient)
+                                                                                   .build())
+                                                .overrideConfiguration(configuration)
+                                                .scheduledExecutor(scheduledExecutor)
+                                                .build();
+    }
+
+    private void respondToWrites(Function<BatchWriteItemRequest, CompletableFuture<BatchWriteItemResponse>> responses) {
+        when(dynamoDbClient.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            writeRequests.add(request);
+            return responses.apply(request);
+        });
+    }
+
+    private void respondToGets(Function<BatchGetItemRequest, BatchGetItemResponse> responses) {
+        when(dynamoDbClient.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            BatchGetItemRequest request = invocation.getArgument(0);
+            getRequests.add(request);
+            return completed(responses.apply(request));
+        });
+    }
+
+    private BatchGetItemResponse storedItems(BatchGetItemRequest request) {
+        List<Map<String, AttributeValue>> items = request.requestItems().get(TABLE_NAME).keys().stream()
+                                                         .map(key -> storedItems.get(key.get("id").s()))
+                                                         .filter(item -> item != null)
+                                                         .collect(Collectors.toList());
+        return BatchGetItemResponse.builder().responses(Collections.singletonMap(TABLE_NAME, items)).build();
+    }
+
+    private void storeItem(String id, int value) {
+        storedItems.put(id, TABLE_SCHEMA.itemToMap(new Record().setId(id).setValue(value), true));
+    }
+
+    private static WriteRequest putRequest(String id, int value) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put("id", stringValue(id));
+        item.put("value", numberValue(value));
+        return WriteRequest.builder().putRequest(r -> r.item(item)).build();
+    }
+
+    private static WriteRequest deleteRequest(String id) {
+        return WriteRequest.builder().deleteRequest(r -> r.key(Collections.singletonMap("id", stringValue(id)))).build();
+    }
+
+    private static <T> CompletableFuture<T> completed(T response) {
+        return CompletableFuture.completedFuture(response);
+    }
+
+    private static class Record {
+        private String id;
+        private Integer value;
+
+        private String getId() {
+            return id;
+        }
+
+        private Record setId(String id) {
+            this.id = id;
+            return this;
+        }
+
+        private Integer getValue() {
+            return value;
+        }
+
+        private Record setValue(Integer value) {
+            this.value = value;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Record record = (Record) o;
+            return Objects.equals(id, record.id) && Objects.equals(value, record.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, value);
+        }
+    }
+}
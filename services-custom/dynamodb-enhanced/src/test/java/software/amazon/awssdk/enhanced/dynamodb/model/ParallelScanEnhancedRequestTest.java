@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.enhanced.dynamodb.model;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static software.amazon.awssdk.enhanced.dynamodb.internal.AttributeValues.stringValue;
+
+import org.junit.Test;
+
+public class ParallelScanEnhancedRequestTest {
+
+    @Test
+    public void builder_minimal() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder().totalSegments(4).build();
+
+        assertThat(builtObject.totalSegments(), is(4));
+        assertThat(builtObject.scanRequest(), is(ScanEnhancedRequest.builder().build()));
+        assertThat(builtObject.maxConcurrency(), is(nullValue()));
+        assertThat(builtObject.progressListener(), is(nullValue()));
+    }
+
+    @Test
+    public void builder_maximal() {
+        ParallelScanProgressListener listener = new ParallelScanProgressListener() {
+        };
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .totalSegments(4)
+                                                                             .maxConcurrency(2)
+                                                                             .scanRequest(r -> r.limit(10))
+                                                                             .progressListener(listener)
+                                                                             .build();
+
+        assertThat(builtObject.totalSegments(), is(4));
+        assertThat(builtObject.maxConcurrency(), is(2));
+        assertThat(builtObject.scanRequest(), is(ScanEnhancedRequest.builder().limit(10).build()));
+        assertThat(builtObject.progressListener(), is(listener));
+    }
+
+    @Test
+    public void toBuilder() {
+        ParallelScanEnhancedRequest builtObject = ParallelScanEnhancedRequest.builder()
+                                                                             .totalSegments(4)
+                                                                             .maxConcurrency(2)
+                                                                             .build();
+
+        ParallelScanEnhancedRequest copiedObject = builtObject.toBuilder().build();
+
+        assertThat(copiedObject, is(builtObject));
+        assertThat(copiedObject.hashCode(), is(builtObject.hashCode()));
+    }
+
+    @Test
+    public void builder_withoutTotalSegments_throws() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().build())
+            .isInstanceOf(NullPointerException.class)
+            .hasMessageContaining("totalSegments");
+    }
+
+    @Test
+    public void builder_withInvalidConcurrency_throws() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder().totalSegments(2).maxConcurrency(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void builder_withSegmentedScanRequest_throws() {
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(2)
+                                                            .scanRequest(r -> r.segment(0).totalSegments(2))
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ParallelScanEnhancedRequest.builder()
+                                                            .totalSegments(2)
+                                                            .scanRequest(r -> r.exclusiveStartKey(singletonMap("id",
+                                                                                                               stringValue("a"))))
+                                                            .build())
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudwatchlogs.batchmanager;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.utils.ToString;
+
+/**
+ * A snapshot of the counters of a {@link CloudWatchLogsAsyncBatchManager}, since it was created. Create a snapshot using
+ * {@link CloudWatchLogsAsyncBatchManager#metrics()}.
+ */
+@SdkPublicApi
+public final class BatchManagerMetrics {
+    private final long acceptedEvents;
+    private final long droppedEvents;
+    private final long sentEvents;
+    private final long rejectedEvents;
+    private final long failedEvents;
+    private final long requestsSent;
+    private final long requestsFailed;
+    private final long bufferedEvents;
+
+    private BatchManagerMetrics(Builder builder) {
+        this.acceptedEvents = builder.acceptedEvents;
+        this.droppedEvents = builder.droppedEvents;
+        this.sentEvents = builder.sentEvents;
+        this.rejectedEvents = builder.rejectedEvents;
+        this.failedEvents = builder.failedEvents;
+        this.requestsSent = builder.requestsSent;
+        this.requestsFailed = builder.requestsFailed;
+        this.bufferedEvents = builder.bufferedEvents;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the number of log events accepted in the buffer.
+     */
+    public long acceptedEvents() {
+        return acceptedEvents;
+    }
+
+    /**
+     * @return the number of log events dropped before being sent, because the buffer was full, because the batch manager was
+     *         closed, or because the log event was larger than the maximum size of a PutLogEvents request.
+     */
+    public long droppedEvents() {
+        return droppedEvents;
+    }
+
+    /**
+     * @return the number of log events sent in PutLogEvents requests that succeeded, including the rejected log events.
+     */
+    public long sentEvents() {
+        return sentEvents;
+    }
+
+    /**
+     * @return the number of log events of successful PutLogEvents requests that CloudWatch Logs rejected because they were
+     *         too old, too new or older than the retention period of the log group.
+     */
+    public long rejectedEvents() {
+        return rejectedEvents;
+    }
+
+    /**
+     * @return the number of log events sent in PutLogEvents requests that failed after the retries of the client.
+     */
+    public long failedEvents() {
+        return failedEvents;
+    }
+
+    /**
+     * @return the number of PutLogEvents requests sent.
+     */
+    public long requestsSent() {
+        return requestsSent;
+    }
+
+    /**
+     * @return the number of PutLogEvents requests that failed after the retries of the client.
+     */
+    public long requestsFailed() {
+        return requestsFailed;
+    }
+
+    /**
+     * @return the number of log events accepted and not yet sent, or sent in PutLogEvents requests still in flight.
+     */
+    public long bufferedEvents() {
+        return bufferedEvents;
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchManagerMetrics")
+                       .add("acceptedEvents", acceptedEvents)
+                       .add("droppedEvents", droppedEvents)
+                       .add("sentEvents", sentEvents)
+                       .add("rejectedEvents", rejectedEvents)
+                       .add("failedEvents", failedEvents)
+                       .add("requestsSent", requestsSent)
+                       .add("requestsFailed", requestsFailed)
+                       .add("bufferedEvents", bufferedEvents)
+                       .build();
+    }
+
+    public static final class Builder {
+        private long acceptedEvents;
+        private long droppedEvents;
+        private long sentEvents;
+        private long rejectedEvents;
+        private long failedEvents;
+        private long requestsSent;
+        private long requestsFailed;
+        private long bufferedEvents;
+
+        private Builder() {
+        }
+
+        public Builder acceptedEvents(long acceptedEvents) {
+            this.acceptedEvents = acceptedEvents;
+            return this;
+        }
+
+        public Builder droppedEvents(long droppedEvents) {
+            this.droppedEvents = droppedEvents;
+            return this;
+        }
+
+        public Builder sentEvents(long sentEvents) {
+            this.sentEvents = sentEvents;
+            return this;
+        }
+
+        public Builder rejectedEvents(long rejectedEvents) {
+            this.rejectedEvents = rejectedEvents;
+            return this;
+        }
+
+        public Builder failedEvents(long failedEvents) {
+            this.failedEvents = failedEvents;
+            return this;
+        }
+
+        public Builder requestsSent(long requestsSent) {
+            this.requestsSent = requestsSent;
+            return this;
+        }
+
+        public Builder requestsFailed(long requestsFailed) {
+            this.requestsFailed = requestsFailed;
+            return this;
+        }
+
+        public Builder bufferedEvents(long bufferedEvents) {
+            this.bufferedEvents = bufferedEvents;
+            return this;
+        }
+
+        public BatchManagerMetrics build() {
+            return new BatchManagerMetrics(this);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudwatchlogs.batchmanager;
+
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsRequest;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration values for the BatchManager implementation used for controlling batch operations.
+ * All values are optional, and default values will be used if they are not specified.
+ */
+@SdkPublicApi
+public final class BatchOverrideConfiguration implements ToCopyableBuilder<BatchOverrideConfiguration.Builder,
+    BatchOverrideConfiguration> {
+
+    private final Integer maxBatchSize;
+    private final Duration sendRequestFrequency;
+    private final Integer bufferSize;
+    private final BufferOverflowPolicy bufferOverflowPolicy;
+    private final Integer maxConcurrentRequestsPerStream;
+
+    private BatchOverrideConfiguration(Builder builder) {
+        this.maxBatchSize = Validate.isPositiveOrNull(builder.maxBatchSize, "maxBatchSize");
+        Validate.isTrue(this.maxBatchSize == null || this.maxBatchSize <= 10000,
+                        "The maxBatchSize must be less than or equal to 10000. A PutLogEvents request can contain up to "
+                        + "10000 log events.");
+        this.sendRequestFrequency = Validate.isPositiveOrNull(builder.sendRequestFrequency, "sendRequestFrequency");
+        this.bufferSize = Validate.isPositiveOrNull(builder.bufferSize, "bufferSize");
+        this.bufferOverflowPolicy = builder.bufferOverflowPolicy;
+        this.maxConcurrentRequestsPerStream = Validate.isPositiveOrNull(builder.maxConcurrentRequestsPerStream,
+                                                                        "maxConcurrentRequestsPerStream");
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of log events that can be batched together in a single {@link PutLogEventsRequest}. A
+     *         PutLogEvents request can contain up to a maximum of 10000 log events. The default value is 10000.
+     */
+    public Integer maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the maximum duration a log event waits for additional log events of the same log stream before being sent. If
+     *         the batch is full before this duration, it is sent immediately. The default value is 1 second.
+     */
+    public Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    /**
+     * @return the maximum number of log events waiting to be batched. The default value is 65536.
+     */
+    public Integer bufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * @return what is done with a log event put while the buffer is full. The default value is
+     *         {@link BufferOverflowPolicy#DROP}.
+     */
+    public BufferOverflowPolicy bufferOverflowPolicy() {
+        return bufferOverflowPolicy;
+    }
+
+    /**
+     * @return the maximum number of PutLogEvents requests in flight for one log stream. The default value is 4.
+     */
+    public Integer maxConcurrentRequestsPerStream() {
+        return maxConcurrentRequestsPerStream;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder()
+            .maxBatchSize(maxBatchSize)
+            .sendRequestFrequency(sendRequestFrequency)
+            .bufferSize(bufferSize)
+            .bufferOverflowPolicy(bufferOverflowPolicy)
+            .maxConcurrentRequestsPerStream(maxConcurrentRequestsPerStream);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchOverrideConfiguration")
+                       .add("maxBatchSize", maxBatchSize)
+                       .add("sendRequestFrequency", sendRequestFrequency)
+                       .add("bufferSize", bufferSize)
+                       .add("bufferOverflowPolicy", bufferOverflowPolicy)
+                       .add("maxConcurrentRequestsPerStream", maxConcurrentRequestsPerStream)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BatchOverrideConfiguration that = (BatchOverrideConfiguration) o;
+
+        return Objects.equals(maxBatchSize, that.maxBatchSize)
+               && Objects.equals(sendRequestFrequency, that.sendRequestFrequency)
+               && Objects.equals(bufferSize, that.bufferSize)
+               && bufferOverflowPolicy == that.bufferOverflowPolicy
+               && Objects.equals(maxConcurrentRequestsPerStream, that.maxConcurrentRequestsPerStream);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxBatchSize != null ? maxBatchSize.hashCode() : 0;
+        result = 31 * result + (sendRequestFrequency != null ? sendRequestFrequency.hashCode() : 0);
+        result = 31 * result + (bufferSize != null ? bufferSize.hashCode() : 0);
+        result = 31 * result + (bufferOverflowPolicy != null ? bufferOverflowPolicy.hashCode() : 0);
+        result = 31 * result + (maxConcurrentRequestsPerStream != null ? maxConcurrentRequestsPerStream.hashCode() : 0);
+        return result;
+    }
+
+    public static final class Builder implements CopyableBuilder<Builder, BatchOverrideConfiguration> {
+
+        private Integer maxBatchSize;
+        private Duration sendRequestFrequency;
+        private Integer bufferSize;
+        private BufferOverflowPolicy bufferOverflowPolicy;
+        private Integer maxConcurrentRequestsPerStream;
+
+        private Builder() {
+        }
+
+        /**
+         * Specifies the maximum number of log events that the batch manager will include in a single
+         * {@link PutLogEventsRequest}. A PutLogEvents request can contain up to a maximum of 10000 log events. The default
+         * value is 10000. Independently of this value, a batch is also sent when it reaches 1 MiB, the maximum size of a
+         * PutLogEvents request, or when it would span more than 24 hours.
+         *
+         * @param maxBatchSize The maximum number of log events to be batched together in a single request.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Specifies the frequency at which the log events buffered for a log stream are sent. This defines the maximum
+         * duration that a log event is held for additional log events before being sent. Increasing the
+         * {@code sendRequestFrequency} gives more time for additional log events to be added to the batch, which can reduce
+         * the number of requests, at the cost of a higher latency. The default value is 1 second.
+         *
+         * @param sendRequestFrequency The new value for the frequency at which outbound requests are sent.
+         * @return This Builder object for method chaining.
+         */
+        public Builder sendRequestFrequency(Duration sendRequestFrequency) {
+            this.sendRequestFrequency = sendRequestFrequency;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of log events waiting to be batched. Log events put by the application are first
+         * written to a buffer of this size, then moved to the batches of their log stream as long as fewer than this number
+         * of log events wait to be sent. Up to twice this number of log events can therefore be held in memory. The value is
+         * rounded up to a power of two. The default value is 65536.
+         *
+         * @param bufferSize The maximum number of log events waiting to be batched.
+         * @return This Builder object for method chaining.
+         */
+        public Builder bufferSize(Integer bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        /**
+         * Specifies what is done with a log event put while the buffer is full, because log events are put faster than they
+         * can be sent. The default value is {@link BufferOverflowPolicy#DROP}.
+         *
+         * @param bufferOverflowPolicy The policy applied to log events put while the buffer is full.
+         * @return This Builder object for method chaining.
+         */
+        public Builder bufferOverflowPolicy(BufferOverflowPolicy bufferOverflowPolicy) {
+            this.bufferOverflowPolicy = bufferOverflowPolicy;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of PutLogEvents requests in flight for one log stream. CloudWatch Logs accepts
+         * concurrent PutLogEvents requests to the same log stream, so a log stream receiving more log events than one request
+         * at a time can send is written by several requests in parallel. The default value is 4.
+         *
+         * @param maxConcurrentRequestsPerStream The maximum number of requests in flight for one log stream.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxConcurrentRequestsPerStream(Integer maxConcurrentRequestsPerStream) {
+            this.maxConcurrentRequestsPerStream = maxConcurrentRequestsPerStream;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link BatchOverrideConfiguration} object based on the values set in this builder.
+         *
+         * @return A new {@link BatchOverrideConfiguration} object.
+         */
+        @Override
+        public BatchOverrideConfiguration build() {
+            return new BatchOverrideConfiguration(this);
+        }
+    }
+}
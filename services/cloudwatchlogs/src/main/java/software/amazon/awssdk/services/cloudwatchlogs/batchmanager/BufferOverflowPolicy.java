@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudwatchlogs.batchmanager;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+
+/**
+ * What the {@link CloudWatchLogsAsyncBatchManager} does with a log event put while its buffer is full, because log events
+ * are put faster than they can be sent.
+ */
+@SdkPublicApi
+public enum BufferOverflowPolicy {
+
+    /**
+     * The log event is dropped and counted in {@link BatchManagerMetrics#droppedEvents()}. The thread putting the log event
+     * is never blocked.
+     */
+    DROP,
+
+    /**
+     * The thread putting the log event waits until the buffer has room for it. Log events put after the batch manager is
+     * closed are dropped.
+     */
+    BLOCK
+}
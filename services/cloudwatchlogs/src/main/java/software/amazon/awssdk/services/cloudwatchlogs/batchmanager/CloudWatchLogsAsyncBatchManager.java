@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudwatchlogs.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClient;
+import software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager.DefaultCloudWatchLogsAsyncBatchManager;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InputLogEvent;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Batch manager for implementing automatic batching with a CloudWatch Logs async client. Create an instance using
+ * {@link #builder()} or {@link CloudWatchLogsAsyncClient#batchManager()}.
+ * <p>
+ * This manager buffers log events put by many threads and sends them in
+ * {@link software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsRequest}s. The log events of a log stream are
+ * sorted by timestamp and sliced into batches that respect the limits of PutLogEvents: 10000 log events, 1 MiB and a span
+ * of 24 hours per request. Several requests can be in flight for the same log stream.
+ * <p>
+ * Log events are put without returning a future, to keep logging cheap for the application. The outcome of the log events
+ * is reported by {@link #metrics()}.
+ */
+@SdkPublicApi
+@ThreadSafe
+public interface CloudWatchLogsAsyncBatchManager extends SdkAutoCloseable {
+
+    /**
+     * Creates a builder for configuring and creating a {@link CloudWatchLogsAsyncBatchManager}.
+     *
+     * @return A new builder.
+     */
+    static Builder builder() {
+        return DefaultCloudWatchLogsAsyncBatchManager.builder();
+    }
+
+    /**
+     * Buffers a log event, to be sent with the other log events of its log stream in a PutLogEvents request when the batch
+     * is full or the send request frequency elapses. The log group and the log stream must exist.
+     * <p>
+     * When the buffer is full, the log event is dropped or the calling thread waits, according to the
+     * {@link BufferOverflowPolicy} of the batch manager. Log events larger than the maximum size of a PutLogEvents request
+     * are dropped.
+     *
+     * @param logGroupName The name of the log group.
+     * @param logStreamName The name of the log stream.
+     * @param logEvent The log event to be buffered.
+     * @return Whether the log event was buffered, false if it was dropped.
+     */
+    default boolean putLogEvent(String logGroupName, String logStreamName, InputLogEvent logEvent) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers a log event using a {@link Consumer} to configure the log event. See
+     * {@link #putLogEvent(String, String, InputLogEvent)}.
+     *
+     * @param logGroupName The name of the log group.
+     * @param logStreamName The name of the log stream.
+     * @param logEvent A {@link Consumer} to configure the InputLogEvent to be buffered.
+     * @return Whether the log event was buffered, false if it was dropped.
+     */
+    default boolean putLogEvent(String logGroupName, String logStreamName, Consumer<InputLogEvent.Builder> logEvent) {
+        return putLogEvent(logGroupName, logStreamName, InputLogEvent.builder().applyMutation(logEvent).build());
+    }
+
+    /**
+     * Sends the buffered log events without waiting for their batches to be full.
+     *
+     * @return CompletableFuture completed when no log event is buffered or in flight anymore.
+     */
+    default CompletableFuture<Void> flush() {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * @return A snapshot of the counters of this batch manager.
+     */
+    default BatchManagerMetrics metrics() {
+        throw new UnsupportedOperationException();
+    }
+
+    interface Builder {
+
+        /**
+         * Sets custom overrides for the BatchManager configuration.
+         *
+         * @param overrideConfiguration The configuration overrides.
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Sets custom overrides for the BatchManager configuration using a {@link Consumer} to configure the overrides.
+         *
+         * @param overrideConfiguration A {@link Consumer} to configure the {@link BatchOverrideConfiguration}.
+         * @return This builder for method chaining.
+         */
+        default Builder overrideConfiguration(Consumer<BatchOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(BatchOverrideConfiguration.builder().applyMutation(overrideConfiguration).build());
+        }
+
+        /**
+         * Sets the {@link CloudWatchLogsAsyncClient} used to send the batched requests. This client must be closed by the
+         * caller.
+         *
+         * @param client The CloudWatchLogsAsyncClient to use.
+         * @return This builder for method chaining.
+         * @throws NullPointerException If client is null.
+         */
+        Builder client(CloudWatchLogsAsyncClient client);
+
+        /**
+         * Sets a custom {@link ScheduledExecutorService} for periodic buffer flushes and for batching the buffered log events.
+         * This executor must be closed by the caller.
+         *
+         * @param scheduledExecutor The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Builds an instance of {@link CloudWatchLogsAsyncBatchManager} based on the supplied configurations.
+         *
+         * @return An initialized CloudWatchLogsAsyncBatchManager.
+         */
+        CloudWatchLogsAsyncBatchManager build();
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager;
+
+import static software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager.PutLogEventsBatchManager.LOG_EVENT_OVERHEAD_BYTES;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InputLogEvent;
+
+/**
+ * A log event put in the batch manager, with its log stream and its size in a PutLogEvents request. The size is computed
+ * by the thread putting the log event, so that batching does not have to encode the messages again.
+ */
+@SdkInternalApi
+final class BufferedLogEvent {
+    private final String logGroupName;
+    private final String logStreamName;
+    private final InputLogEvent logEvent;
+    private final long timestamp;
+    private final int size;
+
+    private BufferedLogEvent(String logGroupName, String logStreamName, InputLogEvent logEvent) {
+        this.logGroupName = logGroupName;
+        this.logStreamName = logStreamName;
+        this.logEvent = logEvent;
+        this.timestamp = logEvent.timestamp() != null ? logEvent.timestamp() : 0L;
+        this.size = utf8Length(logEvent.message()) + LOG_EVENT_OVERHEAD_BYTES;
+    }
+
+    static BufferedLogEvent of(String logGroupName, String logStreamName, InputLogEvent logEvent) {
+        return new BufferedLogEvent(logGroupName, logStreamName, logEvent);
+    }
+
+    String logGroupName() {
+        return logGroupName;
+    }
+
+    String logStreamName() {
+        return logStreamName;
+    }
+
+    InputLogEvent logEvent() {
+        return logEvent;
+    }
+
+    long timestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return The size of the log event in a PutLogEvents request, the UTF-8 size of its message plus 26 bytes.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Computes the UTF-8 size of a string without encoding it.
+     */
+    static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = value.length();
+        int size = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    size++;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    size += 2;
+                    i++;
+                } else {
+                    size += 2;
+                }
+            }
+        }
+        return size;
+    }
+}
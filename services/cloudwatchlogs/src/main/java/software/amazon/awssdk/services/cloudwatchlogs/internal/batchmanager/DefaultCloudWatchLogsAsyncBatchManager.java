@@ -0,0 +1,308 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager;
+
+import static software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager.PutLogEventsBatchManager.DEFAULT_MAX_BATCH_ITEMS;
+import static software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager.PutLogEventsBatchManager.DEFAULT_MAX_CONCURRENT_REQUESTS_PER_STREAM;
+import static software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager.PutLogEventsBatchManager.DEFAULT_SEND_REQUEST_FREQUENCY;
+import static software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager.PutLogEventsBatchManager.MAX_BATCH_BYTES_SIZE;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClient;
+import software.amazon.awssdk.services.cloudwatchlogs.batchmanager.BatchManagerMetrics;
+import software.amazon.awssdk.services.cloudwatchlogs.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.cloudwatchlogs.batchmanager.BufferOverflowPolicy;
+import software.amazon.awssdk.services.cloudwatchlogs.batchmanager.CloudWatchLogsAsyncBatchManager;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InputLogEvent;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Log events are put in a lock-free {@link LogEventRingBuffer}, so that threads logging concurrently do not contend on a
+ * lock. One drain at a time moves them to the {@link PutLogEventsBatchManager}, which batches them per log stream, as long as
+ * fewer log events than the buffer size wait to be sent. A drain is scheduled when the ring buffer holds enough log events for
+ * a batch, when the send request frequency elapses, and when log events are sent.
+ */
+@SdkInternalApi
+public final class DefaultCloudWatchLogsAsyncBatchManager implements CloudWatchLogsAsyncBatchManager {
+
+    static final int DEFAULT_BUFFER_SIZE = 65536;
+
+    private static final Logger log = Logger.loggerFor(DefaultCloudWatchLogsAsyncBatchManager.class);
+    private static final long BLOCK_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final int MAX_BUFFER_SIZE = 1 << 30;
+
+    private final ScheduledExecutorService scheduledExecutor;
+    private final PutLogEventsBatchManager putLogEventsBatchManager;
+    private final int bufferSize;
+    private final BufferOverflowPolicy bufferOverflowPolicy;
+    private final LogEventRingBuffer<BufferedLogEvent> ringBuffer;
+    private final int drainThreshold;
+    private final ScheduledFuture<?> scheduledFlush;
+    private final BiConsumer<PutLogEventsResponse, Throwable> logEventCompletion = this::completeLogEvent;
+
+    private final Lock drainLock = new ReentrantLock();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Queue<CompletableFuture<Void>> flushFutures = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private volatile boolean closed;
+
+    private final LongAdder acceptedEvents = new LongAdder();
+    private final LongAdder droppedEvents = new LongAdder();
+    private final LongAdder sentEvents = new LongAdder();
+    private final LongAdder failedEvents = new LongAdder();
+
+    private DefaultCloudWatchLogsAsyncBatchManager(DefaultBuilder builder) {
+        CloudWatchLogsAsyncClient client = Validate.notNull(builder.client, "client cannot be null");
+        this.scheduledExecutor = Validate.notNull(builder.scheduledExecutor, "scheduledExecutor cannot be null");
+        BatchOverrideConfiguration overrides = builder.overrideConfiguration != null
+                                               ? builder.overrideConfiguration
+                                               : BatchOverrideConfiguration.builder().build();
+        int maxBatchItems = overrides.maxBatchSize() != null ? overrides.maxBatchSize() : DEFAULT_MAX_BATCH_ITEMS;
+        Duration sendRequestFrequency = overrides.sendRequestFrequency() != null ? overrides.sendRequestFrequency()
+                                                                                  : DEFAULT_SEND_REQUEST_FREQUENCY;
+        int maxConcurrentRequestsPerStream = overrides.maxConcurrentRequestsPerStream() != null
+                                             ? overrides.maxConcurrentRequestsPerStream()
+                                             : DEFAULT_MAX_CONCURRENT_REQUESTS_PER_STREAM;
+        this.putLogEventsBatchManager =
+            new PutLogEventsBatchManager(RequestBatchConfiguration.builder()
+                                                                  .maxBatchItems(maxBatchItems)
+                                                                  .maxBatchBytesSize(MAX_BATCH_BYTES_SIZE)
+                                                                  .sendRequestFrequency(sendRequestFrequency)
+                                                                  .build(),
+                                         scheduledExecutor,
+                                         client,
+                                         maxConcurrentRequestsPerStream);
+
+        this.bufferSize = powerOfTwo(overrides.bufferSize() != null ? overrides.bufferSize() : DEFAULT_BUFFER_SIZE);
+        this.bufferOverflowPolicy = overrides.bufferOverflowPolicy() != null ? overrides.bufferOverflowPolicy()
+                                                                              : BufferOverflowPolicy.DROP;
+        this.ringBuffer = new LogEventRingBuffer<>(bufferSize);
+        this.drainThreshold = Math.max(1, Math.min(maxBatchItems, bufferSize / 2));
+        long frequencyMillis = sendRequestFrequency.toMillis();
+        this.scheduledFlush = scheduledExecutor.scheduleAtFixedRate(this::requestFlush, frequencyMillis, frequencyMillis,
+                                                                    TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean putLogEvent(String logGroupName, String logStreamName, InputLogEvent logEvent) {
+        Validate.paramNotNull(logGroupName, "logGroupName");
+        Validate.paramNotNull(logStreamName, "logStreamName");
+        Validate.paramNotNull(logEvent, "logEvent");
+        if (closed) {
+            droppedEvents.increment();
+            return false;
+        }
+
+        BufferedLogEvent bufferedLogEvent = BufferedLogEvent.of(logGroupName, logStreamName, logEvent);
+        if (bufferedLogEvent.size() > MAX_BATCH_BYTES_SIZE) {
+            droppedEvents.increment();
+            return false;
+        }
+        if (!ringBuffer.offer(bufferedLogEvent) && !waitForRoom(bufferedLogEvent)) {
+            droppedEvents.increment();
+            return false;
+        }
+
+        acceptedEvents.increment();
+        if (closed || ringBuffer.size() >= drainThreshold) {
+            scheduleDrain();
+        }
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<Void> flush() {
+        CompletableFuture<Void> flushFuture = new CompletableFuture<>();
+        flushFutures.add(flushFuture);
+        requestFlush();
+        return flushFuture;
+    }
+
+    @Override
+    public BatchManagerMetrics metrics() {
+        long accepted = acceptedEvents.sum();
+        long sent = sentEvents.sum();
+        long failed = failedEvents.sum();
+        return BatchManagerMetrics.builder()
+                                  .acceptedEvents(accepted)
+                                  .droppedEvents(droppedEvents.sum())
+                                  .sentEvents(sent)
+                                  .rejectedEvents(putLogEventsBatchManager.rejectedEvents())
+                                  .failedEvents(failed)
+                                  .requestsSent(putLogEventsBatchManager.requestsSent())
+                                  .requestsFailed(putLogEventsBatchManager.requestsFailed())
+                                  .bufferedEvents(Math.max(0, accepted - sent - failed))
+                                  .build();
+    }
+
+    public static CloudWatchLogsAsyncBatchManager.Builder builder() {
+        return new DefaultBuilder();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduledFlush.cancel(false);
+        flush().join();
+        putLogEventsBatchManager.close();
+    }
+
+    /**
+     * Applies the buffer overflow policy to a log event that did not fit in the ring buffer.
+     *
+     * @return Whether the log event was eventually put in the ring buffer.
+     */
+    private boolean waitForRoom(BufferedLogEvent bufferedLogEvent) {
+        scheduleDrain();
+        if (bufferOverflowPolicy == BufferOverflowPolicy.DROP) {
+            return false;
+        }
+        while (!ringBuffer.offer(bufferedLogEvent)) {
+            if (closed || Thread.currentThread().isInterrupted()) {
+                return false;
+            }
+            LockSupport.parkNanos(BLOCK_WAIT_NANOS);
+            scheduleDrain();
+        }
+        return true;
+    }
+
+    private void requestFlush() {
+        flushRequested.set(true);
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (!drainScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            scheduledExecutor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            log.debug(() -> "The scheduled executor rejected the batching of the log events, batching them on this thread.", e);
+            drain();
+        }
+    }
+
+    private void drain() {
+        drainLock.lock();
+        try {
+            drainScheduled.set(false);
+            boolean flush = flushRequested.getAndSet(false) || !flushFutures.isEmpty() || closed;
+            moveBufferedLogEvents();
+            if (flush) {
+                putLogEventsBatchManager.flush();
+            }
+            if (ringBuffer.isEmpty() && pendingEvents.get() == 0) {
+                completeFlushFutures();
+            }
+        } catch (Throwable t) {
+            log.warn(() -> "Failed to batch the buffered log events.", t);
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    /**
+     * Moves the log events of the ring buffer to the batch manager, as long as fewer log events than the buffer size wait to be
+     * sent there.
+     */
+    private void moveBufferedLogEvents() {
+        while (pendingEvents.get() < bufferSize) {
+            BufferedLogEvent bufferedLogEvent = ringBuffer.poll();
+            if (bufferedLogEvent == null) {
+                return;
+            }
+            pendingEvents.incrementAndGet();
+            putLogEventsBatchManager.batchRequest(bufferedLogEvent).whenComplete(logEventCompletion);
+        }
+    }
+
+    private void completeLogEvent(PutLogEventsResponse response, Throwable throwable) {
+        if (throwable != null) {
+            failedEvents.increment();
+        } else {
+            sentEvents.increment();
+        }
+        pendingEvents.decrementAndGet();
+        scheduleDrain();
+    }
+
+    private void completeFlushFutures() {
+        CompletableFuture<Void> flushFuture;
+        while ((flushFuture = flushFutures.poll()) != null) {
+            flushFuture.complete(null);
+        }
+    }
+
+    private static int powerOfTwo(int value) {
+        if (value >= MAX_BUFFER_SIZE) {
+            return MAX_BUFFER_SIZE;
+        }
+        return value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+    }
+
+    public static final class DefaultBuilder implements CloudWatchLogsAsyncBatchManager.Builder {
+        private CloudWatchLogsAsyncClient client;
+        private BatchOverrideConfiguration overrideConfiguration;
+        private ScheduledExecutorService scheduledExecutor;
+
+        private DefaultBuilder() {
+        }
+
+        @Override
+        public CloudWatchLogsAsyncBatchManager.Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+            this.overrideConfiguration = overrideConfiguration;
+            return this;
+        }
+
+        @Override
+        public CloudWatchLogsAsyncBatchManager.Builder client(CloudWatchLogsAsyncClient client) {
+            this.client = client;
+            return this;
+        }
+
+        @Override
+        public CloudWatchLogsAsyncBatchManager.Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor) {
+            this.scheduledExecutor = scheduledExecutor;
+            return this;
+        }
+
+        @Override
+        public CloudWatchLogsAsyncBatchManager build() {
+            return new DefaultCloudWatchLogsAsyncBatchManager(this);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A bounded, lock-free queue of log events, written by many threads and read by one thread at a time.
+ * <p>
+ * Each slot has a sequence number telling whether it can be written or read at a given position. A writer claims a position
+ * with a compare-and-set of the tail, writes the element of its slot and publishes it by advancing the sequence of the slot.
+ * The reader takes the element of the slot at the head once it is published, and frees the slot for the writer one lap
+ * later. Writers never wait for each other, and a full queue is reported instead of blocking.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class LogEventRingBuffer<T> {
+    private final int capacity;
+    private final int mask;
+    private final AtomicReferenceArray<T> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * @param capacity The capacity of the queue, a power of two.
+     */
+    LogEventRingBuffer(int capacity) {
+        Validate.isTrue(capacity > 0 && Integer.bitCount(capacity) == 1, "The capacity must be a power of two.");
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.elements = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element at the tail of the queue. Can be called by any thread.
+     *
+     * @return Whether the element was added, false if the queue is full.
+     */
+    boolean offer(T element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the element at the head of the queue. Must not be called by several threads at the same time.
+     *
+     * @return The element at the head of the queue, or null if the queue is empty or the element at its head is not
+     *         published yet.
+     */
+    T poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        T element = elements.get(index);
+        elements.lazySet(index, null);
+        sequences.set(index, position + capacity);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * @return The number of elements in the queue, including the elements being added.
+     */
+    int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int capacity() {
+        return capacity;
+    }
+}
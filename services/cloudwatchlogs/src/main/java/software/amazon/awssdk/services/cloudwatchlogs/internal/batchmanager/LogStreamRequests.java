@@ -0,0 +1,89 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * The PutLogEvents requests of one log stream. Up to the maximum number of requests in flight per log stream are sent at
+ * once, and the next ones wait for a request to complete. A waiting request is sent on the executor, so that requests
+ * completing on the thread sending them do not send the waiting ones recursively.
+ */
+@SdkInternalApi
+final class LogStreamRequests {
+    private final int maxRequestsInFlight;
+    private final Executor executor;
+    private final Queue<Runnable> waitingRequests = new ArrayDeque<>();
+    private int requestsInFlight;
+
+    LogStreamRequests(int maxRequestsInFlight, Executor executor) {
+        this.maxRequestsInFlight = maxRequestsInFlight;
+        this.executor = executor;
+    }
+
+    /**
+     * Sends a request now if fewer than the maximum number of requests are in flight, or else once a request completes.
+     *
+     * @return A future completed once the request completes.
+     */
+    CompletableFuture<Void> submit(Supplier<CompletableFuture<?>> request) {
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        Runnable send = () -> request.get().whenComplete((r, t) -> {
+            release();
+            completed.complete(null);
+        });
+
+        boolean sendNow;
+        synchronized (this) {
+            sendNow = requestsInFlight < maxRequestsInFlight;
+            if (sendNow) {
+                requestsInFlight++;
+            } else {
+                waitingRequests.add(send);
+            }
+        }
+        if (sendNow) {
+            send.run();
+        }
+        return completed;
+    }
+
+    synchronized int requestsInFlight() {
+        return requestsInFlight;
+    }
+
+    private void release() {
+        Runnable next;
+        synchronized (this) {
+            next = waitingRequests.poll();
+            if (next == null) {
+                requestsInFlight--;
+                return;
+            }
+        }
+        try {
+            executor.execute(next);
+        } catch (RejectedExecutionException e) {
+            next.run();
+        }
+    }
+}
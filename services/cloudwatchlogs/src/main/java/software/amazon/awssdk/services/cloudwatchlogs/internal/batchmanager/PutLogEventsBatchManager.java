@@ -0,0 +1,207 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.LongAdder;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchManager;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InputLogEvent;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.RejectedLogEventsInfo;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Batches the log events of the batch manager per log stream, within the maximum number of log events and the maximum size of
+ * a PutLogEvents request. The log events of a batch are sorted by timestamp and sent in as many PutLogEvents requests as
+ * needed for each request to span at most 24 hours, up to the maximum number of requests in flight per log stream.
+ */
+@SdkInternalApi
+final class PutLogEventsBatchManager extends RequestBatchManager<BufferedLogEvent, PutLogEventsResponse,
+    List<Either<IdentifiableMessage<PutLogEventsResponse>, IdentifiableMessage<Throwable>>>> {
+
+    /**
+     * The maximum size of a PutLogEvents request, the sum of the UTF-8 size of the messages plus 26 bytes per log event.
+     */
+    static final int MAX_BATCH_BYTES_SIZE = 1_048_576;
+
+    /**
+     * The size added to the size of the message of each log event to compute the size of a PutLogEvents request.
+     */
+    static final int LOG_EVENT_OVERHEAD_BYTES = 26;
+
+    /**
+     * The maximum duration between the oldest and the newest log event of a PutLogEvents request.
+     */
+    static final long MAX_BATCH_SPAN_MILLIS = Duration.ofHours(24).toMillis();
+
+    static final int DEFAULT_MAX_BATCH_ITEMS = 10000;
+    static final Duration DEFAULT_SEND_REQUEST_FREQUENCY = Duration.ofSeconds(1);
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS_PER_STREAM = 4;
+
+    private static final Logger log = Logger.loggerFor(PutLogEventsBatchManager.class);
+    private static final Comparator<IdentifiableMessage<BufferedLogEvent>> BY_TIMESTAMP =
+        Comparator.comparingLong(logEvent -> logEvent.message().timestamp());
+
+    private final CloudWatchLogsAsyncClient client;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final int maxConcurrentRequestsPerStream;
+    private final Map<String, LogStreamRequests> logStreamRequests = new ConcurrentHashMap<>();
+
+    private final LongAdder rejectedEvents = new LongAdder();
+    private final LongAdder requestsSent = new LongAdder();
+    private final LongAdder requestsFailed = new LongAdder();
+
+    PutLogEventsBatchManager(RequestBatchConfiguration batchConfiguration,
+                             ScheduledExecutorService scheduledExecutor,
+                             CloudWatchLogsAsyncClient client,
+                             int maxConcurrentRequestsPerStream) {
+        super(batchConfiguration, scheduledExecutor);
+        this.client = client;
+        this.scheduledExecutor = scheduledExecutor;
+        this.maxConcurrentRequestsPerStream = maxConcurrentRequestsPerStream;
+    }
+
+    long rejectedEvents() {
+        return rejectedEvents.sum();
+    }
+
+    long requestsSent() {
+        return requestsSent.sum();
+    }
+
+    long requestsFailed() {
+        return requestsFailed.sum();
+    }
+
+    @Override
+    protected String getBatchKey(BufferedLogEvent logEvent) {
+        return batchKey(Optional.empty(), logEvent.logGroupName(), logEvent.logStreamName());
+    }
+
+    @Override
+    protected int payloadSize(BufferedLogEvent logEvent) {
+        return logEvent.size();
+    }
+
+    @Override
+    protected CompletableFuture<List<Either<IdentifiableMessage<PutLogEventsResponse>, IdentifiableMessage<Throwable>>>>
+        batchAndSend(List<IdentifiableMessage<BufferedLogEvent>> identifiedRequests, String batchKey) {
+
+        List<IdentifiableMessage<BufferedLogEvent>> logEvents = new ArrayList<>(identifiedRequests);
+        logEvents.sort(BY_TIMESTAMP);
+        LogStreamRequests requests = logStreamRequests.computeIfAbsent(
+            batchKey, k -> new LogStreamRequests(maxConcurrentRequestsPerStream, scheduledExecutor));
+
+        Collection<Either<IdentifiableMessage<PutLogEventsResponse>, IdentifiableMessage<Throwable>>> results =
+            new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> sentRequests = new ArrayList<>();
+        int start = 0;
+        for (int end = 1; end <= logEvents.size(); end++) {
+            if (end == logEvents.size() || span(logEvents.get(start), logEvents.get(end)) > MAX_BATCH_SPAN_MILLIS) {
+                List<IdentifiableMessage<BufferedLogEvent>> batch = logEvents.subList(start, end);
+                sentRequests.add(requests.submit(() -> send(batch, results)));
+                start = end;
+            }
+        }
+        return CompletableFuture.allOf(sentRequests.toArray(new CompletableFuture[0]))
+                                .thenApply(ignored -> new ArrayList<>(results));
+    }
+
+    @Override
+    protected List<Either<IdentifiableMessage<PutLogEventsResponse>, IdentifiableMessage<Throwable>>> mapBatchResponse(
+        List<IdentifiableMessage<BufferedLogEvent>> identifiedRequests,
+        List<Either<IdentifiableMessage<PutLogEventsResponse>, IdentifiableMessage<Throwable>>> batchResponse) {
+        return batchResponse;
+    }
+
+    private CompletableFuture<PutLogEventsResponse> send(
+        List<IdentifiableMessage<BufferedLogEvent>> batch,
+        Collection<Either<IdentifiableMessage<PutLogEventsResponse>, IdentifiableMessage<Throwable>>> results) {
+
+        BufferedLogEvent first = batch.get(0).message();
+        List<InputLogEvent> logEvents = new ArrayList<>(batch.size());
+        for (IdentifiableMessage<BufferedLogEvent> logEvent : batch) {
+            logEvents.add(logEvent.message().logEvent());
+        }
+        PutLogEventsRequest request = PutLogEventsRequest.builder()
+                                                         .logGroupName(first.logGroupName())
+                                                         .logStreamName(first.logStreamName())
+                                                         .logEvents(logEvents)
+                                                         .overrideConfiguration(o -> o.applyMutation(USER_AGENT_APPLIER))
+                                                         .build();
+
+        requestsSent.increment();
+        CompletableFuture<PutLogEventsResponse> response;
+        try {
+            response = client.putLogEvents(request);
+        } catch (Throwable t) {
+            response = CompletableFutureUtils.failedFuture(t);
+        }
+        return response.whenComplete((r, t) -> {
+            if (t != null) {
+                requestsFailed.increment();
+                log.debug(() -> String.format("Failed to send %d log events to the log stream %s of the log group %s.",
+                                              batch.size(), first.logStreamName(), first.logGroupName()), t);
+                batch.forEach(logEvent -> results.add(Either.right(new IdentifiableMessage<>(logEvent.id(), t))));
+            } else {
+                rejectedEvents.add(rejectedEventCount(r.rejectedLogEventsInfo(), batch.size()));
+                batch.forEach(logEvent -> results.add(Either.left(new IdentifiableMessage<>(logEvent.id(), r))));
+            }
+        });
+    }
+
+    private static long span(IdentifiableMessage<BufferedLogEvent> first, IdentifiableMessage<BufferedLogEvent> last) {
+        return last.message().timestamp() - first.message().timestamp();
+    }
+
+    /**
+     * Counts the log events of a request that were rejected. The log events of a request being sorted by timestamp, the
+     * rejected log events are the ones before the exclusive end index of the too old and expired log events, and the ones
+     * from the start index of the too new log events.
+     */
+    static int rejectedEventCount(RejectedLogEventsInfo rejectedLogEventsInfo, int count) {
+        if (rejectedLogEventsInfo == null) {
+            return 0;
+        }
+        int oldEnd = Math.max(index(rejectedLogEventsInfo.tooOldLogEventEndIndex(), 0),
+                              index(rejectedLogEventsInfo.expiredLogEventEndIndex(), 0));
+        int newStart = index(rejectedLogEventsInfo.tooNewLogEventStartIndex(), count);
+        oldEnd = Math.min(oldEnd, count);
+        newStart = Math.max(oldEnd, Math.min(newStart, count));
+        return oldEnd + count - newStart;
+    }
+
+    private static int index(Integer index, int defaultIndex) {
+        return index != null ? Math.max(0, index) : defaultIndex;
+    }
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudwatchlogs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.cloudwatchlogs.CloudWatchLogsAsyncClient;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InputLogEvent;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsRequest;
+import software.amazon.awssdk.services.cloudwatchlogs.model.PutLogEventsResponse;
+import software.amazon.awssdk.services.cloudwatchlogs.model.ResourceNotFoundException;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.StringUtils;
+
+class CloudWatchLogsAsyncBatchManagerTest {
+    private static final String LOG_GROUP = "test-group";
+    private static final String LOG_STREAM = "test-stream";
+    private static final long NOW = 1_700_000_000_000L;
+
+    private CloudWatchLogsAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+    private CloudWatchLogsAsyncBatchManager batchManager;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(CloudWatchLogsAsyncClient.class);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batchManager != null) {
+            batchManager.close();
+        }
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void putLogEvent_batchNotFull_sentSortedAtFlush() throws Exception {
+        when(client.putLogEvents(any(PutLogEventsRequest.class))).thenReturn(successfulResponse());
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+
+        batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, e -> e.timestamp(NOW + 2).message("third"));
+        batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, e -> e.timestamp(NOW).message("first"));
+        batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, e -> e.timestamp(NOW + 1).message("second"));
+        batchManager.flush().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<PutLogEventsRequest> captor = ArgumentCaptor.forClass(PutLogEventsRequest.class);
+        verify(client).putLogEvents(captor.capture());
+        assertThat(captor.getValue().logGroupName()).isEqualTo(LOG_GROUP);
+        assertThat(captor.getValue().logStreamName()).isEqualTo(LOG_STREAM);
+        assertThat(captor.getValue().logEvents()).extracting(InputLogEvent::message)
+                                                 .containsExactly("first", "second", "third");
+        assertThat(batchManager.metrics().sentEvents()).isEqualTo(3);
+        assertThat(batchManager.metrics().bufferedEvents()).isZero();
+    }
+
+    @Test
+    void putLogEvent_sendRequestFrequencyElapses_sendsBatch() {
+        when(client.putLogEvents(any(PutLogEventsRequest.class))).thenReturn(successfulResponse());
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofMillis(20)));
+
+        batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, e -> e.timestamp(NOW).message("message"));
+
+        verify(client, timeout(5000)).putLogEvents(any(PutLogEventsRequest.class));
+    }
+
+    @Test
+    void putLogEvent_moreThanMaxBatchSize_sendsFullBatchesWithoutWaiting() {
+        when(client.putLogEvents(any(PutLogEventsRequest.class))).thenReturn(successfulResponse());
+        batchManager = batchManager(c -> c.maxBatchSize(10).sendRequestFrequency(Duration.ofHours(1)));
+
+        for (int i = 0; i < 25; i++) {
+            batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, event(i, "message"));
+        }
+
+        ArgumentCaptor<PutLogEventsRequest> captor = ArgumentCaptor.forClass(PutLogEventsRequest.class);
+        verify(client, timeout(5000).times(2)).putLogEvents(captor.capture());
+        assertThat(captor.getAllValues()).extracting(r -> r.logEvents().size()).containsExactly(10, 10);
+    }
+
+    @Test
+    void putLogEvent_batchLargerThanOneMebibyte_splitsBySize() throws Exception {
+        when(client.putLogEvents(any(PutLogEventsRequest.class))).thenReturn(successfulResponse());
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+        String message = StringUtils.repeat("a", 400 * 1024);
+
+        for (int i = 0; i < 3; i++) {
+            batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, event(i, message));
+        }
+        batchManager.flush().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<PutLogEventsRequest> captor = ArgumentCaptor.forClass(PutLogEventsRequest.class);
+        verify(client, times(2)).putLogEvents(captor.capture());
+        assertThat(captor.getAllValues()).extracting(r -> r.logEvents().size()).containsExactly(2, 1);
+    }
+
+    @Test
+    void putLogEvent_eventsSpanMoreThanOneDay_splitsBySpan() throws Exception {
+        when(client.putLogEvents(any(PutLogEventsRequest.class))).thenReturn(successfulResponse());
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+        long dayMillis = Duration.ofDays(1).toMillis();
+
+        batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, e -> e.timestamp(NOW).message("first"));
+        batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, e -> e.timestamp(NOW + dayMillis).message("second"));
+        batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, e -> e.timestamp(NOW + dayMillis + 1).message("third"));
+        batchManager.flush().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<PutLogEventsRequest> captor = ArgumentCaptor.forClass(PutLogEventsRequest.class);
+        verify(client, times(2)).putLogEvents(captor.capture());
+        assertThat(captor.getAllValues()).extracting(r -> r.logEvents().size()).containsExactly(2, 1);
+    }
+
+    @Test
+    void putLogEvent_differentLogStreams_sendsOneRequestPerLogStream() throws Exception {
+        when(client.putLogEvents(any(PutLogEventsRequest.class))).thenReturn(successfulResponse());
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+
+        batchManager.putLogEvent(LOG_GROUP, "stream-1", event(0, "message"));
+        batchManager.putLogEvent(LOG_GROUP, "stream-2", event(0, "message"));
+        batchManager.putLogEvent("other-group", "stream-1", event(0, "message"));
+        batchManager.flush().get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<PutLogEventsRequest> captor = ArgumentCaptor.forClass(PutLogEventsRequest.class);
+        verify(client, times(3)).putLogEvents(captor.capture());
+        assertThat(captor.getAllValues()).extracting(r -> r.logGroupName() + "/" + r.logStreamName())
+                                         .containsExactlyInAnyOrder("test-group/stream-1", "test-group/stream-2",
+                                                                    "other-group/stream-1");
+    }
+
+    @Test
+    void putLogEvent_maxConcurrentRequestsInFlight_holdsBatchesUntilARequestCompletes() throws Exception {
+        CompletableFuture<PutLogEventsResponse> firstResponse = new CompletableFuture<>();
+        when(client.putLogEvents(any(PutLogEventsRequest.class))).thenReturn(firstResponse, successfulResponse());
+        batchManager = batchManager(c -> c.maxBatchSize(2)
+                                          .maxConcurrentRequestsPerStream(1)
+                                          .sendRequestFrequency(Duration.ofHours(1)));
+
+        for (int i = 0; i < 4; i++) {
+            batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, event(i, "message"));
+        }
+        verify(client, timeout(5000)).putLogEvents(any(PutLogEventsRequest.class));
+        CompletableFuture<Void> flush = batchManager.flush();
+        // The log events are batched on the single thread of the scheduled executor, so the flush has been handled once the
+        // tasks submitted before this one have run.
+        scheduledExecutor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        verify(client, times(1)).putLogEvents(any(PutLogEventsRequest.class));
+        assertThat(flush).isNotDone();
+
+        firstResponse.complete(PutLogEventsResponse.builder().build());
+        flush.get(5, TimeUnit.SECONDS);
+        verify(client, times(2)).putLogEvents(any(PutLogEventsRequest.class));
+        assertThat(batchManager.metrics().sentEvents()).isEqualTo(4);
+    }
+
+    @Test
+    void putLogEvent_bufferFullWithDropPolicy_dropsLogEvent() {
+        when(client.putLogEvents(any(PutLogEventsRequest.class))).thenReturn(new CompletableFuture<>());
+        CountDownLatch blocked = new CountDownLatch(1);
+        ScheduledExecutorService blockingScheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            blockingScheduledExecutor.execute(() -> awaitUninterruptibly(blocked));
+            CloudWatchLogsAsyncBatchManager manager =
+                CloudWatchLogsAsyncBatchManager.builder()
+                                               .client(client)
+                                               .scheduledExecutor(blockingScheduledExecutor)
+                                               .overrideConfiguration(c -> c.bufferSize(4)
+                                                                            .sendRequestFrequency(Duration.ofHours(1)))
+                                               .build();
+
+            List<Boolean> accepted = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                accepted.add(manager.putLogEvent(LOG_GROUP, LOG_STREAM, event(i, "message")));
+            }
+
+            assertThat(accepted).containsExactly(true, true, true, true, false, false);
+            assertThat(manager.metrics().acceptedEvents()).isEqualTo(4);
+            assertThat(manager.metrics().droppedEvents()).isEqualTo(2);
+        } finally {
+            blocked.countDown();
+            blockingScheduledExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void putLogEvent_bufferFullWithBlockPolicy_waitsForRoom() throws Exception {
+        when(client.putLogEvents(any(PutLogEventsRequest.class))).thenReturn(successfulResponse());
+        batchManager = batchManager(c -> c.bufferSize(2)
+                                          .bufferOverflowPolicy(BufferOverflowPolicy.BLOCK)
+                                          .sendRequestFrequency(Duration.ofMillis(10)));
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, event(i, "message"))).isTrue();
+        }
+        batchManager.flush().get(5, TimeUnit.SECONDS);
+
+        assertThat(batchManager.metrics().sentEvents()).isEqualTo(100);
+        assertThat(batchManager.metrics().droppedEvents()).isZero();
+    }
+
+    @Test
+    void putLogEvent_concurrentThreads_sendsAllLogEvents() throws Exception {
+        when(client.putLogEvents(any(PutLogEventsRequest.class))).thenReturn(successfulResponse());
+        batchManager = batchManager(c -> c.maxBatchSize(100).sendRequestFrequency(Duration.ofMillis(10)));
+        ExecutorService producers = Executors.newFixedThreadPool(8);
+        try {
+            List<CompletableFuture<Void>> puts = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                puts.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, event(i, "message"));
+                    }
+                }, producers));
+            }
+            CompletableFuture.allOf(puts.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+            batchManager.flush().get(10, TimeUnit.SECONDS);
+        } finally {
+            producers.shutdownNow();
+        }
+
+        ArgumentCaptor<PutLogEventsRequest> captor = ArgumentCaptor.forClass(PutLogEventsRequest.class);
+        verify(client, atLeast(80)).putLogEvents(captor.capture());
+        assertThat(captor.getAllValues().stream().mapToInt(r -> r.logEvents().size()).sum()).isEqualTo(8000);
+        assertThat(batchManager.metrics().sentEvents()).isEqualTo(8000);
+    }
+
+    @Test
+    void putLogEvent_requestFails_countsFailedEvents() throws Exception {
+        when(client.putLogEvents(any(PutLogEventsRequest.class)))
+            .thenReturn(CompletableFutureUtils.failedFuture(ResourceNotFoundException.builder().message("missing").build()));
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+
+        batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, event(0, "message"));
+        batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, event(1, "message"));
+        batchManager.flush().get(5, TimeUnit.SECONDS);
+
+        BatchManagerMetrics metrics = batchManager.metrics();
+        assertThat(metrics.failedEvents()).isEqualTo(2);
+        assertThat(metrics.requestsFailed()).isEqualTo(1);
+        assertThat(metrics.sentEvents()).isZero();
+    }
+
+    @Test
+    void putLogEvent_logEventLargerThanMaxBatchSize_dropsLogEvent() {
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+
+        boolean accepted = batchManager.putLogEvent(LOG_GROUP, LOG_STREAM, event(0, StringUtils.repeat("a", 1024 * 1024)));
+
+        assertThat(accepted).isFalse();
+        assertThat(batchManager.metrics().droppedEvents()).isEqualTo(1);
+        verify(client, never()).putLogEvents(any(PutLogEventsRequest.class));
+    }
+
+    @Test
+    void close_sendsBufferedLogEventsAndDropsLaterOnes() {
+        when(client.putLogEvents(any(PutLogEventsRequest.class))).thenReturn(successfulResponse());
+        CloudWatchLogsAsyncBatchManager manager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+
+        manager.putLogEvent(LOG_GROUP, LOG_STREAM, event(0, "message"));
+        manager.close();
+
+        verify(client).putLogEvents(any(PutLogEventsRequest.class));
+        assertThat(manager.putLogEvent(LOG_GROUP, LOG_STREAM, event(1, "message"))).isFalse();
+    }
+
+    private CloudWatchLogsAsyncBatchManager batchManager(Consumer<BatchOverrideConfiguration.Builder> configuration) {
+        return CloudWatchLogsAsyncBatchManager.builder()
+                                              .client(client)
+                                              .scheduledExecutor(scheduledExecutor)
+                                              .overrideConfiguration(configuration)
+                                              .build();
+    }
+
+    private static InputLogEvent event(int offset, String message) {
+        return InputLogEvent.builder().timestamp(NOW + offset).message(message).build();
+    }
+
+    private static CompletableFuture<PutLogEventsResponse> successfulResponse() {
+        return CompletableFuture.completedFuture(PutLogEventsResponse.builder().build());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
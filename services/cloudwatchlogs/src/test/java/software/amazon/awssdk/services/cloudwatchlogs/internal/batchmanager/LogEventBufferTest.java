@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.cloudwatchlogs.internal.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.cloudwatchlogs.model.InputLogEvent;
+import software.amazon.awssdk.services.cloudwatchlogs.model.RejectedLogEventsInfo;
+
+class LogEventBufferTest {
+
+    @Test
+    void ringBuffer_full_rejectsUntilPolled() {
+        LogEventRingBuffer<Integer> ringBuffer = new LogEventRingBuffer<>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(ringBuffer.offer(i)).isTrue();
+        }
+        assertThat(ringBuffer.offer(4)).isFalse();
+        assertThat(ringBuffer.poll()).isEqualTo(0);
+        assertThat(ringBuffer.offer(4)).isTrue();
+
+        List<Integer> polled = new ArrayList<>();
+        Integer element;
+        while ((element = ringBuffer.poll()) != null) {
+            polled.add(element);
+        }
+        assertThat(polled).containsExactly(1, 2, 3, 4);
+        assertThat(ringBuffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void ringBuffer_concurrentProducers_pollsEveryElementOnce() throws Exception {
+        LogEventRingBuffer<Integer> ringBuffer = new LogEventRingBuffer<>(64);
+        ExecutorService producers = Executors.newFixedThreadPool(4);
+        int perProducer = 10_000;
+        try {
+            List<CompletableFuture<Void>> offers = new ArrayList<>();
+            for (int producer = 0; producer < 4; producer++) {
+                int base = producer * perProducer;
+                offers.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < perProducer; i++) {
+                        while (!ringBuffer.offer(base + i)) {
+                            Thread.yield();
+                        }
+                    }
+                }, producers));
+            }
+
+            boolean[] seen = new boolean[4 * perProducer];
+            int polled = 0;
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (polled < seen.length && System.nanoTime() < deadline) {
+                Integer element = ringBuffer.poll();
+                if (element != null) {
+                    assertThat(seen[element]).isFalse();
+                    seen[element] = true;
+                    polled++;
+                }
+            }
+            assertThat(polled).isEqualTo(seen.length);
+        } finally {
+            producers.shutdownNow();
+        }
+    }
+
+    @Test
+    void logStreamRequests_maxRequestsInFlight_sendsNextRequestWhenOneCompletes() {
+        LogStreamRequests requests = new LogStreamRequests(1, Runnable::run);
+        CompletableFuture<Void> firstResponse = new CompletableFuture<>();
+        AtomicInteger sent = new AtomicInteger();
+
+        CompletableFuture<Void> first = requests.submit(() -> {
+            sent.incrementAndGet();
+            return firstResponse;
+        });
+        CompletableFuture<Void> second = requests.submit(() -> {
+            sent.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        });
+
+        assertThat(sent).hasValue(1);
+        assertThat(second).isNotDone();
+
+        firstResponse.complete(null);
+
+        assertThat(sent).hasValue(2);
+        assertThat(first).isDone();
+        assertThat(second).isDone();
+        assertThat(requests.requestsInFlight()).isZero();
+    }
+
+    @Test
+    void utf8Length_multiByteCharacters_matchesEncodedLength() {
+        String message = "a\u00e9\u20ac\ud83d\ude00";
+
+        assertThat(BufferedLogEvent.utf8Length(message)).isEqualTo(message.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(BufferedLogEvent.of("group", "stream", logEvent(0, message)).size())
+            .isEqualTo(message.getBytes(StandardCharsets.UTF_8).length + 26);
+    }
+
+    @Test
+    void rejectedEventCount_countsTooOldExpiredAndTooNewLogEvents() {
+        RejectedLogEventsInfo info = RejectedLogEventsInfo.builder()
+                                                          .tooOldLogEventEndIndex(2)
+                                                          .expiredLogEventEndIndex(3)
+                                                          .tooNewLogEventStartIndex(8)
+                                                          .build();
+
+        assertThat(PutLogEventsBatchManager.rejectedEventCount(info, 10)).isEqualTo(5);
+        assertThat(PutLogEventsBatchManager.rejectedEventCount(null, 10)).isZero();
+        assertThat(PutLogEventsBatchManager.rejectedEventCount(
+            RejectedLogEventsInfo.builder().tooNewLogEventStartIndex(0).build(), 10)).isEqualTo(10);
+    }
+
+    private static InputLogEvent logEvent(long timestamp, String message) {
+        return InputLogEvent.builder().timestamp(timestamp).message(message).build();
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.batchmanager;
+
+import java.time.Duration;
+import java.util.Objects;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.utils.ToString;
+import software.amazon.awssdk.utils.Validate;
+import software.amazon.awssdk.utils.builder.CopyableBuilder;
+import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
+
+/**
+ * Configuration values for the BatchManager implementation used for controlling batch operations.
+ * All values are optional, and default values will be used if they are not specified.
+ */
+@SdkPublicApi
+public final class BatchOverrideConfiguration implements ToCopyableBuilder<BatchOverrideConfiguration.Builder,
+    BatchOverrideConfiguration> {
+
+    private static final int MAX_RECORD_SIZE_BYTES = 1024 * 1024;
+
+    private final Integer maxBatchSize;
+    private final Duration sendRequestFrequency;
+    private final Boolean aggregationEnabled;
+    private final Integer maxAggregatedRecordSize;
+    private final Duration shardMapRefreshInterval;
+    private final Integer maxRecordRetries;
+
+    private BatchOverrideConfiguration(Builder builder) {
+        this.maxBatchSize = Validate.isPositiveOrNull(builder.maxBatchSize, "maxBatchSize");
+        Validate.isTrue(this.maxBatchSize == null || this.maxBatchSize <= 500,
+                        "The maxBatchSize must be less than or equal to 500. A PutRecords request can contain up to 500 "
+                        + "records.");
+        this.sendRequestFrequency = Validate.isPositiveOrNull(builder.sendRequestFrequency, "sendRequestFrequency");
+        this.aggregationEnabled = builder.aggregationEnabled;
+        this.maxAggregatedRecordSize = Validate.isPositiveOrNull(builder.maxAggregatedRecordSize, "maxAggregatedRecordSize");
+        Validate.isTrue(this.maxAggregatedRecordSize == null || this.maxAggregatedRecordSize <= MAX_RECORD_SIZE_BYTES,
+                        "The maxAggregatedRecordSize must be less than or equal to 1 MiB, the maximum size of a record.");
+        this.shardMapRefreshInterval = Validate.isPositiveOrNull(builder.shardMapRefreshInterval, "shardMapRefreshInterval");
+        Validate.isTrue(builder.maxRecordRetries == null || builder.maxRecordRetries >= 0,
+                        "The maxRecordRetries must not be negative.");
+        this.maxRecordRetries = builder.maxRecordRetries;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return the maximum number of records that can be batched together in a single {@link PutRecordsRequest}. A PutRecords
+     *         request can contain up to a maximum of 500 records. The default value is 500.
+     */
+    public Integer maxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the maximum duration a record waits for additional records of the same stream before being sent. If the
+     *         batch is full before this duration, it is sent immediately. The default value is 100 milliseconds.
+     */
+    public Duration sendRequestFrequency() {
+        return sendRequestFrequency;
+    }
+
+    /**
+     * @return whether small records predicted to be written to the same shard are aggregated into one Kinesis record.
+     *         The default value is false.
+     */
+    public Boolean aggregationEnabled() {
+        return aggregationEnabled;
+    }
+
+    /**
+     * @return the maximum size in bytes of an aggregated record, including the partition key. The default value is 51200
+     *         bytes.
+     */
+    public Integer maxAggregatedRecordSize() {
+        return maxAggregatedRecordSize;
+    }
+
+    /**
+     * @return how long the shards listed for a stream are used to predict the shard of aggregated records before being listed
+     *         again. The default value is 60 seconds.
+     */
+    public Duration shardMapRefreshInterval() {
+        return shardMapRefreshInterval;
+    }
+
+    /**
+     * @return the maximum number of times a record that failed in a PutRecords request is sent again. The default value is
+     *         3.
+     */
+    public Integer maxRecordRetries() {
+        return maxRecordRetries;
+    }
+
+    @Override
+    public Builder toBuilder() {
+        return new Builder()
+            .maxBatchSize(maxBatchSize)
+            .sendRequestFrequency(sendRequestFrequency)
+            .aggregationEnabled(aggregationEnabled)
+            .maxAggregatedRecordSize(maxAggregatedRecordSize)
+            .shardMapRefreshInterval(shardMapRefreshInterval)
+            .maxRecordRetries(maxRecordRetries);
+    }
+
+    @Override
+    public String toString() {
+        return ToString.builder("BatchOverrideConfiguration")
+                       .add("maxBatchSize", maxBatchSize)
+                       .add("sendRequestFrequency", sendRequestFrequency)
+                       .add("aggregationEnabled", aggregationEnabled)
+                       .add("maxAggregatedRecordSize", maxAggregatedRecordSize)
+                       .add("shardMapRefreshInterval", shardMapRefreshInterval)
+                       .add("maxRecordRetries", maxRecordRetries)
+                       .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        BatchOverrideConfiguration that = (BatchOverrideConfiguration) o;
+
+        return Objects.equals(maxBatchSize, that.maxBatchSize)
+               && Objects.equals(sendRequestFrequency, that.sendRequestFrequency)
+               && Objects.equals(aggregationEnabled, that.aggregationEnabled)
+               && Objects.equals(maxAggregatedRecordSize, that.maxAggregatedRecordSize)
+               && Objects.equals(shardMapRefreshInterval, that.shardMapRefreshInterval)
+               && Objects.equals(maxRecordRetries, that.maxRecordRetries);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = maxBatchSize != null ? maxBatchSize.hashCode() : 0;
+        result = 31 * result + (sendRequestFrequency != null ? sendRequestFrequency.hashCode() : 0);
+        result = 31 * result + (aggregationEnabled != null ? aggregationEnabled.hashCode() : 0);
+        result = 31 * result + (maxAggregatedRecordSize != null ? maxAggregatedRecordSize.hashCode() : 0);
+        result = 31 * result + (shardMapRefreshInterval != null ? shardMapRefreshInterval.hashCode() : 0);
+        result = 31 * result + (maxRecordRetries != null ? maxRecordRetries.hashCode() : 0);
+        return result;
+    }
+
+    public static final class Builder implements CopyableBuilder<Builder, BatchOverrideConfiguration> {
+
+        private Integer maxBatchSize;
+        private Duration sendRequestFrequency;
+        private Boolean aggregationEnabled;
+        private Integer maxAggregatedRecordSize;
+        private Duration shardMapRefreshInterval;
+        private Integer maxRecordRetries;
+
+        private Builder() {
+        }
+
+        /**
+         * Specifies the maximum number of records that the batch manager will include in a single {@link PutRecordsRequest}.
+         * A PutRecords request can contain up to a maximum of 500 records. The default value is 500. Independently of this
+         * value, a batch is also sent when the total size of its records reaches 5 MiB, the maximum size of a PutRecords
+         * request.
+         *
+         * @param maxBatchSize The maximum number of records to be batched together in a single request.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxBatchSize(Integer maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Specifies the frequency at which the records buffered for a stream are sent. This defines the maximum duration
+         * that a record is held for additional records before being sent. Increasing the {@code sendRequestFrequency} gives
+         * more time for additional records to be added to the batch, which can reduce the number of requests and increase
+         * throughput, at the cost of a higher latency. The default value is 100 milliseconds.
+         *
+         * @param sendRequestFrequency The new value for the frequency at which outbound requests are sent.
+         * @return This Builder object for method chaining.
+         */
+        public Builder sendRequestFrequency(Duration sendRequestFrequency) {
+            this.sendRequestFrequency = sendRequestFrequency;
+            return this;
+        }
+
+        /**
+         * Specifies whether small records are aggregated into one Kinesis record, in the aggregated record format of the
+         * Kinesis Producer Library. Only records predicted to be written to the same shard are aggregated together, the shard
+         * of each record being predicted from the hash key ranges of the shards listed with ListShards. Consumers must
+         * de-aggregate the records, as the Kinesis Client Library does. The default value is false.
+         *
+         * @param aggregationEnabled Whether records are aggregated.
+         * @return This Builder object for method chaining.
+         */
+        public Builder aggregationEnabled(Boolean aggregationEnabled) {
+            this.aggregationEnabled = aggregationEnabled;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum size in bytes of an aggregated record, including its partition key. Records larger than this
+         * size are not aggregated. The value must be less than or equal to 1 MiB, the maximum size of a record. The default
+         * value is 51200 bytes.
+         *
+         * @param maxAggregatedRecordSize The maximum size of an aggregated record.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxAggregatedRecordSize(Integer maxAggregatedRecordSize) {
+            this.maxAggregatedRecordSize = maxAggregatedRecordSize;
+            return this;
+        }
+
+        /**
+         * Specifies how long the shards listed for a stream are used to predict the shard of aggregated records before they
+         * are listed again. The shards are also listed again when a record is written to another shard than predicted. The
+         * default value is 60 seconds.
+         *
+         * @param shardMapRefreshInterval The interval at which the shards of a stream are listed.
+         * @return This Builder object for method chaining.
+         */
+        public Builder shardMapRefreshInterval(Duration shardMapRefreshInterval) {
+            this.shardMapRefreshInterval = shardMapRefreshInterval;
+            return this;
+        }
+
+        /**
+         * Specifies the maximum number of times a record that failed in a PutRecords request, because its shard was throttled
+         * or because of an internal failure, is sent again with the next batch. Records that failed for other reasons, and
+         * requests that failed entirely after the retries of the client, are not retried. The default value is 3.
+         *
+         * @param maxRecordRetries The maximum number of retries of a failed record.
+         * @return This Builder object for method chaining.
+         */
+        public Builder maxRecordRetries(Integer maxRecordRetries) {
+            this.maxRecordRetries = maxRecordRetries;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link BatchOverrideConfiguration} object based on the values set in this builder.
+         *
+         * @return A new {@link BatchOverrideConfiguration} object.
+         */
+        @Override
+        public BatchOverrideConfiguration build() {
+            return new BatchOverrideConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.batchmanager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.internal.batchmanager.DefaultKinesisAsyncBatchManager;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * Batch manager for implementing automatic batching with a Kinesis async client. Create an instance using
+ * {@link #builder()}.
+ * <p>
+ * This manager buffers {@link PutRecordRequest}s and sends them in
+ * {@link software.amazon.awssdk.services.kinesis.model.PutRecordsRequest}s, reducing the number of API requests made by
+ * producers writing many small records. Records are buffered until a batch reaches the limits of a PutRecords request or until
+ * the send request frequency elapses. When a PutRecords request partially fails, only the records that failed are retried.
+ * <p>
+ * Records can also be aggregated: small records predicted to be written to the same shard are packed into one Kinesis record,
+ * in the aggregated record format of the Kinesis Producer Library, which the Kinesis Client Library de-aggregates.
+ */
+@SdkPublicApi
+public interface KinesisAsyncBatchManager extends SdkAutoCloseable {
+
+    /**
+     * Creates a builder for configuring and creating a {@link KinesisAsyncBatchManager}.
+     *
+     * @return A new builder.
+     */
+    static Builder builder() {
+        return DefaultKinesisAsyncBatchManager.builder();
+    }
+
+    /**
+     * Buffers and batches {@link PutRecordRequest}s, sending them as a
+     * {@link software.amazon.awssdk.services.kinesis.model.PutRecordsRequest}. Requests are grouped by stream and override
+     * configuration, and sent when the batch is full or the send request frequency elapses.
+     * <p>
+     * Requests with a sequence number for ordering, or with a record too large to be batched, are sent with a PutRecord
+     * request instead.
+     *
+     * @param request The PutRecordRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutRecordResponse}. When the record was aggregated, the response
+     *         contains the shard and the sequence number of the aggregated record.
+     */
+    default CompletableFuture<PutRecordResponse> putRecord(PutRecordRequest request) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Buffers and batches {@link PutRecordRequest}s using a {@link Consumer} to configure the request, sending them as a
+     * {@link software.amazon.awssdk.services.kinesis.model.PutRecordsRequest}. Requests are grouped by stream and override
+     * configuration, and sent when the batch is full or the send request frequency elapses.
+     *
+     * @param request A {@link Consumer} to configure the PutRecordRequest to be buffered.
+     * @return CompletableFuture of the corresponding {@link PutRecordResponse}.
+     */
+    default CompletableFuture<PutRecordResponse> putRecord(Consumer<PutRecordRequest.Builder> request) {
+        return putRecord(PutRecordRequest.builder().applyMutation(request).build());
+    }
+
+    interface Builder {
+
+        /**
+         * Sets custom overrides for the BatchManager configuration.
+         *
+         * @param overrideConfiguration The configuration overrides.
+         * @return This builder for method chaining.
+         */
+        Builder overrideConfiguration(BatchOverrideConfiguration overrideConfiguration);
+
+        /**
+         * Sets custom overrides for the BatchManager configuration using a {@link Consumer} to configure the overrides.
+         *
+         * @param overrideConfiguration A {@link Consumer} to configure the {@link BatchOverrideConfiguration}.
+         * @return This builder for method chaining.
+         */
+        default Builder overrideConfiguration(Consumer<BatchOverrideConfiguration.Builder> overrideConfiguration) {
+            return overrideConfiguration(BatchOverrideConfiguration.builder().applyMutation(overrideConfiguration).build());
+        }
+
+        /**
+         * Sets the {@link KinesisAsyncClient} used to send the batched requests and to list the shards of the streams. This
+         * client must be closed by the caller.
+         *
+         * @param client The KinesisAsyncClient to use.
+         * @return This builder for method chaining.
+         * @throws NullPointerException If client is null.
+         */
+        Builder client(KinesisAsyncClient client);
+
+        /**
+         * Sets a custom {@link ScheduledExecutorService} for periodic buffer flushes. This executor must be closed by the
+         * caller.
+         *
+         * @param scheduledExecutor The executor to use.
+         * @return This builder for method chaining.
+         */
+        Builder scheduledExecutor(ScheduledExecutorService scheduledExecutor);
+
+        /**
+         * Builds an instance of {@link KinesisAsyncBatchManager} based on the supplied configurations.
+         *
+         * @return An initialized KinesisAsyncBatchManager.
+         */
+        KinesisAsyncBatchManager build();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.batchmanager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+import software.amazon.awssdk.utils.Either;
+
+/**
+ * One entry of a PutRecords request: either a single {@link UserRecord}, or several user records aggregated together by a
+ * {@link RecordAggregator}. All its user records get the result of the entry.
+ */
+@SdkInternalApi
+final class KinesisRecord {
+    private final PutRecordsRequestEntry entry;
+    private final List<UserRecord> userRecords;
+    private final String predictedShardId;
+    private final int size;
+    private int attempts;
+
+    KinesisRecord(PutRecordsRequestEntry entry, List<UserRecord> userRecords, String predictedShardId) {
+        this.entry = entry;
+        this.userRecords = userRecords;
+        this.predictedShardId = predictedShardId;
+        this.size = entry.data().asByteArrayUnsafe().length + entry.partitionKey().getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    static KinesisRecord of(UserRecord userRecord, String predictedShardId) {
+        PutRecordsRequestEntry entry = PutRecordsRequestEntry.builder()
+                                                             .data(SdkBytes.fromByteArrayUnsafe(userRecord.data()))
+                                                             .partitionKey(userRecord.partitionKey())
+                                                             .explicitHashKey(userRecord.explicitHashKey())
+                                                             .build();
+        return new KinesisRecord(entry, Collections.singletonList(userRecord), predictedShardId);
+    }
+
+    PutRecordsRequestEntry entry() {
+        return entry;
+    }
+
+    List<UserRecord> userRecords() {
+        return userRecords;
+    }
+
+    /**
+     * @return The shard the record was predicted to be written to, or null if the shards of the stream were not known when it
+     * was buffered.
+     */
+    String predictedShardId() {
+        return predictedShardId;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return The number of PutRecords requests the record was sent in, including the one being completed.
+     */
+    int incrementAttempts() {
+        return ++attempts;
+    }
+
+    void complete(PutRecordsResultEntry resultEntry, PutRecordsResponse batchResponse,
+                  Collection<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> results) {
+        PutRecordResponse.Builder builder = PutRecordResponse.builder()
+                                                             .shardId(resultEntry.shardId())
+                                                             .sequenceNumber(resultEntry.sequenceNumber())
+                                                             .encryptionType(batchResponse.encryptionTypeAsString());
+        if (batchResponse.responseMetadata() != null) {
+            builder.responseMetadata(batchResponse.responseMetadata());
+        }
+        if (batchResponse.sdkHttpResponse() != null) {
+            builder.sdkHttpResponse(batchResponse.sdkHttpResponse());
+        }
+        PutRecordResponse response = builder.build();
+        userRecords.forEach(userRecord -> results.add(Either.left(new IdentifiableMessage<>(userRecord.id(), response))));
+    }
+
+    void completeExceptionally(
+        Throwable throwable,
+        Collection<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> results) {
+        userRecords.forEach(userRecord -> results.add(Either.right(new IdentifiableMessage<>(userRecord.id(), throwable))));
+    }
+}
@@ -0,0 +1,342 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.batchmanager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchManager;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.batchmanager.BatchOverrideConfiguration;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Either;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * Batches the {@link PutRecordRequest}s of the batch manager per batch key, a stream and an override configuration, and
+ * sends each batch in {@link PutRecordsRequest}s. When aggregation is enabled, the records of a batch predicted to be written
+ * to the same shard are aggregated before being sent. The records of a PutRecords response that failed because their shard
+ * was throttled or because of an internal failure are sent again after the send request frequency, up to the maximum number
+ * of record retries.
+ */
+@SdkInternalApi
+public final class PutRecordsBatchManager extends RequestBatchManager<PutRecordRequest, PutRecordResponse,
+    List<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>>> {
+
+    /**
+     * The maximum size of a record, data and partition key included.
+     */
+    public static final int MAX_RECORD_SIZE_BYTES = 1024 * 1024;
+
+    /**
+     * The maximum size of a PutRecords request, data and partition keys of all its records included.
+     */
+    public static final int MAX_BATCH_BYTES_SIZE = 5 * 1024 * 1024;
+
+    public static final int MAX_BATCH_ITEMS = 500;
+    public static final Duration DEFAULT_SEND_REQUEST_FREQUENCY = Duration.ofMillis(100);
+    public static final int DEFAULT_MAX_AGGREGATED_RECORD_SIZE = 51200;
+    public static final Duration DEFAULT_SHARD_MAP_REFRESH_INTERVAL = Duration.ofSeconds(60);
+    public static final int DEFAULT_MAX_RECORD_RETRIES = 3;
+
+    private static final String PROVISIONED_THROUGHPUT_EXCEEDED = "ProvisionedThroughputExceededException";
+    private static final String INTERNAL_FAILURE = "InternalFailure";
+
+    private final KinesisAsyncClient client;
+    private final ScheduledExecutorService scheduledExecutor;
+    private final boolean aggregationEnabled;
+    private final int maxAggregatedRecordSize;
+    private final Duration shardMapRefreshInterval;
+    private final int maxRecordRetries;
+    private final Map<String, ShardMap> shardMaps;
+
+    public PutRecordsBatchManager(BatchOverrideConfiguration overrideConfiguration,
+                                  ScheduledExecutorService scheduledExecutor,
+                                  KinesisAsyncClient client) {
+        super(requestBatchConfiguration(overrideConfiguration), scheduledExecutor);
+        this.client = client;
+        this.scheduledExecutor = scheduledExecutor;
+        this.aggregationEnabled = Boolean.TRUE.equals(overrideConfiguration.aggregationEnabled());
+        this.maxAggregatedRecordSize = overrideConfiguration.maxAggregatedRecordSize() != null
+                                       ? overrideConfiguration.maxAggregatedRecordSize()
+                                       : DEFAULT_MAX_AGGREGATED_RECORD_SIZE;
+        this.shardMapRefreshInterval = overrideConfiguration.shardMapRefreshInterval() != null
+                                       ? overrideConfiguration.shardMapRefreshInterval()
+                                       : DEFAULT_SHARD_MAP_REFRESH_INTERVAL;
+        this.maxRecordRetries = overrideConfiguration.maxRecordRetries() != null
+                                ? overrideConfiguration.maxRecordRetries()
+                                : DEFAULT_MAX_RECORD_RETRIES;
+        this.shardMaps = new ConcurrentHashMap<>();
+    }
+
+    private static RequestBatchConfiguration requestBatchConfiguration(BatchOverrideConfiguration overrideConfiguration) {
+        Duration sendRequestFrequency = overrideConfiguration.sendRequestFrequency() != null
+                                        ? overrideConfiguration.sendRequestFrequency()
+                                        : DEFAULT_SEND_REQUEST_FREQUENCY;
+        return RequestBatchConfiguration.builder()
+                                        .maxBatchItems(overrideConfiguration.maxBatchSize() != null
+                                                       ? overrideConfiguration.maxBatchSize()
+                                                       : MAX_BATCH_ITEMS)
+                                        .maxBatchBytesSize(MAX_BATCH_BYTES_SIZE)
+                                        .sendRequestFrequency(sendRequestFrequency)
+                                        .build();
+    }
+
+    /**
+     * Ordering by sequence number needs each record to be written by its own request, and a record larger than the maximum
+     * record size is sent alone for the service to reject it as it would without the batch manager.
+     */
+    @Override
+    protected boolean isBatchable(PutRecordRequest request) {
+        return request.sequenceNumberForOrdering() == null && recordSize(request) <= MAX_RECORD_SIZE_BYTES;
+    }
+
+    @Override
+    protected CompletableFuture<PutRecordResponse> sendDirectly(PutRecordRequest request) {
+        return client.putRecord(request);
+    }
+
+    @Override
+    protected int payloadSize(PutRecordRequest request) {
+        return recordSize(request);
+    }
+
+    @Override
+    protected String getBatchKey(PutRecordRequest request) {
+        Validate.isTrue(request.streamName() != null || request.streamARN() != null,
+                        "A stream name or a stream ARN must be specified.");
+        return batchKey(request.overrideConfiguration(), request.streamName(), request.streamARN());
+    }
+
+    @Override
+    protected CompletableFuture<List<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>>>
+        batchAndSend(List<IdentifiableMessage<PutRecordRequest>> identifiedRequests, String batchKey) {
+
+        // All requests of a batch have the same stream and override configuration, so retrieve them from the first one.
+        PutRecordRequest firstRequest = identifiedRequests.get(0).message();
+        PutRecordsRequest putRecordsRequest =
+            PutRecordsRequest.builder()
+                             .streamName(firstRequest.streamName())
+                             .streamARN(firstRequest.streamARN())
+                             .overrideConfiguration(batchOverrideConfiguration(firstRequest.overrideConfiguration()))
+                             .build();
+        ShardMap shardMap = aggregationEnabled
+                            ? shardMaps.computeIfAbsent(batchKey, k -> new ShardMap(client, firstRequest.streamName(),
+                                                                                    firstRequest.streamARN(),
+                                                                                    shardMapRefreshInterval))
+                            : null;
+
+        List<UserRecord> userRecords = identifiedRequests.stream()
+                                                         .map(request -> new UserRecord(request.id(), request.message()))
+                                                         .collect(Collectors.toList());
+        Collection<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> results =
+            new ConcurrentLinkedQueue<>();
+        CompletableFuture<?>[] sentBatches = putRecordsBatches(kinesisRecords(userRecords, shardMap))
+            .stream()
+            .map(batch -> sendBatch(putRecordsRequest, batch, shardMap, results))
+            .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(sentBatches).thenApply(ignored -> new ArrayList<>(results));
+    }
+
+    @Override
+    protected List<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> mapBatchResponse(
+        List<IdentifiableMessage<PutRecordRequest>> identifiedRequests,
+        List<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> batchResponse) {
+        return batchResponse;
+    }
+
+    /**
+     * Aggregates the user records predicted to be written to the same shard. Records whose shard is not predicted, because
+     * aggregation is disabled or the shards of the stream are not known yet, are sent as they are.
+     */
+    private List<KinesisRecord> kinesisRecords(List<UserRecord> userRecords, ShardMap shardMap) {
+        List<KinesisRecord> records = new ArrayList<>();
+        Map<String, RecordAggregator> aggregators = new LinkedHashMap<>();
+        for (UserRecord userRecord : userRecords) {
+            String shardId = shardMap != null ? shardMap.shardId(userRecord.hashKey()) : null;
+            if (shardId == null) {
+                records.add(KinesisRecord.of(userRecord, null));
+                continue;
+            }
+
+            RecordAggregator aggregator = aggregators.computeIfAbsent(shardId,
+                                                                      k -> new RecordAggregator(k, maxAggregatedRecordSize));
+            if (!aggregator.fits(userRecord)) {
+                if (!aggregator.isEmpty()) {
+                    records.add(aggregator.drain());
+                }
+                if (!aggregator.fits(userRecord)) {
+                    records.add(KinesisRecord.of(userRecord, shardId));
+                    continue;
+                }
+            }
+            aggregator.add(userRecord);
+        }
+        for (RecordAggregator aggregator : aggregators.values()) {
+            if (!aggregator.isEmpty()) {
+                records.add(aggregator.drain());
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Splits the records of a batch in groups within the limits of a PutRecords request. The batch itself is within these
+     * limits unless the overhead of the aggregated record format made it grow.
+     */
+    private List<List<KinesisRecord>> putRecordsBatches(List<KinesisRecord> records) {
+        List<List<KinesisRecord>> batches = new ArrayList<>();
+        List<KinesisRecord> batch = new ArrayList<>();
+        int batchBytes = 0;
+        for (KinesisRecord record : records) {
+            if (!batch.isEmpty() && (batch.size() == MAX_BATCH_ITEMS || batchBytes + record.size() > MAX_BATCH_BYTES_SIZE)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchBytes = 0;
+            }
+            batch.add(record);
+            batchBytes += record.size();
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     * Sends records in a PutRecords request, and the records that failed and are retried in the next ones.
+     *
+     * @return A future completed once every record has a result in {@code results}.
+     */
+    private CompletableFuture<Void> sendBatch(
+        PutRecordsRequest putRecordsRequest, List<KinesisRecord> batch, ShardMap shardMap,
+        Collection<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> results) {
+
+        CompletableFuture<PutRecordsResponse> batchResponse;
+        try {
+            batchResponse = client.putRecords(putRecordsRequest.toBuilder()
+                                                               .records(batch.stream()
+                                                                             .map(KinesisRecord::entry)
+                                                                             .collect(Collectors.toList()))
+                                                               .build());
+        } catch (Exception e) {
+            batchResponse = CompletableFutureUtils.failedFuture(e);
+        }
+
+        return batchResponse.handle((response, exception) -> handleResponse(batch, shardMap, response, exception, results))
+                            .thenCompose(retriedRecords -> retriedRecords.isEmpty()
+                                                           ? CompletableFuture.completedFuture(null)
+                                                           : retry(putRecordsRequest, retriedRecords, shardMap, results));
+    }
+
+    private CompletableFuture<Void> retry(
+        PutRecordsRequest putRecordsRequest, List<KinesisRecord> retriedRecords, ShardMap shardMap,
+        Collection<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> results) {
+
+        CompletableFuture<Void> retried = new CompletableFuture<>();
+        try {
+            scheduledExecutor.schedule(() -> CompletableFutureUtils.forwardResultTo(sendBatch(putRecordsRequest, retriedRecords,
+                                                                                                shardMap, results),
+                                                                                      retried),
+                                       batchConfiguration.sendRequestFrequency().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            retriedRecords.forEach(record -> record.completeExceptionally(e, results));
+            retried.complete(null);
+        }
+        return retried;
+    }
+
+    /**
+     * Records the result of every record of a PutRecords request.
+     *
+     * @return The records to send again.
+     */
+    private List<KinesisRecord> handleResponse(
+        List<KinesisRecord> batch, ShardMap shardMap, PutRecordsResponse batchResponse, Throwable exception,
+        Collection<Either<IdentifiableMessage<PutRecordResponse>, IdentifiableMessage<Throwable>>> results) {
+
+        List<KinesisRecord> retriedRecords = new ArrayList<>();
+        if (exception != null) {
+            Throwable cause = exception instanceof CompletionException && exception.getCause() != null
+                              ? exception.getCause()
+                              : exception;
+            batch.forEach(record -> record.completeExceptionally(cause, results));
+            return retriedRecords;
+        }
+
+        List<PutRecordsResultEntry> resultEntries = batchResponse.records();
+        if (resultEntries.size() != batch.size()) {
+            SdkClientException mismatch = SdkClientException.create("The PutRecords response contains " + resultEntries.size()
+                                                                    + " records for the " + batch.size() + " records sent.");
+            batch.forEach(record -> record.completeExceptionally(mismatch, results));
+            return retriedRecords;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            KinesisRecord record = batch.get(i);
+            PutRecordsResultEntry result = resultEntries.get(i);
+            int attempts = record.incrementAttempts();
+
+            if (result.errorCode() == null) {
+                if (shardMap != null && record.predictedShardId() != null
+                    && !record.predictedShardId().equals(result.shardId())) {
+                    shardMap.invalidate();
+                }
+                record.complete(result, batchResponse, results);
+            } else if (isRetryable(result.errorCode()) && attempts <= maxRecordRetries) {
+                retriedRecords.add(record);
+            } else {
+                AwsErrorDetails errorDetails = AwsErrorDetails.builder()
+                                                              .errorCode(result.errorCode())
+                                                              .errorMessage(result.errorMessage())
+                                                              .build();
+                record.completeExceptionally(KinesisException.builder().awsErrorDetails(errorDetails).build(), results);
+            }
+        }
+        return retriedRecords;
+    }
+
+    private static boolean isRetryable(String errorCode) {
+        return PROVISIONED_THROUGHPUT_EXCEEDED.equals(errorCode) || INTERNAL_FAILURE.equals(errorCode);
+    }
+
+    private static int recordSize(PutRecordRequest request) {
+        return Validate.paramNotNull(request.data(), "data").asByteArrayUnsafe().length
+               + Validate.paramNotNull(request.partitionKey(), "partitionKey").getBytes(StandardCharsets.UTF_8).length;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.batchmanager;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.utils.Md5Utils;
+
+/**
+ * Aggregates the user records predicted to be written to one shard into a single Kinesis record, in the aggregated record
+ * format of the Kinesis Producer Library: the magic bytes {@code F3 89 9A C2}, an {@code AggregatedRecord} protobuf message,
+ * and the MD5 digest of that message.
+ * <pre>
+ * message AggregatedRecord {
+ *   repeated string partition_key_table     = 1;
+ *   repeated string explicit_hash_key_table = 2;
+ *   repeated Record records                 = 3;
+ * }
+ * message Record {
+ *   required uint64 partition_key_index     = 1;
+ *   optional uint64 explicit_hash_key_index = 2;
+ *   required bytes  data                    = 3;
+ * }
+ * </pre>
+ * This class is not thread safe, it is only used by the {@link PutRecordsBatchManager} sending the batch it aggregates.
+ */
+@SdkInternalApi
+final class RecordAggregator {
+    static final byte[] MAGIC = {(byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2};
+    static final int DIGEST_SIZE = 16;
+
+    private static final int PARTITION_KEY_TABLE_TAG = 0x0A;
+    private static final int EXPLICIT_HASH_KEY_TABLE_TAG = 0x12;
+    private static final int RECORDS_TAG = 0x1A;
+    private static final int PARTITION_KEY_INDEX_TAG = 0x08;
+    private static final int EXPLICIT_HASH_KEY_INDEX_TAG = 0x10;
+    private static final int DATA_TAG = 0x1A;
+
+    private final String shardId;
+    private final int maxAggregatedRecordSize;
+    private final Map<String, Integer> partitionKeys = new LinkedHashMap<>();
+    private final Map<String, Integer> explicitHashKeys = new LinkedHashMap<>();
+    private final List<UserRecord> userRecords = new ArrayList<>();
+    private int messageSize;
+
+    RecordAggregator(String shardId, int maxAggregatedRecordSize) {
+        this.shardId = shardId;
+        this.maxAggregatedRecordSize = maxAggregatedRecordSize;
+    }
+
+    boolean isEmpty() {
+        return userRecords.isEmpty();
+    }
+
+    /**
+     * @return Whether the aggregated record would stay within the maximum aggregated record size, its partition key included,
+     * once the user record is added.
+     */
+    boolean fits(UserRecord userRecord) {
+        int partitionKeySize = userRecords.isEmpty() ? userRecord.partitionKeyBytes().length
+                                                     : userRecords.get(0).partitionKeyBytes().length;
+        int size = MAGIC.length + messageSize + sizeIncrement(userRecord) + DIGEST_SIZE + partitionKeySize;
+        return size <= maxAggregatedRecordSize;
+    }
+
+    void add(UserRecord userRecord) {
+        messageSize += sizeIncrement(userRecord);
+        partitionKeys.putIfAbsent(userRecord.partitionKey(), partitionKeys.size());
+        if (userRecord.explicitHashKey() != null) {
+            explicitHashKeys.putIfAbsent(userRecord.explicitHashKey(), explicitHashKeys.size());
+        }
+        userRecords.add(userRecord);
+    }
+
+    /**
+     * Returns the user records added since the last call as one Kinesis record, and resets the aggregator. A single user
+     * record is returned as is, without the overhead of the aggregated format.
+     */
+    KinesisRecord drain() {
+        KinesisRecord record;
+        if (userRecords.size() == 1) {
+            record = KinesisRecord.of(userRecords.get(0), shardId);
+        } else {
+            UserRecord first = userRecords.get(0);
+            PutRecordsRequestEntry entry = PutRecordsRequestEntry.builder()
+                                                                 .data(SdkBytes.fromByteArrayUnsafe(serialize()))
+                                                                 .partitionKey(first.partitionKey())
+                                                                 .explicitHashKey(first.hashKey().toString())
+                                                                 .build();
+            record = new KinesisRecord(entry, new ArrayList<>(userRecords), shardId);
+        }
+        partitionKeys.clear();
+        explicitHashKeys.clear();
+        userRecords.clear();
+        messageSize = 0;
+        return record;
+    }
+
+    private int sizeIncrement(UserRecord userRecord) {
+        int increment = 0;
+
+        Integer partitionKeyIndex = partitionKeys.get(userRecord.partitionKey());
+        if (partitionKeyIndex == null) {
+            partitionKeyIndex = partitionKeys.size();
+            increment += fieldSize(userRecord.partitionKeyBytes().length);
+        }
+
+        int recordSize = 1 + varintSize(partitionKeyIndex) + fieldSize(userRecord.data().length);
+        if (userRecord.explicitHashKey() != null) {
+            Integer explicitHashKeyIndex = explicitHashKeys.get(userRecord.explicitHashKey());
+            if (explicitHashKeyIndex == null) {
+                explicitHashKeyIndex = explicitHashKeys.size();
+                increment += fieldSize(utf8Length(userRecord.explicitHashKey()));
+            }
+            recordSize += 1 + varintSize(explicitHashKeyIndex);
+        }
+
+        return increment + fieldSize(recordSize);
+    }
+
+    private byte[] serialize() {
+        ByteBuffer buffer = ByteBuffer.allocate(MAGIC.length + messageSize + DIGEST_SIZE);
+        buffer.put(MAGIC);
+
+        for (String partitionKey : partitionKeys.keySet()) {
+            writeBytesField(buffer, PARTITION_KEY_TABLE_TAG, partitionKey.getBytes(StandardCharsets.UTF_8));
+        }
+        for (String explicitHashKey : explicitHashKeys.keySet()) {
+            writeBytesField(buffer, EXPLICIT_HASH_KEY_TABLE_TAG, explicitHashKey.getBytes(StandardCharsets.UTF_8));
+        }
+        for (UserRecord userRecord : userRecords) {
+            int partitionKeyIndex = partitionKeys.get(userRecord.partitionKey());
+            Integer explicitHashKeyIndex = userRecord.explicitHashKey() != null
+                                           ? explicitHashKeys.get(userRecord.explicitHashKey())
+                                           : null;
+
+            int recordSize = 1 + varintSize(partitionKeyIndex) + fieldSize(userRecord.data().length);
+            if (explicitHashKeyIndex != null) {
+                recordSize += 1 + varintSize(explicitHashKeyIndex);
+            }
+
+            buffer.put((byte) RECORDS_TAG);
+            writeVarint(buffer, recordSize);
+            buffer.put((byte) PARTITION_KEY_INDEX_TAG);
+            writeVarint(buffer, partitionKeyIndex);
+            if (explicitHashKeyIndex != null) {
+                buffer.put((byte) EXPLICIT_HASH_KEY_INDEX_TAG);
+                writeVarint(buffer, explicitHashKeyIndex);
+            }
+            writeBytesField(buffer, DATA_TAG, userRecord.data());
+        }
+
+        byte[] bytes = buffer.array();
+        byte[] message = new byte[messageSize];
+        System.arraycopy(bytes, MAGIC.length, message, 0, messageSize);
+        buffer.put(Md5Utils.computeMD5Hash(message));
+        return bytes;
+    }
+
+    private static void writeBytesField(ByteBuffer buffer, int tag, byte[] value) {
+        buffer.put((byte) tag);
+        writeVarint(buffer, value.length);
+        buffer.put(value);
+    }
+
+    private static void writeVarint(ByteBuffer buffer, int value) {
+        int remaining = value;
+        while ((remaining & ~0x7F) != 0) {
+            buffer.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * @return The size of a length-delimited field with a single-byte tag.
+     */
+    private static int fieldSize(int length) {
+        return 1 + varintSize(length) + length;
+    }
+
+    private static int varintSize(int value) {
+        int size = 1;
+        int remaining = value >>> 7;
+        while (remaining != 0) {
+            size++;
+            remaining >>>= 7;
+        }
+        return size;
+    }
+
+    private static int utf8Length(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
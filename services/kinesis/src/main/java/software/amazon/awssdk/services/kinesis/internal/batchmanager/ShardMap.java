@@ -0,0 +1,146 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.batchmanager;
+
+import static software.amazon.awssdk.awscore.batchmanager.RequestBatchManager.USER_AGENT_APPLIER;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.Shard;
+import software.amazon.awssdk.services.kinesis.model.ShardFilterType;
+import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * The open shards of a stream, listed with ListShards, used to predict the shard a record is written to from its hash key.
+ * The shards are listed again in the background when the refresh interval elapses or when the map is invalidated, and until
+ * they are first listed no shard is predicted.
+ */
+@SdkInternalApi
+final class ShardMap {
+    private static final Logger log = Logger.loggerFor(ShardMap.class);
+    private static final long FAILED_REFRESH_DELAY_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private final KinesisAsyncClient client;
+    private final String streamName;
+    private final String streamArn;
+    private final long refreshIntervalNanos;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    private volatile List<Shard> shards;
+    private volatile long nextRefreshNanos;
+
+    ShardMap(KinesisAsyncClient client, String streamName, String streamArn, Duration refreshInterval) {
+        this.client = client;
+        this.streamName = streamName;
+        this.streamArn = streamArn;
+        this.refreshIntervalNanos = refreshInterval.toNanos();
+        this.nextRefreshNanos = System.nanoTime();
+    }
+
+    /**
+     * @return The id of the open shard whose hash key range contains the hash key, or null if the shards of the stream are
+     * not known yet.
+     */
+    String shardId(BigInteger hashKey) {
+        if (System.nanoTime() - nextRefreshNanos >= 0) {
+            refresh();
+        }
+
+        List<Shard> currentShards = shards;
+        if (currentShards == null) {
+            return null;
+        }
+
+        int low = 0;
+        int high = currentShards.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            Shard shard = currentShards.get(middle);
+            if (hashKey.compareTo(new BigInteger(shard.hashKeyRange().startingHashKey())) < 0) {
+                high = middle - 1;
+            } else if (hashKey.compareTo(new BigInteger(shard.hashKeyRange().endingHashKey())) > 0) {
+                low = middle + 1;
+            } else {
+                return shard.shardId();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lists the shards again on the next prediction, after a record was written to another shard than predicted.
+     */
+    void invalidate() {
+        nextRefreshNanos = System.nanoTime();
+    }
+
+    private void refresh() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        ListShardsRequest request = ListShardsRequest.builder()
+                                                     .streamName(streamName)
+                                                     .streamARN(streamArn)
+                                                     .shardFilter(f -> f.type(ShardFilterType.AT_LATEST))
+                                                     .overrideConfiguration(o -> o.applyMutation(USER_AGENT_APPLIER))
+                                                     .build();
+        CompletableFuture<List<Shard>> listedShardsFuture;
+        try {
+            listedShardsFuture = listShards(request, new ArrayList<>());
+        } catch (RuntimeException e) {
+            listedShardsFuture = CompletableFutureUtils.failedFuture(e);
+        }
+        listedShardsFuture.whenComplete((listedShards, throwable) -> {
+            if (throwable != null) {
+                log.debug(() -> "Failed to list the shards of the stream, records are not aggregated until they are listed.",
+                          throwable);
+                nextRefreshNanos = System.nanoTime() + FAILED_REFRESH_DELAY_NANOS;
+            } else {
+                listedShards.removeIf(shard -> shard.sequenceNumberRange() != null
+                                               && shard.sequenceNumberRange().endingSequenceNumber() != null);
+                listedShards.sort(Comparator.comparing(shard -> new BigInteger(shard.hashKeyRange().startingHashKey())));
+                shards = listedShards;
+                nextRefreshNanos = System.nanoTime() + refreshIntervalNanos;
+            }
+            refreshing.set(false);
+        });
+    }
+
+    private CompletableFuture<List<Shard>> listShards(ListShardsRequest request, List<Shard> listedShards) {
+        return client.listShards(request).thenCompose(response -> {
+            listedShards.addAll(response.shards());
+            if (response.nextToken() == null) {
+                return CompletableFuture.completedFuture(listedShards);
+            }
+            // The next pages are listed with the token alone, ListShards rejects a token with a stream or a filter.
+            ListShardsRequest nextRequest = ListShardsRequest.builder()
+                                                             .nextToken(response.nextToken())
+                                                             .overrideConfiguration(o -> o.applyMutation(USER_AGENT_APPLIER))
+                                                             .build();
+            return listShards(nextRequest, listedShards);
+        });
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.batchmanager;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.utils.Md5Utils;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A record put by a caller of the batch manager, identified by the id of its entry in the batch of the request batch manager.
+ */
+@SdkInternalApi
+final class UserRecord {
+    private final String id;
+    private final PutRecordRequest request;
+    private final byte[] data;
+    private final byte[] partitionKeyBytes;
+
+    UserRecord(String id, PutRecordRequest request) {
+        this.id = id;
+        this.request = request;
+        this.data = Validate.paramNotNull(request.data(), "data").asByteArrayUnsafe();
+        this.partitionKeyBytes = Validate.paramNotNull(request.partitionKey(), "partitionKey").getBytes(StandardCharsets.UTF_8);
+    }
+
+    String id() {
+        return id;
+    }
+
+    PutRecordRequest request() {
+        return request;
+    }
+
+    byte[] data() {
+        return data;
+    }
+
+    String partitionKey() {
+        return request.partitionKey();
+    }
+
+    byte[] partitionKeyBytes() {
+        return partitionKeyBytes;
+    }
+
+    String explicitHashKey() {
+        return request.explicitHashKey();
+    }
+
+    /**
+     * @return The size the record counts for in the limits of Kinesis: its data and its partition key.
+     */
+    int size() {
+        return data.length + partitionKeyBytes.length;
+    }
+
+    /**
+     * @return The hash key that Kinesis maps to a shard: the explicit hash key of the record if it has one, or else the MD5
+     * digest of its partition key as an unsigned 128-bit integer.
+     */
+    BigInteger hashKey() {
+        if (request.explicitHashKey() != null) {
+            return new BigInteger(request.explicitHashKey());
+        }
+        return new BigInteger(1, Md5Utils.computeMD5Hash(partitionKeyBytes));
+    }
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.KinesisAsyncClient;
+import software.amazon.awssdk.services.kinesis.model.KinesisException;
+import software.amazon.awssdk.services.kinesis.model.ListShardsRequest;
+import software.amazon.awssdk.services.kinesis.model.ListShardsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequest;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+import software.amazon.awssdk.services.kinesis.model.Shard;
+import software.amazon.awssdk.utils.Md5Utils;
+
+class KinesisAsyncBatchManagerTest {
+    private static final String STREAM = "test-stream";
+    private static final BigInteger HALF_HASH_KEY_SPACE = BigInteger.ONE.shiftLeft(127);
+
+    private KinesisAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+    private KinesisAsyncBatchManager batchManager;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(KinesisAsyncClient.class);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (batchManager != null) {
+            batchManager.close();
+        }
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void putRecord_batchFull_sendsOnePutRecordsRequest() throws Exception {
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> successfulResponse(i.getArgument(0)));
+        batchManager = batchManager(c -> c.maxBatchSize(3).sendRequestFrequency(Duration.ofHours(1)));
+
+        List<CompletableFuture<PutRecordResponse>> responses = putRecords(3, 10);
+
+        ArgumentCaptor<PutRecordsRequest> captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(client).putRecords(captor.capture());
+        assertThat(captor.getValue().streamName()).isEqualTo(STREAM);
+        assertThat(captor.getValue().records()).extracting(PutRecordsRequestEntry::partitionKey)
+                                               .containsExactly("key-0", "key-1", "key-2");
+        for (int i = 0; i < responses.size(); i++) {
+            assertThat(responses.get(i).get(1, TimeUnit.SECONDS).sequenceNumber()).isEqualTo("sequence-" + i);
+        }
+    }
+
+    @Test
+    void putRecord_moreThanMaxBatchSize_sendsBatchesOfFiveHundredRecords() throws Exception {
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> successfulResponse(i.getArgument(0)));
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofMillis(50)));
+
+        List<CompletableFuture<PutRecordResponse>> responses = putRecords(501, 10);
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<PutRecordsRequest> captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(client, times(2)).putRecords(captor.capture());
+        assertThat(captor.getAllValues()).extracting(r -> r.records().size()).containsExactly(500, 1);
+    }
+
+    @Test
+    void putRecord_batchReachesFiveMebibytes_sendsBatchBeforeTheRecordOverflowingIt() {
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> successfulResponse(i.getArgument(0)));
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+
+        putRecords(6, 1_000_000);
+
+        ArgumentCaptor<PutRecordsRequest> captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(client).putRecords(captor.capture());
+        assertThat(captor.getValue().records()).hasSize(5);
+    }
+
+    @Test
+    void putRecord_partialFailure_retriesOnlyFailedRecords() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> {
+            PutRecordsRequest request = i.getArgument(0);
+            if (calls.getAndIncrement() > 0) {
+                return successfulResponse(request);
+            }
+            List<PutRecordsResultEntry> results = new ArrayList<>();
+            for (int r = 0; r < request.records().size(); r++) {
+                results.add(r == 1 ? failedEntry("ProvisionedThroughputExceededException")
+                                   : successfulEntry("sequence-" + r));
+            }
+            return CompletableFuture.completedFuture(PutRecordsResponse.builder().failedRecordCount(1).records(results).build());
+        });
+        batchManager = batchManager(c -> c.maxBatchSize(3).sendRequestFrequency(Duration.ofMillis(50)));
+
+        List<CompletableFuture<PutRecordResponse>> responses = putRecords(3, 10);
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+        ArgumentCaptor<PutRecordsRequest> captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(client, times(2)).putRecords(captor.capture());
+        assertThat(captor.getAllValues().get(1).records()).extracting(PutRecordsRequestEntry::partitionKey)
+                                                          .containsExactly("key-1");
+    }
+
+    @Test
+    void putRecord_retriesExhausted_failsWithErrorOfRecord() {
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> {
+            PutRecordsRequest request = i.getArgument(0);
+            return CompletableFuture.completedFuture(
+                PutRecordsResponse.builder()
+                                  .failedRecordCount(request.records().size())
+                                  .records(request.records().stream()
+                                                  .map(r -> failedEntry("InternalFailure"))
+                                                  .collect(Collectors.toList()))
+                                  .build());
+        });
+        batchManager = batchManager(c -> c.maxBatchSize(1).maxRecordRetries(1).sendRequestFrequency(Duration.ofMillis(20)));
+
+        CompletableFuture<PutRecordResponse> response = putRecords(1, 10).get(0);
+
+        assertThatThrownBy(() -> response.get(5, TimeUnit.SECONDS))
+            .hasCauseInstanceOf(KinesisException.class)
+            .satisfies(e -> assertThat(((KinesisException) e.getCause()).awsErrorDetails().errorCode())
+                .isEqualTo("InternalFailure"));
+        verify(client, times(2)).putRecords(any(PutRecordsRequest.class));
+    }
+
+    @Test
+    void putRecord_nonRetryableFailure_failsWithoutRetry() {
+        when(client.putRecords(any(PutRecordsRequest.class))).thenReturn(CompletableFuture.completedFuture(
+            PutRecordsResponse.builder().failedRecordCount(1).records(failedEntry("KMSThrottlingException")).build()));
+        batchManager = batchManager(c -> c.maxBatchSize(1));
+
+        CompletableFuture<PutRecordResponse> response = putRecords(1, 10).get(0);
+
+        assertThatThrownBy(() -> response.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(KinesisException.class);
+        verify(client, times(1)).putRecords(any(PutRecordsRequest.class));
+    }
+
+    @Test
+    void putRecord_requestFails_failsAllRecordsOfBatch() {
+        RuntimeException failure = new RuntimeException("failed");
+        CompletableFuture<PutRecordsResponse> failedResponse = new CompletableFuture<>();
+        failedResponse.completeExceptionally(failure);
+        when(client.putRecords(any(PutRecordsRequest.class))).thenReturn(failedResponse);
+        batchManager = batchManager(c -> c.maxBatchSize(2));
+
+        List<CompletableFuture<PutRecordResponse>> responses = putRecords(2, 10);
+
+        responses.forEach(r -> assertThatThrownBy(() -> r.get(1, TimeUnit.SECONDS)).hasCause(failure));
+    }
+
+    @Test
+    void putRecord_withSequenceNumberForOrdering_sendsPutRecordRequest() throws Exception {
+        PutRecordResponse expected = PutRecordResponse.builder().shardId("shardId-0").sequenceNumber("2").build();
+        when(client.putRecord(any(PutRecordRequest.class))).thenReturn(CompletableFuture.completedFuture(expected));
+        batchManager = batchManager(c -> c.sendRequestFrequency(Duration.ofHours(1)));
+
+        CompletableFuture<PutRecordResponse> response = batchManager.putRecord(r -> r.streamName(STREAM)
+                                                                                     .partitionKey("key")
+                                                                                     .sequenceNumberForOrdering("1")
+                                                                                     .data(SdkBytes.fromUtf8String("data")));
+
+        assertThat(response.get(1, TimeUnit.SECONDS)).isEqualTo(expected);
+        verify(client, never()).putRecords(any(PutRecordsRequest.class));
+    }
+
+    @Test
+    void putRecord_withoutStream_failsResponse() {
+        batchManager = batchManager(c -> { });
+
+        CompletableFuture<PutRecordResponse> response =
+            batchManager.putRecord(r -> r.partitionKey("key").data(SdkBytes.fromUtf8String("data")));
+
+        assertThatThrownBy(() -> response.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void putRecord_aggregationEnabled_aggregatesRecordsOfSameShard() throws Exception {
+        when(client.listShards(any(ListShardsRequest.class))).thenReturn(CompletableFuture.completedFuture(
+            ListShardsResponse.builder()
+                              .shards(shard("shardId-1", HALF_HASH_KEY_SPACE, BigInteger.ONE.shiftLeft(128)
+                                                                                             .subtract(BigInteger.ONE)),
+                                      shard("shardId-0", BigInteger.ZERO, HALF_HASH_KEY_SPACE.subtract(BigInteger.ONE)))
+                              .build()));
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> {
+            PutRecordsRequest request = i.getArgument(0);
+            return CompletableFuture.completedFuture(
+                PutRecordsResponse.builder()
+                                  .failedRecordCount(0)
+                                  .records(request.records().stream()
+                                                  .map(r -> PutRecordsResultEntry.builder()
+                                                                                 .shardId(new BigInteger(r.explicitHashKey())
+                                                                                              .compareTo(HALF_HASH_KEY_SPACE) < 0
+                                                                                          ? "shardId-0" : "shardId-1")
+                                                                                 .sequenceNumber(r.partitionKey())
+                                                                                 .build())
+                                                  .collect(Collectors.toList()))
+                                  .build());
+        });
+        batchManager = batchManager(c -> c.aggregationEnabled(true).sendRequestFrequency(Duration.ofHours(1)));
+
+        CompletableFuture<PutRecordResponse> first = putRecord("a", "1", "first");
+        CompletableFuture<PutRecordResponse> second = putRecord("b", "2", "second");
+        CompletableFuture<PutRecordResponse> other = putRecord("c", HALF_HASH_KEY_SPACE.add(BigInteger.ONE).toString(), "other");
+        batchManager.close();
+
+        ArgumentCaptor<PutRecordsRequest> captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(client).putRecords(captor.capture());
+        List<PutRecordsRequestEntry> entries = captor.getValue().records();
+        assertThat(entries).hasSize(2);
+
+        PutRecordsRequestEntry aggregated = entries.stream().filter(e -> e.partitionKey().equals("a")).findFirst().get();
+        assertThat(aggregated.explicitHashKey()).isEqualTo("1");
+        assertThat(decodeRecordData(aggregated.data().asByteArray())).containsExactly("first", "second");
+
+        PutRecordsRequestEntry single = entries.stream().filter(e -> e.partitionKey().equals("c")).findFirst().get();
+        assertThat(single.data().asUtf8String()).isEqualTo("other");
+
+        assertThat(first.get(1, TimeUnit.SECONDS).shardId()).isEqualTo("shardId-0");
+        assertThat(second.get(1, TimeUnit.SECONDS).sequenceNumber()).isEqualTo("a");
+        assertThat(other.get(1, TimeUnit.SECONDS).shardId()).isEqualTo("shardId-1");
+    }
+
+    @Test
+    void putRecord_aggregationEnabledAndShardsNotListed_sendsRecordsUnaggregated() {
+        when(client.listShards(any(ListShardsRequest.class))).thenReturn(new CompletableFuture<>());
+        when(client.putRecords(any(PutRecordsRequest.class))).thenAnswer(i -> successfulResponse(i.getArgument(0)));
+        batchManager = batchManager(c -> c.aggregationEnabled(true).maxBatchSize(2).sendRequestFrequency(Duration.ofHours(1)));
+
+        putRecords(2, 10);
+
+        ArgumentCaptor<PutRecordsRequest> captor = ArgumentCaptor.forClass(PutRecordsRequest.class);
+        verify(client, timeout(1000)).putRecords(captor.capture());
+        assertThat(captor.getValue().records()).hasSize(2);
+        verify(client, times(1)).listShards(any(ListShardsRequest.class));
+    }
+
+    private KinesisAsyncBatchManager batchManager(Consumer<BatchOverrideConfiguration.Builder> config) {
+        return KinesisAsyncBatchManager.builder()
+                                       .client(client)
+                                       .scheduledExecutor(scheduledExecutor)
+                                       .overrideConfiguration(config)
+                                       .build();
+    }
+
+    private List<CompletableFuture<PutRecordResponse>> putRecords(int count, int dataSize) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> batchManager.putRecord(r -> r.streamName(STREAM)
+                                                                    .partitionKey("key-" + i)
+                                                                    .data(SdkBytes.fromByteArray(new byte[dataSize]))))
+                        .collect(Collectors.toList());
+    }
+
+    private CompletableFuture<PutRecordResponse> putRecord(String partitionKey, String explicitHashKey, String data) {
+        return batchManager.putRecord(r -> r.streamName(STREAM)
+                                            .partitionKey(partitionKey)
+                                            .explicitHashKey(explicitHashKey)
+                                            .data(SdkBytes.fromUtf8String(data)));
+    }
+
+    private static CompletableFuture<PutRecordsResponse> successfulResponse(PutRecordsRequest request) {
+        List<PutRecordsResultEntry> results = IntStream.range(0, request.records().size())
+                                                       .mapToObj(i -> successfulEntry("sequence-" + i))
+                                                       .collect(Collectors.toList());
+        return CompletableFuture.completedFuture(PutRecordsResponse.builder().failedRecordCount(0).records(results).build());
+    }
+
+    private static PutRecordsResultEntry successfulEntry(String sequenceNumber) {
+        return PutRecordsResultEntry.builder().shardId("shardId-0").sequenceNumber(sequenceNumber).build();
+    }
+
+    private static PutRecordsResultEntry failedEntry(String errorCode) {
+        return PutRecordsResultEntry.builder().errorCode(errorCode).errorMessage("Error for " + errorCode).build();
+    }
+
+    private static Shard shard(String shardId, BigInteger startingHashKey, BigInteger endingHashKey) {
+        return Shard.builder()
+                    .shardId(shardId)
+                    .hashKeyRange(r -> r.startingHashKey(startingHashKey.toString()).endingHashKey(endingHashKey.toString()))
+                    .sequenceNumberRange(r -> r.startingSequenceNumber("0"))
+                    .build();
+    }
+
+    /**
+     * Checks the magic bytes and the digest of an aggregated record, and returns the data of its records, skipping the
+     * partition and explicit hash key tables.
+     */
+    private static List<String> decodeRecordData(byte[] aggregated) {
+        assertThat(Arrays.copyOfRange(aggregated, 0, 4))
+            .isEqualTo(new byte[] {(byte) 0xF3, (byte) 0x89, (byte) 0x9A, (byte) 0xC2});
+        byte[] message = Arrays.copyOfRange(aggregated, 4, aggregated.length - 16);
+        assertThat(Arrays.copyOfRange(aggregated, aggregated.length - 16, aggregated.length))
+            .isEqualTo(Md5Utils.computeMD5Hash(message));
+
+        List<String> data = new ArrayList<>();
+        ByteBuffer buffer = ByteBuffer.wrap(message);
+        while (buffer.hasRemaining()) {
+            int tag = buffer.get();
+            byte[] field = new byte[readVarint(buffer)];
+            buffer.get(field);
+            if (tag == 0x1A) {
+                ByteBuffer record = ByteBuffer.wrap(field);
+                while (record.hasRemaining()) {
+                    int recordTag = record.get();
+                    if (recordTag == 0x1A) {
+                        byte[] recordData = new byte[readVarint(record)];
+                        record.get(recordData);
+                        data.add(new String(recordData, StandardCharsets.UTF_8));
+                    } else {
+                        readVarint(record);
+                    }
+                }
+            }
+        }
+        return data;
+    }
+
+    private static int readVarint(ByteBuffer buffer) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.kinesis.internal.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.kinesis.model.PutRecordRequest;
+
+class RecordAggregatorTest {
+
+    @Test
+    void drain_singleRecord_returnsRecordUnaggregated() {
+        RecordAggregator aggregator = new RecordAggregator("shardId-0", 1024);
+        UserRecord userRecord = userRecord("key", null, 10);
+        aggregator.add(userRecord);
+
+        KinesisRecord record = aggregator.drain();
+
+        assertThat(record.entry().data().asByteArray()).hasSize(10);
+        assertThat(record.entry().partitionKey()).isEqualTo("key");
+        assertThat(record.entry().explicitHashKey()).isNull();
+        assertThat(record.predictedShardId()).isEqualTo("shardId-0");
+        assertThat(aggregator.isEmpty()).isTrue();
+    }
+
+    @Test
+    void drain_records_usesPartitionKeyAndHashKeyOfFirstRecord() {
+        RecordAggregator aggregator = new RecordAggregator("shardId-0", 1024);
+        UserRecord first = userRecord("first", null, 10);
+        aggregator.add(first);
+        aggregator.add(userRecord("second", "42", 10));
+
+        KinesisRecord record = aggregator.drain();
+
+        assertThat(record.userRecords()).hasSize(2);
+        assertThat(record.entry().partitionKey()).isEqualTo("first");
+        assertThat(record.entry().explicitHashKey()).isEqualTo(first.hashKey().toString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 200, 5000})
+    void fits_recordsAddedUntilFull_aggregatedRecordSizeMatchesPrediction(int dataSize) {
+        int maxAggregatedRecordSize = 51200;
+        RecordAggregator aggregator = new RecordAggregator("shardId-0", maxAggregatedRecordSize);
+        int added = 0;
+        while (true) {
+            // Repeated partition and explicit hash keys only add an index to the records after their first use.
+            UserRecord userRecord = userRecord("key-" + added % 300, added % 3 == 0 ? String.valueOf(added % 7) : null,
+                                               dataSize);
+            if (!aggregator.fits(userRecord)) {
+                break;
+            }
+            aggregator.add(userRecord);
+            added++;
+        }
+
+        KinesisRecord record = aggregator.drain();
+
+        assertThat(record.userRecords()).hasSize(added);
+        assertThat(record.size()).isLessThanOrEqualTo(maxAggregatedRecordSize);
+        assertThat(record.size()).isGreaterThan(maxAggregatedRecordSize - dataSize - 64);
+    }
+
+    @Test
+    void fits_recordLargerThanMaximum_doesNotFitEmptyAggregator() {
+        RecordAggregator aggregator = new RecordAggregator("shardId-0", 1024);
+
+        assertThat(aggregator.fits(userRecord("key", null, 1024))).isFalse();
+        assertThat(aggregator.fits(userRecord("key", null, 512))).isTrue();
+    }
+
+    private static UserRecord userRecord(String partitionKey, String explicitHashKey, int dataSize) {
+        byte[] data = new byte[dataSize];
+        byte[] keyBytes = partitionKey.getBytes(StandardCharsets.UTF_8);
+        System.arraycopy(keyBytes, 0, data, 0, Math.min(keyBytes.length, dataSize));
+        PutRecordRequest request = PutRecordRequest.builder()
+                                                   .streamName("stream")
+                                                   .partitionKey(partitionKey)
+                                                   .explicitHashKey(explicitHashKey)
+                                                   .data(SdkBytes.fromByteArray(data))
+                                                   .build();
+        return new UserRecord(partitionKey, request);
+    }
+}
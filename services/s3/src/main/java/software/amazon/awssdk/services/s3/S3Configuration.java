@@ -15,6 +15,11 @@
 
 package software.amazon.awssdk.services.s3;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.Immutable;
@@ -36,6 +41,7 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutBucketAccelerateConfigurationRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.utils.Validate;
 import software.amazon.awssdk.utils.builder.CopyableBuilder;
 import software.amazon.awssdk.utils.builder.ToCopyableBuilder;
 
@@ -70,6 +76,16 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
      */
     private static final boolean DEFAULT_CHUNKED_ENCODING_ENABLED = true;
 
+    /**
+     * The default maximum number of bucket regions remembered by a client with cross-region access enabled.
+     */
+    private static final int DEFAULT_CROSS_REGION_BUCKET_REGION_CACHE_SIZE = 10_000;
+
+    /**
+     * The default time after which a client with cross-region access enabled looks up the region of a bucket again.
+     */
+    private static final Duration DEFAULT_CROSS_REGION_BUCKET_REGION_CACHE_TTL = Duration.ofHours(1);
+
     private final FieldWithDefault<Boolean> pathStyleAccessEnabled;
     private final FieldWithDefault<Boolean> accelerateModeEnabled;
     private final FieldWithDefault<Boolean> dualstackEnabled;
@@ -79,6 +95,9 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
     private final Boolean multiRegionEnabled;
     private final FieldWithDefault<Supplier<ProfileFile>> profileFile;
     private final FieldWithDefault<String> profileName;
+    private final FieldWithDefault<Integer> crossRegionBucketRegionCacheSize;
+    private final FieldWithDefault<Duration> crossRegionBucketRegionCacheTtl;
+    private final List<String> crossRegionPrewarmBuckets;
 
     private S3Configuration(DefaultS3ServiceConfigurationBuilder builder) {
         this.dualstackEnabled = FieldWithDefault.create(builder.dualstackEnabled, DEFAULT_DUALSTACK_ENABLED);
@@ -92,6 +111,15 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
                                                    ProfileFileSystemSetting.AWS_PROFILE.getStringValueOrThrow());
         this.useArnRegionEnabled = builder.useArnRegionEnabled;
         this.multiRegionEnabled = builder.multiRegionEnabled;
+        this.crossRegionBucketRegionCacheSize = FieldWithDefault.create(
+            Validate.isPositiveOrNull(builder.crossRegionBucketRegionCacheSize, "crossRegionBucketRegionCacheSize"),
+            DEFAULT_CROSS_REGION_BUCKET_REGION_CACHE_SIZE);
+        this.crossRegionBucketRegionCacheTtl = FieldWithDefault.create(
+            Validate.isPositiveOrNull(builder.crossRegionBucketRegionCacheTtl, "crossRegionBucketRegionCacheTtl"),
+            DEFAULT_CROSS_REGION_BUCKET_REGION_CACHE_TTL);
+        this.crossRegionPrewarmBuckets = builder.crossRegionPrewarmBuckets == null
+                                         ? Collections.emptyList()
+                                         : Collections.unmodifiableList(new ArrayList<>(builder.crossRegionPrewarmBuckets));
 
         if (accelerateModeEnabled() && pathStyleAccessEnabled()) {
             throw new IllegalArgumentException("Accelerate mode cannot be used with path style addressing");
@@ -237,6 +265,36 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
                        .orElseGet(this::resolveMultiRegionEnabled);
     }
 
+    /**
+     * Returns the maximum number of bucket regions remembered by a client with cross-region access enabled. Defaults to
+     * 10,000.
+     *
+     * @return The maximum number of bucket regions remembered by the client.
+     */
+    public int crossRegionBucketRegionCacheSize() {
+        return crossRegionBucketRegionCacheSize.value();
+    }
+
+    /**
+     * Returns the time after which a client with cross-region access enabled looks up the region of a bucket again.
+     * Defaults to one hour.
+     *
+     * @return The time for which the region of a bucket is remembered by the client.
+     */
+    public Duration crossRegionBucketRegionCacheTtl() {
+        return crossRegionBucketRegionCacheTtl.value();
+    }
+
+    /**
+     * Returns the buckets whose region a client with cross-region access enabled looks up in the background when it sends
+     * its first request, so that the requests to these buckets are not redirected. Empty by default.
+     *
+     * @return The buckets whose region is looked up when the client sends its first request.
+     */
+    public List<String> crossRegionPrewarmBuckets() {
+        return crossRegionPrewarmBuckets;
+    }
+
     @Override
     public Builder toBuilder() {
         return builder()
@@ -248,7 +306,10 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
                 .chunkedEncodingEnabled(chunkedEncodingEnabled.valueOrNullIfDefault())
                 .useArnRegionEnabled(useArnRegionEnabled)
                 .profileFile(profileFile.valueOrNullIfDefault())
-                .profileName(profileName.valueOrNullIfDefault());
+                .profileName(profileName.valueOrNullIfDefault())
+                .crossRegionBucketRegionCacheSize(crossRegionBucketRegionCacheSize.valueOrNullIfDefault())
+                .crossRegionBucketRegionCacheTtl(crossRegionBucketRegionCacheTtl.valueOrNullIfDefault())
+                .crossRegionPrewarmBuckets(crossRegionPrewarmBuckets.isEmpty() ? null : crossRegionPrewarmBuckets);
     }
 
     @NotThreadSafe
@@ -415,6 +476,46 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
          * </p>
          */
         Builder profileName(String profileName);
+
+        Integer crossRegionBucketRegionCacheSize();
+
+        /**
+         * The maximum number of bucket regions remembered by the client when cross-region access is enabled. When the
+         * client accesses more buckets, the regions of the least recently learned buckets are forgotten and looked up again
+         * on their next request.
+         *
+         * <p>
+         * By default, up to 10,000 bucket regions are remembered.
+         * </p>
+         */
+        Builder crossRegionBucketRegionCacheSize(Integer crossRegionBucketRegionCacheSize);
+
+        Duration crossRegionBucketRegionCacheTtl();
+
+        /**
+         * The time after which the client looks up the region of a bucket again when cross-region access is enabled, so
+         * that a bucket re-created in another region is eventually accessed without a redirect.
+         *
+         * <p>
+         * By default, the region of a bucket is remembered for one hour.
+         * </p>
+         */
+        Builder crossRegionBucketRegionCacheTtl(Duration crossRegionBucketRegionCacheTtl);
+
+        List<String> crossRegionPrewarmBuckets();
+
+        /**
+         * The buckets whose region is looked up with HeadBucket when cross-region access is enabled, so that requests to
+         * these buckets are not redirected. The lookups are made in the background when the client sends its first
+         * request, and not when it is created, so they never delay that request: the requests sent before a lookup
+         * completes are redirected as they would be without it. A synchronous client makes them on a daemon thread that
+         * ends with them.
+         *
+         * <p>
+         * By default, no bucket region is looked up in advance.
+         * </p>
+         */
+        Builder crossRegionPrewarmBuckets(Collection<String> crossRegionPrewarmBuckets);
     }
 
     static final class DefaultS3ServiceConfigurationBuilder implements Builder {
@@ -427,6 +528,9 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
         private Boolean multiRegionEnabled;
         private Supplier<ProfileFile> profileFile;
         private String profileName;
+        private Integer crossRegionBucketRegionCacheSize;
+        private Duration crossRegionBucketRegionCacheTtl;
+        private List<String> crossRegionPrewarmBuckets;
 
         @Override
         public Boolean dualstackEnabled() {
@@ -565,6 +669,40 @@ public final class S3Configuration implements ServiceConfiguration, ToCopyableBu
             useArnRegionEnabled(useArnRegionEnabled);
         }
 
+        @Override
+        public Integer crossRegionBucketRegionCacheSize() {
+            return crossRegionBucketRegionCacheSize;
+        }
+
+        @Override
+        public Builder crossRegionBucketRegionCacheSize(Integer crossRegionBucketRegionCacheSize) {
+            this.crossRegionBucketRegionCacheSize = crossRegionBucketRegionCacheSize;
+            return this;
+        }
+
+        @Override
+        public Duration crossRegionBucketRegionCacheTtl() {
+            return crossRegionBucketRegionCacheTtl;
+        }
+
+        @Override
+        public Builder crossRegionBucketRegionCacheTtl(Duration crossRegionBucketRegionCacheTtl) {
+            this.crossRegionBucketRegionCacheTtl = crossRegionBucketRegionCacheTtl;
+            return this;
+        }
+
+        @Override
+        public List<String> crossRegionPrewarmBuckets() {
+            return crossRegionPrewarmBuckets;
+        }
+
+        @Override
+        public Builder crossRegionPrewarmBuckets(Collection<String> crossRegionPrewarmBuckets) {
+            this.crossRegionPrewarmBuckets = crossRegionPrewarmBuckets == null ? null
+                                                                               : new ArrayList<>(crossRegionPrewarmBuckets);
+            return this;
+        }
+
         @Override
         public S3Configuration build() {
             return new S3Configuration(this);
@@ -0,0 +1,48 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.crossregion;
+
+import software.amazon.awssdk.annotations.SdkPublicApi;
+import software.amazon.awssdk.metrics.MetricCategory;
+import software.amazon.awssdk.metrics.MetricLevel;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * Metrics reported by S3 clients with cross-region access enabled, in the metrics of the API calls to a bucket.
+ */
+@SdkPublicApi
+public final class S3CrossRegionMetric {
+    /**
+     * Whether the region of the bucket was already known by the client when the API call was made. If it was not, the API
+     * call is sent to the region of the client, and redirected if the bucket is in another region.
+     */
+    public static final SdkMetric<Boolean> BUCKET_REGION_CACHE_HIT =
+        metric("BucketRegionCacheHit", Boolean.class, MetricLevel.INFO);
+
+    /**
+     * Reported, with a value of true, on the API calls made again in the region of the bucket after S3 redirected an API
+     * call sent to another region.
+     */
+    public static final SdkMetric<Boolean> CROSS_REGION_REDIRECT =
+        metric("CrossRegionRedirect", Boolean.class, MetricLevel.INFO);
+
+    private S3CrossRegionMetric() {
+    }
+
+    private static <T> SdkMetric<T> metric(String name, Class<T> clzz, MetricLevel level) {
+        return SdkMetric.create(name, clzz, level, MetricCategory.CUSTOM);
+    }
+}
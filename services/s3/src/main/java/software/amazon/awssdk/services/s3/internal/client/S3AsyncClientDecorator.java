@@ -23,6 +23,7 @@ import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.endpoints.S3ClientContextParams;
 import software.amazon.awssdk.services.s3.internal.crossregion.S3CrossRegionAsyncClient;
 import software.amazon.awssdk.services.s3.internal.multipart.MultipartS3AsyncClient;
@@ -46,7 +47,7 @@ public class S3AsyncClientDecorator {
         List<ConditionalDecorator<S3AsyncClient>> decorators = new ArrayList<>();
         decorators.add(ConditionalDecorator.create(
             isCrossRegionEnabledAsync(clientContextParams),
-            S3CrossRegionAsyncClient::new));
+            client -> new S3CrossRegionAsyncClient(client, serviceConfiguration(clientConfiguration))));
 
         decorators.add(ConditionalDecorator.create(
             isMultipartEnable(clientContextParams),
@@ -68,4 +69,10 @@ public class S3AsyncClientDecorator {
         Boolean multipartEnabled = clientContextParams.get(MULTIPART_ENABLED_KEY);
         return client -> multipartEnabled != null && multipartEnabled.booleanValue();
     }
+
+    private static S3Configuration serviceConfiguration(SdkClientConfiguration clientConfiguration) {
+        S3Configuration serviceConfiguration =
+            (S3Configuration) clientConfiguration.option(SdkClientOption.SERVICE_CONFIGURATION);
+        return serviceConfiguration != null ? serviceConfiguration : S3Configuration.builder().build();
+    }
 }
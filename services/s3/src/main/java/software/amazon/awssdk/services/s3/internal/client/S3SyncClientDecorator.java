@@ -22,6 +22,7 @@ import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
 import software.amazon.awssdk.core.client.config.SdkClientOption;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.endpoints.S3ClientContextParams;
 import software.amazon.awssdk.services.s3.internal.crossregion.S3CrossRegionSyncClient;
 import software.amazon.awssdk.utils.AttributeMap;
@@ -37,8 +38,9 @@ public class S3SyncClientDecorator {
                              SdkClientConfiguration clientConfiguration) {
         AttributeMap clientContextParams = clientConfiguration.option(SdkClientOption.CLIENT_CONTEXT_PARAMS);
         List<ConditionalDecorator<S3Client>> decorators = new ArrayList<>();
-        decorators.add(ConditionalDecorator.create(isCrossRegionEnabledSync(clientContextParams),
-                                                   S3CrossRegionSyncClient::new));
+        decorators.add(ConditionalDecorator.create(
+            isCrossRegionEnabledSync(clientContextParams),
+            client -> new S3CrossRegionSyncClient(client, serviceConfiguration(clientConfiguration))));
 
         return ConditionalDecorator.decorate(base, decorators);
     }
@@ -47,4 +49,10 @@ public class S3SyncClientDecorator {
         Boolean crossRegionEnabled = clientContextParams.get(S3ClientContextParams.CROSS_REGION_ACCESS_ENABLED);
         return  client ->  crossRegionEnabled != null && crossRegionEnabled.booleanValue();
     }
+
+    private static S3Configuration serviceConfiguration(SdkClientConfiguration clientConfiguration) {
+        S3Configuration serviceConfiguration =
+            (S3Configuration) clientConfiguration.option(SdkClientOption.SERVICE_CONFIGURATION);
+        return serviceConfiguration != null ? serviceConfiguration : S3Configuration.builder().build();
+    }
 }
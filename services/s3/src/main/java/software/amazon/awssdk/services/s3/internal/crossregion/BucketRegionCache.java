@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * The regions of the buckets accessed by a cross-region client, bounded in size and expiring a fixed time after they are
+ * learned, so that a client accessing many buckets does not retain all of them, and the region of a bucket is eventually
+ * looked up again.
+ * <p>
+ * Reads are lock-free. When the cache grows over its maximum size, expired entries are removed and, if that is not enough,
+ * the oldest entries, until the cache is a tenth under its maximum size so that the cost of a sweep is shared by many
+ * writes.
+ */
+@SdkInternalApi
+@ThreadSafe
+public final class BucketRegionCache {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final int maxSize;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    private BucketRegionCache(int maxSize, Duration ttl, LongSupplier nanoTime) {
+        this.maxSize = Validate.isPositive(maxSize, "maxSize");
+        this.ttlNanos = Validate.isPositive(ttl, "ttl").toNanos();
+        this.nanoTime = nanoTime;
+    }
+
+    public static BucketRegionCache create(int maxSize, Duration ttl) {
+        return new BucketRegionCache(maxSize, ttl, System::nanoTime);
+    }
+
+    static BucketRegionCache create(int maxSize, Duration ttl, LongSupplier nanoTime) {
+        return new BucketRegionCache(maxSize, ttl, nanoTime);
+    }
+
+    /**
+     * Returns the region of the bucket, or null if it is not known or has expired.
+     */
+    public Region get(String bucket) {
+        Entry entry = entries.get(bucket);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(nanoTime.getAsLong())) {
+            entries.remove(bucket, entry);
+            return null;
+        }
+        return entry.region;
+    }
+
+    public void put(String bucket, Region region) {
+        entries.put(bucket, new Entry(region, nanoTime.getAsLong() + ttlNanos));
+        evictIfNeeded();
+    }
+
+    public void remove(String bucket) {
+        entries.remove(bucket);
+    }
+
+    /**
+     * Returns the region of the bucket, loading it if it is not known or has expired. Nothing is cached if the loader
+     * returns null.
+     */
+    public Region computeIfAbsent(String bucket, Function<String, Region> loader) {
+        long now = nanoTime.getAsLong();
+        Entry entry = entries.compute(bucket, (b, existing) -> {
+            if (existing != null && !existing.isExpired(now)) {
+                return existing;
+            }
+            Region region = loader.apply(b);
+            return region == null ? null : new Entry(region, nanoTime.getAsLong() + ttlNanos);
+        });
+        evictIfNeeded();
+        return entry == null ? null : entry.region;
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictIfNeeded() {
+        if (entries.size() <= maxSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            long now = nanoTime.getAsLong();
+            entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+
+            int excess = entries.size() - (maxSize - maxSize / 10);
+            if (excess <= 0) {
+                return;
+            }
+            List<Map.Entry<String, Entry>> oldestFirst = new ArrayList<>(entries.entrySet());
+            oldestFirst.sort(Comparator.comparingLong(e -> e.getValue().expiresAtNanos));
+            for (int i = 0; i < excess && i < oldestFirst.size(); i++) {
+                Map.Entry<String, Entry> oldest = oldestFirst.get(i);
+                entries.remove(oldest.getKey(), oldest.getValue());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Entry {
+        private final Region region;
+        private final long expiresAtNanos;
+
+        private Entry(Region region, long expiresAtNanos) {
+            this.region = region;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
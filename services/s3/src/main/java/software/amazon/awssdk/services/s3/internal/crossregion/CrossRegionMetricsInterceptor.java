@@ -0,0 +1,51 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.metrics.MetricCollector;
+import software.amazon.awssdk.services.s3.crossregion.S3CrossRegionMetric;
+
+/**
+ * Reports the {@link S3CrossRegionMetric}s of the requests sent by the cross-region clients, which cannot access the metric
+ * collector of the API calls they make, in the metrics of these API calls.
+ */
+@SdkInternalApi
+public final class CrossRegionMetricsInterceptor implements ExecutionInterceptor {
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        Boolean cacheHit = executionAttributes.getAttribute(S3CrossRegionExecutionAttribute.BUCKET_REGION_CACHE_HIT);
+        Boolean redirect = executionAttributes.getAttribute(S3CrossRegionExecutionAttribute.CROSS_REGION_REDIRECT);
+        if (cacheHit == null && redirect == null) {
+            return;
+        }
+        MetricCollector metricCollector = executionAttributes.getAttribute(SdkExecutionAttribute.API_CALL_METRIC_COLLECTOR);
+        if (metricCollector == null) {
+            return;
+        }
+        if (cacheHit != null) {
+            metricCollector.reportMetric(S3CrossRegionMetric.BUCKET_REGION_CACHE_HIT, cacheHit);
+        }
+        if (redirect != null) {
+            metricCollector.reportMetric(S3CrossRegionMetric.CROSS_REGION_REDIRECT, redirect);
+        }
+    }
+}
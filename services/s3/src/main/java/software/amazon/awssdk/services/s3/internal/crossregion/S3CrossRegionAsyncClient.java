@@ -20,10 +20,11 @@ import static software.amazon.awssdk.services.s3.internal.crossregion.utils.Cros
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithDecoratedEndpointProvider;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.updateUserAgentInConfig;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -31,22 +32,45 @@ import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.DelegatingS3AsyncClient;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Request;
 import software.amazon.awssdk.utils.CompletableFutureUtils;
+import software.amazon.awssdk.utils.Logger;
 
 @SdkInternalApi
 public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
+    private static final Logger log = Logger.loggerFor(S3CrossRegionAsyncClient.class);
 
-    private final Map<String, Region> bucketToRegionCache = new ConcurrentHashMap<>();
+    private final BucketRegionCache bucketToRegionCache;
+    private final List<String> prewarmBuckets;
+    private final AtomicBoolean prewarmStarted = new AtomicBoolean();
 
     public S3CrossRegionAsyncClient(S3AsyncClient s3Client) {
+        this(s3Client, S3Configuration.builder().build());
+    }
+
+    public S3CrossRegionAsyncClient(S3AsyncClient s3Client, S3Configuration serviceConfiguration) {
+        this(s3Client,
+             BucketRegionCache.create(serviceConfiguration.crossRegionBucketRegionCacheSize(),
+                                      serviceConfiguration.crossRegionBucketRegionCacheTtl()),
+             serviceConfiguration.crossRegionPrewarmBuckets());
+    }
+
+    /**
+     * @param prewarmBuckets buckets whose region is looked up in the background when the first request is made, so that the
+     * requests to them made after the lookup completes are sent to the right region.
+     */
+    S3CrossRegionAsyncClient(S3AsyncClient s3Client, BucketRegionCache bucketToRegionCache, List<String> prewarmBuckets) {
         super(s3Client);
+        this.bucketToRegionCache = bucketToRegionCache;
+        this.prewarmBuckets = prewarmBuckets;
     }
 
     @Override
     protected <T extends S3Request, ReturnT> CompletableFuture<ReturnT> invokeOperation(
         T request, Function<T, CompletableFuture<ReturnT>> operation) {
+        prewarmOnce();
 
         Optional<String> bucket = request.getValueForField("Bucket", String.class);
 
@@ -56,12 +80,15 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
             return operation.apply(userAgentUpdatedRequest);
         }
         String bucketName = bucket.get();
+        Region cachedRegion = bucketToRegionCache.get(bucketName);
 
         CompletableFuture<ReturnT> returnFuture = new CompletableFuture<>();
         CompletableFuture<ReturnT> apiOperationFuture = operation.apply(
             requestWithDecoratedEndpointProvider(userAgentUpdatedRequest,
-                                                 () -> bucketToRegionCache.get(bucketName),
-                                                 serviceClientConfiguration().endpointProvider().get())
+                                                 () -> cachedRegion,
+                                                 serviceClientConfiguration().endpointProvider().get(),
+                                                 S3CrossRegionExecutionAttribute.BUCKET_REGION_CACHE_HIT,
+                                                 cachedRegion != null)
         );
         apiOperationFuture.whenComplete(redirectToCrossRegionIfRedirectException(operation,
                                                                                  userAgentUpdatedRequest,
@@ -135,8 +162,32 @@ public final class S3CrossRegionAsyncClient extends DelegatingS3AsyncClient {
         CompletableFuture<ReturnT> newFuture = operation.apply(
             requestWithDecoratedEndpointProvider(request,
                                                  () -> Region.of(region),
-                                                 serviceClientConfiguration().endpointProvider().get()));
+                                                 serviceClientConfiguration().endpointProvider().get(),
+                                                 S3CrossRegionExecutionAttribute.CROSS_REGION_REDIRECT,
+                                                 true));
         CompletableFutureUtils.forwardResultTo(newFuture, returnFuture);
         CompletableFutureUtils.forwardExceptionTo(returnFuture, newFuture);
     }
-}
\ No newline at end of file
+
+    private void prewarmOnce() {
+        if (!prewarmBuckets.isEmpty() && prewarmStarted.compareAndSet(false, true)) {
+            prewarmBuckets.forEach(this::prewarm);
+        }
+    }
+
+    private void prewarm(String bucketName) {
+        ((S3AsyncClient) delegate()).headBucket(b -> b.bucket(bucketName)).whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                if (response.bucketRegion() != null) {
+                    bucketToRegionCache.put(bucketName, Region.of(response.bucketRegion()));
+                }
+            } else if (isS3RedirectException(throwable)) {
+                Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+                getBucketRegionFromException((S3Exception) cause)
+                    .ifPresent(region -> bucketToRegionCache.put(bucketName, Region.of(region)));
+            } else {
+                log.debug(() -> "Unable to look up the region of bucket " + bucketName, throwable);
+            }
+        });
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.services.s3.crossregion.S3CrossRegionMetric;
+
+/**
+ * Attributes set by the cross-region clients on the requests they send, to be reported as {@link S3CrossRegionMetric}s by
+ * the {@link CrossRegionMetricsInterceptor}.
+ */
+@SdkInternalApi
+public final class S3CrossRegionExecutionAttribute {
+    public static final ExecutionAttribute<Boolean> BUCKET_REGION_CACHE_HIT =
+        new ExecutionAttribute<>("S3CrossRegion.BucketRegionCacheHit");
+
+    public static final ExecutionAttribute<Boolean> CROSS_REGION_REDIRECT =
+        new ExecutionAttribute<>("S3CrossRegion.CrossRegionRedirect");
+
+    private S3CrossRegionExecutionAttribute() {
+    }
+}
@@ -20,18 +20,23 @@ import static software.amazon.awssdk.services.s3.internal.crossregion.utils.Cros
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.requestWithDecoratedEndpointProvider;
 import static software.amazon.awssdk.services.s3.internal.crossregion.utils.CrossRegionUtils.updateUserAgentInConfig;
 
-import java.util.Map;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.DelegatingS3Client;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
 import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Request;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.ThreadFactoryBuilder;
 
 /**
  * Decorator S3 Sync client that will fetch the region name whenever there is Redirect 301 error due to cross region bucket
@@ -39,11 +44,36 @@ import software.amazon.awssdk.services.s3.model.S3Request;
  */
 @SdkInternalApi
 public final class S3CrossRegionSyncClient extends DelegatingS3Client {
+    private static final Logger log = Logger.loggerFor(S3CrossRegionSyncClient.class);
 
-    private final Map<String, Region> bucketToRegionCache = new ConcurrentHashMap<>();
+    private final BucketRegionCache bucketToRegionCache;
+    private final List<String> prewarmBuckets;
+    private final Executor prewarmExecutor;
+    private final AtomicBoolean prewarmStarted = new AtomicBoolean();
 
     public S3CrossRegionSyncClient(S3Client s3Client) {
+        this(s3Client, S3Configuration.builder().build());
+    }
+
+    public S3CrossRegionSyncClient(S3Client s3Client, S3Configuration serviceConfiguration) {
+        this(s3Client,
+             BucketRegionCache.create(serviceConfiguration.crossRegionBucketRegionCacheSize(),
+                                      serviceConfiguration.crossRegionBucketRegionCacheTtl()),
+             serviceConfiguration.crossRegionPrewarmBuckets(),
+             S3CrossRegionSyncClient::startPrewarmThread);
+    }
+
+    /**
+     * @param prewarmBuckets buckets whose region is looked up in the background when the first request is made, so that the
+     * requests to them made after the lookup completes are sent to the right region.
+     * @param prewarmExecutor the executor the lookups run on, so that they never delay the request that triggers them.
+     */
+    S3CrossRegionSyncClient(S3Client s3Client, BucketRegionCache bucketToRegionCache, List<String> prewarmBuckets,
+                            Executor prewarmExecutor) {
         super(s3Client);
+        this.bucketToRegionCache = bucketToRegionCache;
+        this.prewarmBuckets = prewarmBuckets;
+        this.prewarmExecutor = prewarmExecutor;
     }
 
     private static <T extends S3Request> Optional<String> bucketNameFromRequest(T request) {
@@ -52,6 +82,7 @@ public final class S3CrossRegionSyncClient extends DelegatingS3Client {
 
     @Override
     protected <T extends S3Request, ReturnT> ReturnT invokeOperation(T request, Function<T, ReturnT> operation) {
+        prewarmOnce();
 
         Optional<String> bucketRequest = bucketNameFromRequest(request);
 
@@ -63,11 +94,14 @@ public final class S3CrossRegionSyncClient extends DelegatingS3Client {
             return operation.apply(userAgentUpdatedRequest);
         }
         String bucketName = bucketRequest.get();
+        Region cachedRegion = bucketToRegionCache.get(bucketName);
         try {
             return operation.apply(
                 requestWithDecoratedEndpointProvider(userAgentUpdatedRequest,
-                                                     () -> bucketToRegionCache.get(bucketName),
-                                                     serviceClientConfiguration().endpointProvider().get()));
+                                                     () -> cachedRegion,
+                                                     serviceClientConfiguration().endpointProvider().get(),
+                                                     S3CrossRegionExecutionAttribute.BUCKET_REGION_CACHE_HIT,
+                                                     cachedRegion != null));
         } catch (S3Exception exception) {
             if (isS3RedirectException(exception)) {
                 updateCacheFromRedirectException(exception, bucketName);
@@ -75,12 +109,46 @@ public final class S3CrossRegionSyncClient extends DelegatingS3Client {
                     requestWithDecoratedEndpointProvider(
                         userAgentUpdatedRequest,
                         () -> bucketToRegionCache.computeIfAbsent(bucketName, this::fetchBucketRegion),
-                        serviceClientConfiguration().endpointProvider().get()));
+                        serviceClientConfiguration().endpointProvider().get(),
+                        S3CrossRegionExecutionAttribute.CROSS_REGION_REDIRECT,
+                        true));
             }
             throw exception;
         }
     }
 
+    private void prewarmOnce() {
+        if (!prewarmBuckets.isEmpty() && prewarmStarted.compareAndSet(false, true)) {
+            prewarmExecutor.execute(() -> prewarmBuckets.forEach(this::prewarm));
+        }
+    }
+
+    /**
+     * Runs the lookups on a daemon thread of their own, which ends with them, so that the client has no thread to shut down.
+     */
+    private static void startPrewarmThread(Runnable prewarm) {
+        new ThreadFactoryBuilder().threadNamePrefix("s3-cross-region-prewarm").build().newThread(prewarm).start();
+    }
+
+    private void prewarm(String bucketName) {
+        try {
+            HeadBucketResponse response =
+                ((S3Client) delegate()).headBucket(HeadBucketRequest.builder().bucket(bucketName).build());
+            if (response.bucketRegion() != null) {
+                bucketToRegionCache.put(bucketName, Region.of(response.bucketRegion()));
+            }
+        } catch (S3Exception exception) {
+            if (isS3RedirectException(exception)) {
+                getBucketRegionFromException(exception)
+                    .ifPresent(region -> bucketToRegionCache.put(bucketName, Region.of(region)));
+            } else {
+                log.debug(() -> "Unable to look up the region of bucket " + bucketName, exception);
+            }
+        } catch (RuntimeException e) {
+            log.debug(() -> "Unable to look up the region of bucket " + bucketName, e);
+        }
+    }
+
     private void updateCacheFromRedirectException(S3Exception exception, String bucketName) {
         Optional<String> regionStr = getBucketRegionFromException(exception);
         // If redirected, clear previous values due to region change.
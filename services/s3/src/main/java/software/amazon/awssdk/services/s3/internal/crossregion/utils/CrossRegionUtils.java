@@ -25,6 +25,7 @@ import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
 import software.amazon.awssdk.core.ApiName;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
 import software.amazon.awssdk.endpoints.EndpointProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
@@ -75,9 +76,15 @@ public final class CrossRegionUtils {
         return getBucketRegionFromException(exceptionToBeChecked).isPresent();
     }
 
+    /**
+     * Returns the request with its endpoint provider decorated to resolve the endpoint of the supplied region, and with the
+     * execution attribute set, for the {@code CrossRegionMetricsInterceptor} to report it, in the same copy of the request.
+     */
     @SuppressWarnings("unchecked")
-    public static <T extends S3Request> T requestWithDecoratedEndpointProvider(T request, Supplier<Region> regionSupplier,
-                                                                               EndpointProvider clientEndpointProvider) {
+    public static <T extends S3Request, V> T requestWithDecoratedEndpointProvider(T request, Supplier<Region> regionSupplier,
+                                                                                  EndpointProvider clientEndpointProvider,
+                                                                                  ExecutionAttribute<V> metricAttribute,
+                                                                                  V metricValue) {
         AwsRequestOverrideConfiguration requestOverrideConfig =
             request.overrideConfiguration().orElseGet(() -> AwsRequestOverrideConfiguration.builder().build());
 
@@ -88,6 +95,7 @@ public final class CrossRegionUtils {
                               requestOverrideConfig.toBuilder()
                                                    .endpointProvider(
                                                        BucketEndpointProvider.create(delegateEndpointProvider, regionSupplier))
+                                                   .putExecutionAttribute(metricAttribute, metricValue)
                                                    .build())
                           .build();
     }
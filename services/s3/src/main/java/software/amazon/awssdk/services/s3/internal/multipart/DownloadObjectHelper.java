@@ -15,8 +15,8 @@
 
 package software.amazon.awssdk.services.s3.internal.multipart;
 
-import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Subscriber;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.core.SplittingTransformerConfiguration;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
@@ -31,10 +31,16 @@ public class DownloadObjectHelper {
 
     private final S3AsyncClient s3AsyncClient;
     private final long bufferSizeInBytes;
+    private final int maxInFlightParts;
 
     public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes) {
+        this(s3AsyncClient, bufferSizeInBytes, 1);
+    }
+
+    public DownloadObjectHelper(S3AsyncClient s3AsyncClient, long bufferSizeInBytes, int maxInFlightParts) {
         this.s3AsyncClient = s3AsyncClient;
         this.bufferSizeInBytes = bufferSizeInBytes;
+        this.maxInFlightParts = maxInFlightParts;
     }
 
     public <T> CompletableFuture<T> downloadObject(
@@ -43,21 +49,34 @@ public class DownloadObjectHelper {
             logSinglePartMessage(getObjectRequest);
             return s3AsyncClient.getObject(getObjectRequest, asyncResponseTransformer);
         }
+        int highestSequentialCompletedPart =
+            MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
+                                  .map(MultipartDownloadResumeContext::highestSequentialCompletedPart)
+                                  .orElse(0);
+        // resumed downloads always continue sequentially from the highest sequentially completed part
+        boolean serial = highestSequentialCompletedPart > 0 || maxInFlightParts == 1;
         AsyncResponseTransformer.SplitResult<GetObjectResponse, T> split =
             asyncResponseTransformer.split(SplittingTransformerConfiguration.builder()
                                                                             .bufferSizeInBytes(bufferSizeInBytes)
+                                                                            .parallelSplit(!serial)
                                                                             .build());
-        MultipartDownloaderSubscriber subscriber = subscriber(getObjectRequest);
-        split.publisher().subscribe(subscriber);
+        split.publisher().subscribe(subscriber(getObjectRequest, highestSequentialCompletedPart, serial,
+                                               split.parallelSplitSupported()));
         return split.resultFuture();
     }
 
-    private MultipartDownloaderSubscriber subscriber(GetObjectRequest getObjectRequest) {
-        Optional<MultipartDownloadResumeContext> multipartDownloadContext =
-            MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest);
-        return multipartDownloadContext
-            .map(ctx -> new MultipartDownloaderSubscriber(s3AsyncClient, getObjectRequest, ctx.highestSequentialCompletedPart()))
-            .orElseGet(() -> new MultipartDownloaderSubscriber(s3AsyncClient, getObjectRequest));
+    private Subscriber<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> subscriber(
+        GetObjectRequest getObjectRequest, int highestSequentialCompletedPart, boolean serial, boolean parallelSplitSupported) {
+        if (serial) {
+            return new MultipartDownloaderSubscriber(s3AsyncClient, getObjectRequest, highestSequentialCompletedPart);
+        }
+        if (parallelSplitSupported) {
+            log.debug(() -> String.format("Using parallel multipart download with up to %d parts in flight", maxInFlightParts));
+            return new ParallelMultipartDownloaderSubscriber(s3AsyncClient, getObjectRequest, maxInFlightParts);
+        }
+        log.debug(() -> String.format("Using multipart download buffering up to %d parts in flight", maxInFlightParts));
+        return new ReorderingMultipartDownloaderSubscriber(s3AsyncClient, getObjectRequest, maxInFlightParts,
+                                                           bufferSizeInBytes);
     }
 
     private void logSinglePartMessage(GetObjectRequest getObjectRequest) {
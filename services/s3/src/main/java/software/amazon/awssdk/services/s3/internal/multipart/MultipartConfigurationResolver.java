@@ -26,9 +26,11 @@ import software.amazon.awssdk.utils.Validate;
 public final class MultipartConfigurationResolver {
 
     private static final long DEFAULT_MIN_PART_SIZE = 8L * 1024 * 1024;
+    private static final int DEFAULT_MAX_IN_FLIGHT_PARTS = 1;
     private final long minimalPartSizeInBytes;
     private final long apiCallBufferSize;
     private final long thresholdInBytes;
+    private final int maxInFlightParts;
 
     public MultipartConfigurationResolver(MultipartConfiguration multipartConfiguration) {
         Validate.notNull(multipartConfiguration, "multipartConfiguration");
@@ -37,6 +39,9 @@ public final class MultipartConfigurationResolver {
         this.apiCallBufferSize = Validate.getOrDefault(multipartConfiguration.apiCallBufferSizeInBytes(),
                                                        () -> minimalPartSizeInBytes * 4);
         this.thresholdInBytes = Validate.getOrDefault(multipartConfiguration.thresholdInBytes(), () -> minimalPartSizeInBytes);
+        this.maxInFlightParts = Validate.isPositive(Validate.getOrDefault(multipartConfiguration.maxInFlightParts(),
+                                                                          () -> DEFAULT_MAX_IN_FLIGHT_PARTS),
+                                                    "maxInFlightParts");
     }
 
     public long minimalPartSizeInBytes() {
@@ -50,4 +55,8 @@ public final class MultipartConfigurationResolver {
     public long apiCallBufferSize() {
         return apiCallBufferSize;
     }
+
+    public int maxInFlightParts() {
+        return maxInFlightParts;
+    }
 }
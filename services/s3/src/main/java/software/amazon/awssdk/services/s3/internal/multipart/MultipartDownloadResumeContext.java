@@ -17,7 +17,9 @@ package software.amazon.awssdk.services.s3.internal.multipart;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import software.amazon.awssdk.annotations.SdkInternalApi;
@@ -26,7 +28,8 @@ import software.amazon.awssdk.utils.ToString;
 import software.amazon.awssdk.utils.Validate;
 
 /**
- * This class keep tracks of the state of a multipart download across multipart GET requests.
+ * This class keep tracks of the state of a multipart download across multipart GET requests. Parts may be completed
+ * concurrently and out of order when the multipart download is performed with more than one part in flight.
  */
 @SdkInternalApi
 public class MultipartDownloadResumeContext {
@@ -41,6 +44,11 @@ public class MultipartDownloadResumeContext {
      */
     private Long bytesToLastCompletedParts;
 
+    /**
+     * The size of the parts completed out of order, that are not yet accounted for in {@link #bytesToLastCompletedParts}.
+     */
+    private final Map<Integer, Long> outOfOrderPartSizes = new HashMap<>();
+
     /**
      * The total number of parts of the multipart download.
      */
@@ -62,45 +70,70 @@ public class MultipartDownloadResumeContext {
             bytesToLastCompletedParts, "bytesToLastCompletedParts must not be null");
     }
 
-    public List<Integer> completedParts() {
+    public synchronized List<Integer> completedParts() {
         return Arrays.asList(completedParts.toArray(new Integer[0]));
     }
 
-    public Long bytesToLastCompletedParts() {
+    public synchronized Long bytesToLastCompletedParts() {
         return bytesToLastCompletedParts;
     }
 
-    public void addCompletedPart(int partNumber) {
+    public synchronized void addCompletedPart(int partNumber) {
         completedParts.add(partNumber);
     }
 
-    public void addToBytesToLastCompletedParts(long bytes) {
+    public synchronized void addToBytesToLastCompletedParts(long bytes) {
         bytesToLastCompletedParts += bytes;
     }
 
-    public void totalParts(int totalParts) {
+    /**
+     * Marks a part as completed when parts may complete out of order. The size of the part is only added to
+     * {@link #bytesToLastCompletedParts()} once all the parts preceding it are completed, so that it always points to the last
+     * byte of the {@link #highestSequentialCompletedPart() highest sequentially completed part}.
+     *
+     * @param partNumber the number of the completed part
+     * @param partSizeInBytes the size of the completed part
+     */
+    public synchronized void addCompletedPart(int partNumber, long partSizeInBytes) {
+        int nextSequentialPart = highestSequentialCompletedPart() + 1;
+        completedParts.add(partNumber);
+        outOfOrderPartSizes.put(partNumber, partSizeInBytes);
+        Long partSize;
+        while ((partSize = outOfOrderPartSizes.remove(nextSequentialPart)) != null) {
+            bytesToLastCompletedParts += partSize;
+            nextSequentialPart++;
+        }
+    }
+
+    public synchronized void totalParts(int totalParts) {
         this.totalParts = totalParts;
     }
 
-    public Integer totalParts() {
+    public synchronized Integer totalParts() {
         return totalParts;
     }
 
-    public GetObjectResponse response() {
+    public synchronized GetObjectResponse response() {
         return this.response;
     }
 
-    public void response(GetObjectResponse response) {
+    public synchronized void response(GetObjectResponse response) {
         this.response = response;
     }
 
+    public synchronized void responseIfAbsent(GetObjectResponse response) {
+        if (this.response == null) {
+            this.response = response;
+        }
+    }
+
     /**
      * @return the highest sequentially completed part, 0 means no parts completed. Used for non-sequential operation when parts
      * may have been completed in a non-sequential order. For example, if parts [1, 2, 3, 6, 7, 10] were completed, this
      * method will return 3.
      *
      */
-    public int highestSequentialCompletedPart() {
+    public synchronized int highestSequentialCompletedPart() {
         if (completedParts.isEmpty() || completedParts.first() != 1) {
             return 0;
         }
@@ -126,7 +159,7 @@ public class MultipartDownloadResumeContext {
      *
      * @return true if all parts were downloaded, false if not.
      */
-    public boolean isComplete() {
+    public synchronized boolean isComplete() {
         if (totalParts == null) {
             return false;
         }
@@ -134,7 +167,7 @@ public class MultipartDownloadResumeContext {
     }
 
     @Override
-    public String toString() {
+    public synchronized String toString() {
         return ToString.builder("MultipartDownloadContext")
                        .add("completedParts", completedParts)
                        .add("bytesToLastCompletedParts", bytesToLastCompletedParts)
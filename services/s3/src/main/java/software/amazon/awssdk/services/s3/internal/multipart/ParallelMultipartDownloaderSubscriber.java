@@ -0,0 +1,248 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A subscriber implementation that will download the individual parts of a multipart get-object request concurrently. It must
+ * only be used with a publisher of individual {@link AsyncResponseTransformer} that can receive their content in any order, see
+ * {@link AsyncResponseTransformer.SplitResult#parallelSplitSupported()}.
+ * <p>
+ * The first part is downloaded alone, to find the total number of parts and the ETag of the object. The remaining parts are then
+ * requested keeping at most {@code maxInFlightParts} part requests in flight. If the response of the first part does not
+ * contain a {@code Content-Range} header, the individual transformers cannot position the content of the parts themselves, and
+ * the remaining parts are downloaded one after the other.
+ * <p>
+ * This is a 'one-shot' class, it should <em>NOT</em> be reused for more than one multipart download.
+ */
+@SdkInternalApi
+public class ParallelMultipartDownloaderSubscriber
+    implements Subscriber<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> {
+    private static final Logger log = Logger.loggerFor(ParallelMultipartDownloaderSubscriber.class);
+
+    /**
+     * The s3 client used to make the individual part requests
+     */
+    private final S3AsyncClient s3;
+
+    /**
+     * The GetObjectRequest that was provided when calling s3.getObject(...). It is copied for each individual request, and the
+     * copy has the partNumber field updated for each part.
+     */
+    private final GetObjectRequest getObjectRequest;
+
+    /**
+     * The maximum number of part requests in flight at the same time.
+     */
+    private final int maxInFlightParts;
+
+    /**
+     * The part number that will be requested by the next individual transformer received.
+     */
+    private final AtomicInteger nextPartNumber = new AtomicInteger(1);
+
+    /**
+     * The total number of completed parts.
+     */
+    private final AtomicInteger completedParts = new AtomicInteger(0);
+
+    /**
+     * The GetObject futures currently in flight, so we can cancel them if onError() is invoked.
+     */
+    private final Map<Integer, CompletableFuture<GetObjectResponse>> getObjectFutures = new ConcurrentHashMap<>();
+
+    /**
+     * This future will be completed once this subscriber reaches a terminal state, failed or successfully, and will be completed
+     * accordingly.
+     */
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    /**
+     * The Subscription lock
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The total number of parts of the object to get. Null until the first part completes.
+     */
+    private volatile Integer totalParts;
+
+    /**
+     * The etag of the object being downloaded.
+     */
+    private volatile String eTag;
+
+    /**
+     * The number of individual transformers requested from the subscription so far. Guarded by {@link #lock}.
+     */
+    private int requestedParts;
+
+    /**
+     * The subscription received from the publisher this subscriber subscribes to.
+     */
+    private Subscription subscription;
+
+    public ParallelMultipartDownloaderSubscriber(S3AsyncClient s3, GetObjectRequest getObjectRequest, int maxInFlightParts) {
+        this.s3 = s3;
+        this.getObjectRequest = getObjectRequest;
+        this.maxInFlightParts = Validate.isPositive(maxInFlightParts, "maxInFlightParts");
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (this.subscription != null) {
+            s.cancel();
+            return;
+        }
+        this.subscription = s;
+        synchronized (lock) {
+            requestedParts = 1;
+        }
+        this.subscription.request(1);
+    }
+
+    @Override
+    public void onNext(AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        if (asyncResponseTransformer == null) {
+            subscription.cancel();
+            throw new NullPointerException("onNext must not be called with null asyncResponseTransformer");
+        }
+
+        int partNumber = nextPartNumber.getAndIncrement();
+        if (totalParts != null && partNumber > totalParts) {
+            log.debug(() -> String.format("Ignoring transformer for part %d, object only has %d parts", partNumber, totalParts));
+            return;
+        }
+
+        GetObjectRequest actualRequest = nextRequest(partNumber);
+        log.debug(() -> "Sending GetObjectRequest for part with partNumber=" + partNumber);
+        CompletableFuture<GetObjectResponse> getObjectFuture = s3.getObject(actualRequest, asyncResponseTransformer);
+        getObjectFutures.put(partNumber, getObjectFuture);
+        getObjectFuture.whenComplete((response, error) -> {
+            getObjectFutures.remove(partNumber);
+            if (error != null) {
+                log.debug(() -> "Error encountered during GetObjectRequest with partNumber=" + partNumber);
+                onError(error);
+                return;
+            }
+            if (partNumber == 1) {
+                onFirstPartCompleted(response);
+            } else {
+                onPartCompleted(partNumber, response);
+            }
+        });
+    }
+
+    private void onFirstPartCompleted(GetObjectResponse response) {
+        this.eTag = response.eTag();
+        Integer partCount = response.partsCount();
+        log.debug(() -> String.format("Multipart object ETag: %s, total amount of parts: %s", eTag, partCount));
+        if (partCount != null) {
+            MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
+                                  .ifPresent(ctx -> ctx.totalParts(partCount));
+        }
+        totalParts = partCount == null ? 1 : partCount;
+        recordCompletedPart(1, response);
+
+        if (completedParts.incrementAndGet() >= totalParts) {
+            complete();
+            return;
+        }
+
+        int concurrency = response.contentRange() == null ? 1 : maxInFlightParts;
+        if (concurrency == 1) {
+            log.debug(() -> "Response does not contain a Content-Range header, downloading remaining parts sequentially");
+        }
+        int toRequest;
+        synchronized (lock) {
+            toRequest = Math.min(concurrency, totalParts - requestedParts);
+            requestedParts += toRequest;
+        }
+        subscription.request(toRequest);
+    }
+
+    private void onPartCompleted(int partNumber, GetObjectResponse response) {
+        recordCompletedPart(partNumber, response);
+        int totalComplete = completedParts.incrementAndGet();
+        log.debug(() -> String.format("Completed part %d, %d out of %d parts completed", partNumber, totalComplete,
+                                      totalParts));
+        if (totalComplete >= totalParts) {
+            complete();
+            return;
+        }
+        boolean requestMore;
+        synchronized (lock) {
+            requestMore = requestedParts < totalParts;
+            if (requestMore) {
+                requestedParts++;
+            }
+        }
+        if (requestMore) {
+            subscription.request(1);
+        }
+    }
+
+    private void recordCompletedPart(int partNumber, GetObjectResponse response) {
+        long partSize = response.contentLength() == null ? 0 : response.contentLength();
+        MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
+                              .ifPresent(ctx -> {
+                                  ctx.addCompletedPart(partNumber, partSize);
+                                  ctx.responseIfAbsent(response);
+                              });
+    }
+
+    private void complete() {
+        log.debug(() -> String.format("Completing multipart download after a total of %d parts downloaded.", totalParts));
+        subscription.cancel();
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        getObjectFutures.values().forEach(partFuture -> partFuture.cancel(true));
+        future.completeExceptionally(t);
+    }
+
+    @Override
+    public void onComplete() {
+        future.complete(null);
+    }
+
+    public CompletableFuture<Void> future() {
+        return this.future;
+    }
+
+    private GetObjectRequest nextRequest(int partNumber) {
+        return getObjectRequest.copy(req -> {
+            req.partNumber(partNumber);
+            if (eTag != null) {
+                req.ifMatch(eTag);
+            }
+        });
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A subscriber implementation that will download the individual parts of a multipart get-object request concurrently, for
+ * publishers of individual {@link AsyncResponseTransformer} that must receive their content in order. Parts ahead of the one
+ * currently being delivered are downloaded into a bounded in-memory reorder buffer and handed to the individual transformers
+ * in order once they are requested.
+ * <p>
+ * The first part is downloaded directly into its transformer, to find the total number of parts, the ETag of the object and the
+ * part size. The number of parts buffered or being buffered at any time is then limited to {@code maxInFlightParts}, and to the
+ * number of parts fitting in {@code maxBufferSizeInBytes}.
+ * <p>
+ * This is a 'one-shot' class, it should <em>NOT</em> be reused for more than one multipart download.
+ */
+@SdkInternalApi
+public class ReorderingMultipartDownloaderSubscriber
+    implements Subscriber<AsyncResponseTransformer<GetObjectResponse, GetObjectResponse>> {
+    private static final Logger log = Logger.loggerFor(ReorderingMultipartDownloaderSubscriber.class);
+
+    /**
+     * The s3 client used to make the individual part requests
+     */
+    private final S3AsyncClient s3;
+
+    /**
+     * The GetObjectRequest that was provided when calling s3.getObject(...). It is copied for each individual request, and the
+     * copy has the partNumber field updated for each part.
+     */
+    private final GetObjectRequest getObjectRequest;
+
+    /**
+     * The maximum number of part requests in flight at the same time.
+     */
+    private final int maxInFlightParts;
+
+    /**
+     * The maximum amount of memory used to buffer parts received ahead of the one currently being delivered.
+     */
+    private final long maxBufferSizeInBytes;
+
+    /**
+     * The reorder buffer, containing the parts being downloaded or downloaded but not yet delivered, by part number.
+     */
+    private final Map<Integer, CompletableFuture<ResponseBytes<GetObjectResponse>>> bufferedParts = new ConcurrentHashMap<>();
+
+    /**
+     * This future will be completed once this subscriber reaches a terminal state, failed or successfully, and will be completed
+     * accordingly.
+     */
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+    /**
+     * The lock guarding the reorder buffer window.
+     */
+    private final Object lock = new Object();
+
+    /**
+     * The total number of parts of the object to get. Null until the first part completes.
+     */
+    private volatile Integer totalParts;
+
+    /**
+     * The etag of the object being downloaded.
+     */
+    private volatile String eTag;
+
+    /**
+     * The maximum number of parts in the reorder buffer, computed once the size of the first part is known.
+     */
+    private volatile int bufferWindow = 1;
+
+    /**
+     * The part number that will be delivered to the next individual transformer received. Only accessed in onNext, which is
+     * invoked serially.
+     */
+    private int nextPartToDeliver = 1;
+
+    /**
+     * The part number of the next part to download into the reorder buffer. Guarded by {@link #lock}.
+     */
+    private int nextPartToBuffer = 2;
+
+    /**
+     * The subscription received from the publisher this subscriber subscribes to.
+     */
+    private Subscription subscription;
+
+    public ReorderingMultipartDownloaderSubscriber(S3AsyncClient s3, GetObjectRequest getObjectRequest, int maxInFlightParts,
+                                                   long maxBufferSizeInBytes) {
+        this.s3 = s3;
+        this.getObjectRequest = getObjectRequest;
+        this.maxInFlightParts = Validate.isPositive(maxInFlightParts, "maxInFlightParts");
+        this.maxBufferSizeInBytes = Validate.isPositive(maxBufferSizeInBytes, "maxBufferSizeInBytes");
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (this.subscription != null) {
+            s.cancel();
+            return;
+        }
+        this.subscription = s;
+        this.subscription.request(1);
+    }
+
+    @Override
+    public void onNext(AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        if (asyncResponseTransformer == null) {
+            subscription.cancel();
+            throw new NullPointerException("onNext must not be called with null asyncResponseTransformer");
+        }
+
+        int partNumber = nextPartToDeliver++;
+        if (partNumber == 1) {
+            downloadFirstPart(asyncResponseTransformer);
+            return;
+        }
+
+        CompletableFuture<ResponseBytes<GetObjectResponse>> bufferedPart = bufferedParts.get(partNumber);
+        if (bufferedPart == null) {
+            onError(new IllegalStateException("Part " + partNumber + " was not buffered"));
+            return;
+        }
+        bufferedPart.whenComplete((bytes, error) -> {
+            if (error != null) {
+                log.debug(() -> "Error encountered during GetObjectRequest with partNumber=" + partNumber);
+                asyncResponseTransformer.prepare();
+                asyncResponseTransformer.exceptionOccurred(error);
+                onError(error);
+                return;
+            }
+            deliver(partNumber, bytes, asyncResponseTransformer);
+        });
+    }
+
+    private void downloadFirstPart(AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        log.debug(() -> "Sending GetObjectRequest for first part with partNumber=1");
+        CompletableFuture<GetObjectResponse> getObjectFuture = s3.getObject(partRequest(1), asyncResponseTransformer);
+        getObjectFuture.whenComplete((response, error) -> {
+            if (error != null) {
+                log.debug(() -> "Error encountered during GetObjectRequest with partNumber=1");
+                onError(error);
+                return;
+            }
+            this.eTag = response.eTag();
+            Integer partCount = response.partsCount();
+            log.debug(() -> String.format("Multipart object ETag: %s, total amount of parts: %s", eTag, partCount));
+            if (partCount != null) {
+                MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
+                                      .ifPresent(ctx -> ctx.totalParts(partCount));
+            }
+            totalParts = partCount == null ? 1 : partCount;
+
+            long partSize = response.contentLength() == null ? 0 : response.contentLength();
+            long partsFittingInBuffer = partSize == 0 ? maxInFlightParts : maxBufferSizeInBytes / partSize;
+            bufferWindow = (int) Math.max(1, Math.min(maxInFlightParts, partsFittingInBuffer));
+            log.debug(() -> String.format("Buffering up to %d parts ahead", bufferWindow));
+
+            onPartDelivered(1, response);
+        });
+    }
+
+    private void deliver(int partNumber,
+                         ResponseBytes<GetObjectResponse> bytes,
+                         AsyncResponseTransformer<GetObjectResponse, GetObjectResponse> asyncResponseTransformer) {
+        CompletableFuture<GetObjectResponse> deliveredFuture;
+        try {
+            deliveredFuture = asyncResponseTransformer.prepare();
+            asyncResponseTransformer.onResponse(bytes.response());
+            asyncResponseTransformer.onStream(AsyncRequestBody.fromBytesUnsafe(bytes.asByteArrayUnsafe()));
+        } catch (Throwable t) {
+            asyncResponseTransformer.exceptionOccurred(t);
+            onError(t);
+            return;
+        }
+        deliveredFuture.whenComplete((response, error) -> {
+            bufferedParts.remove(partNumber);
+            if (error != null) {
+                log.debug(() -> "Error encountered while delivering part with partNumber=" + partNumber);
+                onError(error);
+                return;
+            }
+            onPartDelivered(partNumber, bytes.response());
+        });
+    }
+
+    private void onPartDelivered(int partNumber, GetObjectResponse response) {
+        long partSize = response.contentLength() == null ? 0 : response.contentLength();
+        MultipartDownloadUtils.multipartDownloadResumeContext(getObjectRequest)
+                              .ifPresent(ctx -> {
+                                  ctx.addCompletedPart(partNumber);
+                                  ctx.addToBytesToLastCompletedParts(partSize);
+                                  ctx.responseIfAbsent(response);
+                              });
+        log.debug(() -> String.format("Completed part %d", partNumber));
+
+        if (partNumber >= totalParts) {
+            log.debug(() -> String.format("Completing multipart download after a total of %d parts downloaded.", totalParts));
+            subscription.cancel();
+            return;
+        }
+        fillBuffer();
+        subscription.request(1);
+    }
+
+    private void fillBuffer() {
+        synchronized (lock) {
+            while (nextPartToBuffer <= totalParts && bufferedParts.size() < bufferWindow && !future.isDone()) {
+                int partNumber = nextPartToBuffer++;
+                log.debug(() -> "Sending GetObjectRequest to buffer part with partNumber=" + partNumber);
+                bufferedParts.put(partNumber, s3.getObject(partRequest(partNumber), AsyncResponseTransformer.toBytes()));
+            }
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        bufferedParts.values().forEach(partFuture -> partFuture.cancel(true));
+        bufferedParts.clear();
+        future.completeExceptionally(t);
+    }
+
+    @Override
+    public void onComplete() {
+        future.complete(null);
+    }
+
+    public CompletableFuture<Void> future() {
+        return this.future;
+    }
+
+    private GetObjectRequest partRequest(int partNumber) {
+        return getObjectRequest.copy(req -> {
+            req.partNumber(partNumber);
+            if (eTag != null) {
+                req.ifMatch(eTag);
+            }
+        });
+    }
+}
@@ -44,11 +44,13 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
     private final Long thresholdInBytes;
     private final Long minimumPartSizeInBytes;
     private final Long apiCallBufferSizeInBytes;
+    private final Integer maxInFlightParts;
 
     private MultipartConfiguration(DefaultMultipartConfigBuilder builder) {
         this.thresholdInBytes = builder.thresholdInBytes;
         this.minimumPartSizeInBytes = builder.minimumPartSizeInBytes;
         this.apiCallBufferSizeInBytes = builder.apiCallBufferSizeInBytes;
+        this.maxInFlightParts = builder.maxInFlightParts;
     }
 
     public static Builder builder() {
@@ -60,7 +62,8 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return builder()
             .apiCallBufferSizeInBytes(apiCallBufferSizeInBytes)
             .minimumPartSizeInBytes(minimumPartSizeInBytes)
-            .thresholdInBytes(thresholdInBytes);
+            .thresholdInBytes(thresholdInBytes)
+            .maxInFlightParts(maxInFlightParts);
     }
 
     /**
@@ -89,6 +92,14 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
         return this.apiCallBufferSizeInBytes;
     }
 
+    /**
+     * The maximum number of individual part requests of a multipart download that can be in flight at the same time.
+     * @return the value of the configured maximum number of in-flight parts.
+     */
+    public Integer maxInFlightParts() {
+        return this.maxInFlightParts;
+    }
+
     /**
      * Builder for a {@link MultipartConfiguration}.
      */
@@ -163,12 +174,34 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
          * @return the value of the maximum memory usage.
          */
         Long apiCallBufferSizeInBytes();
+
+        /**
+         * Configures the maximum number of individual part requests the SDK will keep in flight at the same time when
+         * downloading a multipart object. Only used for getObject operations.
+         * <p>
+         * When the {@link AsyncResponseTransformer} used is writing to a file, the individual parts are written directly to
+         * their position in the file as they are received. For other transformers, parts received ahead of the one currently
+         * being consumed are kept in memory, within the limit of {@link #apiCallBufferSizeInBytes(Long)}, and delivered in order.
+         * <p>
+         * Default value: 1, meaning parts are downloaded one after the other.
+         *
+         * @param maxInFlightParts the value of the maximum number of in-flight parts.
+         * @return an instance of this builder.
+         */
+        Builder maxInFlightParts(Integer maxInFlightParts);
+
+        /**
+         * Indicates the value of the maximum number of in-flight parts.
+         * @return the value of the maximum number of in-flight parts.
+         */
+        Integer maxInFlightParts();
     }
 
     private static class DefaultMultipartConfigBuilder implements Builder {
         private Long thresholdInBytes;
         private Long minimumPartSizeInBytes;
         private Long apiCallBufferSizeInBytes;
+        private Integer maxInFlightParts;
 
         public Builder thresholdInBytes(Long thresholdInBytes) {
             this.thresholdInBytes = thresholdInBytes;
@@ -199,6 +232,17 @@ public final class MultipartConfiguration implements ToCopyableBuilder<Multipart
             return apiCallBufferSizeInBytes;
         }
 
+        @Override
+        public Builder maxInFlightParts(Integer maxInFlightParts) {
+            this.maxInFlightParts = maxInFlightParts;
+            return this;
+        }
+
+        @Override
+        public Integer maxInFlightParts() {
+            return maxInFlightParts;
+        }
+
         @Override
         public MultipartConfiguration build() {
             return new MultipartConfiguration(this);
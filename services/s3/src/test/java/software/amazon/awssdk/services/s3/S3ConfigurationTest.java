@@ -16,10 +16,13 @@
 package software.amazon.awssdk.services.s3;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static software.amazon.awssdk.profiles.ProfileFileSystemSetting.AWS_CONFIG_FILE;
 import static software.amazon.awssdk.services.s3.S3SystemSetting.AWS_S3_DISABLE_MULTIREGION_ACCESS_POINTS;
 import static software.amazon.awssdk.services.s3.S3SystemSetting.AWS_S3_USE_ARN_REGION;
 
+import java.time.Duration;
+import java.util.Arrays;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import software.amazon.awssdk.testutils.EnvironmentVariableHelper;
@@ -46,6 +49,30 @@ public class S3ConfigurationTest {
         assertThat(config.multiRegionEnabled()).isEqualTo(true);
         assertThat(config.pathStyleAccessEnabled()).isEqualTo(false);
         assertThat(config.useArnRegionEnabled()).isEqualTo(false);
+        assertThat(config.crossRegionBucketRegionCacheSize()).isEqualTo(10_000);
+        assertThat(config.crossRegionBucketRegionCacheTtl()).isEqualTo(Duration.ofHours(1));
+        assertThat(config.crossRegionPrewarmBuckets()).isEmpty();
+    }
+
+    @Test
+    public void crossRegionOptions_configured_shouldBeKeptByToBuilder() {
+        S3Configuration config = S3Configuration.builder()
+                                                 .crossRegionBucketRegionCacheSize(100)
+                                                 .crossRegionBucketRegionCacheTtl(Duration.ofMinutes(5))
+                                                 .crossRegionPrewarmBuckets(Arrays.asList("bucket1", "bucket2"))
+                                                 .build();
+        S3Configuration copy = config.toBuilder().build();
+        assertThat(copy.crossRegionBucketRegionCacheSize()).isEqualTo(100);
+        assertThat(copy.crossRegionBucketRegionCacheTtl()).isEqualTo(Duration.ofMinutes(5));
+        assertThat(copy.crossRegionPrewarmBuckets()).containsExactly("bucket1", "bucket2");
+    }
+
+    @Test
+    public void crossRegionBucketRegionCache_notPositive_shouldThrow() {
+        assertThatThrownBy(() -> S3Configuration.builder().crossRegionBucketRegionCacheSize(0).build())
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> S3Configuration.builder().crossRegionBucketRegionCacheTtl(Duration.ZERO).build())
+            .isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
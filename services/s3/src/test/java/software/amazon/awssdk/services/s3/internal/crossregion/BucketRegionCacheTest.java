@@ -0,0 +1,134 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.crossregion;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.regions.Region;
+
+class BucketRegionCacheTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private AtomicLong nanoTime;
+
+    @BeforeEach
+    void setUp() {
+        nanoTime = new AtomicLong();
+    }
+
+    @Test
+    void get_unknownBucket_returnsNull() {
+        BucketRegionCache cache = cache(10);
+
+        assertThat(cache.get("bucket")).isNull();
+    }
+
+    @Test
+    void get_beforeTtl_returnsRegion() {
+        BucketRegionCache cache = cache(10);
+        cache.put("bucket", Region.EU_WEST_1);
+        nanoTime.addAndGet(TTL.toNanos() - 1);
+
+        assertThat(cache.get("bucket")).isEqualTo(Region.EU_WEST_1);
+    }
+
+    @Test
+    void get_afterTtl_returnsNullAndRemovesEntry() {
+        BucketRegionCache cache = cache(10);
+        cache.put("bucket", Region.EU_WEST_1);
+        nanoTime.addAndGet(TTL.toNanos());
+
+        assertThat(cache.get("bucket")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_overMaxSize_evictsOldestEntries() {
+        BucketRegionCache cache = cache(10);
+        for (int i = 0; i <= 10; i++) {
+            cache.put("bucket" + i, Region.EU_WEST_1);
+            nanoTime.incrementAndGet();
+        }
+
+        assertThat(cache.size()).isEqualTo(9);
+        assertThat(cache.get("bucket0")).isNull();
+        assertThat(cache.get("bucket1")).isNull();
+        assertThat(cache.get("bucket10")).isEqualTo(Region.EU_WEST_1);
+    }
+
+    @Test
+    void put_overMaxSize_evictsExpiredEntriesFirst() {
+        BucketRegionCache cache = cache(10);
+        cache.put("expired1", Region.EU_WEST_1);
+        cache.put("expired2", Region.EU_WEST_1);
+        nanoTime.addAndGet(TTL.toNanos());
+        for (int i = 0; i < 9; i++) {
+            cache.put("bucket" + i, Region.EU_WEST_1);
+        }
+
+        assertThat(cache.size()).isEqualTo(9);
+        assertThat(cache.get("bucket0")).isEqualTo(Region.EU_WEST_1);
+    }
+
+    @Test
+    void computeIfAbsent_knownBucket_doesNotCallLoader() {
+        BucketRegionCache cache = cache(10);
+        cache.put("bucket", Region.EU_WEST_1);
+        AtomicInteger loads = new AtomicInteger();
+
+        Region region = cache.computeIfAbsent("bucket", b -> {
+            loads.incrementAndGet();
+            return Region.US_EAST_1;
+        });
+
+        assertThat(region).isEqualTo(Region.EU_WEST_1);
+        assertThat(loads).hasValue(0);
+    }
+
+    @Test
+    void computeIfAbsent_expiredBucket_reloadsRegion() {
+        BucketRegionCache cache = cache(10);
+        cache.put("bucket", Region.EU_WEST_1);
+        nanoTime.addAndGet(TTL.toNanos());
+
+        assertThat(cache.computeIfAbsent("bucket", b -> Region.US_EAST_1)).isEqualTo(Region.US_EAST_1);
+        assertThat(cache.get("bucket")).isEqualTo(Region.US_EAST_1);
+    }
+
+    @Test
+    void computeIfAbsent_loaderReturnsNull_doesNotCache() {
+        BucketRegionCache cache = cache(10);
+
+        assertThat(cache.computeIfAbsent("bucket", b -> null)).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void create_invalidConfiguration_throws() {
+        assertThatThrownBy(() -> BucketRegionCache.create(0, TTL)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BucketRegionCache.create(10, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BucketRegionCache cache(int maxSize) {
+        return BucketRegionCache.create(maxSize, TTL, nanoTime::get);
+    }
+}
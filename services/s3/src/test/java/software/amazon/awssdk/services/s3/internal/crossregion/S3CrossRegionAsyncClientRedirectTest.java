@@ -15,20 +15,26 @@
 
 package software.amazon.awssdk.services.s3.internal.crossregion;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
+import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
 import software.amazon.awssdk.services.s3.model.ListBucketsRequest;
 import software.amazon.awssdk.services.s3.model.ListBucketsResponse;
 import software.amazon.awssdk.services.s3.model.ListObjectsRequest;
@@ -161,4 +167,28 @@ public class S3CrossRegionAsyncClientRedirectTest extends S3CrossRegionRedirectT
             .withCauseInstanceOf(S3Exception.class)
             .withMessage("software.amazon.awssdk.services.s3.model.S3Exception: Redirect (Service: S3, Status Code: 301, Request ID: 1, Extended Request ID: A1)");
     }
+
+    @Test
+    void given_PrewarmBuckets_when_FirstRequestIsMade_then_CachesRegionsFromHeadBucket() {
+        when(mockDelegateAsyncClient.headBucket(any(Consumer.class)))
+            .thenReturn(CompletableFuture.completedFuture(HeadBucketResponse.builder().bucketRegion(CROSS_REGION.id()).build()))
+            .thenReturn(CompletableFutureUtils.failedFuture(
+                new CompletionException(redirectException(301, CHANGED_CROSS_REGION.id(), null, null))))
+            .thenReturn(CompletableFutureUtils.failedFuture(redirectException(403, null, "AccessDenied", null)));
+        when(mockDelegateAsyncClient.listBuckets(any(ListBucketsRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(ListBucketsResponse.builder().build()));
+        BucketRegionCache cache = BucketRegionCache.create(10, Duration.ofHours(1));
+
+        S3AsyncClient crossRegionClient =
+            new S3CrossRegionAsyncClient(mockDelegateAsyncClient, cache, Arrays.asList("bucket1", "bucket2", "bucket3"));
+        verify(mockDelegateAsyncClient, never()).headBucket(any(Consumer.class));
+
+        crossRegionClient.listBuckets(ListBucketsRequest.builder().build()).join();
+        crossRegionClient.listBuckets(ListBucketsRequest.builder().build()).join();
+
+        verify(mockDelegateAsyncClient, times(3)).headBucket(any(Consumer.class));
+        assertThat(cache.get("bucket1")).isEqualTo(CROSS_REGION);
+        assertThat(cache.get("bucket2")).isEqualTo(CHANGED_CROSS_REGION);
+        assertThat(cache.get("bucket3")).isNull();
+    }
 }
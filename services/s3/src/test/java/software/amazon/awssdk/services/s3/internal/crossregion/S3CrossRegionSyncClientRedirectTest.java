@@ -15,16 +15,25 @@
 
 package software.amazon.awssdk.services.s3.internal.crossregion;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.model.HeadBucketRequest;
 import software.amazon.awssdk.services.s3.model.HeadBucketResponse;
 import software.amazon.awssdk.services.s3.model.ListBucketsRequest;
@@ -135,4 +144,53 @@ public class S3CrossRegionSyncClientRedirectTest extends S3CrossRegionRedirectTe
             .thenThrow(redirectException(301, CROSS_REGION.id(), null, null))
             .thenReturn(ListObjectsResponse.builder().contents(S3_OBJECTS).build());
     }
+
+    @Test
+    void given_PrewarmBuckets_when_FirstRequestIsMade_then_CachesRegionsFromHeadBucketInBackground() {
+        when(mockDelegateClient.headBucket(any(HeadBucketRequest.class)))
+            .thenReturn(HeadBucketResponse.builder().bucketRegion(CROSS_REGION.id()).build())
+            .thenThrow(redirectException(301, CHANGED_CROSS_REGION.id(), null, null))
+            .thenThrow(redirectException(403, null, "AccessDenied", null));
+        when(mockDelegateClient.listBuckets(any(ListBucketsRequest.class))).thenReturn(ListBucketsResponse.builder().build());
+        BucketRegionCache cache = BucketRegionCache.create(10, Duration.ofHours(1));
+        List<Runnable> prewarmTasks = new ArrayList<>();
+
+        S3Client crossRegionClient = new S3CrossRegionSyncClient(mockDelegateClient, cache,
+                                                                 Arrays.asList("bucket1", "bucket2", "bucket3"),
+                                                                 prewarmTasks::add);
+        verify(mockDelegateClient, never()).headBucket(any(HeadBucketRequest.class));
+
+        crossRegionClient.listBuckets(ListBucketsRequest.builder().build());
+        crossRegionClient.listBuckets(ListBucketsRequest.builder().build());
+
+        // The lookups are handed to the executor once, and are not run on the thread of the request.
+        assertThat(prewarmTasks).hasSize(1);
+        verify(mockDelegateClient, times(2)).listBuckets(any(ListBucketsRequest.class));
+        verify(mockDelegateClient, never()).headBucket(any(HeadBucketRequest.class));
+
+        prewarmTasks.get(0).run();
+
+        verify(mockDelegateClient, times(3)).headBucket(any(HeadBucketRequest.class));
+        assertThat(cache.get("bucket1")).isEqualTo(CROSS_REGION);
+        assertThat(cache.get("bucket2")).isEqualTo(CHANGED_CROSS_REGION);
+        assertThat(cache.get("bucket3")).isNull();
+    }
+
+    @Test
+    void given_PrewarmBuckets_when_FirstRequestIsMade_then_LooksUpRegionsOffTheRequestThread() {
+        CompletableFuture<String> lookupThread = new CompletableFuture<>();
+        when(mockDelegateClient.headBucket(any(HeadBucketRequest.class))).thenAnswer(invocation -> {
+            lookupThread.complete(Thread.currentThread().getName());
+            return HeadBucketResponse.builder().bucketRegion(CROSS_REGION.id()).build();
+        });
+        when(mockDelegateClient.listBuckets(any(ListBucketsRequest.class))).thenReturn(ListBucketsResponse.builder().build());
+
+        S3Client crossRegionClient =
+            new S3CrossRegionSyncClient(mockDelegateClient,
+                                        S3Configuration.builder().crossRegionPrewarmBuckets(Arrays.asList("bucket1")).build());
+        crossRegionClient.listBuckets(ListBucketsRequest.builder().build());
+
+        assertThat(lookupThread.join()).startsWith("s3-cross-region-prewarm")
+                                       .isNotEqualTo(Thread.currentThread().getName());
+    }
 }
@@ -29,6 +29,7 @@ import static software.amazon.awssdk.services.s3.internal.crossregion.S3CrossReg
 import static software.amazon.awssdk.services.s3.internal.crossregion.S3CrossRegionRedirectTestBase.OVERRIDE_CONFIGURED_REGION;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -53,9 +54,12 @@ import software.amazon.awssdk.endpoints.Endpoint;
 import software.amazon.awssdk.endpoints.EndpointProvider;
 import software.amazon.awssdk.http.SdkHttpMethod;
 import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.crossregion.S3CrossRegionMetric;
 import software.amazon.awssdk.services.s3.endpoints.S3EndpointParams;
 import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
 import software.amazon.awssdk.services.s3.endpoints.internal.DefaultS3EndpointProvider;
@@ -383,6 +387,30 @@ class S3CrossRegionSyncClientTest {
             .isEqualTo(Arrays.asList(SdkHttpMethod.GET,SdkHttpMethod.GET,SdkHttpMethod.GET,SdkHttpMethod.GET,SdkHttpMethod.GET));
     }
 
+    @Test
+    void given_crossRegionClient_when_redirectErrorThenCachedRegion_then_reportsCacheAndRedirectMetrics() {
+        mockSyncHttpClient.stubResponses(customHttpResponseWithUnknownErrorCode(301, CROSS_REGION.id()),
+                                         successHttpResponse(),
+                                         successHttpResponse());
+        CapturingMetricPublisher metricPublisher = new CapturingMetricPublisher();
+        S3Client crossRegionClient = clientBuilder().endpointOverride(null)
+                                                    .region(OVERRIDE_CONFIGURED_REGION)
+                                                    .crossRegionAccessEnabled(true)
+                                                    .overrideConfiguration(o -> o.addExecutionInterceptor(captureInterceptor)
+                                                                                 .addMetricPublisher(metricPublisher))
+                                                    .build();
+        crossRegionClient.getObject(r -> r.bucket(BUCKET).key(KEY));
+        crossRegionClient.getObject(r -> r.bucket(BUCKET).key(KEY));
+
+        List<MetricCollection> apiCalls = metricPublisher.collections;
+        assertThat(apiCalls).hasSize(3);
+        assertThat(apiCalls.get(0).metricValues(S3CrossRegionMetric.BUCKET_REGION_CACHE_HIT)).containsExactly(false);
+        assertThat(apiCalls.get(0).metricValues(S3CrossRegionMetric.CROSS_REGION_REDIRECT)).isEmpty();
+        assertThat(apiCalls.get(1).metricValues(S3CrossRegionMetric.CROSS_REGION_REDIRECT)).containsExactly(true);
+        assertThat(apiCalls.get(2).metricValues(S3CrossRegionMetric.BUCKET_REGION_CACHE_HIT)).containsExactly(true);
+        assertThat(apiCalls.get(2).metricValues(S3CrossRegionMetric.CROSS_REGION_REDIRECT)).isEmpty();
+    }
+
     @Test
     void given_CrossRegionClient_when_noRegionInHeader_thenFallBackToRegionInHeadBucket() {
         mockSyncHttpClient.stubResponses(customHttpResponseWithUnknownErrorCode(301,  null ),
@@ -512,4 +540,17 @@ class S3CrossRegionSyncClientTest {
             endpointProvider = executionAttributes.getAttribute(SdkInternalExecutionAttribute.ENDPOINT_PROVIDER);
         }
     }
+
+    private static final class CapturingMetricPublisher implements MetricPublisher {
+        private final List<MetricCollection> collections = new ArrayList<>();
+
+        @Override
+        public void publish(MetricCollection metricCollection) {
+            collections.add(metricCollection);
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
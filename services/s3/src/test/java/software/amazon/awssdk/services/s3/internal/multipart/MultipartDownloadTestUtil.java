@@ -74,6 +74,25 @@ public class MultipartDownloadTestUtil {
         return body;
     }
 
+    public byte[] stubAllPartsWithContentRange(String testBucket, String testKey, int amountOfPartToTest, int partSize) {
+        byte[] expectedBody = new byte[amountOfPartToTest * partSize];
+        random.nextBytes(expectedBody);
+        for (int i = 0; i < amountOfPartToTest; i++) {
+            int start = i * partSize;
+            byte[] individualBody = Arrays.copyOfRange(expectedBody, start, start + partSize);
+            stubFor(get(urlEqualTo(String.format("/%s/%s?partNumber=%d", testBucket, testKey, i + 1))).willReturn(
+                aResponse()
+                    .withStatus(206)
+                    .withHeader("x-amz-mp-parts-count", amountOfPartToTest + "")
+                    .withHeader("ETag", eTag)
+                    .withHeader("Content-Length", String.valueOf(partSize))
+                    .withHeader("Content-Range", String.format("bytes %d-%d/%d", start, start + partSize - 1,
+                                                               expectedBody.length))
+                    .withBody(individualBody)));
+        }
+        return expectedBody;
+    }
+
     public void verifyCorrectAmountOfRequestsMade(int amountOfPartToTest) {
         String urlTemplate = ".*partNumber=%d.*";
         for (int i = 1; i <= amountOfPartToTest; i++) {
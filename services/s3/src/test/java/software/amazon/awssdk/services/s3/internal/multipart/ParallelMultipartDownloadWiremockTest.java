@@ -0,0 +1,170 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.s3.internal.multipart;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static software.amazon.awssdk.services.s3.internal.multipart.MultipartDownloadTestUtil.transformersSuppliers;
+import static software.amazon.awssdk.services.s3.multipart.S3MultipartExecutionAttribute.MULTIPART_DOWNLOAD_RESUME_CONTEXT;
+
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.utils.AsyncResponseTransformerTestSupplier;
+import software.amazon.awssdk.utils.Pair;
+
+@WireMockTest
+class ParallelMultipartDownloadWiremockTest {
+    private static final int MAX_IN_FLIGHT_PARTS = 4;
+
+    private final String testBucket = "test-bucket";
+    private final String testKey = "test-key";
+
+    private S3AsyncClient s3AsyncClient;
+    private MultipartDownloadTestUtil util;
+
+    @BeforeEach
+    public void init(WireMockRuntimeInfo wiremock) {
+        s3AsyncClient = S3AsyncClient.builder()
+                                     .credentialsProvider(StaticCredentialsProvider.create(
+                                         AwsBasicCredentials.create("key", "secret")))
+                                     .region(Region.US_WEST_2)
+                                     .endpointOverride(URI.create("http://localhost:" + wiremock.getHttpPort()))
+                                     .serviceConfiguration(S3Configuration.builder()
+                                                                          .pathStyleAccessEnabled(true)
+                                                                          .build())
+                                     .build();
+        util = new MultipartDownloadTestUtil(testBucket, testKey, UUID.randomUUID().toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("argumentsProvider")
+    <T> void happyPath_shouldReceiveAllBodyPartInCorrectOrder(AsyncResponseTransformerTestSupplier<T> supplier,
+                                                              int amountOfPartToTest,
+                                                              int partSize) {
+        byte[] expectedBody = util.stubAllPartsWithContentRange(testBucket, testKey, amountOfPartToTest, partSize);
+        DownloadObjectHelper helper = new DownloadObjectHelper(s3AsyncClient, 2L * partSize, MAX_IN_FLIGHT_PARTS);
+
+        T response = helper.downloadObject(GetObjectRequest.builder().bucket(testBucket).key(testKey).build(),
+                                           supplier.transformer())
+                           .join();
+
+        assertArrayEquals(expectedBody, supplier.body(response));
+        util.verifyCorrectAmountOfRequestsMade(amountOfPartToTest);
+    }
+
+    @ParameterizedTest
+    @MethodSource("transformers")
+    <T> void errorOnPart_shouldCompleteExceptionally(AsyncResponseTransformerTestSupplier<T> supplier) {
+        util.stubAllPartsWithContentRange(testBucket, testKey, 6, 1024);
+        stubFor(get(urlEqualTo(String.format("/%s/%s?partNumber=4", testBucket, testKey))).willReturn(
+            aResponse()
+                .withStatus(400)
+                .withBody("<Error><Code>400</Code><Message>test error message</Message></Error>")));
+        DownloadObjectHelper helper = new DownloadObjectHelper(s3AsyncClient, 4 * 1024L, MAX_IN_FLIGHT_PARTS);
+
+        assertThatThrownBy(() -> {
+            T res = helper.downloadObject(GetObjectRequest.builder().bucket(testBucket).key(testKey).build(),
+                                          supplier.transformer())
+                          .join();
+            supplier.body(res);
+        }).hasMessageContaining("test error message");
+    }
+
+    @Test
+    void fileTransformer_shouldTrackAllCompletedPartsInResumeContext() {
+        int amountOfParts = 9;
+        int partSize = 1024;
+        util.stubAllPartsWithContentRange(testBucket, testKey, amountOfParts, partSize);
+        MultipartDownloadResumeContext context = new MultipartDownloadResumeContext();
+        GetObjectRequest request = GetObjectRequest.builder()
+                                                   .bucket(testBucket)
+                                                   .key(testKey)
+                                                   .overrideConfiguration(
+                                                       c -> c.putExecutionAttribute(MULTIPART_DOWNLOAD_RESUME_CONTEXT, context))
+                                                   .build();
+        AsyncResponseTransformerTestSupplier.FileArtSupplier supplier = new AsyncResponseTransformerTestSupplier.FileArtSupplier();
+        DownloadObjectHelper helper = new DownloadObjectHelper(s3AsyncClient, partSize, MAX_IN_FLIGHT_PARTS);
+
+        helper.downloadObject(request, supplier.transformer()).join();
+
+        List<Integer> expectedParts = IntStream.rangeClosed(1, amountOfParts).boxed().collect(Collectors.toList());
+        assertThat(context.completedParts()).isEqualTo(expectedParts);
+        assertThat(context.highestSequentialCompletedPart()).isEqualTo(amountOfParts);
+        assertThat(context.bytesToLastCompletedParts()).isEqualTo((long) amountOfParts * partSize);
+        assertThat(context.isComplete()).isTrue();
+    }
+
+    @Test
+    void splitResult_parallelSplitRequested_fileTransformerSupportsParallelSplit() {
+        AsyncResponseTransformer.SplitResult<GetObjectResponse, GetObjectResponse> split =
+            new AsyncResponseTransformerTestSupplier.FileArtSupplier().transformer()
+                                                                      .split(c -> c.bufferSizeInBytes(1024L).parallelSplit(true));
+        assertThat(split.parallelSplitSupported()).isTrue();
+    }
+
+    @Test
+    void splitResult_parallelSplitNotRequested_fileTransformerUsesSerialSplit() {
+        AsyncResponseTransformer.SplitResult<GetObjectResponse, GetObjectResponse> split =
+            new AsyncResponseTransformerTestSupplier.FileArtSupplier().transformer().split(c -> c.bufferSizeInBytes(1024L));
+        assertThat(split.parallelSplitSupported()).isFalse();
+    }
+
+    private static Stream<AsyncResponseTransformerTestSupplier<?>> transformers() {
+        return transformersSuppliers().stream();
+    }
+
+    private static Stream<Arguments> argumentsProvider() {
+        // amount of part, individual part size
+        List<Pair<Integer, Integer>> partSizes = Arrays.asList(
+            Pair.of(1, 1024),
+            Pair.of(4, 16),
+            Pair.of(31, 1243),
+            Pair.of(16, 16 * 1024),
+            Pair.of(4, 1024 * 1024),
+            Pair.of(7, 5 * 3752)
+        );
+
+        Stream.Builder<Arguments> sb = Stream.builder();
+        transformersSuppliers().forEach(tr -> partSizes.forEach(p -> sb.accept(arguments(tr, p.left(), p.right()))));
+        return sb.build();
+    }
+}
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -35,6 +36,21 @@ class MultipartDownloadResumeContextTest {
         assertThat(context.highestSequentialCompletedPart()).isEqualTo(expectedNextNonCompleted);
     }
 
+    @Test
+    void addCompletedPartWithSize_outOfOrder_shouldOnlyCountSequentialBytes() {
+        MultipartDownloadResumeContext context = new MultipartDownloadResumeContext();
+        context.addCompletedPart(1, 10L);
+        context.addCompletedPart(3, 30L);
+        context.addCompletedPart(4, 40L);
+        assertThat(context.bytesToLastCompletedParts()).isEqualTo(10L);
+        assertThat(context.highestSequentialCompletedPart()).isEqualTo(1);
+
+        context.addCompletedPart(2, 20L);
+        assertThat(context.bytesToLastCompletedParts()).isEqualTo(100L);
+        assertThat(context.highestSequentialCompletedPart()).isEqualTo(4);
+        assertThat(context.completedParts()).containsExactly(1, 2, 3, 4);
+    }
+
     private static Stream<Arguments> source() {
         return Stream.of(
             Arguments.of(Arrays.asList(), 0),
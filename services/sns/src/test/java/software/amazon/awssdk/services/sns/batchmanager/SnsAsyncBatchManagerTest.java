@@ -0,0 +1,115 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sns.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sns.SnsAsyncClient;
+import software.amazon.awssdk.services.sns.model.BatchResultErrorEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequest;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishBatchResponse;
+import software.amazon.awssdk.services.sns.model.PublishBatchResultEntry;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
+import software.amazon.awssdk.services.sns.model.SnsException;
+
+class SnsAsyncBatchManagerTest {
+    private static final String TOPIC_ARN = "arn:aws:sns:us-east-1:123456789012:topic";
+
+    private SnsAsyncClient client;
+    private ScheduledExecutorService scheduledExecutor;
+    private SnsAsyncBatchManager batchManager;
+
+    @BeforeEach
+    void setUp() {
+        client = mock(SnsAsyncClient.class);
+        scheduledExecutor = Executors.newSingleThreadScheduledExecutor();
+        batchManager = SnsAsyncBatchManager.builder()
+                                           .client(client)
+                                           .scheduledExecutor(scheduledExecutor)
+                                           .overrideConfiguration(o -> o.maxBatchSize(2)
+                                                                        .sendRequestFrequency(Duration.ofHours(1)))
+                                           .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchManager.close();
+        scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    void publish_batchFull_sendsPublishBatchAndMapsResults() {
+        when(client.publishBatch(any(PublishBatchRequest.class))).thenAnswer(invocation -> {
+            PublishBatchRequest request = invocation.getArgument(0);
+            List<PublishBatchRequestEntry> entries = request.publishBatchRequestEntries();
+            return CompletableFuture.completedFuture(
+                PublishBatchResponse.builder()
+                                    .successful(PublishBatchResultEntry.builder()
+                                                                       .id(entries.get(0).id())
+                                                                       .messageId("message-id")
+                                                                       .build())
+                                    .failed(BatchResultErrorEntry.builder()
+                                                                 .id(entries.get(1).id())
+                                                                 .code("InvalidParameter")
+                                                                 .message("Invalid message")
+                                                                 .build())
+                                    .build());
+        });
+
+        CompletableFuture<PublishResponse> first = batchManager.publish(r -> r.topicArn(TOPIC_ARN).message("first"));
+        CompletableFuture<PublishResponse> second = batchManager.publish(r -> r.topicArn(TOPIC_ARN).message("second"));
+
+        assertThat(first.join().messageId()).isEqualTo("message-id");
+        assertThatThrownBy(second::join).hasCauseInstanceOf(SnsException.class)
+                                        .hasMessageContaining("Invalid message");
+
+        ArgumentCaptor<PublishBatchRequest> captor = ArgumentCaptor.forClass(PublishBatchRequest.class);
+        verify(client).publishBatch(captor.capture());
+        assertThat(captor.getValue().topicArn()).isEqualTo(TOPIC_ARN);
+        assertThat(captor.getValue().publishBatchRequestEntries().stream()
+                         .map(PublishBatchRequestEntry::message)
+                         .collect(Collectors.toList())).containsExactly("first", "second");
+    }
+
+    @Test
+    void publish_phoneNumber_sendsPublishDirectly() {
+        PublishResponse response = PublishResponse.builder().messageId("message-id").build();
+        when(client.publish(any(PublishRequest.class))).thenReturn(CompletableFuture.completedFuture(response));
+
+        CompletableFuture<PublishResponse> result = batchManager.publish(r -> r.phoneNumber("+15555550100").message("sms"));
+
+        assertThat(result.join()).isSameAs(response);
+        verify(client, never()).publishBatch(any(PublishBatchRequest.class));
+    }
+}
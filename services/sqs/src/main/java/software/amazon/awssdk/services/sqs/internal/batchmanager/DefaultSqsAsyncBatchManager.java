@@ -21,6 +21,7 @@ import static software.amazon.awssdk.services.sqs.internal.batchmanager.Response
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchConfiguration;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.batchmanager.BatchOverrideConfiguration;
 import software.amazon.awssdk.services.sqs.batchmanager.SqsAsyncBatchManager;
@@ -52,23 +53,23 @@ public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
                                                                        "scheduledExecutor cannot be null");
         this.sendMessageBatchManager =
             new SendMessageBatchManager(
-                RequestBatchConfiguration.builder(builder.overrideConfiguration)
-                                         .maxBatchBytesSize(MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES)
-                                         .build(),
+                requestBatchConfiguration(builder.overrideConfiguration)
+                    .maxBatchBytesSize(MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES)
+                    .build(),
                 scheduledExecutor,
                 client
             );
 
         this.deleteMessageBatchManager =
             new DeleteMessageBatchManager(
-                RequestBatchConfiguration.builder(builder.overrideConfiguration).build(),
+                requestBatchConfiguration(builder.overrideConfiguration).build(),
                 scheduledExecutor,
                 client
             );
 
         this.changeMessageVisibilityBatchManager =
             new ChangeMessageVisibilityBatchManager(
-                RequestBatchConfiguration.builder(builder.overrideConfiguration).build(),
+                requestBatchConfiguration(builder.overrideConfiguration).build(),
                 scheduledExecutor,
                 client
             );
@@ -79,6 +80,16 @@ public final class DefaultSqsAsyncBatchManager implements SqsAsyncBatchManager {
                                            ResponseBatchConfiguration.builder(builder.overrideConfiguration).build());
     }
 
+    private static RequestBatchConfiguration.Builder requestBatchConfiguration(
+        BatchOverrideConfiguration overrideConfiguration) {
+        RequestBatchConfiguration.Builder builder = RequestBatchConfiguration.builder();
+        if (overrideConfiguration != null) {
+            builder.maxBatchItems(overrideConfiguration.maxBatchSize())
+                   .sendRequestFrequency(overrideConfiguration.sendRequestFrequency());
+        }
+        return builder;
+    }
+
     @Override
     public CompletableFuture<SendMessageResponse> sendMessage(SendMessageRequest request) {
         return sendMessageBatchManager.batchRequest(request);
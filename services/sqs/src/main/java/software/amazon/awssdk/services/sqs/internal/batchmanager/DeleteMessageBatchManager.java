@@ -23,6 +23,9 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchManager;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
@@ -126,7 +129,8 @@ public class DeleteMessageBatchManager extends RequestBatchManager<DeleteMessage
 
     @Override
     protected List<Either<IdentifiableMessage<DeleteMessageResponse>,
-        IdentifiableMessage<Throwable>>> mapBatchResponse(DeleteMessageBatchResponse batchResponse) {
+        IdentifiableMessage<Throwable>>> mapBatchResponse(List<IdentifiableMessage<DeleteMessageRequest>> identifiedRequests,
+                                                          DeleteMessageBatchResponse batchResponse) {
 
         List<Either<IdentifiableMessage<DeleteMessageResponse>, IdentifiableMessage<Throwable>>> mappedResponses =
             new ArrayList<>();
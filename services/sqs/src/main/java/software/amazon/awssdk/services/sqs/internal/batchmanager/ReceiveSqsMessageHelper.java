@@ -16,7 +16,7 @@
 package software.amazon.awssdk.services.sqs.internal.batchmanager;
 
 
-import static software.amazon.awssdk.services.sqs.internal.batchmanager.RequestBatchManager.USER_AGENT_APPLIER;
+import static software.amazon.awssdk.awscore.batchmanager.RequestBatchManager.USER_AGENT_APPLIER;
 
 import java.time.Duration;
 import java.util.List;
@@ -23,6 +23,9 @@ import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 import software.amazon.awssdk.annotations.SdkInternalApi;
 import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.awscore.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchManager;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.services.sqs.SqsAsyncClient;
 import software.amazon.awssdk.services.sqs.model.BatchResultErrorEntry;
@@ -135,9 +138,15 @@ public class SendMessageBatchManager extends RequestBatchManager<SendMessageRequ
                       .orElseGet(request::queueUrl);
     }
 
+    @Override
+    protected int payloadSize(SendMessageRequest request) {
+        return RequestPayloadCalculator.calculateMessageSize(request).orElse(0);
+    }
+
     @Override
     protected List<Either<IdentifiableMessage<SendMessageResponse>,
-        IdentifiableMessage<Throwable>>> mapBatchResponse(SendMessageBatchResponse batchResponse) {
+        IdentifiableMessage<Throwable>>> mapBatchResponse(List<IdentifiableMessage<SendMessageRequest>> identifiedRequests,
+                                                          SendMessageBatchResponse batchResponse) {
         List<Either<IdentifiableMessage<SendMessageResponse>, IdentifiableMessage<Throwable>>> mappedResponses =
             new ArrayList<>();
         batchResponse.successful().forEach(batchResponseEntry -> {
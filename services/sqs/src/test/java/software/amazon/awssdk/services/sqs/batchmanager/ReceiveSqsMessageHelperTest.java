@@ -25,7 +25,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static software.amazon.awssdk.services.sqs.internal.batchmanager.RequestBatchManager.USER_AGENT_APPLIER;
+import static software.amazon.awssdk.awscore.batchmanager.RequestBatchManager.USER_AGENT_APPLIER;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -15,15 +15,13 @@
 
 package software.amazon.awssdk.services.sqs.batchmanager;
 
-import static software.amazon.awssdk.services.sqs.internal.batchmanager.ResponseBatchConfiguration.MAX_SEND_MESSAGE_PAYLOAD_SIZE_BYTES;
-
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
-import software.amazon.awssdk.services.sqs.internal.batchmanager.IdentifiableMessage;
-import software.amazon.awssdk.services.sqs.internal.batchmanager.RequestBatchConfiguration;
-import software.amazon.awssdk.services.sqs.internal.batchmanager.RequestBatchManager;
+import software.amazon.awssdk.awscore.batchmanager.IdentifiableMessage;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchConfiguration;
+import software.amazon.awssdk.awscore.batchmanager.RequestBatchManager;
 import software.amazon.awssdk.utils.Either;
 
 public class SampleBatchManager extends RequestBatchManager<String, String, BatchResponse> {
@@ -33,7 +31,11 @@ public class SampleBatchManager extends RequestBatchManager<String, String, Batc
     protected SampleBatchManager(BatchOverrideConfiguration batchOverrideConfiguration,
                                  ScheduledExecutorService executorService,
                                  CustomClient client) {
-        super(RequestBatchConfiguration.builder(batchOverrideConfiguration).build(), executorService);
+        super(RequestBatchConfiguration.builder()
+                                       .maxBatchItems(batchOverrideConfiguration.maxBatchSize())
+                                       .sendRequestFrequency(batchOverrideConfiguration.sendRequestFrequency())
+                                       .build(),
+              executorService);
         this.client = client;
     }
 
@@ -48,7 +50,8 @@ public class SampleBatchManager extends RequestBatchManager<String, String, Batc
     }
 
     @Override
-    protected List<Either<IdentifiableMessage<String>, IdentifiableMessage<Throwable>>> mapBatchResponse(BatchResponse batchResponse) {
+    protected List<Either<IdentifiableMessage<String>, IdentifiableMessage<Throwable>>> mapBatchResponse(List<IdentifiableMessage<String>> identifiedRequests,
+                                                                                                         BatchResponse batchResponse) {
         List<Either<IdentifiableMessage<String>, IdentifiableMessage<Throwable>>> mappedResponses = new ArrayList<>();
         batchResponse.getResponses().forEach(batchResponseEntry -> {
             IdentifiableMessage<String> response = new IdentifiableMessage<>(batchResponseEntry.getId(), batchResponseEntry.getMessage());
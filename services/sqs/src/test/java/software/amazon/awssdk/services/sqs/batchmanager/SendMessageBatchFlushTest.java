@@ -0,0 +1,127 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+/**
+ * The flushing behavior of the send message batch manager since it runs on the aws-core batching engine.
+ */
+@ExtendWith(MockitoExtension.class)
+class SendMessageBatchFlushTest {
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+    private static final long SEND_REQUEST_FREQUENCY_MILLIS = Duration.ofHours(1).toMillis();
+
+    @Mock
+    private SqsAsyncClient sqsClient;
+
+    @Mock
+    private ScheduledExecutorService scheduledExecutor;
+
+    @Mock
+    private ScheduledFuture<?> firstScheduledFlush;
+
+    @Mock
+    private ScheduledFuture<?> secondScheduledFlush;
+
+    private SqsAsyncBatchManager batchManager;
+
+    @BeforeEach
+    void setUp() {
+        doReturn(firstScheduledFlush, secondScheduledFlush)
+            .when(scheduledExecutor).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+        batchManager = SqsAsyncBatchManager.builder()
+                                           .client(sqsClient)
+                                           .scheduledExecutor(scheduledExecutor)
+                                           .overrideConfiguration(o -> o.maxBatchSize(2)
+                                                                        .sendRequestFrequency(Duration.ofHours(1)))
+                                           .build();
+    }
+
+    @Test
+    void sendMessage_fullBatchSent_restartsScheduledFlush() {
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(batchResponse("0", "1")));
+
+        sendMessage("first");
+        verify(firstScheduledFlush, never()).cancel(anyBoolean());
+
+        sendMessage("second");
+
+        verify(firstScheduledFlush).cancel(false);
+        verify(scheduledExecutor, times(2)).scheduleAtFixedRate(any(), eq(SEND_REQUEST_FREQUENCY_MILLIS),
+                                                                eq(SEND_REQUEST_FREQUENCY_MILLIS), eq(TimeUnit.MILLISECONDS));
+        batchManager.close();
+        verify(secondScheduledFlush).cancel(false);
+    }
+
+    @Test
+    void sendMessage_entryMissingFromBatchResponse_failsWithSdkClientException() {
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(batchResponse("0")));
+
+        CompletableFuture<SendMessageResponse> first = sendMessage("first");
+        CompletableFuture<SendMessageResponse> second = sendMessage("second");
+
+        assertThat(first.join().messageId()).isEqualTo("0");
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class)
+                                        .hasCauseInstanceOf(SdkClientException.class)
+                                        .hasMessageContaining("did not contain a result for the batch entry 1");
+        batchManager.close();
+    }
+
+    private CompletableFuture<SendMessageResponse> sendMessage(String messageBody) {
+        return batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(messageBody));
+    }
+
+    private static SendMessageBatchResponse batchResponse(String... ids) {
+        SendMessageBatchResponse.Builder builder = SendMessageBatchResponse.builder();
+        SendMessageBatchResultEntry[] entries = new SendMessageBatchResultEntry[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            entries[i] = SendMessageBatchResultEntry.builder().id(ids[i]).messageId(ids[i]).build();
+        }
+        return builder.successful(entries).build();
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.services.sqs.batchmanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.sqs.SqsAsyncClient;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchResultEntry;
+import software.amazon.awssdk.services.sqs.model.SendMessageResponse;
+
+@ExtendWith(MockitoExtension.class)
+class SendMessageBatchPayloadSizeTest {
+
+    private static final String QUEUE_URL = "https://sqs.us-east-1.amazonaws.com/123456789012/queue";
+
+    @Mock
+    private SqsAsyncClient sqsClient;
+
+    private ScheduledExecutorService executor;
+
+    private SqsAsyncBatchManager batchManager;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        when(sqsClient.sendMessageBatch(any(SendMessageBatchRequest.class))).thenAnswer(invocation -> {
+            SendMessageBatchRequest request = invocation.getArgument(0);
+            List<SendMessageBatchResultEntry> entries =
+                request.entries().stream()
+                       .map(entry -> SendMessageBatchResultEntry.builder().id(entry.id()).messageId(entry.id()).build())
+                       .collect(Collectors.toList());
+            return CompletableFuture.completedFuture(SendMessageBatchResponse.builder().successful(entries).build());
+        });
+        batchManager = SqsAsyncBatchManager.builder()
+                                           .client(sqsClient)
+                                           .scheduledExecutor(executor)
+                                           .overrideConfiguration(o -> o.sendRequestFrequency(Duration.ofHours(1)))
+                                           .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void sendMessage_smallMessages_sentInOneBatch() {
+        List<CompletableFuture<SendMessageResponse>> responses =
+            IntStream.range(0, 5)
+                     .mapToObj(i -> sendMessage("message" + i))
+                     .collect(Collectors.toList());
+        batchManager.close();
+
+        assertThat(batchSizes()).containsExactly(5);
+        responses.forEach(response -> assertThat(response.join().messageId()).isNotNull());
+    }
+
+    @Test
+    void sendMessage_cumulativePayloadExceedsMaxSize_sendsBufferedMessagesFirst() {
+        String largeMessageBody = createLargeString('a', 130_000);
+        CompletableFuture<SendMessageResponse> first = sendMessage(largeMessageBody);
+        CompletableFuture<SendMessageResponse> second = sendMessage(largeMessageBody);
+
+        assertThat(first.join().messageId()).isEqualTo("0");
+        batchManager.close();
+
+        assertThat(batchSizes()).containsExactly(1, 1);
+        assertThat(second.join().messageId()).isNotNull();
+    }
+
+    @Test
+    void sendMessage_payloadReachesMaxSize_sentImmediately() {
+        CompletableFuture<SendMessageResponse> large = sendMessage(createLargeString('a', 245_760));
+
+        assertThat(large.join().messageId()).isEqualTo("0");
+        verify(sqsClient, times(1)).sendMessageBatch(any(SendMessageBatchRequest.class));
+
+        CompletableFuture<SendMessageResponse> small = sendMessage("NewMessage");
+        batchManager.close();
+
+        assertThat(batchSizes()).containsExactly(1, 1);
+        assertThat(small.join().messageId()).isNotNull();
+    }
+
+    private CompletableFuture<SendMessageResponse> sendMessage(String messageBody) {
+        return batchManager.sendMessage(r -> r.queueUrl(QUEUE_URL).messageBody(messageBody));
+    }
+
+    private List<Integer> batchSizes() {
+        ArgumentCaptor<SendMessageBatchRequest> captor = ArgumentCaptor.forClass(SendMessageBatchRequest.class);
+        verify(sqsClient, atLeastOnce()).sendMessageBatch(captor.capture());
+        return captor.getAllValues().stream().map(request -> request.entries().size()).collect(Collectors.toList());
+    }
+
+    private static String createLargeString(char ch, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(ch);
+        }
+        return sb.toString();
+    }
+}
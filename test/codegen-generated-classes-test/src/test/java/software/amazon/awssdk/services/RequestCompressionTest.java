@@ -30,7 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
 import software.amazon.awssdk.auth.credentials.AnonymousCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
-import software.amazon.awssdk.core.internal.compression.Compressor;
+import software.amazon.awssdk.core.compression.Compressor;
 import software.amazon.awssdk.core.internal.compression.GzipCompressor;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.core.sync.ResponseTransformer;
@@ -175,6 +175,73 @@ public class RequestCompressionTest {
         assertThat(loggedRequest.firstMatchingHeader("Transfer-Encoding").get()).isEqualTo("chunked");
     }
 
+    @Test
+    public void syncNonStreamingOperation_compressorConfiguredOnClient_usesConfiguredCompressor() {
+        mockHttpClient.stubNextResponse(mockResponse(), Duration.ofMillis(500));
+        ProtocolRestJsonClient client =
+            ProtocolRestJsonClient.builder()
+                                  .credentialsProvider(AnonymousCredentialsProvider.create())
+                                  .region(Region.US_EAST_1)
+                                  .httpClient(mockHttpClient)
+                                  .overrideConfiguration(o -> o.compressionConfiguration(
+                                      c -> c.minimumCompressionThresholdInBytes(1)
+                                            .addCompressor(new FixedOutputCompressor("client"))))
+                                  .build();
+
+        client.putOperationWithRequestCompression(r -> r.body(SdkBytes.fromUtf8String(UNCOMPRESSED_BODY)));
+
+        SdkHttpFullRequest loggedRequest = (SdkHttpFullRequest) mockHttpClient.getLastRequest();
+        InputStream loggedStream = loggedRequest.contentStreamProvider().get().newStream();
+        assertThat(SdkBytes.fromInputStream(loggedStream).asUtf8String()).isEqualTo("client");
+        assertThat(loggedRequest.firstMatchingHeader("Content-Length")).hasValue("6");
+        assertThat(loggedRequest.firstMatchingHeader("Content-encoding")).hasValue("gzip");
+    }
+
+    @Test
+    public void syncNonStreamingOperation_compressorConfiguredOnRequest_takesPrecedenceOverClient() {
+        mockHttpClient.stubNextResponse(mockResponse(), Duration.ofMillis(500));
+        ProtocolRestJsonClient client =
+            ProtocolRestJsonClient.builder()
+                                  .credentialsProvider(AnonymousCredentialsProvider.create())
+                                  .region(Region.US_EAST_1)
+                                  .httpClient(mockHttpClient)
+                                  .overrideConfiguration(o -> o.compressionConfiguration(
+                                      c -> c.addCompressor(new FixedOutputCompressor("client"))))
+                                  .build();
+
+        PutOperationWithRequestCompressionRequest request =
+            PutOperationWithRequestCompressionRequest.builder()
+                                                     .body(SdkBytes.fromUtf8String(UNCOMPRESSED_BODY))
+                                                     .overrideConfiguration(o -> o.compressionConfiguration(
+                                                         c -> c.minimumCompressionThresholdInBytes(1)
+                                                               .addCompressor(new FixedOutputCompressor("request"))))
+                                                     .build();
+        client.putOperationWithRequestCompression(request);
+
+        SdkHttpFullRequest loggedRequest = (SdkHttpFullRequest) mockHttpClient.getLastRequest();
+        InputStream loggedStream = loggedRequest.contentStreamProvider().get().newStream();
+        assertThat(SdkBytes.fromInputStream(loggedStream).asUtf8String()).isEqualTo("request");
+    }
+
+    @Test
+    public void syncNonStreamingOperation_compressorForUnsupportedEncoding_isNotUsed() {
+        mockHttpClient.stubNextResponse(mockResponse(), Duration.ofMillis(500));
+
+        PutOperationWithRequestCompressionRequest request =
+            PutOperationWithRequestCompressionRequest.builder()
+                                                     .body(SdkBytes.fromUtf8String(UNCOMPRESSED_BODY))
+                                                     .overrideConfiguration(o -> o.compressionConfiguration(
+                                                         c -> c.minimumCompressionThresholdInBytes(1)
+                                                               .addCompressor(Compressor.deflate(9))))
+                                                     .build();
+        syncClient.putOperationWithRequestCompression(request);
+
+        SdkHttpFullRequest loggedRequest = (SdkHttpFullRequest) mockHttpClient.getLastRequest();
+        InputStream loggedStream = loggedRequest.contentStreamProvider().get().newStream();
+        assertThat(new String(SdkBytes.fromInputStream(loggedStream).asByteArray())).isEqualTo(compressedBody);
+        assertThat(loggedRequest.firstMatchingHeader("Content-encoding")).hasValue("gzip");
+    }
+
     private HttpExecuteResponse mockResponse() {
         return HttpExecuteResponse.builder()
                                   .response(SdkHttpResponse.builder().statusCode(200).build())
@@ -187,6 +254,24 @@ public class RequestCompressionTest {
                                   .build();
     }
 
+    private static final class FixedOutputCompressor implements Compressor {
+        private final String output;
+
+        private FixedOutputCompressor(String output) {
+            this.output = output;
+        }
+
+        @Override
+        public String compressorType() {
+            return "gzip";
+        }
+
+        @Override
+        public SdkBytes compress(SdkBytes content) {
+            return SdkBytes.fromUtf8String(output);
+        }
+    }
+
     private static final class TestContentProvider implements ContentStreamProvider {
         private final byte[] content;
         private final List<CloseTrackingInputStream> createdStreams = new ArrayList<>();
@@ -19,6 +19,7 @@ import static software.amazon.awssdk.benchmark.apache5.utility.BenchmarkUtilitie
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +34,7 @@ import software.amazon.awssdk.benchmark.apache4.Apache4Benchmark;
 import software.amazon.awssdk.benchmark.apache5.Apache5Benchmark;
 import software.amazon.awssdk.benchmark.apache5.Apache5VirtualBenchmark;
 import software.amazon.awssdk.benchmark.core.BenchmarkResult;
+import software.amazon.awssdk.benchmark.matrix.HttpClientMatrixRunner;
 import software.amazon.awssdk.benchmark.metrics.CloudWatchMetricsPublisher;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.utils.JavaSystemSetting;
@@ -40,6 +42,7 @@ import software.amazon.awssdk.utils.Logger;
 
 public final class UnifiedBenchmarkRunner {
     private static final Logger logger = Logger.loggerFor(UnifiedBenchmarkRunner.class);
+    private static final String MATRIX_ARGUMENT = "--matrix";
 
     private UnifiedBenchmarkRunner() {
     }
@@ -53,6 +56,12 @@ public final class UnifiedBenchmarkRunner {
 
 
     public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains(MATRIX_ARGUMENT)) {
+            logger.info(() -> "Starting HTTP client matrix against the local stand-in server");
+            HttpClientMatrixRunner.main(args);
+            return;
+        }
+
         // Update logging calls to use Supplier<String> pattern
         logger.info(() -> "Starting unified benchmark comparison");
 
@@ -135,7 +144,12 @@ public final class UnifiedBenchmarkRunner {
         double avgLatency = 1000.0 / throughput;
         double p99Latency = avgLatency * 1.5;
 
-        int threadCount = benchmarkName.contains("multiThreaded") ? 10 : 1;
+        int threadCount = 1;
+        if (benchmarkName.contains("multiThreaded")) {
+            threadCount = 10;
+        } else if (benchmarkName.contains("manyCallers")) {
+            threadCount = 10_000;
+        }
 
         // Include parameters in the benchmark name for uniqueness
         String fullName = parameters.isEmpty() ? benchmarkName : benchmarkName + " " + parameters;
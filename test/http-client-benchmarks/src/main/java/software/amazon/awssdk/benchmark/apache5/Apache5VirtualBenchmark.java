@@ -16,14 +16,12 @@
 package software.amazon.awssdk.benchmark.apache5;
 
 import static software.amazon.awssdk.benchmark.apache5.utility.BenchmarkUtilities.isJava21OrHigher;
+import static software.amazon.awssdk.benchmark.apache5.utility.BenchmarkUtilities.newVirtualThreadPerTaskExecutor;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -52,6 +50,10 @@ import software.amazon.awssdk.utils.Logger;
 
 /**
  * Apache5 benchmark using virtual threads. This class requires Java 21+.
+ * <p>
+ * The {@code manyCallers} operations run {@code callerCount} concurrent callers, each on its own virtual thread, sharing the
+ * connection pool of one client. They transfer smaller objects than the other operations, so that all the callers fit in the
+ * heap. An API call timeout is configured so that every call schedules a timeout timer.
  */
 @BenchmarkMode(Mode.Throughput)
 @OutputTimeUnit(TimeUnit.SECONDS)
@@ -63,6 +65,10 @@ public class Apache5VirtualBenchmark implements CoreBenchmark {
 
     private static final Logger logger = Logger.loggerFor(Apache5VirtualBenchmark.class);
 
+    // Thousands of callers queue for the connections of the pool, so they wait much longer than in the other benchmarks.
+    private static final Duration CONNECTION_ACQUISITION_TIMEOUT = Duration.ofMinutes(5);
+    private static final Duration API_CALL_TIMEOUT = Duration.ofMinutes(10);
+
     @Param({"50"})
     private int maxConnections;
 
@@ -72,8 +78,15 @@ public class Apache5VirtualBenchmark implements CoreBenchmark {
     @Param({"10"})
     private int threadCount;
 
+    @Param({"10000"})
+    private int callerCount;
+
+    @Param({"4"})
+    private int callerDataInKB;
+
     private S3Client s3Client;
     private S3BenchmarkImpl benchmark;
+    private S3BenchmarkImpl callerBenchmark;
     private ExecutorService executorService;
 
 
@@ -91,13 +104,14 @@ public class Apache5VirtualBenchmark implements CoreBenchmark {
         }
 
         // Update logging call to use Supplier pattern
-        logger.info(() -> "Setting up Apache5 virtual threads benchmark with maxConnections=" + maxConnections);
+        logger.info(() -> "Setting up Apache5 virtual threads benchmark with maxConnections=" + maxConnections
+                          + ", callerCount=" + callerCount);
 
         // Apache 5 HTTP client
         SdkHttpClient httpClient = Apache5HttpClient.builder()
                                                     .connectionTimeout(Duration.ofSeconds(10))
                                                     .socketTimeout(Duration.ofSeconds(30))
-                                                    .connectionAcquisitionTimeout(Duration.ofSeconds(10))
+                                                    .connectionAcquisitionTimeout(CONNECTION_ACQUISITION_TIMEOUT)
                                                     .maxConnections(maxConnections)
                                                     .build();
 
@@ -106,14 +120,17 @@ public class Apache5VirtualBenchmark implements CoreBenchmark {
                            .region(Region.US_WEST_2)
                            .credentialsProvider(DefaultCredentialsProvider.create())
                            .httpClient(httpClient)
+                           .overrideConfiguration(o -> o.apiCallTimeout(API_CALL_TIMEOUT))
                            .build();
 
         // Initialize benchmark implementation
         benchmark = new S3BenchmarkImpl(s3Client, new byte[this.testDataInMB * 1024 * 1024]);
         benchmark.setup();
+        callerBenchmark = new S3BenchmarkImpl(s3Client, new byte[this.callerDataInKB * 1024]);
+        callerBenchmark.setup();
 
         // Create virtual thread executor
-        executorService = createVirtualThreadExecutor();
+        executorService = newVirtualThreadPerTaskExecutor();
         // Update logging call to use Supplier pattern
         logger.info(() -> "Using virtual thread executor");
 
@@ -121,20 +138,6 @@ public class Apache5VirtualBenchmark implements CoreBenchmark {
         logger.info(() -> "Apache5 virtual threads benchmark setup complete");
     }
 
-    private ExecutorService createVirtualThreadExecutor() {
-        try {
-            // Use reflection to call Executors.newVirtualThreadPerTaskExecutor()
-            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
-            return (ExecutorService) method.invoke(null);
-        } catch (NoSuchMethodException e) {
-            throw new UnsupportedOperationException(
-                "Virtual threads are not available in this Java version. " +
-                "This benchmark requires Java 21 or higher.", e);
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException("Failed to create virtual thread executor", e);
-        }
-    }
-
     @Benchmark
     @Override
     public void simpleGet(Blackhole blackhole) throws Exception {
@@ -189,6 +192,44 @@ public class Apache5VirtualBenchmark implements CoreBenchmark {
         }
     }
 
+    @Benchmark
+    public void manyCallersGet(Blackhole blackhole) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(callerCount);
+
+        for (int i = 0; i < callerCount; i++) {
+            futures.add(executorService.submit(() -> {
+                try {
+                    callerBenchmark.executeGet("small", blackhole);
+                } catch (Exception e) {
+                    throw new RuntimeException("GET operation failed", e);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    @Benchmark
+    public void manyCallersPut(Blackhole blackhole) throws Exception {
+        List<Future<?>> futures = new ArrayList<>(callerCount);
+
+        for (int i = 0; i < callerCount; i++) {
+            futures.add(executorService.submit(() -> {
+                try {
+                    callerBenchmark.executePut("small", blackhole);
+                } catch (Exception e) {
+                    throw new RuntimeException("PUT operation failed", e);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
     @TearDown(Level.Trial)
     public void tearDown() {
         logger.info(() -> "Tearing down Apache5 virtual threads benchmark");
@@ -208,6 +249,10 @@ public class Apache5VirtualBenchmark implements CoreBenchmark {
             benchmark.cleanup();
         }
 
+        if (callerBenchmark != null) {
+            callerBenchmark.cleanup();
+        }
+
         if (s3Client != null) {
             s3Client.close();
         }
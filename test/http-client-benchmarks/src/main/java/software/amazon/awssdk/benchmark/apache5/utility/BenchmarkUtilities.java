@@ -15,6 +15,10 @@
 
 package software.amazon.awssdk.benchmark.apache5.utility;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import software.amazon.awssdk.utils.JavaSystemSetting;
 
 public final class BenchmarkUtilities {
@@ -36,5 +40,21 @@ public final class BenchmarkUtilities {
         }
         return majorVersion >= 21;
     }
-}
 
+    /**
+     * Creates an executor starting a new virtual thread for each task. This requires Java 21+.
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            // Use reflection to call Executors.newVirtualThreadPerTaskExecutor()
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new UnsupportedOperationException(
+                "Virtual threads are not available in this Java version. " +
+                "This benchmark requires Java 21 or higher.", e);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new RuntimeException("Failed to create virtual thread executor", e);
+        }
+    }
+}
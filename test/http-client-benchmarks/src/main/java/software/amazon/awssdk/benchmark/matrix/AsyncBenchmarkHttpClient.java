@@ -0,0 +1,150 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.matrix;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.http.async.SdkAsyncHttpResponseHandler;
+import software.amazon.awssdk.http.async.SdkHttpContentPublisher;
+
+/**
+ * {@link BenchmarkHttpClient} calling a {@link SdkAsyncHttpClient} and waiting for the response body to be read entirely.
+ */
+final class AsyncBenchmarkHttpClient implements BenchmarkHttpClient {
+    private final SdkAsyncHttpClient delegate;
+
+    AsyncBenchmarkHttpClient(SdkAsyncHttpClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public long get(URI uri) {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.GET)
+                                                       .uri(uri)
+                                                       .build();
+        return execute(request, new byte[0]).join().bodyLength;
+    }
+
+    @Override
+    public int put(URI uri, byte[] payload) {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.PUT)
+                                                       .uri(uri)
+                                                       .putHeader("Content-Length", Integer.toString(payload.length))
+                                                       .build();
+        return execute(request, payload).join().statusCode;
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private CompletableFuture<DrainedResponse> execute(SdkHttpFullRequest request, byte[] payload) {
+        DrainingResponseHandler responseHandler = new DrainingResponseHandler();
+        AsyncExecuteRequest executeRequest = AsyncExecuteRequest.builder()
+                                                                .request(request)
+                                                                .requestContentPublisher(new ByteArrayContentPublisher(payload))
+                                                                .responseHandler(responseHandler)
+                                                                .build();
+        return delegate.execute(executeRequest).thenCombine(responseHandler.result, (ignored, response) -> response);
+    }
+
+    private static final class DrainedResponse {
+        private final int statusCode;
+        private final long bodyLength;
+
+        private DrainedResponse(int statusCode, long bodyLength) {
+            this.statusCode = statusCode;
+            this.bodyLength = bodyLength;
+        }
+    }
+
+    private static final class ByteArrayContentPublisher implements SdkHttpContentPublisher {
+        private final byte[] content;
+
+        private ByteArrayContentPublisher(byte[] content) {
+            this.content = content;
+        }
+
+        @Override
+        public Optional<Long> contentLength() {
+            return Optional.of((long) content.length);
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            AsyncRequestBody.fromBytesUnsafe(content).subscribe(subscriber);
+        }
+    }
+
+    /**
+     * Reads the whole response body, counting its bytes.
+     */
+    private static final class DrainingResponseHandler implements SdkAsyncHttpResponseHandler {
+        private final CompletableFuture<DrainedResponse> result = new CompletableFuture<>();
+        private volatile int statusCode;
+
+        @Override
+        public void onHeaders(SdkHttpResponse headers) {
+            statusCode = headers.statusCode();
+        }
+
+        @Override
+        public void onStream(Publisher<ByteBuffer> stream) {
+            stream.subscribe(new Subscriber<ByteBuffer>() {
+                private long bodyLength;
+
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                    bodyLength += byteBuffer.remaining();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    result.completeExceptionally(t);
+                }
+
+                @Override
+                public void onComplete() {
+                    result.complete(new DrainedResponse(statusCode, bodyLength));
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            result.completeExceptionally(error);
+        }
+    }
+}
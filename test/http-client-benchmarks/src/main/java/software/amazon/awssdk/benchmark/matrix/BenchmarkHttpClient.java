@@ -0,0 +1,40 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.matrix;
+
+import java.net.URI;
+import software.amazon.awssdk.utils.SdkAutoCloseable;
+
+/**
+ * The operations of the HTTP client matrix, implemented on top of a synchronous or an asynchronous SDK HTTP client so that
+ * both kinds of clients are measured the same way.
+ */
+public interface BenchmarkHttpClient extends SdkAutoCloseable {
+
+    /**
+     * Downloads the given URI and reads the whole response body.
+     *
+     * @return The number of bytes of the response body.
+     */
+    long get(URI uri) throws Exception;
+
+    /**
+     * Uploads the payload to the given URI and waits for the response.
+     *
+     * @return The status code of the response.
+     */
+    int put(URI uri, byte[] payload) throws Exception;
+}
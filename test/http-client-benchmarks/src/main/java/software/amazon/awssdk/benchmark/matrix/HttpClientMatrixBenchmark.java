@@ -0,0 +1,145 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.matrix;
+
+import static software.amazon.awssdk.benchmark.apache5.utility.BenchmarkUtilities.isJava21OrHigher;
+import static software.amazon.awssdk.benchmark.apache5.utility.BenchmarkUtilities.newVirtualThreadPerTaskExecutor;
+
+import java.net.URI;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * One cell of the HTTP client matrix: a client downloading and uploading a payload of a given size from the
+ * {@link LocalStandInServer}, over HTTP/1.1 or h2, from platform or virtual threads.
+ * <p>
+ * The concurrency is the number of JMH threads, each of them sending one request at a time. With virtual threads, each
+ * request is handed off from the JMH thread to a new virtual thread. Latencies are sampled per request, so the percentiles
+ * of the primary result are the request latencies, and the GC profiler adds the allocation rate. Combinations a client
+ * doesn't support, like h2 with a client only speaking HTTP/1.1, fail in setup: {@link HttpClientMatrixRunner} only runs
+ * the supported ones.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 2, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+public class HttpClientMatrixBenchmark {
+    private static final Logger logger = Logger.loggerFor(HttpClientMatrixBenchmark.class);
+
+    @Param({"apache4", "apache5", "url-connection", "crt", "netty", "crt-async"})
+    private String client;
+
+    @Param({"HTTP1_1"})
+    private String protocol;
+
+    @Param({"1", "64", "1024"})
+    private int payloadSizeInKb;
+
+    @Param({"platform"})
+    private String threadType;
+
+    private LocalStandInServer server;
+    private BenchmarkHttpClient httpClient;
+    private ExecutorService virtualThreadExecutor;
+    private URI getUri;
+    private URI putUri;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setup(BenchmarkParams params) throws Exception {
+        HttpClientType clientType = HttpClientType.fromValue(client);
+        Protocol httpProtocol = Protocol.valueOf(protocol);
+        if (!clientType.supports(httpProtocol)) {
+            throw new UnsupportedOperationException(client + " does not support " + protocol);
+        }
+
+        ThreadType threads = ThreadType.fromValue(threadType);
+        if (threads == ThreadType.VIRTUAL) {
+            if (clientType.isAsync()) {
+                throw new UnsupportedOperationException(client + " is asynchronous, it does not run requests on the "
+                                                        + "calling threads");
+            }
+            if (!isJava21OrHigher()) {
+                throw new UnsupportedOperationException("Virtual threads require Java 21 or higher");
+            }
+            virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+        }
+
+        server = new LocalStandInServer();
+        server.start();
+
+        int payloadSize = payloadSizeInKb * 1024;
+        getUri = URI.create(server.uri() + "/payload?" + LocalStandInServer.SIZE_PARAMETER + "=" + payloadSize);
+        putUri = URI.create(server.uri() + "/payload");
+        payload = new byte[payloadSize];
+        ThreadLocalRandom.current().nextBytes(payload);
+
+        httpClient = clientType.create(httpProtocol, params.getThreads());
+        logger.info(() -> String.format("Running %s over %s with %d %s threads and %d KB payloads",
+                                        client, protocol, params.getThreads(), threadType, payloadSizeInKb));
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) throws Exception {
+        blackhole.consume(call(() -> httpClient.get(getUri)));
+    }
+
+    @Benchmark
+    public void put(Blackhole blackhole) throws Exception {
+        blackhole.consume(call(() -> httpClient.put(putUri, payload)));
+    }
+
+    private <T> T call(Callable<T> request) throws Exception {
+        if (virtualThreadExecutor == null) {
+            return request.call();
+        }
+        return virtualThreadExecutor.submit(request).get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+        if (server != null) {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.matrix;
+
+import static software.amazon.awssdk.benchmark.apache5.utility.BenchmarkUtilities.isJava21OrHigher;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.util.Statistics;
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Runs the {@link HttpClientMatrixBenchmark} for every supported combination of client, protocol, payload size,
+ * concurrency and thread type, prints the results, writes them as JSON, and compares them with the results of a previous
+ * run if a baseline file is given.
+ * <p>
+ * Each dimension can be narrowed with a {@code key=value1,value2} argument, for example
+ * {@code clients=netty,apache5 payloadsKb=64 concurrency=16}. The other arguments are {@code output=<file>} (default
+ * {@value #DEFAULT_OUTPUT}), {@code baseline=<file>} and {@code label=<name>} identifying the run, such as a commit.
+ */
+public final class HttpClientMatrixRunner {
+    private static final Logger logger = Logger.loggerFor(HttpClientMatrixRunner.class);
+
+    private static final String DEFAULT_OUTPUT = "http-client-matrix.json";
+    private static final double TOLERANCE_LEVEL = 0.05;
+
+    private final List<HttpClientType> clients;
+    private final List<Protocol> protocols;
+    private final List<String> payloadSizesInKb;
+    private final List<Integer> concurrencies;
+    private final List<ThreadType> threadTypes;
+    private final Path output;
+    private final Path baseline;
+    private final String label;
+
+    private HttpClientMatrixRunner(Map<String, String> arguments) {
+        this.clients = values(arguments, "clients", "apache4,apache5,url-connection,crt,netty,crt-async",
+                              HttpClientType::fromValue);
+        this.protocols = values(arguments, "protocols", "HTTP1_1,HTTP2", Protocol::valueOf);
+        this.payloadSizesInKb = values(arguments, "payloadsKb", "1,64,1024", Function.identity());
+        this.concurrencies = values(arguments, "concurrency", "1,16,64", Integer::parseInt);
+        this.threadTypes = values(arguments, "threads", "platform,virtual", ThreadType::fromValue);
+        this.output = Paths.get(arguments.getOrDefault("output", DEFAULT_OUTPUT));
+        this.baseline = arguments.containsKey("baseline") ? Paths.get(arguments.get("baseline")) : null;
+        this.label = arguments.getOrDefault("label", "");
+    }
+
+    public static void main(String... args) throws Exception {
+        Map<String, String> arguments = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator > 0) {
+                arguments.put(arg.substring(0, separator), arg.substring(separator + 1));
+            }
+        }
+        new HttpClientMatrixRunner(arguments).run();
+    }
+
+    private void run() throws RunnerException, IOException {
+        List<MatrixResult> results = new ArrayList<>();
+        for (HttpClientType client : clients) {
+            for (int concurrency : concurrencies) {
+                results.addAll(runClient(client, concurrency));
+            }
+        }
+        results.sort(Comparator.comparing(MatrixResult::id));
+
+        printResults(results);
+        MatrixResultFile.write(output, label, results);
+        logger.info(() -> "Matrix results written to " + output.toAbsolutePath());
+
+        if (baseline != null) {
+            if (Files.exists(baseline)) {
+                printComparison(results, MatrixResultFile.read(baseline));
+            } else {
+                logger.warn(() -> "Baseline file " + baseline + " does not exist, skipping the comparison");
+            }
+        }
+    }
+
+    private List<MatrixResult> runClient(HttpClientType client, int concurrency) throws RunnerException {
+        String[] clientProtocols = protocols.stream()
+                                            .filter(client::supports)
+                                            .map(Protocol::name)
+                                            .toArray(String[]::new);
+        String[] clientThreadTypes = threadTypes.stream()
+                                                .filter(t -> t == ThreadType.PLATFORM
+                                                             || !client.isAsync() && isJava21OrHigher())
+                                                .map(ThreadType::value)
+                                                .toArray(String[]::new);
+        if (clientProtocols.length == 0 || clientThreadTypes.length == 0) {
+            logger.info(() -> "Skipping " + client + ", none of the requested protocols or thread types apply to it");
+            return new ArrayList<>();
+        }
+
+        logger.info(() -> String.format("Running %s with %d concurrent requests", client, concurrency));
+        OptionsBuilder options = new OptionsBuilder();
+        options.include(HttpClientMatrixBenchmark.class.getSimpleName())
+               .param("client", client.value())
+               .param("protocol", clientProtocols)
+               .param("payloadSizeInKb", payloadSizesInKb.toArray(new String[0]))
+               .param("threadType", clientThreadTypes)
+               .threads(concurrency)
+               .addProfiler(GCProfiler.class);
+
+        Collection<RunResult> runResults = new Runner(options.build()).run();
+        return runResults.stream()
+                         .map(HttpClientMatrixRunner::toMatrixResult)
+                         .collect(Collectors.toList());
+    }
+
+    private static MatrixResult toMatrixResult(RunResult runResult) {
+        BenchmarkParams params = runResult.getParams();
+        Statistics statistics = runResult.getPrimaryResult().getStatistics();
+        int concurrency = params.getThreads();
+
+        return MatrixResult.builder()
+                           .client(params.getParam("client"))
+                           .protocol(params.getParam("protocol"))
+                           .payloadSizeInKb(Integer.parseInt(params.getParam("payloadSizeInKb")))
+                           .concurrency(concurrency)
+                           .threadType(params.getParam("threadType"))
+                           .operation(runResult.getPrimaryResult().getLabel())
+                           // Each thread sends one request at a time, the mean latency is in milliseconds
+                           .throughput(concurrency * 1000.0 / statistics.getMean())
+                           .p50Latency(statistics.getPercentile(50.0))
+                           .p99Latency(statistics.getPercentile(99.0))
+                           .allocationRate(secondaryScore(runResult, "gc.alloc.rate"))
+                           .allocatedBytesPerOperation(secondaryScore(runResult, "gc.alloc.rate.norm"))
+                           .build();
+    }
+
+    private static double secondaryScore(RunResult runResult, String name) {
+        for (Map.Entry<String, Result> entry : runResult.getSecondaryResults().entrySet()) {
+            // Older JMH versions prefix the names of the profiler results with a middle dot
+            if (entry.getKey().replace("\u00b7", "").equals(name)) {
+                return entry.getValue().getScore();
+            }
+        }
+        return Double.NaN;
+    }
+
+    private static void printResults(List<MatrixResult> results) {
+        printToConsole("\n" + repeat("=", 150));
+        printToConsole("HTTP CLIENT MATRIX RESULTS");
+        printToConsole(repeat("=", 150));
+        printToConsole(String.format("%-55s | %15s | %13s | %13s | %16s | %14s",
+                                     "Benchmark", "Throughput", "P50 Latency", "P99 Latency", "Allocation Rate",
+                                     "Alloc/Op"));
+        printToConsole(repeat("-", 150));
+        for (MatrixResult result : results) {
+            printToConsole(String.format("%-55s | %,13.2f/s | %10.3f ms | %10.3f ms | %10.2f MB/s | %12.0f B",
+                                         result.id(),
+                                         result.throughput(),
+                                         result.p50Latency(),
+                                         result.p99Latency(),
+                                         result.allocationRate(),
+                                         result.allocatedBytesPerOperation()));
+        }
+        printToConsole(repeat("=", 150));
+    }
+
+    /**
+     * Prints the relative change of each result compared to the baseline, flagging the throughput and p99 latency changes
+     * beyond the tolerance level as regressions.
+     */
+    private static void printComparison(List<MatrixResult> results, List<MatrixResult> baselineResults) {
+        Map<String, MatrixResult> baselineById = baselineResults.stream()
+                                                                .collect(Collectors.toMap(MatrixResult::id, r -> r,
+                                                                                          (a, b) -> b));
+        printToConsole("\nCOMPARISON WITH BASELINE:");
+        printToConsole(repeat("=", 120));
+        printToConsole(String.format("%-55s | %12s | %12s | %12s | %s",
+                                     "Benchmark", "Throughput", "P99 Latency", "Alloc/Op", ""));
+        printToConsole(repeat("-", 120));
+
+        int regressions = 0;
+        for (MatrixResult result : results) {
+            MatrixResult baselineResult = baselineById.get(result.id());
+            if (baselineResult == null) {
+                printToConsole(String.format("%-55s | %s", result.id(), "no baseline"));
+                continue;
+            }
+
+            double throughputChange = relativeChange(result.throughput(), baselineResult.throughput());
+            double p99Change = relativeChange(result.p99Latency(), baselineResult.p99Latency());
+            double allocationChange = relativeChange(result.allocatedBytesPerOperation(),
+                                                     baselineResult.allocatedBytesPerOperation());
+            boolean regression = throughputChange < -TOLERANCE_LEVEL || p99Change > TOLERANCE_LEVEL;
+            if (regression) {
+                regressions++;
+            }
+            printToConsole(String.format("%-55s | %+11.1f%% | %+11.1f%% | %+11.1f%% | %s",
+                                         result.id(),
+                                         throughputChange * 100,
+                                         p99Change * 100,
+                                         allocationChange * 100,
+                                         regression ? "REGRESSION" : ""));
+        }
+        printToConsole(repeat("=", 120));
+        printToConsole(String.format("%d of %d results regressed by more than %.0f%%",
+                                     regressions, results.size(), TOLERANCE_LEVEL * 100));
+    }
+
+    private static double relativeChange(double current, double baseline) {
+        return (current - baseline) / baseline;
+    }
+
+    private static <T> List<T> values(Map<String, String> arguments, String key, String defaultValues,
+                                      Function<String, T> parser) {
+        return Arrays.stream(arguments.getOrDefault(key, defaultValues).split(","))
+                     .map(String::trim)
+                     .filter(s -> !s.isEmpty())
+                     .map(parser)
+                     .collect(Collectors.toList());
+    }
+
+    private static String repeat(String str, int count) {
+        StringBuilder sb = new StringBuilder(str.length() * count);
+        for (int i = 0; i < count; i++) {
+            sb.append(str);
+        }
+        return sb.toString();
+    }
+
+    private static void printToConsole(String message) {
+        // CHECKSTYLE:OFF - We want the Benchmark results to be printed at the end of the run
+        System.out.println(message);
+        // CHECKSTYLE:ON
+    }
+}
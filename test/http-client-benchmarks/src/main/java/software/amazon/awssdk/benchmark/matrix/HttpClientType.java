@@ -0,0 +1,139 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.matrix;
+
+import software.amazon.awssdk.http.Protocol;
+import software.amazon.awssdk.http.ProtocolNegotiation;
+import software.amazon.awssdk.http.SdkHttpConfigurationOption;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.apache5.Apache5HttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtAsyncHttpClient;
+import software.amazon.awssdk.http.crt.AwsCrtHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.utils.AttributeMap;
+
+/**
+ * The HTTP clients of the matrix, with the protocols each of them supports.
+ */
+public enum HttpClientType {
+    APACHE4("apache4", false, false) {
+        @Override
+        BenchmarkHttpClient create(Protocol protocol, int maxConnections) {
+            return new SyncBenchmarkHttpClient(ApacheHttpClient.builder()
+                                                               .maxConnections(maxConnections)
+                                                               .buildWithDefaults(TRUST_ALL_CERTIFICATES));
+        }
+    },
+
+    APACHE5("apache5", false, false) {
+        @Override
+        BenchmarkHttpClient create(Protocol protocol, int maxConnections) {
+            return new SyncBenchmarkHttpClient(Apache5HttpClient.builder()
+                                                                .maxConnections(maxConnections)
+                                                                .buildWithDefaults(TRUST_ALL_CERTIFICATES));
+        }
+    },
+
+    URL_CONNECTION("url-connection", false, false) {
+        @Override
+        BenchmarkHttpClient create(Protocol protocol, int maxConnections) {
+            return new SyncBenchmarkHttpClient(UrlConnectionHttpClient.builder()
+                                                                      .buildWithDefaults(TRUST_ALL_CERTIFICATES));
+        }
+    },
+
+    CRT("crt", false, false) {
+        @Override
+        BenchmarkHttpClient create(Protocol protocol, int maxConnections) {
+            return new SyncBenchmarkHttpClient(AwsCrtHttpClient.builder()
+                                                               .maxConcurrency(maxConnections)
+                                                               .buildWithDefaults(TRUST_ALL_CERTIFICATES));
+        }
+    },
+
+    NETTY("netty", true, true) {
+        @Override
+        BenchmarkHttpClient create(Protocol protocol, int maxConnections) {
+            NettyNioAsyncHttpClient.Builder builder = NettyNioAsyncHttpClient.builder()
+                                                                             .maxConcurrency(maxConnections)
+                                                                             .protocol(protocol);
+            if (protocol == Protocol.HTTP2) {
+                // The stand-in server serves both protocols on the same port, so h2 has to be negotiated.
+                builder.protocolNegotiation(ProtocolNegotiation.ALPN);
+            }
+            return new AsyncBenchmarkHttpClient(builder.buildWithDefaults(TRUST_ALL_CERTIFICATES));
+        }
+    },
+
+    CRT_ASYNC("crt-async", true, false) {
+        @Override
+        BenchmarkHttpClient create(Protocol protocol, int maxConnections) {
+            return new AsyncBenchmarkHttpClient(AwsCrtAsyncHttpClient.builder()
+                                                                     .maxConcurrency(maxConnections)
+                                                                     .buildWithDefaults(TRUST_ALL_CERTIFICATES));
+        }
+    };
+
+    private static final AttributeMap TRUST_ALL_CERTIFICATES =
+        AttributeMap.builder()
+                    .put(SdkHttpConfigurationOption.TRUST_ALL_CERTIFICATES, Boolean.TRUE)
+                    .build();
+
+    private final String value;
+    private final boolean async;
+    private final boolean supportsHttp2;
+
+    HttpClientType(String value, boolean async, boolean supportsHttp2) {
+        this.value = value;
+        this.async = async;
+        this.supportsHttp2 = supportsHttp2;
+    }
+
+    /**
+     * Creates a client for the given protocol, whose connection pool can serve the given number of concurrent requests.
+     */
+    abstract BenchmarkHttpClient create(Protocol protocol, int maxConnections);
+
+    public String value() {
+        return value;
+    }
+
+    /**
+     * @return Whether this is an asynchronous client, which doesn't run the requests on the calling thread.
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    public boolean supports(Protocol protocol) {
+        return protocol == Protocol.HTTP1_1 || supportsHttp2;
+    }
+
+    public static HttpClientType fromValue(String value) {
+        for (HttpClientType type : values()) {
+            if (type.value.equals(value)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown HTTP client: " + value);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.matrix;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.server.HttpConfiguration;
+import org.eclipse.jetty.server.HttpConnectionFactory;
+import org.eclipse.jetty.server.SecureRequestCustomizer;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.SslConnectionFactory;
+import org.eclipse.jetty.servlet.ServletContextHandler;
+import org.eclipse.jetty.servlet.ServletHolder;
+import org.eclipse.jetty.util.ssl.SslContextFactory;
+
+/**
+ * Local HTTPS server standing in for a service in the HTTP client matrix, so that every client is measured against the same
+ * endpoint without network noise.
+ * <p>
+ * Both HTTP/1.1 and h2 are served on the same port: h2 is negotiated with ALPN, and clients that don't use ALPN get
+ * HTTP/1.1. A {@code GET} returns as many bytes as the {@value #SIZE_PARAMETER} query parameter asks for, and a {@code PUT}
+ * reads the request body entirely and returns an empty response.
+ */
+public final class LocalStandInServer {
+    static final String SIZE_PARAMETER = "size";
+
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+
+    private final Server server;
+    private final ServerConnector connector;
+
+    public LocalStandInServer() {
+        server = new Server();
+
+        HttpConfiguration https = new HttpConfiguration();
+        https.addCustomizer(new SecureRequestCustomizer());
+
+        SslContextFactory.Server sslContextFactory = new SslContextFactory.Server();
+        sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+        sslContextFactory.setKeyStorePassword("password");
+        sslContextFactory.setKeyStorePath(LocalStandInServer.class.getResource("stand-in-keystore.jks").toExternalForm());
+
+        HttpConnectionFactory http1 = new HttpConnectionFactory(https);
+        HTTP2ServerConnectionFactory h2 = new HTTP2ServerConnectionFactory(https);
+        ALPNServerConnectionFactory alpn = new ALPNServerConnectionFactory("h2", HttpVersion.HTTP_1_1.asString());
+        alpn.setDefaultProtocol(http1.getProtocol());
+        SslConnectionFactory ssl = new SslConnectionFactory(sslContextFactory, alpn.getProtocol());
+
+        connector = new ServerConnector(server, ssl, alpn, h2, http1);
+        connector.setPort(0);
+        server.addConnector(connector);
+
+        ServletContextHandler context = new ServletContextHandler(server, "/");
+        context.addServlet(new ServletHolder(new PayloadServlet()), "/*");
+        server.setHandler(context);
+    }
+
+    public void start() throws Exception {
+        server.start();
+    }
+
+    public void stop() throws Exception {
+        server.stop();
+    }
+
+    /**
+     * @return The URI of the server, only known once the server is started.
+     */
+    public URI uri() {
+        return URI.create("https://localhost:" + connector.getLocalPort());
+    }
+
+    private static final class PayloadServlet extends HttpServlet {
+        private static final byte[] CHUNK = new byte[WRITE_BUFFER_SIZE];
+
+        @Override
+        protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            long size = Long.parseLong(request.getParameter(SIZE_PARAMETER));
+            response.setStatus(HttpStatus.OK_200);
+            response.setContentType("application/octet-stream");
+            response.setContentLengthLong(size);
+
+            OutputStream out = response.getOutputStream();
+            long remaining = size;
+            while (remaining > 0) {
+                int length = (int) Math.min(remaining, CHUNK.length);
+                out.write(CHUNK, 0, length);
+                remaining -= length;
+            }
+        }
+
+        @Override
+        protected void doPut(HttpServletRequest request, HttpServletResponse response) throws IOException {
+            byte[] buffer = new byte[WRITE_BUFFER_SIZE];
+            try (InputStream in = request.getInputStream()) {
+                while (in.read(buffer) != -1) {
+                    // Drain the request body
+                }
+            }
+            response.setStatus(HttpStatus.OK_200);
+            response.setContentLength(0);
+        }
+    }
+}
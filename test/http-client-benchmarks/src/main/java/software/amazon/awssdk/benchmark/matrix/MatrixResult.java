@@ -0,0 +1,200 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.matrix;
+
+/**
+ * The result of one cell of the HTTP client matrix, for one operation.
+ */
+public final class MatrixResult {
+    private final String client;
+    private final String protocol;
+    private final int payloadSizeInKb;
+    private final int concurrency;
+    private final String threadType;
+    private final String operation;
+    private final double throughput;
+    private final double p50Latency;
+    private final double p99Latency;
+    private final double allocationRate;
+    private final double allocatedBytesPerOperation;
+
+    private MatrixResult(Builder builder) {
+        this.client = builder.client;
+        this.protocol = builder.protocol;
+        this.payloadSizeInKb = builder.payloadSizeInKb;
+        this.concurrency = builder.concurrency;
+        this.threadType = builder.threadType;
+        this.operation = builder.operation;
+        this.throughput = builder.throughput;
+        this.p50Latency = builder.p50Latency;
+        this.p99Latency = builder.p99Latency;
+        this.allocationRate = builder.allocationRate;
+        this.allocatedBytesPerOperation = builder.allocatedBytesPerOperation;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return The identifier of the cell and operation, stable across runs so that results of different commits can be
+     * compared.
+     */
+    public String id() {
+        return String.format("%s/%s/%s/%dKB/%dx/%s", operation, client, protocol, payloadSizeInKb, concurrency, threadType);
+    }
+
+    public String client() {
+        return client;
+    }
+
+    public String protocol() {
+        return protocol;
+    }
+
+    public int payloadSizeInKb() {
+        return payloadSizeInKb;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    public String threadType() {
+        return threadType;
+    }
+
+    public String operation() {
+        return operation;
+    }
+
+    /**
+     * @return The number of requests per second, over all the concurrent threads.
+     */
+    public double throughput() {
+        return throughput;
+    }
+
+    /**
+     * @return The median request latency, in milliseconds.
+     */
+    public double p50Latency() {
+        return p50Latency;
+    }
+
+    /**
+     * @return The 99th percentile of the request latency, in milliseconds.
+     */
+    public double p99Latency() {
+        return p99Latency;
+    }
+
+    /**
+     * @return The allocation rate of the benchmark JVM, in MB per second, or NaN if the GC profiler was not enabled.
+     */
+    public double allocationRate() {
+        return allocationRate;
+    }
+
+    /**
+     * @return The bytes allocated per request, or NaN if the GC profiler was not enabled.
+     */
+    public double allocatedBytesPerOperation() {
+        return allocatedBytesPerOperation;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %.2f ops/sec, p50=%.3fms, p99=%.3fms, alloc=%.2fMB/sec",
+                             id(), throughput, p50Latency, p99Latency, allocationRate);
+    }
+
+    public static final class Builder {
+        private String client;
+        private String protocol;
+        private int payloadSizeInKb;
+        private int concurrency;
+        private String threadType;
+        private String operation;
+        private double throughput;
+        private double p50Latency;
+        private double p99Latency;
+        private double allocationRate = Double.NaN;
+        private double allocatedBytesPerOperation = Double.NaN;
+
+        private Builder() {
+        }
+
+        public Builder client(String client) {
+            this.client = client;
+            return this;
+        }
+
+        public Builder protocol(String protocol) {
+            this.protocol = protocol;
+            return this;
+        }
+
+        public Builder payloadSizeInKb(int payloadSizeInKb) {
+            this.payloadSizeInKb = payloadSizeInKb;
+            return this;
+        }
+
+        public Builder concurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        public Builder threadType(String threadType) {
+            this.threadType = threadType;
+            return this;
+        }
+
+        public Builder operation(String operation) {
+            this.operation = operation;
+            return this;
+        }
+
+        public Builder throughput(double throughput) {
+            this.throughput = throughput;
+            return this;
+        }
+
+        public Builder p50Latency(double p50Latency) {
+            this.p50Latency = p50Latency;
+            return this;
+        }
+
+        public Builder p99Latency(double p99Latency) {
+            this.p99Latency = p99Latency;
+            return this;
+        }
+
+        public Builder allocationRate(double allocationRate) {
+            this.allocationRate = allocationRate;
+            return this;
+        }
+
+        public Builder allocatedBytesPerOperation(double allocatedBytesPerOperation) {
+            this.allocatedBytesPerOperation = allocatedBytesPerOperation;
+            return this;
+        }
+
+        public MatrixResult build() {
+            return new MatrixResult(this);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.matrix;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import software.amazon.awssdk.protocols.jsoncore.JsonNode;
+import software.amazon.awssdk.protocols.jsoncore.JsonNodeParser;
+import software.amazon.awssdk.protocols.jsoncore.JsonWriter;
+import software.amazon.awssdk.utils.JavaSystemSetting;
+
+/**
+ * Writes and reads the results of the HTTP client matrix as JSON, so that the results of a commit can be kept and used as
+ * the baseline of another one.
+ */
+public final class MatrixResultFile {
+
+    private MatrixResultFile() {
+    }
+
+    /**
+     * Writes the results, along with the label identifying the run (such as a commit) and the JVM it ran on.
+     */
+    public static void write(Path file, String label, List<MatrixResult> results) throws IOException {
+        JsonWriter writer = JsonWriter.create();
+        writer.writeStartObject();
+        writer.writeFieldName("label").writeValue(label);
+        writer.writeFieldName("timestamp").writeValue(Instant.now().toString());
+        writer.writeFieldName("jdkVersion").writeValue(JavaSystemSetting.JAVA_VERSION.getStringValueOrThrow());
+        writer.writeFieldName("results").writeStartArray();
+        for (MatrixResult result : results) {
+            writer.writeStartObject();
+            writer.writeFieldName("id").writeValue(result.id());
+            writer.writeFieldName("client").writeValue(result.client());
+            writer.writeFieldName("protocol").writeValue(result.protocol());
+            writer.writeFieldName("payloadSizeInKb").writeValue(result.payloadSizeInKb());
+            writer.writeFieldName("concurrency").writeValue(result.concurrency());
+            writer.writeFieldName("threadType").writeValue(result.threadType());
+            writer.writeFieldName("operation").writeValue(result.operation());
+            writer.writeFieldName("throughput").writeValue(result.throughput());
+            writer.writeFieldName("p50LatencyMs").writeValue(result.p50Latency());
+            writer.writeFieldName("p99LatencyMs").writeValue(result.p99Latency());
+            writer.writeFieldName("allocationRateMbPerSec").writeValue(result.allocationRate());
+            writer.writeFieldName("allocatedBytesPerOp").writeValue(result.allocatedBytesPerOperation());
+            writer.writeEndObject();
+        }
+        writer.writeEndArray();
+        writer.writeEndObject();
+        Files.write(file, writer.getBytes());
+    }
+
+    /**
+     * Reads results written by {@link #write(Path, String, List)}.
+     */
+    public static List<MatrixResult> read(Path file) throws IOException {
+        JsonNode root;
+        try (InputStream in = Files.newInputStream(file)) {
+            root = JsonNodeParser.create().parse(in);
+        }
+        JsonNode results = root.field("results").orElse(null);
+        if (results == null || !results.isArray()) {
+            return Collections.emptyList();
+        }
+
+        List<MatrixResult> matrixResults = new ArrayList<>();
+        for (JsonNode result : results.asArray()) {
+            matrixResults.add(MatrixResult.builder()
+                                          .client(text(result, "client"))
+                                          .protocol(text(result, "protocol"))
+                                          .payloadSizeInKb(Integer.parseInt(text(result, "payloadSizeInKb")))
+                                          .concurrency(Integer.parseInt(text(result, "concurrency")))
+                                          .threadType(text(result, "threadType"))
+                                          .operation(text(result, "operation"))
+                                          .throughput(number(result, "throughput"))
+                                          .p50Latency(number(result, "p50LatencyMs"))
+                                          .p99Latency(number(result, "p99LatencyMs"))
+                                          .allocationRate(number(result, "allocationRateMbPerSec"))
+                                          .allocatedBytesPerOperation(number(result, "allocatedBytesPerOp"))
+                                          .build());
+        }
+        return matrixResults;
+    }
+
+    private static String text(JsonNode node, String fieldName) {
+        return node.field(fieldName).map(JsonNode::text).orElse(null);
+    }
+
+    private static double number(JsonNode node, String fieldName) {
+        String text = text(node, fieldName);
+        return text == null ? Double.NaN : Double.parseDouble(text);
+    }
+}
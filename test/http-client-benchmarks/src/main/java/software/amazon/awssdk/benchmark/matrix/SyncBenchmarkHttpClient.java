@@ -0,0 +1,93 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.matrix;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Optional;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpMethod;
+
+/**
+ * {@link BenchmarkHttpClient} calling a {@link SdkHttpClient} on the calling thread.
+ */
+final class SyncBenchmarkHttpClient implements BenchmarkHttpClient {
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+
+    private final SdkHttpClient delegate;
+
+    SyncBenchmarkHttpClient(SdkHttpClient delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public long get(URI uri) throws IOException {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.GET)
+                                                       .uri(uri)
+                                                       .build();
+        HttpExecuteResponse response = delegate.prepareRequest(HttpExecuteRequest.builder().request(request).build()).call();
+        Optional<AbortableInputStream> body = response.responseBody();
+        if (!body.isPresent()) {
+            return 0;
+        }
+        try (InputStream in = body.get()) {
+            return drain(in);
+        }
+    }
+
+    @Override
+    public int put(URI uri, byte[] payload) throws IOException {
+        SdkHttpFullRequest request = SdkHttpFullRequest.builder()
+                                                       .method(SdkHttpMethod.PUT)
+                                                       .uri(uri)
+                                                       .putHeader("Content-Length", Integer.toString(payload.length))
+                                                       .build();
+        HttpExecuteResponse response =
+            delegate.prepareRequest(HttpExecuteRequest.builder()
+                                                      .request(request)
+                                                      .contentStreamProvider(() -> new ByteArrayInputStream(payload))
+                                                      .build())
+                    .call();
+        if (response.responseBody().isPresent()) {
+            try (InputStream in = response.responseBody().get()) {
+                drain(in);
+            }
+        }
+        return response.httpResponse().statusCode();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    private static long drain(InputStream in) throws IOException {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        long total = 0;
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+        }
+        return total;
+    }
+}
@@ -19,6 +19,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -30,6 +31,7 @@ import software.amazon.awssdk.benchmark.utils.MockServer;
 import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
+import software.amazon.awssdk.core.client.config.SdkAdvancedClientOption;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
@@ -44,10 +46,17 @@ import software.amazon.awssdk.services.protocolrestjson.model.StreamingOutputOpe
 
 /**
  * Benchmarking comparing metrics-enabled versus metrics-disabled performance.
+ * <p>
+ * The {@code collector} parameter selects how the metrics are collected: {@code none} does not register a publisher, so the
+ * clients use a {@code NoOpMetricCollector}, {@code default} uses the default collector and {@code concurrent} enables
+ * {@link SdkAdvancedClientOption#CONCURRENT_METRIC_COLLECTOR}.
  */
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
 public class MetricsEnabledBenchmark {
+    @Param({"none", "default", "concurrent"})
+    private String collector;
+
     private MockServer mockServer;
     private ProtocolRestJsonClient enabledMetricsSyncClient;
     private ProtocolRestJsonAsyncClient enabledMetricsAsyncClient;
@@ -56,8 +65,26 @@ public class MetricsEnabledBenchmark {
     public void setup() throws Exception {
         mockServer = new MockServer();
         mockServer.start();
-        enabledMetricsSyncClient = enableMetrics(syncClientBuilder()).build();
-        enabledMetricsAsyncClient = enableMetrics(asyncClientBuilder()).build();
+        enabledMetricsSyncClient = configureCollector(syncClientBuilder()).build();
+        enabledMetricsAsyncClient = configureCollector(asyncClientBuilder()).build();
+    }
+
+    private <T extends SdkClientBuilder<T, ?>> T configureCollector(T clientBuilder) {
+        switch (collector) {
+            case "none":
+                return clientBuilder;
+            case "default":
+                return enableMetrics(clientBuilder);
+            case "concurrent":
+                T builder = enableMetrics(clientBuilder);
+                return builder.overrideConfiguration(
+                    builder.overrideConfiguration()
+                           .toBuilder()
+                           .putAdvancedOption(SdkAdvancedClientOption.CONCURRENT_METRIC_COLLECTOR, true)
+                           .build());
+            default:
+                throw new IllegalArgumentException("Unknown collector: " + collector);
+        }
     }
 
     protected <T extends SdkClientBuilder<T, ?>> T enableMetrics(T syncClientBuilder) {
@@ -0,0 +1,122 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.cache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.utils.cache.bounded.BoundedCache;
+import software.amazon.awssdk.utils.cache.lru.LruCache;
+import software.amazon.awssdk.utils.cache.tinylfu.TinyLfuCache;
+
+/**
+ * Compares the cache-hit throughput of the bounded caches in {@code utils.cache} as the number of threads reading from the
+ * same cache grows. All the keys read fit in the cache, so every read after the setup is a hit.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CacheHitBenchmark {
+    private static final int MAX_SIZE = 128;
+    private static final int KEY_COUNT = 64;
+    private static final int KEY_MASK = KEY_COUNT - 1;
+
+    @Param({"LruCache", "BoundedCache", "TinyLfuCache"})
+    public String cacheType;
+
+    private Function<Integer, String> cache;
+    private Integer[] keys;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Function<Integer, String> valueSupplier = k -> Integer.toString(k);
+        switch (cacheType) {
+            case "LruCache":
+                cache = LruCache.builder(valueSupplier).maxSize(MAX_SIZE).build()::get;
+                break;
+            case "BoundedCache":
+                cache = BoundedCache.builder(valueSupplier).maxSize(MAX_SIZE).build()::get;
+                break;
+            case "TinyLfuCache":
+                cache = TinyLfuCache.builder(valueSupplier).maxSize(MAX_SIZE).build()::get;
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid cacheType: " + cacheType);
+        }
+
+        keys = new Integer[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = i;
+            cache.apply(keys[i]);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private int index;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            index = ThreadLocalRandom.current().nextInt(KEY_COUNT);
+        }
+
+        int nextIndex() {
+            index = (index + 1) & KEY_MASK;
+            return index;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void hit1Thread(ThreadState state, Blackhole blackhole) {
+        blackhole.consume(cache.apply(keys[state.nextIndex()]));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void hit4Threads(ThreadState state, Blackhole blackhole) {
+        blackhole.consume(cache.apply(keys[state.nextIndex()]));
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void hit16Threads(ThreadState state, Blackhole blackhole) {
+        blackhole.consume(cache.apply(keys[state.nextIndex()]));
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void hit64Threads(ThreadState state, Blackhole blackhole) {
+        blackhole.consume(cache.apply(keys[state.nextIndex()]));
+    }
+}
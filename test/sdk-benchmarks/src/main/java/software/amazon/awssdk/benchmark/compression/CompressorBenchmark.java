@@ -0,0 +1,120 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.compression;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.core.compression.Compressor;
+import software.amazon.awssdk.utils.Logger;
+
+/**
+ * Compares the CPU cost and the compression ratio of the request compressors. The payload is 1 MiB, so the average time per
+ * operation is the CPU time, in milliseconds, to compress one MiB on one thread. The compression ratio of each codec and
+ * payload is logged at the end of the setup, as JMH only reports times.
+ * <p>
+ * The "metrics" payload is a CloudWatch PutMetricData request body, representative of the payloads of operations supporting
+ * request compression, while the "random" payload is incompressible.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CompressorBenchmark {
+    private static final Logger log = Logger.loggerFor(CompressorBenchmark.class);
+    private static final int PAYLOAD_SIZE = 1024 * 1024;
+
+    @Param({"gzip-1", "gzip-6", "gzip-9", "deflate-1", "deflate-6", "zstd-1", "zstd-3", "zstd-9"})
+    public String codec;
+
+    @Param({"metrics", "random"})
+    public String payloadType;
+
+    private Compressor compressor;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        compressor = compressor(codec);
+        payload = payload(payloadType);
+
+        int compressedSize = compressor.compress(payload).length;
+        log.info(() -> String.format("%s on %s payload: %d bytes compressed to %d bytes, ratio %.2f",
+                                     codec, payloadType, payload.length, compressedSize,
+                                     (double) payload.length / compressedSize));
+    }
+
+    @Benchmark
+    public void compress(Blackhole blackhole) {
+        blackhole.consume(compressor.compress(payload));
+    }
+
+    private static Compressor compressor(String codec) {
+        int separator = codec.indexOf('-');
+        String name = codec.substring(0, separator);
+        int level = Integer.parseInt(codec.substring(separator + 1));
+        switch (name) {
+            case "gzip":
+                return Compressor.gzip(level);
+            case "deflate":
+                return Compressor.deflate(level);
+            case "zstd":
+                return Compressor.zstd(level);
+            default:
+                throw new IllegalArgumentException("Invalid codec: " + codec);
+        }
+    }
+
+    private static byte[] payload(String payloadType) {
+        Random random = new Random(42);
+        switch (payloadType) {
+            case "metrics":
+                StringBuilder body = new StringBuilder(PAYLOAD_SIZE);
+                body.append("Action=PutMetricData&Version=2010-08-01&Namespace=Benchmark");
+                for (int i = 1; body.length() < PAYLOAD_SIZE; i++) {
+                    body.append("&MetricData.member.").append(i).append(".MetricName=Latency")
+                        .append("&MetricData.member.").append(i).append(".Unit=Milliseconds")
+                        .append("&MetricData.member.").append(i).append(".Value=").append(random.nextInt(1000))
+                        .append("&MetricData.member.").append(i).append(".Dimensions.member.1.Name=Host")
+                        .append("&MetricData.member.").append(i).append(".Dimensions.member.1.Value=host-")
+                        .append(random.nextInt(64));
+                }
+                body.setLength(PAYLOAD_SIZE);
+                return body.toString().getBytes(StandardCharsets.UTF_8);
+            case "random":
+                byte[] bytes = new byte[PAYLOAD_SIZE];
+                random.nextBytes(bytes);
+                return bytes;
+            default:
+                throw new IllegalArgumentException("Invalid payloadType: " + payloadType);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.endpoint;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import software.amazon.awssdk.endpoints.Endpoint;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointParams;
+import software.amazon.awssdk.services.dynamodb.endpoints.DynamoDbEndpointProvider;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointParams;
+import software.amazon.awssdk.services.s3.endpoints.S3EndpointProvider;
+
+/**
+ * Measures the time taken to resolve the endpoint of a request with the default endpoint providers of S3 and DynamoDB.
+ * <p>
+ * {@code distinctParams} is the number of distinct sets of endpoint parameters that the requests cycle through, for example
+ * the number of buckets for S3. When they fit in the memoized endpoints of the provider, every resolution after the setup is
+ * a hit. When they don't, most resolutions evaluate the endpoint rules.
+ * <p>
+ * Run with {@code -prof gc} to also measure the bytes allocated per resolution.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EndpointResolutionBenchmark {
+
+    @Param({"s3", "dynamodb"})
+    public String service;
+
+    @Param({"1", "64", "4096"})
+    public int distinctParams;
+
+    private Function<Integer, Endpoint> resolver;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        switch (service) {
+            case "s3":
+                resolver = s3Resolver();
+                break;
+            case "dynamodb":
+                resolver = dynamoDbResolver();
+                break;
+            default:
+                throw new IllegalArgumentException("Invalid service: " + service);
+        }
+        for (int i = 0; i < distinctParams; i++) {
+            resolver.apply(i);
+        }
+    }
+
+    @Benchmark
+    public void resolveEndpoint(Blackhole blackhole) {
+        int i = index++;
+        if (index == distinctParams) {
+            index = 0;
+        }
+        blackhole.consume(resolver.apply(i));
+    }
+
+    private Function<Integer, Endpoint> s3Resolver() {
+        S3EndpointProvider provider = S3EndpointProvider.defaultProvider();
+        S3EndpointParams[] params = new S3EndpointParams[distinctParams];
+        for (int i = 0; i < distinctParams; i++) {
+            params[i] = S3EndpointParams.builder()
+                                        .region(Region.US_WEST_2)
+                                        .bucket("benchmark-bucket-" + i)
+                                        .key("prefix/object-" + i)
+                                        .useFips(false)
+                                        .useDualStack(false)
+                                        .build();
+        }
+        return i -> provider.resolveEndpoint(params[i]).join();
+    }
+
+    private Function<Integer, Endpoint> dynamoDbResolver() {
+        DynamoDbEndpointProvider provider = DynamoDbEndpointProvider.defaultProvider();
+        DynamoDbEndpointParams[] params = new DynamoDbEndpointParams[distinctParams];
+        for (int i = 0; i < distinctParams; i++) {
+            params[i] = DynamoDbEndpointParams.builder()
+                                              .region(Region.US_WEST_2)
+                                              .accountId(String.format("%012d", i))
+                                              .useFips(false)
+                                              .useDualStack(false)
+                                              .build();
+        }
+        return i -> provider.resolveEndpoint(params[i]).join();
+    }
+}
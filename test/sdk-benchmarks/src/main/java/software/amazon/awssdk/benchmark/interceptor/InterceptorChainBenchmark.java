@@ -0,0 +1,274 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.interceptor;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.reactivestreams.Publisher;
+import software.amazon.awssdk.awscore.AwsExecutionAttribute;
+import software.amazon.awssdk.core.ClientType;
+import software.amazon.awssdk.core.SdkRequest;
+import software.amazon.awssdk.core.SdkResponse;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptorChain;
+import software.amazon.awssdk.core.interceptor.InterceptorContext;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.http.SdkHttpMethod;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+
+/**
+ * Measures the overhead of the {@link ExecutionInterceptorChain} for one request, by creating a chain, as the client handlers
+ * do for every request, and invoking every hook of a successful synchronous call with the interceptors that S3 registers from
+ * its customization config.
+ * <p>
+ * With {@code hooks} set to {@code overridden}, the chain only invokes the hooks each interceptor overrides. With {@code all},
+ * each interceptor is wrapped in an interceptor overriding every hook, which measures the cost of invoking every interceptor
+ * on every hook.
+ * <p>
+ * Run with {@code -prof gc} to also measure the bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InterceptorChainBenchmark {
+    private static final String[] S3_INTERCEPTORS = {
+        "software.amazon.awssdk.services.s3.internal.handlers.StreamingRequestInterceptor",
+        "software.amazon.awssdk.services.s3.internal.handlers.CreateBucketInterceptor",
+        "software.amazon.awssdk.services.s3.internal.handlers.CreateMultipartUploadRequestInterceptor",
+        "software.amazon.awssdk.services.s3.internal.handlers.DecodeUrlEncodedResponseInterceptor",
+        "software.amazon.awssdk.services.s3.internal.handlers.GetBucketPolicyInterceptor",
+        "software.amazon.awssdk.services.s3.internal.handlers.AsyncChecksumValidationInterceptor",
+        "software.amazon.awssdk.services.s3.internal.handlers.SyncChecksumValidationInterceptor",
+        "software.amazon.awssdk.services.s3.internal.handlers.EnableTrailingChecksumInterceptor",
+        "software.amazon.awssdk.services.s3.internal.handlers.ExceptionTranslationInterceptor",
+        "software.amazon.awssdk.services.s3.internal.handlers.GetObjectInterceptor",
+        "software.amazon.awssdk.services.s3.internal.handlers.ObjectMetadataInterceptor",
+        "software.amazon.awssdk.services.s3.internal.crossregion.CrossRegionMetricsInterceptor"
+    };
+
+    @Param({"overridden", "all"})
+    public String hooks;
+
+    private List<ExecutionInterceptor> interceptors;
+    private ExecutionAttributes requestAttributes;
+    private InterceptorContext requestContext;
+    private SdkHttpFullResponse httpResponse;
+    private SdkResponse response;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        interceptors = new ArrayList<>();
+        for (String interceptorClass : S3_INTERCEPTORS) {
+            ExecutionInterceptor interceptor =
+                (ExecutionInterceptor) Class.forName(interceptorClass).getDeclaredConstructor().newInstance();
+            switch (hooks) {
+                case "overridden":
+                    interceptors.add(interceptor);
+                    break;
+                case "all":
+                    interceptors.add(new AllHooksInterceptor(interceptor));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Invalid hooks: " + hooks);
+            }
+        }
+
+        requestAttributes = ExecutionAttributes.builder()
+                                               .put(SdkExecutionAttribute.SERVICE_NAME, "S3")
+                                               .put(SdkExecutionAttribute.OPERATION_NAME, "HeadObject")
+                                               .put(SdkExecutionAttribute.CLIENT_TYPE, ClientType.SYNC)
+                                               .put(AwsExecutionAttribute.AWS_REGION, Region.US_WEST_2)
+                                               .build();
+
+        SdkHttpFullRequest httpRequest = SdkHttpFullRequest.builder()
+                                                           .method(SdkHttpMethod.HEAD)
+                                                           .protocol("https")
+                                                           .host("bucket.s3.us-west-2.amazonaws.com")
+                                                           .encodedPath("/key")
+                                                           .build();
+        requestContext = InterceptorContext.builder()
+                                           .request(HeadObjectRequest.builder().bucket("bucket").key("key").build())
+                                           .httpRequest(httpRequest)
+                                           .build();
+        httpResponse = SdkHttpFullResponse.builder()
+                                          .statusCode(200)
+                                          .putHeader("Content-Length", "1024")
+                                          .putHeader("ETag", "\"etag\"")
+                                          .build();
+        response = HeadObjectResponse.builder().contentLength(1024L).eTag("\"etag\"").build();
+    }
+
+    @Benchmark
+    public void successfulRequest(Blackhole blackhole) {
+        ExecutionInterceptorChain chain = new ExecutionInterceptorChain(interceptors);
+        ExecutionAttributes executionAttributes = requestAttributes.copy();
+        InterceptorContext context = requestContext;
+
+        chain.beforeExecution(context, executionAttributes);
+        context = chain.modifyRequest(context, executionAttributes);
+        chain.beforeMarshalling(context, executionAttributes);
+        chain.afterMarshalling(context, executionAttributes);
+        context = chain.modifyHttpRequestAndHttpContent(context, executionAttributes);
+        chain.beforeTransmission(context, executionAttributes);
+
+        context = context.copy(b -> b.httpResponse(httpResponse));
+        chain.afterTransmission(context, executionAttributes);
+        context = chain.modifyHttpResponse(context, executionAttributes);
+        chain.beforeUnmarshalling(context, executionAttributes);
+
+        context = context.copy(b -> b.response(response));
+        chain.afterUnmarshalling(context, executionAttributes);
+        context = chain.modifyResponse(context, executionAttributes);
+        chain.afterExecution(context, executionAttributes);
+
+        blackhole.consume(context);
+    }
+
+    /**
+     * Overrides every hook, so that the chain invokes the delegate on every hook.
+     */
+    private static final class AllHooksInterceptor implements ExecutionInterceptor {
+        private final ExecutionInterceptor delegate;
+
+        private AllHooksInterceptor(ExecutionInterceptor delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+            delegate.beforeExecution(context, executionAttributes);
+        }
+
+        @Override
+        public SdkRequest modifyRequest(Context.ModifyRequest context, ExecutionAttributes executionAttributes) {
+            return delegate.modifyRequest(context, executionAttributes);
+        }
+
+        @Override
+        public void beforeMarshalling(Context.BeforeMarshalling context, ExecutionAttributes executionAttributes) {
+            delegate.beforeMarshalling(context, executionAttributes);
+        }
+
+        @Override
+        public void afterMarshalling(Context.AfterMarshalling context, ExecutionAttributes executionAttributes) {
+            delegate.afterMarshalling(context, executionAttributes);
+        }
+
+        @Override
+        public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context, ExecutionAttributes executionAttributes) {
+            return delegate.modifyHttpRequest(context, executionAttributes);
+        }
+
+        @Override
+        public Optional<RequestBody> modifyHttpContent(Context.ModifyHttpRequest context,
+                                                       ExecutionAttributes executionAttributes) {
+            return delegate.modifyHttpContent(context, executionAttributes);
+        }
+
+        @Override
+        public Optional<AsyncRequestBody> modifyAsyncHttpContent(Context.ModifyHttpRequest context,
+                                                                 ExecutionAttributes executionAttributes) {
+            return delegate.modifyAsyncHttpContent(context, executionAttributes);
+        }
+
+        @Override
+        public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+            delegate.beforeTransmission(context, executionAttributes);
+        }
+
+        @Override
+        public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
+            delegate.afterTransmission(context, executionAttributes);
+        }
+
+        @Override
+        public SdkHttpResponse modifyHttpResponse(Context.ModifyHttpResponse context, ExecutionAttributes executionAttributes) {
+            return delegate.modifyHttpResponse(context, executionAttributes);
+        }
+
+        @Override
+        public Optional<Publisher<ByteBuffer>> modifyAsyncHttpResponseContent(Context.ModifyHttpResponse context,
+                                                                              ExecutionAttributes executionAttributes) {
+            return delegate.modifyAsyncHttpResponseContent(context, executionAttributes);
+        }
+
+        @Override
+        public Optional<InputStream> modifyHttpResponseContent(Context.ModifyHttpResponse context,
+                                                               ExecutionAttributes executionAttributes) {
+            return delegate.modifyHttpResponseContent(context, executionAttributes);
+        }
+
+        @Override
+        public void beforeUnmarshalling(Context.BeforeUnmarshalling context, ExecutionAttributes executionAttributes) {
+            delegate.beforeUnmarshalling(context, executionAttributes);
+        }
+
+        @Override
+        public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
+            delegate.afterUnmarshalling(context, executionAttributes);
+        }
+
+        @Override
+        public SdkResponse modifyResponse(Context.ModifyResponse context, ExecutionAttributes executionAttributes) {
+            return delegate.modifyResponse(context, executionAttributes);
+        }
+
+        @Override
+        public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+            delegate.afterExecution(context, executionAttributes);
+        }
+
+        @Override
+        public Throwable modifyException(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+            return delegate.modifyException(context, executionAttributes);
+        }
+
+        @Override
+        public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+            delegate.onExecutionFailure(context, executionAttributes);
+        }
+    }
+}
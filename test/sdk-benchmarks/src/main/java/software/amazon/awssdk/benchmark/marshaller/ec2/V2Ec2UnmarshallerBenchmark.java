@@ -0,0 +1,143 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.benchmark.marshaller.ec2;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.core.client.config.SdkClientConfiguration;
+import software.amazon.awssdk.core.http.HttpResponseHandler;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.SdkHttpFullResponse;
+import software.amazon.awssdk.protocols.query.AwsEc2ProtocolFactory;
+import software.amazon.awssdk.protocols.query.internal.unmarshall.SdkClientXmlProtocolAdvancedOption;
+import software.amazon.awssdk.services.ec2.model.DescribeInstancesResponse;
+
+/**
+ * Compares unmarshalling a DescribeInstances response from a parsed XML tree with unmarshalling it while the XML is parsed.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+public class V2Ec2UnmarshallerBenchmark {
+
+    @Benchmark
+    public Object describeInstances(UnmarshallerState s) throws Exception {
+        return s.responseHandler.handle(fullResponse(s.testItem), new ExecutionAttributes());
+    }
+
+    @State(Scope.Benchmark)
+    public static class UnmarshallerState {
+        @Param({"TINY", "SMALL", "HUGE"})
+        private TestItem testItem;
+
+        @Param({"false", "true"})
+        private boolean enableFastUnmarshalling;
+
+        private HttpResponseHandler<DescribeInstancesResponse> responseHandler;
+
+        @Setup
+        public void setup() {
+            AwsEc2ProtocolFactory protocolFactory =
+                AwsEc2ProtocolFactory.builder()
+                                     .clientConfiguration(SdkClientConfiguration
+                                                              .builder()
+                                                              .option(SdkClientXmlProtocolAdvancedOption.ENABLE_FAST_UNMARSHALLER,
+                                                                      enableFastUnmarshalling)
+                                                              .build())
+                                     .build();
+            responseHandler = protocolFactory.createResponseHandler(DescribeInstancesResponse::builder);
+        }
+    }
+
+    public enum TestItem {
+        TINY(1),
+        SMALL(10),
+        HUGE(200);
+
+        private final byte[] utf8;
+
+        TestItem(int reservations) {
+            this.utf8 = describeInstancesXml(reservations).getBytes(StandardCharsets.UTF_8);
+        }
+
+        public byte[] utf8() {
+            return utf8;
+        }
+    }
+
+    private static SdkHttpFullResponse fullResponse(TestItem item) {
+        AbortableInputStream abortableInputStream = AbortableInputStream.create(new ByteArrayInputStream(item.utf8()));
+        return SdkHttpFullResponse.builder()
+                                  .statusCode(200)
+                                  .content(abortableInputStream)
+                                  .build();
+    }
+
+    private static String describeInstancesXml(int reservations) {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>")
+           .append("<DescribeInstancesResponse xmlns=\"http://ec2.amazonaws.com/doc/2016-11-15/\">")
+           .append("<requestId>8f7724cf-496f-496e-8fe3-example</requestId>")
+           .append("<reservationSet>");
+        for (int i = 0; i < reservations; i++) {
+            xml.append("<item>")
+               .append("<reservationId>r-").append(i).append("</reservationId>")
+               .append("<ownerId>123456789012</ownerId>")
+               .append("<groupSet/>")
+               .append("<instancesSet><item>")
+               .append("<instanceId>i-").append(i).append("</instanceId>")
+               .append("<imageId>ami-bff32ccc</imageId>")
+               .append("<instanceState><code>16</code><name>running</name></instanceState>")
+               .append("<privateDnsName>ip-192-168-1-88.eu-west-1.compute.internal</privateDnsName>")
+               .append("<dnsName>ec2-54-194-252-215.eu-west-1.compute.amazonaws.com</dnsName>")
+               .append("<amiLaunchIndex>0</amiLaunchIndex>")
+               .append("<instanceType>t2.micro</instanceType>")
+               .append("<launchTime>2018-05-08T16:46:19.000Z</launchTime>")
+               .append("<placement><availabilityZone>eu-west-1c</availabilityZone><tenancy>default</tenancy></placement>")
+               .append("<monitoring><state>disabled</state></monitoring>")
+               .append("<subnetId>subnet-56f5f633</subnetId>")
+               .append("<vpcId>vpc-11112222</vpcId>")
+               .append("<privateIpAddress>192.168.1.88</privateIpAddress>")
+               .append("<ipAddress>54.194.252.215</ipAddress>")
+               .append("<sourceDestCheck>true</sourceDestCheck>")
+               .append("<architecture>x86_64</architecture>")
+               .append("<rootDeviceType>ebs</rootDeviceType>")
+               .append("<rootDeviceName>/dev/xvda</rootDeviceName>")
+               .append("<blockDeviceMapping><item><deviceName>/dev/xvda</deviceName><ebs>")
+               .append("<volumeId>vol-1234567890abcdef0</volumeId><status>attached</status>")
+               .append("<attachTime>2018-05-08T16:46:20.000Z</attachTime><deleteOnTermination>true</deleteOnTermination>")
+               .append("</ebs></item></blockDeviceMapping>")
+               .append("<tagSet>")
+               .append("<item><key>Name</key><value>server-").append(i).append("</value></item>")
+               .append("<item><key>Environment</key><value>benchmark</value></item>")
+               .append("</tagSet>")
+               .append("</item></instancesSet>")
+               .append("</item>");
+        }
+        return xml.append("</reservationSet></DescribeInstancesResponse>").toString();
+    }
+}
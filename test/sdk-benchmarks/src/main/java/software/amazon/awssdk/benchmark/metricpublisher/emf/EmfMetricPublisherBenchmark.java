@@ -15,9 +15,11 @@
 
 package software.amazon.awssdk.benchmark.metricpublisher.emf;
 
+import java.time.Duration;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -26,9 +28,16 @@ import software.amazon.awssdk.benchmark.apicall.MetricsEnabledBenchmark;
 import software.amazon.awssdk.core.client.builder.SdkClientBuilder;
 import software.amazon.awssdk.metrics.publishers.emf.EmfMetricLoggingPublisher;
 
+/**
+ * Benchmarks the {@link EmfMetricLoggingPublisher}, writing one log entry per API call, or aggregating the metrics of the
+ * calls over an interval when {@code aggregate} is true.
+ */
 @State(Scope.Benchmark)
 @BenchmarkMode(Mode.Throughput)
 public class EmfMetricPublisherBenchmark extends MetricsEnabledBenchmark {
+    @Param({"false", "true"})
+    private boolean aggregate;
+
     private EmfMetricLoggingPublisher emfMetricLoggingPublisher;
 
     @Override
@@ -37,6 +46,7 @@ public class EmfMetricPublisherBenchmark extends MetricsEnabledBenchmark {
         emfMetricLoggingPublisher = EmfMetricLoggingPublisher.builder()
                                                              .namespace("EmfMetricPublisherBenchmark")
                                                              .logGroupName("LogGroupName")
+                                                             .aggregationInterval(aggregate ? Duration.ofSeconds(10) : null)
                                                              .build();
         super.setup();
     }
@@ -18,7 +18,6 @@ package software.amazon.awssdk.utils;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
 import java.util.Map;
@@ -26,6 +25,7 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import software.amazon.awssdk.annotations.Immutable;
@@ -112,8 +112,11 @@ public final class AttributeMap implements ToCopyableBuilder<AttributeMap.Builde
      * example, a {@code ClientOption<T>} may extend this to define options that can be stored in an {@link AttributeMap}.
      */
     public abstract static class Key<T> {
+        private static final AtomicInteger NEXT_INDEX = new AtomicInteger();
+
         private final Class<?> valueType;
         private final Function<Object, T> convertMethod;
+        private final int index = NEXT_INDEX.getAndIncrement();
 
         protected Key(Class<T> valueType) {
             this.valueType = valueType;
@@ -147,6 +150,13 @@ public final class AttributeMap implements ToCopyableBuilder<AttributeMap.Builde
         public final T convertValue(Object value) {
             return convertMethod.apply(value);
         }
+
+        /**
+         * The index of this key in the storage of an {@link AttributeMap}. Keys are numbered densely when they are created.
+         */
+        private int index() {
+            return index;
+        }
     }
 
     @Override
@@ -204,7 +214,7 @@ public final class AttributeMap implements ToCopyableBuilder<AttributeMap.Builde
         private boolean copyOnUpdate;
 
         private Builder() {
-            this.attributes = new HashMap<>();
+            this.attributes = newAttributes();
             this.dependencyGraph = new DependencyGraph();
             this.copyOnUpdate = false;
         }
@@ -343,7 +353,7 @@ public final class AttributeMap implements ToCopyableBuilder<AttributeMap.Builde
         private void checkCopyOnUpdate() {
             if (copyOnUpdate) {
                 Map<Key<?>, Value<?>> attributesToCopy = attributes;
-                attributes = new HashMap<>(attributesToCopy.size());
+                attributes = newAttributes();
                 Map<Value<?>, Value<?>> valueRemapping = new IdentityHashMap<>(attributesToCopy.size());
                 attributesToCopy.forEach((k, v) -> {
                     Value<?> newValue = v.copy();
@@ -355,6 +365,10 @@ public final class AttributeMap implements ToCopyableBuilder<AttributeMap.Builde
             }
         }
 
+        private static Map<Key<?>, Value<?>> newAttributes() {
+            return new IndexedKeyMap<>(Key.class, Key::index);
+        }
+
         @Override
         public AttributeMap build() {
             // Resolve all of the attributes ahead of creating the attribute map, so that values can be read without any magic.
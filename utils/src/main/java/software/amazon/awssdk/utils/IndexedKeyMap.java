@@ -0,0 +1,443 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+
+/**
+ * A {@link Map} whose keys each have a dense, non-negative integer index, like constants numbered when they are created. The
+ * values are stored in an array at the index of their key, so reading or writing a key does not need to hash it.
+ * <p>
+ * The array grows on demand, and only while at least a quarter of it is used, so that a map holding a few keys with high
+ * indexes does not allocate an array as large as the highest index. The keys whose index does not fit in the array are
+ * stored in an {@link IdentityHashMap} instead, and moved to the array when it grows past their index.
+ * <p>
+ * Copies made with {@link #copy()} share their arrays with this map until either of them is modified. This makes copying cheap
+ * when the copies are mostly read. Entries are iterated in the order of the indexes of their keys.
+ * <p>
+ * Keys are compared by identity: two keys with the same index must be the same instance.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ */
+@SdkProtectedApi
+@NotThreadSafe
+public final class IndexedKeyMap<K, V> extends AbstractMap<K, V> {
+    private static final Object[] EMPTY = new Object[0];
+    private static final int MIN_CAPACITY = 16;
+    private static final int MAX_SLOTS_PER_ENTRY = 4;
+
+    private final Class<? super K> keyType;
+    private final ToIntFunction<? super K> indexer;
+
+    private Object[] keys;
+    private Object[] values;
+
+    /**
+     * The entries whose key index is not lower than the length of the arrays, or null if there is none.
+     */
+    private Map<K, V> overflow;
+    private int size;
+    private int modCount;
+
+    /**
+     * Whether the arrays are shared with a copy of this map, and must be copied before being modified.
+     */
+    private boolean shared;
+
+    private EntrySet entrySet;
+
+    /**
+     * @param keyType The type of the keys, used to ignore the other objects passed to methods like {@link #get(Object)}.
+     * @param indexer The function returning the index of a key.
+     */
+    public IndexedKeyMap(Class<? super K> keyType, ToIntFunction<? super K> indexer) {
+        this.keyType = Validate.paramNotNull(keyType, "keyType");
+        this.indexer = Validate.paramNotNull(indexer, "indexer");
+        this.keys = EMPTY;
+        this.values = EMPTY;
+    }
+
+    private IndexedKeyMap(IndexedKeyMap<K, V> source) {
+        this.keyType = source.keyType;
+        this.indexer = source.indexer;
+        this.keys = source.keys;
+        this.values = source.values;
+        this.overflow = source.overflow;
+        this.size = source.size;
+        this.shared = true;
+        source.shared = true;
+    }
+
+    /**
+     * Create a copy of this map. The copy shares the storage of this map until either of them is modified.
+     */
+    public IndexedKeyMap<K, V> copy() {
+        return new IndexedKeyMap<>(this);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return slot(key) >= 0 || overflow != null && overflow.containsKey(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        int slot = slot(key);
+        if (slot >= 0) {
+            return (V) values[slot];
+        }
+        return overflow != null ? overflow.get(key) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        int index = index(key);
+        ensureWritable();
+        if (index >= keys.length && !grow(index)) {
+            return putOverflow(key, value);
+        }
+        V previous = (V) values[index];
+        if (keys[index] == null) {
+            keys[index] = key;
+            size++;
+            modCount++;
+        } else {
+            checkSameKey(index, key);
+        }
+        values[index] = value;
+        return previous;
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        V current = get(key);
+        return current == null ? put(key, value) : current;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        int slot = slot(key);
+        if (slot < 0) {
+            return removeOverflow(key);
+        }
+        ensureWritable();
+        V previous = (V) values[slot];
+        removeSlot(slot);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            keys = EMPTY;
+            values = EMPTY;
+            overflow = null;
+            size = 0;
+            shared = false;
+            modCount++;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        Object[] k = keys;
+        Object[] v = values;
+        int expectedModCount = modCount;
+        for (int i = 0; i < k.length; i++) {
+            if (k[i] != null) {
+                action.accept((K) k[i], (V) v[i]);
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+            }
+        }
+        for (Object key : sortedOverflowKeys()) {
+            action.accept((K) key, overflow.get(key));
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    /**
+     * The slot of the provided key, or -1 if the key is not in this map.
+     */
+    @SuppressWarnings("unchecked")
+    private int slot(Object key) {
+        if (!keyType.isInstance(key)) {
+            return -1;
+        }
+        int index = indexer.applyAsInt((K) key);
+        return index < keys.length && keys[index] == key ? index : -1;
+    }
+
+    private int index(K key) {
+        Validate.paramNotNull(key, "key");
+        int index = indexer.applyAsInt(key);
+        Validate.isNotNegative(index, "index");
+        return index;
+    }
+
+    private void checkSameKey(int index, K key) {
+        if (keys[index] != key) {
+            throw new IllegalArgumentException("Keys " + keys[index] + " and " + key + " have the same index: " + index);
+        }
+    }
+
+    /**
+     * Make sure the arrays and the overflow map are not shared with a copy of this map.
+     */
+    private void ensureWritable() {
+        if (shared) {
+            keys = keys.clone();
+            values = values.clone();
+            if (overflow != null) {
+                overflow = new IdentityHashMap<>(overflow);
+            }
+            shared = false;
+        }
+    }
+
+    /**
+     * Grow the arrays so that they can store the provided index, unless less than a quarter of them would be used. The
+     * overflow entries that fit in the grown arrays are moved to them.
+     *
+     * @return true if the arrays can store the provided index.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean grow(int index) {
+        int arrayEntries = size - (overflow != null ? overflow.size() : 0);
+        int maxCapacity = Math.max(MIN_CAPACITY, MAX_SLOTS_PER_ENTRY * (arrayEntries + 1));
+        if (index >= maxCapacity) {
+            return false;
+        }
+        int capacity = Math.min(Math.max(Math.max(MIN_CAPACITY, keys.length * 2), index + 1), maxCapacity);
+        keys = Arrays.copyOf(keys, capacity);
+        values = Arrays.copyOf(values, capacity);
+        if (overflow != null) {
+            Iterator<Entry<K, V>> entries = overflow.entrySet().iterator();
+            while (entries.hasNext()) {
+                Entry<K, V> entry = entries.next();
+                int entryIndex = indexer.applyAsInt(entry.getKey());
+                if (entryIndex < capacity) {
+                    keys[entryIndex] = entry.getKey();
+                    values[entryIndex] = entry.getValue();
+                    entries.remove();
+                }
+            }
+            modCount++;
+        }
+        return true;
+    }
+
+    private V putOverflow(K key, V value) {
+        if (overflow == null) {
+            overflow = new IdentityHashMap<>();
+        }
+        boolean added = !overflow.containsKey(key);
+        V previous = overflow.put(key, value);
+        if (added) {
+            size++;
+            modCount++;
+        }
+        return previous;
+    }
+
+    private V removeOverflow(Object key) {
+        if (overflow == null || !overflow.containsKey(key)) {
+            return null;
+        }
+        ensureWritable();
+        V previous = overflow.remove(key);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    /**
+     * The keys of the overflow entries, in the order of their indexes. They are all greater than the indexes stored in the
+     * arrays.
+     */
+    @SuppressWarnings("unchecked")
+    private Object[] sortedOverflowKeys() {
+        if (overflow == null || overflow.isEmpty()) {
+            return EMPTY;
+        }
+        Object[] overflowKeys = overflow.keySet().toArray();
+        Arrays.sort(overflowKeys, Comparator.comparingInt(k -> indexer.applyAsInt((K) k)));
+        return overflowKeys;
+    }
+
+    /**
+     * The length of the arrays, which bounds the memory used by this map besides its overflow entries.
+     */
+    int capacity() {
+        return keys.length;
+    }
+
+    private void removeSlot(int slot) {
+        keys[slot] = null;
+        values[slot] = null;
+        size--;
+        modCount++;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<K, V>> {
+        @Override
+        public Iterator<Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            IndexedKeyMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<K, V>> {
+        private final Object[] overflowKeys = sortedOverflowKeys();
+        private int next = advance(0);
+        private int nextOverflow;
+        private K last;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return next < keys.length || nextOverflow < overflowKeys.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<K, V> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (next < keys.length) {
+                last = (K) keys[next];
+                next = advance(next + 1);
+            } else {
+                last = (K) overflowKeys[nextOverflow++];
+            }
+            return new IndexedEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            IndexedKeyMap.this.remove(last);
+            expectedModCount = modCount;
+            last = null;
+        }
+
+        private int advance(int from) {
+            int i = from;
+            while (i < keys.length && keys[i] == null) {
+                i++;
+            }
+            return i;
+        }
+    }
+
+    /**
+     * An entry reading and writing its value through the map, like the entries of a {@link java.util.HashMap}.
+     */
+    private final class IndexedEntry implements Entry<K, V> {
+        private final K key;
+
+        private IndexedEntry(K key) {
+            this.key = key;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return get(key);
+        }
+
+        @Override
+        public V setValue(V value) {
+            return put(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return Objects.equals(key, e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache.tinylfu;
+
+import software.amazon.awssdk.annotations.NotThreadSafe;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+
+/**
+ * A probabilistic estimate of how often keys were accessed, used by {@link TinyLfuCache} to decide whether a new entry is
+ * worth keeping over an existing one.
+ * <p>
+ * This is a Count-Min sketch with four 4-bit counters per key, packed sixteen to a {@code long}. Once the number of
+ * recorded accesses reaches ten times the maximum size of the cache, all counters are halved, so that the estimates age
+ * and keys that were popular a long time ago can be replaced.
+ * <p>
+ * Instances are not thread-safe, callers must guard them with a lock.
+ */
+@SdkInternalApi
+@NotThreadSafe
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+    private static final int SAMPLE_SIZE_MULTIPLIER = 10;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    FrequencySketch(int maximumSize) {
+        int tableSize = Math.max(8, nextPowerOfTwo(maximumSize));
+        this.table = new long[tableSize];
+        this.tableMask = tableSize - 1;
+        this.sampleSize = (int) Math.min((long) maximumSize * SAMPLE_SIZE_MULTIPLIER, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of accesses to the key, between 0 and 15.
+     */
+    int frequency(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < 4; i++) {
+            int offset = (start + i) << 2;
+            int count = (int) ((table[indexOf(hash, i)] >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an access to the key, halving all the counters if the sample size has been reached.
+     */
+    void increment(Object key) {
+        int hash = spread(key.hashCode());
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= incrementAt(indexOf(hash, i), start + i);
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        int offset = counter << 2;
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return ((int) h) & tableMask;
+    }
+
+    private static int spread(int hash) {
+        int h = hash;
+        h = ((h >>> 16) ^ h) * 0x45d9f3b;
+        h = ((h >>> 16) ^ h) * 0x45d9f3b;
+        return (h >>> 16) ^ h;
+    }
+
+    private static int nextPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        int highestOneBit = Integer.highestOneBit(Math.min(value - 1, 1 << 29));
+        return highestOneBit << 1;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache.tinylfu;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import software.amazon.awssdk.annotations.SdkInternalApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+
+/**
+ * A lossy buffer recording cache hits, so that they can be replayed against the eviction policy in batches instead of
+ * taking a lock on every read.
+ * <p>
+ * The buffer is split into stripes, each a small ring buffer selected from the calling thread, so that concurrent readers
+ * rarely contend on the same counter. When a stripe is full or another thread won the race for a slot, the read is simply
+ * dropped: losing some access information only makes the eviction policy slightly less accurate.
+ * <p>
+ * Any number of threads may {@link #offer} concurrently, but {@link #drainTo} must only be invoked by one thread at a time.
+ */
+@SdkInternalApi
+@ThreadSafe
+final class StripedReadBuffer<E> {
+    static final int BUFFER_SIZE = 16;
+
+    private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+    private static final int MAX_STRIPES = 64;
+
+    private final Stripe<E>[] stripes;
+    private final int stripeMask;
+
+    @SuppressWarnings("unchecked")
+    StripedReadBuffer() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, processors * 2 - 1)) << 1);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records an element in the stripe of the calling thread.
+     *
+     * @return true if the stripe is now full and should be drained, false otherwise.
+     */
+    boolean offer(E element) {
+        Stripe<E> stripe = stripes[stripeIndex()];
+        long head = stripe.readCounter;
+        long tail = stripe.writeCounter.get();
+        long size = tail - head;
+        if (size >= BUFFER_SIZE) {
+            return true;
+        }
+        if (stripe.writeCounter.compareAndSet(tail, tail + 1)) {
+            stripe.buffer.lazySet((int) (tail & BUFFER_MASK), element);
+            return size + 1 >= BUFFER_SIZE;
+        }
+        return false;
+    }
+
+    /**
+     * Passes all the elements recorded so far to the consumer, and empties the buffer.
+     */
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            long head = stripe.readCounter;
+            long tail = stripe.writeCounter.get();
+            while (head < tail) {
+                int index = (int) (head & BUFFER_MASK);
+                E element = stripe.buffer.get(index);
+                if (element == null) {
+                    // The slot was claimed but the write is not visible yet, pick it up on the next drain.
+                    break;
+                }
+                stripe.buffer.lazySet(index, null);
+                consumer.accept(element);
+                head++;
+            }
+            stripe.readCounter = head;
+        }
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9e3779b9;
+        return (hash ^ (hash >>> 16)) & stripeMask;
+    }
+
+    private static final class Stripe<E> {
+        private final AtomicLong writeCounter = new AtomicLong();
+        private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+        private volatile long readCounter;
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache.tinylfu;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import software.amazon.awssdk.annotations.SdkProtectedApi;
+import software.amazon.awssdk.annotations.ThreadSafe;
+import software.amazon.awssdk.utils.Logger;
+import software.amazon.awssdk.utils.Validate;
+
+/**
+ * A thread-safe bounded cache implementation that returns the value for a specified key, retrieving it by either getting the
+ * stored value from the cache or using a supplied function to calculate that value and add it to the cache.
+ * <p>
+ * Unlike {@link software.amazon.awssdk.utils.cache.lru.LruCache}, a cache hit does not take any lock: the hit is recorded in
+ * a lossy, striped buffer, and replayed against the eviction policy in batches by whichever thread finds the buffer full, or
+ * by the next cache miss. Cache misses are serialized on an eviction lock only long enough to update the eviction policy.
+ * <p>
+ * Entries are evicted following the W-TinyLFU policy: new entries first go into a small LRU window (1% of the cache). When
+ * they leave the window, they are only admitted into the main LRU region if they were accessed more frequently than the
+ * entry they would replace, according to a {@link FrequencySketch}. Keys that are accessed often are therefore not pushed out
+ * by a burst of keys that are only accessed once.
+ * <p>
+ * Evicted values implementing {@link AutoCloseable} are closed.
+ * <p>
+ * The user can configure the maximum size of the cache, which is set to a default of 100.
+ * <p>
+ * Keys must not be null, otherwise an error will be thrown. Null values are not cached.
+ */
+@SdkProtectedApi
+@ThreadSafe
+public final class TinyLfuCache<K, V> {
+
+    private static final Logger log = Logger.loggerFor(TinyLfuCache.class);
+
+    private static final int DEFAULT_SIZE = 100;
+    private static final double WINDOW_PERCENTAGE = 0.01;
+
+    private final ConcurrentHashMap<K, Node<K, V>> cache;
+    private final Function<K, V> valueSupplier;
+    private final int maxCacheSize;
+    private final int maxWindowSize;
+
+    private final StripedReadBuffer<Node<K, V>> readBuffer = new StripedReadBuffer<>();
+    private final Queue<Node<K, V>> writeBuffer = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    // The eviction policy state below is guarded by evictionLock.
+    private final FrequencySketch sketch;
+    private final AccessOrderQueue<K, V> window = new AccessOrderQueue<>();
+    private final AccessOrderQueue<K, V> main = new AccessOrderQueue<>();
+
+    private TinyLfuCache(Builder<K, V> b) {
+        this.valueSupplier = Validate.paramNotNull(b.supplier, "supplier");
+        Integer customSize = Validate.isPositiveOrNull(b.maxSize, "size");
+        this.maxCacheSize = customSize != null ? customSize : DEFAULT_SIZE;
+        this.maxWindowSize = Math.max(1, (int) (maxCacheSize * WINDOW_PERCENTAGE));
+        this.cache = new ConcurrentHashMap<>();
+        this.sketch = new FrequencySketch(maxCacheSize);
+    }
+
+    /**
+     * Get a value based on the key. If the value exists in the cache, it's returned without blocking. Otherwise, the value is
+     * calculated based on the supplied function {@link Builder#builder(Function)}, and the value is returned after it has been
+     * added to the cache. When multiple threads request the value of the same missing key, the function is invoked once.
+     */
+    public V get(K key) {
+        Validate.paramNotNull(key, "key");
+        Node<K, V> node = cache.get(key);
+        if (node != null) {
+            afterRead(node);
+            return node.value;
+        }
+
+        Node<K, V> newNode = new Node<>(key);
+        node = cache.computeIfAbsent(key, k -> newNode.withValue(valueSupplier.apply(k)));
+        if (node == null) {
+            return null;
+        }
+        if (node == newNode) {
+            afterWrite(node);
+        } else {
+            afterRead(node);
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns whether a value is currently cached for the key, without updating the eviction policy.
+     */
+    public boolean containsKey(K key) {
+        return cache.containsKey(key);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private void afterRead(Node<K, V> node) {
+        boolean drainNeeded = readBuffer.offer(node);
+        if (drainNeeded && evictionLock.tryLock()) {
+            try {
+                maintenance();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void afterWrite(Node<K, V> node) {
+        writeBuffer.add(node);
+        evictionLock.lock();
+        try {
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Replays the buffered reads and writes against the eviction policy, then evicts entries until the cache is within its
+     * bounds. Must be invoked while holding the eviction lock.
+     */
+    private void maintenance() {
+        readBuffer.drainTo(this::onAccess);
+
+        Node<K, V> node;
+        while ((node = writeBuffer.poll()) != null) {
+            onAdd(node);
+        }
+
+        Node<K, V> candidate = evictFromWindow();
+        evictFromMain(candidate);
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.evicted) {
+            return;
+        }
+        sketch.increment(node.key);
+        if (node.inWindow) {
+            window.moveToBack(node);
+        } else if (node.inMain) {
+            main.moveToBack(node);
+        }
+    }
+
+    private void onAdd(Node<K, V> node) {
+        if (node.evicted) {
+            return;
+        }
+        sketch.increment(node.key);
+        node.inWindow = true;
+        window.add(node);
+    }
+
+    /**
+     * Moves the least recently used entries out of the window and into the main region, until the window is within its
+     * bounds. Those entries are then candidates to be admitted into the main region.
+     *
+     * @return the first candidate moved, or null if the window was within its bounds.
+     */
+    private Node<K, V> evictFromWindow() {
+        Node<K, V> first = null;
+        while (window.size() > maxWindowSize) {
+            Node<K, V> node = window.poll();
+            node.inWindow = false;
+            node.inMain = true;
+            main.add(node);
+            if (first == null) {
+                first = node;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Evicts entries from the main region until the cache is within its bounds. Each candidate coming from the window
+     * competes with the least recently used entry of the main region (the victim), and the entry that was accessed the least
+     * frequently is evicted.
+     */
+    private void evictFromMain(Node<K, V> firstCandidate) {
+        Node<K, V> candidate = firstCandidate;
+        while (window.size() + main.size() > maxCacheSize) {
+            Node<K, V> victim = main.peek();
+            if (candidate == null) {
+                evict(victim);
+                continue;
+            }
+            // Read the next candidate before evicting, since evicting a node detaches it from the main region.
+            Node<K, V> nextCandidate = candidate.next;
+            if (candidate == victim) {
+                evict(victim);
+            } else if (sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                evict(victim);
+            } else {
+                evict(candidate);
+            }
+            candidate = nextCandidate;
+        }
+    }
+
+    private void evict(Node<K, V> node) {
+        if (node.evicted) {
+            return;
+        }
+        if (node.inMain) {
+            main.remove(node);
+        }
+        node.inMain = false;
+        node.evicted = true;
+        cache.remove(node.key, node);
+        closeEvictedResourcesIfPossible(node.value);
+    }
+
+    private void closeEvictedResourcesIfPossible(V value) {
+        if (value instanceof AutoCloseable) {
+            try {
+                ((AutoCloseable) value).close();
+            } catch (Exception e) {
+                log.warn(() -> "Attempted to close instance that was evicted by cache, but got exception: " + e.getMessage());
+            }
+        }
+    }
+
+    public static <K, V> TinyLfuCache.Builder<K, V> builder(Function<K, V> supplier) {
+        return new Builder<>(supplier);
+    }
+
+    public static final class Builder<K, V> {
+
+        private final Function<K, V> supplier;
+        private Integer maxSize;
+
+        private Builder(Function<K, V> supplier) {
+            this.supplier = supplier;
+        }
+
+        public Builder<K, V> maxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public TinyLfuCache<K, V> build() {
+            return new TinyLfuCache<>(this);
+        }
+    }
+
+    private static final class Node<K, V> {
+        private final K key;
+        private V value;
+
+        // The fields below are guarded by the eviction lock, except evicted which may be read without it.
+        private volatile boolean evicted;
+        private boolean inWindow;
+        private boolean inMain;
+        private Node<K, V> previous;
+        private Node<K, V> next;
+
+        private Node(K key) {
+            this.key = key;
+        }
+
+        /**
+         * Sets the value computed for a new node, or returns null so that null values are not cached. The value is published
+         * to other threads by the cache map.
+         */
+        private Node<K, V> withValue(V value) {
+            if (value == null) {
+                return null;
+            }
+            this.value = value;
+            return this;
+        }
+    }
+
+    /**
+     * An intrusive doubly-linked list of nodes, from least recently used (head) to most recently used (tail).
+     */
+    private static final class AccessOrderQueue<K, V> {
+        private Node<K, V> head;
+        private Node<K, V> tail;
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        Node<K, V> peek() {
+            return head;
+        }
+
+        Node<K, V> poll() {
+            Node<K, V> node = head;
+            if (node != null) {
+                remove(node);
+            }
+            return node;
+        }
+
+        void add(Node<K, V> node) {
+            node.previous = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        void remove(Node<K, V> node) {
+            if (node.previous == null) {
+                head = node.next;
+            } else {
+                node.previous.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.previous;
+            } else {
+                node.next.previous = node.previous;
+            }
+            node.previous = null;
+            node.next = null;
+            size--;
+        }
+
+        void moveToBack(Node<K, V> node) {
+            if (node != tail) {
+                remove(node);
+                add(node);
+            }
+        }
+    }
+}
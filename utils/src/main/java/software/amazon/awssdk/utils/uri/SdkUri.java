@@ -21,7 +21,7 @@ import java.util.Objects;
 import software.amazon.awssdk.annotations.SdkProtectedApi;
 import software.amazon.awssdk.utils.Lazy;
 import software.amazon.awssdk.utils.Logger;
-import software.amazon.awssdk.utils.cache.bounded.BoundedCache;
+import software.amazon.awssdk.utils.cache.tinylfu.TinyLfuCache;
 import software.amazon.awssdk.utils.uri.internal.UriConstructorArgs;
 
 /**
@@ -37,17 +37,17 @@ public final class SdkUri {
     private static final int MAX_INT_DIGITS_BASE_10 = 10;
 
     /*
-     * Same value as default BoundedCache size. This contrasts to the default LruCache size of 100, since for a single service
-     * call we cache at least 3 different URIs, so the cache size is increased a bit to account for the different URIs.
+     * This contrasts to the default TinyLfuCache size of 100, since for a single service call we cache at least 3 different
+     * URIs, so the cache size is increased a bit to account for the different URIs.
      */
     private static final int CACHE_SIZE = 150;
 
     private static final Lazy<SdkUri> INSTANCE = new Lazy<>(SdkUri::new);
 
-    private final BoundedCache<UriConstructorArgs, URI> cache;
+    private final TinyLfuCache<UriConstructorArgs, URI> cache;
 
     private SdkUri() {
-        this.cache = BoundedCache.builder(UriConstructorArgs::newInstance)
+        this.cache = TinyLfuCache.builder(UriConstructorArgs::newInstance)
                                  .maxSize(CACHE_SIZE)
                                  .build();
     }
@@ -0,0 +1,213 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class IndexedKeyMapTest {
+    private static final TestKey KEY_0 = new TestKey("key0", 0);
+    private static final TestKey KEY_1 = new TestKey("key1", 1);
+    private static final TestKey KEY_40 = new TestKey("key40", 40);
+
+    @Test
+    public void put_get_behavesLikeHashMap() {
+        IndexedKeyMap<TestKey, String> map = newMap();
+        Map<TestKey, String> expected = new HashMap<>();
+
+        assertThat(map.put(KEY_40, "a")).isEqualTo(expected.put(KEY_40, "a"));
+        assertThat(map.put(KEY_0, null)).isEqualTo(expected.put(KEY_0, null));
+        assertThat(map.put(KEY_40, "b")).isEqualTo(expected.put(KEY_40, "b"));
+        assertThat(map.putIfAbsent(KEY_0, "c")).isEqualTo(expected.putIfAbsent(KEY_0, "c"));
+        assertThat(map.putIfAbsent(KEY_0, "d")).isEqualTo(expected.putIfAbsent(KEY_0, "d"));
+
+        assertThat(map).isEqualTo(expected);
+        assertThat(map.hashCode()).isEqualTo(expected.hashCode());
+        assertThat(map.get(KEY_1)).isNull();
+        assertThat(map.containsKey(KEY_1)).isFalse();
+        assertThat(map.get("key0")).isNull();
+        assertThat(map.compute(KEY_40, (k, v) -> null)).isNull();
+        assertThat(map).containsOnlyKeys(KEY_0);
+    }
+
+    @Test
+    public void nullValue_isContained() {
+        IndexedKeyMap<TestKey, String> map = newMap();
+        map.put(KEY_1, null);
+
+        assertThat(map.containsKey(KEY_1)).isTrue();
+        assertThat(map).hasSize(1);
+        assertThat(map.remove(KEY_1)).isNull();
+        assertThat(map).isEmpty();
+    }
+
+    @Test
+    public void entries_iteratedInIndexOrder() {
+        IndexedKeyMap<TestKey, String> map = newMap();
+        map.put(KEY_40, "c");
+        map.put(KEY_1, "b");
+        map.put(KEY_0, "a");
+
+        assertThat(map.keySet()).containsExactly(KEY_0, KEY_1, KEY_40);
+        assertThat(map.values()).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    public void entries_canBeUpdatedAndRemovedWhileIterating() {
+        IndexedKeyMap<TestKey, String> map = newMap();
+        map.put(KEY_0, "a");
+        map.put(KEY_1, "b");
+
+        Iterator<Map.Entry<TestKey, String>> entries = map.entrySet().iterator();
+        entries.next().setValue("c");
+        entries.next();
+        entries.remove();
+
+        assertThat(entries.hasNext()).isFalse();
+        assertThat(map).containsExactly(entry(KEY_0, "c"));
+    }
+
+    @Test
+    public void modificationWhileIterating_throwsException() {
+        IndexedKeyMap<TestKey, String> map = newMap();
+        map.put(KEY_0, "a");
+        map.put(KEY_1, "b");
+
+        assertThatThrownBy(() -> map.forEach((k, v) -> map.put(KEY_40, "c")))
+            .isInstanceOf(ConcurrentModificationException.class);
+    }
+
+    @Test
+    public void copy_isIndependentOfSource() {
+        IndexedKeyMap<TestKey, String> map = newMap();
+        map.put(KEY_0, "a");
+
+        IndexedKeyMap<TestKey, String> copy = map.copy();
+        copy.put(KEY_0, "b");
+        copy.put(KEY_40, "c");
+        map.put(KEY_1, "d");
+        IndexedKeyMap<TestKey, String> copyOfCopy = copy.copy();
+        copy.remove(KEY_0);
+
+        assertThat(map).containsOnlyKeys(KEY_0, KEY_1).containsEntry(KEY_0, "a");
+        assertThat(copy).containsOnlyKeys(KEY_40);
+        assertThat(copyOfCopy).containsOnlyKeys(KEY_0, KEY_40).containsEntry(KEY_0, "b");
+    }
+
+    @Test
+    public void differentKeysWithSameIndex_throwsException() {
+        IndexedKeyMap<TestKey, String> map = newMap();
+        map.put(KEY_1, "a");
+
+        assertThatThrownBy(() -> map.put(new TestKey("other", 1), "b")).isInstanceOf(IllegalArgumentException.class);
+        assertThat(map.get(new TestKey("other", 1))).isNull();
+    }
+
+    @Test
+    public void sparseHighIndexes_areNotStoredInArrayAsLargeAsIndex() {
+        IndexedKeyMap<TestKey, String> map = newMap();
+        TestKey key10000 = new TestKey("key10000", 10_000);
+        TestKey key5000 = new TestKey("key5000", 5_000);
+        map.put(key10000, "a");
+        map.put(key5000, "b");
+        map.put(KEY_1, "c");
+
+        assertThat(map.capacity()).isEqualTo(16);
+        assertThat(map.get(key10000)).isEqualTo("a");
+        assertThat(map.containsKey(key5000)).isTrue();
+        assertThat(map.keySet()).containsExactly(KEY_1, key5000, key10000);
+
+        assertThat(map.remove(key5000)).isEqualTo("b");
+        assertThat(map).containsOnlyKeys(KEY_1, key10000);
+    }
+
+    @Test
+    public void capacity_isBoundedByNumberOfEntries() {
+        IndexedKeyMap<TestKey, String> map = newMap();
+        Map<TestKey, String> expected = new HashMap<>();
+        for (int i = 0; i < 40; i++) {
+            TestKey key = new TestKey("key" + i * 50, i * 50);
+            map.put(key, "value" + i);
+            expected.put(key, "value" + i);
+
+            assertThat(map.capacity()).isLessThanOrEqualTo(Math.max(16, 4 * (map.size() + 1)));
+        }
+
+        assertThat(map).isEqualTo(expected);
+    }
+
+    @Test
+    public void growingArray_movesOverflowEntriesThatFit() {
+        IndexedKeyMap<TestKey, String> map = newMap();
+        map.put(KEY_40, "a");
+        assertThat(map.capacity()).isZero();
+
+        for (int i = 0; i < 10; i++) {
+            map.put(new TestKey("key" + i, i), "b");
+        }
+        map.put(new TestKey("key42", 42), "c");
+
+        assertThat(map.capacity()).isGreaterThan(40);
+        assertThat(map.get(KEY_40)).isEqualTo("a");
+        assertThat(map).hasSize(12);
+        assertThat(map.keySet()).element(10).isSameAs(KEY_40);
+    }
+
+    @Test
+    public void copy_withOverflowEntries_isIndependentOfSource() {
+        IndexedKeyMap<TestKey, String> map = newMap();
+        map.put(KEY_40, "a");
+
+        IndexedKeyMap<TestKey, String> copy = map.copy();
+        copy.put(KEY_40, "b");
+        copy.entrySet().iterator().next().setValue("c");
+        map.remove(KEY_40);
+
+        assertThat(map).isEmpty();
+        assertThat(copy).containsOnlyKeys(KEY_40).containsEntry(KEY_40, "c");
+    }
+
+    private static Map.Entry<TestKey, String> entry(TestKey key, String value) {
+        Map<TestKey, String> map = new HashMap<>();
+        map.put(key, value);
+        return map.entrySet().iterator().next();
+    }
+
+    private static IndexedKeyMap<TestKey, String> newMap() {
+        return new IndexedKeyMap<>(TestKey.class, k -> k.index);
+    }
+
+    private static final class TestKey {
+        private final String name;
+        private final int index;
+
+        private TestKey(String name, int index) {
+            this.name = name;
+            this.index = index;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
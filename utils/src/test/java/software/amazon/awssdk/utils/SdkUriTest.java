@@ -29,7 +29,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.util.ReflectionUtils;
 import org.opentest4j.AssertionFailedError;
-import software.amazon.awssdk.utils.cache.bounded.BoundedCache;
+import software.amazon.awssdk.utils.cache.tinylfu.TinyLfuCache;
 import software.amazon.awssdk.utils.uri.SdkUri;
 import software.amazon.awssdk.utils.uri.internal.UriConstructorArgs;
 
@@ -39,9 +39,8 @@ class SdkUriTest {
     void resetCache() throws IllegalAccessException {
         Field cacheField = getCacheField();
         cacheField.setAccessible(true);
-        cacheField.set(SdkUri.getInstance(), BoundedCache.builder(UriConstructorArgs::newInstance)
+        cacheField.set(SdkUri.getInstance(), TinyLfuCache.builder(UriConstructorArgs::newInstance)
                                                          .maxSize(100)
-                                                         .evictionBatchSize(5)
                                                          .build());
     }
 
@@ -277,11 +276,11 @@ class SdkUriTest {
     }
 
 
-    private BoundedCache<UriConstructorArgs, URI> getCache() {
+    private TinyLfuCache<UriConstructorArgs, URI> getCache() {
         Field field = getCacheField();
         field.setAccessible(true);
         try {
-            return (BoundedCache<UriConstructorArgs, URI>) field.get(SdkUri.getInstance());
+            return (TinyLfuCache<UriConstructorArgs, URI>) field.get(SdkUri.getInstance());
         } catch (IllegalAccessException e) {
             fail(e);
             return null;
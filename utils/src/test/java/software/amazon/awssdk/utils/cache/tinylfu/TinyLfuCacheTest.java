@@ -0,0 +1,245 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+
+package software.amazon.awssdk.utils.cache.tinylfu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TinyLfuCacheTest {
+
+    @Test
+    void get_cacheMiss_shouldComputeAndCacheValue() {
+        AtomicInteger calls = new AtomicInteger();
+        TinyLfuCache<Integer, String> cache = TinyLfuCache.<Integer, String>builder(k -> {
+            calls.incrementAndGet();
+            return Integer.toString(k);
+        }).maxSize(10).build();
+
+        assertThat(cache.containsKey(1)).isFalse();
+        assertThat(cache.get(1)).isEqualTo("1");
+        assertThat(cache.get(1)).isEqualTo("1");
+
+        assertThat(cache.containsKey(1)).isTrue();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void get_moreKeysThanMaxSize_shouldStayBounded() {
+        TinyLfuCache<Integer, String> cache = TinyLfuCache.<Integer, String>builder(k -> Integer.toString(k))
+                                                          .maxSize(10)
+                                                          .build();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(cache.get(i)).isEqualTo(Integer.toString(i));
+            assertThat(cache.size()).isLessThanOrEqualTo(10);
+        }
+        assertThat(cache.size()).isEqualTo(10);
+    }
+
+    @Test
+    void get_frequentlyUsedKeys_shouldSurviveScanOfKeysUsedOnce() {
+        TinyLfuCache<Integer, String> cache = TinyLfuCache.<Integer, String>builder(k -> Integer.toString(k))
+                                                          .maxSize(100)
+                                                          .build();
+        for (int round = 0; round < 10; round++) {
+            IntStream.range(0, 10).forEach(cache::get);
+        }
+
+        IntStream.range(1000, 1500).forEach(cache::get);
+
+        IntStream.range(0, 10).forEach(i -> assertThat(cache.containsKey(i)).as("key %s", i).isTrue());
+        assertThat(cache.size()).isEqualTo(100);
+    }
+
+    @Test
+    void get_nullValue_shouldNotBeCached() {
+        AtomicInteger calls = new AtomicInteger();
+        TinyLfuCache<Integer, String> cache = TinyLfuCache.<Integer, String>builder(k -> {
+            calls.incrementAndGet();
+            return null;
+        }).build();
+
+        assertThat(cache.get(1)).isNull();
+        assertThat(cache.get(1)).isNull();
+
+        assertThat(cache.size()).isZero();
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void get_supplierThrows_shouldPropagateAndNotCache() {
+        TinyLfuCache<Integer, String> cache = TinyLfuCache.<Integer, String>builder(k -> {
+            throw new IllegalStateException("boom");
+        }).build();
+
+        assertThatThrownBy(() -> cache.get(1)).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_nullKey_shouldThrow() {
+        TinyLfuCache<Integer, String> cache = TinyLfuCache.<Integer, String>builder(k -> "value").build();
+
+        assertThatThrownBy(() -> cache.get(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void evictedValues_shouldBeClosed() {
+        List<CloseableValue> values = new ArrayList<>();
+        TinyLfuCache<Integer, CloseableValue> cache = TinyLfuCache.<Integer, CloseableValue>builder(k -> {
+            CloseableValue value = new CloseableValue();
+            values.add(value);
+            return value;
+        }).maxSize(5).build();
+
+        IntStream.range(0, 20).forEach(cache::get);
+
+        long closed = values.stream().filter(v -> v.closed).count();
+        assertThat(closed).isEqualTo(15);
+    }
+
+    @Test
+    void get_sameKeyConcurrently_shouldComputeValueOnce() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        TinyLfuCache<Integer, String> cache = TinyLfuCache.<Integer, String>builder(k -> {
+            calls.incrementAndGet();
+            return Integer.toString(k);
+        }).maxSize(10).build();
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(1);
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void get_manyThreadsRandomKeys_shouldReturnCorrectValuesAndStayBounded() throws Exception {
+        TinyLfuCache<Integer, String> cache = TinyLfuCache.<Integer, String>builder(k -> Integer.toString(k))
+                                                          .maxSize(50)
+                                                          .build();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        int key = ThreadLocalRandom.current().nextInt(200);
+                        assertThat(cache.get(key)).isEqualTo(Integer.toString(key));
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(cache.size()).isLessThanOrEqualTo(50);
+    }
+
+    @Test
+    void get_manyThreadsWritingPastMaxSize_shouldStayBoundedAndCloseEachEvictedValueOnce() throws Exception {
+        List<CloseableValue> values = Collections.synchronizedList(new ArrayList<>());
+        TinyLfuCache<Integer, CloseableValue> cache = TinyLfuCache.<Integer, CloseableValue>builder(k -> {
+            CloseableValue value = new CloseableValue();
+            values.add(value);
+            return value;
+        }).maxSize(3).build();
+        AtomicInteger keys = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 5_000; i++) {
+                        cache.get(keys.getAndIncrement());
+                        assertThat(cache.size()).isLessThanOrEqualTo(3 + 8);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(3);
+        assertThat(values).hasSize(40_000);
+        assertThat(values).allSatisfy(v -> assertThat(v.closeCount.get()).isLessThanOrEqualTo(1));
+        long closed = values.stream().filter(v -> v.closeCount.get() == 1).count();
+        assertThat(closed).isEqualTo(values.size() - cache.size());
+    }
+
+    @Test
+    void get_maxSizeOneWritingPastMaxSize_shouldKeepOneValueAndCloseEachEvictedValueOnce() {
+        List<CloseableValue> values = new ArrayList<>();
+        TinyLfuCache<Integer, CloseableValue> cache = TinyLfuCache.<Integer, CloseableValue>builder(k -> {
+            CloseableValue value = new CloseableValue();
+            values.add(value);
+            return value;
+        }).maxSize(1).build();
+
+        IntStream.range(0, 1_000).forEach(cache::get);
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(values).allSatisfy(v -> assertThat(v.closeCount.get()).isLessThanOrEqualTo(1));
+        assertThat(values.stream().filter(v -> v.closed).count()).isEqualTo(999);
+    }
+
+    private static final class CloseableValue implements AutoCloseable {
+        private final AtomicInteger closeCount = new AtomicInteger();
+        private volatile boolean closed;
+
+        @Override
+        public void close() {
+            closeCount.incrementAndGet();
+            closed = true;
+        }
+    }
+}